@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes arrays of {@link ReadValueId} and {@link DataValue}, allocating the result either reflectively from a
+ * {@link Class} ({@link ArrayAllocation#Reflective}) or with an array constructor reference
+ * ({@link ArrayAllocation#Constructor}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayDecodeBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    @Param
+    public ArrayAllocation allocation;
+
+    private ByteBuf readValueIdBuffer;
+    private ByteBuf dataValueBuffer;
+
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        ReadRequest request = (ReadRequest) Messages.ReadRequest.create(size);
+        ReadResponse response = (ReadResponse) Messages.ReadResponse.create(size);
+
+        readValueIdBuffer = BufferUtil.buffer();
+        dataValueBuffer = BufferUtil.buffer();
+
+        BinaryEncoder encoder = new BinaryEncoder();
+        encoder.setBuffer(readValueIdBuffer).encodeStructureArray(null, request.getNodesToRead(), ReadValueId::encodeBinary);
+        encoder.setBuffer(dataValueBuffer).encodeArray(null, response.getResults(), encoder::encodeDataValue);
+
+        decoder = new BinaryDecoder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        readValueIdBuffer.release();
+        dataValueBuffer.release();
+    }
+
+    @Benchmark
+    public ReadValueId[] decodeReadValueIds() {
+        decoder.setBuffer(readValueIdBuffer.readerIndex(0));
+
+        if (allocation == ArrayAllocation.Reflective) {
+            return decoder.decodeStructureArray(null, ReadValueId::decodeBinary, ReadValueId.class);
+        } else {
+            return decoder.decodeStructureArray(null, ReadValueId::decodeBinary, ReadValueId[]::new);
+        }
+    }
+
+    @Benchmark
+    public DataValue[] decodeDataValues() {
+        decoder.setBuffer(dataValueBuffer.readerIndex(0));
+
+        if (allocation == ArrayAllocation.Reflective) {
+            return decoder.decodeArray(null, decoder::decodeDataValue, DataValue.class);
+        } else {
+            return decoder.decodeArray(null, decoder::decodeDataValue, DataValue[]::new);
+        }
+    }
+
+    public enum ArrayAllocation {
+        Reflective,
+        Constructor
+    }
+
+}
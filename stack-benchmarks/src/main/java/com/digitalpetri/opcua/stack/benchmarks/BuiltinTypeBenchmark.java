@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Encodes and decodes a single value of each builtin type with {@link BinaryEncoder} and {@link BinaryDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuiltinTypeBenchmark {
+
+    @Param
+    public BuiltinType builtinType;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        encodeBuffer = BufferUtil.buffer();
+        decodeBuffer = BufferUtil.buffer();
+
+        encoder = new BinaryEncoder().setBuffer(encodeBuffer);
+        decoder = new BinaryDecoder().setBuffer(decodeBuffer);
+
+        builtinType.encode(new BinaryEncoder().setBuffer(decodeBuffer));
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        builtinType.encode(encoder);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public Object decode() {
+        decodeBuffer.readerIndex(0);
+        return builtinType.decode(decoder);
+    }
+
+    public enum BuiltinType {
+        Boolean(true, BinaryEncoder::encodeBoolean, BinaryDecoder::decodeBoolean),
+        SByte((byte) 42, BinaryEncoder::encodeSByte, BinaryDecoder::decodeSByte),
+        Byte(ubyte(42), BinaryEncoder::encodeByte, BinaryDecoder::decodeByte),
+        Int16((short) 42, BinaryEncoder::encodeInt16, BinaryDecoder::decodeInt16),
+        UInt16(ushort(42), BinaryEncoder::encodeUInt16, BinaryDecoder::decodeUInt16),
+        Int32(42, BinaryEncoder::encodeInt32, BinaryDecoder::decodeInt32),
+        UInt32(uint(42), BinaryEncoder::encodeUInt32, BinaryDecoder::decodeUInt32),
+        Int64(42L, BinaryEncoder::encodeInt64, BinaryDecoder::decodeInt64),
+        UInt64(ulong(42L), BinaryEncoder::encodeUInt64, BinaryDecoder::decodeUInt64),
+        Float(3.14f, BinaryEncoder::encodeFloat, BinaryDecoder::decodeFloat),
+        Double(3.14d, BinaryEncoder::encodeDouble, BinaryDecoder::decodeDouble),
+        String("Objects/Server/ServerStatus/CurrentTime",
+                BinaryEncoder::encodeString, BinaryDecoder::decodeString),
+        DateTime(com.digitalpetri.opcua.stack.core.types.builtin.DateTime.now(),
+                BinaryEncoder::encodeDateTime, BinaryDecoder::decodeDateTime),
+        Guid(UUID.randomUUID(), BinaryEncoder::encodeGuid, BinaryDecoder::decodeGuid),
+        ByteString(new ByteString(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15}),
+                BinaryEncoder::encodeByteString, BinaryDecoder::decodeByteString),
+        XmlElement(new XmlElement("<a>hello</a>"), BinaryEncoder::encodeXmlElement, BinaryDecoder::decodeXmlElement),
+        NodeId(new NodeId(2, "Objects/Server/ServerStatus/CurrentTime"),
+                BinaryEncoder::encodeNodeId, BinaryDecoder::decodeNodeId),
+        ExpandedNodeId(new ExpandedNodeId(ushort(2), uint(1234), "urn:test", 1L),
+                BinaryEncoder::encodeExpandedNodeId, BinaryDecoder::decodeExpandedNodeId),
+        StatusCode(com.digitalpetri.opcua.stack.core.types.builtin.StatusCode.GOOD,
+                BinaryEncoder::encodeStatusCode, BinaryDecoder::decodeStatusCode),
+        QualifiedName(new QualifiedName(0, "CurrentTime"),
+                BinaryEncoder::encodeQualifiedName, BinaryDecoder::decodeQualifiedName),
+        LocalizedText(com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText.english("CurrentTime"),
+                BinaryEncoder::encodeLocalizedText, BinaryDecoder::decodeLocalizedText),
+        ExtensionObject(com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject.encode(
+                new ServiceCounterDataType(uint(1), uint(2))),
+                BinaryEncoder::encodeExtensionObject, BinaryDecoder::decodeExtensionObject),
+        DataValue(new DataValue(new Variant(3.14d)),
+                BinaryEncoder::encodeDataValue, BinaryDecoder::decodeDataValue),
+        Variant(new Variant(3.14d), BinaryEncoder::encodeVariant, BinaryDecoder::decodeVariant),
+        DiagnosticInfo(new DiagnosticInfo(1, 2, 3, 4, "additional info", null, null),
+                BinaryEncoder::encodeDiagnosticInfo, BinaryDecoder::decodeDiagnosticInfo);
+
+        private final Object value;
+        private final FieldEncoder<Object> encoder;
+        private final Function<BinaryDecoder, Object> decoder;
+
+        @SuppressWarnings("unchecked")
+        <T> BuiltinType(T value, FieldEncoder<T> encoder, FieldDecoder<T> decoder) {
+            this.value = value;
+            this.encoder = (FieldEncoder<Object>) encoder;
+            this.decoder = d -> decoder.decode(d, null);
+        }
+
+        void encode(BinaryEncoder binaryEncoder) {
+            encoder.encode(binaryEncoder, null, value);
+        }
+
+        Object decode(BinaryDecoder binaryDecoder) {
+            return decoder.apply(binaryDecoder);
+        }
+    }
+
+    @FunctionalInterface
+    interface FieldEncoder<T> {
+        void encode(BinaryEncoder encoder, String field, T value);
+    }
+
+    @FunctionalInterface
+    interface FieldDecoder<T> {
+        T decode(BinaryDecoder decoder, String field);
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkDecoder;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
+import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.SecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
+import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.util.NonceUtil.generateNonce;
+import static com.digitalpetri.opcua.stack.core.util.NonceUtil.getNonceLength;
+
+/**
+ * Runs message bodies through {@link ChunkEncoder} and {@link ChunkDecoder} for every supported combination of
+ * {@link SecurityPolicy} and {@link MessageSecurityMode}.
+ * <p>
+ * The decoder verifies sequence numbers and decrypts in place, so decoding is measured as part of a full
+ * encode/decode round trip; subtract {@link #encode} to isolate it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkBenchmark {
+
+    static {
+        CryptoRestrictions.remove();
+    }
+
+    private static final String CLIENT_ALIAS = "client-test-certificate";
+    private static final String SERVER_ALIAS = "server-test-certificate";
+    private static final char[] PASSWORD = "test".toCharArray();
+
+    @Param
+    public ChannelSecurityConfig security;
+
+    @Param({"Symmetric", "Asymmetric"})
+    public String chunkType;
+
+    @Param({"1024", "65536", "1048576"})
+    public int messageSize;
+
+    private final ChannelParameters parameters = new ChannelParameters(
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+    );
+
+    private ChunkEncoder chunkEncoder;
+    private ChunkDecoder chunkDecoder;
+
+    private ClientSecureChannel clientChannel;
+    private ServerSecureChannel serverChannel;
+
+    private ByteBuf messageBuffer;
+    private long requestId = 1L;
+
+    @Setup
+    public void setup() throws Exception {
+        chunkEncoder = new ChunkEncoder(parameters);
+        chunkDecoder = new ChunkDecoder(parameters);
+
+        SecureChannel[] channels = generateChannels(security.securityPolicy, security.messageSecurityMode);
+        clientChannel = (ClientSecureChannel) channels[0];
+        serverChannel = (ServerSecureChannel) channels[1];
+
+        messageBuffer = BufferUtil.buffer(messageSize);
+        for (int i = 0; i < messageSize; i++) {
+            messageBuffer.writeByte(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        messageBuffer.release();
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) throws UaException {
+        List<ByteBuf> chunks = encodeChunks();
+
+        for (ByteBuf chunk : chunks) {
+            blackhole.consume(chunk);
+            chunk.release();
+        }
+    }
+
+    @Benchmark
+    public ByteBuf encodeDecode() throws UaException {
+        List<ByteBuf> chunks = encodeChunks();
+
+        ByteBuf decoded = "Asymmetric".equals(chunkType) ?
+                chunkDecoder.decodeAsymmetric(serverChannel, chunks) :
+                chunkDecoder.decodeSymmetric(serverChannel, chunks);
+
+        decoded.release();
+
+        return decoded;
+    }
+
+    private List<ByteBuf> encodeChunks() throws UaException {
+        messageBuffer.readerIndex(0);
+
+        if ("Asymmetric".equals(chunkType)) {
+            return chunkEncoder.encodeAsymmetric(
+                    clientChannel, MessageType.OpenSecureChannel, messageBuffer, requestId++);
+        } else {
+            return chunkEncoder.encodeSymmetric(
+                    clientChannel, MessageType.SecureMessage, messageBuffer, requestId++);
+        }
+    }
+
+    static SecureChannel[] generateChannels(SecurityPolicy securityPolicy,
+                                            MessageSecurityMode messageSecurity) throws Exception {
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(ChunkBenchmark.class.getClassLoader().getResourceAsStream("test-keystore.pfx"), PASSWORD);
+
+        X509Certificate clientCertificate = (X509Certificate) keyStore.getCertificate(CLIENT_ALIAS);
+        KeyPair clientKeyPair = new KeyPair(
+                clientCertificate.getPublicKey(), (PrivateKey) keyStore.getKey(CLIENT_ALIAS, PASSWORD));
+
+        X509Certificate serverCertificate = (X509Certificate) keyStore.getCertificate(SERVER_ALIAS);
+        Key serverPrivateKey = keyStore.getKey(SERVER_ALIAS, PASSWORD);
+        KeyPair serverKeyPair = new KeyPair(serverCertificate.getPublicKey(), (PrivateKey) serverPrivateKey);
+
+        ByteString clientNonce = generateNonce(getNonceLength(securityPolicy.getSymmetricEncryptionAlgorithm()));
+        ByteString serverNonce = generateNonce(getNonceLength(securityPolicy.getSymmetricEncryptionAlgorithm()));
+
+        boolean secured = securityPolicy != SecurityPolicy.None;
+
+        ClientSecureChannel clientChannel = new ClientSecureChannel(
+                secured ? clientKeyPair : null,
+                secured ? clientCertificate : null,
+                secured ? serverCertificate : null,
+                secured ? Lists.newArrayList(serverCertificate) : null,
+                securityPolicy,
+                messageSecurity
+        );
+
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+
+        ServerSecureChannel serverChannel = new ServerSecureChannel();
+        serverChannel.setSecurityPolicy(securityPolicy);
+        serverChannel.setMessageSecurityMode(messageSecurity);
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+
+        if (secured) {
+            serverChannel.setKeyPair(serverKeyPair);
+            serverChannel.setLocalCertificate(serverCertificate);
+            serverChannel.setRemoteCertificate(clientCertificate.getEncoded());
+
+            ChannelSecurity.SecuritySecrets clientSecrets = ChannelSecurity.generateKeyPair(
+                    clientChannel, clientChannel.getLocalNonce(), clientChannel.getRemoteNonce());
+
+            clientChannel.setChannelSecurity(new ChannelSecurity(clientSecrets,
+                    new ChannelSecurityToken(uint(0), uint(1), DateTime.now(), uint(60000))));
+
+            ChannelSecurity.SecuritySecrets serverSecrets = ChannelSecurity.generateKeyPair(
+                    serverChannel, serverChannel.getRemoteNonce(), serverChannel.getLocalNonce());
+
+            serverChannel.setChannelSecurity(new ChannelSecurity(serverSecrets,
+                    new ChannelSecurityToken(uint(0), uint(1), DateTime.now(), uint(60000))));
+        }
+
+        return new SecureChannel[]{clientChannel, serverChannel};
+    }
+
+    public enum ChannelSecurityConfig {
+        None(SecurityPolicy.None, MessageSecurityMode.None),
+        Basic128Rsa15_Sign(SecurityPolicy.Basic128Rsa15, MessageSecurityMode.Sign),
+        Basic128Rsa15_SignAndEncrypt(SecurityPolicy.Basic128Rsa15, MessageSecurityMode.SignAndEncrypt),
+        Basic256_Sign(SecurityPolicy.Basic256, MessageSecurityMode.Sign),
+        Basic256_SignAndEncrypt(SecurityPolicy.Basic256, MessageSecurityMode.SignAndEncrypt),
+        Basic256Sha256_Sign(SecurityPolicy.Basic256Sha256, MessageSecurityMode.Sign),
+        Basic256Sha256_SignAndEncrypt(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+
+        final SecurityPolicy securityPolicy;
+        final MessageSecurityMode messageSecurityMode;
+
+        ChannelSecurityConfig(SecurityPolicy securityPolicy, MessageSecurityMode messageSecurityMode) {
+            this.securityPolicy = securityPolicy;
+            this.messageSecurityMode = messageSecurityMode;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of finding the decoder for a message's encoding id.
+ * <p>
+ * {@link #decodeMessage()} decodes a {@link ServiceFault} with an empty header, about the smallest message there is,
+ * so the encoding id and the registry lookup make up a large share of the work. {@link #lookupNamespaceZero()} and
+ * {@link #lookupOtherNamespace()} time the registry lookup alone, for an id in the dense namespace 0 tier and for
+ * one that falls back to the map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    private final NodeId namespaceZeroId = Identifiers.ReadResponse_Encoding_DefaultBinary;
+    private final NodeId otherNamespaceId = new NodeId(2, 631);
+
+    private ByteBuf buffer;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        buffer = BufferUtil.buffer();
+        decoder = new BinaryDecoder().setBuffer(buffer);
+
+        new BinaryEncoder().setBuffer(buffer).encodeMessage(null, new ServiceFault());
+
+        DelegateRegistry.registerDecoder(d -> new Object(), Object.class, otherNamespaceId);
+        DelegateRegistry.getDecoder(namespaceZeroId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public UaStructure decodeMessage() {
+        buffer.readerIndex(0);
+
+        return decoder.decodeMessage(null);
+    }
+
+    @Benchmark
+    public DecoderDelegate<Object> lookupNamespaceZero() {
+        return DelegateRegistry.getDecoder(namespaceZeroId);
+    }
+
+    @Benchmark
+    public DecoderDelegate<Object> lookupOtherNamespace() {
+        return DelegateRegistry.getDecoder(otherNamespaceId);
+    }
+
+}
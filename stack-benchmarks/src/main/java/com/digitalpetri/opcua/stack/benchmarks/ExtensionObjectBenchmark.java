@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.DataTypeEncoding;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes a {@link NotificationMessage} carrying a {@link DataChangeNotification}, and decodes the notification from
+ * its {@link ExtensionObject}.
+ * <p>
+ * {@link Body#ByteString} encodes the notification into a {@link ByteString} first, which is then copied into the
+ * message, and decodes it by copying it out into a ByteString and decoding that. {@link Body#InPlace} lets
+ * {@link BinaryEncoder} and {@link BinaryDecoder} encode and decode it directly in the message buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtensionObjectBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    @Param
+    public Body body;
+
+    private final BinaryEncoder encoder = new BinaryEncoder();
+    private final BinaryDecoder decoder = new BinaryDecoder();
+
+    private DataChangeNotification notification;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    @Setup
+    public void setup() {
+        PublishResponse response = (PublishResponse) Messages.PublishResponse.create(size);
+        NotificationMessage message = response.getNotificationMessage();
+
+        notification = message.getNotificationData()[0].decode();
+
+        encodeBuffer = BufferUtil.buffer();
+        decodeBuffer = BufferUtil.buffer();
+
+        encoder.setBuffer(decodeBuffer);
+        encoder.encodeExtensionObject(null, message.getNotificationData()[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encodeNotificationMessage() {
+        ExtensionObject notificationData;
+
+        if (body == Body.ByteString) {
+            ByteString bs = DataTypeEncoding.OPC_UA.encodeToByteString(
+                    notification, notification.getBinaryEncodingId());
+
+            notificationData = new ExtensionObject(bs, notification.getBinaryEncodingId());
+        } else {
+            notificationData = ExtensionObject.encode(notification);
+        }
+
+        NotificationMessage message = new NotificationMessage(
+                uint(1), DateTime.MIN_VALUE, new ExtensionObject[]{notificationData});
+
+        encoder.setBuffer(encodeBuffer.clear());
+        NotificationMessage.encodeBinary(message, encoder);
+
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public DataChangeNotification decodeNotificationData() {
+        decoder.setBuffer(decodeBuffer.readerIndex(0));
+
+        if (body == Body.ByteString) {
+            NodeId encodingTypeId = decoder.decodeNodeId(null);
+            decoder.readByteAsInt(null);
+            ByteString bs = decoder.decodeByteString(null);
+
+            return (DataChangeNotification) DataTypeEncoding.OPC_UA.decodeFromByteString(bs, encodingTypeId);
+        } else {
+            return decoder.decodeExtensionObject(null).decode();
+        }
+    }
+
+    public enum Body {
+        ByteString,
+        InPlace
+    }
+
+}
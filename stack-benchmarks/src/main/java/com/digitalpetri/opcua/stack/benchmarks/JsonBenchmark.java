@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamException;
+
+import com.digitalpetri.opcua.stack.core.serialization.json.JsonEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.xml.XmlEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes {@code size} {@link ReadValueId}s with the {@link JsonEncoder} or the {@link XmlEncoder}, streaming into a
+ * buffer.
+ * <p>
+ * Both run the same generated {@code encode} method for each value. XmlEncoder doesn't implement structures or arrays
+ * yet, so the values are encoded one after another rather than as an array.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    @Param
+    public Encoding encoding;
+
+    private ReadValueId[] values;
+
+    private ByteBuf buffer;
+
+    private final JsonEncoder jsonEncoder = new JsonEncoder();
+    private final XmlEncoder xmlEncoder = new XmlEncoder();
+
+    @Setup
+    public void setup() {
+        values = new ReadValueId[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = new ReadValueId(
+                    new NodeId(2, "Device" + i + ".Temperature"), uint(13), null, new QualifiedName(0, "Default Binary"));
+        }
+
+        buffer = BufferUtil.buffer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() throws XMLStreamException {
+        buffer.clear();
+
+        switch (encoding) {
+            case Json:
+                jsonEncoder.setBuffer(buffer);
+                for (ReadValueId value : values) {
+                    jsonEncoder.encodeSerializable(null, value);
+                }
+                break;
+
+            case Xml:
+                xmlEncoder.setOutput(new ByteBufOutputStream(buffer));
+                for (ReadValueId value : values) {
+                    ReadValueId.encode(value, xmlEncoder);
+                }
+                break;
+        }
+
+        return buffer;
+    }
+
+    public enum Encoding {
+        Json,
+        Xml
+    }
+
+}
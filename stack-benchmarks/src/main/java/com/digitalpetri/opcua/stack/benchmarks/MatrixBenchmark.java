@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a Variant holding a two-dimensional {@code double} process image with {@code rows} rows of
+ * 100 columns, either as a nested {@code double[][]} or as a {@link Matrix}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+
+    private static final int COLUMNS = 100;
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    @Param
+    public Representation representation;
+
+    private Variant variant;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        double[][] values = new double[rows][COLUMNS];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                values[i][j] = Math.sin(i * COLUMNS + j);
+            }
+        }
+
+        variant = representation == Representation.Matrix ?
+                new Variant(Matrix.of(values)) : new Variant(values);
+
+        encodeBuffer = BufferUtil.buffer();
+        decodeBuffer = BufferUtil.buffer();
+
+        encoder = new BinaryEncoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(encodeBuffer);
+        decoder = new BinaryDecoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(decodeBuffer)
+                .setDecodePrimitiveArrays(true)
+                .setDecodeMatrices(representation == Representation.Matrix);
+
+        new BinaryEncoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(decodeBuffer).encodeVariant(null, variant);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        encoder.encodeVariant(null, variant);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public Variant decode() {
+        decodeBuffer.readerIndex(0);
+        return decoder.decodeVariant(null);
+    }
+
+    public enum Representation {
+        Nested,
+        Matrix
+    }
+
+}
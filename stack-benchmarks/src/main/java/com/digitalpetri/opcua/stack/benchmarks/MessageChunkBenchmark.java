@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.benchmarks.ChunkBenchmark.ChannelSecurityConfig;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder.MessageChunks;
+import com.digitalpetri.opcua.stack.core.channel.SecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.EncodedSizeCalculator;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.util.CryptoRestrictions;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Encodes a complete service message into sealed chunks, the way the client and server handlers send it.
+ * <p>
+ * Both calculate the message size first, as the handlers do to check it against the remote limits.
+ * {@link #encodeViaMessageBuffer} then encodes into a growing message buffer that {@link ChunkEncoder} copies into
+ * the chunks; {@link #encodeIntoChunks} allocates the chunks up front and encodes into them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageChunkBenchmark {
+
+    static {
+        CryptoRestrictions.remove();
+    }
+
+    @Param({"ReadResponse", "BrowseResponse"})
+    public Messages messageType;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"None", "Basic256Sha256_SignAndEncrypt"})
+    public ChannelSecurityConfig security;
+
+    private final ChannelParameters parameters = new ChannelParameters(
+            Integer.MAX_VALUE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            0,
+            Integer.MAX_VALUE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            0
+    );
+
+    private final BinaryEncoder binaryEncoder = new BinaryEncoder();
+    private final EncodedSizeCalculator sizeCalculator = new EncodedSizeCalculator();
+
+    private ChunkEncoder chunkEncoder;
+    private SecureChannel channel;
+    private UaStructure message;
+
+    private long requestId = 1L;
+
+    @Setup
+    public void setup() throws Exception {
+        chunkEncoder = new ChunkEncoder(parameters);
+        channel = ChunkBenchmark.generateChannels(security.securityPolicy, security.messageSecurityMode)[1];
+        message = messageType.create(size);
+    }
+
+    @Benchmark
+    public void encodeViaMessageBuffer(Blackhole blackhole) throws UaException {
+        blackhole.consume(sizeCalculator.calculateMessageSize(message));
+
+        ByteBuf messageBuffer = BufferUtil.buffer();
+
+        try {
+            binaryEncoder.setBuffer(messageBuffer).encodeMessage(null, message);
+
+            List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
+                    channel, MessageType.SecureMessage, messageBuffer, requestId++);
+
+            release(chunks, blackhole);
+        } finally {
+            messageBuffer.release();
+        }
+    }
+
+    @Benchmark
+    public void encodeIntoChunks(Blackhole blackhole) throws UaException {
+        long messageSize = sizeCalculator.calculateMessageSize(message);
+
+        MessageChunks messageChunks = chunkEncoder.allocateSymmetric(channel, (int) messageSize);
+
+        binaryEncoder.setBuffer(messageChunks.getBuffer()).encodeMessage(null, message);
+
+        List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
+                channel, MessageType.SecureMessage, messageChunks, requestId++);
+
+        release(chunks, blackhole);
+    }
+
+    private static void release(List<ByteBuf> chunks, Blackhole blackhole) {
+        for (ByteBuf chunk : chunks) {
+            blackhole.consume(chunk);
+            chunk.release();
+        }
+    }
+
+}
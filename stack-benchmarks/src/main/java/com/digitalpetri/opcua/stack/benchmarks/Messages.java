@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Builds representative service messages whose arrays hold {@code size} elements.
+ */
+public enum Messages {
+
+    ReadRequest {
+        @Override
+        public UaStructure create(int size) {
+            ReadValueId[] nodesToRead = new ReadValueId[size];
+
+            for (int i = 0; i < size; i++) {
+                nodesToRead[i] = new ReadValueId(
+                        nodeId(i), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+            }
+
+            return new ReadRequest(requestHeader(), 0.0, TimestampsToReturn.Both, nodesToRead);
+        }
+    },
+
+    ReadResponse {
+        @Override
+        public UaStructure create(int size) {
+            DataValue[] results = new DataValue[size];
+
+            for (int i = 0; i < size; i++) {
+                results[i] = dataValue(i);
+            }
+
+            return new ReadResponse(responseHeader(), results, null);
+        }
+    },
+
+    PublishResponse {
+        @Override
+        public UaStructure create(int size) {
+            MonitoredItemNotification[] monitoredItems = new MonitoredItemNotification[size];
+
+            for (int i = 0; i < size; i++) {
+                monitoredItems[i] = new MonitoredItemNotification(uint(i), dataValue(i));
+            }
+
+            DataChangeNotification dataChangeNotification =
+                    new DataChangeNotification(monitoredItems, null);
+
+            NotificationMessage notificationMessage = new NotificationMessage(
+                    uint(1), DateTime.now(), new ExtensionObject[]{ExtensionObject.encode(dataChangeNotification)});
+
+            return new PublishResponse(
+                    responseHeader(),
+                    uint(1),
+                    new UInteger[]{uint(1)},
+                    false,
+                    notificationMessage,
+                    new StatusCode[]{StatusCode.GOOD},
+                    null
+            );
+        }
+    },
+
+    BrowseResponse {
+        @Override
+        public UaStructure create(int size) {
+            BrowseResult[] results = new BrowseResult[size];
+
+            for (int i = 0; i < size; i++) {
+                ReferenceDescription[] references = new ReferenceDescription[REFERENCES_PER_RESULT];
+
+                for (int j = 0; j < references.length; j++) {
+                    int id = i * REFERENCES_PER_RESULT + j;
+
+                    references[j] = new ReferenceDescription(
+                            Identifiers.HasComponent,
+                            true,
+                            new ExpandedNodeId(nodeId(id)),
+                            new QualifiedName(2, "Node" + id),
+                            LocalizedText.english("Node" + id),
+                            NodeClass.Variable,
+                            new ExpandedNodeId(Identifiers.BaseDataVariableType)
+                    );
+                }
+
+                results[i] = new BrowseResult(StatusCode.GOOD, null, references);
+            }
+
+            return new BrowseResponse(responseHeader(), results, null);
+        }
+    };
+
+    private static final int REFERENCES_PER_RESULT = 4;
+
+    public abstract UaStructure create(int size);
+
+    private static RequestHeader requestHeader() {
+        return new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(10000), null);
+    }
+
+    private static ResponseHeader responseHeader() {
+        return new ResponseHeader(DateTime.now(), uint(1), StatusCode.GOOD, null, null, null);
+    }
+
+    private static NodeId nodeId(int i) {
+        return new NodeId(2, "Devices/Device" + (i / 100) + "/Tag" + i);
+    }
+
+    private static DataValue dataValue(int i) {
+        return new DataValue(new Variant((double) i), StatusCode.GOOD, DateTime.now(), DateTime.now());
+    }
+
+}
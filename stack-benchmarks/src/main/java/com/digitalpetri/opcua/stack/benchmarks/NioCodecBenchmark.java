@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.binary.NioBinaryCodec;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes a DataValue into a {@link ByteBuffer} the caller owns, e.g. a record for a journal or a Kafka serializer.
+ * <p>
+ * {@link #encodePooled} encodes into a pooled {@link ByteBuf} and copies the result into the sink;
+ * {@link #encodeDirect} encodes into the sink itself with {@link NioBinaryCodec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NioCodecBenchmark {
+
+    private static final BinaryEncoderDelegate<DataValue> DATA_VALUE_ENCODER =
+            (value, encoder) -> encoder.encodeDataValue(null, value);
+
+    @Param({"Heap", "Direct"})
+    private Sink sink;
+
+    private final BinaryEncoder encoder = new BinaryEncoder();
+
+    private DataValue value;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        value = new DataValue(
+                new Variant("a sampled string value"), StatusCode.GOOD, DateTime.now(), DateTime.now());
+
+        buffer = sink == Sink.Heap ? ByteBuffer.allocate(4096) : ByteBuffer.allocateDirect(4096);
+    }
+
+    @Benchmark
+    public ByteBuffer encodePooled() {
+        ByteBuf pooled = BufferUtil.buffer();
+
+        try {
+            encoder.setBuffer(pooled).encodeDataValue(null, value);
+
+            buffer.clear();
+            buffer.put(pooled.nioBuffer());
+
+            return buffer;
+        } finally {
+            pooled.release();
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDirect() {
+        buffer.clear();
+        NioBinaryCodec.encode(value, DATA_VALUE_ENCODER, buffer);
+
+        return buffer;
+    }
+
+    public enum Sink {
+        Heap,
+        Direct
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes a service message with a very large array of structures, serially or split into segments encoded in
+ * parallel on the common {@link ForkJoinPool}. The speedup depends on the number of cores available.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelEncodingBenchmark {
+
+    @Param({"ReadResponse", "BrowseResponse"})
+    public Messages messageType;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private ByteBuf buffer;
+    private BinaryEncoder encoder;
+    private UaStructure message;
+
+    @Setup
+    public void setup() {
+        buffer = BufferUtil.buffer();
+        encoder = new BinaryEncoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(buffer);
+        message = messageType.create(size);
+
+        if (parallel) {
+            encoder.setParallelArrayEncoding(1024, ForkJoinPool.commonPool());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        buffer.clear();
+        encoder.encodeMessage(null, message);
+        return buffer;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.EncodedSizeCalculator;
+import com.digitalpetri.opcua.stack.core.serialization.binary.RequestTemplate;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Sizes and encodes a polled ReadRequest the way the client does before chunking it.
+ * <p>
+ * {@link #encodeRequest} rebuilds the request with a new RequestHeader and encodes it; {@link #encodeTemplate}
+ * patches the header of a {@link RequestTemplate} encoded once in setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestTemplateBenchmark {
+
+    @Param({"100", "2000"})
+    private int size;
+
+    private final EncodedSizeCalculator sizeCalculator = new EncodedSizeCalculator();
+
+    private ReadRequest request;
+    private RequestTemplate template;
+
+    private ByteBuf buffer;
+    private BinaryEncoder encoder;
+
+    private long requestHandle = 0L;
+
+    @Setup
+    public void setup() {
+        request = (ReadRequest) Messages.ReadRequest.create(size);
+        template = RequestTemplate.encode(request);
+
+        buffer = BufferUtil.buffer();
+        encoder = new BinaryEncoder().setBuffer(buffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encodeRequest() {
+        RequestHeader header = request.getRequestHeader();
+
+        ReadRequest polled = new ReadRequest(
+                new RequestHeader(
+                        header.getAuthenticationToken(),
+                        DateTime.now(),
+                        uint(requestHandle++ & 0xFFFFFFFFL),
+                        header.getReturnDiagnostics(),
+                        header.getAuditEntryId(),
+                        header.getTimeoutHint(),
+                        header.getAdditionalHeader()),
+                request.getMaxAge(),
+                request.getTimestampsToReturn(),
+                request.getNodesToRead()
+        );
+
+        return encode(polled);
+    }
+
+    @Benchmark
+    public ByteBuf encodeTemplate() {
+        return encode(template.newRequest(DateTime.now(), uint(requestHandle++ & 0xFFFFFFFFL)));
+    }
+
+    private ByteBuf encode(UaRequestMessage message) {
+        long messageSize = sizeCalculator.calculateMessageSize(message);
+
+        buffer.clear();
+        buffer.ensureWritable((int) messageSize);
+        encoder.encodeMessage(null, message);
+        return buffer;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.MutableDataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes one sample the way a sampling loop produces it: a Double value with a source and server timestamp.
+ * <p>
+ * {@link #encodeDataValue} builds a new {@link DataValue} for every sample; {@link #encodeMutableDataValue} refills
+ * and encodes a single {@link MutableDataValue}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SampleBenchmark {
+
+    private final MutableDataValue mutableDataValue = new MutableDataValue();
+
+    private ByteBuf buffer;
+    private BinaryEncoder encoder;
+
+    private final long startTime = DateTime.now().getUtcTime();
+
+    private long sample = 0L;
+
+    @Setup
+    public void setup() {
+        buffer = BufferUtil.buffer();
+        encoder = new BinaryEncoder().setBuffer(buffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encodeDataValue() {
+        long time = startTime + sample;
+
+        DataValue value = new DataValue(
+                new Variant((double) sample++),
+                StatusCode.GOOD,
+                new DateTime(time),
+                new DateTime(time));
+
+        buffer.clear();
+        encoder.encodeDataValue(null, value);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuf encodeMutableDataValue() {
+        long time = startTime + sample;
+
+        mutableDataValue.getValue().setDouble((double) sample++);
+        mutableDataValue.setSourceTime(time).setServerTime(time);
+
+        buffer.clear();
+        encoder.encodeDataValue(null, mutableDataValue);
+        return buffer;
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cold cost of the first {@link DelegateRegistry} lookups a client makes when it connects, in a fresh
+ * JVM per fork: {@code OpenSecureChannel}, {@code CreateSession} and {@code Read}.
+ * <p>
+ * Only the first invocation in each fork is meaningful, so this runs as a single shot across many forks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, batchSize = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private static final NodeId[] ENCODING_IDS = {
+            Identifiers.OpenSecureChannelRequest_Encoding_DefaultBinary,
+            Identifiers.OpenSecureChannelResponse_Encoding_DefaultBinary,
+            Identifiers.CreateSessionRequest_Encoding_DefaultBinary,
+            Identifiers.CreateSessionResponse_Encoding_DefaultBinary,
+            Identifiers.ReadRequest_Encoding_DefaultBinary,
+            Identifiers.ReadResponse_Encoding_DefaultBinary
+    };
+
+    @Benchmark
+    public void firstLookup(Blackhole blackhole) {
+        for (NodeId encodingId : ENCODING_IDS) {
+            DecoderDelegate<Object> decoder = DelegateRegistry.getDecoder(encodingId);
+            blackhole.consume(decoder);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link BinaryEncoder#encodeString(String, String)} and {@link BinaryDecoder#decodeString(String)} against
+ * the previous implementation, which went through {@link String#getBytes(String)}, back-patched the length prefix,
+ * and looked up the charset by name for every decode.
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}, on by default in {@link BenchmarkRunner}) to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+
+    @Param
+    public Text text;
+
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    private String value;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        value = text.create(length);
+
+        encodeBuffer = BufferUtil.buffer();
+        decodeBuffer = BufferUtil.buffer();
+
+        encoder = new BinaryEncoder().setBuffer(encodeBuffer);
+        decoder = new BinaryDecoder().setBuffer(decodeBuffer);
+
+        new BinaryEncoder().setBuffer(decodeBuffer).encodeString(null, value);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        encoder.encodeString(null, value);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public ByteBuf encodeLegacy() throws Exception {
+        encodeBuffer.clear();
+
+        int lengthIndex = encodeBuffer.writerIndex();
+        encodeBuffer.writeInt(0x42424242);
+
+        int indexBefore = encodeBuffer.writerIndex();
+        encodeBuffer.writeBytes(value.getBytes("UTF-8"));
+        int indexAfter = encodeBuffer.writerIndex();
+
+        encodeBuffer.writerIndex(lengthIndex);
+        encodeBuffer.writeInt(indexAfter - indexBefore);
+        encodeBuffer.writerIndex(indexAfter);
+
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public String decode() {
+        decodeBuffer.readerIndex(0);
+        return decoder.decodeString(null);
+    }
+
+    @Benchmark
+    public String decodeLegacy() {
+        decodeBuffer.readerIndex(0);
+
+        int length = decodeBuffer.readInt();
+        String s = decodeBuffer.toString(decodeBuffer.readerIndex(), length, Charset.forName("UTF-8"));
+        decodeBuffer.skipBytes(length);
+        return s;
+    }
+
+    public enum Text {
+        Ascii("Objects/Server/"),
+        Latin("Gr\u00f6\u00dfe/Temp\u00e9rature/"),
+        Cjk("\u6c34\u6e29/\u6e7f\u5ea6/"),
+        Emoji("\ud83d\ude00\ud83c\udf21/");
+
+        private final String fragment;
+
+        Text(String fragment) {
+            this.fragment = fragment;
+        }
+
+        String create(int length) {
+            String s = Strings.repeat(fragment, length / fragment.length() + 1);
+            int end = Character.isHighSurrogate(s.charAt(length - 1)) ? length + 1 : length;
+            return s.substring(0, end);
+        }
+    }
+
+}
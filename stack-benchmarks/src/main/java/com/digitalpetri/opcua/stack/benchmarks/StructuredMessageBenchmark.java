@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.EncoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes complete service messages, including the leading binary encoding id, the same way the
+ * client and server handlers do before chunking.
+ * <p>
+ * {@link Codec#Binary} uses the generated {@code encodeBinary}/{@code decodeBinary} codecs registered for the binary
+ * encoding id; {@link Codec#Generic} uses the {@link UaEncoder}/{@link UaDecoder} delegates registered by class, which
+ * resolve nested structures and enumerations through the {@link DelegateRegistry}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructuredMessageBenchmark {
+
+    @Param
+    public Messages messageType;
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    @Param
+    public Codec codec;
+
+    private UaStructure message;
+
+    private EncoderDelegate<UaStructure> genericEncoder;
+    private DecoderDelegate<UaStructure> genericDecoder;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        message = messageType.create(size);
+
+        encodeBuffer = BufferUtil.buffer();
+        decodeBuffer = BufferUtil.buffer();
+
+        encoder = new BinaryEncoder().setBuffer(encodeBuffer);
+        decoder = new BinaryDecoder().setBuffer(decodeBuffer);
+
+        new BinaryEncoder().setBuffer(decodeBuffer).encodeMessage(null, message);
+
+        genericEncoder = DelegateRegistry.getEncoder(message.getClass());
+        genericDecoder = DelegateRegistry.getDecoder((Class<UaStructure>) message.getClass());
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+
+        if (codec == Codec.Binary) {
+            encoder.encodeMessage(null, message);
+        } else {
+            encoder.encodeNodeId(null, message.getBinaryEncodingId());
+            genericEncoder.encode(message, encoder);
+        }
+
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public UaStructure decode() {
+        decodeBuffer.readerIndex(0);
+
+        if (codec == Codec.Binary) {
+            return decoder.decodeMessage(null);
+        } else {
+            decoder.decodeNodeId(null);
+            return genericDecoder.decode(decoder);
+        }
+    }
+
+    public enum Codec {
+        Binary,
+        Generic
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes and decodes Variants holding large one-dimensional arrays, the shape of historian waveform data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantArrayBenchmark {
+
+    @Param
+    public ArrayType arrayType;
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean decodePrimitiveArrays;
+
+    private Variant variant;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        variant = new Variant(arrayType.create(size));
+
+        encodeBuffer = BufferUtil.buffer();
+        decodeBuffer = BufferUtil.buffer();
+
+        encoder = new BinaryEncoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(encodeBuffer);
+        decoder = new BinaryDecoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(decodeBuffer)
+                .setDecodePrimitiveArrays(decodePrimitiveArrays);
+
+        new BinaryEncoder(Integer.MAX_VALUE, Integer.MAX_VALUE).setBuffer(decodeBuffer).encodeVariant(null, variant);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        encoder.encodeVariant(null, variant);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public Variant decode() {
+        decodeBuffer.readerIndex(0);
+        return decoder.decodeVariant(null);
+    }
+
+    public enum ArrayType {
+        PrimitiveDouble(size -> {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) values[i] = Math.sin(i);
+            return values;
+        }),
+        BoxedDouble(size -> {
+            Double[] values = new Double[size];
+            for (int i = 0; i < size; i++) values[i] = Math.sin(i);
+            return values;
+        }),
+        PrimitiveFloat(size -> {
+            float[] values = new float[size];
+            for (int i = 0; i < size; i++) values[i] = (float) Math.sin(i);
+            return values;
+        }),
+        PrimitiveInt32(size -> {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) values[i] = i;
+            return values;
+        }),
+        UInt32(size -> {
+            UInteger[] values = new UInteger[size];
+            for (int i = 0; i < size; i++) values[i] = uint(i);
+            return values;
+        });
+
+        private final IntFunction<Object> factory;
+
+        ArrayType(IntFunction<Object> factory) {
+            this.factory = factory;
+        }
+
+        Object create(int size) {
+            return factory.apply(size);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseVisitor;
+import com.digitalpetri.opcua.stack.core.serialization.binary.VisitedResponse;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Delivers the (clientHandle, DataValue) pairs of a PublishResponse carrying one DataChangeNotification.
+ * <p>
+ * {@link #decodeMessage} decodes the whole response and then its notification data; {@link #visit} passes each pair
+ * to a {@link ResponseVisitor} as it's decoded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitorBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ByteBuf buffer;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setup() {
+        buffer = BufferUtil.buffer();
+
+        new BinaryEncoder().setBuffer(buffer)
+                .encodeMessage(null, Messages.PublishResponse.create(size));
+
+        decoder = new BinaryDecoder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public void decodeMessage(Blackhole blackhole) {
+        decoder.setBuffer(buffer.duplicate());
+
+        PublishResponse response = (PublishResponse) decoder.decodeMessage(null);
+
+        DataChangeNotification notification = (DataChangeNotification)
+                response.getNotificationMessage().getNotificationData()[0].decode();
+
+        for (MonitoredItemNotification item : notification.getMonitoredItems()) {
+            blackhole.consume(item.getClientHandle().longValue());
+            blackhole.consume(item.getValue());
+        }
+    }
+
+    @Benchmark
+    public UaResponseMessage visit(Blackhole blackhole) {
+        decoder.setBuffer(buffer.duplicate());
+
+        return VisitedResponse.decode(decoder, new ResponseVisitor() {
+            @Override
+            public void visitDataChange(long clientHandle, DataValue value) {
+                blackhole.consume(clientHandle);
+                blackhole.consume(value);
+            }
+        });
+    }
+
+}
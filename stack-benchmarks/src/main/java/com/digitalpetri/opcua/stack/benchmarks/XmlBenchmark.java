@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.digitalpetri.opcua.stack.core.serialization.DataTypeEncoding;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRawModifiedDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes and decodes an ExtensionObject body, a {@link ReadRawModifiedDetails}, as XML and as binary, the way
+ * {@link com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject} does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlBenchmark {
+
+    @Param
+    public Encoding encoding;
+
+    private final DataTypeEncoding context = DataTypeEncoding.OPC_UA;
+
+    private ReadRawModifiedDetails details;
+
+    private ByteString encodedBinary;
+    private XmlElement encodedXml;
+
+    @Setup
+    public void setup() {
+        DateTime now = DateTime.now();
+
+        details = new ReadRawModifiedDetails(
+                false, new DateTime(now.getUtcTime() - 36_000_000_000L), now, uint(1000), true);
+
+        encodedBinary = context.encodeToByteString(details, ReadRawModifiedDetails.BinaryEncodingId);
+        encodedXml = context.encodeToXmlElement(details, ReadRawModifiedDetails.XmlEncodingId);
+    }
+
+    @Benchmark
+    public Object encode() {
+        switch (encoding) {
+            case Binary:
+                return context.encodeToByteString(details, ReadRawModifiedDetails.BinaryEncodingId);
+            default:
+                return context.encodeToXmlElement(details, ReadRawModifiedDetails.XmlEncodingId);
+        }
+    }
+
+    @Benchmark
+    public Object decode() {
+        switch (encoding) {
+            case Binary:
+                return context.decodeFromByteString(encodedBinary, ReadRawModifiedDetails.BinaryEncodingId);
+            default:
+                return context.decodeFromXmlElement(encodedXml, ReadRawModifiedDetails.XmlEncodingId);
+        }
+    }
+
+    public enum Encoding {
+        Binary,
+        Xml
+    }
+
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 import com.digitalpetri.opcua.stack.client.config.UaTcpStackClientConfig;
 import com.digitalpetri.opcua.stack.client.handlers.UaRequestFuture;
@@ -42,15 +43,25 @@ import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
 import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.RequestTemplate;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseView;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseVisitor;
+import com.digitalpetri.opcua.stack.core.serialization.binary.VisitedResponse;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.enumerated.ApplicationType;
 import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseRequest;
 import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
 import com.digitalpetri.opcua.stack.core.types.structured.FindServersRequest;
 import com.digitalpetri.opcua.stack.core.types.structured.FindServersResponse;
 import com.digitalpetri.opcua.stack.core.types.structured.GetEndpointsRequest;
 import com.digitalpetri.opcua.stack.core.types.structured.GetEndpointsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
 import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
@@ -65,6 +76,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -126,16 +138,84 @@ public class UaTcpStackClient implements UaStackClient {
     }
 
     public <T extends UaResponseMessage> CompletableFuture<T> sendRequest(UaRequestMessage request) {
+        return sendRequest(request, false, null);
+    }
+
+    /**
+     * Send the request {@code template} was encoded from again, with a new Timestamp and {@code requestHandle}.
+     * <p>
+     * The encoded template is copied into the outgoing message as-is; the request isn't rebuilt or encoded again.
+     *
+     * @param template      the {@link RequestTemplate} to send.
+     * @param requestHandle the RequestHandle of the request; it must not be in use by another pending request.
+     * @return the response.
+     */
+    public <T extends UaResponseMessage> CompletableFuture<T> sendRequest(RequestTemplate template,
+                                                                          UInteger requestHandle) {
+        return sendRequest(template.newRequest(DateTime.now(), requestHandle));
+    }
+
+    /**
+     * Send a {@link ReadRequest} or {@link HistoryReadRequest} and decode the Results of its response lazily, each
+     * one when it's accessed, rather than all of them before the response is delivered.
+     * <p>
+     * The {@link ResponseView} holds on to the buffer the response was received in until it's released.
+     *
+     * @param request the {@link ReadRequest} or {@link HistoryReadRequest} to send.
+     * @param <T>     the result type: {@link DataValue} for a ReadRequest, {@link HistoryReadResult} for a
+     *                HistoryReadRequest.
+     * @return a {@link ResponseView} of the response.
+     */
+    public <T> CompletableFuture<ResponseView<T>> sendRequestForView(UaRequestMessage request) {
+        if (!ResponseView.isSupported(request)) {
+            CompletableFuture<ResponseView<T>> f = new CompletableFuture<>();
+            f.completeExceptionally(new UaException(StatusCodes.Bad_ServiceUnsupported,
+                    "response cannot be decoded as a view: " + request.getClass().getSimpleName()));
+            return f;
+        }
+
+        return sendRequest(request, true, null);
+    }
+
+    /**
+     * Send a {@link PublishRequest}, {@link ReadRequest}, {@link BrowseRequest} or {@link HistoryReadRequest} and
+     * pass the contents of its response to {@code visitor} as they are decoded, rather than building the response.
+     * <p>
+     * {@code visitor} is called on the thread decoding the response, before the returned future completes; it
+     * should hand anything slow off to another thread. Any other response, e.g. a ServiceFault, is delivered as usual.
+     *
+     * @param request the request to send.
+     * @param visitor the {@link ResponseVisitor} to pass the contents of the response to.
+     * @return a {@link VisitedResponse} holding the {@link ResponseHeader} of the response.
+     */
+    public CompletableFuture<VisitedResponse> sendRequestWithVisitor(UaRequestMessage request,
+                                                                     ResponseVisitor visitor) {
+        if (!VisitedResponse.isSupported(request)) {
+            CompletableFuture<VisitedResponse> f = new CompletableFuture<>();
+            f.completeExceptionally(new UaException(StatusCodes.Bad_ServiceUnsupported,
+                    "response cannot be decoded by a visitor: " + request.getClass().getSimpleName()));
+            return f;
+        }
+
+        return sendRequest(request, false, visitor);
+    }
+
+    private <T extends UaResponseMessage> CompletableFuture<T> sendRequest(UaRequestMessage request,
+                                                                           boolean decodeView,
+                                                                           @Nullable ResponseVisitor visitor) {
         return channelManager.getChannel()
-                .thenCompose(sc -> sendRequest(request, sc));
+                .thenCompose(sc -> sendRequest(request, sc, decodeView, visitor));
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends UaResponseMessage> CompletionStage<T> sendRequest(UaRequestMessage request, ClientSecureChannel sc) {
+    private <T extends UaResponseMessage> CompletionStage<T> sendRequest(UaRequestMessage request,
+                                                                         ClientSecureChannel sc,
+                                                                         boolean decodeView,
+                                                                         @Nullable ResponseVisitor visitor) {
         Channel channel = sc.getChannel();
 
         CompletableFuture<T> future = new CompletableFuture<>();
-        UaRequestFuture requestFuture = new UaRequestFuture(request);
+        UaRequestFuture requestFuture = new UaRequestFuture(request, new CompletableFuture<>(), decodeView, visitor);
 
         RequestHeader requestHeader = request.getRequestHeader();
 
@@ -161,7 +241,7 @@ public class UaTcpStackClient implements UaStackClient {
                 if (cause instanceof ClosedChannelException) {
                     logger.debug("Channel closed; retrying...");
 
-                    sendRequest(request).whenComplete((r, ex) -> {
+                    sendRequest(request, decodeView, visitor).whenComplete((r, ex) -> {
                         if (r != null) {
                             T t = (T) r;
                             future.complete(t);
@@ -274,8 +354,12 @@ public class UaTcpStackClient implements UaStackClient {
 
         if (future != null) {
             if (header.getServiceResult().isGood()) {
-                future.complete(response);
+                if (!future.complete(response)) {
+                    ReferenceCountUtil.release(response);
+                }
             } else {
+                ReferenceCountUtil.release(response);
+
                 ServiceFault serviceFault;
 
                 if (response instanceof ServiceFault) {
@@ -292,6 +376,8 @@ public class UaTcpStackClient implements UaStackClient {
         } else {
             logger.warn("Received {} for unknown requestHandle: {}",
                     response.getClass().getSimpleName(), requestHandle);
+
+            ReferenceCountUtil.release(response);
         }
     }
 
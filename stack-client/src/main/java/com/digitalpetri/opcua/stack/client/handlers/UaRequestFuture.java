@@ -17,22 +17,54 @@
 package com.digitalpetri.opcua.stack.client.handlers;
 
 import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
 
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseView;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseVisitor;
+import com.digitalpetri.opcua.stack.core.serialization.binary.VisitedResponse;
 
 public class UaRequestFuture {
 
     private final UaRequestMessage request;
     private final CompletableFuture<UaResponseMessage> future;
+    private final boolean decodeView;
+    private final ResponseVisitor visitor;
 
     public UaRequestFuture(UaRequestMessage request) {
         this(request, new CompletableFuture<>());
     }
 
     public UaRequestFuture(UaRequestMessage request, CompletableFuture<UaResponseMessage> future) {
+        this(request, future, false);
+    }
+
+    /**
+     * @param request    the request to send.
+     * @param future     the future to complete with the response.
+     * @param decodeView {@code true} if the response should be decoded as a {@link ResponseView}.
+     */
+    public UaRequestFuture(UaRequestMessage request, CompletableFuture<UaResponseMessage> future, boolean decodeView) {
+        this(request, future, decodeView, null);
+    }
+
+    /**
+     * @param request    the request to send.
+     * @param future     the future to complete with the response.
+     * @param decodeView {@code true} if the response should be decoded as a {@link ResponseView}.
+     * @param visitor    if not {@code null}, the {@link ResponseVisitor} to decode the response with, as a
+     *                   {@link VisitedResponse}.
+     */
+    public UaRequestFuture(UaRequestMessage request,
+                           CompletableFuture<UaResponseMessage> future,
+                           boolean decodeView,
+                           @Nullable ResponseVisitor visitor) {
+
         this.request = request;
         this.future = future;
+        this.decodeView = decodeView;
+        this.visitor = visitor;
     }
 
     public UaRequestMessage getRequest() {
@@ -43,4 +75,13 @@ public class UaRequestFuture {
         return future;
     }
 
+    public boolean isDecodeView() {
+        return decodeView;
+    }
+
+    @Nullable
+    public ResponseVisitor getVisitor() {
+        return visitor;
+    }
+
 }
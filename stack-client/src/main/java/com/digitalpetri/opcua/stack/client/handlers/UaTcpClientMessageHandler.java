@@ -31,6 +31,7 @@ import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.UaRuntimeException;
 import com.digitalpetri.opcua.stack.core.UaServiceFaultException;
 import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder.MessageChunks;
 import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
 import com.digitalpetri.opcua.stack.core.channel.MessageAbortedException;
 import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
@@ -42,6 +43,9 @@ import com.digitalpetri.opcua.stack.core.channel.messages.TcpMessageDecoder;
 import com.digitalpetri.opcua.stack.core.security.SecurityAlgorithm;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseView;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseVisitor;
+import com.digitalpetri.opcua.stack.core.serialization.binary.VisitedResponse;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -53,7 +57,6 @@ import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelReque
 import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelResponse;
 import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
-import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import com.digitalpetri.opcua.stack.core.util.LongSequence;
 import com.digitalpetri.opcua.stack.core.util.NonceUtil;
 import com.google.common.collect.ImmutableList;
@@ -63,6 +66,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
 import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.Timeout;
 import org.jooq.lambda.tuple.Tuple2;
 import org.slf4j.Logger;
@@ -245,7 +249,16 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
     @Override
     protected void encode(ChannelHandlerContext ctx, UaRequestFuture request, ByteBuf buffer) throws Exception {
         encodeMessage(request.getRequest(), MessageType.SecureMessage).whenComplete((t2, ex) -> {
+            if (ex instanceof UaException &&
+                    ((UaException) ex).getStatusCode().getValue() == StatusCodes.Bad_RequestTooLarge) {
+
+                // Nothing was sent; fail this request but keep the channel.
+                request.getFuture().completeExceptionally(ex);
+                return;
+            }
+
             if (ex != null) {
+                request.getFuture().completeExceptionally(ex);
                 ctx.close();
                 return;
             }
@@ -274,39 +287,47 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
         CompletableFuture<Tuple2<Long, List<ByteBuf>>> future = new CompletableFuture<>();
 
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = null;
+            MessageChunks messageChunks = null;
+            List<ByteBuf> chunks = null;
 
             try {
-                messageBuffer = BufferUtil.buffer();
-                binaryEncoder.setBuffer(messageBuffer);
-                binaryEncoder.encodeMessage(null, request);
+                long messageSize = serializationQueue.getSizeCalculator().calculateMessageSize(request);
 
-                List<ByteBuf> chunks;
+                if (messageType == MessageType.OpenSecureChannel) {
+                    chunkEncoder.checkAsymmetricLimits(secureChannel, messageSize, StatusCodes.Bad_RequestTooLarge);
+                    messageChunks = chunkEncoder.allocateAsymmetric(secureChannel, (int) messageSize);
+                } else {
+                    chunkEncoder.checkSymmetricLimits(secureChannel, messageSize, StatusCodes.Bad_RequestTooLarge);
+                    messageChunks = chunkEncoder.allocateSymmetric(secureChannel, (int) messageSize);
+                }
+
+                binaryEncoder.setBuffer(messageChunks.getBuffer());
+                binaryEncoder.encodeMessage(null, request);
 
                 if (messageType == MessageType.OpenSecureChannel) {
                     chunks = chunkEncoder.encodeAsymmetric(
                             secureChannel,
                             messageType,
-                            messageBuffer,
+                            messageChunks,
                             requestIdSequence.getAndIncrement()
                     );
                 } else {
                     chunks = chunkEncoder.encodeSymmetric(
                             secureChannel,
                             messageType,
-                            messageBuffer,
+                            messageChunks,
                             requestIdSequence.getAndIncrement()
                     );
                 }
 
                 future.complete(new Tuple2<>(chunkEncoder.getLastRequestId(), chunks));
-            } catch (UaException ex) {
+            } catch (UaException | RuntimeException ex) {
                 logger.error("Error encoding {}: {}", request, ex.getMessage(), ex);
 
                 future.completeExceptionally(ex);
             } finally {
-                if (messageBuffer != null) {
-                    messageBuffer.release();
+                if (chunks == null && messageChunks != null) {
+                    messageChunks.release();
                 }
             }
         });
@@ -521,16 +542,33 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
                 try {
                     decodedBuffer = chunkDecoder.decodeSymmetric(secureChannel, buffersToDecode);
 
+                    UaRequestFuture pendingRequest = pending.get(chunkDecoder.getLastRequestId());
+                    boolean decodeView = pendingRequest != null && pendingRequest.isDecodeView();
+                    ResponseVisitor visitor = pendingRequest != null ? pendingRequest.getVisitor() : null;
+
                     binaryDecoder.setBuffer(decodedBuffer);
-                    UaResponseMessage response = binaryDecoder.decodeMessage(null);
+                    UaResponseMessage response;
+                    if (visitor != null) {
+                        response = VisitedResponse.decode(binaryDecoder, visitor);
+                    } else if (decodeView) {
+                        response = ResponseView.decode(binaryDecoder);
+                    } else {
+                        response = binaryDecoder.decodeMessage(null);
+                    }
 
                     UaRequestFuture request = pending.remove(chunkDecoder.getLastRequestId());
 
                     if (request != null) {
-                        client.getExecutorService().execute(
-                                () -> request.getFuture().complete(response));
+                        client.getExecutorService().execute(() -> {
+                            // A view that isn't delivered would hold on to decodedBuffer.
+                            if (!request.getFuture().complete(response)) {
+                                ReferenceCountUtil.release(response);
+                            }
+                        });
                     } else {
                         logger.warn("No UaRequestFuture for requestId={}", chunkDecoder.getLastRequestId());
+
+                        ReferenceCountUtil.release(response);
                     }
                 } catch (MessageAbortedException e) {
                     logger.debug("Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
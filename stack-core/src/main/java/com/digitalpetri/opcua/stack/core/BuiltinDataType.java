@@ -19,6 +19,7 @@ package com.digitalpetri.opcua.stack.core;
 import java.util.UUID;
 
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteStringView;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -113,6 +114,8 @@ public enum BuiltinDataType {
             else if (backingClass == double.class) backingClass = Double.class;
         }
 
+        if (backingClass == ByteStringView.class) backingClass = ByteString.class;
+
         return BackingClassesById.inverse().get(backingClass);
     }
 
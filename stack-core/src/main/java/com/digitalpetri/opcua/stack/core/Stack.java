@@ -132,7 +132,10 @@ public final class Stack {
 
     /**
      * @return if configured, the {@link ClassLoader} to be used when reflectively loading classes.
+     * @deprecated has no effect: the generated types are no longer found by scanning the classpath, so no classes are
+     * loaded reflectively. See {@link #setCustomClassLoader(ClassLoader)}.
      */
+    @Deprecated
     public static synchronized Optional<ClassLoader> getCustomClassLoader() {
         return Optional.ofNullable(CUSTOM_CLASS_LOADER);
     }
@@ -141,7 +144,11 @@ public final class Stack {
      * Set the {@link ClassLoader} that will be used when reflectively loading classes.
      *
      * @param customClassLoader the {@link ClassLoader} that will used when reflectively loading classes.
+     * @deprecated has no effect. The {@code DelegateRegistry} finds the generated types through an index of their
+     * encoding ids compiled into the stack, and initializes them with the class loader that loaded the stack, so there
+     * is no longer a classpath scan for a custom class loader to widen.
      */
+    @Deprecated
     public static synchronized void setCustomClassLoader(ClassLoader customClassLoader) {
         CUSTOM_CLASS_LOADER = customClassLoader;
     }
@@ -42,11 +42,32 @@ public class ChannelConfig {
     public static final int DEFAULT_MAX_ARRAY_LENGTH = 65536;
     public static final int DEFAULT_MAX_STRING_LENGTH = 65536;
 
+    /**
+     * The default maximum number of bytes of heap the objects decoded from a message are projected to occupy, per
+     * byte of the encoded message. Legitimate messages stay well below it; the worst case is a message made up of
+     * empty Strings, at about 10.
+     */
+    public static final int DEFAULT_MAX_DECODED_BYTES_RATIO = 16;
+
+    /**
+     * The default maximum number of array elements decoded from a message, across all of its arrays, per byte of the
+     * encoded message. Every element of a built-in type occupies at least one byte.
+     */
+    public static final int DEFAULT_MAX_DECODED_ELEMENTS_RATIO = 1;
+
+    /**
+     * By default arrays of structures are encoded serially, on the channel's serialization queue.
+     */
+    public static final int DEFAULT_PARALLEL_ENCODING_THRESHOLD = 0;
+
     private final int maxChunkSize;
     private final int maxChunkCount;
     private final int maxMessageSize;
     private final int maxArrayLength;
     private final int maxStringLength;
+    private final int maxDecodedBytesRatio;
+    private final int maxDecodedElementsRatio;
+    private final int parallelEncodingThreshold;
 
     /**
      * Create a {@link ChannelConfig} using the default parameters.
@@ -56,13 +77,19 @@ public class ChannelConfig {
      * @see {@link ChannelConfig#DEFAULT_MAX_MESSAGE_SIZE}
      * @see {@link ChannelConfig#DEFAULT_MAX_ARRAY_LENGTH}
      * @see {@link ChannelConfig#DEFAULT_MAX_STRING_LENGTH}
+     * @see {@link ChannelConfig#DEFAULT_MAX_DECODED_BYTES_RATIO}
+     * @see {@link ChannelConfig#DEFAULT_MAX_DECODED_ELEMENTS_RATIO}
+     * @see {@link ChannelConfig#DEFAULT_PARALLEL_ENCODING_THRESHOLD}
      */
     public ChannelConfig() {
         this(DEFAULT_MAX_CHUNK_SIZE,
                 DEFAULT_MAX_CHUNK_COUNT,
                 DEFAULT_MAX_MESSAGE_SIZE,
                 DEFAULT_MAX_ARRAY_LENGTH,
-                DEFAULT_MAX_STRING_LENGTH);
+                DEFAULT_MAX_STRING_LENGTH,
+                DEFAULT_MAX_DECODED_BYTES_RATIO,
+                DEFAULT_MAX_DECODED_ELEMENTS_RATIO,
+                DEFAULT_PARALLEL_ENCODING_THRESHOLD);
     }
 
     /**
@@ -75,6 +102,62 @@ public class ChannelConfig {
                          int maxMessageSize,
                          int maxArrayLength,
                          int maxStringLength) {
+        this(maxChunkSize,
+                maxChunkCount,
+                maxMessageSize,
+                maxArrayLength,
+                maxStringLength,
+                DEFAULT_MAX_DECODED_BYTES_RATIO,
+                DEFAULT_MAX_DECODED_ELEMENTS_RATIO,
+                DEFAULT_PARALLEL_ENCODING_THRESHOLD);
+    }
+
+    /**
+     * @param maxChunkSize            The maximum size of a single chunk. Must be greater than 8192.
+     * @param maxChunkCount           The maximum number of chunks that a message can break down into.
+     * @param maxMessageSize          The maximum size of a message after all chunks have been assembled.
+     * @param maxDecodedBytesRatio    The maximum number of bytes of heap the objects decoded from a message may be
+     *                                projected to occupy, per byte of the message, or -1 for no limit.
+     * @param maxDecodedElementsRatio The maximum number of array elements decoded from a message, per byte of the
+     *                                message, or -1 for no limit.
+     */
+    public ChannelConfig(int maxChunkSize,
+                         int maxChunkCount,
+                         int maxMessageSize,
+                         int maxArrayLength,
+                         int maxStringLength,
+                         int maxDecodedBytesRatio,
+                         int maxDecodedElementsRatio) {
+        this(maxChunkSize,
+                maxChunkCount,
+                maxMessageSize,
+                maxArrayLength,
+                maxStringLength,
+                maxDecodedBytesRatio,
+                maxDecodedElementsRatio,
+                DEFAULT_PARALLEL_ENCODING_THRESHOLD);
+    }
+
+    /**
+     * @param maxChunkSize              The maximum size of a single chunk. Must be greater than 8192.
+     * @param maxChunkCount             The maximum number of chunks that a message can break down into.
+     * @param maxMessageSize            The maximum size of a message after all chunks have been assembled.
+     * @param maxDecodedBytesRatio      The maximum number of bytes of heap the objects decoded from a message may be
+     *                                  projected to occupy, per byte of the message, or -1 for no limit.
+     * @param maxDecodedElementsRatio   The maximum number of array elements decoded from a message, per byte of the
+     *                                  message, or -1 for no limit.
+     * @param parallelEncodingThreshold The minimum length of an array of structures in an outgoing message that is
+     *                                  encoded in parallel on the common {@link java.util.concurrent.ForkJoinPool},
+     *                                  or 0 to always encode serially.
+     */
+    public ChannelConfig(int maxChunkSize,
+                         int maxChunkCount,
+                         int maxMessageSize,
+                         int maxArrayLength,
+                         int maxStringLength,
+                         int maxDecodedBytesRatio,
+                         int maxDecodedElementsRatio,
+                         int parallelEncodingThreshold) {
         Preconditions.checkArgument(maxChunkSize > 8192,
                 "maxChunkSize must be greater than 8192");
 
@@ -83,6 +166,9 @@ public class ChannelConfig {
         this.maxMessageSize = maxMessageSize;
         this.maxArrayLength = maxArrayLength;
         this.maxStringLength = maxStringLength;
+        this.maxDecodedBytesRatio = maxDecodedBytesRatio;
+        this.maxDecodedElementsRatio = maxDecodedElementsRatio;
+        this.parallelEncodingThreshold = parallelEncodingThreshold;
     }
 
     public int getMaxChunkSize() {
@@ -105,4 +191,16 @@ public class ChannelConfig {
         return maxStringLength;
     }
 
+    public int getMaxDecodedBytesRatio() {
+        return maxDecodedBytesRatio;
+    }
+
+    public int getMaxDecodedElementsRatio() {
+        return maxDecodedElementsRatio;
+    }
+
+    public int getParallelEncodingThreshold() {
+        return parallelEncodingThreshold;
+    }
+
 }
@@ -70,13 +70,95 @@ public class ChunkEncoder {
         return encode(symmetricDelegate, channel, messageType, messageBuffer, requestId);
     }
 
+    /**
+     * Encode a message that was written directly into chunks allocated by
+     * {@link #allocateAsymmetric(SecureChannel, int)}.
+     *
+     * @param channel       the {@link SecureChannel} the message will be sent on.
+     * @param messageType   the {@link MessageType} of the message.
+     * @param messageChunks the {@link MessageChunks} the message body has been written to.
+     * @param requestId     the request id.
+     * @return the sealed chunk buffers, ready to be written.
+     */
+    public List<ByteBuf> encodeAsymmetric(SecureChannel channel,
+                                          MessageType messageType,
+                                          MessageChunks messageChunks,
+                                          long requestId) throws UaException {
+
+        return seal(asymmetricDelegate, channel, messageType, messageChunks, requestId);
+    }
+
+    /**
+     * Encode a message that was written directly into chunks allocated by
+     * {@link #allocateSymmetric(SecureChannel, int)}.
+     *
+     * @param channel       the {@link SecureChannel} the message will be sent on.
+     * @param messageType   the {@link MessageType} of the message.
+     * @param messageChunks the {@link MessageChunks} the message body has been written to.
+     * @param requestId     the request id.
+     * @return the sealed chunk buffers, ready to be written.
+     */
+    public List<ByteBuf> encodeSymmetric(SecureChannel channel,
+                                         MessageType messageType,
+                                         MessageChunks messageChunks,
+                                         long requestId) throws UaException {
+
+        return seal(symmetricDelegate, channel, messageType, messageChunks, requestId);
+    }
+
+    /**
+     * Allocate the chunks for an asymmetric message of {@code messageSize} bytes so it can be encoded directly into
+     * them, rather than into an intermediate message buffer.
+     *
+     * @param channel     the {@link SecureChannel} the message will be sent on.
+     * @param messageSize the exact size of the encoded message, in bytes.
+     * @return the {@link MessageChunks} to write the message body to.
+     */
+    public MessageChunks allocateAsymmetric(SecureChannel channel, int messageSize) throws UaException {
+        return allocate(asymmetricDelegate, channel, messageSize, null);
+    }
+
+    /**
+     * Allocate the chunks for a symmetric message of {@code messageSize} bytes so it can be encoded directly into
+     * them, rather than into an intermediate message buffer.
+     *
+     * @param channel     the {@link SecureChannel} the message will be sent on.
+     * @param messageSize the exact size of the encoded message, in bytes.
+     * @return the {@link MessageChunks} to write the message body to.
+     */
+    public MessageChunks allocateSymmetric(SecureChannel channel, int messageSize) throws UaException {
+        return allocate(symmetricDelegate, channel, messageSize, null);
+    }
+
     private List<ByteBuf> encode(Delegate delegate,
                                  SecureChannel channel,
                                  MessageType messageType,
                                  ByteBuf messageBuffer,
                                  long requestId) throws UaException {
 
-        List<ByteBuf> chunks = new ArrayList<>();
+        MessageChunks messageChunks = allocate(delegate, channel, messageBuffer.readableBytes(), messageBuffer);
+
+        try {
+            return seal(delegate, channel, messageType, messageChunks, requestId);
+        } catch (UaException e) {
+            messageChunks.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Allocate a chunk buffer of the final size for each chunk of the message, leaving room for the headers before
+     * the body and the padding and signature after it.
+     * <p>
+     * A message that fits in a single chunk is encoded directly into the body region of that chunk. A larger message
+     * is encoded into {@code stagingBuffer}, or a pooled buffer of exactly {@code messageSize} bytes if it's null, and
+     * copied into the chunks once when they're sealed. Writing primitives through a {@link
+     * io.netty.buffer.CompositeByteBuf} of body slices measured slower than that single copy.
+     */
+    private MessageChunks allocate(Delegate delegate,
+                                   SecureChannel channel,
+                                   int messageSize,
+                                   ByteBuf stagingBuffer) throws UaException {
 
         boolean encrypted = delegate.isEncryptionEnabled(channel);
 
@@ -85,15 +167,19 @@ public class ChunkEncoder {
         int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
         int signatureSize = delegate.getSignatureSize(channel);
 
-        int maxChunkSize = parameters.getLocalSendBufferSize();
-        int headerSizes = SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize;
         int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
 
-        int maxBlockCount = (maxChunkSize - headerSizes - signatureSize - paddingOverhead) / cipherTextBlockSize;
-        int maxBodySize = (plainTextBlockSize * maxBlockCount - SequenceHeader.SEQUENCE_HEADER_SIZE);
+        int maxBodySize = getMaxBodySize(delegate, channel);
+        int bodyOffset = SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize +
+                SequenceHeader.SEQUENCE_HEADER_SIZE;
+
+        int chunkCount = (messageSize + maxBodySize - 1) / maxBodySize;
 
-        while (messageBuffer.readableBytes() > 0) {
-            int bodySize = Math.min(messageBuffer.readableBytes(), maxBodySize);
+        List<ByteBuf> chunkBuffers = new ArrayList<>(chunkCount);
+        int[] bodySizes = new int[chunkCount];
+
+        for (int i = 0; i < chunkCount; i++) {
+            int bodySize = Math.min(messageSize - i * maxBodySize, maxBodySize);
 
             int paddingSize = encrypted ?
                     plainTextBlockSize - (SequenceHeader.SEQUENCE_HEADER_SIZE + bodySize + signatureSize + paddingOverhead) % plainTextBlockSize : 0;
@@ -107,10 +193,74 @@ public class ChunkEncoder {
 
             ByteBuf chunkBuffer = BufferUtil.buffer(chunkSize);
 
+            chunkBuffers.add(chunkBuffer);
+            bodySizes[i] = bodySize;
+        }
+
+        if (stagingBuffer != null) {
+            return new MessageChunks(delegate, messageSize, chunkBuffers, bodySizes, stagingBuffer, true, false);
+        } else if (chunkCount == 1) {
+            ByteBuf bodyBuffer = chunkBuffers.get(0).slice(bodyOffset, messageSize).clear();
+
+            return new MessageChunks(delegate, messageSize, chunkBuffers, bodySizes, bodyBuffer, false, false);
+        } else {
+            ByteBuf bodyBuffer = BufferUtil.buffer(messageSize);
+
+            return new MessageChunks(delegate, messageSize, chunkBuffers, bodySizes, bodyBuffer, true, true);
+        }
+    }
+
+    /**
+     * Write the headers, padding and signature around the body of each chunk and encrypt it if necessary.
+     */
+    private List<ByteBuf> seal(Delegate delegate,
+                               SecureChannel channel,
+                               MessageType messageType,
+                               MessageChunks messageChunks,
+                               long requestId) throws UaException {
+
+        if (messageChunks.delegate != delegate) {
+            throw new UaException(StatusCodes.Bad_InternalError,
+                    "chunks were allocated for a different security mode");
+        }
+
+        ByteBuf bodyBuffer = messageChunks.buffer;
+
+        if (bodyBuffer.readableBytes() != messageChunks.messageSize) {
+            throw new UaException(StatusCodes.Bad_EncodingError,
+                    String.format("encoded message size (%s) does not match allocated size (%s)",
+                            bodyBuffer.readableBytes(), messageChunks.messageSize));
+        }
+
+        List<ByteBuf> chunks = messageChunks.chunkBuffers;
+
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+
+        int securityHeaderSize = delegate.getSecurityHeaderSize(channel);
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
+        int signatureSize = delegate.getSignatureSize(channel);
+
+        int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+
+        for (int i = 0; i < chunks.size(); i++) {
+            ByteBuf chunkBuffer = chunks.get(i);
+            int bodySize = messageChunks.bodySizes[i];
+
+            int paddingSize = encrypted ?
+                    plainTextBlockSize - (SequenceHeader.SEQUENCE_HEADER_SIZE + bodySize + signatureSize + paddingOverhead) % plainTextBlockSize : 0;
+
+            int plainTextContentSize = SequenceHeader.SEQUENCE_HEADER_SIZE + bodySize + signatureSize + paddingSize + paddingOverhead;
+
+            int chunkSize = SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize +
+                    (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+
+            chunkBuffer.writerIndex(0);
+
             /* Message Header */
             SecureMessageHeader messageHeader = new SecureMessageHeader(
                     messageType,
-                    messageBuffer.readableBytes() > bodySize ? 'C' : 'F',
+                    i < chunks.size() - 1 ? 'C' : 'F',
                     chunkSize,
                     channel.getChannelId()
             );
@@ -129,7 +279,11 @@ public class ChunkEncoder {
             SequenceHeader.encode(sequenceHeader, chunkBuffer);
 
             /* Message Body */
-            chunkBuffer.writeBytes(messageBuffer, bodySize);
+            if (messageChunks.staged) {
+                chunkBuffer.writeBytes(bodyBuffer, bodySize);
+            } else {
+                chunkBuffer.writerIndex(chunkBuffer.writerIndex() + bodySize);
+            }
 
             /* Padding and Signature */
             if (encrypted) {
@@ -154,12 +308,15 @@ public class ChunkEncoder {
                     int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
 
                     ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
-                    ByteBuf copyBuffer = chunkBuffer.copy();
-                    ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
 
                     Cipher cipher = delegate.getAndInitializeCipher(channel);
 
                     if (delegate instanceof AsymmetricDelegate) {
+                        // Cipher text blocks are larger than plain text blocks, so encrypting in place would
+                        // overwrite plain text that hasn't been encrypted yet.
+                        ByteBuf copyBuffer = chunkBuffer.copy();
+                        ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+
                         for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
                             int position = blockNumber * plainTextBlockSize;
                             int limit = (blockNumber + 1) * plainTextBlockSize;
@@ -169,26 +326,121 @@ public class ChunkEncoder {
 
                             assert (bytesWritten == cipherTextBlockSize);
                         }
+
+                        copyBuffer.release();
                     } else {
+                        // Block sizes are equal; Cipher.doFinal(ByteBuffer, ByteBuffer) is copy-safe.
+                        ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer();
+
                         cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
                     }
-
-                    copyBuffer.release();
                 } catch (GeneralSecurityException e) {
                     throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
                 }
             }
 
             chunkBuffer.readerIndex(0).writerIndex(chunkSize);
-
-            chunks.add(chunkBuffer);
         }
 
+        messageChunks.releaseStagingBuffer();
+
         lastRequestId = requestId;
 
         return chunks;
     }
 
+    /**
+     * @param channel     the {@link SecureChannel} the message will be sent on.
+     * @param messageSize the size of the encoded message, in bytes.
+     * @return the number of chunks {@link #encodeAsymmetric} will split a message of {@code messageSize} bytes into.
+     */
+    public int getAsymmetricChunkCount(SecureChannel channel, int messageSize) throws UaException {
+        return getChunkCount(asymmetricDelegate, channel, messageSize);
+    }
+
+    /**
+     * @param channel     the {@link SecureChannel} the message will be sent on.
+     * @param messageSize the size of the encoded message, in bytes.
+     * @return the number of chunks {@link #encodeSymmetric} will split a message of {@code messageSize} bytes into.
+     */
+    public int getSymmetricChunkCount(SecureChannel channel, int messageSize) throws UaException {
+        return getChunkCount(symmetricDelegate, channel, messageSize);
+    }
+
+    /**
+     * Check a message that has not been encoded yet against the MaxMessageSize and MaxChunkCount advertised by the
+     * remote end, as if it were going to be sent with {@link #encodeAsymmetric}.
+     *
+     * @param channel     the {@link SecureChannel} the message will be sent on.
+     * @param messageSize the size of the message, as calculated by an {@code EncodedSizeCalculator}.
+     * @param statusCode  the status to fail with if a limit is exceeded.
+     * @throws UaException with {@code statusCode} if the message exceeds either limit.
+     */
+    public void checkAsymmetricLimits(SecureChannel channel, long messageSize, long statusCode) throws UaException {
+        checkLimits(asymmetricDelegate, channel, messageSize, statusCode);
+    }
+
+    /**
+     * Check a message that has not been encoded yet against the MaxMessageSize and MaxChunkCount advertised by the
+     * remote end, as if it were going to be sent with {@link #encodeSymmetric}.
+     *
+     * @param channel     the {@link SecureChannel} the message will be sent on.
+     * @param messageSize the size of the message, as calculated by an {@code EncodedSizeCalculator}.
+     * @param statusCode  the status to fail with if a limit is exceeded.
+     * @throws UaException with {@code statusCode} if the message exceeds either limit.
+     */
+    public void checkSymmetricLimits(SecureChannel channel, long messageSize, long statusCode) throws UaException {
+        checkLimits(symmetricDelegate, channel, messageSize, statusCode);
+    }
+
+    private void checkLimits(Delegate delegate,
+                             SecureChannel channel,
+                             long messageSize,
+                             long statusCode) throws UaException {
+
+        // A limit of 0 means the remote end imposes no limit.
+        int maxMessageSize = parameters.getRemoteMaxMessageSize();
+        int maxChunkCount = parameters.getRemoteMaxChunkCount();
+
+        if ((maxMessageSize > 0 && messageSize > maxMessageSize) || messageSize > Integer.MAX_VALUE) {
+            throw new UaException(statusCode,
+                    String.format("max message size exceeded (%s > %s)", messageSize, maxMessageSize));
+        }
+
+        int chunkCount = getChunkCount(delegate, channel, (int) messageSize);
+
+        if (maxChunkCount > 0 && chunkCount > maxChunkCount) {
+            throw new UaException(statusCode,
+                    String.format("max chunk count exceeded (%s > %s)", chunkCount, maxChunkCount));
+        }
+    }
+
+    private int getChunkCount(Delegate delegate, SecureChannel channel, int messageSize) throws UaException {
+        int maxBodySize = getMaxBodySize(delegate, channel);
+
+        return (messageSize + maxBodySize - 1) / maxBodySize;
+    }
+
+    /**
+     * @return the number of message body bytes that fit in a single chunk.
+     */
+    private int getMaxBodySize(Delegate delegate, SecureChannel channel) throws UaException {
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+
+        int securityHeaderSize = delegate.getSecurityHeaderSize(channel);
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
+        int signatureSize = delegate.getSignatureSize(channel);
+
+        int maxChunkSize = parameters.getLocalSendBufferSize();
+        int headerSizes = SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize;
+        int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+
+        int maxBlockCount = (maxChunkSize - headerSizes - signatureSize - paddingOverhead) / cipherTextBlockSize;
+
+        return (plainTextBlockSize * maxBlockCount - SequenceHeader.SEQUENCE_HEADER_SIZE);
+    }
+
     public long getLastRequestId() {
         return lastRequestId;
     }
@@ -212,6 +464,74 @@ public class ChunkEncoder {
         }
     }
 
+    /**
+     * The chunk buffers allocated for a message whose size is known before it is encoded, and the buffer the message
+     * is encoded into: the body region of the only chunk, or a staging buffer copied into the chunks when sealed.
+     * <p>
+     * Once the body has been written the chunks are sealed by {@link #encodeAsymmetric(SecureChannel, MessageType,
+     * MessageChunks, long)} or {@link #encodeSymmetric(SecureChannel, MessageType, MessageChunks, long)}, which
+     * return the chunk buffers and with them ownership. If encoding fails before then, {@link #release()} them.
+     */
+    public static final class MessageChunks {
+
+        private final Delegate delegate;
+        private final int messageSize;
+        private final List<ByteBuf> chunkBuffers;
+        private final int[] bodySizes;
+        private final ByteBuf buffer;
+        private final boolean staged;
+
+        private boolean ownsBuffer;
+
+        private MessageChunks(Delegate delegate,
+                              int messageSize,
+                              List<ByteBuf> chunkBuffers,
+                              int[] bodySizes,
+                              ByteBuf buffer,
+                              boolean staged,
+                              boolean ownsBuffer) {
+
+            this.delegate = delegate;
+            this.messageSize = messageSize;
+            this.chunkBuffers = chunkBuffers;
+            this.bodySizes = bodySizes;
+            this.buffer = buffer;
+            this.staged = staged;
+            this.ownsBuffer = ownsBuffer;
+        }
+
+        /**
+         * @return a little-endian buffer with capacity for the message to be encoded into.
+         */
+        public ByteBuf getBuffer() {
+            return buffer;
+        }
+
+        /**
+         * @return the number of chunks the message will be sent in.
+         */
+        public int getChunkCount() {
+            return chunkBuffers.size();
+        }
+
+        /**
+         * Release the chunk buffers of a message that won't be sent.
+         */
+        public void release() {
+            releaseStagingBuffer();
+
+            chunkBuffers.forEach(ByteBuf::release);
+        }
+
+        private void releaseStagingBuffer() {
+            if (ownsBuffer) {
+                ownsBuffer = false;
+                buffer.release();
+            }
+        }
+
+    }
+
     private static interface Delegate {
         byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException;
 
@@ -17,16 +17,19 @@
 package com.digitalpetri.opcua.stack.core.channel;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 
 import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.EncodedSizeCalculator;
 import com.digitalpetri.opcua.stack.core.util.ExecutionQueue;
 
 public class SerializationQueue {
 
     private final BinaryEncoder binaryEncoder;
     private final BinaryDecoder binaryDecoder;
+    private final EncodedSizeCalculator sizeCalculator;
 
     private final ChunkEncoder chunkEncoder;
     private final ChunkDecoder chunkDecoder;
@@ -36,6 +39,27 @@ public class SerializationQueue {
 
     private final ChannelParameters parameters;
 
+    /**
+     * Create a {@link SerializationQueue} whose encoders and decoder are configured with the limits in
+     * {@code config}, including the decoder's per-message allocation budget and parallel array encoding.
+     *
+     * @param executor   the {@link ExecutorService} to encode and decode on.
+     * @param parameters the negotiated {@link ChannelParameters}.
+     * @param config     the {@link ChannelConfig} of the client or server.
+     */
+    public SerializationQueue(ExecutorService executor,
+                              ChannelParameters parameters,
+                              ChannelConfig config) {
+
+        this(executor, parameters, config.getMaxArrayLength(), config.getMaxStringLength());
+
+        binaryDecoder.setAllocationBudget(config.getMaxDecodedBytesRatio(), config.getMaxDecodedElementsRatio());
+
+        if (config.getParallelEncodingThreshold() > 0) {
+            binaryEncoder.setParallelArrayEncoding(config.getParallelEncodingThreshold(), ForkJoinPool.commonPool());
+        }
+    }
+
     public SerializationQueue(ExecutorService executor,
                               ChannelParameters parameters,
                               int maxArrayLength,
@@ -45,6 +69,7 @@ public class SerializationQueue {
 
         binaryEncoder = new BinaryEncoder(maxArrayLength, maxStringLength);
         binaryDecoder = new BinaryDecoder(maxArrayLength, maxStringLength);
+        sizeCalculator = new EncodedSizeCalculator(maxArrayLength, maxStringLength);
 
         chunkEncoder = new ChunkEncoder(parameters);
         chunkDecoder = new ChunkDecoder(parameters);
@@ -66,6 +91,17 @@ public class SerializationQueue {
         decodingQueue.pause();
     }
 
+    /**
+     * Get the {@link EncodedSizeCalculator} configured with the same limits as the {@link BinaryEncoder}.
+     * <p>
+     * Like the {@link BinaryEncoder} it may only be used from within {@link #encode(BiConsumer)}.
+     *
+     * @return the {@link EncodedSizeCalculator} for this queue.
+     */
+    public EncodedSizeCalculator getSizeCalculator() {
+        return sizeCalculator;
+    }
+
     public ChannelParameters getParameters() {
         return parameters;
     }
@@ -16,37 +16,48 @@
 
 package com.digitalpetri.opcua.stack.core.serialization;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
 
-import com.digitalpetri.opcua.stack.core.Stack;
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoderDelegate;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
-import com.google.common.collect.ImmutableSet;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
-import com.google.common.reflect.ClassPath;
-import com.google.common.reflect.ClassPath.ClassInfo;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class DelegateRegistry {
 
+    /**
+     * Numeric namespace 0 encoding ids below this limit are looked up by array index rather than by hashing the
+     * {@link NodeId}. Every encoding id defined by the specification is below it.
+     */
+    static final int DENSE_ID_LIMIT = 1 << 14;
+
     private static final Map<Class<?>, EncoderDelegate<?>> encodersByClass = Maps.newConcurrentMap();
 
     private static final Map<NodeId, EncoderDelegate<?>> encodersById = Maps.newConcurrentMap();
 
+    private static final AtomicReferenceArray<EncoderDelegate<?>> encodersByDenseId =
+            new AtomicReferenceArray<>(DENSE_ID_LIMIT);
+
     private static final Map<Class<?>, DecoderDelegate<?>> decodersByClass = Maps.newConcurrentMap();
 
     private static final Map<NodeId, DecoderDelegate<?>> decodersById = Maps.newConcurrentMap();
 
+    private static final AtomicReferenceArray<DecoderDelegate<?>> decodersByDenseId =
+            new AtomicReferenceArray<>(DENSE_ID_LIMIT);
+
     public static <T> void registerEncoder(EncoderDelegate<T> delegate, Class<T> clazz, NodeId... ids) {
         encodersByClass.put(clazz, delegate);
 
         if (ids != null) {
-            Arrays.stream(ids).forEach(id -> encodersById.put(id, delegate));
+            Arrays.stream(ids).forEach(id -> putEncoder(id, delegate));
         }
     }
 
@@ -54,14 +65,68 @@ public class DelegateRegistry {
         decodersByClass.put(clazz, delegate);
 
         if (ids != null) {
-            Arrays.stream(ids).forEach(id -> decodersById.put(id, delegate));
+            Arrays.stream(ids).forEach(id -> putDecoder(id, delegate));
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Register a {@link BinaryEncoderDelegate} for {@code binaryEncodingId}.
+     * <p>
+     * Unlike {@link #registerEncoder(EncoderDelegate, Class, NodeId...)} the delegate is only registered by id, so
+     * lookups by {@code clazz} continue to find the generic delegate. Encoding anything but a {@code clazz} with it, or
+     * with anything but a {@link BinaryEncoder}, fails with {@code Bad_EncodingError}.
+     *
+     * @param delegate         the {@link BinaryEncoderDelegate}.
+     * @param clazz            the {@link Class} of the type.
+     * @param binaryEncodingId the binary encoding id of the type.
+     */
+    public static <T> void registerBinaryEncoder(BinaryEncoderDelegate<T> delegate,
+                                                 Class<T> clazz,
+                                                 NodeId binaryEncodingId) {
+        EncoderDelegate<T> encoderDelegate = (value, encoder) -> {
+            if (!(encoder instanceof BinaryEncoder)) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                        "binary encoding of " + clazz.getSimpleName() + " with " + encoder.getClass().getSimpleName());
+            } else if (value != null && !clazz.isInstance(value)) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                        "binary encoding of " + clazz.getSimpleName() + " given " + value.getClass().getSimpleName());
+            }
+
+            delegate.encode(value, (BinaryEncoder) encoder);
+        };
+
+        putEncoder(binaryEncodingId, encoderDelegate);
+    }
+
+    /**
+     * Register a {@link BinaryDecoderDelegate} for {@code binaryEncodingId}.
+     * <p>
+     * Unlike {@link #registerDecoder(DecoderDelegate, Class, NodeId...)} the delegate is only registered by id, so
+     * lookups by {@code clazz} continue to find the generic delegate. Decoding with it with anything but a
+     * {@link BinaryDecoder} fails with {@code Bad_DecodingError}.
+     *
+     * @param delegate         the {@link BinaryDecoderDelegate}.
+     * @param clazz            the {@link Class} of the type.
+     * @param binaryEncodingId the binary encoding id of the type.
+     */
+    public static <T> void registerBinaryDecoder(BinaryDecoderDelegate<T> delegate,
+                                                 Class<T> clazz,
+                                                 NodeId binaryEncodingId) {
+        DecoderDelegate<T> decoderDelegate = decoder -> {
+            if (!(decoder instanceof BinaryDecoder)) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                        "binary decoding of " + clazz.getSimpleName() + " with " + decoder.getClass().getSimpleName());
+            }
+
+            return delegate.decode((BinaryDecoder) decoder);
+        };
+
+        putDecoder(binaryEncodingId, decoderDelegate);
+    }
+
     public static <T> EncoderDelegate<T> getEncoder(Object t) throws UaSerializationException {
         try {
-            return (EncoderDelegate<T>) encodersByClass.get(t.getClass());
+            return getEncoder(t.getClass());
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for class=" + t);
@@ -71,7 +136,13 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T> EncoderDelegate<T> getEncoder(Class<?> clazz) throws UaSerializationException {
         try {
-            return (EncoderDelegate<T>) encodersByClass.get(clazz);
+            EncoderDelegate<?> encoder = encodersByClass.get(clazz);
+
+            if (encoder == null && initialize(clazz)) {
+                encoder = encodersByClass.get(clazz);
+            }
+
+            return (EncoderDelegate<T>) encoder;
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for class=" + clazz);
@@ -81,7 +152,13 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T> EncoderDelegate<T> getEncoder(NodeId encodingId) throws UaSerializationException {
         try {
-            return (EncoderDelegate<T>) encodersById.get(encodingId);
+            EncoderDelegate<?> encoder = lookupEncoder(encodingId);
+
+            if (encoder == null && initialize(encodingId)) {
+                encoder = lookupEncoder(encodingId);
+            }
+
+            return (EncoderDelegate<T>) encoder;
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for encodingId=" + encodingId);
@@ -91,7 +168,7 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T> DecoderDelegate<T> getDecoder(T t) throws UaSerializationException {
         try {
-            return (DecoderDelegate<T>) decodersByClass.get(t.getClass());
+            return getDecoder((Class<T>) t.getClass());
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
                     "no decoder registered for class=" + t);
@@ -101,16 +178,21 @@ public class DelegateRegistry {
     @SuppressWarnings("unchecked")
     public static <T> DecoderDelegate<T> getDecoder(Class<T> clazz) throws UaSerializationException {
         try {
-            return (DecoderDelegate<T>) decodersByClass.get(clazz);
+            DecoderDelegate<?> decoder = decodersByClass.get(clazz);
+
+            if (decoder == null && initialize(clazz)) {
+                decoder = decodersByClass.get(clazz);
+            }
+
+            return (DecoderDelegate<T>) decoder;
         } catch (NullPointerException e) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
                     "no decoder registered for class=" + clazz);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> DecoderDelegate<T> getDecoder(NodeId encodingId) {
-        DecoderDelegate<T> decoder = (DecoderDelegate<T>) decodersById.get(encodingId);
+        DecoderDelegate<T> decoder = findDecoder(encodingId);
 
         if (decoder == null) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError,
@@ -120,49 +202,121 @@ public class DelegateRegistry {
         return decoder;
     }
 
-    static {
-        /*
-         * Reflect-o-magically find all generated structured and enumerated types and force their static initialization
-         * blocks to run, registering their encode/decode methods with the delegate registry.
-         */
-        Logger logger = LoggerFactory.getLogger(DelegateRegistry.class);
+    /**
+     * Like {@link #getDecoder(NodeId)}, but returns {@code null} rather than throwing when no decoder is registered.
+     *
+     * @param encodingId the encoding id of the type to decode.
+     * @return the {@link DecoderDelegate} registered for {@code encodingId}, or {@code null} if there is none.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> DecoderDelegate<T> findDecoder(NodeId encodingId) {
+        DecoderDelegate<T> decoder = (DecoderDelegate<T>) lookupDecoder(encodingId);
 
-        ClassLoader classLoader = Stack.getCustomClassLoader()
-                .orElse(DelegateRegistry.class.getClassLoader());
+        if (decoder == null && initialize(encodingId)) {
+            decoder = (DecoderDelegate<T>) lookupDecoder(encodingId);
+        }
 
-        try {
-            loadGeneratedClasses(classLoader);
-        } catch (Exception e1) {
-            // Temporarily set the thread context ClassLoader to our
-            // ClassLoader and try loading the classes one more time.
-
-            Thread thread = Thread.currentThread();
-            ClassLoader contextClassLoader = thread.getContextClassLoader();
-
-            thread.setContextClassLoader(classLoader);
-
-            try {
-                loadGeneratedClasses(classLoader);
-            } catch (Exception e2) {
-                logger.error("Error loading generated classes.", e2);
-            } finally {
-                thread.setContextClassLoader(contextClassLoader);
+        return decoder;
+    }
+
+    /**
+     * Find the decoder for the structure whose DataType is {@code dataTypeId}, for encodings such as JSON that
+     * identify a structure by its DataType rather than by an encoding id.
+     * <p>
+     * A decoder registered under {@code dataTypeId} takes precedence over the generated type it identifies.
+     *
+     * @param dataTypeId the DataType id of the structure to decode.
+     * @return the {@link DecoderDelegate} for the structure, or {@code null} if there is none.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> DecoderDelegate<T> findDecoderForDataType(NodeId dataTypeId) {
+        DecoderDelegate<T> decoder = (DecoderDelegate<T>) lookupDecoder(dataTypeId);
+
+        if (decoder == null) {
+            Class<?> type = GeneratedTypeIndex.getTypeForDataType(dataTypeId);
+
+            if (type != null) {
+                decoder = (DecoderDelegate<T>) getDecoder(type);
             }
         }
+
+        return decoder;
     }
 
-    private static void loadGeneratedClasses(ClassLoader classLoader) throws IOException, ClassNotFoundException {
-        ClassPath classPath = ClassPath.from(classLoader);
+    private static void putEncoder(NodeId encodingId, EncoderDelegate<?> delegate) {
+        encodersById.put(encodingId, delegate);
+
+        int index = denseIndex(encodingId);
+        if (index >= 0) encodersByDenseId.set(index, delegate);
+    }
 
-        ImmutableSet<ClassInfo> structures =
-                classPath.getTopLevelClasses("com.digitalpetri.opcua.stack.core.types.structured");
+    private static void putDecoder(NodeId encodingId, DecoderDelegate<?> delegate) {
+        decodersById.put(encodingId, delegate);
 
-        ImmutableSet<ClassInfo> enumerations =
-                classPath.getTopLevelClasses("com.digitalpetri.opcua.stack.core.types.enumerated");
+        int index = denseIndex(encodingId);
+        if (index >= 0) decodersByDenseId.set(index, delegate);
+    }
+
+    private static EncoderDelegate<?> lookupEncoder(NodeId encodingId) {
+        int index = denseIndex(encodingId);
+
+        return index >= 0 ? encodersByDenseId.get(index) : encodersById.get(encodingId);
+    }
 
-        for (ClassInfo classInfo : Sets.union(structures, enumerations)) {
-            Class<?> clazz = classInfo.load();
-            Class.forName(clazz.getName(), true, classLoader);
+    private static DecoderDelegate<?> lookupDecoder(NodeId encodingId) {
+        int index = denseIndex(encodingId);
+
+        return index >= 0 ? decodersByDenseId.get(index) : decodersById.get(encodingId);
+    }
+
+    /**
+     * @param encodingId an encoding id.
+     * @return the index of {@code encodingId} in the dense tier, or -1 if it isn't a numeric namespace 0 id below
+     * {@link #DENSE_ID_LIMIT} and must be looked up in the map.
+     */
+    private static int denseIndex(NodeId encodingId) {
+        if (encodingId.getNamespaceIndex().intValue() != 0) return -1;
+
+        Object identifier = encodingId.getIdentifier();
+
+        if (identifier instanceof UInteger) {
+            long id = ((UInteger) identifier).longValue();
+
+            return id < DENSE_ID_LIMIT ? (int) id : -1;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Initialize the generated type {@code encodingId} belongs to, if any, so its static initializer registers its
+     * delegates.
+     *
+     * @param encodingId the encoding id that had no delegate registered.
+     * @return {@code true} if a type was found and initialized.
+     */
+    private static boolean initialize(NodeId encodingId) {
+        Class<?> type = GeneratedTypeIndex.getType(encodingId);
+
+        return type != null && initialize(type);
+    }
+
+    /**
+     * Initialize {@code clazz}, running the static initializer that registers its delegates if it hasn't run yet.
+     * <p>
+     * Referencing a class literal, e.g. in {@code decodeSerializable("Foo", Foo.class)}, does not initialize it.
+     *
+     * @param clazz the class that had no delegate registered.
+     * @return {@code true} if {@code clazz} was initialized.
+     */
+    private static boolean initialize(Class<?> clazz) {
+        try {
+            Class.forName(clazz.getName(), true, clazz.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
         }
     }
 
@@ -0,0 +1,1444 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.ActivateSessionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ActivateSessionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.AddNodesResult;
+import com.digitalpetri.opcua.stack.core.types.structured.AddReferencesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.AddReferencesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.AddReferencesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.AggregateFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.Annotation;
+import com.digitalpetri.opcua.stack.core.types.structured.AnonymousIdentityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.ApplicationDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.Argument;
+import com.digitalpetri.opcua.stack.core.types.structured.ArrayTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.AttributeOperand;
+import com.digitalpetri.opcua.stack.core.types.structured.AxisInformation;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseNextRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseNextResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePath;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePathResult;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowsePathTarget;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.BuildInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.CallMethodRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CallMethodResult;
+import com.digitalpetri.opcua.stack.core.types.structured.CallRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CallResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.CancelRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CancelResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ChannelSecurityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSecureChannelRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSecureChannelResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSessionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CloseSessionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ComplexNumberType;
+import com.digitalpetri.opcua.stack.core.types.structured.CompositeTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterElement;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterElementResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateMonitoredItemsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSessionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSessionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSubscriptionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.CreateSubscriptionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.DataTypeAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.DataTypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteAtTimeDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteEventDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteMonitoredItemsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteMonitoredItemsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteRawModifiedDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteReferencesItem;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteReferencesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteReferencesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteSubscriptionsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.DeleteSubscriptionsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.DiscoveryConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.DoubleComplexNumberType;
+import com.digitalpetri.opcua.stack.core.types.structured.EUInformation;
+import com.digitalpetri.opcua.stack.core.types.structured.ElementOperand;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.EndpointUrlListDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.EnumValueType;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFieldList;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.EventNotificationList;
+import com.digitalpetri.opcua.stack.core.types.structured.FilterOperand;
+import com.digitalpetri.opcua.stack.core.types.structured.FindServersOnNetworkRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.FindServersOnNetworkResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.FindServersRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.FindServersResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.GetEndpointsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.GetEndpointsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryData;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryEvent;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryEventFieldList;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryModifiedData;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryUpdateResult;
+import com.digitalpetri.opcua.stack.core.types.structured.InstanceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.IssuedIdentityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.KerberosIdentityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.LiteralOperand;
+import com.digitalpetri.opcua.stack.core.types.structured.MdnsDiscoveryConfiguration;
+import com.digitalpetri.opcua.stack.core.types.structured.MethodAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.MethodNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ModelChangeStructureDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ModificationInfo;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifyMonitoredItemsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifyMonitoredItemsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifySubscriptionRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ModifySubscriptionResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemCreateResult;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemModifyRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemModifyResult;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringFilterResult;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoringParameters;
+import com.digitalpetri.opcua.stack.core.types.structured.NetworkGroupDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.Node;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeReference;
+import com.digitalpetri.opcua.stack.core.types.structured.NodeTypeDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationData;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectTypeAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.ObjectTypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.OpenSecureChannelResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.OptionSet;
+import com.digitalpetri.opcua.stack.core.types.structured.ParsingResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ProgramDiagnosticDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryDataSet;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryFirstRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryFirstResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryNextRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.QueryNextResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.Range;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadAtTimeDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadEventDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadProcessedDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRawModifiedDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.RedundantServerDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceTypeAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceTypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterServer2Request;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterServer2Response;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterServerRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisterServerResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.RegisteredServer;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePath;
+import com.digitalpetri.opcua.stack.core.types.structured.RelativePathElement;
+import com.digitalpetri.opcua.stack.core.types.structured.RepublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.RepublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.SamplingIntervalDiagnosticsDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ScalarTestType;
+import com.digitalpetri.opcua.stack.core.types.structured.SemanticChangeStructureDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ServerDiagnosticsSummaryDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ServerOnNetwork;
+import com.digitalpetri.opcua.stack.core.types.structured.ServerStatusDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
+import com.digitalpetri.opcua.stack.core.types.structured.SessionDiagnosticsDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.SessionSecurityDiagnosticsDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.SetMonitoringModeRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.SetMonitoringModeResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.SetPublishingModeRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.SetPublishingModeResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.SetTriggeringRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.SetTriggeringResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.SignatureData;
+import com.digitalpetri.opcua.stack.core.types.structured.SignedSoftwareCertificate;
+import com.digitalpetri.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import com.digitalpetri.opcua.stack.core.types.structured.SoftwareCertificate;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusResult;
+import com.digitalpetri.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+import com.digitalpetri.opcua.stack.core.types.structured.SubscriptionDiagnosticsDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.SupportedProfile;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackExRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackExResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.TestStackResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.TimeZoneDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferResult;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferSubscriptionsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.TransferSubscriptionsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.TrustListDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.TypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.Union;
+import com.digitalpetri.opcua.stack.core.types.structured.UnregisterNodesRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.UnregisterNodesResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.UpdateDataDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.UpdateEventDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.UpdateStructureDataDetails;
+import com.digitalpetri.opcua.stack.core.types.structured.UserIdentityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.UserNameIdentityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.UserTokenPolicy;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableNode;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableTypeAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableTypeNode;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewAttributes;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ViewNode;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.WriteValue;
+import com.digitalpetri.opcua.stack.core.types.structured.X509IdentityToken;
+import com.digitalpetri.opcua.stack.core.types.structured.XVType;
+
+/**
+ * Maps the binary and XML encoding ids of the generated structured types to their classes, so the
+ * {@link DelegateRegistry} can initialize a type, and with it register its delegates, the first time one of its
+ * encoding ids is looked up. The DataType ids are mapped too, for encodings such as JSON that identify a structure by
+ * its DataType rather than by an encoding.
+ * <p>
+ * Generated alongside the types in {@code types.structured}; each class literal is only resolved when its case is taken.
+ */
+final class GeneratedTypeIndex {
+
+    private GeneratedTypeIndex() {}
+
+    /**
+     * @param encodingId the binary or XML encoding id of a generated structured type.
+     * @return the generated type {@code encodingId} belongs to, or {@code null} if it's not one of them.
+     */
+    static Class<?> getType(NodeId encodingId) {
+        if (encodingId.getNamespaceIndex().intValue() != 0 || !(encodingId.getIdentifier() instanceof UInteger)) {
+            return null;
+        }
+
+        switch (((UInteger) encodingId.getIdentifier()).intValue()) {
+            case 260: // Node_Encoding_DefaultBinary
+            case 259: // Node_Encoding_DefaultXml
+                return Node.class;
+            case 263: // ObjectNode_Encoding_DefaultBinary
+            case 262: // ObjectNode_Encoding_DefaultXml
+                return ObjectNode.class;
+            case 266: // ObjectTypeNode_Encoding_DefaultBinary
+            case 265: // ObjectTypeNode_Encoding_DefaultXml
+                return ObjectTypeNode.class;
+            case 269: // VariableNode_Encoding_DefaultBinary
+            case 268: // VariableNode_Encoding_DefaultXml
+                return VariableNode.class;
+            case 272: // VariableTypeNode_Encoding_DefaultBinary
+            case 271: // VariableTypeNode_Encoding_DefaultXml
+                return VariableTypeNode.class;
+            case 275: // ReferenceTypeNode_Encoding_DefaultBinary
+            case 274: // ReferenceTypeNode_Encoding_DefaultXml
+                return ReferenceTypeNode.class;
+            case 278: // MethodNode_Encoding_DefaultBinary
+            case 277: // MethodNode_Encoding_DefaultXml
+                return MethodNode.class;
+            case 281: // ViewNode_Encoding_DefaultBinary
+            case 280: // ViewNode_Encoding_DefaultXml
+                return ViewNode.class;
+            case 284: // DataTypeNode_Encoding_DefaultBinary
+            case 283: // DataTypeNode_Encoding_DefaultXml
+                return DataTypeNode.class;
+            case 287: // ReferenceNode_Encoding_DefaultBinary
+            case 286: // ReferenceNode_Encoding_DefaultXml
+                return ReferenceNode.class;
+            case 298: // Argument_Encoding_DefaultBinary
+            case 297: // Argument_Encoding_DefaultXml
+                return Argument.class;
+            case 301: // StatusResult_Encoding_DefaultBinary
+            case 300: // StatusResult_Encoding_DefaultXml
+                return StatusResult.class;
+            case 306: // UserTokenPolicy_Encoding_DefaultBinary
+            case 305: // UserTokenPolicy_Encoding_DefaultXml
+                return UserTokenPolicy.class;
+            case 310: // ApplicationDescription_Encoding_DefaultBinary
+            case 309: // ApplicationDescription_Encoding_DefaultXml
+                return ApplicationDescription.class;
+            case 314: // EndpointDescription_Encoding_DefaultBinary
+            case 313: // EndpointDescription_Encoding_DefaultXml
+                return EndpointDescription.class;
+            case 318: // UserIdentityToken_Encoding_DefaultBinary
+            case 317: // UserIdentityToken_Encoding_DefaultXml
+                return UserIdentityToken.class;
+            case 321: // AnonymousIdentityToken_Encoding_DefaultBinary
+            case 320: // AnonymousIdentityToken_Encoding_DefaultXml
+                return AnonymousIdentityToken.class;
+            case 324: // UserNameIdentityToken_Encoding_DefaultBinary
+            case 323: // UserNameIdentityToken_Encoding_DefaultXml
+                return UserNameIdentityToken.class;
+            case 327: // X509IdentityToken_Encoding_DefaultBinary
+            case 326: // X509IdentityToken_Encoding_DefaultXml
+                return X509IdentityToken.class;
+            case 333: // EndpointConfiguration_Encoding_DefaultBinary
+            case 332: // EndpointConfiguration_Encoding_DefaultXml
+                return EndpointConfiguration.class;
+            case 337: // SupportedProfile_Encoding_DefaultBinary
+            case 336: // SupportedProfile_Encoding_DefaultXml
+                return SupportedProfile.class;
+            case 340: // BuildInfo_Encoding_DefaultBinary
+            case 339: // BuildInfo_Encoding_DefaultXml
+                return BuildInfo.class;
+            case 343: // SoftwareCertificate_Encoding_DefaultBinary
+            case 342: // SoftwareCertificate_Encoding_DefaultXml
+                return SoftwareCertificate.class;
+            case 346: // SignedSoftwareCertificate_Encoding_DefaultBinary
+            case 345: // SignedSoftwareCertificate_Encoding_DefaultXml
+                return SignedSoftwareCertificate.class;
+            case 351: // NodeAttributes_Encoding_DefaultBinary
+            case 350: // NodeAttributes_Encoding_DefaultXml
+                return NodeAttributes.class;
+            case 354: // ObjectAttributes_Encoding_DefaultBinary
+            case 353: // ObjectAttributes_Encoding_DefaultXml
+                return ObjectAttributes.class;
+            case 357: // VariableAttributes_Encoding_DefaultBinary
+            case 356: // VariableAttributes_Encoding_DefaultXml
+                return VariableAttributes.class;
+            case 360: // MethodAttributes_Encoding_DefaultBinary
+            case 359: // MethodAttributes_Encoding_DefaultXml
+                return MethodAttributes.class;
+            case 363: // ObjectTypeAttributes_Encoding_DefaultBinary
+            case 362: // ObjectTypeAttributes_Encoding_DefaultXml
+                return ObjectTypeAttributes.class;
+            case 366: // VariableTypeAttributes_Encoding_DefaultBinary
+            case 365: // VariableTypeAttributes_Encoding_DefaultXml
+                return VariableTypeAttributes.class;
+            case 369: // ReferenceTypeAttributes_Encoding_DefaultBinary
+            case 368: // ReferenceTypeAttributes_Encoding_DefaultXml
+                return ReferenceTypeAttributes.class;
+            case 372: // DataTypeAttributes_Encoding_DefaultBinary
+            case 371: // DataTypeAttributes_Encoding_DefaultXml
+                return DataTypeAttributes.class;
+            case 375: // ViewAttributes_Encoding_DefaultBinary
+            case 374: // ViewAttributes_Encoding_DefaultXml
+                return ViewAttributes.class;
+            case 378: // AddNodesItem_Encoding_DefaultBinary
+            case 377: // AddNodesItem_Encoding_DefaultXml
+                return AddNodesItem.class;
+            case 381: // AddReferencesItem_Encoding_DefaultBinary
+            case 380: // AddReferencesItem_Encoding_DefaultXml
+                return AddReferencesItem.class;
+            case 384: // DeleteNodesItem_Encoding_DefaultBinary
+            case 383: // DeleteNodesItem_Encoding_DefaultXml
+                return DeleteNodesItem.class;
+            case 387: // DeleteReferencesItem_Encoding_DefaultBinary
+            case 386: // DeleteReferencesItem_Encoding_DefaultXml
+                return DeleteReferencesItem.class;
+            case 391: // RequestHeader_Encoding_DefaultBinary
+            case 390: // RequestHeader_Encoding_DefaultXml
+                return RequestHeader.class;
+            case 394: // ResponseHeader_Encoding_DefaultBinary
+            case 393: // ResponseHeader_Encoding_DefaultXml
+                return ResponseHeader.class;
+            case 397: // ServiceFault_Encoding_DefaultBinary
+            case 396: // ServiceFault_Encoding_DefaultXml
+                return ServiceFault.class;
+            case 401: // ScalarTestType_Encoding_DefaultBinary
+            case 400: // ScalarTestType_Encoding_DefaultXml
+                return ScalarTestType.class;
+            case 404: // ArrayTestType_Encoding_DefaultBinary
+            case 403: // ArrayTestType_Encoding_DefaultXml
+                return ArrayTestType.class;
+            case 407: // CompositeTestType_Encoding_DefaultBinary
+            case 406: // CompositeTestType_Encoding_DefaultXml
+                return CompositeTestType.class;
+            case 410: // TestStackRequest_Encoding_DefaultBinary
+            case 409: // TestStackRequest_Encoding_DefaultXml
+                return TestStackRequest.class;
+            case 413: // TestStackResponse_Encoding_DefaultBinary
+            case 412: // TestStackResponse_Encoding_DefaultXml
+                return TestStackResponse.class;
+            case 416: // TestStackExRequest_Encoding_DefaultBinary
+            case 415: // TestStackExRequest_Encoding_DefaultXml
+                return TestStackExRequest.class;
+            case 419: // TestStackExResponse_Encoding_DefaultBinary
+            case 418: // TestStackExResponse_Encoding_DefaultXml
+                return TestStackExResponse.class;
+            case 422: // FindServersRequest_Encoding_DefaultBinary
+            case 421: // FindServersRequest_Encoding_DefaultXml
+                return FindServersRequest.class;
+            case 425: // FindServersResponse_Encoding_DefaultBinary
+            case 424: // FindServersResponse_Encoding_DefaultXml
+                return FindServersResponse.class;
+            case 428: // GetEndpointsRequest_Encoding_DefaultBinary
+            case 427: // GetEndpointsRequest_Encoding_DefaultXml
+                return GetEndpointsRequest.class;
+            case 431: // GetEndpointsResponse_Encoding_DefaultBinary
+            case 430: // GetEndpointsResponse_Encoding_DefaultXml
+                return GetEndpointsResponse.class;
+            case 434: // RegisteredServer_Encoding_DefaultBinary
+            case 433: // RegisteredServer_Encoding_DefaultXml
+                return RegisteredServer.class;
+            case 437: // RegisterServerRequest_Encoding_DefaultBinary
+            case 436: // RegisterServerRequest_Encoding_DefaultXml
+                return RegisterServerRequest.class;
+            case 440: // RegisterServerResponse_Encoding_DefaultBinary
+            case 439: // RegisterServerResponse_Encoding_DefaultXml
+                return RegisterServerResponse.class;
+            case 443: // ChannelSecurityToken_Encoding_DefaultBinary
+            case 442: // ChannelSecurityToken_Encoding_DefaultXml
+                return ChannelSecurityToken.class;
+            case 446: // OpenSecureChannelRequest_Encoding_DefaultBinary
+            case 445: // OpenSecureChannelRequest_Encoding_DefaultXml
+                return OpenSecureChannelRequest.class;
+            case 449: // OpenSecureChannelResponse_Encoding_DefaultBinary
+            case 448: // OpenSecureChannelResponse_Encoding_DefaultXml
+                return OpenSecureChannelResponse.class;
+            case 452: // CloseSecureChannelRequest_Encoding_DefaultBinary
+            case 451: // CloseSecureChannelRequest_Encoding_DefaultXml
+                return CloseSecureChannelRequest.class;
+            case 455: // CloseSecureChannelResponse_Encoding_DefaultBinary
+            case 454: // CloseSecureChannelResponse_Encoding_DefaultXml
+                return CloseSecureChannelResponse.class;
+            case 458: // SignatureData_Encoding_DefaultBinary
+            case 457: // SignatureData_Encoding_DefaultXml
+                return SignatureData.class;
+            case 461: // CreateSessionRequest_Encoding_DefaultBinary
+            case 460: // CreateSessionRequest_Encoding_DefaultXml
+                return CreateSessionRequest.class;
+            case 464: // CreateSessionResponse_Encoding_DefaultBinary
+            case 463: // CreateSessionResponse_Encoding_DefaultXml
+                return CreateSessionResponse.class;
+            case 467: // ActivateSessionRequest_Encoding_DefaultBinary
+            case 466: // ActivateSessionRequest_Encoding_DefaultXml
+                return ActivateSessionRequest.class;
+            case 470: // ActivateSessionResponse_Encoding_DefaultBinary
+            case 469: // ActivateSessionResponse_Encoding_DefaultXml
+                return ActivateSessionResponse.class;
+            case 473: // CloseSessionRequest_Encoding_DefaultBinary
+            case 472: // CloseSessionRequest_Encoding_DefaultXml
+                return CloseSessionRequest.class;
+            case 476: // CloseSessionResponse_Encoding_DefaultBinary
+            case 475: // CloseSessionResponse_Encoding_DefaultXml
+                return CloseSessionResponse.class;
+            case 479: // CancelRequest_Encoding_DefaultBinary
+            case 478: // CancelRequest_Encoding_DefaultXml
+                return CancelRequest.class;
+            case 482: // CancelResponse_Encoding_DefaultBinary
+            case 481: // CancelResponse_Encoding_DefaultXml
+                return CancelResponse.class;
+            case 485: // AddNodesResult_Encoding_DefaultBinary
+            case 484: // AddNodesResult_Encoding_DefaultXml
+                return AddNodesResult.class;
+            case 488: // AddNodesRequest_Encoding_DefaultBinary
+            case 487: // AddNodesRequest_Encoding_DefaultXml
+                return AddNodesRequest.class;
+            case 491: // AddNodesResponse_Encoding_DefaultBinary
+            case 490: // AddNodesResponse_Encoding_DefaultXml
+                return AddNodesResponse.class;
+            case 494: // AddReferencesRequest_Encoding_DefaultBinary
+            case 493: // AddReferencesRequest_Encoding_DefaultXml
+                return AddReferencesRequest.class;
+            case 497: // AddReferencesResponse_Encoding_DefaultBinary
+            case 496: // AddReferencesResponse_Encoding_DefaultXml
+                return AddReferencesResponse.class;
+            case 500: // DeleteNodesRequest_Encoding_DefaultBinary
+            case 499: // DeleteNodesRequest_Encoding_DefaultXml
+                return DeleteNodesRequest.class;
+            case 503: // DeleteNodesResponse_Encoding_DefaultBinary
+            case 502: // DeleteNodesResponse_Encoding_DefaultXml
+                return DeleteNodesResponse.class;
+            case 506: // DeleteReferencesRequest_Encoding_DefaultBinary
+            case 505: // DeleteReferencesRequest_Encoding_DefaultXml
+                return DeleteReferencesRequest.class;
+            case 509: // DeleteReferencesResponse_Encoding_DefaultBinary
+            case 508: // DeleteReferencesResponse_Encoding_DefaultXml
+                return DeleteReferencesResponse.class;
+            case 513: // ViewDescription_Encoding_DefaultBinary
+            case 512: // ViewDescription_Encoding_DefaultXml
+                return ViewDescription.class;
+            case 516: // BrowseDescription_Encoding_DefaultBinary
+            case 515: // BrowseDescription_Encoding_DefaultXml
+                return BrowseDescription.class;
+            case 520: // ReferenceDescription_Encoding_DefaultBinary
+            case 519: // ReferenceDescription_Encoding_DefaultXml
+                return ReferenceDescription.class;
+            case 524: // BrowseResult_Encoding_DefaultBinary
+            case 523: // BrowseResult_Encoding_DefaultXml
+                return BrowseResult.class;
+            case 527: // BrowseRequest_Encoding_DefaultBinary
+            case 526: // BrowseRequest_Encoding_DefaultXml
+                return BrowseRequest.class;
+            case 530: // BrowseResponse_Encoding_DefaultBinary
+            case 529: // BrowseResponse_Encoding_DefaultXml
+                return BrowseResponse.class;
+            case 533: // BrowseNextRequest_Encoding_DefaultBinary
+            case 532: // BrowseNextRequest_Encoding_DefaultXml
+                return BrowseNextRequest.class;
+            case 536: // BrowseNextResponse_Encoding_DefaultBinary
+            case 535: // BrowseNextResponse_Encoding_DefaultXml
+                return BrowseNextResponse.class;
+            case 539: // RelativePathElement_Encoding_DefaultBinary
+            case 538: // RelativePathElement_Encoding_DefaultXml
+                return RelativePathElement.class;
+            case 542: // RelativePath_Encoding_DefaultBinary
+            case 541: // RelativePath_Encoding_DefaultXml
+                return RelativePath.class;
+            case 545: // BrowsePath_Encoding_DefaultBinary
+            case 544: // BrowsePath_Encoding_DefaultXml
+                return BrowsePath.class;
+            case 548: // BrowsePathTarget_Encoding_DefaultBinary
+            case 547: // BrowsePathTarget_Encoding_DefaultXml
+                return BrowsePathTarget.class;
+            case 551: // BrowsePathResult_Encoding_DefaultBinary
+            case 550: // BrowsePathResult_Encoding_DefaultXml
+                return BrowsePathResult.class;
+            case 554: // TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultBinary
+            case 553: // TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultXml
+                return TranslateBrowsePathsToNodeIdsRequest.class;
+            case 557: // TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultBinary
+            case 556: // TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultXml
+                return TranslateBrowsePathsToNodeIdsResponse.class;
+            case 560: // RegisterNodesRequest_Encoding_DefaultBinary
+            case 559: // RegisterNodesRequest_Encoding_DefaultXml
+                return RegisterNodesRequest.class;
+            case 563: // RegisterNodesResponse_Encoding_DefaultBinary
+            case 562: // RegisterNodesResponse_Encoding_DefaultXml
+                return RegisterNodesResponse.class;
+            case 566: // UnregisterNodesRequest_Encoding_DefaultBinary
+            case 565: // UnregisterNodesRequest_Encoding_DefaultXml
+                return UnregisterNodesRequest.class;
+            case 569: // UnregisterNodesResponse_Encoding_DefaultBinary
+            case 568: // UnregisterNodesResponse_Encoding_DefaultXml
+                return UnregisterNodesResponse.class;
+            case 572: // QueryDataDescription_Encoding_DefaultBinary
+            case 571: // QueryDataDescription_Encoding_DefaultXml
+                return QueryDataDescription.class;
+            case 575: // NodeTypeDescription_Encoding_DefaultBinary
+            case 574: // NodeTypeDescription_Encoding_DefaultXml
+                return NodeTypeDescription.class;
+            case 579: // QueryDataSet_Encoding_DefaultBinary
+            case 578: // QueryDataSet_Encoding_DefaultXml
+                return QueryDataSet.class;
+            case 582: // NodeReference_Encoding_DefaultBinary
+            case 581: // NodeReference_Encoding_DefaultXml
+                return NodeReference.class;
+            case 585: // ContentFilterElement_Encoding_DefaultBinary
+            case 584: // ContentFilterElement_Encoding_DefaultXml
+                return ContentFilterElement.class;
+            case 588: // ContentFilter_Encoding_DefaultBinary
+            case 587: // ContentFilter_Encoding_DefaultXml
+                return ContentFilter.class;
+            case 591: // FilterOperand_Encoding_DefaultBinary
+            case 590: // FilterOperand_Encoding_DefaultXml
+                return FilterOperand.class;
+            case 594: // ElementOperand_Encoding_DefaultBinary
+            case 593: // ElementOperand_Encoding_DefaultXml
+                return ElementOperand.class;
+            case 597: // LiteralOperand_Encoding_DefaultBinary
+            case 596: // LiteralOperand_Encoding_DefaultXml
+                return LiteralOperand.class;
+            case 600: // AttributeOperand_Encoding_DefaultBinary
+            case 599: // AttributeOperand_Encoding_DefaultXml
+                return AttributeOperand.class;
+            case 603: // SimpleAttributeOperand_Encoding_DefaultBinary
+            case 602: // SimpleAttributeOperand_Encoding_DefaultXml
+                return SimpleAttributeOperand.class;
+            case 606: // ContentFilterElementResult_Encoding_DefaultBinary
+            case 605: // ContentFilterElementResult_Encoding_DefaultXml
+                return ContentFilterElementResult.class;
+            case 609: // ContentFilterResult_Encoding_DefaultBinary
+            case 608: // ContentFilterResult_Encoding_DefaultXml
+                return ContentFilterResult.class;
+            case 612: // ParsingResult_Encoding_DefaultBinary
+            case 611: // ParsingResult_Encoding_DefaultXml
+                return ParsingResult.class;
+            case 615: // QueryFirstRequest_Encoding_DefaultBinary
+            case 614: // QueryFirstRequest_Encoding_DefaultXml
+                return QueryFirstRequest.class;
+            case 618: // QueryFirstResponse_Encoding_DefaultBinary
+            case 617: // QueryFirstResponse_Encoding_DefaultXml
+                return QueryFirstResponse.class;
+            case 621: // QueryNextRequest_Encoding_DefaultBinary
+            case 620: // QueryNextRequest_Encoding_DefaultXml
+                return QueryNextRequest.class;
+            case 624: // QueryNextResponse_Encoding_DefaultBinary
+            case 623: // QueryNextResponse_Encoding_DefaultXml
+                return QueryNextResponse.class;
+            case 628: // ReadValueId_Encoding_DefaultBinary
+            case 627: // ReadValueId_Encoding_DefaultXml
+                return ReadValueId.class;
+            case 631: // ReadRequest_Encoding_DefaultBinary
+            case 630: // ReadRequest_Encoding_DefaultXml
+                return ReadRequest.class;
+            case 634: // ReadResponse_Encoding_DefaultBinary
+            case 633: // ReadResponse_Encoding_DefaultXml
+                return ReadResponse.class;
+            case 637: // HistoryReadValueId_Encoding_DefaultBinary
+            case 636: // HistoryReadValueId_Encoding_DefaultXml
+                return HistoryReadValueId.class;
+            case 640: // HistoryReadResult_Encoding_DefaultBinary
+            case 639: // HistoryReadResult_Encoding_DefaultXml
+                return HistoryReadResult.class;
+            case 643: // HistoryReadDetails_Encoding_DefaultBinary
+            case 642: // HistoryReadDetails_Encoding_DefaultXml
+                return HistoryReadDetails.class;
+            case 646: // ReadEventDetails_Encoding_DefaultBinary
+            case 645: // ReadEventDetails_Encoding_DefaultXml
+                return ReadEventDetails.class;
+            case 649: // ReadRawModifiedDetails_Encoding_DefaultBinary
+            case 648: // ReadRawModifiedDetails_Encoding_DefaultXml
+                return ReadRawModifiedDetails.class;
+            case 652: // ReadProcessedDetails_Encoding_DefaultBinary
+            case 651: // ReadProcessedDetails_Encoding_DefaultXml
+                return ReadProcessedDetails.class;
+            case 655: // ReadAtTimeDetails_Encoding_DefaultBinary
+            case 654: // ReadAtTimeDetails_Encoding_DefaultXml
+                return ReadAtTimeDetails.class;
+            case 658: // HistoryData_Encoding_DefaultBinary
+            case 657: // HistoryData_Encoding_DefaultXml
+                return HistoryData.class;
+            case 661: // HistoryEvent_Encoding_DefaultBinary
+            case 660: // HistoryEvent_Encoding_DefaultXml
+                return HistoryEvent.class;
+            case 664: // HistoryReadRequest_Encoding_DefaultBinary
+            case 663: // HistoryReadRequest_Encoding_DefaultXml
+                return HistoryReadRequest.class;
+            case 667: // HistoryReadResponse_Encoding_DefaultBinary
+            case 666: // HistoryReadResponse_Encoding_DefaultXml
+                return HistoryReadResponse.class;
+            case 670: // WriteValue_Encoding_DefaultBinary
+            case 669: // WriteValue_Encoding_DefaultXml
+                return WriteValue.class;
+            case 673: // WriteRequest_Encoding_DefaultBinary
+            case 672: // WriteRequest_Encoding_DefaultXml
+                return WriteRequest.class;
+            case 676: // WriteResponse_Encoding_DefaultBinary
+            case 675: // WriteResponse_Encoding_DefaultXml
+                return WriteResponse.class;
+            case 679: // HistoryUpdateDetails_Encoding_DefaultBinary
+            case 678: // HistoryUpdateDetails_Encoding_DefaultXml
+                return HistoryUpdateDetails.class;
+            case 682: // UpdateDataDetails_Encoding_DefaultBinary
+            case 681: // UpdateDataDetails_Encoding_DefaultXml
+                return UpdateDataDetails.class;
+            case 685: // UpdateEventDetails_Encoding_DefaultBinary
+            case 684: // UpdateEventDetails_Encoding_DefaultXml
+                return UpdateEventDetails.class;
+            case 688: // DeleteRawModifiedDetails_Encoding_DefaultBinary
+            case 687: // DeleteRawModifiedDetails_Encoding_DefaultXml
+                return DeleteRawModifiedDetails.class;
+            case 691: // DeleteAtTimeDetails_Encoding_DefaultBinary
+            case 690: // DeleteAtTimeDetails_Encoding_DefaultXml
+                return DeleteAtTimeDetails.class;
+            case 694: // DeleteEventDetails_Encoding_DefaultBinary
+            case 693: // DeleteEventDetails_Encoding_DefaultXml
+                return DeleteEventDetails.class;
+            case 697: // HistoryUpdateResult_Encoding_DefaultBinary
+            case 696: // HistoryUpdateResult_Encoding_DefaultXml
+                return HistoryUpdateResult.class;
+            case 700: // HistoryUpdateRequest_Encoding_DefaultBinary
+            case 699: // HistoryUpdateRequest_Encoding_DefaultXml
+                return HistoryUpdateRequest.class;
+            case 703: // HistoryUpdateResponse_Encoding_DefaultBinary
+            case 702: // HistoryUpdateResponse_Encoding_DefaultXml
+                return HistoryUpdateResponse.class;
+            case 706: // CallMethodRequest_Encoding_DefaultBinary
+            case 705: // CallMethodRequest_Encoding_DefaultXml
+                return CallMethodRequest.class;
+            case 709: // CallMethodResult_Encoding_DefaultBinary
+            case 708: // CallMethodResult_Encoding_DefaultXml
+                return CallMethodResult.class;
+            case 712: // CallRequest_Encoding_DefaultBinary
+            case 711: // CallRequest_Encoding_DefaultXml
+                return CallRequest.class;
+            case 715: // CallResponse_Encoding_DefaultBinary
+            case 714: // CallResponse_Encoding_DefaultXml
+                return CallResponse.class;
+            case 721: // MonitoringFilter_Encoding_DefaultBinary
+            case 720: // MonitoringFilter_Encoding_DefaultXml
+                return MonitoringFilter.class;
+            case 724: // DataChangeFilter_Encoding_DefaultBinary
+            case 723: // DataChangeFilter_Encoding_DefaultXml
+                return DataChangeFilter.class;
+            case 727: // EventFilter_Encoding_DefaultBinary
+            case 726: // EventFilter_Encoding_DefaultXml
+                return EventFilter.class;
+            case 730: // AggregateFilter_Encoding_DefaultBinary
+            case 729: // AggregateFilter_Encoding_DefaultXml
+                return AggregateFilter.class;
+            case 733: // MonitoringFilterResult_Encoding_DefaultBinary
+            case 732: // MonitoringFilterResult_Encoding_DefaultXml
+                return MonitoringFilterResult.class;
+            case 736: // EventFilterResult_Encoding_DefaultBinary
+            case 735: // EventFilterResult_Encoding_DefaultXml
+                return EventFilterResult.class;
+            case 739: // AggregateFilterResult_Encoding_DefaultBinary
+            case 738: // AggregateFilterResult_Encoding_DefaultXml
+                return AggregateFilterResult.class;
+            case 742: // MonitoringParameters_Encoding_DefaultBinary
+            case 741: // MonitoringParameters_Encoding_DefaultXml
+                return MonitoringParameters.class;
+            case 745: // MonitoredItemCreateRequest_Encoding_DefaultBinary
+            case 744: // MonitoredItemCreateRequest_Encoding_DefaultXml
+                return MonitoredItemCreateRequest.class;
+            case 748: // MonitoredItemCreateResult_Encoding_DefaultBinary
+            case 747: // MonitoredItemCreateResult_Encoding_DefaultXml
+                return MonitoredItemCreateResult.class;
+            case 751: // CreateMonitoredItemsRequest_Encoding_DefaultBinary
+            case 750: // CreateMonitoredItemsRequest_Encoding_DefaultXml
+                return CreateMonitoredItemsRequest.class;
+            case 754: // CreateMonitoredItemsResponse_Encoding_DefaultBinary
+            case 753: // CreateMonitoredItemsResponse_Encoding_DefaultXml
+                return CreateMonitoredItemsResponse.class;
+            case 757: // MonitoredItemModifyRequest_Encoding_DefaultBinary
+            case 756: // MonitoredItemModifyRequest_Encoding_DefaultXml
+                return MonitoredItemModifyRequest.class;
+            case 760: // MonitoredItemModifyResult_Encoding_DefaultBinary
+            case 759: // MonitoredItemModifyResult_Encoding_DefaultXml
+                return MonitoredItemModifyResult.class;
+            case 763: // ModifyMonitoredItemsRequest_Encoding_DefaultBinary
+            case 762: // ModifyMonitoredItemsRequest_Encoding_DefaultXml
+                return ModifyMonitoredItemsRequest.class;
+            case 766: // ModifyMonitoredItemsResponse_Encoding_DefaultBinary
+            case 765: // ModifyMonitoredItemsResponse_Encoding_DefaultXml
+                return ModifyMonitoredItemsResponse.class;
+            case 769: // SetMonitoringModeRequest_Encoding_DefaultBinary
+            case 768: // SetMonitoringModeRequest_Encoding_DefaultXml
+                return SetMonitoringModeRequest.class;
+            case 772: // SetMonitoringModeResponse_Encoding_DefaultBinary
+            case 771: // SetMonitoringModeResponse_Encoding_DefaultXml
+                return SetMonitoringModeResponse.class;
+            case 775: // SetTriggeringRequest_Encoding_DefaultBinary
+            case 774: // SetTriggeringRequest_Encoding_DefaultXml
+                return SetTriggeringRequest.class;
+            case 778: // SetTriggeringResponse_Encoding_DefaultBinary
+            case 777: // SetTriggeringResponse_Encoding_DefaultXml
+                return SetTriggeringResponse.class;
+            case 781: // DeleteMonitoredItemsRequest_Encoding_DefaultBinary
+            case 780: // DeleteMonitoredItemsRequest_Encoding_DefaultXml
+                return DeleteMonitoredItemsRequest.class;
+            case 784: // DeleteMonitoredItemsResponse_Encoding_DefaultBinary
+            case 783: // DeleteMonitoredItemsResponse_Encoding_DefaultXml
+                return DeleteMonitoredItemsResponse.class;
+            case 787: // CreateSubscriptionRequest_Encoding_DefaultBinary
+            case 786: // CreateSubscriptionRequest_Encoding_DefaultXml
+                return CreateSubscriptionRequest.class;
+            case 790: // CreateSubscriptionResponse_Encoding_DefaultBinary
+            case 789: // CreateSubscriptionResponse_Encoding_DefaultXml
+                return CreateSubscriptionResponse.class;
+            case 793: // ModifySubscriptionRequest_Encoding_DefaultBinary
+            case 792: // ModifySubscriptionRequest_Encoding_DefaultXml
+                return ModifySubscriptionRequest.class;
+            case 796: // ModifySubscriptionResponse_Encoding_DefaultBinary
+            case 795: // ModifySubscriptionResponse_Encoding_DefaultXml
+                return ModifySubscriptionResponse.class;
+            case 799: // SetPublishingModeRequest_Encoding_DefaultBinary
+            case 798: // SetPublishingModeRequest_Encoding_DefaultXml
+                return SetPublishingModeRequest.class;
+            case 802: // SetPublishingModeResponse_Encoding_DefaultBinary
+            case 801: // SetPublishingModeResponse_Encoding_DefaultXml
+                return SetPublishingModeResponse.class;
+            case 805: // NotificationMessage_Encoding_DefaultBinary
+            case 804: // NotificationMessage_Encoding_DefaultXml
+                return NotificationMessage.class;
+            case 808: // MonitoredItemNotification_Encoding_DefaultBinary
+            case 807: // MonitoredItemNotification_Encoding_DefaultXml
+                return MonitoredItemNotification.class;
+            case 811: // DataChangeNotification_Encoding_DefaultBinary
+            case 810: // DataChangeNotification_Encoding_DefaultXml
+                return DataChangeNotification.class;
+            case 820: // StatusChangeNotification_Encoding_DefaultBinary
+            case 819: // StatusChangeNotification_Encoding_DefaultXml
+                return StatusChangeNotification.class;
+            case 823: // SubscriptionAcknowledgement_Encoding_DefaultBinary
+            case 822: // SubscriptionAcknowledgement_Encoding_DefaultXml
+                return SubscriptionAcknowledgement.class;
+            case 826: // PublishRequest_Encoding_DefaultBinary
+            case 825: // PublishRequest_Encoding_DefaultXml
+                return PublishRequest.class;
+            case 829: // PublishResponse_Encoding_DefaultBinary
+            case 828: // PublishResponse_Encoding_DefaultXml
+                return PublishResponse.class;
+            case 832: // RepublishRequest_Encoding_DefaultBinary
+            case 831: // RepublishRequest_Encoding_DefaultXml
+                return RepublishRequest.class;
+            case 835: // RepublishResponse_Encoding_DefaultBinary
+            case 834: // RepublishResponse_Encoding_DefaultXml
+                return RepublishResponse.class;
+            case 838: // TransferResult_Encoding_DefaultBinary
+            case 837: // TransferResult_Encoding_DefaultXml
+                return TransferResult.class;
+            case 841: // TransferSubscriptionsRequest_Encoding_DefaultBinary
+            case 840: // TransferSubscriptionsRequest_Encoding_DefaultXml
+                return TransferSubscriptionsRequest.class;
+            case 844: // TransferSubscriptionsResponse_Encoding_DefaultBinary
+            case 843: // TransferSubscriptionsResponse_Encoding_DefaultXml
+                return TransferSubscriptionsResponse.class;
+            case 847: // DeleteSubscriptionsRequest_Encoding_DefaultBinary
+            case 846: // DeleteSubscriptionsRequest_Encoding_DefaultXml
+                return DeleteSubscriptionsRequest.class;
+            case 850: // DeleteSubscriptionsResponse_Encoding_DefaultBinary
+            case 849: // DeleteSubscriptionsResponse_Encoding_DefaultXml
+                return DeleteSubscriptionsResponse.class;
+            case 855: // RedundantServerDataType_Encoding_DefaultBinary
+            case 854: // RedundantServerDataType_Encoding_DefaultXml
+                return RedundantServerDataType.class;
+            case 858: // SamplingIntervalDiagnosticsDataType_Encoding_DefaultBinary
+            case 857: // SamplingIntervalDiagnosticsDataType_Encoding_DefaultXml
+                return SamplingIntervalDiagnosticsDataType.class;
+            case 861: // ServerDiagnosticsSummaryDataType_Encoding_DefaultBinary
+            case 860: // ServerDiagnosticsSummaryDataType_Encoding_DefaultXml
+                return ServerDiagnosticsSummaryDataType.class;
+            case 864: // ServerStatusDataType_Encoding_DefaultBinary
+            case 863: // ServerStatusDataType_Encoding_DefaultXml
+                return ServerStatusDataType.class;
+            case 867: // SessionDiagnosticsDataType_Encoding_DefaultBinary
+            case 866: // SessionDiagnosticsDataType_Encoding_DefaultXml
+                return SessionDiagnosticsDataType.class;
+            case 870: // SessionSecurityDiagnosticsDataType_Encoding_DefaultBinary
+            case 869: // SessionSecurityDiagnosticsDataType_Encoding_DefaultXml
+                return SessionSecurityDiagnosticsDataType.class;
+            case 873: // ServiceCounterDataType_Encoding_DefaultBinary
+            case 872: // ServiceCounterDataType_Encoding_DefaultXml
+                return ServiceCounterDataType.class;
+            case 876: // SubscriptionDiagnosticsDataType_Encoding_DefaultBinary
+            case 875: // SubscriptionDiagnosticsDataType_Encoding_DefaultXml
+                return SubscriptionDiagnosticsDataType.class;
+            case 879: // ModelChangeStructureDataType_Encoding_DefaultBinary
+            case 878: // ModelChangeStructureDataType_Encoding_DefaultXml
+                return ModelChangeStructureDataType.class;
+            case 886: // Range_Encoding_DefaultBinary
+            case 885: // Range_Encoding_DefaultXml
+                return Range.class;
+            case 889: // EUInformation_Encoding_DefaultBinary
+            case 888: // EUInformation_Encoding_DefaultXml
+                return EUInformation.class;
+            case 893: // Annotation_Encoding_DefaultBinary
+            case 892: // Annotation_Encoding_DefaultXml
+                return Annotation.class;
+            case 896: // ProgramDiagnosticDataType_Encoding_DefaultBinary
+            case 895: // ProgramDiagnosticDataType_Encoding_DefaultXml
+                return ProgramDiagnosticDataType.class;
+            case 899: // SemanticChangeStructureDataType_Encoding_DefaultBinary
+            case 898: // SemanticChangeStructureDataType_Encoding_DefaultXml
+                return SemanticChangeStructureDataType.class;
+            case 916: // EventNotificationList_Encoding_DefaultBinary
+            case 915: // EventNotificationList_Encoding_DefaultXml
+                return EventNotificationList.class;
+            case 919: // EventFieldList_Encoding_DefaultBinary
+            case 918: // EventFieldList_Encoding_DefaultXml
+                return EventFieldList.class;
+            case 922: // HistoryEventFieldList_Encoding_DefaultBinary
+            case 921: // HistoryEventFieldList_Encoding_DefaultXml
+                return HistoryEventFieldList.class;
+            case 940: // IssuedIdentityToken_Encoding_DefaultBinary
+            case 939: // IssuedIdentityToken_Encoding_DefaultXml
+                return IssuedIdentityToken.class;
+            case 947: // NotificationData_Encoding_DefaultBinary
+            case 946: // NotificationData_Encoding_DefaultXml
+                return NotificationData.class;
+            case 950: // AggregateConfiguration_Encoding_DefaultBinary
+            case 949: // AggregateConfiguration_Encoding_DefaultXml
+                return AggregateConfiguration.class;
+            case 8251: // EnumValueType_Encoding_DefaultBinary
+            case 7616: // EnumValueType_Encoding_DefaultXml
+                return EnumValueType.class;
+            case 8917: // TimeZoneDataType_Encoding_DefaultBinary
+            case 8913: // TimeZoneDataType_Encoding_DefaultXml
+                return TimeZoneDataType.class;
+            case 11226: // ModificationInfo_Encoding_DefaultBinary
+            case 11218: // ModificationInfo_Encoding_DefaultXml
+                return ModificationInfo.class;
+            case 11227: // HistoryModifiedData_Encoding_DefaultBinary
+            case 11219: // HistoryModifiedData_Encoding_DefaultXml
+                return HistoryModifiedData.class;
+            case 11300: // UpdateStructureDataDetails_Encoding_DefaultBinary
+            case 11296: // UpdateStructureDataDetails_Encoding_DefaultXml
+                return UpdateStructureDataDetails.class;
+            case 11889: // InstanceNode_Encoding_DefaultBinary
+            case 11887: // InstanceNode_Encoding_DefaultXml
+                return InstanceNode.class;
+            case 11890: // TypeNode_Encoding_DefaultBinary
+            case 11888: // TypeNode_Encoding_DefaultXml
+                return TypeNode.class;
+            case 11957: // EndpointUrlListDataType_Encoding_DefaultBinary
+            case 11949: // EndpointUrlListDataType_Encoding_DefaultXml
+                return EndpointUrlListDataType.class;
+            case 11958: // NetworkGroupDataType_Encoding_DefaultBinary
+            case 11950: // NetworkGroupDataType_Encoding_DefaultXml
+                return NetworkGroupDataType.class;
+            case 12089: // AxisInformation_Encoding_DefaultBinary
+            case 12081: // AxisInformation_Encoding_DefaultXml
+                return AxisInformation.class;
+            case 12090: // XVType_Encoding_DefaultBinary
+            case 12082: // XVType_Encoding_DefaultXml
+                return XVType.class;
+            case 12181: // ComplexNumberType_Encoding_DefaultBinary
+            case 12173: // ComplexNumberType_Encoding_DefaultXml
+                return ComplexNumberType.class;
+            case 12182: // DoubleComplexNumberType_Encoding_DefaultBinary
+            case 12174: // DoubleComplexNumberType_Encoding_DefaultXml
+                return DoubleComplexNumberType.class;
+            case 12207: // ServerOnNetwork_Encoding_DefaultBinary
+            case 12195: // ServerOnNetwork_Encoding_DefaultXml
+                return ServerOnNetwork.class;
+            case 12208: // FindServersOnNetworkRequest_Encoding_DefaultBinary
+            case 12196: // FindServersOnNetworkRequest_Encoding_DefaultXml
+                return FindServersOnNetworkRequest.class;
+            case 12209: // FindServersOnNetworkResponse_Encoding_DefaultBinary
+            case 12197: // FindServersOnNetworkResponse_Encoding_DefaultXml
+                return FindServersOnNetworkResponse.class;
+            case 12211: // RegisterServer2Request_Encoding_DefaultBinary
+            case 12199: // RegisterServer2Request_Encoding_DefaultXml
+                return RegisterServer2Request.class;
+            case 12212: // RegisterServer2Response_Encoding_DefaultBinary
+            case 12200: // RegisterServer2Response_Encoding_DefaultXml
+                return RegisterServer2Response.class;
+            case 12509: // KerberosIdentityToken_Encoding_DefaultBinary
+            case 12505: // KerberosIdentityToken_Encoding_DefaultXml
+                return KerberosIdentityToken.class;
+            case 12680: // TrustListDataType_Encoding_DefaultBinary
+            case 12676: // TrustListDataType_Encoding_DefaultXml
+                return TrustListDataType.class;
+            case 12765: // OptionSet_Encoding_DefaultBinary
+            case 12757: // OptionSet_Encoding_DefaultXml
+                return OptionSet.class;
+            case 12766: // Union_Encoding_DefaultBinary
+            case 12758: // Union_Encoding_DefaultXml
+                return Union.class;
+            case 12900: // DiscoveryConfiguration_Encoding_DefaultBinary
+            case 12892: // DiscoveryConfiguration_Encoding_DefaultXml
+                return DiscoveryConfiguration.class;
+            case 12901: // MdnsDiscoveryConfiguration_Encoding_DefaultBinary
+            case 12893: // MdnsDiscoveryConfiguration_Encoding_DefaultXml
+                return MdnsDiscoveryConfiguration.class;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param dataTypeId the DataType id of a generated structured type.
+     * @return the generated type {@code dataTypeId} identifies, or {@code null} if it's not one of them.
+     */
+    static Class<?> getTypeForDataType(NodeId dataTypeId) {
+        if (dataTypeId.getNamespaceIndex().intValue() != 0 || !(dataTypeId.getIdentifier() instanceof UInteger)) {
+            return null;
+        }
+
+        switch (((UInteger) dataTypeId.getIdentifier()).intValue()) {
+            case 258: // Node
+                return Node.class;
+            case 261: // ObjectNode
+                return ObjectNode.class;
+            case 264: // ObjectTypeNode
+                return ObjectTypeNode.class;
+            case 267: // VariableNode
+                return VariableNode.class;
+            case 270: // VariableTypeNode
+                return VariableTypeNode.class;
+            case 273: // ReferenceTypeNode
+                return ReferenceTypeNode.class;
+            case 276: // MethodNode
+                return MethodNode.class;
+            case 279: // ViewNode
+                return ViewNode.class;
+            case 282: // DataTypeNode
+                return DataTypeNode.class;
+            case 285: // ReferenceNode
+                return ReferenceNode.class;
+            case 296: // Argument
+                return Argument.class;
+            case 299: // StatusResult
+                return StatusResult.class;
+            case 304: // UserTokenPolicy
+                return UserTokenPolicy.class;
+            case 308: // ApplicationDescription
+                return ApplicationDescription.class;
+            case 312: // EndpointDescription
+                return EndpointDescription.class;
+            case 316: // UserIdentityToken
+                return UserIdentityToken.class;
+            case 319: // AnonymousIdentityToken
+                return AnonymousIdentityToken.class;
+            case 322: // UserNameIdentityToken
+                return UserNameIdentityToken.class;
+            case 325: // X509IdentityToken
+                return X509IdentityToken.class;
+            case 331: // EndpointConfiguration
+                return EndpointConfiguration.class;
+            case 335: // SupportedProfile
+                return SupportedProfile.class;
+            case 338: // BuildInfo
+                return BuildInfo.class;
+            case 341: // SoftwareCertificate
+                return SoftwareCertificate.class;
+            case 344: // SignedSoftwareCertificate
+                return SignedSoftwareCertificate.class;
+            case 349: // NodeAttributes
+                return NodeAttributes.class;
+            case 352: // ObjectAttributes
+                return ObjectAttributes.class;
+            case 355: // VariableAttributes
+                return VariableAttributes.class;
+            case 358: // MethodAttributes
+                return MethodAttributes.class;
+            case 361: // ObjectTypeAttributes
+                return ObjectTypeAttributes.class;
+            case 364: // VariableTypeAttributes
+                return VariableTypeAttributes.class;
+            case 367: // ReferenceTypeAttributes
+                return ReferenceTypeAttributes.class;
+            case 370: // DataTypeAttributes
+                return DataTypeAttributes.class;
+            case 373: // ViewAttributes
+                return ViewAttributes.class;
+            case 376: // AddNodesItem
+                return AddNodesItem.class;
+            case 379: // AddReferencesItem
+                return AddReferencesItem.class;
+            case 382: // DeleteNodesItem
+                return DeleteNodesItem.class;
+            case 385: // DeleteReferencesItem
+                return DeleteReferencesItem.class;
+            case 389: // RequestHeader
+                return RequestHeader.class;
+            case 392: // ResponseHeader
+                return ResponseHeader.class;
+            case 395: // ServiceFault
+                return ServiceFault.class;
+            case 399: // ScalarTestType
+                return ScalarTestType.class;
+            case 402: // ArrayTestType
+                return ArrayTestType.class;
+            case 405: // CompositeTestType
+                return CompositeTestType.class;
+            case 408: // TestStackRequest
+                return TestStackRequest.class;
+            case 411: // TestStackResponse
+                return TestStackResponse.class;
+            case 414: // TestStackExRequest
+                return TestStackExRequest.class;
+            case 417: // TestStackExResponse
+                return TestStackExResponse.class;
+            case 420: // FindServersRequest
+                return FindServersRequest.class;
+            case 423: // FindServersResponse
+                return FindServersResponse.class;
+            case 426: // GetEndpointsRequest
+                return GetEndpointsRequest.class;
+            case 429: // GetEndpointsResponse
+                return GetEndpointsResponse.class;
+            case 432: // RegisteredServer
+                return RegisteredServer.class;
+            case 435: // RegisterServerRequest
+                return RegisterServerRequest.class;
+            case 438: // RegisterServerResponse
+                return RegisterServerResponse.class;
+            case 441: // ChannelSecurityToken
+                return ChannelSecurityToken.class;
+            case 444: // OpenSecureChannelRequest
+                return OpenSecureChannelRequest.class;
+            case 447: // OpenSecureChannelResponse
+                return OpenSecureChannelResponse.class;
+            case 450: // CloseSecureChannelRequest
+                return CloseSecureChannelRequest.class;
+            case 453: // CloseSecureChannelResponse
+                return CloseSecureChannelResponse.class;
+            case 456: // SignatureData
+                return SignatureData.class;
+            case 459: // CreateSessionRequest
+                return CreateSessionRequest.class;
+            case 462: // CreateSessionResponse
+                return CreateSessionResponse.class;
+            case 465: // ActivateSessionRequest
+                return ActivateSessionRequest.class;
+            case 468: // ActivateSessionResponse
+                return ActivateSessionResponse.class;
+            case 471: // CloseSessionRequest
+                return CloseSessionRequest.class;
+            case 474: // CloseSessionResponse
+                return CloseSessionResponse.class;
+            case 477: // CancelRequest
+                return CancelRequest.class;
+            case 480: // CancelResponse
+                return CancelResponse.class;
+            case 483: // AddNodesResult
+                return AddNodesResult.class;
+            case 486: // AddNodesRequest
+                return AddNodesRequest.class;
+            case 489: // AddNodesResponse
+                return AddNodesResponse.class;
+            case 492: // AddReferencesRequest
+                return AddReferencesRequest.class;
+            case 495: // AddReferencesResponse
+                return AddReferencesResponse.class;
+            case 498: // DeleteNodesRequest
+                return DeleteNodesRequest.class;
+            case 501: // DeleteNodesResponse
+                return DeleteNodesResponse.class;
+            case 504: // DeleteReferencesRequest
+                return DeleteReferencesRequest.class;
+            case 507: // DeleteReferencesResponse
+                return DeleteReferencesResponse.class;
+            case 511: // ViewDescription
+                return ViewDescription.class;
+            case 514: // BrowseDescription
+                return BrowseDescription.class;
+            case 518: // ReferenceDescription
+                return ReferenceDescription.class;
+            case 522: // BrowseResult
+                return BrowseResult.class;
+            case 525: // BrowseRequest
+                return BrowseRequest.class;
+            case 528: // BrowseResponse
+                return BrowseResponse.class;
+            case 531: // BrowseNextRequest
+                return BrowseNextRequest.class;
+            case 534: // BrowseNextResponse
+                return BrowseNextResponse.class;
+            case 537: // RelativePathElement
+                return RelativePathElement.class;
+            case 540: // RelativePath
+                return RelativePath.class;
+            case 543: // BrowsePath
+                return BrowsePath.class;
+            case 546: // BrowsePathTarget
+                return BrowsePathTarget.class;
+            case 549: // BrowsePathResult
+                return BrowsePathResult.class;
+            case 552: // TranslateBrowsePathsToNodeIdsRequest
+                return TranslateBrowsePathsToNodeIdsRequest.class;
+            case 555: // TranslateBrowsePathsToNodeIdsResponse
+                return TranslateBrowsePathsToNodeIdsResponse.class;
+            case 558: // RegisterNodesRequest
+                return RegisterNodesRequest.class;
+            case 561: // RegisterNodesResponse
+                return RegisterNodesResponse.class;
+            case 564: // UnregisterNodesRequest
+                return UnregisterNodesRequest.class;
+            case 567: // UnregisterNodesResponse
+                return UnregisterNodesResponse.class;
+            case 570: // QueryDataDescription
+                return QueryDataDescription.class;
+            case 573: // NodeTypeDescription
+                return NodeTypeDescription.class;
+            case 577: // QueryDataSet
+                return QueryDataSet.class;
+            case 580: // NodeReference
+                return NodeReference.class;
+            case 583: // ContentFilterElement
+                return ContentFilterElement.class;
+            case 586: // ContentFilter
+                return ContentFilter.class;
+            case 589: // FilterOperand
+                return FilterOperand.class;
+            case 592: // ElementOperand
+                return ElementOperand.class;
+            case 595: // LiteralOperand
+                return LiteralOperand.class;
+            case 598: // AttributeOperand
+                return AttributeOperand.class;
+            case 601: // SimpleAttributeOperand
+                return SimpleAttributeOperand.class;
+            case 604: // ContentFilterElementResult
+                return ContentFilterElementResult.class;
+            case 607: // ContentFilterResult
+                return ContentFilterResult.class;
+            case 610: // ParsingResult
+                return ParsingResult.class;
+            case 613: // QueryFirstRequest
+                return QueryFirstRequest.class;
+            case 616: // QueryFirstResponse
+                return QueryFirstResponse.class;
+            case 619: // QueryNextRequest
+                return QueryNextRequest.class;
+            case 622: // QueryNextResponse
+                return QueryNextResponse.class;
+            case 626: // ReadValueId
+                return ReadValueId.class;
+            case 629: // ReadRequest
+                return ReadRequest.class;
+            case 632: // ReadResponse
+                return ReadResponse.class;
+            case 635: // HistoryReadValueId
+                return HistoryReadValueId.class;
+            case 638: // HistoryReadResult
+                return HistoryReadResult.class;
+            case 641: // HistoryReadDetails
+                return HistoryReadDetails.class;
+            case 644: // ReadEventDetails
+                return ReadEventDetails.class;
+            case 647: // ReadRawModifiedDetails
+                return ReadRawModifiedDetails.class;
+            case 650: // ReadProcessedDetails
+                return ReadProcessedDetails.class;
+            case 653: // ReadAtTimeDetails
+                return ReadAtTimeDetails.class;
+            case 656: // HistoryData
+                return HistoryData.class;
+            case 659: // HistoryEvent
+                return HistoryEvent.class;
+            case 662: // HistoryReadRequest
+                return HistoryReadRequest.class;
+            case 665: // HistoryReadResponse
+                return HistoryReadResponse.class;
+            case 668: // WriteValue
+                return WriteValue.class;
+            case 671: // WriteRequest
+                return WriteRequest.class;
+            case 674: // WriteResponse
+                return WriteResponse.class;
+            case 677: // HistoryUpdateDetails
+                return HistoryUpdateDetails.class;
+            case 680: // UpdateDataDetails
+                return UpdateDataDetails.class;
+            case 683: // UpdateEventDetails
+                return UpdateEventDetails.class;
+            case 686: // DeleteRawModifiedDetails
+                return DeleteRawModifiedDetails.class;
+            case 689: // DeleteAtTimeDetails
+                return DeleteAtTimeDetails.class;
+            case 692: // DeleteEventDetails
+                return DeleteEventDetails.class;
+            case 695: // HistoryUpdateResult
+                return HistoryUpdateResult.class;
+            case 698: // HistoryUpdateRequest
+                return HistoryUpdateRequest.class;
+            case 701: // HistoryUpdateResponse
+                return HistoryUpdateResponse.class;
+            case 704: // CallMethodRequest
+                return CallMethodRequest.class;
+            case 707: // CallMethodResult
+                return CallMethodResult.class;
+            case 710: // CallRequest
+                return CallRequest.class;
+            case 713: // CallResponse
+                return CallResponse.class;
+            case 719: // MonitoringFilter
+                return MonitoringFilter.class;
+            case 722: // DataChangeFilter
+                return DataChangeFilter.class;
+            case 725: // EventFilter
+                return EventFilter.class;
+            case 728: // AggregateFilter
+                return AggregateFilter.class;
+            case 731: // MonitoringFilterResult
+                return MonitoringFilterResult.class;
+            case 734: // EventFilterResult
+                return EventFilterResult.class;
+            case 737: // AggregateFilterResult
+                return AggregateFilterResult.class;
+            case 740: // MonitoringParameters
+                return MonitoringParameters.class;
+            case 743: // MonitoredItemCreateRequest
+                return MonitoredItemCreateRequest.class;
+            case 746: // MonitoredItemCreateResult
+                return MonitoredItemCreateResult.class;
+            case 749: // CreateMonitoredItemsRequest
+                return CreateMonitoredItemsRequest.class;
+            case 752: // CreateMonitoredItemsResponse
+                return CreateMonitoredItemsResponse.class;
+            case 755: // MonitoredItemModifyRequest
+                return MonitoredItemModifyRequest.class;
+            case 758: // MonitoredItemModifyResult
+                return MonitoredItemModifyResult.class;
+            case 761: // ModifyMonitoredItemsRequest
+                return ModifyMonitoredItemsRequest.class;
+            case 764: // ModifyMonitoredItemsResponse
+                return ModifyMonitoredItemsResponse.class;
+            case 767: // SetMonitoringModeRequest
+                return SetMonitoringModeRequest.class;
+            case 770: // SetMonitoringModeResponse
+                return SetMonitoringModeResponse.class;
+            case 773: // SetTriggeringRequest
+                return SetTriggeringRequest.class;
+            case 776: // SetTriggeringResponse
+                return SetTriggeringResponse.class;
+            case 779: // DeleteMonitoredItemsRequest
+                return DeleteMonitoredItemsRequest.class;
+            case 782: // DeleteMonitoredItemsResponse
+                return DeleteMonitoredItemsResponse.class;
+            case 785: // CreateSubscriptionRequest
+                return CreateSubscriptionRequest.class;
+            case 788: // CreateSubscriptionResponse
+                return CreateSubscriptionResponse.class;
+            case 791: // ModifySubscriptionRequest
+                return ModifySubscriptionRequest.class;
+            case 794: // ModifySubscriptionResponse
+                return ModifySubscriptionResponse.class;
+            case 797: // SetPublishingModeRequest
+                return SetPublishingModeRequest.class;
+            case 800: // SetPublishingModeResponse
+                return SetPublishingModeResponse.class;
+            case 803: // NotificationMessage
+                return NotificationMessage.class;
+            case 806: // MonitoredItemNotification
+                return MonitoredItemNotification.class;
+            case 809: // DataChangeNotification
+                return DataChangeNotification.class;
+            case 818: // StatusChangeNotification
+                return StatusChangeNotification.class;
+            case 821: // SubscriptionAcknowledgement
+                return SubscriptionAcknowledgement.class;
+            case 824: // PublishRequest
+                return PublishRequest.class;
+            case 827: // PublishResponse
+                return PublishResponse.class;
+            case 830: // RepublishRequest
+                return RepublishRequest.class;
+            case 833: // RepublishResponse
+                return RepublishResponse.class;
+            case 836: // TransferResult
+                return TransferResult.class;
+            case 839: // TransferSubscriptionsRequest
+                return TransferSubscriptionsRequest.class;
+            case 842: // TransferSubscriptionsResponse
+                return TransferSubscriptionsResponse.class;
+            case 845: // DeleteSubscriptionsRequest
+                return DeleteSubscriptionsRequest.class;
+            case 848: // DeleteSubscriptionsResponse
+                return DeleteSubscriptionsResponse.class;
+            case 853: // RedundantServerDataType
+                return RedundantServerDataType.class;
+            case 856: // SamplingIntervalDiagnosticsDataType
+                return SamplingIntervalDiagnosticsDataType.class;
+            case 859: // ServerDiagnosticsSummaryDataType
+                return ServerDiagnosticsSummaryDataType.class;
+            case 862: // ServerStatusDataType
+                return ServerStatusDataType.class;
+            case 865: // SessionDiagnosticsDataType
+                return SessionDiagnosticsDataType.class;
+            case 868: // SessionSecurityDiagnosticsDataType
+                return SessionSecurityDiagnosticsDataType.class;
+            case 871: // ServiceCounterDataType
+                return ServiceCounterDataType.class;
+            case 874: // SubscriptionDiagnosticsDataType
+                return SubscriptionDiagnosticsDataType.class;
+            case 877: // ModelChangeStructureDataType
+                return ModelChangeStructureDataType.class;
+            case 884: // Range
+                return Range.class;
+            case 887: // EUInformation
+                return EUInformation.class;
+            case 891: // Annotation
+                return Annotation.class;
+            case 894: // ProgramDiagnosticDataType
+                return ProgramDiagnosticDataType.class;
+            case 897: // SemanticChangeStructureDataType
+                return SemanticChangeStructureDataType.class;
+            case 914: // EventNotificationList
+                return EventNotificationList.class;
+            case 917: // EventFieldList
+                return EventFieldList.class;
+            case 920: // HistoryEventFieldList
+                return HistoryEventFieldList.class;
+            case 938: // IssuedIdentityToken
+                return IssuedIdentityToken.class;
+            case 945: // NotificationData
+                return NotificationData.class;
+            case 948: // AggregateConfiguration
+                return AggregateConfiguration.class;
+            case 7594: // EnumValueType
+                return EnumValueType.class;
+            case 8912: // TimeZoneDataType
+                return TimeZoneDataType.class;
+            case 11216: // ModificationInfo
+                return ModificationInfo.class;
+            case 11217: // HistoryModifiedData
+                return HistoryModifiedData.class;
+            case 11295: // UpdateStructureDataDetails
+                return UpdateStructureDataDetails.class;
+            case 11879: // InstanceNode
+                return InstanceNode.class;
+            case 11880: // TypeNode
+                return TypeNode.class;
+            case 11943: // EndpointUrlListDataType
+                return EndpointUrlListDataType.class;
+            case 11944: // NetworkGroupDataType
+                return NetworkGroupDataType.class;
+            case 12079: // AxisInformation
+                return AxisInformation.class;
+            case 12080: // XVType
+                return XVType.class;
+            case 12171: // ComplexNumberType
+                return ComplexNumberType.class;
+            case 12172: // DoubleComplexNumberType
+                return DoubleComplexNumberType.class;
+            case 12189: // ServerOnNetwork
+                return ServerOnNetwork.class;
+            case 12190: // FindServersOnNetworkRequest
+                return FindServersOnNetworkRequest.class;
+            case 12191: // FindServersOnNetworkResponse
+                return FindServersOnNetworkResponse.class;
+            case 12193: // RegisterServer2Request
+                return RegisterServer2Request.class;
+            case 12194: // RegisterServer2Response
+                return RegisterServer2Response.class;
+            case 12504: // KerberosIdentityToken
+                return KerberosIdentityToken.class;
+            case 12554: // TrustListDataType
+                return TrustListDataType.class;
+            case 12755: // OptionSet
+                return OptionSet.class;
+            case 12756: // Union
+                return Union.class;
+            case 12890: // DiscoveryConfiguration
+                return DiscoveryConfiguration.class;
+            case 12891: // MdnsDiscoveryConfiguration
+                return MdnsDiscoveryConfiguration.class;
+            default:
+                return null;
+        }
+    }
+
+}
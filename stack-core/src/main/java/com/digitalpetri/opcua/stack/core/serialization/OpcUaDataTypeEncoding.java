@@ -27,6 +27,7 @@ import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.xml.XmlDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.xml.XmlEncoder;
+import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
@@ -36,8 +37,29 @@ import io.netty.buffer.Unpooled;
 
 public class OpcUaDataTypeEncoding implements DataTypeEncoding {
 
+    /**
+     * Retained writer buffers larger than this, in chars, are dropped after use rather than kept for the next
+     * ExtensionObject on the thread.
+     */
+    private static final int MAX_RETAINED_CHARS = 64 * 1024;
+
+    /**
+     * The name of the element wrapping an XML encoded body: the {@link UaDataType} name of the type, or its simple
+     * class name when it isn't annotated.
+     */
+    private static final ClassValue<String> XML_TYPE_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            UaDataType dataType = type.getAnnotation(UaDataType.class);
+
+            return dataType != null ? dataType.value() : type.getSimpleName();
+        }
+    };
+
     private final ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
 
+    private final ThreadLocal<XmlCodec> xmlCodec = ThreadLocal.withInitial(XmlCodec::new);
+
     @Override
     public ByteString encodeToByteString(Object object, NodeId encodingTypeId) {
         EncoderDelegate<Object> delegate = DelegateRegistry.getEncoder(encodingTypeId);
@@ -75,34 +97,79 @@ public class OpcUaDataTypeEncoding implements DataTypeEncoding {
 
     @Override
     public XmlElement encodeToXmlElement(Object object, NodeId encodingTypeId) {
+        XmlCodec codec = xmlCodec.get();
+
+        // Nested inside another ExtensionObject being encoded on this thread; its writer is in use.
+        if (codec.inUse) codec = new XmlCodec();
+
+        codec.inUse = true;
+
         try {
             EncoderDelegate<Object> delegate = DelegateRegistry.getEncoder(encodingTypeId);
 
-            StringWriter stringWriter = new StringWriter();
+            StringWriter stringWriter = codec.writer;
 
-            XmlEncoder encoder = new XmlEncoder();
+            XmlEncoder encoder = codec.encoder;
             encoder.setOutput(stringWriter);
 
+            encoder.startElement(XML_TYPE_NAMES.get(object.getClass()));
             delegate.encode(object, encoder);
+            encoder.endElement();
+            encoder.flush();
 
             return new XmlElement(stringWriter.toString());
         } catch (XMLStreamException e) {
             throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        } finally {
+            codec.reset();
         }
     }
 
     @Override
     public Object decodeFromXmlElement(XmlElement encoded, NodeId encodingTypeId) {
+        XmlCodec codec = xmlCodec.get();
+
+        if (codec.inUse) codec = new XmlCodec();
+
+        codec.inUse = true;
+
         try {
             DecoderDelegate<Object> delegate = DelegateRegistry.getDecoder(encodingTypeId);
 
-            XmlDecoder decoder = new XmlDecoder();
+            XmlDecoder decoder = codec.decoder;
             decoder.setInput(new StringReader(encoded.getFragment()));
+            decoder.enterElement();
 
             return delegate.decode(decoder);
         } catch (XMLStreamException e) {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        } finally {
+            codec.reset();
         }
     }
 
+    /**
+     * The XML encoder, decoder and writer reused for each ExtensionObject encoded or decoded on a thread.
+     */
+    private static class XmlCodec {
+
+        private final XmlEncoder encoder = new XmlEncoder();
+        private final XmlDecoder decoder = new XmlDecoder();
+
+        private StringWriter writer = new StringWriter();
+
+        private boolean inUse = false;
+
+        private void reset() {
+            if (writer.getBuffer().capacity() > MAX_RETAINED_CHARS) {
+                writer = new StringWriter();
+            } else {
+                writer.getBuffer().setLength(0);
+            }
+
+            inUse = false;
+        }
+
+    }
+
 }
@@ -19,6 +19,7 @@ package com.digitalpetri.opcua.stack.core.serialization;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
@@ -62,6 +63,45 @@ public interface UaDecoder {
 
     Double decodeDouble(String field) throws UaSerializationException;
 
+    boolean readBoolean(String field) throws UaSerializationException;
+
+    byte readSByte(String field) throws UaSerializationException;
+
+    short readInt16(String field) throws UaSerializationException;
+
+    int readInt32(String field) throws UaSerializationException;
+
+    long readInt64(String field) throws UaSerializationException;
+
+    /**
+     * @param field the name of the field being read.
+     * @return the unsigned Byte value, in the range [0, 255], without boxing it in a {@link UByte}.
+     */
+    int readByteAsInt(String field) throws UaSerializationException;
+
+    /**
+     * @param field the name of the field being read.
+     * @return the unsigned UInt16 value, in the range [0, 65535], without boxing it in a {@link UShort}.
+     */
+    int readUInt16AsInt(String field) throws UaSerializationException;
+
+    /**
+     * @param field the name of the field being read.
+     * @return the unsigned UInt32 value, in the range [0, 2^32 - 1], without boxing it in a {@link UInteger}.
+     */
+    long readUInt32AsLong(String field) throws UaSerializationException;
+
+    /**
+     * @param field the name of the field being read.
+     * @return the bits of the unsigned UInt64 value, as {@link ULong#longValue()} would return them, without boxing
+     * it in a {@link ULong}.
+     */
+    long readUInt64AsLong(String field) throws UaSerializationException;
+
+    float readFloat(String field) throws UaSerializationException;
+
+    double readDouble(String field) throws UaSerializationException;
+
     String decodeString(String field) throws UaSerializationException;
 
     DateTime decodeDateTime(String field) throws UaSerializationException;
@@ -100,4 +140,16 @@ public interface UaDecoder {
 
     <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException;
 
+    /**
+     * Decode an array into an array created by {@code arrayFactory}, typically an array constructor reference such
+     * as {@code DataValue[]::new}, rather than reflectively from a {@link Class}.
+     */
+    <T> T[] decodeArray(String field, Function<String, T> decoder, IntFunction<T[]> arrayFactory) throws UaSerializationException;
+
+    /**
+     * Decode an array into an array created by {@code arrayFactory}, typically an array constructor reference such
+     * as {@code ReadValueId[]::new}, rather than reflectively from a {@link Class}.
+     */
+    <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz, IntFunction<T[]> arrayFactory) throws UaSerializationException;
+
 }
@@ -61,6 +61,52 @@ public interface UaEncoder {
 
     void encodeDouble(String field, Double value) throws UaSerializationException;
 
+    void writeBoolean(String field, boolean value) throws UaSerializationException;
+
+    void writeSByte(String field, byte value) throws UaSerializationException;
+
+    void writeInt16(String field, short value) throws UaSerializationException;
+
+    void writeInt32(String field, int value) throws UaSerializationException;
+
+    void writeInt64(String field, long value) throws UaSerializationException;
+
+    /**
+     * Write an unsigned Byte without boxing it in a {@link UByte}.
+     *
+     * @param field the name of the field being written.
+     * @param value the value to write; only the low 8 bits are written.
+     */
+    void writeByte(String field, int value) throws UaSerializationException;
+
+    /**
+     * Write an unsigned UInt16 without boxing it in a {@link UShort}.
+     *
+     * @param field the name of the field being written.
+     * @param value the value to write; only the low 16 bits are written.
+     */
+    void writeUInt16(String field, int value) throws UaSerializationException;
+
+    /**
+     * Write an unsigned UInt32 without boxing it in a {@link UInteger}.
+     *
+     * @param field the name of the field being written.
+     * @param value the value to write; only the low 32 bits are written.
+     */
+    void writeUInt32(String field, long value) throws UaSerializationException;
+
+    /**
+     * Write an unsigned UInt64 without boxing it in a {@link ULong}.
+     *
+     * @param field the name of the field being written.
+     * @param value the bits of the value to write, as returned by {@link ULong#longValue()}.
+     */
+    void writeUInt64(String field, long value) throws UaSerializationException;
+
+    void writeFloat(String field, float value) throws UaSerializationException;
+
+    void writeDouble(String field, double value) throws UaSerializationException;
+
     void encodeString(String field, String value) throws UaSerializationException;
 
     void encodeDateTime(String field, DateTime value) throws UaSerializationException;
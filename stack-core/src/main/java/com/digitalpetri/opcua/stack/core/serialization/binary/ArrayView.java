@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * An encoded array whose elements are decoded each time they're accessed.
+ * <p>
+ * The view holds a reference to the buffer the array was decoded from, so the buffer stays alive until the view is
+ * {@link #release() released}. Accessing an element after that throws {@link IllegalReferenceCountException}.
+ * <p>
+ * Elements are decoded with a single {@link BinaryDecoder}, so a view must not be accessed by more than one thread
+ * at a time.
+ *
+ * @param <T> the element type.
+ */
+public class ArrayView<T> extends AbstractList<T> implements RandomAccess, ReferenceCounted {
+
+    private final ByteBuf buffer;
+    private final int[] offsets;
+    private final BinaryDecoderDelegate<T> delegate;
+    private final BinaryDecoder decoder;
+
+    /**
+     * @param buffer   the encoded elements. The view takes ownership of one reference to it.
+     * @param offsets  the offset of each element in {@code buffer}.
+     * @param delegate the {@link BinaryDecoderDelegate} that decodes an element.
+     * @param decoder  a {@link BinaryDecoder} reading from {@code buffer}.
+     */
+    ArrayView(ByteBuf buffer, int[] offsets, BinaryDecoderDelegate<T> delegate, BinaryDecoder decoder) {
+        this.buffer = buffer;
+        this.offsets = offsets;
+        this.delegate = delegate;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Decode the element at {@code index}.
+     *
+     * @param index the index of the element.
+     * @return the decoded element, a new instance on every call.
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= offsets.length) {
+            throw new IndexOutOfBoundsException(
+                    String.format("index=%s, size=%s", index, offsets.length));
+        }
+
+        if (buffer.refCnt() == 0) {
+            throw new IllegalReferenceCountException(0);
+        }
+
+        int start = offsets[index];
+        int end = index + 1 < offsets.length ? offsets[index + 1] : buffer.writerIndex();
+
+        buffer.readerIndex(start);
+        decoder.resetAllocationBudget(end - start);
+
+        return delegate.decode(decoder);
+    }
+
+    @Override
+    public int size() {
+        return offsets.length;
+    }
+
+    @Override
+    public int refCnt() {
+        return buffer.refCnt();
+    }
+
+    @Override
+    public ArrayView<T> retain() {
+        buffer.retain();
+        return this;
+    }
+
+    @Override
+    public ArrayView<T> retain(int increment) {
+        buffer.retain(increment);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return buffer.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return buffer.release(decrement);
+    }
+
+}
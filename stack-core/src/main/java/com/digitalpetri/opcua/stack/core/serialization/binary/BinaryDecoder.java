@@ -16,13 +16,17 @@
 
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import javax.annotation.Nullable;
 
 import com.digitalpetri.opcua.stack.core.StatusCodes;
 import com.digitalpetri.opcua.stack.core.UaSerializationException;
@@ -34,12 +38,14 @@ import com.digitalpetri.opcua.stack.core.serialization.UaEnumeration;
 import com.digitalpetri.opcua.stack.core.serialization.UaSerializable;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteStringView;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -54,13 +60,39 @@ import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
 import com.digitalpetri.opcua.stack.core.util.TypeUtil;
 import io.netty.buffer.ByteBuf;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public class BinaryDecoder implements UaDecoder {
 
+    /*
+     * Projected heap cost of decoded values, used to charge the allocation budget before the allocation is made.
+     * Deliberately pessimistic: 64-bit headers and uncompressed references.
+     */
+    private static final int ARRAY_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int BYTE_STRING_OVERHEAD = 32;
+
     private volatile ByteBuf buffer;
 
     private final int maxArrayLength;
     private final int maxStringLength;
 
+    private static final int SCRATCH_SIZE = 1024;
+    private byte[] scratch;
+
+    private boolean decodePrimitiveArrays = false;
+    private boolean decodeMatrices = false;
+    private int byteStringViewThreshold = -1;
+    private List<ByteStringView> bodyViews;
+
+    private int maxDecodedBytesRatio = -1;
+    private int maxDecodedElementsRatio = -1;
+    private long bytesRemaining = Long.MAX_VALUE;
+    private long elementsRemaining = Long.MAX_VALUE;
+
+    private SkippingBinaryDecoder skippingDecoder;
+
     public BinaryDecoder() {
         this(ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, ChannelConfig.DEFAULT_MAX_STRING_LENGTH);
     }
@@ -70,8 +102,91 @@ public class BinaryDecoder implements UaDecoder {
         this.maxStringLength = maxStringLength;
     }
 
+    /**
+     * Set the buffer to decode from. If an allocation budget is set it is reset here, in proportion to the readable
+     * bytes of {@code buffer}, so this should be called with the complete message before decoding it.
+     *
+     * @param buffer the buffer to decode from.
+     * @return this {@link BinaryDecoder}.
+     */
     public BinaryDecoder setBuffer(ByteBuf buffer) {
         this.buffer = buffer;
+
+        resetAllocationBudget(buffer.readableBytes());
+
+        return this;
+    }
+
+    /**
+     * Reset the allocation budget in proportion to {@code messageSize} bytes, e.g. for an element of an
+     * {@link ArrayView} that is decoded on its own.
+     *
+     * @param messageSize the size, in bytes, of the encoded value about to be decoded.
+     */
+    void resetAllocationBudget(int messageSize) {
+        bytesRemaining = maxDecodedBytesRatio >= 0 ? (long) messageSize * maxDecodedBytesRatio : Long.MAX_VALUE;
+        elementsRemaining = maxDecodedElementsRatio >= 0 ? (long) messageSize * maxDecodedElementsRatio : Long.MAX_VALUE;
+    }
+
+    /**
+     * Limit the heap a message may be decoded into, in proportion to its encoded size.
+     * <p>
+     * {@link #setBuffer(ByteBuf)} sets aside {@code maxDecodedBytesRatio} bytes and {@code maxDecodedElementsRatio}
+     * array elements per readable byte. Strings, ByteStrings and arrays are charged their projected heap cost, and
+     * arrays their length, before they're allocated; decoding fails with {@code Bad_EncodingLimitsExceeded} as soon
+     * as either budget is exhausted. Unlike the per-field {@code maxArrayLength} and {@code maxStringLength} this
+     * catches nested arrays whose lengths are each within limits but multiply out to far more than the message could
+     * legitimately hold. Disabled by default.
+     *
+     * @param maxDecodedBytesRatio    the projected heap bytes allowed per message byte, or -1 for no limit.
+     * @param maxDecodedElementsRatio the array elements allowed per message byte, or -1 for no limit.
+     * @return this {@link BinaryDecoder}.
+     * @see ChannelConfig#getMaxDecodedBytesRatio()
+     * @see ChannelConfig#getMaxDecodedElementsRatio()
+     */
+    public BinaryDecoder setAllocationBudget(int maxDecodedBytesRatio, int maxDecodedElementsRatio) {
+        this.maxDecodedBytesRatio = maxDecodedBytesRatio;
+        this.maxDecodedElementsRatio = maxDecodedElementsRatio;
+
+        return buffer != null ? setBuffer(buffer) : this;
+    }
+
+    /**
+     * When enabled, Variant arrays of Boolean, SByte, Int16, Int32, Int64, Float and Double are decoded as
+     * {@code boolean[]}, {@code byte[]}, {@code short[]}, {@code int[]}, {@code long[]}, {@code float[]} and
+     * {@code double[]} instead of arrays of their boxed types. Disabled by default.
+     *
+     * @param decodePrimitiveArrays {@code true} to decode primitive arrays.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setDecodePrimitiveArrays(boolean decodePrimitiveArrays) {
+        this.decodePrimitiveArrays = decodePrimitiveArrays;
+        return this;
+    }
+
+    /**
+     * When enabled, multi-dimensional Variant arrays are decoded as a {@link Matrix} of their flat elements instead
+     * of nested Java arrays. Combined with {@link #setDecodePrimitiveArrays(boolean)} the elements of a numeric
+     * matrix are a primitive array. Disabled by default.
+     *
+     * @param decodeMatrices {@code true} to decode multi-dimensional arrays as {@link Matrix}.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setDecodeMatrices(boolean decodeMatrices) {
+        this.decodeMatrices = decodeMatrices;
+        return this;
+    }
+
+    /**
+     * When set, ByteStrings of at least {@code minLength} bytes are decoded as {@link ByteStringView}s of a retained
+     * slice of the buffer rather than copied into a {@code byte[]}. Whoever ends up with a view is responsible for
+     * releasing it. Disabled by default.
+     *
+     * @param minLength the minimum length of a ByteString decoded as a view, or -1 to disable.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setByteStringViewThreshold(int minLength) {
+        this.byteStringViewThreshold = minLength;
         return this;
     }
 
@@ -130,9 +245,64 @@ public class BinaryDecoder implements UaDecoder {
         return buffer.readDouble();
     }
 
+    @Override
+    public boolean readBoolean(String field) {
+        return buffer.readBoolean();
+    }
+
+    @Override
+    public byte readSByte(String field) {
+        return buffer.readByte();
+    }
+
+    @Override
+    public short readInt16(String field) {
+        return buffer.readShort();
+    }
+
+    @Override
+    public int readInt32(String field) {
+        return buffer.readInt();
+    }
+
+    @Override
+    public long readInt64(String field) {
+        return buffer.readLong();
+    }
+
+    @Override
+    public int readByteAsInt(String field) {
+        return buffer.readUnsignedByte();
+    }
+
+    @Override
+    public int readUInt16AsInt(String field) {
+        return buffer.readUnsignedShort();
+    }
+
+    @Override
+    public long readUInt32AsLong(String field) {
+        return buffer.readUnsignedInt();
+    }
+
+    @Override
+    public long readUInt64AsLong(String field) {
+        return buffer.readLong();
+    }
+
+    @Override
+    public float readFloat(String field) {
+        return buffer.readFloat();
+    }
+
+    @Override
+    public double readDouble(String field) {
+        return buffer.readDouble();
+    }
+
     @Override
     public String decodeString(String field) throws UaSerializationException {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
 
         if (length == -1) {
             return null;
@@ -142,9 +312,9 @@ public class BinaryDecoder implements UaDecoder {
                         String.format("max string length exceeded (length=%s, max=%s)", length, maxStringLength));
             }
 
-            String s = buffer.toString(buffer.readerIndex(), length, Charset.forName("UTF-8"));
-            buffer.skipBytes(length);
-            return s;
+            charge(STRING_OVERHEAD + 2L * length, 0);
+
+            return readUtf8(length);
         }
     }
 
@@ -167,11 +337,31 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public ByteString decodeByteString(String field) {
-        int length = decodeInt32(null);
+        int length = readInt32(null);
+
+        if (byteStringViewThreshold >= 0 && length >= byteStringViewThreshold) {
+            charge(BYTE_STRING_OVERHEAD, 0);
+
+            ByteStringView view = ByteStringView.wrap(buffer.readSlice(length).retain());
+            if (bodyViews != null) bodyViews.add(view);
+
+            return view;
+        } else {
+            return readByteString(length);
+        }
+    }
 
+    /**
+     * Read a ByteString of {@code length} bytes into a {@code byte[]}, regardless of
+     * {@link #setByteStringViewThreshold(int)}. Used where the ByteString would not reach a caller that could
+     * release it.
+     */
+    private ByteString readByteString(int length) {
         if (length == -1) {
             return ByteString.NULL_VALUE;
         } else {
+            charge(BYTE_STRING_OVERHEAD + (long) length, 0);
+
             byte[] bs = new byte[length];
             buffer.readBytes(bs);
             return new ByteString(bs);
@@ -180,18 +370,14 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public XmlElement decodeXmlElement(String field) throws UaSerializationException {
-        ByteString byteString = decodeByteString(null);
-        byte[] bs = byteString.bytes();
+        int length = readInt32(null);
 
-        if (bs == null) {
+        if (length == -1) {
             return new XmlElement(null);
         } else {
-            try {
-                String fragment = new String(bs, "UTF-8");
-                return new XmlElement(fragment);
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
-            }
+            charge(STRING_OVERHEAD + 2L * length, 0);
+
+            return new XmlElement(readUtf8(length));
         }
     }
 
@@ -217,7 +403,7 @@ public class BinaryDecoder implements UaDecoder {
             return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), decodeGuid(null));
         } else if (format == 0x05) {
             /* Opaque format */
-            return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), decodeByteString(null));
+            return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), readByteString(readInt32(null)));
         } else {
             throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid NodeId format: " + format);
         }
@@ -237,7 +423,7 @@ public class BinaryDecoder implements UaDecoder {
         }
 
         if ((flags & 0x40) == 0x40) {
-            serverIndex = decodeUInt32(null).longValue();
+            serverIndex = readUInt32AsLong(null);
         }
 
         return new ExpandedNodeId(nodeId, namespaceUri, serverIndex);
@@ -245,12 +431,12 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public StatusCode decodeStatusCode(String field) {
-        return new StatusCode(decodeUInt32(null));
+        return new StatusCode(readUInt32AsLong(null));
     }
 
     @Override
     public QualifiedName decodeQualifiedName(String field) throws UaSerializationException {
-        int namespaceIndex = decodeUInt16(null).intValue();
+        int namespaceIndex = readUInt16AsInt(null);
         String name = decodeString(null);
 
         return new QualifiedName(Unsigned.ushort(namespaceIndex), name);
@@ -282,7 +468,15 @@ public class BinaryDecoder implements UaDecoder {
         if (encoding == 0) {
             return new ExtensionObject((ByteString) null, encodingTypeId);
         } else if (encoding == 1) {
-            ByteString byteString = decodeByteString(null);
+            int length = buffer.getInt(buffer.readerIndex());
+
+            if (length > 0) {
+                ExtensionObject decoded = decodeBody(encodingTypeId, length);
+
+                if (decoded != null) return decoded;
+            }
+
+            ByteString byteString = readByteString(readInt32(null));
 
             return new ExtensionObject(byteString, encodingTypeId);
         } else if (encoding == 2) {
@@ -294,6 +488,70 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Decode the binary body of an ExtensionObject directly from this decoder's buffer, rather than copying it into
+     * a {@link ByteString} to be decoded later.
+     * <p>
+     * The body is only decoded if an encoder is registered as well, so {@link ExtensionObject#getEncoded()} can
+     * encode it again. If either is missing, or the body fails to decode or does not decode to exactly
+     * {@code length} bytes, the buffer is left where it was, and what the attempt charged against the allocation
+     * budget refunded, so the body can be kept as a ByteString. Exhausting the budget or a size limit is not a
+     * failure to decode the body, though: it fails the whole message.
+     * <p>
+     * The {@link ByteStringView}s decoded while attempting the body are tracked, and released if the body is dropped,
+     * so only a body that is kept hands views on to the caller.
+     *
+     * @param encodingTypeId the encoding id of the body.
+     * @param length         the length of the body, in bytes.
+     * @return an {@link ExtensionObject} holding the decoded body, or {@code null} if it was not decoded.
+     */
+    @Nullable
+    private ExtensionObject decodeBody(NodeId encodingTypeId, int length) {
+        DecoderDelegate<Object> delegate = DelegateRegistry.findDecoder(encodingTypeId);
+
+        if (delegate == null || DelegateRegistry.getEncoder(encodingTypeId) == null) return null;
+
+        int lengthIndex = buffer.readerIndex();
+        List<ByteStringView> outerViews = bodyViews;
+        List<ByteStringView> views = byteStringViewThreshold >= 0 ? new ArrayList<>() : null;
+        boolean decoded = false;
+        long bytesBefore = bytesRemaining;
+        long elementsBefore = elementsRemaining;
+
+        try {
+            buffer.skipBytes(4);
+            bodyViews = views;
+
+            Object body = delegate.decode(this);
+
+            if (buffer.readerIndex() - lengthIndex - 4 == length) {
+                decoded = true;
+                return ExtensionObject.encodeAsByteString(body, encodingTypeId);
+            }
+        } catch (UaSerializationException e) {
+            if (e.getStatusCode() == StatusCodes.Bad_EncodingLimitsExceeded) throw e;
+            // Otherwise leave it to ExtensionObject.decode() to report the failure if the body is ever decoded.
+        } catch (RuntimeException e) {
+            // Leave it to ExtensionObject.decode() to report the failure if the body is ever decoded.
+        } finally {
+            bodyViews = outerViews;
+
+            if (views != null) {
+                if (!decoded) {
+                    views.forEach(ByteStringView::release);
+                } else if (outerViews != null) {
+                    outerViews.addAll(views);
+                }
+            }
+        }
+
+        buffer.readerIndex(lengthIndex);
+        bytesRemaining = bytesBefore;
+        elementsRemaining = elementsBefore;
+
+        return null;
+    }
+
     @Override
     public DataValue decodeDataValue(String field) throws UaSerializationException {
         int mask = buffer.readByte() & 0x0F;
@@ -318,20 +576,20 @@ public class BinaryDecoder implements UaDecoder {
             boolean arrayEncoded = (encodingMask & 0x80) == 0x80;
 
             if (arrayEncoded) {
-                int length = decodeInt32(null);
-                Class<?> backingClass = TypeUtil.getBackingClass(typeId);
-                Object flatArray = Array.newInstance(backingClass, length);
-
-                for (int i = 0; i < length; i++) {
-                    Object element = decodeBuiltinType(typeId);
-
-                    Array.set(flatArray, i, element);
-                }
+                int length = readInt32(null);
+                Object flatArray = decodeArrayValues(typeId, length);
 
                 int[] dimensions = dimensionsEncoded ? decodeDimensions() : new int[]{length};
-                Object array = dimensions.length > 1 ? ArrayUtil.unflatten(flatArray, dimensions) : flatArray;
 
-                return new Variant(array);
+                if (dimensions.length > 1) {
+                    checkDimensions(length, dimensions);
+
+                    return decodeMatrices ?
+                            new Variant(new Matrix(flatArray, dimensions)) :
+                            new Variant(ArrayUtil.unflatten(flatArray, dimensions));
+                } else {
+                    return new Variant(flatArray);
+                }
             } else {
                 Object value = decodeBuiltinType(typeId);
 
@@ -340,6 +598,47 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Check that {@code dimensions} multiply out to {@code length}, with none negative and none 0 unless the array is
+     * empty.
+     * <p>
+     * An empty array is still un-flattened into an array for each element of the dimensions before its first 0, so
+     * those are limited by {@code maxArrayLength} and charged against the allocation budget like array elements.
+     */
+    private void checkDimensions(int length, int[] dimensions) throws UaSerializationException {
+        long elementCount = 1L;
+        long emptyArrays = 0L;
+
+        for (int dimension : dimensions) {
+            if (dimension < 0 || (dimension == 0 && length != 0)) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                        String.format("invalid dimensions %s for array length %s",
+                                Arrays.toString(dimensions), length));
+            }
+
+            if (dimension == 0 && emptyArrays == 0L) {
+                emptyArrays = elementCount;
+            }
+
+            // Saturate rather than overflow; anything past Integer.MAX_VALUE is a mismatch anyway.
+            elementCount = Math.min(elementCount * dimension, Integer.MAX_VALUE + 1L);
+        }
+
+        if (elementCount != length) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    String.format("array length %s does not match dimensions %s",
+                            length, Arrays.toString(dimensions)));
+        }
+
+        if (emptyArrays > maxArrayLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max array length exceeded (dimensions=%s, max=%s)",
+                            Arrays.toString(dimensions), maxArrayLength));
+        } else if (emptyArrays > 1L) {
+            charge(emptyArrays * ARRAY_OVERHEAD, (int) emptyArrays);
+        }
+    }
+
     @Override
     public DiagnosticInfo decodeDiagnosticInfo(String field) throws UaSerializationException {
         int mask = buffer.readByte();
@@ -347,10 +646,10 @@ public class BinaryDecoder implements UaDecoder {
         if (mask == 0) {
             return null;
         } else {
-            int symbolicId = ((mask & 0x01) == 0x01) ? decodeInt32(null) : -1;
-            int namespaceUri = ((mask & 0x02) == 0x02) ? decodeInt32(null) : -1;
-            int localizedText = ((mask & 0x04) == 0x04) ? decodeInt32(null) : -1;
-            int locale = ((mask & 0x08) == 0x08) ? decodeInt32(null) : -1;
+            int symbolicId = ((mask & 0x01) == 0x01) ? readInt32(null) : -1;
+            int namespaceUri = ((mask & 0x02) == 0x02) ? readInt32(null) : -1;
+            int localizedText = ((mask & 0x04) == 0x04) ? readInt32(null) : -1;
+            int locale = ((mask & 0x08) == 0x08) ? readInt32(null) : -1;
             String additionalInfo = ((mask & 0x10) == 0x10) ? decodeString(null) : null;
             StatusCode innerStatusCode = ((mask & 0x20) == 0x20) ? decodeStatusCode(null) : null;
             DiagnosticInfo innerDiagnosticInfo = ((mask & 0x40) == 0x40) ? decodeDiagnosticInfo(null) : null;
@@ -386,59 +685,394 @@ public class BinaryDecoder implements UaDecoder {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T[] decodeArray(String field, Function<String, T> decoder, Class<T> clazz) throws UaSerializationException {
-        int length = decodeInt32(null);
-
-        if (length == -1) {
-            return (T[]) Array.newInstance(clazz, 0);
-        } else {
-            if (length > maxArrayLength) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
-                        "max array length exceeded");
-            }
+        return decodeArray(field, decoder, length -> (T[]) Array.newInstance(clazz, length));
+    }
 
-            Object array = Array.newInstance(clazz, length);
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException {
+        return decodeArray(field, decoder, clazz, length -> (T[]) Array.newInstance(clazz, length));
+    }
 
-            for (int i = 0; i < length; i++) {
-                Array.set(array, i, decoder.apply(null));
-            }
+    @Override
+    public <T> T[] decodeArray(String field, Function<String, T> decoder, IntFunction<T[]> arrayFactory) throws UaSerializationException {
+        int length = decodeArrayLength();
 
-            return (T[]) array;
+        T[] array = arrayFactory.apply(length);
+        for (int i = 0; i < length; i++) {
+            array[i] = decoder.apply(null);
         }
+        return array;
     }
 
     @Override
+    public <T> T[] decodeArray(String field,
+                               BiFunction<String, Class<T>, T> decoder,
+                               Class<T> clazz,
+                               IntFunction<T[]> arrayFactory) throws UaSerializationException {
+
+        int length = decodeArrayLength();
+
+        T[] array = arrayFactory.apply(length);
+        for (int i = 0; i < length; i++) {
+            array[i] = decoder.apply(null, clazz);
+        }
+        return array;
+    }
+
+    /**
+     * Decode an array of structures with a {@link BinaryDecoderDelegate}, typically a static {@code decodeBinary}
+     * method reference, rather than looking up a delegate for each element.
+     */
     @SuppressWarnings("unchecked")
-    public <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException {
-        int length = decodeInt32(null);
+    public <T> T[] decodeStructureArray(String field, BinaryDecoderDelegate<T> delegate, Class<T> clazz) throws UaSerializationException {
+        return decodeStructureArray(field, delegate, length -> (T[]) Array.newInstance(clazz, length));
+    }
+
+    /**
+     * Decode an array of structures with a {@link BinaryDecoderDelegate}, typically a static {@code decodeBinary}
+     * method reference, into an array created by {@code arrayFactory}, typically an array constructor reference.
+     */
+    public <T> T[] decodeStructureArray(String field,
+                                        BinaryDecoderDelegate<T> delegate,
+                                        IntFunction<T[]> arrayFactory) throws UaSerializationException {
+
+        int length = decodeArrayLength();
+
+        T[] array = arrayFactory.apply(length);
+        for (int i = 0; i < length; i++) {
+            array[i] = delegate.decode(this);
+        }
+        return array;
+    }
+
+    /**
+     * @return the length of the array about to be decoded; 0 if it is null (-1).
+     */
+    int decodeArrayLength() throws UaSerializationException {
+        int length = readInt32(null);
 
         if (length == -1) {
-            return (T[]) Array.newInstance(clazz, 0);
+            return 0;
+        } else if (length > maxArrayLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max array length exceeded (length=%s, max=%s)", length, maxArrayLength));
+        }
+
+        charge(ARRAY_OVERHEAD + (long) length * REFERENCE_SIZE, length);
+
+        return length;
+    }
+
+    /**
+     * @return the buffer being decoded from.
+     */
+    ByteBuf getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Charge the projected heap cost of a value about to be decoded against the allocation budget.
+     *
+     * @param bytes    the projected heap cost, in bytes.
+     * @param elements the number of array elements.
+     * @throws UaSerializationException if either budget is exhausted.
+     * @see #setAllocationBudget(int, int)
+     */
+    private void charge(long bytes, int elements) throws UaSerializationException {
+        bytesRemaining -= bytes;
+        elementsRemaining -= elements;
+
+        if (bytesRemaining < 0 || elementsRemaining < 0) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("decoding allocation budget exceeded (maxDecodedBytesRatio=%s, " +
+                            "maxDecodedElementsRatio=%s)", maxDecodedBytesRatio, maxDecodedElementsRatio));
+        }
+    }
+
+    /**
+     * @return the size of an element of the primitive array a Variant array of {@code typeId} is decoded into, or
+     * {@link #REFERENCE_SIZE} if it's decoded into an array of objects.
+     */
+    private static int primitiveSize(int typeId) {
+        switch (typeId) {
+            case 1:
+            case 2:
+                return 1;
+            case 4:
+                return 2;
+            case 6:
+            case 10:
+                return 4;
+            case 8:
+            case 11:
+                return 8;
+            default:
+                return REFERENCE_SIZE;
+        }
+    }
+
+    /**
+     * Decode an array of structures as an {@link ArrayView} that decodes each element when it's accessed.
+     * <p>
+     * Elements are not decoded here; one pass runs {@code delegate} against a decoder that skips variable-length
+     * values, to find where each element starts. The view retains the region of the buffer the elements occupy and
+     * must be released once it's no longer needed.
+     * <p>
+     * The view's element count is charged against the allocation budget here. Each access then decodes its element
+     * under a budget in proportion to that element's encoded size, as if it were a message of its own.
+     *
+     * @param field    the field name.
+     * @param delegate the {@link BinaryDecoderDelegate} that decodes an element.
+     * @return an {@link ArrayView} of the encoded elements, or {@code null} if the array is null.
+     */
+    @Nullable
+    public <T> ArrayView<T> decodeArrayView(String field, BinaryDecoderDelegate<T> delegate) throws UaSerializationException {
+        int length = readInt32(null);
+
+        if (length == -1) {
+            return null;
+        }
+
+        if (length < -1) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    String.format("invalid array length (length=%s)", length));
+        }
+
+        if (length > maxArrayLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max array length exceeded (length=%s, max=%s)", length, maxArrayLength));
+        }
+
+        charge(ARRAY_OVERHEAD + length * 4L, length);
+
+        int[] offsets = new int[length];
+
+        if (skippingDecoder == null) {
+            skippingDecoder = new SkippingBinaryDecoder(maxArrayLength, maxStringLength);
+        }
+        skippingDecoder.setBuffer(buffer);
+
+        int start = buffer.readerIndex();
+
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = buffer.readerIndex() - start;
+            delegate.decode(skippingDecoder);
+        }
+
+        ByteBuf elements = buffer.slice(start, buffer.readerIndex() - start).retain();
+
+        BinaryDecoder elementDecoder = new BinaryDecoder(maxArrayLength, maxStringLength)
+                .setDecodePrimitiveArrays(decodePrimitiveArrays)
+                .setDecodeMatrices(decodeMatrices)
+                .setByteStringViewThreshold(byteStringViewThreshold)
+                .setAllocationBudget(maxDecodedBytesRatio, maxDecodedElementsRatio)
+                .setBuffer(elements);
+
+        return new ArrayView<>(elements, offsets, delegate, elementDecoder);
+    }
+
+    /**
+     * Read {@code length} bytes of UTF-8 encoded characters.
+     * <p>
+     * Heap buffers are decoded straight from their backing array; anything else (direct, pooled, or the composite
+     * buffers assembled by {@code ChunkDecoder}) is bulk-copied into a reusable scratch array first. The JDK's UTF-8
+     * array decoder takes an ASCII fast path, so in the common case the only allocation is the String itself.
+     *
+     * @param length the number of bytes to read.
+     * @return the decoded String.
+     */
+    private String readUtf8(int length) {
+        String s;
+
+        if (buffer.hasArray()) {
+            s = new String(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), length, UTF_8);
+            buffer.skipBytes(length);
         } else {
-            if (length > maxArrayLength) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
-                        String.format("max array length exceeded (length=%s, max=%s", length, maxArrayLength));
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, SCRATCH_SIZE)];
+            }
+
+            buffer.readBytes(scratch, 0, length);
+            s = new String(scratch, 0, length, UTF_8);
+        }
+
+        return s;
+    }
+
+    /**
+     * Read the elements of a one-dimensional Variant array.
+     * <p>
+     * Arrays of the numeric types are read with a loop specialized for the element type, or in bulk, straight from the
+     * buffer's memory into a primitive array, when {@link #setDecodePrimitiveArrays(boolean)} is enabled.
+     */
+    private Object decodeArrayValues(int typeId, int length) {
+        if (length > 0) {
+            int elementSize = decodePrimitiveArrays ? primitiveSize(typeId) : REFERENCE_SIZE;
+
+            charge(ARRAY_OVERHEAD + (long) length * elementSize, length);
+        }
+
+        if (decodePrimitiveArrays) {
+            switch (typeId) {
+                case 1: {
+                    boolean[] values = new boolean[length];
+                    for (int i = 0; i < length; i++) values[i] = buffer.readBoolean();
+                    return values;
+                }
+                case 2: {
+                    byte[] values = new byte[length];
+                    buffer.readBytes(values);
+                    return values;
+                }
+                case 4: {
+                    short[] values = new short[length];
+                    ByteBuffer bb = readableNioBuffer(length * 2);
+                    if (bb != null) {
+                        bb.asShortBuffer().get(values);
+                        buffer.skipBytes(length * 2);
+                    } else {
+                        for (int i = 0; i < length; i++) values[i] = buffer.readShort();
+                    }
+                    return values;
+                }
+                case 6: {
+                    int[] values = new int[length];
+                    ByteBuffer bb = readableNioBuffer(length * 4);
+                    if (bb != null) {
+                        bb.asIntBuffer().get(values);
+                        buffer.skipBytes(length * 4);
+                    } else {
+                        for (int i = 0; i < length; i++) values[i] = buffer.readInt();
+                    }
+                    return values;
+                }
+                case 8: {
+                    long[] values = new long[length];
+                    ByteBuffer bb = readableNioBuffer(length * 8);
+                    if (bb != null) {
+                        bb.asLongBuffer().get(values);
+                        buffer.skipBytes(length * 8);
+                    } else {
+                        for (int i = 0; i < length; i++) values[i] = buffer.readLong();
+                    }
+                    return values;
+                }
+                case 10: {
+                    float[] values = new float[length];
+                    ByteBuffer bb = readableNioBuffer(length * 4);
+                    if (bb != null) {
+                        bb.asFloatBuffer().get(values);
+                        buffer.skipBytes(length * 4);
+                    } else {
+                        for (int i = 0; i < length; i++) values[i] = buffer.readFloat();
+                    }
+                    return values;
+                }
+                case 11: {
+                    double[] values = new double[length];
+                    ByteBuffer bb = readableNioBuffer(length * 8);
+                    if (bb != null) {
+                        bb.asDoubleBuffer().get(values);
+                        buffer.skipBytes(length * 8);
+                    } else {
+                        for (int i = 0; i < length; i++) values[i] = buffer.readDouble();
+                    }
+                    return values;
+                }
             }
+        }
 
-            T[] array = (T[]) Array.newInstance(clazz, length);
-            for (int i = 0; i < length; i++) {
-                array[i] = decoder.apply(null, clazz);
+        switch (typeId) {
+            case 1: {
+                Boolean[] values = new Boolean[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readBoolean();
+                return values;
+            }
+            case 2: {
+                Byte[] values = new Byte[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readByte();
+                return values;
+            }
+            case 3: {
+                UByte[] values = new UByte[length];
+                for (int i = 0; i < length; i++) values[i] = Unsigned.ubyte(buffer.readUnsignedByte());
+                return values;
+            }
+            case 4: {
+                Short[] values = new Short[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readShort();
+                return values;
+            }
+            case 5: {
+                UShort[] values = new UShort[length];
+                for (int i = 0; i < length; i++) values[i] = Unsigned.ushort(buffer.readUnsignedShort());
+                return values;
+            }
+            case 6: {
+                Integer[] values = new Integer[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readInt();
+                return values;
+            }
+            case 7: {
+                UInteger[] values = new UInteger[length];
+                for (int i = 0; i < length; i++) values[i] = Unsigned.uint(buffer.readUnsignedInt());
+                return values;
+            }
+            case 8: {
+                Long[] values = new Long[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readLong();
+                return values;
+            }
+            case 9: {
+                ULong[] values = new ULong[length];
+                for (int i = 0; i < length; i++) values[i] = Unsigned.ulong(buffer.readLong());
+                return values;
+            }
+            case 10: {
+                Float[] values = new Float[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readFloat();
+                return values;
+            }
+            case 11: {
+                Double[] values = new Double[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readDouble();
+                return values;
+            }
+            default: {
+                Class<?> backingClass = TypeUtil.getBackingClass(typeId);
+                Object[] values = (Object[]) Array.newInstance(backingClass, length);
+                for (int i = 0; i < length; i++) values[i] = decodeBuiltinType(typeId);
+                return values;
             }
-            return array;
         }
     }
 
-    private int[] decodeDimensions() {
-        int length = decodeInt32(null);
+    /**
+     * @param length the number of bytes about to be read.
+     * @return a little-endian {@link ByteBuffer} sharing the buffer's memory for the next {@code length} readable
+     * bytes, or {@code null} if that region isn't contiguous.
+     */
+    private ByteBuffer readableNioBuffer(int length) {
+        if (length > buffer.readableBytes()) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    String.format("array length exceeds readable bytes (length=%s, readable=%s)",
+                            length, buffer.readableBytes()));
+        }
 
-        if (length == -1) {
-            return new int[0];
+        if (buffer.nioBufferCount() == 1) {
+            return buffer.nioBuffer(buffer.readerIndex(), length).order(ByteOrder.LITTLE_ENDIAN);
         } else {
-            int[] is = new int[length];
-            for (int i = 0; i < length; i++) {
-                is[i] = decodeInt32(null);
-            }
-            return is;
+            return null;
+        }
+    }
+
+    private int[] decodeDimensions() {
+        int[] is = new int[decodeArrayLength()];
+        for (int i = 0; i < is.length; i++) {
+            is[i] = readInt32(null);
         }
+        return is;
     }
 
     private Object decodeBuiltinType(int typeId) throws UaSerializationException {
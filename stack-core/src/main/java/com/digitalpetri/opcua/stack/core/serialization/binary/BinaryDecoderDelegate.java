@@ -0,0 +1,27 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+/**
+ * A decoder for a type that reads directly from a {@link BinaryDecoder}.
+ * <p>
+ * The generated structured types implement this as a static {@code decodeBinary} method that calls the codecs of
+ * nested structures directly rather than going through the {@code DelegateRegistry}.
+ */
+public interface BinaryDecoderDelegate<T> {
+    T decode(BinaryDecoder decoder);
+}
@@ -16,10 +16,13 @@
 
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
 
@@ -33,12 +36,16 @@ import com.digitalpetri.opcua.stack.core.serialization.UaEnumeration;
 import com.digitalpetri.opcua.stack.core.serialization.UaSerializable;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteStringView;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
+import com.digitalpetri.opcua.stack.core.types.builtin.MutableDataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.MutableVariant;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -48,11 +55,11 @@ import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
-import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.digitalpetri.opcua.stack.core.types.enumerated.IdType;
 import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
-import com.digitalpetri.opcua.stack.core.util.TypeUtil;
+import com.digitalpetri.opcua.stack.core.util.BufferUtil;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import org.slf4j.LoggerFactory;
 
 public class BinaryEncoder implements UaEncoder {
@@ -62,6 +69,18 @@ public class BinaryEncoder implements UaEncoder {
     private final int maxArrayLength;
     private final int maxStringLength;
 
+    private static final int SCRATCH_SIZE = 1024;
+
+    /**
+     * Arrays encoded in parallel are split into this many segments per thread, so a slow segment doesn't leave the
+     * other threads idle.
+     */
+    private static final int SEGMENTS_PER_THREAD = 4;
+    private byte[] scratch;
+
+    private int parallelArrayThreshold = 0;
+    private ForkJoinPool parallelArrayPool;
+
     public BinaryEncoder() {
         this(ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, ChannelConfig.DEFAULT_MAX_STRING_LENGTH);
     }
@@ -80,6 +99,24 @@ public class BinaryEncoder implements UaEncoder {
         return buffer;
     }
 
+    /**
+     * Encode arrays passed to {@link #encodeStructureArray(String, Object[], BinaryEncoderDelegate)} that have at
+     * least {@code threshold} elements in parallel.
+     * <p>
+     * The array is split into segments, one or more per thread of {@code pool}, which are encoded into separate
+     * buffers and then written, in order, after the length prefix. The output is identical to encoding the array
+     * serially. Arrays are always encoded serially if {@code pool} has a parallelism of 1. Disabled by default.
+     *
+     * @param threshold the minimum length of an array encoded in parallel, or 0 to disable.
+     * @param pool      the {@link ForkJoinPool} to encode segments on.
+     * @return this {@link BinaryEncoder}.
+     */
+    public BinaryEncoder setParallelArrayEncoding(int threshold, ForkJoinPool pool) {
+        this.parallelArrayThreshold = threshold;
+        this.parallelArrayPool = pool;
+        return this;
+    }
+
     @Override
     public void encodeBoolean(String field, Boolean value) {
         if (value == null) {
@@ -179,6 +216,61 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        buffer.writeBoolean(value);
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        buffer.writeShort(value);
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        buffer.writeInt(value);
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        buffer.writeLong(value);
+    }
+
+    @Override
+    public void writeByte(String field, int value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        buffer.writeShort(value);
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        buffer.writeInt((int) value);
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        buffer.writeLong(value);
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        buffer.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        buffer.writeDouble(value);
+    }
+
     @Override
     public void encodeString(String field, String value) throws UaSerializationException {
         if (value == null) {
@@ -189,26 +281,7 @@ public class BinaryEncoder implements UaEncoder {
                         "max string length exceeded");
             }
 
-            try {
-                // Record the current index and write a placeholder for the length.
-                int lengthIndex = buffer.writerIndex();
-                buffer.writeInt(0x42424242);
-
-                // Write the string bytes.
-                int indexBefore = buffer.writerIndex();
-                buffer.writeBytes(value.getBytes("UTF-8"));
-                int indexAfter = buffer.writerIndex();
-                int bytesWritten = indexAfter - indexBefore;
-
-                // Go back and update the length.
-                buffer.writerIndex(lengthIndex);
-                buffer.writeInt(bytesWritten);
-
-                // Return to where we were after writing the string.
-                buffer.writerIndex(indexAfter);
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
-            }
+            writeUtf8(value);
         }
     }
 
@@ -241,6 +314,11 @@ public class BinaryEncoder implements UaEncoder {
     public void encodeByteString(String field, ByteString value) {
         if (value == null || value.isNull()) {
             buffer.writeInt(-1);
+        } else if (value instanceof ByteStringView) {
+            ByteBuf bs = ((ByteStringView) value).buffer();
+
+            buffer.writeInt(bs.readableBytes());
+            buffer.writeBytes(bs);
         } else {
             byte[] bytes = value.bytes();
 
@@ -256,11 +334,7 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null || value.isNull()) {
             buffer.writeInt(-1);
         } else {
-            try {
-                encodeByteString(null, new ByteString(value.getFragment().getBytes("UTF-8")));
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
-            }
+            writeUtf8(value.getFragment());
         }
     }
 
@@ -376,7 +450,7 @@ public class BinaryEncoder implements UaEncoder {
         }
 
         if (serverIndex > 0) {
-            encodeUInt32(null, Unsigned.uint(serverIndex));
+            writeUInt32(null, serverIndex);
         }
     }
 
@@ -385,7 +459,7 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null) {
             buffer.writeInt(0);
         } else {
-            encodeUInt32(null, Unsigned.uint(value.getValue()));
+            writeUInt32(null, value.getValue());
         }
     }
 
@@ -424,7 +498,12 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
-        if (value == null || value.getEncoded() == null) {
+        if (value != null && !value.isEncoded()) {
+            encodeNodeId(null, value.getEncodingTypeId());
+            buffer.writeByte(1); // Body is binary encoded
+
+            encodeBody(value.decode(), value.getEncodingTypeId());
+        } else if (value == null || value.getEncoded() == null) {
             encodeNodeId(null, NodeId.NULL_VALUE);
             buffer.writeByte(0); // No body is encoded
         } else {
@@ -483,55 +562,47 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null) {
             buffer.writeByte(0);
         } else {
-            boolean structure = false;
-            boolean enumeration = false;
-            Class<?> valueClass = getClass(value);
-
-            if (UaStructure.class.isAssignableFrom(valueClass)) {
-                valueClass = ExtensionObject.class;
-                structure = true;
-            } else if (UaEnumeration.class.isAssignableFrom(valueClass)) {
-                valueClass = Integer.class;
-                enumeration = true;
-            }
+            Matrix matrix = value instanceof Matrix ? (Matrix) value : null;
 
-            int typeId = TypeUtil.getBuiltinTypeId(valueClass);
+            boolean structure = variant.isStructure();
+            boolean enumeration = variant.isEnumeration();
+            int typeId = variant.getBuiltinTypeId();
 
             if (typeId == -1) {
                 LoggerFactory.getLogger(getClass())
-                        .warn("Not a built-in type: {}", valueClass);
+                        .warn("Not a built-in type: {}", getClass(value));
             }
 
-            if (value.getClass().isArray()) {
-                int[] dimensions = ArrayUtil.getDimensions(value);
-
-                if (dimensions.length == 1) {
+            if (matrix != null) {
+                if (matrix.getRank() == 1) {
                     buffer.writeByte(typeId | 0x80);
 
-                    int length = Array.getLength(value);
-                    buffer.writeInt(length);
+                    encodeArrayValues(matrix.getElements(), typeId, structure, enumeration);
+                } else {
+                    buffer.writeByte(typeId | 0xC0);
 
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(value, i);
+                    encodeArrayValues(matrix.getElements(), typeId, structure, enumeration);
 
-                        encodeValue(o, typeId, structure, enumeration);
+                    writeInt32(null, matrix.getRank());
+                    for (int i = 0; i < matrix.getRank(); i++) {
+                        writeInt32(null, matrix.getDimension(i));
                     }
-                } else {
-                    buffer.writeByte(typeId | 0xC0);
+                }
+            } else if (variant.isArray()) {
+                int rank = variant.getRank();
 
-                    Object flattened = ArrayUtil.flatten(value);
-                    int length = Array.getLength(flattened);
-                    buffer.writeInt(length);
+                if (rank == 1) {
+                    buffer.writeByte(typeId | 0x80);
 
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(flattened, i);
+                    encodeArrayValues(value, typeId, structure, enumeration);
+                } else {
+                    buffer.writeByte(typeId | 0xC0);
 
-                        encodeValue(o, typeId, structure, enumeration);
-                    }
+                    encodeArrayValues(ArrayUtil.flatten(value), typeId, structure, enumeration);
 
-                    encodeInt32(null, dimensions.length);
-                    for (int dimension : dimensions) {
-                        encodeInt32(null, dimension);
+                    writeInt32(null, rank);
+                    for (int i = 0; i < rank; i++) {
+                        writeInt32(null, variant.getDimension(i));
                     }
                 }
             } else {
@@ -542,11 +613,248 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    /**
+     * Encode a {@link MutableDataValue} exactly as the {@link DataValue} it converts to would be encoded, without
+     * allocating.
+     */
+    public void encodeDataValue(String field, MutableDataValue value) throws UaSerializationException {
+        if (value == null) {
+            buffer.writeByte(0);
+        } else {
+            int mask = 0x00;
+
+            if (value.getValue().isNotNull()) mask |= 0x01;
+            if (value.getStatusCode() != 0L) mask |= 0x02;
+            if (value.getSourceTime() != 0L) mask |= 0x04;
+            if (value.getServerTime() != 0L) mask |= 0x08;
+
+            buffer.writeByte(mask);
+
+            if ((mask & 0x01) == 0x01) encodeVariant(null, value.getValue());
+            if ((mask & 0x02) == 0x02) writeUInt32(null, value.getStatusCode());
+            if ((mask & 0x04) == 0x04) writeInt64(null, value.getSourceTime());
+            if ((mask & 0x08) == 0x08) writeInt64(null, value.getServerTime());
+        }
+    }
+
+    /**
+     * Encode a {@link MutableVariant} exactly as the {@link Variant} it converts to would be encoded, without
+     * allocating.
+     */
+    public void encodeVariant(String field, MutableVariant variant) throws UaSerializationException {
+        Object reference = variant.getReference();
+
+        if (reference instanceof Variant) {
+            encodeVariant(field, (Variant) reference);
+            return;
+        }
+
+        int typeId = variant.getBuiltinTypeId();
+
+        buffer.writeByte(typeId);
+
+        switch (typeId) {
+            case 0:
+                break;
+            case 1:
+                writeBoolean(null, variant.getBoolean());
+                break;
+            case 2:
+                writeSByte(null, (byte) variant.getLong());
+                break;
+            case 3:
+                writeByte(null, (int) variant.getLong());
+                break;
+            case 4:
+                writeInt16(null, (short) variant.getLong());
+                break;
+            case 5:
+                writeUInt16(null, (int) variant.getLong());
+                break;
+            case 6:
+                writeInt32(null, (int) variant.getLong());
+                break;
+            case 7:
+            case 19:
+                writeUInt32(null, variant.getLong());
+                break;
+            case 8:
+            case 9:
+            case 13:
+                writeInt64(null, variant.getLong());
+                break;
+            case 10:
+                writeFloat(null, variant.getFloat());
+                break;
+            case 11:
+                writeDouble(null, variant.getDouble());
+                break;
+            case 12:
+                encodeString(null, (String) reference);
+                break;
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, "unknown builtin type: " + typeId);
+        }
+    }
+
+    /**
+     * Write the length and elements of a one-dimensional Variant array.
+     * <p>
+     * Primitive arrays are written in bulk, straight from the array into the buffer's memory when it is contiguous.
+     * Arrays of the boxed and unsigned numeric types are written with a loop specialized for the element type.
+     * Everything else is written one element at a time.
+     */
+    private void encodeArrayValues(Object array, int typeId, boolean structure, boolean enumeration) {
+        if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            buffer.writeInt(values.length);
+            ByteBuffer bb = writableNioBuffer(values.length * 8);
+            if (bb != null) {
+                bb.asDoubleBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + values.length * 8);
+            } else {
+                for (double v : values) buffer.writeDouble(v);
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            buffer.writeInt(values.length);
+            ByteBuffer bb = writableNioBuffer(values.length * 4);
+            if (bb != null) {
+                bb.asFloatBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + values.length * 4);
+            } else {
+                for (float v : values) buffer.writeFloat(v);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            buffer.writeInt(values.length);
+            ByteBuffer bb = writableNioBuffer(values.length * 8);
+            if (bb != null) {
+                bb.asLongBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + values.length * 8);
+            } else {
+                for (long v : values) buffer.writeLong(v);
+            }
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            buffer.writeInt(values.length);
+            ByteBuffer bb = writableNioBuffer(values.length * 4);
+            if (bb != null) {
+                bb.asIntBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + values.length * 4);
+            } else {
+                for (int v : values) buffer.writeInt(v);
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            buffer.writeInt(values.length);
+            ByteBuffer bb = writableNioBuffer(values.length * 2);
+            if (bb != null) {
+                bb.asShortBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + values.length * 2);
+            } else {
+                for (short v : values) buffer.writeShort(v);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] values = (byte[]) array;
+            buffer.writeInt(values.length);
+            buffer.writeBytes(values);
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            buffer.writeInt(values.length);
+            buffer.ensureWritable(values.length);
+            for (boolean v : values) buffer.writeBoolean(v);
+        } else {
+            Object[] values = (Object[]) array;
+            buffer.writeInt(values.length);
+
+            if (structure || enumeration) {
+                for (Object v : values) encodeValue(v, typeId, structure, enumeration);
+            } else {
+                encodeBuiltinTypeArray(typeId, values);
+            }
+        }
+    }
+
+    private void encodeBuiltinTypeArray(int typeId, Object[] values) {
+        switch (typeId) {
+            case 1:
+                for (Object v : values) encodeBoolean(null, (Boolean) v);
+                break;
+            case 2:
+                for (Object v : values) encodeSByte(null, (Byte) v);
+                break;
+            case 3:
+                for (Object v : values) encodeByte(null, (UByte) v);
+                break;
+            case 4:
+                for (Object v : values) encodeInt16(null, (Short) v);
+                break;
+            case 5:
+                for (Object v : values) encodeUInt16(null, (UShort) v);
+                break;
+            case 6:
+                for (Object v : values) encodeInt32(null, (Integer) v);
+                break;
+            case 7:
+                for (Object v : values) encodeUInt32(null, (UInteger) v);
+                break;
+            case 8:
+                for (Object v : values) encodeInt64(null, (Long) v);
+                break;
+            case 9:
+                for (Object v : values) encodeUInt64(null, (ULong) v);
+                break;
+            case 10:
+                for (Object v : values) encodeFloat(null, (Float) v);
+                break;
+            case 11:
+                for (Object v : values) encodeDouble(null, (Double) v);
+                break;
+            default:
+                for (Object v : values) encodeBuiltinType(typeId, v);
+        }
+    }
+
+    /**
+     * @param length the number of bytes about to be written.
+     * @return a little-endian {@link ByteBuffer} sharing the buffer's memory for the next {@code length} writable
+     * bytes, or {@code null} if that region isn't contiguous.
+     */
+    private ByteBuffer writableNioBuffer(int length) {
+        buffer.ensureWritable(length);
+
+        if (buffer.nioBufferCount() == 1) {
+            return buffer.nioBuffer(buffer.writerIndex(), length).order(ByteOrder.LITTLE_ENDIAN);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Encode {@code body} as the binary body of an ExtensionObject, directly into this encoder's buffer.
+     * <p>
+     * The length prefix is written once the body has been encoded and its size is known.
+     */
+    private void encodeBody(Object body, NodeId encodingTypeId) throws UaSerializationException {
+        EncoderDelegate<Object> delegate = DelegateRegistry.getEncoder(encodingTypeId);
+
+        int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+
+        delegate.encode(body, this);
+
+        buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - 4);
+    }
+
     private void encodeValue(Object value, int typeId, boolean structure, boolean enumeration) {
         if (structure) {
-            ExtensionObject extensionObject = ExtensionObject.encode((UaStructure) value);
+            UaStructure body = (UaStructure) value;
 
-            encodeBuiltinType(typeId, extensionObject);
+            encodeNodeId(null, body.getBinaryEncodingId());
+            buffer.writeByte(1); // Body is binary encoded
+
+            encodeBody(body, body.getBinaryEncodingId());
         } else if (enumeration) {
             encodeBuiltinType(typeId, ((UaEnumeration) value).getValue());
         } else {
@@ -580,10 +888,10 @@ public class BinaryEncoder implements UaEncoder {
 
             buffer.writeByte(mask);
 
-            if ((mask & 0x01) == 0x01) encodeInt32(null, value.getSymbolicId());
-            if ((mask & 0x02) == 0x02) encodeInt32(null, value.getNamespaceUri());
-            if ((mask & 0x04) == 0x04) encodeInt32(null, value.getLocalizedText());
-            if ((mask & 0x08) == 0x08) encodeInt32(null, value.getLocale());
+            if ((mask & 0x01) == 0x01) writeInt32(null, value.getSymbolicId());
+            if ((mask & 0x02) == 0x02) writeInt32(null, value.getNamespaceUri());
+            if ((mask & 0x04) == 0x04) writeInt32(null, value.getLocalizedText());
+            if ((mask & 0x08) == 0x08) writeInt32(null, value.getLocale());
             if ((mask & 0x10) == 0x10) encodeString(null, value.getAdditionalInfo());
             if ((mask & 0x20) == 0x20) encodeStatusCode(null, value.getInnerStatusCode());
             if ((mask & 0x40) == 0x40) encodeDiagnosticInfo(null, value.getInnerDiagnosticInfo());
@@ -592,6 +900,11 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public <T extends UaStructure> void encodeMessage(String field, T message) throws UaSerializationException {
+        if (message instanceof TemplatedRequest) {
+            ((TemplatedRequest) message).writeTo(buffer);
+            return;
+        }
+
         EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(message.getBinaryEncodingId());
 
         encodeNodeId(null, message.getBinaryEncodingId());
@@ -602,17 +915,24 @@ public class BinaryEncoder implements UaEncoder {
     @Override
     public <T extends UaEnumeration> void encodeEnumeration(String field, T value) throws UaSerializationException {
         if (value == null) {
-            encodeInt32(null, -1);
+            writeInt32(null, -1);
         } else {
-            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
-
-            delegate.encode(value, this);
+            buffer.writeInt(value.getValue());
         }
     }
 
     @Override
     public <T extends UaSerializable> void encodeSerializable(String field, T value) throws UaSerializationException {
-        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
+        EncoderDelegate<T> delegate = null;
+
+        if (value instanceof UaStructure) {
+            // Prefer a binary-specific delegate when one is registered for the binary encoding id.
+            delegate = DelegateRegistry.getEncoder(((UaStructure) value).getBinaryEncodingId());
+        }
+
+        if (delegate == null) {
+            delegate = DelegateRegistry.getEncoder(value);
+        }
 
         delegate.encode(value, this);
     }
@@ -627,13 +947,157 @@ public class BinaryEncoder implements UaEncoder {
                         "max array length exceeded");
             }
 
-            encodeInt32(null, values.length);
+            writeInt32(null, values.length);
             for (T t : values) {
                 consumer.accept(null, t);
             }
         }
     }
 
+    /**
+     * Encode an array of structures with a {@link BinaryEncoderDelegate}, typically a static {@code encodeBinary}
+     * method reference, rather than looking up a delegate for each element.
+     * <p>
+     * Because the delegate is handed the encoder to use, large arrays can be encoded in parallel; see
+     * {@link #setParallelArrayEncoding(int, ForkJoinPool)}.
+     */
+    public <T> void encodeStructureArray(String field, T[] values, BinaryEncoderDelegate<T> delegate) throws UaSerializationException {
+        if (values == null) {
+            buffer.writeInt(-1);
+        } else {
+            if (values.length > maxArrayLength) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                        "max array length exceeded");
+            }
+
+            buffer.writeInt(values.length);
+
+            if (parallelArrayThreshold > 0 && values.length >= parallelArrayThreshold &&
+                    parallelArrayPool.getParallelism() > 1) {
+                encodeSegments(values, delegate);
+            } else {
+                for (T t : values) {
+                    delegate.encode(t, this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encode the elements of {@code values} in segments on {@link #parallelArrayPool}, each into its own buffer, and
+     * stitch the segments together in order into {@link #buffer}.
+     */
+    private <T> void encodeSegments(T[] values, BinaryEncoderDelegate<T> delegate) {
+        int segmentCount = Math.min(values.length, parallelArrayPool.getParallelism() * SEGMENTS_PER_THREAD);
+        int segmentLength = (values.length + segmentCount - 1) / segmentCount;
+
+        List<ForkJoinTask<ByteBuf>> tasks = new ArrayList<>(segmentCount);
+
+        for (int from = 0; from < values.length; from += segmentLength) {
+            int start = from;
+            int end = Math.min(from + segmentLength, values.length);
+
+            tasks.add(parallelArrayPool.submit(() -> {
+                ByteBuf segment = BufferUtil.buffer();
+
+                try {
+                    BinaryEncoder encoder = new BinaryEncoder(maxArrayLength, maxStringLength).setBuffer(segment);
+
+                    for (int i = start; i < end; i++) {
+                        delegate.encode(values[i], encoder);
+                    }
+
+                    return segment;
+                } catch (Throwable t) {
+                    segment.release();
+                    throw t;
+                }
+            }));
+        }
+
+        CompositeByteBuf segments = BufferUtil.compositeBuffer();
+
+        try {
+            RuntimeException failure = null;
+
+            for (ForkJoinTask<ByteBuf> task : tasks) {
+                try {
+                    ByteBuf segment = task.join();
+                    segments.addComponent(segment);
+                    segments.writerIndex(segments.writerIndex() + segment.readableBytes());
+                } catch (RuntimeException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+
+            if (failure != null) throw failure;
+
+            buffer.writeBytes(segments);
+        } finally {
+            segments.release();
+        }
+    }
+
+    /**
+     * Write {@code value} as a length-prefixed UTF-8 string.
+     * <p>
+     * The characters are encoded into a reusable scratch array and copied to the buffer in blocks, so no per-string
+     * byte[] is allocated, and the length prefix is patched in once the encoded size is known. Unpaired surrogates are
+     * replaced with '?', the same as {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param value the String to write.
+     */
+    private void writeUtf8(String value) {
+        int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+
+        byte[] bs = scratch != null ? scratch : (scratch = new byte[SCRATCH_SIZE]);
+        int limit = bs.length - 4;
+        int position = 0;
+        int written = 0;
+
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            if (position > limit) {
+                buffer.writeBytes(bs, 0, position);
+                written += position;
+                position = 0;
+            }
+
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                bs[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bs[position++] = (byte) (0xC0 | (c >> 6));
+                bs[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length &&
+                        Character.isLowSurrogate(value.charAt(i + 1))) {
+
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                    bs[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    bs[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bs[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bs[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    bs[position++] = '?';
+                }
+            } else {
+                bs[position++] = (byte) (0xE0 | (c >> 12));
+                bs[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bs[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        buffer.writeBytes(bs, 0, position);
+        written += position;
+
+        buffer.setInt(lengthIndex, written);
+    }
+
     private void encodeBuiltinType(int typeId, Object value) throws UaSerializationException {
         switch (typeId) {
             case 1:
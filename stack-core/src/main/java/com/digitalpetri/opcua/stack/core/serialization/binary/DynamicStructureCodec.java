@@ -0,0 +1,208 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.List;
+import java.util.Map;
+
+import com.digitalpetri.opcua.stack.core.BuiltinDataType;
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.types.dynamic.DynamicStructure;
+import com.digitalpetri.opcua.stack.core.types.dynamic.StructureDefinition;
+import com.digitalpetri.opcua.stack.core.types.dynamic.StructureField;
+import com.google.common.collect.Maps;
+
+/**
+ * Binary encodes and decodes the {@link DynamicStructure}s of a {@link StructureDefinition}.
+ * <p>
+ * The definition is compiled once, into a decoder and encoder per field, so encoding or decoding a structure is a
+ * single pass over its fields with no lookups. Codecs are cached per definition; use {@link #of(StructureDefinition)}
+ * rather than compiling a definition again.
+ * <p>
+ * A codec is only used for ExtensionObject bodies, e.g. by
+ * {@link com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject#decode()}, once it's
+ * {@link #register() registered}.
+ */
+public class DynamicStructureCodec implements BinaryEncoderDelegate<DynamicStructure>,
+        BinaryDecoderDelegate<DynamicStructure> {
+
+    private static final Map<StructureDefinition, DynamicStructureCodec> CODECS = Maps.newConcurrentMap();
+
+    private static final BinaryDecoderDelegate<?>[] BUILTIN_DECODERS = new BinaryDecoderDelegate<?>[26];
+    private static final BinaryEncoderDelegate<?>[] BUILTIN_ENCODERS = new BinaryEncoderDelegate<?>[26];
+
+    static {
+        builtin(BuiltinDataType.Boolean, d -> d.decodeBoolean(null), (v, e) -> e.encodeBoolean(null, v));
+        builtin(BuiltinDataType.SByte, d -> d.decodeSByte(null), (v, e) -> e.encodeSByte(null, v));
+        builtin(BuiltinDataType.Byte, d -> d.decodeByte(null), (v, e) -> e.encodeByte(null, v));
+        builtin(BuiltinDataType.Int16, d -> d.decodeInt16(null), (v, e) -> e.encodeInt16(null, v));
+        builtin(BuiltinDataType.UInt16, d -> d.decodeUInt16(null), (v, e) -> e.encodeUInt16(null, v));
+        builtin(BuiltinDataType.Int32, d -> d.decodeInt32(null), (v, e) -> e.encodeInt32(null, v));
+        builtin(BuiltinDataType.UInt32, d -> d.decodeUInt32(null), (v, e) -> e.encodeUInt32(null, v));
+        builtin(BuiltinDataType.Int64, d -> d.decodeInt64(null), (v, e) -> e.encodeInt64(null, v));
+        builtin(BuiltinDataType.UInt64, d -> d.decodeUInt64(null), (v, e) -> e.encodeUInt64(null, v));
+        builtin(BuiltinDataType.Float, d -> d.decodeFloat(null), (v, e) -> e.encodeFloat(null, v));
+        builtin(BuiltinDataType.Double, d -> d.decodeDouble(null), (v, e) -> e.encodeDouble(null, v));
+        builtin(BuiltinDataType.String, d -> d.decodeString(null), (v, e) -> e.encodeString(null, v));
+        builtin(BuiltinDataType.DateTime, d -> d.decodeDateTime(null), (v, e) -> e.encodeDateTime(null, v));
+        builtin(BuiltinDataType.Guid, d -> d.decodeGuid(null), (v, e) -> e.encodeGuid(null, v));
+        builtin(BuiltinDataType.ByteString, d -> d.decodeByteString(null), (v, e) -> e.encodeByteString(null, v));
+        builtin(BuiltinDataType.XmlElement, d -> d.decodeXmlElement(null), (v, e) -> e.encodeXmlElement(null, v));
+        builtin(BuiltinDataType.NodeId, d -> d.decodeNodeId(null), (v, e) -> e.encodeNodeId(null, v));
+        builtin(BuiltinDataType.ExpandedNodeId,
+                d -> d.decodeExpandedNodeId(null), (v, e) -> e.encodeExpandedNodeId(null, v));
+        builtin(BuiltinDataType.StatusCode, d -> d.decodeStatusCode(null), (v, e) -> e.encodeStatusCode(null, v));
+        builtin(BuiltinDataType.QualifiedName,
+                d -> d.decodeQualifiedName(null), (v, e) -> e.encodeQualifiedName(null, v));
+        builtin(BuiltinDataType.LocalizedText,
+                d -> d.decodeLocalizedText(null), (v, e) -> e.encodeLocalizedText(null, v));
+        builtin(BuiltinDataType.ExtensionObject,
+                d -> d.decodeExtensionObject(null), (v, e) -> e.encodeExtensionObject(null, v));
+        builtin(BuiltinDataType.DataValue, d -> d.decodeDataValue(null), (v, e) -> e.encodeDataValue(null, v));
+        builtin(BuiltinDataType.Variant, d -> d.decodeVariant(null), (v, e) -> e.encodeVariant(null, v));
+        builtin(BuiltinDataType.DiagnosticInfo,
+                d -> d.decodeDiagnosticInfo(null), (v, e) -> e.encodeDiagnosticInfo(null, v));
+    }
+
+    private static <T> void builtin(BuiltinDataType type,
+                                    BinaryDecoderDelegate<T> decoder,
+                                    BinaryEncoderDelegate<T> encoder) {
+
+        BUILTIN_DECODERS[type.getTypeId()] = decoder;
+        BUILTIN_ENCODERS[type.getTypeId()] = encoder;
+    }
+
+    private final StructureDefinition definition;
+    private final String[] fieldNames;
+    private final BinaryDecoderDelegate<?>[] decoders;
+    private final BinaryEncoderDelegate<Object>[] encoders;
+
+    @SuppressWarnings("unchecked")
+    private DynamicStructureCodec(StructureDefinition definition) {
+        List<StructureField> fields = definition.getFields();
+
+        this.definition = definition;
+        this.fieldNames = new String[fields.size()];
+        this.decoders = new BinaryDecoderDelegate<?>[fields.size()];
+        this.encoders = new BinaryEncoderDelegate[fields.size()];
+
+        for (int i = 0; i < fields.size(); i++) {
+            StructureField field = fields.get(i);
+
+            BinaryDecoderDelegate<Object> decoder;
+            BinaryEncoderDelegate<Object> encoder;
+            Class<Object> elementClass;
+
+            if (field.getBuiltinType() != null) {
+                int typeId = field.getBuiltinType().getTypeId();
+
+                decoder = (BinaryDecoderDelegate<Object>) BUILTIN_DECODERS[typeId];
+                encoder = (BinaryEncoderDelegate<Object>) BUILTIN_ENCODERS[typeId];
+                elementClass = (Class<Object>) field.getBuiltinType().getBackingClass();
+            } else {
+                DynamicStructureCodec codec = of(field.getStructure());
+
+                decoder = codec::decode;
+                encoder = (v, e) -> codec.encode((DynamicStructure) v, e);
+                elementClass = (Class) DynamicStructure.class;
+            }
+
+            fieldNames[i] = field.getName();
+
+            if (field.isArray()) {
+                BinaryDecoderDelegate<Object> elementDecoder = decoder;
+                BinaryEncoderDelegate<Object> elementEncoder = encoder;
+
+                decoders[i] = d -> d.decodeStructureArray(null, elementDecoder, elementClass);
+                encoders[i] = (v, e) -> e.encodeStructureArray(null, (Object[]) v, elementEncoder);
+            } else {
+                decoders[i] = decoder;
+                encoders[i] = encoder;
+            }
+        }
+    }
+
+    public StructureDefinition getDefinition() {
+        return definition;
+    }
+
+    @Override
+    public DynamicStructure decode(BinaryDecoder decoder) throws UaSerializationException {
+        Object[] values = new Object[decoders.length];
+
+        for (int i = 0; i < decoders.length; i++) {
+            values[i] = decoders[i].decode(decoder);
+        }
+
+        return new DynamicStructure(definition, values);
+    }
+
+    @Override
+    public void encode(DynamicStructure value, BinaryEncoder encoder) throws UaSerializationException {
+        if (value == null || value.getDefinition() != definition) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                    "not a " + definition.getName() + ": " + value);
+        }
+
+        for (int i = 0; i < encoders.length; i++) {
+            try {
+                encoders[i].encode(value.get(i), encoder);
+            } catch (ClassCastException e) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                        String.format("%s.%s: %s", definition.getName(), fieldNames[i], e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Register this codec in the {@link DelegateRegistry} under the binary encoding id of its definition, so
+     * ExtensionObjects with that encoding id encode and decode as {@link DynamicStructure}s.
+     *
+     * @return this codec.
+     * @throws IllegalStateException if the definition has no binary encoding id.
+     */
+    public DynamicStructureCodec register() {
+        if (definition.getBinaryEncodingId() == null) {
+            throw new IllegalStateException(definition.getName() + " has no binary encoding id");
+        }
+
+        DelegateRegistry.registerBinaryEncoder(this, DynamicStructure.class, definition.getBinaryEncodingId());
+        DelegateRegistry.registerBinaryDecoder(this, DynamicStructure.class, definition.getBinaryEncodingId());
+
+        return this;
+    }
+
+    /**
+     * @param definition a {@link StructureDefinition}.
+     * @return the codec for {@code definition}, compiled on first use.
+     */
+    public static DynamicStructureCodec of(StructureDefinition definition) {
+        DynamicStructureCodec codec = CODECS.get(definition);
+
+        if (codec == null) {
+            // Not computeIfAbsent(): compiling a definition compiles the definitions nested in it too.
+            codec = new DynamicStructureCodec(definition);
+
+            DynamicStructureCodec existing = CODECS.putIfAbsent(definition, codec);
+            if (existing != null) codec = existing;
+        }
+
+        return codec;
+    }
+
+}
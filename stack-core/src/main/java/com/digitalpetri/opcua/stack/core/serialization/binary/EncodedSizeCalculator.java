@@ -0,0 +1,617 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.lang.reflect.Array;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.EncoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaEnumeration;
+import com.digitalpetri.opcua.stack.core.serialization.UaSerializable;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.digitalpetri.opcua.stack.core.types.enumerated.IdType;
+import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
+
+/**
+ * A {@link UaEncoder} that writes nothing and instead adds up the number of bytes {@link BinaryEncoder} would write
+ * for the same calls.
+ * <p>
+ * Calculating the size of a message first lets the caller allocate a buffer of exactly the right size, work out how
+ * many chunks it will be sent in, and reject it if it exceeds the limits negotiated for the channel before any
+ * encoding work is done.
+ * <p>
+ * Structures are sized using the delegates registered for their class; the generated binary codecs are specific to
+ * {@link BinaryEncoder} but produce the same bytes.
+ */
+public class EncodedSizeCalculator implements UaEncoder {
+
+    private final int maxArrayLength;
+    private final int maxStringLength;
+
+    private long size;
+
+    public EncodedSizeCalculator() {
+        this(ChannelConfig.DEFAULT_MAX_ARRAY_LENGTH, ChannelConfig.DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    public EncodedSizeCalculator(int maxArrayLength, int maxStringLength) {
+        this.maxArrayLength = maxArrayLength;
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * @return the number of bytes encoded since this calculator was created or last reset.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public EncodedSizeCalculator reset() {
+        size = 0L;
+        return this;
+    }
+
+    /**
+     * Calculate the size of {@code message} as written by {@link BinaryEncoder#encodeMessage(String, UaStructure)},
+     * including the leading binary encoding id.
+     *
+     * @param message the message to calculate the size of.
+     * @return the encoded size of {@code message}, in bytes.
+     */
+    public long calculateMessageSize(UaStructure message) throws UaSerializationException {
+        reset().encodeMessage(null, message);
+
+        return size;
+    }
+
+    @Override
+    public void encodeBoolean(String field, Boolean value) {
+        size += 1;
+    }
+
+    @Override
+    public void encodeSByte(String field, Byte value) {
+        size += 1;
+    }
+
+    @Override
+    public void encodeInt16(String field, Short value) {
+        size += 2;
+    }
+
+    @Override
+    public void encodeInt32(String field, Integer value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeInt64(String field, Long value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeByte(String field, UByte value) {
+        size += 1;
+    }
+
+    @Override
+    public void encodeUInt16(String field, UShort value) {
+        size += 2;
+    }
+
+    @Override
+    public void encodeUInt32(String field, UInteger value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeUInt64(String field, ULong value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeFloat(String field, Float value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeDouble(String field, Double value) {
+        size += 8;
+    }
+
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        size += 1;
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        size += 1;
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        size += 2;
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        size += 4;
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        size += 8;
+    }
+
+    @Override
+    public void writeByte(String field, int value) {
+        size += 1;
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        size += 2;
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        size += 4;
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        size += 8;
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        size += 4;
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeString(String field, String value) throws UaSerializationException {
+        if (value == null) {
+            size += 4;
+        } else {
+            if (value.length() > maxStringLength) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                        "max string length exceeded");
+            }
+
+            size += 4 + utf8Length(value);
+        }
+    }
+
+    @Override
+    public void encodeDateTime(String field, DateTime value) {
+        size += 8;
+    }
+
+    @Override
+    public void encodeGuid(String field, UUID value) {
+        size += 16;
+    }
+
+    @Override
+    public void encodeByteString(String field, ByteString value) {
+        if (value == null || value.isNull()) {
+            size += 4;
+        } else {
+            size += 4 + value.length();
+        }
+    }
+
+    @Override
+    public void encodeXmlElement(String field, XmlElement value) {
+        if (value == null || value.isNull()) {
+            size += 4;
+        } else {
+            size += 4 + utf8Length(value.getFragment());
+        }
+    }
+
+    @Override
+    public void encodeNodeId(String field, NodeId value) throws UaSerializationException {
+        if (value == null) value = NodeId.NULL_VALUE;
+
+        encodeNodeId(value.getNamespaceIndex().intValue(), value.getType(), value.getIdentifier());
+    }
+
+    @Override
+    public void encodeExpandedNodeId(String field, ExpandedNodeId value) throws UaSerializationException {
+        if (value == null) value = ExpandedNodeId.NULL_VALUE;
+
+        encodeNodeId(value.getNamespaceIndex().intValue(), value.getType(), value.getIdentifier());
+
+        String namespaceUri = value.getNamespaceUri();
+
+        if (namespaceUri != null && namespaceUri.length() > 0) {
+            encodeString(null, namespaceUri);
+        }
+
+        if (value.getServerIndex() > 0) {
+            size += 4;
+        }
+    }
+
+    private void encodeNodeId(int namespaceIndex, IdType type, Object identifier) throws UaSerializationException {
+        if (type == IdType.Numeric) {
+            long idv = ((UInteger) identifier).longValue();
+
+            if (namespaceIndex == 0 && idv >= 0 && idv <= 255) {
+                /* Two-byte format */
+                size += 2;
+            } else if (namespaceIndex >= 0 && namespaceIndex <= 255 && idv <= 65535) {
+                /* Four-byte format */
+                size += 4;
+            } else {
+                /* Numeric format */
+                size += 7;
+            }
+        } else if (type == IdType.String) {
+            size += 3;
+            encodeString(null, (String) identifier);
+        } else if (type == IdType.Guid) {
+            size += 3 + 16;
+        } else if (type == IdType.Opaque) {
+            size += 3;
+            encodeByteString(null, (ByteString) identifier);
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, "invalid identifier: " + identifier);
+        }
+    }
+
+    @Override
+    public void encodeStatusCode(String field, StatusCode value) {
+        size += 4;
+    }
+
+    @Override
+    public void encodeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
+        if (value == null) value = QualifiedName.NULL_VALUE;
+
+        size += 2;
+        encodeString(null, value.getName());
+    }
+
+    @Override
+    public void encodeLocalizedText(String field, LocalizedText value) throws UaSerializationException {
+        if (value == null) value = LocalizedText.NULL_VALUE;
+
+        String locale = value.getLocale();
+        String text = value.getText();
+
+        size += 1;
+
+        if (locale != null && !locale.isEmpty()) {
+            encodeString(null, locale);
+        }
+        if (text != null && !text.isEmpty()) {
+            encodeString(null, text);
+        }
+    }
+
+    @Override
+    public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
+        EncoderDelegate<Object> delegate = null;
+
+        if (value != null && !value.isEncoded()) {
+            delegate = DelegateRegistry.getEncoder(value.decode().getClass());
+        }
+
+        if (delegate != null) {
+            // Sized the way BinaryEncoder writes the body in place; without a delegate registered
+            // for its class the body is encoded below to find its size.
+            encodeNodeId(null, value.getEncodingTypeId());
+            size += 1 + 4;
+            delegate.encode(value.decode(), this);
+        } else if (value == null || value.getEncoded() == null) {
+            encodeNodeId(null, NodeId.NULL_VALUE);
+            size += 1;
+        } else {
+            Object object = value.getEncoded();
+
+            switch (value.getBodyType()) {
+                case ByteString:
+                    encodeNodeId(null, value.getEncodingTypeId());
+                    size += 1;
+                    encodeByteString(null, (ByteString) object);
+                    break;
+
+                case XmlElement:
+                    encodeNodeId(null, value.getEncodingTypeId());
+                    size += 1;
+                    encodeXmlElement(null, (XmlElement) object);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Add the size of {@code structure} as an {@link ExtensionObject} with a binary body, the way
+     * {@link BinaryEncoder} writes structures found in a {@link Variant}, without encoding the body.
+     */
+    private void encodeStructure(UaStructure structure) throws UaSerializationException {
+        encodeNodeId(null, structure.getBinaryEncodingId());
+        size += 1 + 4;
+        encodeSerializable(null, structure);
+    }
+
+    @Override
+    public void encodeDataValue(String field, DataValue value) throws UaSerializationException {
+        size += 1;
+
+        if (value != null) {
+            if (value.getValue() != null && value.getValue().isNotNull()) encodeVariant(null, value.getValue());
+            if (!StatusCode.GOOD.equals(value.getStatusCode())) size += 4;
+            if (!DateTime.MIN_VALUE.equals(value.getSourceTime())) size += 8;
+            if (!DateTime.MIN_VALUE.equals(value.getServerTime())) size += 8;
+        }
+    }
+
+    @Override
+    public void encodeVariant(String field, Variant variant) throws UaSerializationException {
+        Object value = variant.getValue();
+
+        size += 1;
+
+        if (value != null) {
+            Matrix matrix = value instanceof Matrix ? (Matrix) value : null;
+
+            boolean structure = variant.isStructure();
+            boolean enumeration = variant.isEnumeration();
+            int typeId = variant.getBuiltinTypeId();
+
+            if (matrix != null) {
+                encodeArrayValues(matrix.getElements(), typeId, structure, enumeration);
+
+                if (matrix.getRank() > 1) size += 4 + 4 * matrix.getRank();
+            } else if (variant.isArray()) {
+                if (variant.getRank() == 1) {
+                    encodeArrayValues(value, typeId, structure, enumeration);
+                } else {
+                    encodeArrayValues(ArrayUtil.flatten(value), typeId, structure, enumeration);
+
+                    size += 4 + 4 * variant.getRank();
+                }
+            } else {
+                encodeValue(value, typeId, structure, enumeration);
+            }
+        }
+    }
+
+    private void encodeArrayValues(Object array, int typeId, boolean structure, boolean enumeration) {
+        int fixedSize = enumeration ? 4 : (structure ? -1 : fixedSize(typeId));
+
+        if (fixedSize > 0) {
+            size += 4 + (long) Array.getLength(array) * fixedSize;
+        } else {
+            Object[] values = (Object[]) array;
+
+            size += 4;
+
+            for (Object v : values) encodeValue(v, typeId, structure, enumeration);
+        }
+    }
+
+    private void encodeValue(Object value, int typeId, boolean structure, boolean enumeration) {
+        if (structure) {
+            encodeStructure((UaStructure) value);
+        } else if (enumeration) {
+            size += 4;
+        } else {
+            encodeBuiltinType(typeId, value);
+        }
+    }
+
+    @Override
+    public void encodeDiagnosticInfo(String field, DiagnosticInfo value) throws UaSerializationException {
+        size += 1;
+
+        if (value != null) {
+            if (value.getSymbolicId() != -1) size += 4;
+            if (value.getNamespaceUri() != -1) size += 4;
+            if (value.getLocalizedText() != -1) size += 4;
+            if (value.getLocale() != -1) size += 4;
+            if (value.getAdditionalInfo() != null && !value.getAdditionalInfo().isEmpty()) {
+                encodeString(null, value.getAdditionalInfo());
+            }
+            if (value.getInnerStatusCode() != null) size += 4;
+            if (value.getInnerDiagnosticInfo() != null) encodeDiagnosticInfo(null, value.getInnerDiagnosticInfo());
+        }
+    }
+
+    @Override
+    public <T extends UaStructure> void encodeMessage(String field, T message) throws UaSerializationException {
+        if (message instanceof TemplatedRequest) {
+            size += ((TemplatedRequest) message).getTemplate().getEncodedSize();
+            return;
+        }
+
+        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(message.getClass());
+
+        encodeNodeId(null, message.getBinaryEncodingId());
+
+        delegate.encode(message, this);
+    }
+
+    @Override
+    public <T extends UaEnumeration> void encodeEnumeration(String field, T value) {
+        size += 4;
+    }
+
+    @Override
+    public <T extends UaSerializable> void encodeSerializable(String field, T value) throws UaSerializationException {
+        EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
+
+        delegate.encode(value, this);
+    }
+
+    @Override
+    public <T> void encodeArray(String field, T[] values, BiConsumer<String, T> consumer) throws UaSerializationException {
+        size += 4;
+
+        if (values != null) {
+            if (values.length > maxArrayLength) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                        "max array length exceeded");
+            }
+
+            for (T t : values) {
+                consumer.accept(null, t);
+            }
+        }
+    }
+
+    private void encodeBuiltinType(int typeId, Object value) throws UaSerializationException {
+        switch (typeId) {
+            case 12:
+                encodeString(null, (String) value);
+                break;
+            case 15:
+                encodeByteString(null, (ByteString) value);
+                break;
+            case 16:
+                encodeXmlElement(null, (XmlElement) value);
+                break;
+            case 17:
+                encodeNodeId(null, (NodeId) value);
+                break;
+            case 18:
+                encodeExpandedNodeId(null, (ExpandedNodeId) value);
+                break;
+            case 20:
+                encodeQualifiedName(null, (QualifiedName) value);
+                break;
+            case 21:
+                encodeLocalizedText(null, (LocalizedText) value);
+                break;
+            case 22:
+                encodeExtensionObject(null, (ExtensionObject) value);
+                break;
+            case 23:
+                encodeDataValue(null, (DataValue) value);
+                break;
+            case 24:
+                encodeVariant(null, (Variant) value);
+                break;
+            case 25:
+                encodeDiagnosticInfo(null, (DiagnosticInfo) value);
+                break;
+            default:
+                int fixedSize = fixedSize(typeId);
+
+                if (fixedSize < 0) {
+                    throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unknown builtin type: " + typeId);
+                }
+
+                size += fixedSize;
+        }
+    }
+
+    /**
+     * @param typeId a builtin type id.
+     * @return the encoded size of every value of type {@code typeId}, or -1 if the size depends on the value.
+     */
+    private static int fixedSize(int typeId) {
+        switch (typeId) {
+            case 1:
+            case 2:
+            case 3:
+                return 1;
+            case 4:
+            case 5:
+                return 2;
+            case 6:
+            case 7:
+            case 10:
+            case 19:
+                return 4;
+            case 8:
+            case 9:
+            case 11:
+            case 13:
+                return 8;
+            case 14:
+                return 16;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * @param value the String to measure.
+     * @return the number of bytes {@link BinaryEncoder} writes for {@code value}, not including the length prefix.
+     * Unpaired surrogates count as the single '?' they are replaced with.
+     */
+    static int utf8Length(String value) {
+        int length = value.length();
+        int utf8Length = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    utf8Length += 1;
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length &&
+                            Character.isLowSurrogate(value.charAt(i + 1))) {
+
+                        // Two chars, four bytes.
+                        utf8Length += 2;
+                        i++;
+                    }
+                } else {
+                    utf8Length += 2;
+                }
+            }
+        }
+
+        return utf8Length;
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Binary encoding straight into, and decoding straight out of, memory the caller owns: a {@code byte[]} or a heap,
+ * direct or memory-mapped {@link ByteBuffer}.
+ * <p>
+ * The array or buffer is wrapped, not copied, as a fixed-capacity little-endian {@link ByteBuf} for the
+ * {@link BinaryEncoder} or {@link BinaryDecoder}, so it can't grow: encoding a value that doesn't fit fails with
+ * {@code Bad_EncodingLimitsExceeded}. The byte order of a {@link ByteBuffer} is ignored and left unchanged.
+ * <p>
+ * The delegates can be the generated {@code encodeBinary}/{@code decodeBinary} methods of a structured type, e.g.
+ * {@code NioBinaryCodec.encode(readValueId, ReadValueId::encodeBinary, buffer)}, or a lambda encoding a builtin type,
+ * e.g. {@code (v, encoder) -> encoder.encodeDataValue(null, v)}.
+ */
+public final class NioBinaryCodec {
+
+    /**
+     * The encoder and decoder reused by each call on a thread, so their scratch arrays are only allocated once.
+     */
+    private static final ThreadLocal<Codec> CODEC = ThreadLocal.withInitial(Codec::new);
+
+    private NioBinaryCodec() {}
+
+    /**
+     * Encode {@code value} into {@code array} starting at {@code offset}.
+     *
+     * @param value    the value to encode.
+     * @param delegate the {@link BinaryEncoderDelegate} that encodes it.
+     * @param array    the array to encode into.
+     * @param offset   the index in {@code array} to start at.
+     * @return the number of bytes written.
+     * @throws UaSerializationException if the value doesn't fit in the rest of {@code array} or can't be encoded.
+     */
+    public static <T> int encode(T value, BinaryEncoderDelegate<T> delegate, byte[] array, int offset) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(array, offset, array.length - offset);
+
+        return encode(value, delegate, buffer);
+    }
+
+    /**
+     * Encode {@code value} into {@code buffer} starting at its position, which is advanced past the bytes written.
+     * <p>
+     * If encoding fails the position is left unchanged, but bytes after it may have been overwritten.
+     *
+     * @param value    the value to encode.
+     * @param delegate the {@link BinaryEncoderDelegate} that encodes it.
+     * @param buffer   the {@link ByteBuffer} to encode into.
+     * @return the number of bytes written.
+     * @throws UaSerializationException if the value doesn't fit in the remaining bytes of {@code buffer} or can't be
+     *                                  encoded.
+     */
+    public static <T> int encode(T value, BinaryEncoderDelegate<T> delegate, ByteBuffer buffer) {
+        int written = encode(value, delegate, Unpooled.wrappedBuffer(buffer));
+
+        buffer.position(buffer.position() + written);
+
+        return written;
+    }
+
+    /**
+     * Decode a value from {@code array}, from {@code offset} to {@code offset + length}.
+     *
+     * @param delegate the {@link BinaryDecoderDelegate} that decodes it.
+     * @param array    the array to decode from.
+     * @param offset   the index in {@code array} of the first byte of the value.
+     * @param length   the number of bytes the value may occupy.
+     * @return the decoded value.
+     * @throws UaSerializationException if the value can't be decoded from those bytes.
+     */
+    public static <T> T decode(BinaryDecoderDelegate<T> delegate, byte[] array, int offset, int length) {
+        return decode(delegate, Unpooled.wrappedBuffer(array, offset, length));
+    }
+
+    /**
+     * Decode a value from {@code buffer} starting at its position, which is advanced past the bytes read.
+     *
+     * @param delegate the {@link BinaryDecoderDelegate} that decodes it.
+     * @param buffer   the {@link ByteBuffer} to decode from.
+     * @return the decoded value.
+     * @throws UaSerializationException if the value can't be decoded from the remaining bytes of {@code buffer}.
+     */
+    public static <T> T decode(BinaryDecoderDelegate<T> delegate, ByteBuffer buffer) {
+        ByteBuf wrapped = Unpooled.wrappedBuffer(buffer);
+
+        T value = decode(delegate, wrapped);
+
+        buffer.position(buffer.position() + wrapped.readerIndex());
+
+        return value;
+    }
+
+    private static <T> int encode(T value, BinaryEncoderDelegate<T> delegate, ByteBuf wrapped) {
+        // A wrapped buffer starts out readable, i.e. full; its capacity is fixed at the size of what it wraps.
+        ByteBuf buffer = wrapped.clear().order(ByteOrder.LITTLE_ENDIAN);
+
+        Codec codec = acquire();
+
+        try {
+            delegate.encode(value, codec.encoder.setBuffer(buffer));
+        } catch (IndexOutOfBoundsException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    "value does not fit in " + buffer.capacity() + " bytes");
+        } finally {
+            codec.release();
+        }
+
+        return buffer.writerIndex();
+    }
+
+    private static <T> T decode(BinaryDecoderDelegate<T> delegate, ByteBuf wrapped) {
+        ByteBuf buffer = wrapped.order(ByteOrder.LITTLE_ENDIAN);
+
+        Codec codec = acquire();
+
+        try {
+            return delegate.decode(codec.decoder.setBuffer(buffer));
+        } catch (IndexOutOfBoundsException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        } finally {
+            codec.release();
+        }
+    }
+
+    private static Codec acquire() {
+        Codec codec = CODEC.get();
+
+        // Called from inside a delegate on this thread; the thread's encoder and decoder are in use.
+        if (codec.inUse) codec = new Codec();
+
+        codec.inUse = true;
+
+        return codec;
+    }
+
+    private static class Codec {
+
+        private final BinaryEncoder encoder = new BinaryEncoder();
+        private final BinaryDecoder decoder = new BinaryDecoder();
+
+        private boolean inUse = false;
+
+        private void release() {
+            // Don't hold on to the caller's array or buffer.
+            encoder.setBuffer(Unpooled.EMPTY_BUFFER);
+            decoder.setBuffer(Unpooled.EMPTY_BUFFER);
+
+            inUse = false;
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A request binary encoded once, so it can be sent again and again without rebuilding or re-encoding it.
+ * <p>
+ * Each {@link TemplatedRequest} from {@link #newRequest(DateTime, UInteger)} differs from the template only in the
+ * Timestamp and RequestHandle of its RequestHeader. {@link BinaryEncoder#encodeMessage(String,
+ * com.digitalpetri.opcua.stack.core.serialization.UaStructure)} copies the encoded template and writes those two
+ * fields over it in place.
+ * <p>
+ * Everything else in the RequestHeader, including the AuthenticationToken, is the template's. A template must be
+ * encoded again if the session it was encoded for changes.
+ */
+public class RequestTemplate {
+
+    private final UaRequestMessage request;
+    private final byte[] encoded;
+    private final int timestampIndex;
+
+    private RequestTemplate(UaRequestMessage request, byte[] encoded, int timestampIndex) {
+        this.request = request;
+        this.encoded = encoded;
+        this.timestampIndex = timestampIndex;
+    }
+
+    /**
+     * @return the request this template was encoded from.
+     */
+    public UaRequestMessage getRequest() {
+        return request;
+    }
+
+    /**
+     * @return the encoded size of the request, in bytes, including its leading binary encoding id.
+     */
+    public int getEncodedSize() {
+        return encoded.length;
+    }
+
+    /**
+     * @param timestamp     the Timestamp of the new request.
+     * @param requestHandle the RequestHandle of the new request.
+     * @return a {@link TemplatedRequest} that encodes as this template with {@code timestamp} and
+     * {@code requestHandle}.
+     */
+    public TemplatedRequest newRequest(DateTime timestamp, UInteger requestHandle) {
+        RequestHeader header = request.getRequestHeader();
+
+        RequestHeader requestHeader = new RequestHeader(
+                header.getAuthenticationToken(),
+                timestamp,
+                requestHandle,
+                header.getReturnDiagnostics(),
+                header.getAuditEntryId(),
+                header.getTimeoutHint(),
+                header.getAdditionalHeader()
+        );
+
+        return new TemplatedRequest(this, requestHeader);
+    }
+
+    /**
+     * Write this template to {@code buffer}, with {@code timestamp} and {@code requestHandle} patched in.
+     */
+    void writeTo(ByteBuf buffer, DateTime timestamp, UInteger requestHandle) {
+        int index = buffer.writerIndex();
+
+        buffer.writeBytes(encoded);
+        buffer.setLong(index + timestampIndex, timestamp != null ? timestamp.getUtcTime() : 0L);
+        buffer.setInt(index + timestampIndex + 8, requestHandle != null ? requestHandle.intValue() : 0);
+    }
+
+    /**
+     * Encode {@code request} as a template.
+     *
+     * @param request the request to encode.
+     * @return a {@link RequestTemplate} for {@code request}.
+     * @throws UaSerializationException if {@code request} cannot be encoded.
+     */
+    public static RequestTemplate encode(UaRequestMessage request) throws UaSerializationException {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            new BinaryEncoder().setBuffer(buffer).encodeMessage(null, request);
+
+            // The Timestamp and RequestHandle follow the encoding id and the AuthenticationToken, both NodeIds.
+            BinaryDecoder decoder = new BinaryDecoder().setBuffer(buffer);
+            decoder.decodeNodeId(null);
+            decoder.decodeNodeId(null);
+
+            byte[] encoded = new byte[buffer.writerIndex()];
+            buffer.getBytes(0, encoded);
+
+            return new RequestTemplate(request, encoded, buffer.readerIndex());
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * A {@link ReadResponse} or {@link HistoryReadResponse} whose Results are decoded lazily, as an {@link ArrayView}.
+ * <p>
+ * The view keeps the buffer the response was decoded from alive; {@link #release()} it once the results are no
+ * longer needed.
+ *
+ * @param <T> the result type: {@link DataValue} for a ReadResponse, {@link HistoryReadResult} for a
+ *            HistoryReadResponse.
+ */
+public class ResponseView<T> implements UaResponseMessage, ReferenceCounted {
+
+    private final NodeId typeId;
+    private final NodeId binaryEncodingId;
+    private final NodeId xmlEncodingId;
+
+    private final ResponseHeader responseHeader;
+    private final ArrayView<T> results;
+    private final DiagnosticInfo[] diagnosticInfos;
+
+    private ResponseView(NodeId typeId,
+                         NodeId binaryEncodingId,
+                         NodeId xmlEncodingId,
+                         ResponseHeader responseHeader,
+                         ArrayView<T> results,
+                         DiagnosticInfo[] diagnosticInfos) {
+
+        this.typeId = typeId;
+        this.binaryEncodingId = binaryEncodingId;
+        this.xmlEncodingId = xmlEncodingId;
+        this.responseHeader = responseHeader;
+        this.results = results;
+        this.diagnosticInfos = diagnosticInfos;
+    }
+
+    @Override
+    public ResponseHeader getResponseHeader() {
+        return responseHeader;
+    }
+
+    public ArrayView<T> getResults() {
+        return results;
+    }
+
+    public DiagnosticInfo[] getDiagnosticInfos() {
+        return diagnosticInfos;
+    }
+
+    @Override
+    public NodeId getTypeId() {
+        return typeId;
+    }
+
+    @Override
+    public NodeId getBinaryEncodingId() {
+        return binaryEncodingId;
+    }
+
+    @Override
+    public NodeId getXmlEncodingId() {
+        return xmlEncodingId;
+    }
+
+    @Override
+    public int refCnt() {
+        return results.refCnt();
+    }
+
+    @Override
+    public ResponseView<T> retain() {
+        results.retain();
+        return this;
+    }
+
+    @Override
+    public ResponseView<T> retain(int increment) {
+        results.retain(increment);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return results.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return results.release(decrement);
+    }
+
+    /**
+     * @param request a request.
+     * @return {@code true} if the response to {@code request} can be decoded as a {@link ResponseView}.
+     */
+    public static boolean isSupported(UaRequestMessage request) {
+        return request instanceof ReadRequest || request instanceof HistoryReadRequest;
+    }
+
+    /**
+     * Decode a response message, including its leading binary encoding id.
+     * <p>
+     * A ReadResponse or HistoryReadResponse is decoded as a {@link ResponseView}; any other response, e.g. a
+     * ServiceFault, or one whose Results are null, is decoded as usual.
+     *
+     * @param decoder the {@link BinaryDecoder} to decode from.
+     * @return a {@link ResponseView} or the decoded response.
+     */
+    public static UaResponseMessage decode(BinaryDecoder decoder) {
+        NodeId encodingId = decoder.decodeNodeId(null);
+
+        if (ReadResponse.BinaryEncodingId.equals(encodingId)) {
+            ResponseHeader responseHeader = ResponseHeader.decodeBinary(decoder);
+            ArrayView<DataValue> results = decoder.decodeArrayView("Results", d -> d.decodeDataValue(null));
+
+            if (results == null) {
+                return new ReadResponse(responseHeader, null, decodeDiagnosticInfos(decoder, null));
+            }
+
+            return new ResponseView<>(
+                    ReadResponse.TypeId,
+                    ReadResponse.BinaryEncodingId,
+                    ReadResponse.XmlEncodingId,
+                    responseHeader,
+                    results,
+                    decodeDiagnosticInfos(decoder, results)
+            );
+        } else if (HistoryReadResponse.BinaryEncodingId.equals(encodingId)) {
+            ResponseHeader responseHeader = ResponseHeader.decodeBinary(decoder);
+            ArrayView<HistoryReadResult> results = decoder.decodeArrayView("Results", HistoryReadResult::decodeBinary);
+
+            if (results == null) {
+                return new HistoryReadResponse(responseHeader, null, decodeDiagnosticInfos(decoder, null));
+            }
+
+            return new ResponseView<>(
+                    HistoryReadResponse.TypeId,
+                    HistoryReadResponse.BinaryEncodingId,
+                    HistoryReadResponse.XmlEncodingId,
+                    responseHeader,
+                    results,
+                    decodeDiagnosticInfos(decoder, results)
+            );
+        } else {
+            DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(encodingId);
+
+            return (UaResponseMessage) delegate.decode(decoder);
+        }
+    }
+
+    private static DiagnosticInfo[] decodeDiagnosticInfos(BinaryDecoder decoder, ArrayView<?> results) {
+        try {
+            return decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        } catch (RuntimeException e) {
+            if (results != null) results.release();
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+
+/**
+ * Receives the elements of a response as {@link VisitedResponse} walks its encoding, in the order they are encoded.
+ * <p>
+ * Only the elements themselves are decoded; the arrays and structures that contain them, e.g. the
+ * NotificationMessage of a PublishResponse or the MonitoredItemNotifications of a DataChangeNotification, are never
+ * built. Every method does nothing by default, so a visitor only overrides what it's interested in.
+ * <p>
+ * Callbacks are made on the thread decoding the response. An exception thrown from one fails the decoding.
+ */
+public interface ResponseVisitor {
+
+    /**
+     * @param responseHeader the {@link ResponseHeader} of the response; always visited first.
+     */
+    default void visitResponseHeader(ResponseHeader responseHeader) {}
+
+    /**
+     * @param sequenceNumber a sequence number available for republishing, from a PublishResponse.
+     */
+    default void visitAvailableSequenceNumber(long sequenceNumber) {}
+
+    /**
+     * Visited once per PublishResponse, before any of the notifications in its NotificationMessage.
+     *
+     * @param subscriptionId    the id of the Subscription the notifications are for.
+     * @param sequenceNumber    the sequence number of the NotificationMessage.
+     * @param publishTime       the time the NotificationMessage was sent.
+     * @param moreNotifications {@code true} if not all available notifications fit in this response.
+     */
+    default void visitNotificationMessage(long subscriptionId,
+                                          long sequenceNumber,
+                                          DateTime publishTime,
+                                          boolean moreNotifications) {}
+
+    /**
+     * @param clientHandle the client handle of the MonitoredItem.
+     * @param value        the value from a MonitoredItemNotification in a DataChangeNotification.
+     */
+    default void visitDataChange(long clientHandle, DataValue value) {}
+
+    /**
+     * Visited for each EventFieldList in an EventNotificationList, before its fields.
+     *
+     * @param clientHandle the client handle of the MonitoredItem.
+     * @param fieldCount   the number of fields that follow.
+     */
+    default void visitEventFields(long clientHandle, int fieldCount) {}
+
+    /**
+     * @param index the index of the field in its EventFieldList.
+     * @param field the field.
+     */
+    default void visitEventField(int index, Variant field) {}
+
+    /**
+     * @param status         the status of the Subscription, from a StatusChangeNotification.
+     * @param diagnosticInfo the diagnostic info for {@code status}.
+     */
+    default void visitStatusChange(StatusCode status, DiagnosticInfo diagnosticInfo) {}
+
+    /**
+     * @param index          the index of the diagnostic info in the DiagnosticInfos of a DataChangeNotification.
+     * @param diagnosticInfo the diagnostic info.
+     */
+    default void visitNotificationDiagnosticInfo(int index, DiagnosticInfo diagnosticInfo) {}
+
+    /**
+     * Visited for notification data other than a binary encoded DataChangeNotification, EventNotificationList or
+     * StatusChangeNotification, which is decoded as usual.
+     *
+     * @param notificationData the notification data.
+     */
+    default void visitNotificationData(ExtensionObject notificationData) {}
+
+    /**
+     * @param index  the index of the SubscriptionAcknowledgement the result is for.
+     * @param result the result of acknowledging it, from a PublishResponse.
+     */
+    default void visitAcknowledgeResult(int index, StatusCode result) {}
+
+    /**
+     * @param index the index of the node read.
+     * @param value the value read, from a ReadResponse.
+     */
+    default void visitReadResult(int index, DataValue value) {}
+
+    /**
+     * @param index  the index of the node browsed.
+     * @param result the result of browsing it, from a BrowseResponse.
+     */
+    default void visitBrowseResult(int index, BrowseResult result) {}
+
+    /**
+     * @param index  the index of the node whose history was read.
+     * @param result the result of reading it, from a HistoryReadResponse.
+     */
+    default void visitHistoryReadResult(int index, HistoryReadResult result) {}
+
+    /**
+     * @param index          the index of the diagnostic info in the DiagnosticInfos of the response.
+     * @param diagnosticInfo the diagnostic info.
+     */
+    default void visitDiagnosticInfo(int index, DiagnosticInfo diagnosticInfo) {}
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A {@link BinaryDecoder} that advances past variable-length values instead of decoding them, returning {@code null}
+ * in their place.
+ * <p>
+ * Running a structure's {@code decodeBinary} delegate against this decoder finds the end of an encoded structure
+ * while allocating little more than the structure itself and its fixed-size fields. Used by
+ * {@link BinaryDecoder#decodeArrayView(String, BinaryDecoderDelegate)} to record element offsets.
+ */
+class SkippingBinaryDecoder extends BinaryDecoder {
+
+    private final int maxArrayLength;
+    private final int maxStringLength;
+
+    private ByteBuf buffer;
+
+    SkippingBinaryDecoder(int maxArrayLength, int maxStringLength) {
+        super(maxArrayLength, maxStringLength);
+
+        this.maxArrayLength = maxArrayLength;
+        this.maxStringLength = maxStringLength;
+    }
+
+    @Override
+    public SkippingBinaryDecoder setBuffer(ByteBuf buffer) {
+        super.setBuffer(buffer);
+
+        this.buffer = buffer;
+        return this;
+    }
+
+    @Override
+    public String decodeString(String field) throws UaSerializationException {
+        int length = buffer.readInt();
+
+        if (length > maxStringLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max string length exceeded (length=%s, max=%s)", length, maxStringLength));
+        }
+
+        skipBytes(length);
+        return null;
+    }
+
+    @Override
+    public UUID decodeGuid(String field) {
+        buffer.skipBytes(16);
+        return null;
+    }
+
+    @Override
+    public ByteString decodeByteString(String field) {
+        skipBytes(buffer.readInt());
+        return null;
+    }
+
+    @Override
+    public XmlElement decodeXmlElement(String field) throws UaSerializationException {
+        skipBytes(buffer.readInt());
+        return null;
+    }
+
+    @Override
+    public NodeId decodeNodeId(String field) throws UaSerializationException {
+        int format = buffer.readByte() & 0x0F;
+
+        switch (format) {
+            case 0x00: buffer.skipBytes(1); break;
+            case 0x01: buffer.skipBytes(3); break;
+            case 0x02: buffer.skipBytes(6); break;
+            case 0x03: buffer.skipBytes(2); decodeString(null); break;
+            case 0x04: buffer.skipBytes(2 + 16); break;
+            case 0x05: buffer.skipBytes(2); decodeByteString(null); break;
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid NodeId format: " + format);
+        }
+
+        return null;
+    }
+
+    @Override
+    public ExpandedNodeId decodeExpandedNodeId(String field) throws UaSerializationException {
+        int flags = buffer.getByte(buffer.readerIndex());
+
+        decodeNodeId(null);
+
+        if ((flags & 0x80) == 0x80) {
+            decodeString(null);
+        }
+
+        if ((flags & 0x40) == 0x40) {
+            buffer.skipBytes(4);
+        }
+
+        return null;
+    }
+
+    @Override
+    public QualifiedName decodeQualifiedName(String field) throws UaSerializationException {
+        buffer.skipBytes(2);
+        decodeString(null);
+        return null;
+    }
+
+    @Override
+    public LocalizedText decodeLocalizedText(String field) throws UaSerializationException {
+        int mask = buffer.readByte();
+
+        if ((mask & 1) == 1) decodeString(null);
+        if ((mask & 2) == 2) decodeString(null);
+
+        return null;
+    }
+
+    @Override
+    public ExtensionObject decodeExtensionObject(String field) throws UaSerializationException {
+        decodeNodeId(null);
+
+        int encoding = buffer.readByte();
+
+        if (encoding == 1 || encoding == 2) {
+            skipBytes(buffer.readInt());
+        } else if (encoding != 0) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unknown ExtensionObject encoding: " + encoding);
+        }
+
+        return null;
+    }
+
+    @Override
+    public DataValue decodeDataValue(String field) throws UaSerializationException {
+        int mask = buffer.readByte() & 0x0F;
+
+        if ((mask & 0x01) == 0x01) decodeVariant(null);
+        if ((mask & 0x02) == 0x02) buffer.skipBytes(4);
+        if ((mask & 0x04) == 0x04) buffer.skipBytes(8);
+        if ((mask & 0x08) == 0x08) buffer.skipBytes(8);
+
+        return null;
+    }
+
+    @Override
+    public Variant decodeVariant(String field) throws UaSerializationException {
+        int encodingMask = buffer.readByte();
+
+        if (encodingMask != 0) {
+            int typeId = encodingMask & 0x3F;
+            boolean dimensionsEncoded = (encodingMask & 0x40) == 0x40;
+            boolean arrayEncoded = (encodingMask & 0x80) == 0x80;
+
+            if (arrayEncoded) {
+                int length = readArrayLength();
+                int fixedSize = fixedSize(typeId);
+
+                if (fixedSize > 0) {
+                    skipBytes(Math.max(length, 0) * fixedSize);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        skipBuiltinType(typeId);
+                    }
+                }
+
+                if (dimensionsEncoded) {
+                    skipBytes(Math.max(readArrayLength(), 0) * 4);
+                }
+            } else {
+                skipBuiltinType(typeId);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public DiagnosticInfo decodeDiagnosticInfo(String field) throws UaSerializationException {
+        int mask = buffer.readByte();
+
+        if ((mask & 0x01) == 0x01) buffer.skipBytes(4);
+        if ((mask & 0x02) == 0x02) buffer.skipBytes(4);
+        if ((mask & 0x04) == 0x04) buffer.skipBytes(4);
+        if ((mask & 0x08) == 0x08) buffer.skipBytes(4);
+        if ((mask & 0x10) == 0x10) decodeString(null);
+        if ((mask & 0x20) == 0x20) buffer.skipBytes(4);
+        if ((mask & 0x40) == 0x40) decodeDiagnosticInfo(null);
+
+        return null;
+    }
+
+    @Override
+    public <T> T[] decodeArray(String field, Function<String, T> decoder, IntFunction<T[]> arrayFactory) throws UaSerializationException {
+        int length = readArrayLength();
+
+        for (int i = 0; i < length; i++) {
+            decoder.apply(null);
+        }
+
+        return null;
+    }
+
+    @Override
+    public <T> T[] decodeArray(String field,
+                               BiFunction<String, Class<T>, T> decoder,
+                               Class<T> clazz,
+                               IntFunction<T[]> arrayFactory) throws UaSerializationException {
+
+        int length = readArrayLength();
+
+        for (int i = 0; i < length; i++) {
+            decoder.apply(null, clazz);
+        }
+
+        return null;
+    }
+
+    @Override
+    public <T> T[] decodeStructureArray(String field,
+                                        BinaryDecoderDelegate<T> delegate,
+                                        IntFunction<T[]> arrayFactory) throws UaSerializationException {
+
+        int length = readArrayLength();
+
+        for (int i = 0; i < length; i++) {
+            delegate.decode(this);
+        }
+
+        return null;
+    }
+
+    private int readArrayLength() {
+        int length = buffer.readInt();
+
+        if (length > maxArrayLength) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingLimitsExceeded,
+                    String.format("max array length exceeded (length=%s, max=%s)", length, maxArrayLength));
+        }
+
+        return length;
+    }
+
+    /**
+     * Skip {@code length} bytes; a length of -1 (a null value) or 0 skips nothing.
+     */
+    private void skipBytes(int length) {
+        if (length > 0) {
+            if (length > buffer.readableBytes()) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                        String.format("length exceeds readable bytes (length=%s, readable=%s)",
+                                length, buffer.readableBytes()));
+            }
+
+            buffer.skipBytes(length);
+        }
+    }
+
+    private void skipBuiltinType(int typeId) throws UaSerializationException {
+        int fixedSize = fixedSize(typeId);
+
+        if (fixedSize > 0) {
+            buffer.skipBytes(fixedSize);
+        } else {
+            switch (typeId) {
+                case 12: decodeString(null); break;
+                case 15: decodeByteString(null); break;
+                case 16: decodeXmlElement(null); break;
+                case 17: decodeNodeId(null); break;
+                case 18: decodeExpandedNodeId(null); break;
+                case 20: decodeQualifiedName(null); break;
+                case 21: decodeLocalizedText(null); break;
+                case 22: decodeExtensionObject(null); break;
+                case 23: decodeDataValue(null); break;
+                case 24: decodeVariant(null); break;
+                case 25: decodeDiagnosticInfo(null); break;
+                default: throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unknown builtin type: " + typeId);
+            }
+        }
+    }
+
+    /**
+     * @return the encoded size of builtin type {@code typeId} if it is fixed, otherwise 0.
+     */
+    private static int fixedSize(int typeId) {
+        switch (typeId) {
+            case 1:  // Boolean
+            case 2:  // SByte
+            case 3:  // Byte
+                return 1;
+            case 4:  // Int16
+            case 5:  // UInt16
+                return 2;
+            case 6:  // Int32
+            case 7:  // UInt32
+            case 10: // Float
+            case 19: // StatusCode
+                return 4;
+            case 8:  // Int64
+            case 9:  // UInt64
+            case 11: // Double
+            case 13: // DateTime
+                return 8;
+            case 14: // Guid
+                return 16;
+            default:
+                return 0;
+        }
+    }
+
+}
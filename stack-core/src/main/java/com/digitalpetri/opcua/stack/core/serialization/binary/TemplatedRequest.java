@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A request sent from a {@link RequestTemplate}. It can only be binary encoded, and it encodes as the template with
+ * the Timestamp and RequestHandle of {@link #getRequestHeader()}.
+ */
+public class TemplatedRequest implements UaRequestMessage {
+
+    private final RequestTemplate template;
+    private final RequestHeader requestHeader;
+
+    TemplatedRequest(RequestTemplate template, RequestHeader requestHeader) {
+        this.template = template;
+        this.requestHeader = requestHeader;
+    }
+
+    public RequestTemplate getTemplate() {
+        return template;
+    }
+
+    @Override
+    public RequestHeader getRequestHeader() {
+        return requestHeader;
+    }
+
+    @Override
+    public NodeId getTypeId() {
+        return template.getRequest().getTypeId();
+    }
+
+    @Override
+    public NodeId getBinaryEncodingId() {
+        return template.getRequest().getBinaryEncodingId();
+    }
+
+    @Override
+    public NodeId getXmlEncodingId() {
+        return template.getRequest().getXmlEncodingId();
+    }
+
+    void writeTo(ByteBuf buffer) {
+        template.writeTo(buffer, requestHeader.getTimestamp(), requestHeader.getRequestHandle());
+    }
+
+}
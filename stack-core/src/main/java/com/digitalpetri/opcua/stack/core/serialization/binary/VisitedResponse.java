@@ -0,0 +1,285 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.EventNotificationList;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusChangeNotification;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A PublishResponse, ReadResponse, BrowseResponse or HistoryReadResponse whose contents were passed to a
+ * {@link ResponseVisitor} as they were decoded rather than kept; only the {@link ResponseHeader} remains.
+ */
+public class VisitedResponse implements UaResponseMessage {
+
+    private final NodeId typeId;
+    private final NodeId binaryEncodingId;
+    private final NodeId xmlEncodingId;
+
+    private final ResponseHeader responseHeader;
+
+    private VisitedResponse(NodeId typeId,
+                            NodeId binaryEncodingId,
+                            NodeId xmlEncodingId,
+                            ResponseHeader responseHeader) {
+
+        this.typeId = typeId;
+        this.binaryEncodingId = binaryEncodingId;
+        this.xmlEncodingId = xmlEncodingId;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    public ResponseHeader getResponseHeader() {
+        return responseHeader;
+    }
+
+    @Override
+    public NodeId getTypeId() {
+        return typeId;
+    }
+
+    @Override
+    public NodeId getBinaryEncodingId() {
+        return binaryEncodingId;
+    }
+
+    @Override
+    public NodeId getXmlEncodingId() {
+        return xmlEncodingId;
+    }
+
+    /**
+     * @param request a request.
+     * @return {@code true} if the response to {@code request} can be decoded by a {@link ResponseVisitor}.
+     */
+    public static boolean isSupported(UaRequestMessage request) {
+        return request instanceof PublishRequest ||
+                request instanceof ReadRequest ||
+                request instanceof BrowseRequest ||
+                request instanceof HistoryReadRequest;
+    }
+
+    /**
+     * Decode a response message, including its leading binary encoding id, passing its contents to
+     * {@code visitor}.
+     * <p>
+     * A PublishResponse, ReadResponse, BrowseResponse or HistoryReadResponse is decoded as a
+     * {@link VisitedResponse}; any other response, e.g. a ServiceFault, is decoded as usual and not visited.
+     *
+     * @param decoder the {@link BinaryDecoder} to decode from.
+     * @param visitor the {@link ResponseVisitor} to pass the contents of the response to.
+     * @return a {@link VisitedResponse} or the decoded response.
+     */
+    public static UaResponseMessage decode(BinaryDecoder decoder, ResponseVisitor visitor) {
+        NodeId encodingId = decoder.decodeNodeId(null);
+
+        if (PublishResponse.BinaryEncodingId.equals(encodingId)) {
+            ResponseHeader responseHeader = visitResponseHeader(decoder, visitor);
+            visitPublishResponse(decoder, visitor);
+
+            return new VisitedResponse(
+                    PublishResponse.TypeId,
+                    PublishResponse.BinaryEncodingId,
+                    PublishResponse.XmlEncodingId,
+                    responseHeader
+            );
+        } else if (ReadResponse.BinaryEncodingId.equals(encodingId)) {
+            ResponseHeader responseHeader = visitResponseHeader(decoder, visitor);
+
+            int length = decoder.decodeArrayLength();
+            for (int i = 0; i < length; i++) {
+                visitor.visitReadResult(i, decoder.decodeDataValue(null));
+            }
+            visitDiagnosticInfos(decoder, visitor);
+
+            return new VisitedResponse(
+                    ReadResponse.TypeId,
+                    ReadResponse.BinaryEncodingId,
+                    ReadResponse.XmlEncodingId,
+                    responseHeader
+            );
+        } else if (BrowseResponse.BinaryEncodingId.equals(encodingId)) {
+            ResponseHeader responseHeader = visitResponseHeader(decoder, visitor);
+
+            int length = decoder.decodeArrayLength();
+            for (int i = 0; i < length; i++) {
+                visitor.visitBrowseResult(i, BrowseResult.decodeBinary(decoder));
+            }
+            visitDiagnosticInfos(decoder, visitor);
+
+            return new VisitedResponse(
+                    BrowseResponse.TypeId,
+                    BrowseResponse.BinaryEncodingId,
+                    BrowseResponse.XmlEncodingId,
+                    responseHeader
+            );
+        } else if (HistoryReadResponse.BinaryEncodingId.equals(encodingId)) {
+            ResponseHeader responseHeader = visitResponseHeader(decoder, visitor);
+
+            int length = decoder.decodeArrayLength();
+            for (int i = 0; i < length; i++) {
+                visitor.visitHistoryReadResult(i, HistoryReadResult.decodeBinary(decoder));
+            }
+            visitDiagnosticInfos(decoder, visitor);
+
+            return new VisitedResponse(
+                    HistoryReadResponse.TypeId,
+                    HistoryReadResponse.BinaryEncodingId,
+                    HistoryReadResponse.XmlEncodingId,
+                    responseHeader
+            );
+        } else {
+            DecoderDelegate<?> delegate = DelegateRegistry.getDecoder(encodingId);
+
+            return (UaResponseMessage) delegate.decode(decoder);
+        }
+    }
+
+    private static ResponseHeader visitResponseHeader(BinaryDecoder decoder, ResponseVisitor visitor) {
+        ResponseHeader responseHeader = ResponseHeader.decodeBinary(decoder);
+        visitor.visitResponseHeader(responseHeader);
+        return responseHeader;
+    }
+
+    private static void visitPublishResponse(BinaryDecoder decoder, ResponseVisitor visitor) {
+        long subscriptionId = decoder.readUInt32AsLong(null);
+
+        int available = decoder.decodeArrayLength();
+        for (int i = 0; i < available; i++) {
+            visitor.visitAvailableSequenceNumber(decoder.readUInt32AsLong(null));
+        }
+
+        boolean moreNotifications = decoder.readBoolean(null);
+
+        // NotificationMessage
+        long sequenceNumber = decoder.readUInt32AsLong(null);
+        DateTime publishTime = decoder.decodeDateTime(null);
+        visitor.visitNotificationMessage(subscriptionId, sequenceNumber, publishTime, moreNotifications);
+
+        int notificationData = decoder.decodeArrayLength();
+        for (int i = 0; i < notificationData; i++) {
+            visitNotificationData(decoder, visitor);
+        }
+
+        int results = decoder.decodeArrayLength();
+        for (int i = 0; i < results; i++) {
+            visitor.visitAcknowledgeResult(i, decoder.decodeStatusCode(null));
+        }
+
+        visitDiagnosticInfos(decoder, visitor);
+    }
+
+    /**
+     * Visit the body of a binary encoded DataChangeNotification, EventNotificationList or StatusChangeNotification
+     * in place. Anything else is decoded as an ExtensionObject and visited whole.
+     */
+    private static void visitNotificationData(BinaryDecoder decoder, ResponseVisitor visitor) {
+        ByteBuf buffer = decoder.getBuffer();
+        int startIndex = buffer.readerIndex();
+
+        NodeId encodingId = decoder.decodeNodeId(null);
+        int encoding = buffer.readByte();
+
+        if (encoding == 1) {
+            int length = decoder.readInt32(null);
+            int bodyIndex = buffer.readerIndex();
+
+            if (length >= 0 && length <= buffer.readableBytes()) {
+                boolean visited = true;
+
+                if (DataChangeNotification.BinaryEncodingId.equals(encodingId)) {
+                    visitDataChangeNotification(decoder, visitor);
+                } else if (EventNotificationList.BinaryEncodingId.equals(encodingId)) {
+                    visitEventNotificationList(decoder, visitor);
+                } else if (StatusChangeNotification.BinaryEncodingId.equals(encodingId)) {
+                    visitor.visitStatusChange(decoder.decodeStatusCode(null), decoder.decodeDiagnosticInfo(null));
+                } else {
+                    visited = false;
+                }
+
+                if (visited) {
+                    int decoded = buffer.readerIndex() - bodyIndex;
+
+                    if (decoded != length) {
+                        throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                                String.format("notification body length mismatch (encodingId=%s, length=%s, decoded=%s)",
+                                        encodingId, length, decoded));
+                    }
+                    return;
+                }
+            }
+        }
+
+        buffer.readerIndex(startIndex);
+        visitor.visitNotificationData(decoder.decodeExtensionObject(null));
+    }
+
+    private static void visitDataChangeNotification(BinaryDecoder decoder, ResponseVisitor visitor) {
+        int monitoredItems = decoder.decodeArrayLength();
+        for (int i = 0; i < monitoredItems; i++) {
+            long clientHandle = decoder.readUInt32AsLong(null);
+            visitor.visitDataChange(clientHandle, decoder.decodeDataValue(null));
+        }
+
+        int diagnosticInfos = decoder.decodeArrayLength();
+        for (int i = 0; i < diagnosticInfos; i++) {
+            visitor.visitNotificationDiagnosticInfo(i, decoder.decodeDiagnosticInfo(null));
+        }
+    }
+
+    private static void visitEventNotificationList(BinaryDecoder decoder, ResponseVisitor visitor) {
+        int events = decoder.decodeArrayLength();
+        for (int i = 0; i < events; i++) {
+            long clientHandle = decoder.readUInt32AsLong(null);
+
+            int fields = decoder.decodeArrayLength();
+            visitor.visitEventFields(clientHandle, fields);
+
+            for (int j = 0; j < fields; j++) {
+                visitor.visitEventField(j, decoder.decodeVariant(null));
+            }
+        }
+    }
+
+    private static void visitDiagnosticInfos(BinaryDecoder decoder, ResponseVisitor visitor) {
+        int length = decoder.decodeArrayLength();
+        for (int i = 0; i < length; i++) {
+            visitor.visitDiagnosticInfo(i, decoder.decodeDiagnosticInfo(null));
+        }
+    }
+
+}
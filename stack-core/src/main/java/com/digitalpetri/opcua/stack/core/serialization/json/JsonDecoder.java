@@ -0,0 +1,1284 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.json;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaEnumeration;
+import com.digitalpetri.opcua.stack.core.serialization.UaSerializable;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
+import com.digitalpetri.opcua.stack.core.util.DateTimeUtil;
+import com.digitalpetri.opcua.stack.core.util.TypeUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufProcessor;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Decodes values encoded with the reversible form of the OPC UA JSON encoding (Part 6, 5.4), reading straight from a
+ * {@link ByteBuf} without building an intermediate document.
+ * <p>
+ * Structure fields are expected in the order the structure declares them, which is the order {@link JsonEncoder}
+ * writes them in, and are read without any lookahead when they are. A field that isn't the next member is searched for
+ * from the start of the object, so members may appear in any order; a field that is missing decodes as null (or zero,
+ * or false) and any members left over when a structure has been decoded are skipped. The members of the builtin types
+ * may also appear in any order, except that a Variant's {@code Type} and an ExtensionObject's {@code TypeId} and
+ * {@code Encoding} must precede their {@code Body}.
+ */
+public class JsonDecoder implements UaDecoder {
+
+    private static final ByteBufProcessor FIND_QUOTE_OR_BACKSLASH = b -> b != '"' && b != '\\';
+
+    private static final ByteBufProcessor FIND_END_OF_LITERAL =
+            b -> b != ',' && b != '}' && b != ']' && b != ' ' && b != '\t' && b != '\n' && b != '\r';
+
+    private final Base64.Decoder base64 = Base64.getDecoder();
+
+    private final StringBuilder stringBuilder = new StringBuilder();
+
+    private volatile boolean decodeMatrices = false;
+
+    private ByteBuf buffer;
+
+    /**
+     * The reader index just inside the structure being decoded, or -1 if there is none.
+     */
+    private int objectStart = -1;
+
+    public JsonDecoder() {
+    }
+
+    public JsonDecoder(ByteBuf buffer) {
+        setBuffer(buffer);
+    }
+
+    public JsonDecoder setBuffer(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.objectStart = -1;
+        return this;
+    }
+
+    /**
+     * When enabled, multi-dimensional Variant arrays are decoded into a {@link Matrix} holding the flat array rather
+     * than into a nested Java array, as with
+     * {@link com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder#setDecodeMatrices(boolean)}.
+     *
+     * @param decodeMatrices {@code true} to decode multi-dimensional arrays into {@link Matrix} values.
+     * @return this {@link JsonDecoder}.
+     */
+    public JsonDecoder setDecodeMatrices(boolean decodeMatrices) {
+        this.decodeMatrices = decodeMatrices;
+        return this;
+    }
+
+    @Override
+    public Boolean decodeBoolean(String field) throws UaSerializationException {
+        return readBoolean(field);
+    }
+
+    @Override
+    public Byte decodeSByte(String field) throws UaSerializationException {
+        return readSByte(field);
+    }
+
+    @Override
+    public Short decodeInt16(String field) throws UaSerializationException {
+        return readInt16(field);
+    }
+
+    @Override
+    public Integer decodeInt32(String field) throws UaSerializationException {
+        return readInt32(field);
+    }
+
+    @Override
+    public Long decodeInt64(String field) throws UaSerializationException {
+        return readInt64(field);
+    }
+
+    @Override
+    public UByte decodeByte(String field) throws UaSerializationException {
+        return ubyte(readByteAsInt(field));
+    }
+
+    @Override
+    public UShort decodeUInt16(String field) throws UaSerializationException {
+        return ushort(readUInt16AsInt(field));
+    }
+
+    @Override
+    public UInteger decodeUInt32(String field) throws UaSerializationException {
+        return uint(readUInt32AsLong(field));
+    }
+
+    @Override
+    public ULong decodeUInt64(String field) throws UaSerializationException {
+        return ulong(readUInt64AsLong(field));
+    }
+
+    @Override
+    public Float decodeFloat(String field) throws UaSerializationException {
+        return readFloat(field);
+    }
+
+    @Override
+    public Double decodeDouble(String field) throws UaSerializationException {
+        return readDouble(field);
+    }
+
+    @Override
+    public boolean readBoolean(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return false;
+
+        if (peek() == 't') {
+            expectLiteral("true");
+            return true;
+        } else {
+            expectLiteral("false");
+            return false;
+        }
+    }
+
+    @Override
+    public byte readSByte(String field) throws UaSerializationException {
+        return (byte) readInteger(field, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    @Override
+    public short readInt16(String field) throws UaSerializationException {
+        return (short) readInteger(field, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    @Override
+    public int readInt32(String field) throws UaSerializationException {
+        return (int) readInteger(field, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long readInt64(String field) throws UaSerializationException {
+        return readInteger(field, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int readByteAsInt(String field) throws UaSerializationException {
+        return (int) readInteger(field, 0, 0xFF);
+    }
+
+    @Override
+    public int readUInt16AsInt(String field) throws UaSerializationException {
+        return (int) readInteger(field, 0, 0xFFFF);
+    }
+
+    @Override
+    public long readUInt32AsLong(String field) throws UaSerializationException {
+        return readInteger(field, 0, 0xFFFFFFFFL);
+    }
+
+    @Override
+    public long readUInt64AsLong(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return 0L;
+
+        boolean quoted = skipQuote();
+        int start = buffer.readerIndex();
+
+        long value = 0L;
+        while (buffer.isReadable() && isDigit(buffer.getByte(buffer.readerIndex()))) {
+            int digit = buffer.readByte() - '0';
+
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1L - digit, 10)) > 0) {
+                throw error("UInt64 out of range");
+            }
+
+            value = value * 10 + digit;
+        }
+
+        if (buffer.readerIndex() == start) {
+            throw error("expected UInt64");
+        }
+
+        if (quoted) expect('"');
+
+        return value;
+    }
+
+    @Override
+    public float readFloat(String field) throws UaSerializationException {
+        return (float) readDouble(field);
+    }
+
+    @Override
+    public double readDouble(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return 0.0;
+
+        if (peek() == '"') {
+            String s = readString();
+
+            switch (s) {
+                case "NaN":
+                    return Double.NaN;
+                case "Infinity":
+                    return Double.POSITIVE_INFINITY;
+                case "-Infinity":
+                    return Double.NEGATIVE_INFINITY;
+                default:
+                    return parseDouble(s);
+            }
+        } else {
+            int start = buffer.readerIndex();
+            int end = literalEnd();
+
+            boolean integral = end - start < 16;
+            for (int i = start; i < end && integral; i++) {
+                byte b = buffer.getByte(i);
+                integral = isDigit(b) || (b == '-' && i == start);
+            }
+
+            if (integral && end - start > (buffer.getByte(start) == '-' ? 1 : 0)) {
+                // Integral values below 2^53 convert exactly; skip the string allocation and parse.
+                return readLongValue();
+            } else {
+                buffer.readerIndex(end);
+                return parseDouble(buffer.toString(start, end - start, StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    @Override
+    public String decodeString(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        return readString();
+    }
+
+    @Override
+    public DateTime decodeDateTime(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        String s = readString();
+
+        try {
+            return new DateTime(DateTimeUtil.parseIso8601(s));
+        } catch (IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    @Override
+    public UUID decodeGuid(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        String s = readString();
+
+        try {
+            return UUID.fromString(s);
+        } catch (IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    @Override
+    public ByteString decodeByteString(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return ByteString.NULL_VALUE;
+
+        return readBase64();
+    }
+
+    @Override
+    public XmlElement decodeXmlElement(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return new XmlElement(null);
+
+        return new XmlElement(readString());
+    }
+
+    @Override
+    public NodeId decodeNodeId(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        ExpandedNodeId xni = readNodeIdObject();
+
+        if (xni.getNamespaceUri() != null || xni.getServerIndex() != 0) {
+            throw error("NodeId with a namespace URI or server index");
+        }
+
+        return xni.local().orElseThrow(() -> error("invalid NodeId"));
+    }
+
+    @Override
+    public ExpandedNodeId decodeExpandedNodeId(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        return readNodeIdObject();
+    }
+
+    @Override
+    public StatusCode decodeStatusCode(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        if (peek() == '{') {
+            // Non-reversible form: {"Code": 2147483648, "Symbol": "Bad"}
+            long code = 0L;
+
+            expect('{');
+            for (String member = nextMember(); member != null; member = nextMember()) {
+                if ("Code".equals(member)) {
+                    code = readUInt32AsLong(null);
+                } else {
+                    skipValue();
+                }
+            }
+
+            return new StatusCode(code);
+        } else {
+            return new StatusCode(readUInt32AsLong(null));
+        }
+    }
+
+    @Override
+    public QualifiedName decodeQualifiedName(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        String name = null;
+        int namespaceIndex = 0;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "Name":
+                    name = decodeString(null);
+                    break;
+                case "Uri":
+                    namespaceIndex = readUInt16AsInt(null);
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        return new QualifiedName(namespaceIndex, name);
+    }
+
+    @Override
+    public LocalizedText decodeLocalizedText(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        String locale = null;
+        String text = null;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "Locale":
+                    locale = decodeString(null);
+                    break;
+                case "Text":
+                    text = decodeString(null);
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        return new LocalizedText(locale, text);
+    }
+
+    @Override
+    public ExtensionObject decodeExtensionObject(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        NodeId typeId = null;
+        int encoding = 0;
+        ExtensionObject extensionObject = null;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "TypeId":
+                    typeId = decodeNodeId(null);
+                    break;
+                case "Encoding":
+                    encoding = readByteAsInt(null);
+                    break;
+                case "Body":
+                    if (typeId == null) {
+                        throw error("ExtensionObject Body precedes its TypeId");
+                    }
+                    extensionObject = readExtensionObjectBody(typeId, encoding);
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        if (typeId == null) {
+            throw error("ExtensionObject without a TypeId");
+        }
+
+        if (extensionObject != null) {
+            return extensionObject;
+        } else if (encoding == 2) {
+            return new ExtensionObject(new XmlElement(null), typeId);
+        } else {
+            return new ExtensionObject(ByteString.NULL_VALUE, typeId);
+        }
+    }
+
+    @Override
+    public DataValue decodeDataValue(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        Variant value = Variant.NULL_VALUE;
+        StatusCode status = StatusCode.GOOD;
+        DateTime sourceTime = DateTime.MIN_VALUE;
+        UShort sourcePicoseconds = null;
+        DateTime serverTime = DateTime.MIN_VALUE;
+        UShort serverPicoseconds = null;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "Value":
+                    value = decodeVariant(null);
+                    break;
+                case "Status":
+                    status = decodeStatusCode(null);
+                    break;
+                case "SourceTimestamp":
+                    sourceTime = decodeDateTime(null);
+                    break;
+                case "SourcePicoseconds":
+                    sourcePicoseconds = decodeUInt16(null);
+                    break;
+                case "ServerTimestamp":
+                    serverTime = decodeDateTime(null);
+                    break;
+                case "ServerPicoseconds":
+                    serverPicoseconds = decodeUInt16(null);
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        return new DataValue(value, status, sourceTime, sourcePicoseconds, serverTime, serverPicoseconds);
+    }
+
+    @Override
+    public Variant decodeVariant(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return Variant.NULL_VALUE;
+
+        int typeId = 0;
+        Object body = null;
+        int[] dimensions = null;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "Type":
+                    typeId = readByteAsInt(null);
+                    break;
+                case "Body":
+                    if (typeId == 0) {
+                        throw error("Variant Body precedes its Type");
+                    }
+                    body = readVariantBody(typeId);
+                    break;
+                case "Dimensions":
+                    Integer[] ds = decodeArray(null, this::decodeInt32, Integer[]::new);
+                    dimensions = ds != null ? Arrays.stream(ds).mapToInt(Integer::intValue).toArray() : null;
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        if (body != null && dimensions != null && dimensions.length > 1) {
+            if (!body.getClass().isArray()) {
+                throw error("Variant Dimensions without an array Body");
+            }
+
+            int length = Array.getLength(body);
+
+            checkDimensions(length, dimensions);
+
+            body = decodeMatrices ? new Matrix(body, dimensions) : ArrayUtil.unflatten(body, dimensions);
+        }
+
+        return body != null ? new Variant(body) : Variant.NULL_VALUE;
+    }
+
+    /**
+     * Check that {@code dimensions} multiply out to {@code length}, with none negative and none 0 unless the array is
+     * empty.
+     */
+    private static void checkDimensions(int length, int[] dimensions) throws UaSerializationException {
+        long elementCount = 1L;
+
+        for (int dimension : dimensions) {
+            if (dimension < 0 || (dimension == 0 && length != 0)) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                        String.format("invalid dimensions %s for array length %s",
+                                Arrays.toString(dimensions), length));
+            }
+
+            // Saturate rather than overflow; anything past Integer.MAX_VALUE is a mismatch anyway.
+            elementCount = Math.min(elementCount * dimension, Integer.MAX_VALUE + 1L);
+        }
+
+        if (elementCount != length) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    String.format("array length %s does not match dimensions %s",
+                            length, Arrays.toString(dimensions)));
+        }
+    }
+
+    @Override
+    public DiagnosticInfo decodeDiagnosticInfo(String field) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        int symbolicId = -1;
+        int namespaceUri = -1;
+        int locale = -1;
+        int localizedText = -1;
+        String additionalInfo = null;
+        StatusCode innerStatusCode = null;
+        DiagnosticInfo innerDiagnosticInfo = null;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "SymbolicId":
+                    symbolicId = readInt32(null);
+                    break;
+                case "NamespaceUri":
+                    namespaceUri = readInt32(null);
+                    break;
+                case "Locale":
+                    locale = readInt32(null);
+                    break;
+                case "LocalizedText":
+                    localizedText = readInt32(null);
+                    break;
+                case "AdditionalInfo":
+                    additionalInfo = decodeString(null);
+                    break;
+                case "InnerStatusCode":
+                    innerStatusCode = decodeStatusCode(null);
+                    break;
+                case "InnerDiagnosticInfo":
+                    innerDiagnosticInfo = decodeDiagnosticInfo(null);
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        return new DiagnosticInfo(namespaceUri, symbolicId, locale, localizedText,
+                additionalInfo, innerStatusCode, innerDiagnosticInfo);
+    }
+
+    /**
+     * Decode a message encoded by {@link JsonEncoder#encodeMessage(String, UaStructure)}: an object with the DataType
+     * id of the message as its {@code TypeId} and the message itself as its {@code Body}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends UaStructure> T decodeMessage(String field) throws UaSerializationException {
+        ExtensionObject xo = decodeExtensionObject(field);
+
+        if (xo == null) return null;
+
+        Object message = xo.decode();
+
+        if (message instanceof UaStructure) {
+            return (T) message;
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                    "not a structure: " + xo.getEncodingTypeId());
+        }
+    }
+
+    @Override
+    public <T extends UaEnumeration> T decodeEnumeration(String field, Class<T> clazz) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        DecoderDelegate<T> delegate = DelegateRegistry.getDecoder(clazz);
+
+        return delegate.decode(this);
+    }
+
+    @Override
+    public <T extends UaSerializable> T decodeSerializable(String field, Class<T> clazz) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        DecoderDelegate<T> delegate = DelegateRegistry.getDecoder(clazz);
+
+        return readObject(delegate);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] decodeArray(String field, Function<String, T> decoder, Class<T> clazz) throws UaSerializationException {
+        return decodeArray(field, decoder, length -> (T[]) Array.newInstance(clazz, length));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] decodeArray(String field, BiFunction<String, Class<T>, T> decoder, Class<T> clazz) throws UaSerializationException {
+        return decodeArray(field, decoder, clazz, length -> (T[]) Array.newInstance(clazz, length));
+    }
+
+    @Override
+    public <T> T[] decodeArray(String field, Function<String, T> decoder, IntFunction<T[]> arrayFactory) throws UaSerializationException {
+        if (!seek(field) || readNull()) return null;
+
+        List<T> values = new ArrayList<>();
+
+        expect('[');
+        while (nextElement()) {
+            values.add(decoder.apply(null));
+        }
+
+        return values.toArray(arrayFactory.apply(values.size()));
+    }
+
+    @Override
+    public <T> T[] decodeArray(String field,
+                               BiFunction<String, Class<T>, T> decoder,
+                               Class<T> clazz,
+                               IntFunction<T[]> arrayFactory) throws UaSerializationException {
+
+        return decodeArray(field, f -> decoder.apply(f, clazz), arrayFactory);
+    }
+
+    private ExtensionObject readExtensionObjectBody(NodeId typeId, int encoding) {
+        switch (encoding) {
+            case 0: {
+                DecoderDelegate<Object> delegate = DelegateRegistry.findDecoderForDataType(typeId);
+
+                if (delegate == null) {
+                    throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                            "no decoder registered for dataTypeId=" + typeId);
+                }
+
+                if (readNull()) return null;
+
+                Object body = readObject(delegate);
+
+                if (body instanceof UaStructure) {
+                    return ExtensionObject.encode((UaStructure) body);
+                } else {
+                    throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                            "not a structure: " + typeId);
+                }
+            }
+            case 1:
+                return new ExtensionObject(decodeByteString(null), typeId);
+            case 2:
+                return new ExtensionObject(decodeXmlElement(null), typeId);
+            default:
+                throw error("unknown ExtensionObject encoding: " + encoding);
+        }
+    }
+
+    private Object readVariantBody(int typeId) {
+        if (peek() == '[') {
+            Class<?> backingClass = TypeUtil.getBackingClass(typeId);
+
+            if (backingClass == null) {
+                throw error("unknown builtin type: " + typeId);
+            }
+
+            return decodeArray(null, f -> decodeBuiltinType(typeId), length -> (Object[]) Array.newInstance(backingClass, length));
+        } else {
+            return decodeBuiltinType(typeId);
+        }
+    }
+
+    private Object decodeBuiltinType(int typeId) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                return decodeBoolean(null);
+            case 2:
+                return decodeSByte(null);
+            case 3:
+                return decodeByte(null);
+            case 4:
+                return decodeInt16(null);
+            case 5:
+                return decodeUInt16(null);
+            case 6:
+                return decodeInt32(null);
+            case 7:
+                return decodeUInt32(null);
+            case 8:
+                return decodeInt64(null);
+            case 9:
+                return decodeUInt64(null);
+            case 10:
+                return decodeFloat(null);
+            case 11:
+                return decodeDouble(null);
+            case 12:
+                return decodeString(null);
+            case 13:
+                return decodeDateTime(null);
+            case 14:
+                return decodeGuid(null);
+            case 15:
+                return decodeByteString(null);
+            case 16:
+                return decodeXmlElement(null);
+            case 17:
+                return decodeNodeId(null);
+            case 18:
+                return decodeExpandedNodeId(null);
+            case 19:
+                return decodeStatusCode(null);
+            case 20:
+                return decodeQualifiedName(null);
+            case 21:
+                return decodeLocalizedText(null);
+            case 22:
+                return decodeExtensionObject(null);
+            case 23:
+                return decodeDataValue(null);
+            case 24:
+                return decodeVariant(null);
+            case 25:
+                return decodeDiagnosticInfo(null);
+            default:
+                throw error("unknown builtin type: " + typeId);
+        }
+    }
+
+    /**
+     * Read the members of a NodeId or ExpandedNodeId object. The {@code Id} is read before its {@code IdType} is
+     * necessarily known and interpreted once the object has been read.
+     */
+    private ExpandedNodeId readNodeIdObject() {
+        int idType = 0;
+        Object id = null;
+        int namespaceIndex = 0;
+        String namespaceUri = null;
+        long serverIndex = 0;
+
+        expect('{');
+        for (String member = nextMember(); member != null; member = nextMember()) {
+            switch (member) {
+                case "IdType":
+                    idType = readByteAsInt(null);
+                    break;
+                case "Id":
+                    id = peek() == '"' ? readString() : readUInt32AsLong(null);
+                    break;
+                case "Namespace":
+                    if (peek() == '"') {
+                        namespaceUri = readString();
+                    } else {
+                        namespaceIndex = readUInt16AsInt(null);
+                    }
+                    break;
+                case "ServerUri":
+                    serverIndex = readUInt32AsLong(null);
+                    break;
+                default:
+                    skipValue();
+            }
+        }
+
+        try {
+            switch (idType) {
+                case 0:
+                    if (id instanceof String) throw error("numeric NodeId with a string Id");
+                    return new ExpandedNodeId(ushort(namespaceIndex), uint(id != null ? (Long) id : 0L),
+                            namespaceUri, serverIndex);
+                case 1:
+                    return new ExpandedNodeId(ushort(namespaceIndex), (String) id, namespaceUri, serverIndex);
+                case 2:
+                    return new ExpandedNodeId(ushort(namespaceIndex), UUID.fromString((String) id),
+                            namespaceUri, serverIndex);
+                case 3:
+                    return new ExpandedNodeId(ushort(namespaceIndex), new ByteString(base64.decode((String) id)),
+                            namespaceUri, serverIndex);
+                default:
+                    throw error("unknown IdType: " + idType);
+            }
+        } catch (ClassCastException | NullPointerException | IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    /**
+     * Read a JSON object with {@code delegate}, skipping any members it leaves unread.
+     */
+    private <T> T readObject(DecoderDelegate<T> delegate) {
+        expect('{');
+
+        int outerStart = objectStart;
+        objectStart = buffer.readerIndex();
+
+        try {
+            T value = delegate.decode(this);
+
+            while (nextMember() != null) {
+                skipValue();
+            }
+
+            return value;
+        } finally {
+            objectStart = outerStart;
+        }
+    }
+
+    /**
+     * Position the buffer at the value of {@code field}.
+     * <p>
+     * A null {@code field} is an array element, or a value whose member name has already been read, and is next.
+     * Otherwise {@code field} is the name of a member of the current object, usually the next one.
+     *
+     * @return {@code true} if the buffer is positioned at the value, {@code false} if there is no {@code field} member.
+     */
+    private boolean seek(String field) {
+        if (peek() == ',') {
+            buffer.skipBytes(1);
+        }
+
+        if (field == null) {
+            return true;
+        }
+
+        int index = buffer.readerIndex();
+
+        if (peek() == '"' && matchName(field)) {
+            expect(':');
+            return true;
+        } else {
+            buffer.readerIndex(index);
+            return objectStart >= 0 && find(field, index);
+        }
+    }
+
+    /**
+     * Search the current object from its start for the member {@code field}, which is not the next member.
+     *
+     * @param index the reader index to go back to if there is no {@code field} member.
+     * @return {@code true} if the buffer is positioned at the value, {@code false} if there is no {@code field} member.
+     */
+    private boolean find(String field, int index) {
+        buffer.readerIndex(objectStart);
+
+        while (true) {
+            int c = peek();
+
+            if (c == ',') {
+                buffer.skipBytes(1);
+                c = peek();
+            }
+
+            if (c != '"') break;
+
+            if (matchName(field)) {
+                expect(':');
+                return true;
+            }
+
+            skipValue();
+            expect(':');
+            skipValue();
+        }
+
+        buffer.readerIndex(index);
+
+        return false;
+    }
+
+    /**
+     * Compare the quoted member name at the reader index with {@code field} without decoding it, consuming it if it
+     * matches.
+     */
+    private boolean matchName(String field) {
+        int index = buffer.readerIndex() + 1;
+        int length = field.length();
+
+        if (buffer.writerIndex() - index < length + 1) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (buffer.getByte(index + i) != field.charAt(i)) {
+                return false;
+            }
+        }
+
+        if (buffer.getByte(index + length) != '"') {
+            return false;
+        }
+
+        buffer.readerIndex(index + length + 1);
+
+        return true;
+    }
+
+    /**
+     * Read the name of the next member of the current object, or the closing brace if there are none left.
+     *
+     * @return the member name, or {@code null} at the end of the object.
+     */
+    private String nextMember() {
+        int c = peek();
+
+        if (c == ',') {
+            buffer.skipBytes(1);
+            c = peek();
+        }
+
+        if (c == '}') {
+            buffer.skipBytes(1);
+            return null;
+        }
+
+        String name = readString();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Advance to the next element of the current array, or past the closing bracket if there are none left.
+     *
+     * @return {@code true} if there is another element.
+     */
+    private boolean nextElement() {
+        int c = peek();
+
+        if (c == ',') {
+            buffer.skipBytes(1);
+            c = peek();
+        }
+
+        if (c == ']') {
+            buffer.skipBytes(1);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void skipValue() {
+        switch (peek()) {
+            case '{':
+                buffer.skipBytes(1);
+                while (nextMember() != null) {
+                    skipValue();
+                }
+                break;
+            case '[':
+                buffer.skipBytes(1);
+                while (nextElement()) {
+                    skipValue();
+                }
+                break;
+            case '"':
+                buffer.skipBytes(1);
+                while (true) {
+                    int index = buffer.forEachByte(FIND_QUOTE_OR_BACKSLASH);
+                    if (index < 0) throw error("unterminated string");
+                    buffer.readerIndex(index + (buffer.getByte(index) == '\\' ? 2 : 1));
+                    if (buffer.getByte(index) == '"') break;
+                }
+                break;
+            case -1:
+                throw error("unexpected end of input");
+            default:
+                int end = literalEnd();
+                if (end == buffer.readerIndex()) throw error("unexpected character");
+                buffer.readerIndex(end);
+        }
+    }
+
+    private long readInteger(String field, long min, long max) {
+        if (!seek(field) || readNull()) return 0L;
+
+        boolean quoted = skipQuote();
+        long value = readLongValue();
+        if (quoted) expect('"');
+
+        if (value < min || value > max) {
+            throw error(String.format("value %s out of range [%s, %s]", value, min, max));
+        }
+
+        return value;
+    }
+
+    private long readLongValue() {
+        boolean negative = false;
+
+        if (buffer.isReadable() && buffer.getByte(buffer.readerIndex()) == '-') {
+            buffer.skipBytes(1);
+            negative = true;
+        }
+
+        int start = buffer.readerIndex();
+        long value = 0L;
+
+        while (buffer.isReadable() && isDigit(buffer.getByte(buffer.readerIndex()))) {
+            if (value < -(Long.MAX_VALUE / 10)) {
+                throw error("integer out of range");
+            }
+
+            // Accumulate negatively so Long.MIN_VALUE can be represented.
+            value = value * 10 - (buffer.readByte() - '0');
+
+            if (value > 0) {
+                throw error("integer out of range");
+            }
+        }
+
+        if (buffer.readerIndex() == start) {
+            throw error("expected integer");
+        }
+
+        if (!negative) {
+            if (value == Long.MIN_VALUE) throw error("integer out of range");
+            value = -value;
+        }
+
+        return value;
+    }
+
+    private double parseDouble(String s) {
+        try {
+            return Double.parseDouble(s);
+        } catch (NumberFormatException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private ByteString readBase64() {
+        String s = readString();
+
+        try {
+            return new ByteString(base64.decode(s));
+        } catch (IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    /**
+     * Read a quoted JSON string. Strings without escapes are decoded from the buffer in one step.
+     */
+    private String readString() {
+        expect('"');
+
+        int start = buffer.readerIndex();
+        int index = buffer.forEachByte(FIND_QUOTE_OR_BACKSLASH);
+
+        if (index < 0) {
+            throw error("unterminated string");
+        }
+
+        if (buffer.getByte(index) == '"') {
+            buffer.readerIndex(index + 1);
+
+            return buffer.toString(start, index - start, StandardCharsets.UTF_8);
+        }
+
+        StringBuilder sb = stringBuilder;
+        sb.setLength(0);
+
+        while (true) {
+            sb.append(buffer.toString(start, index - start, StandardCharsets.UTF_8));
+            buffer.readerIndex(index + 1);
+
+            if (buffer.getByte(index) == '"') {
+                return sb.toString();
+            }
+
+            readEscape(sb);
+
+            start = buffer.readerIndex();
+            index = buffer.forEachByte(FIND_QUOTE_OR_BACKSLASH);
+
+            if (index < 0) {
+                throw error("unterminated string");
+            }
+        }
+    }
+
+    private void readEscape(StringBuilder sb) {
+        if (!buffer.isReadable()) {
+            throw error("unterminated string");
+        }
+
+        byte b = buffer.readByte();
+
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                sb.append((char) b);
+                break;
+            case 'b':
+                sb.append('\b');
+                break;
+            case 'f':
+                sb.append('\f');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            case 't':
+                sb.append('\t');
+                break;
+            case 'u':
+                if (buffer.readableBytes() < 4) throw error("invalid unicode escape");
+                int c = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buffer.readByte(), 16);
+                    if (digit < 0) throw error("invalid unicode escape");
+                    c = (c << 4) | digit;
+                }
+                sb.append((char) c);
+                break;
+            default:
+                throw error("invalid escape: \\" + (char) b);
+        }
+    }
+
+    private boolean readNull() {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private boolean skipQuote() {
+        if (peek() == '"') {
+            buffer.skipBytes(1);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @return the index following the number or literal at the reader index.
+     */
+    private int literalEnd() {
+        int index = buffer.forEachByte(FIND_END_OF_LITERAL);
+
+        return index < 0 ? buffer.writerIndex() : index;
+    }
+
+    private void expectLiteral(String literal) {
+        int length = literal.length();
+
+        if (buffer.readableBytes() < length) {
+            throw error("expected " + literal);
+        }
+
+        int index = buffer.readerIndex();
+        for (int i = 0; i < length; i++) {
+            if (buffer.getByte(index + i) != literal.charAt(i)) {
+                throw error("expected " + literal);
+            }
+        }
+
+        buffer.skipBytes(length);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error("expected '" + c + "'");
+        }
+
+        buffer.skipBytes(1);
+    }
+
+    /**
+     * Skip whitespace and return the next byte without consuming it.
+     *
+     * @return the next byte, or -1 at the end of the input.
+     */
+    private int peek() {
+        int index = buffer.readerIndex();
+        int end = buffer.writerIndex();
+
+        while (index < end) {
+            byte b = buffer.getByte(index);
+
+            if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                index++;
+            } else {
+                buffer.readerIndex(index);
+                return b;
+            }
+        }
+
+        buffer.readerIndex(index);
+        return -1;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private UaSerializationException error(String message) {
+        return new UaSerializationException(StatusCodes.Bad_DecodingError,
+                String.format("%s (index=%s)", message, buffer.readerIndex()));
+    }
+
+}
@@ -0,0 +1,975 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.EncoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.UaEnumeration;
+import com.digitalpetri.opcua.stack.core.serialization.UaSerializable;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
+import com.digitalpetri.opcua.stack.core.types.enumerated.IdType;
+import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
+import com.digitalpetri.opcua.stack.core.util.DateTimeUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Encodes values using the reversible form of the OPC UA JSON encoding (Part 6, 5.4), writing straight into a
+ * {@link ByteBuf} or {@link OutputStream} without building an intermediate document.
+ * <p>
+ * A value with a field name is written as a member of the enclosing JSON object; a value without one is written as an
+ * array element or a top-level value. Null values of nullable types are omitted when they would be members and written
+ * as {@code null} otherwise. Consecutive top-level values are separated by newlines, as in JSON Lines.
+ * <p>
+ * Structures in an {@link ExtensionObject} or {@link Variant} are written with a JSON body and identified by their
+ * DataType id. ExtensionObject bodies of types with no registered decoder are written as base64 ByteStrings, and XML
+ * bodies as strings, both identified by their encoding id.
+ */
+public class JsonEncoder implements UaEncoder {
+
+    /** When writing to an {@link OutputStream}, output is buffered until a top-level value completes or this many bytes are pending. */
+    private static final int OUTPUT_BUFFER_THRESHOLD = 8192;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
+
+    private final byte[] scratch = new byte[32];
+
+    private final Base64.Encoder base64 = Base64.getEncoder();
+
+    private ByteBuf buffer;
+
+    private OutputStream outputStream;
+    private ByteBuf outputBuffer;
+
+    private int depth = 0;
+    private boolean needsSeparator = false;
+
+    public JsonEncoder() {
+    }
+
+    public JsonEncoder(ByteBuf buffer) {
+        setBuffer(buffer);
+    }
+
+    public JsonEncoder(OutputStream outputStream) {
+        setOutput(outputStream);
+    }
+
+    /**
+     * Encode into {@code buffer}.
+     *
+     * @param buffer the {@link ByteBuf} to write to.
+     * @return this {@link JsonEncoder}.
+     */
+    public JsonEncoder setBuffer(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.outputStream = null;
+
+        depth = 0;
+        needsSeparator = false;
+
+        return this;
+    }
+
+    /**
+     * Encode into {@code outputStream}.
+     * <p>
+     * Output is buffered and written to the stream each time a top-level value is complete; {@link #flush()} also
+     * flushes the stream.
+     *
+     * @param outputStream the {@link OutputStream} to write to.
+     * @return this {@link JsonEncoder}.
+     */
+    public JsonEncoder setOutput(OutputStream outputStream) {
+        if (outputBuffer == null) {
+            outputBuffer = Unpooled.buffer(OUTPUT_BUFFER_THRESHOLD * 2);
+        }
+
+        this.buffer = outputBuffer.clear();
+        this.outputStream = outputStream;
+
+        depth = 0;
+        needsSeparator = false;
+
+        return this;
+    }
+
+    /**
+     * Write any buffered output to the {@link OutputStream} and flush it. Does nothing when encoding into a
+     * {@link ByteBuf}.
+     */
+    public void flush() throws UaSerializationException {
+        if (outputStream != null) {
+            drain();
+
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+            }
+        }
+    }
+
+    @Override
+    public void encodeBoolean(String field, Boolean value) throws UaSerializationException {
+        writeBoolean(field, value != null && value);
+    }
+
+    @Override
+    public void encodeSByte(String field, Byte value) throws UaSerializationException {
+        writeSByte(field, value == null ? 0 : value);
+    }
+
+    @Override
+    public void encodeInt16(String field, Short value) throws UaSerializationException {
+        writeInt16(field, value == null ? 0 : value);
+    }
+
+    @Override
+    public void encodeInt32(String field, Integer value) throws UaSerializationException {
+        writeInt32(field, value == null ? 0 : value);
+    }
+
+    @Override
+    public void encodeInt64(String field, Long value) throws UaSerializationException {
+        writeInt64(field, value == null ? 0L : value);
+    }
+
+    @Override
+    public void encodeByte(String field, UByte value) throws UaSerializationException {
+        writeByte(field, value == null ? 0 : value.intValue());
+    }
+
+    @Override
+    public void encodeUInt16(String field, UShort value) throws UaSerializationException {
+        writeUInt16(field, value == null ? 0 : value.intValue());
+    }
+
+    @Override
+    public void encodeUInt32(String field, UInteger value) throws UaSerializationException {
+        writeUInt32(field, value == null ? 0L : value.longValue());
+    }
+
+    @Override
+    public void encodeUInt64(String field, ULong value) throws UaSerializationException {
+        writeUInt64(field, value == null ? 0L : value.longValue());
+    }
+
+    @Override
+    public void encodeFloat(String field, Float value) throws UaSerializationException {
+        writeFloat(field, value == null ? 0f : value);
+    }
+
+    @Override
+    public void encodeDouble(String field, Double value) throws UaSerializationException {
+        writeDouble(field, value == null ? 0.0 : value);
+    }
+
+    @Override
+    public void writeBoolean(String field, boolean value) throws UaSerializationException {
+        beginValue(field);
+        writeAscii(value ? "true" : "false");
+        endValue();
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) throws UaSerializationException {
+        writeInteger(field, value);
+    }
+
+    @Override
+    public void writeInt16(String field, short value) throws UaSerializationException {
+        writeInteger(field, value);
+    }
+
+    @Override
+    public void writeInt32(String field, int value) throws UaSerializationException {
+        writeInteger(field, value);
+    }
+
+    @Override
+    public void writeInt64(String field, long value) throws UaSerializationException {
+        beginValue(field);
+        buffer.writeByte('"');
+        writeLong(value);
+        buffer.writeByte('"');
+        endValue();
+    }
+
+    @Override
+    public void writeByte(String field, int value) throws UaSerializationException {
+        writeInteger(field, value & 0xFF);
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) throws UaSerializationException {
+        writeInteger(field, value & 0xFFFF);
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) throws UaSerializationException {
+        writeInteger(field, value & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) throws UaSerializationException {
+        beginValue(field);
+        buffer.writeByte('"');
+        if (value >= 0) {
+            writeLong(value);
+        } else {
+            writeAscii(Long.toUnsignedString(value));
+        }
+        buffer.writeByte('"');
+        endValue();
+    }
+
+    @Override
+    public void writeFloat(String field, float value) throws UaSerializationException {
+        beginValue(field);
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeSpecialDouble(value);
+        } else {
+            writeAscii(Float.toString(value));
+        }
+        endValue();
+    }
+
+    @Override
+    public void writeDouble(String field, double value) throws UaSerializationException {
+        beginValue(field);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeSpecialDouble(value);
+        } else {
+            writeAscii(Double.toString(value));
+        }
+        endValue();
+    }
+
+    @Override
+    public void encodeString(String field, String value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginValue(field);
+            writeString(value);
+            endValue();
+        }
+    }
+
+    @Override
+    public void encodeDateTime(String field, DateTime value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginValue(field);
+            buffer.writeByte('"');
+            buffer.writeBytes(scratch, 0, DateTimeUtil.formatIso8601(value.getUtcTime(), scratch));
+            buffer.writeByte('"');
+            endValue();
+        }
+    }
+
+    @Override
+    public void encodeGuid(String field, UUID value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            long msb = value.getMostSignificantBits();
+            long lsb = value.getLeastSignificantBits();
+
+            beginValue(field);
+            buffer.writeByte('"');
+            writeHex(msb >>> 32, 8);
+            buffer.writeByte('-');
+            writeHex(msb >>> 16, 4);
+            buffer.writeByte('-');
+            writeHex(msb, 4);
+            buffer.writeByte('-');
+            writeHex(lsb >>> 48, 4);
+            buffer.writeByte('-');
+            writeHex(lsb, 12);
+            buffer.writeByte('"');
+            endValue();
+        }
+    }
+
+    @Override
+    public void encodeByteString(String field, ByteString value) throws UaSerializationException {
+        if (value == null || value.isNull()) {
+            writeNull(field);
+        } else {
+            beginValue(field);
+            buffer.writeByte('"');
+            buffer.writeBytes(base64.encode(value.bytes()));
+            buffer.writeByte('"');
+            endValue();
+        }
+    }
+
+    @Override
+    public void encodeXmlElement(String field, XmlElement value) throws UaSerializationException {
+        if (value == null || value.isNull()) {
+            writeNull(field);
+        } else {
+            encodeString(field, value.getFragment());
+        }
+    }
+
+    @Override
+    public void encodeNodeId(String field, NodeId value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            writeIdentifier(value.getType(), value.getIdentifier());
+            if (value.getNamespaceIndex().intValue() != 0) {
+                writeUInt16("Namespace", value.getNamespaceIndex().intValue());
+            }
+            endObject();
+        }
+    }
+
+    @Override
+    public void encodeExpandedNodeId(String field, ExpandedNodeId value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            writeIdentifier(value.getType(), value.getIdentifier());
+            if (value.getNamespaceUri() != null) {
+                encodeString("Namespace", value.getNamespaceUri());
+            } else if (value.getNamespaceIndex().intValue() != 0) {
+                writeUInt16("Namespace", value.getNamespaceIndex().intValue());
+            }
+            if (value.getServerIndex() != 0) {
+                writeUInt32("ServerUri", value.getServerIndex());
+            }
+            endObject();
+        }
+    }
+
+    @Override
+    public void encodeStatusCode(String field, StatusCode value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeUInt32(field, value.getValue());
+        }
+    }
+
+    @Override
+    public void encodeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            encodeString("Name", value.getName());
+            if (value.getNamespaceIndex().intValue() != 0) {
+                writeUInt16("Uri", value.getNamespaceIndex().intValue());
+            }
+            endObject();
+        }
+    }
+
+    @Override
+    public void encodeLocalizedText(String field, LocalizedText value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            encodeString("Locale", value.getLocale());
+            encodeString("Text", value.getText());
+            endObject();
+        }
+    }
+
+    @Override
+    public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        Object body = null;
+
+        if (!value.isEncoded()) {
+            body = value.decode();
+        } else if (value.getBodyType() == ExtensionObject.BodyType.ByteString &&
+                DelegateRegistry.findDecoder(value.getEncodingTypeId()) != null) {
+
+            try {
+                body = value.decode();
+            } catch (UaSerializationException e) {
+                // Not decodable after all; fall back to writing the ByteString body.
+            }
+        }
+
+        if (body instanceof UaStructure) {
+            writeStructure(field, (UaStructure) body);
+        } else {
+            beginObject(field);
+            encodeNodeId("TypeId", value.getEncodingTypeId());
+
+            Object encoded = value.getEncoded();
+
+            if (encoded instanceof ByteString) {
+                writeInt32("Encoding", 1);
+                encodeByteString("Body", (ByteString) encoded);
+            } else if (encoded instanceof XmlElement) {
+                writeInt32("Encoding", 2);
+                encodeXmlElement("Body", (XmlElement) encoded);
+            }
+
+            endObject();
+        }
+    }
+
+    @Override
+    public void encodeDataValue(String field, DataValue value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        beginObject(field);
+
+        if (value.getValue() != null && value.getValue().isNotNull()) {
+            encodeVariant("Value", value.getValue());
+        }
+
+        if (value.getStatusCode() != null && value.getStatusCode().getValue() != 0) {
+            encodeStatusCode("Status", value.getStatusCode());
+        }
+
+        if (value.getSourceTime() != null && !value.getSourceTime().isNull()) {
+            encodeDateTime("SourceTimestamp", value.getSourceTime());
+        }
+
+        if (value.getSourcePicoseconds() != null && value.getSourcePicoseconds().intValue() != 0) {
+            encodeUInt16("SourcePicoseconds", value.getSourcePicoseconds());
+        }
+
+        if (value.getServerTime() != null && !value.getServerTime().isNull()) {
+            encodeDateTime("ServerTimestamp", value.getServerTime());
+        }
+
+        if (value.getServerPicoseconds() != null && value.getServerPicoseconds().intValue() != 0) {
+            encodeUInt16("ServerPicoseconds", value.getServerPicoseconds());
+        }
+
+        endObject();
+    }
+
+    @Override
+    public void encodeVariant(String field, Variant variant) throws UaSerializationException {
+        Object value = variant != null ? variant.getValue() : null;
+
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        Matrix matrix = value instanceof Matrix ? (Matrix) value : null;
+
+        boolean structure = variant.isStructure();
+        boolean enumeration = variant.isEnumeration();
+        int typeId = variant.getBuiltinTypeId();
+
+        if (typeId == -1) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                    "not a built-in type: " + value.getClass());
+        }
+
+        beginObject(field);
+        writeInt32("Type", typeId);
+
+        if (matrix != null) {
+            writeArrayValues("Body", matrix.getElements(), typeId, structure, enumeration);
+
+            if (matrix.getRank() > 1) {
+                writeDimensions(variant);
+            }
+        } else if (variant.isArray()) {
+            if (variant.getRank() == 1) {
+                writeArrayValues("Body", value, typeId, structure, enumeration);
+            } else {
+                writeArrayValues("Body", ArrayUtil.flatten(value), typeId, structure, enumeration);
+                writeDimensions(variant);
+            }
+        } else {
+            writeValue("Body", value, typeId, structure, enumeration);
+        }
+
+        endObject();
+    }
+
+    @Override
+    public void encodeDiagnosticInfo(String field, DiagnosticInfo value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        beginObject(field);
+
+        if (value.getSymbolicId() >= 0) writeInt32("SymbolicId", value.getSymbolicId());
+        if (value.getNamespaceUri() >= 0) writeInt32("NamespaceUri", value.getNamespaceUri());
+        if (value.getLocale() >= 0) writeInt32("Locale", value.getLocale());
+        if (value.getLocalizedText() >= 0) writeInt32("LocalizedText", value.getLocalizedText());
+
+        encodeString("AdditionalInfo", value.getAdditionalInfo());
+        encodeStatusCode("InnerStatusCode", value.getInnerStatusCode());
+        encodeDiagnosticInfo("InnerDiagnosticInfo", value.getInnerDiagnosticInfo());
+
+        endObject();
+    }
+
+    /**
+     * Encode {@code message} the way a structure in an ExtensionObject is encoded: an object with the DataType id of
+     * the message as its {@code TypeId} and the message itself as its {@code Body}.
+     */
+    @Override
+    public <T extends UaStructure> void encodeMessage(String field, T message) throws UaSerializationException {
+        if (message == null) {
+            writeNull(field);
+        } else {
+            writeStructure(field, message);
+        }
+    }
+
+    @Override
+    public <T extends UaEnumeration> void encodeEnumeration(String field, T value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeInt32(field, value.getValue());
+        }
+    }
+
+    @Override
+    public <T extends UaSerializable> void encodeSerializable(String field, T value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            EncoderDelegate<T> delegate = DelegateRegistry.getEncoder(value);
+
+            beginObject(field);
+            delegate.encode(value, this);
+            endObject();
+        }
+    }
+
+    @Override
+    public <T> void encodeArray(String field, T[] values, BiConsumer<String, T> encoder) throws UaSerializationException {
+        if (values == null) {
+            writeNull(field);
+        } else {
+            beginArray(field);
+            for (T value : values) {
+                encoder.accept(null, value);
+            }
+            endArray();
+        }
+    }
+
+    private void writeStructure(String field, UaStructure structure) {
+        beginObject(field);
+        encodeNodeId("TypeId", structure.getTypeId());
+        encodeSerializable("Body", structure);
+        endObject();
+    }
+
+    private void writeIdentifier(IdType type, Object identifier) {
+        switch (type) {
+            case Numeric:
+                writeUInt32("Id", ((UInteger) identifier).longValue());
+                break;
+            case String:
+                writeInt32("IdType", 1);
+                encodeString("Id", (String) identifier);
+                break;
+            case Guid:
+                writeInt32("IdType", 2);
+                encodeGuid("Id", (UUID) identifier);
+                break;
+            case Opaque:
+                writeInt32("IdType", 3);
+                encodeByteString("Id", (ByteString) identifier);
+                break;
+        }
+    }
+
+    private void writeDimensions(Variant variant) {
+        beginArray("Dimensions");
+        for (int i = 0; i < variant.getRank(); i++) {
+            writeInt32(null, variant.getDimension(i));
+        }
+        endArray();
+    }
+
+    /**
+     * Write the elements of a one-dimensional Variant array, looping over primitive arrays directly.
+     */
+    private void writeArrayValues(String field, Object array, int typeId, boolean structure, boolean enumeration) {
+        beginArray(field);
+
+        if (array instanceof double[]) {
+            for (double v : (double[]) array) writeDouble(null, v);
+        } else if (array instanceof float[]) {
+            for (float v : (float[]) array) writeFloat(null, v);
+        } else if (array instanceof long[]) {
+            for (long v : (long[]) array) writeInt64(null, v);
+        } else if (array instanceof int[]) {
+            for (int v : (int[]) array) writeInt32(null, v);
+        } else if (array instanceof short[]) {
+            for (short v : (short[]) array) writeInt16(null, v);
+        } else if (array instanceof byte[]) {
+            for (byte v : (byte[]) array) writeSByte(null, v);
+        } else if (array instanceof boolean[]) {
+            for (boolean v : (boolean[]) array) writeBoolean(null, v);
+        } else {
+            for (Object v : (Object[]) array) {
+                if (v == null) {
+                    writeNull(null);
+                } else {
+                    writeValue(null, v, typeId, structure, enumeration);
+                }
+            }
+        }
+
+        endArray();
+    }
+
+    private void writeValue(String field, Object value, int typeId, boolean structure, boolean enumeration) {
+        if (structure) {
+            writeStructure(field, (UaStructure) value);
+        } else if (enumeration) {
+            writeInt32(field, ((UaEnumeration) value).getValue());
+        } else {
+            encodeBuiltinType(field, typeId, value);
+        }
+    }
+
+    private void encodeBuiltinType(String field, int typeId, Object value) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                encodeBoolean(field, (Boolean) value);
+                break;
+            case 2:
+                encodeSByte(field, (Byte) value);
+                break;
+            case 3:
+                encodeByte(field, (UByte) value);
+                break;
+            case 4:
+                encodeInt16(field, (Short) value);
+                break;
+            case 5:
+                encodeUInt16(field, (UShort) value);
+                break;
+            case 6:
+                encodeInt32(field, (Integer) value);
+                break;
+            case 7:
+                encodeUInt32(field, (UInteger) value);
+                break;
+            case 8:
+                encodeInt64(field, (Long) value);
+                break;
+            case 9:
+                encodeUInt64(field, (ULong) value);
+                break;
+            case 10:
+                encodeFloat(field, (Float) value);
+                break;
+            case 11:
+                encodeDouble(field, (Double) value);
+                break;
+            case 12:
+                encodeString(field, (String) value);
+                break;
+            case 13:
+                encodeDateTime(field, (DateTime) value);
+                break;
+            case 14:
+                encodeGuid(field, (UUID) value);
+                break;
+            case 15:
+                encodeByteString(field, (ByteString) value);
+                break;
+            case 16:
+                encodeXmlElement(field, (XmlElement) value);
+                break;
+            case 17:
+                encodeNodeId(field, (NodeId) value);
+                break;
+            case 18:
+                encodeExpandedNodeId(field, (ExpandedNodeId) value);
+                break;
+            case 19:
+                encodeStatusCode(field, (StatusCode) value);
+                break;
+            case 20:
+                encodeQualifiedName(field, (QualifiedName) value);
+                break;
+            case 21:
+                encodeLocalizedText(field, (LocalizedText) value);
+                break;
+            case 22:
+                encodeExtensionObject(field, (ExtensionObject) value);
+                break;
+            case 23:
+                encodeDataValue(field, (DataValue) value);
+                break;
+            case 24:
+                encodeVariant(field, (Variant) value);
+                break;
+            case 25:
+                encodeDiagnosticInfo(field, (DiagnosticInfo) value);
+                break;
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, "unknown builtin type: " + typeId);
+        }
+    }
+
+    /**
+     * Write the separator and, if {@code field} is not null, the member name that precede a value.
+     */
+    private void beginValue(String field) {
+        if (needsSeparator) {
+            buffer.writeByte(depth > 0 ? ',' : '\n');
+        }
+
+        if (field != null) {
+            writeString(field);
+            buffer.writeByte(':');
+        }
+    }
+
+    private void endValue() {
+        needsSeparator = true;
+
+        if (outputStream != null && (depth == 0 || buffer.readableBytes() >= OUTPUT_BUFFER_THRESHOLD)) {
+            drain();
+        }
+    }
+
+    private void beginObject(String field) {
+        beginValue(field);
+        buffer.writeByte('{');
+        depth++;
+        needsSeparator = false;
+    }
+
+    private void endObject() {
+        buffer.writeByte('}');
+        depth--;
+        endValue();
+    }
+
+    private void beginArray(String field) {
+        beginValue(field);
+        buffer.writeByte('[');
+        depth++;
+        needsSeparator = false;
+    }
+
+    private void endArray() {
+        buffer.writeByte(']');
+        depth--;
+        endValue();
+    }
+
+    /**
+     * Write a null value. Null members are omitted rather than written.
+     */
+    private void writeNull(String field) {
+        if (field == null) {
+            beginValue(null);
+            writeAscii("null");
+            endValue();
+        }
+    }
+
+    private void writeInteger(String field, long value) {
+        beginValue(field);
+        writeLong(value);
+        endValue();
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+
+        if (value < 0) {
+            buffer.writeByte('-');
+            value = -value;
+        }
+
+        int index = scratch.length;
+        do {
+            scratch[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        buffer.writeBytes(scratch, index, scratch.length - index);
+    }
+
+    private void writeSpecialDouble(double value) {
+        if (Double.isNaN(value)) {
+            writeAscii("\"NaN\"");
+        } else if (value > 0) {
+            writeAscii("\"Infinity\"");
+        } else {
+            writeAscii("\"-Infinity\"");
+        }
+    }
+
+    private void writeHex(long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer.writeByte(HEX_DIGITS[(int) (value >>> (i * 4)) & 0xF]);
+        }
+    }
+
+    private void writeAscii(String s) {
+        ByteBufUtil.writeAscii(buffer, s);
+    }
+
+    /**
+     * Write {@code s} as a quoted, escaped JSON string, encoding it as UTF-8 directly into the buffer.
+     * <p>
+     * Strings with nothing to escape, the common case, are written with a single {@link ByteBufUtil#writeUtf8} call.
+     */
+    private void writeString(String s) {
+        int length = s.length();
+        buffer.ensureWritable(length + 2);
+        buffer.writeByte('"');
+
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') break;
+            i++;
+        }
+
+        if (i == length) {
+            ByteBufUtil.writeUtf8(buffer, s);
+            buffer.writeByte('"');
+            return;
+        }
+
+        for (i = 0; i < length; i++) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buffer.writeByte(c);
+                } else {
+                    writeEscaped(c);
+                }
+            } else if (c < 0x800) {
+                buffer.writeByte(0xC0 | (c >> 6));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buffer.writeByte(0xF0 | (codePoint >> 18));
+                buffer.writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                buffer.writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                buffer.writeByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.writeByte('?');
+            } else {
+                buffer.writeByte(0xE0 | (c >> 12));
+                buffer.writeByte(0x80 | ((c >> 6) & 0x3F));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            }
+        }
+
+        buffer.writeByte('"');
+    }
+
+    private void writeEscaped(char c) {
+        buffer.writeByte('\\');
+
+        switch (c) {
+            case '"':
+                buffer.writeByte('"');
+                break;
+            case '\\':
+                buffer.writeByte('\\');
+                break;
+            case '\b':
+                buffer.writeByte('b');
+                break;
+            case '\f':
+                buffer.writeByte('f');
+                break;
+            case '\n':
+                buffer.writeByte('n');
+                break;
+            case '\r':
+                buffer.writeByte('r');
+                break;
+            case '\t':
+                buffer.writeByte('t');
+                break;
+            default:
+                buffer.writeByte('u');
+                writeHex(c, 4);
+        }
+    }
+
+    private void drain() {
+        try {
+            buffer.readBytes(outputStream, buffer.readableBytes());
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+}
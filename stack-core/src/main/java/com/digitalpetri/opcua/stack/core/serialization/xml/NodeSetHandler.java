@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.xml;
+
+import java.util.List;
+
+/**
+ * Receives the contents of a UANodeSet as {@link NodeSetReader} parses it.
+ * <p>
+ * NodeIds and QualifiedNames carry the namespace indices used in the file, where index 1 is the first URI passed to
+ * {@link #onNamespaceUris(List)}; remapping them onto a server's namespace table is up to the handler.
+ */
+public interface NodeSetHandler {
+
+    /**
+     * Called once, before any nodes, if the file has a {@code NamespaceUris} element.
+     *
+     * @param namespaceUris the URIs of namespace index 1 onwards, in order.
+     */
+    default void onNamespaceUris(List<String> namespaceUris) {}
+
+    /**
+     * Called for each reference of a node, before {@link #onNode(NodeSetNode)} is called for that node.
+     *
+     * @param reference the {@link NodeSetReference}.
+     */
+    default void onReference(NodeSetReference reference) {}
+
+    /**
+     * Called for each node once its element has been parsed.
+     *
+     * @param node the {@link NodeSetNode}.
+     */
+    default void onNode(NodeSetNode node) {}
+
+}
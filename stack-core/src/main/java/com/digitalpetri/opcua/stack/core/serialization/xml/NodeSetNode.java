@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.xml;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.google.common.base.MoreObjects;
+
+/**
+ * A node element of a UANodeSet, e.g. {@code UAVariable}, with any aliases resolved.
+ * <p>
+ * Every attribute of the node's {@link NodeClass} is present, with the schema's default where the file omits it. The
+ * values have the types a Read of the attribute would return, e.g. {@link NodeId} for DataType, {@link Integer} for
+ * ValueRank and a {@link com.digitalpetri.opcua.stack.core.types.builtin.Variant} for Value.
+ */
+public class NodeSetNode {
+
+    private final NodeClass nodeClass;
+    private final NodeId nodeId;
+    private final QualifiedName browseName;
+    private final LocalizedText displayName;
+    private final NodeId parentNodeId;
+    private final Map<AttributeId, Object> attributes;
+
+    public NodeSetNode(NodeClass nodeClass,
+                       NodeId nodeId,
+                       QualifiedName browseName,
+                       LocalizedText displayName,
+                       @Nullable NodeId parentNodeId,
+                       Map<AttributeId, Object> attributes) {
+
+        this.nodeClass = nodeClass;
+        this.nodeId = nodeId;
+        this.browseName = browseName;
+        this.displayName = displayName;
+        this.parentNodeId = parentNodeId;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    public NodeClass getNodeClass() {
+        return nodeClass;
+    }
+
+    public NodeId getNodeId() {
+        return nodeId;
+    }
+
+    public QualifiedName getBrowseName() {
+        return browseName;
+    }
+
+    public LocalizedText getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the {@code ParentNodeId} of the node, if the file declares one.
+     */
+    public Optional<NodeId> getParentNodeId() {
+        return Optional.ofNullable(parentNodeId);
+    }
+
+    /**
+     * @param attributeId the {@link AttributeId} to get.
+     * @return the value of the attribute, or empty if the node's {@link NodeClass} doesn't have it.
+     */
+    public Optional<Object> getAttribute(AttributeId attributeId) {
+        return Optional.ofNullable(attributes.get(attributeId));
+    }
+
+    public Map<AttributeId, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("nodeClass", nodeClass)
+                .add("nodeId", nodeId)
+                .add("browseName", browseName)
+                .toString();
+    }
+
+}
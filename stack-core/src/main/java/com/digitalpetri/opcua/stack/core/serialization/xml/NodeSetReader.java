@@ -0,0 +1,455 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.xml;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.Stack;
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.UaRuntimeException;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.google.common.base.Splitter;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Reads a UANodeSet (the UANodeSet2 schema) as a stream, passing each node and reference to a
+ * {@link NodeSetHandler} as soon as its element has been parsed.
+ * <p>
+ * Nothing is kept once a node has been handed off apart from the file's aliases, so memory use does not grow with the
+ * number of nodes. {@code Value} elements are decoded by {@link XmlDecoder} on the same {@link XMLStreamReader}.
+ */
+public class NodeSetReader {
+
+    private static final Splitter ARRAY_DIMENSIONS_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private final Map<String, NodeId> aliases = new HashMap<>();
+
+    private final XmlDecoder decoder = new XmlDecoder();
+
+    private final NodeSetHandler handler;
+
+    private XMLStreamReader reader;
+
+    private NodeSetReader(NodeSetHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Read the UANodeSet in {@code inputStream}, calling {@code handler} as nodes and references are parsed.
+     *
+     * @param inputStream the {@link InputStream} to read from. It is not closed.
+     * @param handler     the {@link NodeSetHandler} to pass the contents of the file to.
+     * @throws UaException if the file is not a well-formed UANodeSet or a value in it can't be decoded.
+     */
+    public static void read(InputStream inputStream, NodeSetHandler handler) throws UaException {
+        new NodeSetReader(handler).readNodeSet(inputStream);
+    }
+
+    /**
+     * Read independent UANodeSet files in parallel on the shared {@link Stack} executor.
+     *
+     * @see #readAll(Collection, Function, Executor)
+     */
+    public static CompletableFuture<Void> readAll(Collection<Path> paths,
+                                                  Function<Path, NodeSetHandler> handlers) {
+
+        return readAll(paths, handlers, Stack.sharedExecutor());
+    }
+
+    /**
+     * Read independent UANodeSet files in parallel, one task per file on {@code executor}.
+     * <p>
+     * Each file gets its own {@link NodeSetHandler}, which is only called from the task reading that file; a
+     * handler that writes to something shared must synchronize itself.
+     *
+     * @param paths    the files to read.
+     * @param handlers a function supplying the {@link NodeSetHandler} for each file.
+     * @param executor the {@link Executor} to read the files on.
+     * @return a {@link CompletableFuture} that completes when every file has been read, or exceptionally with the
+     * {@link UaException} of the first file that could not be.
+     */
+    public static CompletableFuture<Void> readAll(Collection<Path> paths,
+                                                  Function<Path, NodeSetHandler> handlers,
+                                                  Executor executor) {
+
+        CompletableFuture<?>[] futures = paths.stream()
+                .map(path -> CompletableFuture.runAsync(() -> {
+                    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+                        read(inputStream, handlers.apply(path));
+                    } catch (IOException e) {
+                        throw new CompletionException(new UaException(StatusCodes.Bad_DecodingError, e));
+                    } catch (UaException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    private void readNodeSet(InputStream inputStream) throws UaException {
+        try {
+            decoder.setInput(inputStream);
+            reader = decoder.getStreamReader();
+
+            reader.nextTag();
+            requireStartElement("UANodeSet");
+
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                String element = reader.getLocalName();
+
+                switch (element) {
+                    case "NamespaceUris":
+                        handler.onNamespaceUris(readNamespaceUris());
+                        break;
+                    case "Aliases":
+                        readAliases();
+                        break;
+                    case "UAObject":
+                        readNode(NodeClass.Object);
+                        break;
+                    case "UAVariable":
+                        readNode(NodeClass.Variable);
+                        break;
+                    case "UAMethod":
+                        readNode(NodeClass.Method);
+                        break;
+                    case "UAView":
+                        readNode(NodeClass.View);
+                        break;
+                    case "UAObjectType":
+                        readNode(NodeClass.ObjectType);
+                        break;
+                    case "UAVariableType":
+                        readNode(NodeClass.VariableType);
+                        break;
+                    case "UADataType":
+                        readNode(NodeClass.DataType);
+                        break;
+                    case "UAReferenceType":
+                        readNode(NodeClass.ReferenceType);
+                        break;
+                    default:
+                        // ServerUris, Models, Extensions, ...
+                        skipElement();
+                        break;
+                }
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new UaException(StatusCodes.Bad_DecodingError, e);
+        } catch (UaRuntimeException e) {
+            throw new UaException(e.getStatusCode(), e);
+        }
+    }
+
+    private List<String> readNamespaceUris() throws XMLStreamException {
+        List<String> namespaceUris = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            requireStartElement("Uri");
+
+            namespaceUris.add(reader.getElementText().trim());
+        }
+
+        return namespaceUris;
+    }
+
+    private void readAliases() throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            requireStartElement("Alias");
+
+            String alias = reader.getAttributeValue(null, "Alias");
+
+            aliases.put(alias, NodeId.parse(reader.getElementText().trim()));
+        }
+    }
+
+    private void readNode(NodeClass nodeClass) throws XMLStreamException {
+        NodeId nodeId = resolve(requireAttribute("NodeId"));
+        QualifiedName browseName = parseQualifiedName(requireAttribute("BrowseName"));
+
+        String parentNodeIdAttribute = reader.getAttributeValue(null, "ParentNodeId");
+        NodeId parentNodeId = parentNodeIdAttribute != null ? resolve(parentNodeIdAttribute) : null;
+
+        Map<AttributeId, Object> attributes = new EnumMap<>(AttributeId.class);
+
+        for (AttributeId attributeId : attributeIds(nodeClass)) {
+            Object value = readAttribute(attributeId);
+
+            if (value != null) attributes.put(attributeId, value);
+        }
+
+        LocalizedText displayName = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "DisplayName":
+                    // Only the first of several localized DisplayNames is kept.
+                    if (displayName == null) {
+                        displayName = readLocalizedText();
+                    } else {
+                        skipElement();
+                    }
+                    break;
+                case "Description":
+                    if (attributes.get(AttributeId.Description) == LocalizedText.NULL_VALUE) {
+                        attributes.put(AttributeId.Description, readLocalizedText());
+                    } else {
+                        skipElement();
+                    }
+                    break;
+                case "InverseName":
+                    if (nodeClass == NodeClass.ReferenceType) {
+                        attributes.put(AttributeId.InverseName, readLocalizedText());
+                    } else {
+                        skipElement();
+                    }
+                    break;
+                case "References":
+                    readReferences(nodeId);
+                    break;
+                case "Value":
+                    if (attributes.containsKey(AttributeId.Value)) {
+                        attributes.put(AttributeId.Value, readValue());
+                    } else {
+                        skipElement();
+                    }
+                    break;
+                default:
+                    // Category, Documentation, RolePermissions, Definition, Extensions, ...
+                    skipElement();
+                    break;
+            }
+        }
+
+        if (displayName == null) {
+            displayName = LocalizedText.english(browseName.getName());
+        }
+
+        attributes.put(AttributeId.NodeId, nodeId);
+        attributes.put(AttributeId.NodeClass, nodeClass);
+        attributes.put(AttributeId.BrowseName, browseName);
+        attributes.put(AttributeId.DisplayName, displayName);
+
+        handler.onNode(new NodeSetNode(nodeClass, nodeId, browseName, displayName, parentNodeId, attributes));
+    }
+
+    private static Set<AttributeId> attributeIds(NodeClass nodeClass) {
+        switch (nodeClass) {
+            case Object:
+                return AttributeId.OBJECT_NODE_ATTRIBUTES;
+            case Variable:
+                return AttributeId.VARIABLE_NODE_ATTRIBUTES;
+            case Method:
+                return AttributeId.METHOD_NODE_ATTRIBUTES;
+            case View:
+                return AttributeId.VIEW_NODE_ATTRIBUTES;
+            case ObjectType:
+                return AttributeId.OBJECT_TYPE_NODE_ATTRIBUTES;
+            case VariableType:
+                return AttributeId.VARIABLE_TYPE_NODE_ATTRIBUTES;
+            case DataType:
+                return AttributeId.DATA_TYPE_NODE_ATTRIBUTES;
+            case ReferenceType:
+                return AttributeId.REFERENCE_TYPE_NODE_ATTRIBUTES;
+            default:
+                return AttributeId.BASE_NODE_ATTRIBUTES;
+        }
+    }
+
+    /**
+     * Read an attribute of the current node element, applying the UANodeSet schema's default if it's absent.
+     * <p>
+     * Attributes that are child elements rather than XML attributes, and the ones every node has, are given a
+     * placeholder or {@code null} here and filled in by {@link #readNode(NodeClass)}.
+     */
+    @Nullable
+    private Object readAttribute(AttributeId attributeId) {
+        String value = reader.getAttributeValue(null, attributeId.name());
+
+        switch (attributeId) {
+            case WriteMask:
+            case UserWriteMask:
+                return value != null ? uint(value) : uint(0);
+            case IsAbstract:
+            case Symmetric:
+            case ContainsNoLoops:
+            case Historizing:
+                return value != null && Boolean.parseBoolean(value);
+            case Executable:
+            case UserExecutable:
+                return value == null || Boolean.parseBoolean(value);
+            case EventNotifier:
+                return value != null ? ubyte(value) : ubyte(0);
+            case AccessLevel:
+            case UserAccessLevel:
+                return value != null ? ubyte(value) : ubyte(1);
+            case DataType:
+                return value != null ? resolve(value) : Identifiers.BaseDataType;
+            case ValueRank:
+                return value != null ? Integer.valueOf(value) : Integer.valueOf(-1);
+            case ArrayDimensions:
+                return value != null ? parseArrayDimensions(value) : new UInteger[0];
+            case MinimumSamplingInterval:
+                return value != null ? Double.valueOf(value) : Double.valueOf(0.0);
+            case Description:
+                return LocalizedText.NULL_VALUE;
+            case InverseName:
+                return LocalizedText.NULL_VALUE;
+            case Value:
+                return Variant.NULL_VALUE;
+            default:
+                return null;
+        }
+    }
+
+    private void readReferences(NodeId sourceNodeId) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            requireStartElement("Reference");
+
+            NodeId referenceTypeId = resolve(requireAttribute("ReferenceType"));
+            String isForward = reader.getAttributeValue(null, "IsForward");
+            NodeId targetNodeId = resolve(reader.getElementText().trim());
+
+            handler.onReference(new NodeSetReference(
+                    sourceNodeId,
+                    referenceTypeId,
+                    targetNodeId,
+                    isForward == null || Boolean.parseBoolean(isForward)));
+        }
+    }
+
+    private Variant readValue() throws XMLStreamException {
+        if (reader.nextTag() == XMLStreamConstants.END_ELEMENT) {
+            return Variant.NULL_VALUE;
+        }
+
+        Object value = decoder.decodeVariantValue(reader.getLocalName());
+
+        reader.nextTag();
+        requireEndElement("Value");
+
+        return new Variant(value);
+    }
+
+    private LocalizedText readLocalizedText() throws XMLStreamException {
+        String locale = reader.getAttributeValue(null, "Locale");
+        String text = reader.getElementText();
+
+        return new LocalizedText(locale, text);
+    }
+
+    /**
+     * Skip the current start element, its content and its end element.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+
+        while (depth > 0) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private NodeId resolve(String nodeIdOrAlias) {
+        NodeId nodeId = aliases.get(nodeIdOrAlias);
+
+        return nodeId != null ? nodeId : NodeId.parse(nodeIdOrAlias);
+    }
+
+    private String requireAttribute(String name) throws XMLStreamException {
+        String value = reader.getAttributeValue(null, name);
+
+        if (value == null) {
+            throw new XMLStreamException(
+                    "attribute '" + name + "' missing from '" + reader.getLocalName() + "'", reader.getLocation());
+        }
+
+        return value;
+    }
+
+    private void requireStartElement(String element) throws XMLStreamException {
+        if (!reader.isStartElement() || !element.equals(reader.getLocalName())) {
+            throw new XMLStreamException("expected start of element '" + element + "'", reader.getLocation());
+        }
+    }
+
+    private void requireEndElement(String element) throws XMLStreamException {
+        if (!reader.isEndElement() || !element.equals(reader.getLocalName())) {
+            throw new XMLStreamException("expected end of element '" + element + "'", reader.getLocation());
+        }
+    }
+
+    private static UInteger[] parseArrayDimensions(String value) {
+        return ARRAY_DIMENSIONS_SPLITTER.splitToList(value).stream()
+                .map(dimension -> uint(Long.parseLong(dimension)))
+                .toArray(UInteger[]::new);
+    }
+
+    /**
+     * Parse a BrowseName such as {@code 1:Temperature}. Unlike {@link QualifiedName#parse(String)} only a numeric
+     * prefix is taken as the namespace index, so names containing a colon are kept whole.
+     */
+    private static QualifiedName parseQualifiedName(String value) {
+        int colon = value.indexOf(':');
+
+        if (colon > 0) {
+            String prefix = value.substring(0, colon);
+
+            if (prefix.chars().allMatch(Character::isDigit)) {
+                return new QualifiedName(ushort(Integer.parseInt(prefix)), value.substring(colon + 1));
+            }
+        }
+
+        return new QualifiedName(ushort(0), value);
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.xml;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.google.common.base.MoreObjects;
+
+/**
+ * A {@code Reference} element of a node in a UANodeSet, with any aliases resolved.
+ */
+public class NodeSetReference {
+
+    private final NodeId sourceNodeId;
+    private final NodeId referenceTypeId;
+    private final NodeId targetNodeId;
+    private final boolean forward;
+
+    public NodeSetReference(NodeId sourceNodeId, NodeId referenceTypeId, NodeId targetNodeId, boolean forward) {
+        this.sourceNodeId = sourceNodeId;
+        this.referenceTypeId = referenceTypeId;
+        this.targetNodeId = targetNodeId;
+        this.forward = forward;
+    }
+
+    /**
+     * @return the id of the node the reference was declared on.
+     */
+    public NodeId getSourceNodeId() {
+        return sourceNodeId;
+    }
+
+    public NodeId getReferenceTypeId() {
+        return referenceTypeId;
+    }
+
+    public NodeId getTargetNodeId() {
+        return targetNodeId;
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    public boolean isInverse() {
+        return !forward;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("sourceNodeId", sourceNodeId)
+                .add("referenceTypeId", referenceTypeId)
+                .add("targetNodeId", targetNodeId)
+                .add("forward", forward)
+                .toString();
+    }
+
+}
@@ -20,11 +20,11 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import javax.xml.bind.DatatypeConverter;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
@@ -54,14 +54,35 @@ import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
+import com.digitalpetri.opcua.stack.core.util.DateTimeUtil;
 import com.digitalpetri.opcua.stack.core.util.Namespaces;
 
 public class XmlDecoder implements UaDecoder {
 
-    private final XMLInputFactory factory = XMLInputFactory.newFactory();
+    /**
+     * Shared by every decoder: creating a factory means a service lookup, and a factory is safe to use from multiple
+     * threads once configured.
+     * <p>
+     * Character data is coalesced so the content of an element is always a single event, however large it is. DTDs
+     * and external entities are not processed.
+     */
+    private static final XMLInputFactory INPUT_FACTORY;
+
+    static {
+        INPUT_FACTORY = XMLInputFactory.newFactory();
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
 
     private volatile XMLStreamReader streamReader;
 
+    /**
+     * Set when {@link #readCharacterContent()} found an empty element: the reader is already on its end element, so
+     * the next {@link #nextEndElement(String)} must not advance past it.
+     */
+    private boolean atEndElement = false;
+
     public XmlDecoder() {
     }
 
@@ -74,13 +95,15 @@ public class XmlDecoder implements UaDecoder {
     }
 
     public XmlDecoder setInput(InputStream inputStream) throws XMLStreamException {
-        streamReader = factory.createXMLStreamReader(inputStream);
+        streamReader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+        atEndElement = false;
 
         return this;
     }
 
     public XmlDecoder setInput(Reader reader) throws XMLStreamException {
-        streamReader = factory.createXMLStreamReader(reader);
+        streamReader = INPUT_FACTORY.createXMLStreamReader(reader);
+        atEndElement = false;
 
         return this;
     }
@@ -140,6 +163,61 @@ public class XmlDecoder implements UaDecoder {
         return parseElement(field, Double::parseDouble);
     }
 
+    @Override
+    public boolean readBoolean(String field) throws UaSerializationException {
+        return Boolean.parseBoolean(readElement(field));
+    }
+
+    @Override
+    public byte readSByte(String field) throws UaSerializationException {
+        return Byte.parseByte(readElement(field));
+    }
+
+    @Override
+    public short readInt16(String field) throws UaSerializationException {
+        return Short.parseShort(readElement(field));
+    }
+
+    @Override
+    public int readInt32(String field) throws UaSerializationException {
+        return Integer.parseInt(readElement(field));
+    }
+
+    @Override
+    public long readInt64(String field) throws UaSerializationException {
+        return Long.parseLong(readElement(field));
+    }
+
+    @Override
+    public int readByteAsInt(String field) throws UaSerializationException {
+        return Short.parseShort(readElement(field));
+    }
+
+    @Override
+    public int readUInt16AsInt(String field) throws UaSerializationException {
+        return Integer.parseInt(readElement(field));
+    }
+
+    @Override
+    public long readUInt32AsLong(String field) throws UaSerializationException {
+        return Long.parseLong(readElement(field));
+    }
+
+    @Override
+    public long readUInt64AsLong(String field) throws UaSerializationException {
+        return Long.parseUnsignedLong(readElement(field));
+    }
+
+    @Override
+    public float readFloat(String field) throws UaSerializationException {
+        return Float.parseFloat(readElement(field));
+    }
+
+    @Override
+    public double readDouble(String field) throws UaSerializationException {
+        return Double.parseDouble(readElement(field));
+    }
+
     @Override
     public String decodeString(String field) throws UaSerializationException {
         return parseElement(field, content -> content);
@@ -148,9 +226,11 @@ public class XmlDecoder implements UaDecoder {
     @Override
     public DateTime decodeDateTime(String field) throws UaSerializationException {
         return parseElement(field, content -> {
-            Calendar calendar = DatatypeConverter.parseDateTime(content);
-
-            return new DateTime(calendar.getTime());
+            try {
+                return new DateTime(DateTimeUtil.parseXsDateTime(content.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+            }
         });
     }
 
@@ -453,8 +533,16 @@ public class XmlDecoder implements UaDecoder {
     }
 
     public Object decodeVariantValue() throws XMLStreamException {
-        String valueStartElement = getNextStartElement();
+        return decodeVariantValue(getNextStartElement());
+    }
 
+    /**
+     * Decode a Variant value whose start element, e.g. {@code Int32} or {@code ListOfString}, the reader is already on.
+     *
+     * @param valueStartElement the local name of the current start element.
+     * @return the decoded value.
+     */
+    Object decodeVariantValue(String valueStartElement) throws XMLStreamException {
         if (valueStartElement.startsWith("ListOf")) {
             String valueType = valueStartElement.substring(6);
             List<Object> values = new ArrayList<>();
@@ -627,6 +715,29 @@ public class XmlDecoder implements UaDecoder {
         return null;
     }
 
+    @Override
+    public <T> T[] decodeArray(String field, Function<String, T> decoder, IntFunction<T[]> arrayFactory) {
+        return null;
+    }
+
+    @Override
+    public <T> T[] decodeArray(String field,
+                               BiFunction<String, Class<T>, T> decoder,
+                               Class<T> clazz,
+                               IntFunction<T[]> arrayFactory) {
+        return null;
+    }
+
+
+    private String readElement(String element) throws UaSerializationException {
+        requireNextStartElement(element);
+
+        String content = readCharacterContent();
+
+        requireNextEndElement(element);
+
+        return content;
+    }
 
     private <T> T parseElement(String element, Function<String, T> parser) throws UaSerializationException {
         requireNextStartElement(element);
@@ -656,6 +767,24 @@ public class XmlDecoder implements UaDecoder {
         return parsed;
     }
 
+    /**
+     * Move to the next start element whatever its name, e.g. the element named after the type that wraps the fields
+     * of an ExtensionObject body.
+     *
+     * @return the local name of the element.
+     */
+    public String enterElement() throws UaSerializationException {
+        return getNextStartElement();
+    }
+
+    /**
+     * @return the {@link XMLStreamReader} this decoder reads from, for readers such as {@link NodeSetReader} that
+     * parse the document around the values this decoder decodes.
+     */
+    XMLStreamReader getStreamReader() {
+        return streamReader;
+    }
+
     private String getNextStartElement() throws UaSerializationException {
         try {
             streamReader.nextTag();
@@ -694,7 +823,11 @@ public class XmlDecoder implements UaDecoder {
         try {
             if (element == null || element.isEmpty()) return true;
 
-            streamReader.nextTag();
+            if (atEndElement) {
+                atEndElement = false;
+            } else {
+                streamReader.nextTag();
+            }
 
             return streamReader.getEventType() == XMLStreamConstants.END_ELEMENT &&
                     element.equals(streamReader.getLocalName());
@@ -728,6 +861,11 @@ public class XmlDecoder implements UaDecoder {
 
                 if (streamReader.getEventType() == XMLStreamReader.CHARACTERS) {
                     return streamReader.getText();
+                } else if (streamReader.getEventType() == XMLStreamReader.END_ELEMENT) {
+                    // e.g. <String></String> or <Locale/>
+                    atEndElement = true;
+
+                    return "";
                 }
             }
 
@@ -18,7 +18,6 @@ package com.digitalpetri.opcua.stack.core.serialization.xml;
 
 import java.io.OutputStream;
 import java.io.Writer;
-import java.util.Calendar;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -51,13 +50,20 @@ import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
+import com.digitalpetri.opcua.stack.core.util.DateTimeUtil;
 import com.digitalpetri.opcua.stack.core.util.Namespaces;
 import org.jooq.lambda.Unchecked;
 
 public class XmlEncoder implements UaEncoder {
 
-    private final Calendar calendar = Calendar.getInstance();
-    private final XMLOutputFactory factory = XMLOutputFactory.newFactory();
+    /**
+     * Shared by every encoder: creating a factory means a service lookup, and a factory is safe to use from multiple
+     * threads once configured.
+     */
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final byte[] dateTimeBytes = new byte[DateTimeUtil.MAX_ISO8601_LENGTH];
+    private final char[] dateTimeChars = new char[DateTimeUtil.MAX_ISO8601_LENGTH];
 
     private volatile XMLStreamWriter streamWriter;
 
@@ -73,7 +79,7 @@ public class XmlEncoder implements UaEncoder {
     }
 
     public XmlEncoder setOutput(OutputStream outputStream) throws XMLStreamException {
-        streamWriter = factory.createXMLStreamWriter(outputStream);
+        streamWriter = OUTPUT_FACTORY.createXMLStreamWriter(outputStream);
         streamWriter.setPrefix("xsi", Namespaces.XML_SCHEMA_INSTANCE);
         streamWriter.setPrefix("tns", Namespaces.OPC_UA_XSD);
 
@@ -81,7 +87,7 @@ public class XmlEncoder implements UaEncoder {
     }
 
     public XmlEncoder setOutput(Writer writer) throws XMLStreamException {
-        streamWriter = factory.createXMLStreamWriter(writer);
+        streamWriter = OUTPUT_FACTORY.createXMLStreamWriter(writer);
         streamWriter.setPrefix("xsi", Namespaces.XML_SCHEMA_INSTANCE);
         streamWriter.setPrefix("tns", Namespaces.OPC_UA_XSD);
 
@@ -165,6 +171,61 @@ public class XmlEncoder implements UaEncoder {
         writeValue(field, value.toString());
     }
 
+    @Override
+    public void writeBoolean(String field, boolean value) {
+        writeValue(field, String.valueOf(value));
+    }
+
+    @Override
+    public void writeSByte(String field, byte value) {
+        writeValue(field, String.valueOf(value));
+    }
+
+    @Override
+    public void writeInt16(String field, short value) {
+        writeValue(field, String.valueOf(value));
+    }
+
+    @Override
+    public void writeInt32(String field, int value) {
+        writeValue(field, String.valueOf(value));
+    }
+
+    @Override
+    public void writeInt64(String field, long value) {
+        writeValue(field, String.valueOf(value));
+    }
+
+    @Override
+    public void writeByte(String field, int value) {
+        writeValue(field, String.valueOf(value & 0xFF));
+    }
+
+    @Override
+    public void writeUInt16(String field, int value) {
+        writeValue(field, String.valueOf(value & 0xFFFF));
+    }
+
+    @Override
+    public void writeUInt32(String field, long value) {
+        writeValue(field, String.valueOf(value & 0xFFFFFFFFL));
+    }
+
+    @Override
+    public void writeUInt64(String field, long value) {
+        writeValue(field, Long.toUnsignedString(value));
+    }
+
+    @Override
+    public void writeFloat(String field, float value) {
+        writeValue(field, String.valueOf(value));
+    }
+
+    @Override
+    public void writeDouble(String field, double value) {
+        writeValue(field, String.valueOf(value));
+    }
+
     @Override
     public void encodeString(String field, String value) {
         if (value == null) value = "";
@@ -176,9 +237,12 @@ public class XmlEncoder implements UaEncoder {
     public void encodeDateTime(String field, DateTime value) {
         if (value == null) value = DateTime.MIN_VALUE;
 
-        calendar.setTime(value.getJavaDate());
+        int length = DateTimeUtil.formatIso8601(value.getUtcTime(), dateTimeBytes);
+        for (int i = 0; i < length; i++) {
+            dateTimeChars[i] = (char) dateTimeBytes[i];
+        }
 
-        writeValue(field, DatatypeConverter.printDateTime(calendar));
+        writeValue(field, dateTimeChars, length);
     }
 
     @Override
@@ -387,15 +451,74 @@ public class XmlEncoder implements UaEncoder {
         }
     }
 
+    /**
+     * Write the start of an element that is not itself a field, e.g. the element named after the type that wraps the
+     * fields of an ExtensionObject body.
+     *
+     * @param name the local name of the element.
+     */
+    public void startElement(String name) throws UaSerializationException {
+        try {
+            streamWriter.writeStartElement(name);
+        } catch (XMLStreamException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    /**
+     * Write the end of the element most recently started with {@link #startElement(String)}.
+     */
+    public void endElement() throws UaSerializationException {
+        try {
+            streamWriter.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    /**
+     * Flush anything the underlying {@link XMLStreamWriter} has buffered to the output.
+     */
+    public void flush() throws UaSerializationException {
+        try {
+            streamWriter.flush();
+        } catch (XMLStreamException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    // writeValue() and writeNilValue() are called for every primitive, so they write directly rather than through
+    // write() and a capturing lambda.
+
     private void writeValue(String field, @Nonnull String value) {
-        write(field, Unchecked.consumer(w -> w.writeCharacters(value)));
+        try {
+            if (field != null) streamWriter.writeStartElement(field);
+            streamWriter.writeCharacters(value);
+            if (field != null) streamWriter.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    private void writeValue(String field, char[] value, int length) {
+        try {
+            if (field != null) streamWriter.writeStartElement(field);
+            streamWriter.writeCharacters(value, 0, length);
+            if (field != null) streamWriter.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
     }
 
     private void writeNilValue(String field, String name) {
-        write(field, Unchecked.consumer(w -> {
-            w.writeEmptyElement(name);
-            w.writeAttribute(Namespaces.XML_SCHEMA_INSTANCE, "nil", "true");
-        }));
+        try {
+            if (field != null) streamWriter.writeStartElement(field);
+            streamWriter.writeEmptyElement(name);
+            streamWriter.writeAttribute(Namespaces.XML_SCHEMA_INSTANCE, "nil", "true");
+            if (field != null) streamWriter.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
     }
 
 }
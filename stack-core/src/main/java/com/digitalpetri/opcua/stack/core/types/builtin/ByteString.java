@@ -23,7 +23,12 @@ import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.google.common.base.MoreObjects;
 
-public final class ByteString {
+/**
+ * An OPC UA ByteString, backed by a {@code byte[]}.
+ * <p>
+ * See {@link ByteStringView} for a ByteString that wraps a {@link io.netty.buffer.ByteBuf} instead.
+ */
+public class ByteString {
 
     public static final ByteString NULL_VALUE = new ByteString(null);
 
@@ -52,6 +57,7 @@ public final class ByteString {
 
     @Nullable
     public UByte[] uBytes() {
+        byte[] bytes = bytes();
         if (bytes == null) return null;
 
         UByte[] bs = new UByte[bytes.length];
@@ -74,15 +80,17 @@ public final class ByteString {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof ByteString)) return false;
 
         ByteString that = (ByteString) o;
 
-        return Arrays.equals(bytes, that.bytes);
+        return Arrays.equals(bytes(), that.bytes());
     }
 
     @Override
     public int hashCode() {
+        byte[] bytes = bytes();
+
         return bytes != null ? Arrays.hashCode(bytes) : 0;
     }
 
@@ -93,7 +101,7 @@ public final class ByteString {
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("bytes", Arrays.toString(bytes))
+                .add("bytes", Arrays.toString(bytes()))
                 .toString();
     }
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.types.builtin;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.base.MoreObjects;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * A {@link ByteString} that wraps the readable bytes of a {@link ByteBuf} instead of copying them into a
+ * {@code byte[]}.
+ * <p>
+ * The view holds a reference to the buffer, so a buffer from a pool stays out of it until the view is
+ * {@link #release() released}. {@link #buffer()} gives access to the contents without copying; calling
+ * {@link #bytes()} copies them into a {@code byte[]} that is kept and remains usable after the view is released.
+ * Accessing the contents through the view after it has been released, without a copy having been made, throws
+ * {@link IllegalReferenceCountException}.
+ */
+public final class ByteStringView extends ByteString implements ReferenceCounted {
+
+    private final ByteBuf buffer;
+
+    private volatile byte[] copy;
+
+    private ByteStringView(ByteBuf buffer) {
+        super(null);
+
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int length() {
+        return buffer.readableBytes();
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean isNotNull() {
+        return true;
+    }
+
+    /**
+     * Copy the contents of this view into a {@code byte[]}, if they haven't been already.
+     * <p>
+     * The copy is kept, so callers that need a {@code byte[]} only pay for it once and can keep using it after the
+     * view has been released.
+     *
+     * @return the contents of this view.
+     */
+    @Nonnull
+    @Override
+    public byte[] bytes() {
+        byte[] bs = copy;
+
+        if (bs == null) {
+            ensureAccessible();
+
+            bs = new byte[buffer.readableBytes()];
+            buffer.getBytes(buffer.readerIndex(), bs);
+
+            copy = bs;
+        }
+
+        return bs;
+    }
+
+    @Override
+    public byte byteAt(int index) {
+        byte[] bs = copy;
+
+        if (bs != null) return bs[index];
+
+        if (index < 0 || index >= buffer.readableBytes()) {
+            throw new IndexOutOfBoundsException("index=" + index);
+        }
+
+        ensureAccessible();
+
+        return buffer.getByte(buffer.readerIndex() + index);
+    }
+
+    /**
+     * The returned buffer shares its contents with this view but has its own indices. It is not retained; retain it
+     * to keep it beyond the lifetime of this view.
+     *
+     * @return a duplicate of the wrapped buffer.
+     */
+    public ByteBuf buffer() {
+        ensureAccessible();
+
+        return buffer.duplicate();
+    }
+
+    @Override
+    public int refCnt() {
+        return buffer.refCnt();
+    }
+
+    @Override
+    public ByteStringView retain() {
+        buffer.retain();
+        return this;
+    }
+
+    @Override
+    public ByteStringView retain(int increment) {
+        buffer.retain(increment);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return buffer.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return buffer.release(decrement);
+    }
+
+    private void ensureAccessible() {
+        if (buffer.refCnt() == 0) {
+            throw new IllegalReferenceCountException(0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("length", length())
+                .add("refCnt", refCnt())
+                .toString();
+    }
+
+    /**
+     * Wrap the readable bytes of {@code buffer}.
+     * <p>
+     * The view takes ownership of one reference to {@code buffer}; retain it first if the caller needs to keep
+     * using it.
+     *
+     * @param buffer the buffer to wrap.
+     * @return a {@link ByteStringView} of {@code buffer}.
+     */
+    public static ByteStringView wrap(ByteBuf buffer) {
+        return new ByteStringView(buffer);
+    }
+
+}
@@ -30,10 +30,9 @@ public final class ExtensionObject {
     }
 
     private volatile Object decoded;
+    private volatile Object encoded;
 
     private final BodyType bodyType;
-
-    private final Object encoded;
     private final NodeId encodingTypeId;
 
     public ExtensionObject(ByteString encoded, NodeId encodingTypeId) {
@@ -50,8 +49,38 @@ public final class ExtensionObject {
         bodyType = BodyType.XmlElement;
     }
 
+    /**
+     * Create an {@link ExtensionObject} with a {@link BodyType#ByteString} body that holds {@code decoded} and
+     * defers encoding it until the encoded body is needed.
+     */
+    private ExtensionObject(NodeId encodingTypeId, Object decoded) {
+        this.decoded = decoded;
+        this.encodingTypeId = encodingTypeId;
+
+        bodyType = BodyType.ByteString;
+    }
+
     public Object getEncoded() {
-        return encoded;
+        Object e = encoded;
+
+        if (e == null && decoded != null) {
+            e = encoded = DataTypeEncoding.OPC_UA.encodeToByteString(decoded, encodingTypeId);
+        }
+
+        return e;
+    }
+
+    /**
+     * An {@link ExtensionObject} created from a value, or decoded in place by
+     * {@link com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder}, holds the value and has no encoded
+     * body until {@link #getEncoded()} is first called.
+     * <p>
+     * Encoders check this to write the value directly into their output rather than copying an encoded body.
+     *
+     * @return {@code true} if the body is available without encoding, i.e. {@link #getEncoded()} will not encode.
+     */
+    public boolean isEncoded() {
+        return encoded != null || decoded == null;
     }
 
     public NodeId getEncodingTypeId() {
@@ -110,6 +139,10 @@ public final class ExtensionObject {
                                                      NodeId encodingTypeId,
                                                      DataTypeEncoding context) throws UaSerializationException {
 
+        if (context == DataTypeEncoding.OPC_UA) {
+            return new ExtensionObject(encodingTypeId, object);
+        }
+
         ByteString encoded = context.encodeToByteString(object, encodingTypeId);
 
         return new ExtensionObject(encoded, encodingTypeId);
@@ -131,19 +164,26 @@ public final class ExtensionObject {
 
         ExtensionObject that = (ExtensionObject) o;
 
-        return Objects.equal(encoded, that.encoded) &&
+        return Objects.equal(getEncoded(), that.getEncoded()) &&
                 Objects.equal(encodingTypeId, that.encodingTypeId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(encoded, encodingTypeId);
+        return Objects.hashCode(getEncoded(), encodingTypeId);
     }
 
     @Override
     public String toString() {
-        return MoreObjects.toStringHelper(this)
-                .add("encoded", encoded)
+        MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+
+        if (isEncoded()) {
+            helper.add("encoded", encoded);
+        } else {
+            helper.add("decoded", decoded);
+        }
+
+        return helper
                 .add("encodingTypeId", encodingTypeId)
                 .toString();
     }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.types.builtin;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.digitalpetri.opcua.stack.core.util.ArrayUtil;
+import com.google.common.base.MoreObjects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A multi-dimensional array value, held as a flat one-dimensional array of elements plus its dimensions.
+ * <p>
+ * As a {@link Variant} value it is encoded and decoded without building the nested Java arrays a multi-dimensional
+ * array is otherwise represented by. The elements may be a primitive array, e.g. {@code double[]}, or an array of any
+ * type a one-dimensional Variant array can hold.
+ * <p>
+ * Elements are stored in the order OPC UA encodes them: the last dimension varies fastest, so for dimensions
+ * {@code [d0, d1]} the element at {@code [i, j]} is at index {@code i * d1 + j}.
+ */
+public final class Matrix {
+
+    private final Object elements;
+    private final int[] dimensions;
+
+    /**
+     * @param elements   a one-dimensional array holding the elements.
+     * @param dimensions the length of each dimension; their product must equal the number of elements.
+     */
+    public Matrix(Object elements, int... dimensions) {
+        checkArgument(elements.getClass().isArray() && !elements.getClass().getComponentType().isArray(),
+                "elements must be a one-dimensional array");
+        checkArgument(dimensions.length > 0, "dimensions must not be empty");
+
+        long length = 1L;
+        for (int dimension : dimensions) {
+            checkArgument(dimension >= 0, "dimensions must not be negative");
+            length *= dimension;
+        }
+
+        checkArgument(length == Array.getLength(elements),
+                "elements length %s does not match dimensions %s",
+                Array.getLength(elements), Arrays.toString(dimensions));
+
+        this.elements = elements;
+        this.dimensions = dimensions.clone();
+    }
+
+    /**
+     * @return the flat array of elements. It is not copied; modifying it modifies this matrix.
+     */
+    public Object getElements() {
+        return elements;
+    }
+
+    /**
+     * @return the component type of {@link #getElements()}, e.g. {@code double.class} or {@code String.class}.
+     */
+    public Class<?> getElementType() {
+        return elements.getClass().getComponentType();
+    }
+
+    public int getElementCount() {
+        return Array.getLength(elements);
+    }
+
+    public int getRank() {
+        return dimensions.length;
+    }
+
+    public int getDimension(int index) {
+        return dimensions[index];
+    }
+
+    public int[] getDimensions() {
+        return dimensions.clone();
+    }
+
+    /**
+     * @param indices an index into each dimension.
+     * @return the index into {@link #getElements()} of the element at {@code indices}.
+     */
+    public int index(int... indices) {
+        checkArgument(indices.length == dimensions.length,
+                "expected %s indices, got %s", dimensions.length, indices.length);
+
+        int index = 0;
+
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] >= dimensions[i]) {
+                throw new IndexOutOfBoundsException(String.format(
+                        "indices=%s, dimensions=%s", Arrays.toString(indices), Arrays.toString(dimensions)));
+            }
+
+            index = index * dimensions[i] + indices[i];
+        }
+
+        return index;
+    }
+
+    /**
+     * Get an element, boxing it if the elements are primitive. Index {@link #getElements()} with
+     * {@link #index(int...)} to avoid that.
+     *
+     * @param indices an index into each dimension.
+     * @return the element at {@code indices}.
+     */
+    public Object get(int... indices) {
+        return Array.get(elements, index(indices));
+    }
+
+    /**
+     * @return the elements of this matrix as nested Java arrays, e.g. {@code double[][]}.
+     */
+    public Object toNestedArray() {
+        return dimensions.length == 1 ? elements : ArrayUtil.unflatten(elements, dimensions);
+    }
+
+    /**
+     * @param array a multi-dimensional Java array, e.g. {@code double[][]}.
+     * @return a {@link Matrix} holding the elements of {@code array}.
+     */
+    public static Matrix of(Object array) {
+        return new Matrix(ArrayUtil.flatten(array), ArrayUtil.getDimensions(array));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Matrix matrix = (Matrix) o;
+
+        return Arrays.equals(dimensions, matrix.dimensions) &&
+                Objects.deepEquals(elements, matrix.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(dimensions) + Arrays.deepHashCode(new Object[]{elements});
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("elementType", getElementType().getSimpleName())
+                .add("dimensions", Arrays.toString(dimensions))
+                .toString();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.types.builtin;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A mutable, reusable counterpart to {@link DataValue} for producers that encode samples at a high rate.
+ * <p>
+ * The value is a {@link MutableVariant} owned by this instance and the status code and timestamps are primitive
+ * fields, so an instance can be refilled and re-encoded with
+ * {@code BinaryEncoder.encodeDataValue(String, MutableDataValue)} without allocating. Use {@link #toDataValue()}
+ * when the sample must escape.
+ * <p>
+ * Not thread-safe.
+ */
+public final class MutableDataValue {
+
+    private final MutableVariant value = new MutableVariant();
+
+    private long statusCode;
+    private long sourceTime;
+    private long serverTime;
+
+    public MutableDataValue() {}
+
+    /**
+     * @return the {@link MutableVariant} holding the value, to be filled in place.
+     */
+    public MutableVariant getValue() {
+        return value;
+    }
+
+    public long getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the source timestamp, or 0 if there is none.
+     * @see DateTime#getUtcTime()
+     */
+    public long getSourceTime() {
+        return sourceTime;
+    }
+
+    /**
+     * @return the server timestamp, or 0 if there is none.
+     * @see DateTime#getUtcTime()
+     */
+    public long getServerTime() {
+        return serverTime;
+    }
+
+    public MutableDataValue setStatusCode(long statusCode) {
+        this.statusCode = statusCode & 0xFFFFFFFFL;
+        return this;
+    }
+
+    public MutableDataValue setSourceTime(long utcTime) {
+        this.sourceTime = utcTime;
+        return this;
+    }
+
+    public MutableDataValue setServerTime(long utcTime) {
+        this.serverTime = utcTime;
+        return this;
+    }
+
+    /**
+     * Copy {@code dataValue} into this instance. The value is held by reference unless it's null.
+     *
+     * @param dataValue the {@link DataValue} to copy.
+     * @return this {@link MutableDataValue}.
+     */
+    public MutableDataValue set(@Nullable DataValue dataValue) {
+        if (dataValue == null) return clear();
+
+        value.setVariant(dataValue.getValue());
+        statusCode = valueOrZero(dataValue.getStatusCode());
+        sourceTime = utcOrZero(dataValue.getSourceTime());
+        serverTime = utcOrZero(dataValue.getServerTime());
+
+        return this;
+    }
+
+    public MutableDataValue clear() {
+        value.clear();
+        statusCode = 0L;
+        sourceTime = 0L;
+        serverTime = 0L;
+        return this;
+    }
+
+    /**
+     * @return an immutable {@link DataValue} holding the current value, status code and timestamps.
+     */
+    public DataValue toDataValue() {
+        return new DataValue(
+                value.toVariant(),
+                statusCode == 0L ? StatusCode.GOOD : new StatusCode(statusCode),
+                sourceTime == 0L ? DateTime.MIN_VALUE : new DateTime(sourceTime),
+                serverTime == 0L ? DateTime.MIN_VALUE : new DateTime(serverTime));
+    }
+
+    private static long valueOrZero(@Nullable StatusCode statusCode) {
+        return statusCode != null ? statusCode.getValue() : 0L;
+    }
+
+    private static long utcOrZero(@Nullable DateTime dateTime) {
+        return dateTime != null ? dateTime.getUtcTime() : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("value", value)
+                .add("status", statusCode)
+                .add("sourceTime", sourceTime)
+                .add("serverTime", serverTime)
+                .toString();
+    }
+
+}
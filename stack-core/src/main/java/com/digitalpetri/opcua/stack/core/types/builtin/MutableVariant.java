@@ -0,0 +1,229 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.types.builtin;
+
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
+import com.google.common.base.MoreObjects;
+
+/**
+ * A mutable, reusable counterpart to {@link Variant} for producers that encode values at a high rate.
+ * <p>
+ * Numeric, Boolean, DateTime and StatusCode values are held in primitive fields, so an instance can be refilled
+ * and re-encoded with {@code BinaryEncoder.encodeVariant(String, MutableVariant)} without allocating. Any other
+ * value is held by reference. Use {@link #toVariant()} when the value must escape, e.g. into a {@link DataValue}
+ * handed to another thread.
+ * <p>
+ * Not thread-safe.
+ */
+public final class MutableVariant {
+
+    private int typeId;
+    private long bits;
+    private Object value;
+
+    public MutableVariant() {}
+
+    public MutableVariant setBoolean(boolean value) {
+        return setBits(1, value ? 1L : 0L);
+    }
+
+    public MutableVariant setSByte(byte value) {
+        return setBits(2, value);
+    }
+
+    public MutableVariant setByte(int value) {
+        return setBits(3, value & 0xFF);
+    }
+
+    public MutableVariant setInt16(short value) {
+        return setBits(4, value);
+    }
+
+    public MutableVariant setUInt16(int value) {
+        return setBits(5, value & 0xFFFF);
+    }
+
+    public MutableVariant setInt32(int value) {
+        return setBits(6, value);
+    }
+
+    public MutableVariant setUInt32(long value) {
+        return setBits(7, value & 0xFFFFFFFFL);
+    }
+
+    public MutableVariant setInt64(long value) {
+        return setBits(8, value);
+    }
+
+    public MutableVariant setUInt64(long value) {
+        return setBits(9, value);
+    }
+
+    public MutableVariant setFloat(float value) {
+        return setBits(10, Float.floatToRawIntBits(value));
+    }
+
+    public MutableVariant setDouble(double value) {
+        return setBits(11, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * @param utcTime the DateTime, in 100 nanosecond intervals since January 1, 1601 (UTC).
+     * @return this {@link MutableVariant}.
+     * @see DateTime#getUtcTime()
+     */
+    public MutableVariant setDateTime(long utcTime) {
+        return setBits(13, utcTime);
+    }
+
+    public MutableVariant setStatusCode(long statusCode) {
+        return setBits(19, statusCode & 0xFFFFFFFFL);
+    }
+
+    public MutableVariant setString(@Nullable String value) {
+        if (value == null) return clear();
+
+        this.typeId = 12;
+        this.bits = 0L;
+        this.value = value;
+        return this;
+    }
+
+    /**
+     * Hold any other value by reference.
+     *
+     * @param variant the {@link Variant} to hold.
+     * @return this {@link MutableVariant}.
+     */
+    public MutableVariant setVariant(@Nullable Variant variant) {
+        if (variant == null || variant.isNull()) return clear();
+
+        this.typeId = variant.getBuiltinTypeId();
+        this.bits = 0L;
+        this.value = variant;
+        return this;
+    }
+
+    public MutableVariant clear() {
+        this.typeId = 0;
+        this.bits = 0L;
+        this.value = null;
+        return this;
+    }
+
+    private MutableVariant setBits(int typeId, long bits) {
+        this.typeId = typeId;
+        this.bits = bits;
+        this.value = null;
+        return this;
+    }
+
+    /**
+     * @return the builtin type id of the value, or 0 if it's null.
+     */
+    public int getBuiltinTypeId() {
+        return typeId;
+    }
+
+    public boolean isNull() {
+        return typeId == 0;
+    }
+
+    public boolean isNotNull() {
+        return !isNull();
+    }
+
+    public boolean getBoolean() {
+        return bits != 0L;
+    }
+
+    /**
+     * @return the value of an integer, DateTime or StatusCode. Unsigned values are not sign-extended, except UInt64.
+     */
+    public long getLong() {
+        return bits;
+    }
+
+    public float getFloat() {
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    public double getDouble() {
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @return the String or {@link Variant} held by reference, or {@code null} if the value is held in a primitive
+     * field.
+     */
+    @Nullable
+    public Object getReference() {
+        return value;
+    }
+
+    /**
+     * @return an immutable {@link Variant} holding the current value.
+     */
+    public Variant toVariant() {
+        if (value instanceof Variant) return (Variant) value;
+
+        switch (typeId) {
+            case 0:
+                return Variant.NULL_VALUE;
+            case 1:
+                return Variant.ofBoolean(getBoolean());
+            case 2:
+                return Variant.ofSByte((byte) bits);
+            case 3:
+                return new Variant(Unsigned.ubyte(bits));
+            case 4:
+                return Variant.ofInt16((short) bits);
+            case 5:
+                return new Variant(Unsigned.ushort((int) bits));
+            case 6:
+                return Variant.ofInt32((int) bits);
+            case 7:
+                return new Variant(Unsigned.uint(bits));
+            case 8:
+                return Variant.ofInt64(bits);
+            case 9:
+                return new Variant(Unsigned.ulong(bits));
+            case 10:
+                return Variant.ofFloat(getFloat());
+            case 11:
+                return Variant.ofDouble(getDouble());
+            case 12:
+                return Variant.ofString((String) value);
+            case 13:
+                return new Variant(new DateTime(bits));
+            case 19:
+                return new Variant(new StatusCode(bits));
+            default:
+                throw new IllegalStateException("typeId=" + typeId);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("value", toVariant().getValue())
+                .toString();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package com.digitalpetri.opcua.stack.core.types.builtin;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
@@ -35,26 +36,147 @@ public final class Variant {
 
     public static final Variant NULL_VALUE = new Variant(null);
 
+    private static final int STRUCTURE = 1;
+    private static final int ENUMERATION = 2;
+
+    private static final int[] NO_DIMENSIONS = new int[0];
+
     private final Object value;
 
+    /*
+     * Resolved once, when the Variant is created, rather than every time it's encoded.
+     */
+    private final int typeId;
+    private final int rank;
+    private final int flags;
+    private final int[] dimensions;
+
     /**
      * Create a new Variant with a given value.
      *
      * @param value the value this Variant holds.
      */
     public Variant(@Nullable Object value) {
-        if (value != null) {
-            boolean clazzIsArray = value.getClass().isArray();
+        this.value = value;
 
-            Class<?> componentClazz = clazzIsArray ?
-                    ArrayUtil.getType(value) : value.getClass();
+        if (value == null) {
+            typeId = 0;
+            rank = 0;
+            flags = 0;
+        } else {
+            Class<?> componentClazz;
 
-            checkArgument(clazzIsArray || !Variant.class.equals(componentClazz), "Variant cannot contain Variant");
-            checkArgument(!DataValue.class.equals(componentClazz), "Variant cannot contain DataValue");
-            checkArgument(!DiagnosticInfo.class.equals(componentClazz), "Variant cannot contain DiagnosticInfo");
+            if (value instanceof Matrix) {
+                componentClazz = ((Matrix) value).getElementType();
+                rank = ((Matrix) value).getRank();
+            } else {
+                int r = 0;
+                componentClazz = value.getClass();
+                while (componentClazz.isArray()) {
+                    componentClazz = componentClazz.getComponentType();
+                    r++;
+                }
+                rank = r;
+            }
+
+            int id = TypeUtil.getBuiltinTypeId(componentClazz);
+            int f = 0;
+
+            if (id == -1) {
+                if (UaStructure.class.isAssignableFrom(componentClazz)) {
+                    id = 22;
+                    f = STRUCTURE;
+                } else if (UaEnumeration.class.isAssignableFrom(componentClazz)) {
+                    id = 6;
+                    f = ENUMERATION;
+                }
+            }
+
+            checkArgument(rank > 0 || id != 24, "Variant cannot contain Variant");
+            checkArgument(id != 23, "Variant cannot contain DataValue");
+            checkArgument(id != 25, "Variant cannot contain DiagnosticInfo");
+
+            typeId = id;
+            flags = f;
         }
 
+        dimensions = dimensions(value, rank);
+    }
+
+    /**
+     * Create a Variant whose type is already known, for the typed factories, skipping the resolution and checks done
+     * by {@link #Variant(Object)}.
+     */
+    private Variant(Object value, int typeId, int rank) {
         this.value = value;
+        this.typeId = typeId;
+        this.rank = rank;
+        this.flags = 0;
+        this.dimensions = dimensions(value, rank);
+    }
+
+    public static Variant ofBoolean(boolean value) {
+        return new Variant(value, 1, 0);
+    }
+
+    public static Variant ofSByte(byte value) {
+        return new Variant(value, 2, 0);
+    }
+
+    public static Variant ofInt16(short value) {
+        return new Variant(value, 4, 0);
+    }
+
+    public static Variant ofInt32(int value) {
+        return new Variant(value, 6, 0);
+    }
+
+    public static Variant ofInt64(long value) {
+        return new Variant(value, 8, 0);
+    }
+
+    public static Variant ofFloat(float value) {
+        return new Variant(value, 10, 0);
+    }
+
+    public static Variant ofDouble(double value) {
+        return new Variant(value, 11, 0);
+    }
+
+    public static Variant ofString(@Nullable String value) {
+        return value != null ? new Variant(value, 12, 0) : NULL_VALUE;
+    }
+
+    public static Variant ofBooleanArray(boolean[] values) {
+        return new Variant(values, 1, 1);
+    }
+
+    public static Variant ofSByteArray(byte[] values) {
+        return new Variant(values, 2, 1);
+    }
+
+    public static Variant ofInt16Array(short[] values) {
+        return new Variant(values, 4, 1);
+    }
+
+    public static Variant ofInt32Array(int[] values) {
+        return new Variant(values, 6, 1);
+    }
+
+    public static Variant ofInt64Array(long[] values) {
+        return new Variant(values, 8, 1);
+    }
+
+    public static Variant ofFloatArray(float[] values) {
+        return new Variant(values, 10, 1);
+    }
+
+    public static Variant ofDoubleArray(double[] values) {
+        return new Variant(values, 11, 1);
+    }
+
+    public static Variant ofStringArray(String[] values) {
+        return new Variant(values, 12, 1);
     }
 
     public Optional<NodeId> getDataType() {
@@ -64,12 +186,13 @@ public final class Variant {
             return Optional.of(((UaStructure) value).getTypeId());
         } else if (value instanceof UaEnumeration) {
             return Optional.of(Identifiers.Int32);
+        } else if (flags != 0) {
+            if (value instanceof Matrix) {
+                return Optional.of(flags == STRUCTURE ? Identifiers.Structure : Identifiers.Int32);
+            } else {
+                return Optional.empty();
+            }
         } else {
-            Class<?> clazz = value.getClass().isArray() ?
-                    ArrayUtil.getType(value) : value.getClass();
-
-            int typeId = TypeUtil.getBuiltinTypeId(clazz);
-
             return typeId == -1 ?
                     Optional.empty() : Optional.of(new NodeId(0, typeId));
         }
@@ -79,6 +202,72 @@ public final class Variant {
         return value;
     }
 
+    /**
+     * Get the id of the builtin type this Variant's value is encoded as.
+     * <p>
+     * Structures, and arrays or matrices of them, are encoded as ExtensionObject (22); enumerations as Int32 (6).
+     *
+     * @return the builtin type id, 0 if the value is null, or -1 if it isn't a builtin type.
+     */
+    public int getBuiltinTypeId() {
+        return typeId;
+    }
+
+    /**
+     * @return {@code true} if the value is a {@link UaStructure}, or an array or {@link Matrix} of them.
+     */
+    public boolean isStructure() {
+        return flags == STRUCTURE;
+    }
+
+    /**
+     * @return {@code true} if the value is a {@link UaEnumeration}, or an array or {@link Matrix} of them.
+     */
+    public boolean isEnumeration() {
+        return flags == ENUMERATION;
+    }
+
+    /**
+     * @return {@code true} if the value is an array or a {@link Matrix}.
+     */
+    public boolean isArray() {
+        return rank > 0;
+    }
+
+    /**
+     * @return the number of dimensions of the value; 0 if it's a scalar or null.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * @param index the index of the dimension, less than {@link #getRank()}.
+     * @return the length of the dimension.
+     */
+    public int getDimension(int index) {
+        return dimensions[index];
+    }
+
+    /**
+     * @return the length of each dimension of the value; empty if it's a scalar or null.
+     */
+    public int[] getDimensions() {
+        return dimensions.clone();
+    }
+
+    private static int[] dimensions(Object value, int rank) {
+        if (rank == 0) {
+            return NO_DIMENSIONS;
+        } else if (value instanceof Matrix) {
+            return ((Matrix) value).getDimensions();
+        } else if (rank == 1) {
+            return new int[]{Array.getLength(value)};
+        } else {
+            return ArrayUtil.getDimensions(value);
+        }
+    }
+
     public boolean isNull() {
         return value == null;
     }
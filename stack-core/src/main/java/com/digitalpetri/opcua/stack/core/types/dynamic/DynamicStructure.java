@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.types.dynamic;
+
+import java.util.Arrays;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.google.common.base.MoreObjects;
+
+/**
+ * A generic instance of a {@link StructureDefinition}: one value per field, in field order.
+ * <p>
+ * Builtin fields hold the type's usual backing class, e.g. {@link Integer} for Int32, and array fields an array of
+ * it. Nested structures are {@link DynamicStructure}s.
+ */
+public class DynamicStructure implements UaStructure {
+
+    private final StructureDefinition definition;
+    private final Object[] values;
+
+    /**
+     * @param definition the {@link StructureDefinition} this is an instance of.
+     * @param values     the value of each field, in field order.
+     */
+    public DynamicStructure(StructureDefinition definition, Object... values) {
+        if (values.length != definition.getFields().size()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s has %d fields, got %d values",
+                    definition.getName(), definition.getFields().size(), values.length));
+        }
+
+        this.definition = definition;
+        this.values = values;
+    }
+
+    public StructureDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * @param index the index of a field.
+     * @return the value of the field at {@code index}.
+     */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param fieldName the name of a field.
+     * @return the value of the field named {@code fieldName}.
+     * @throws IllegalArgumentException if there's no such field.
+     */
+    public Object get(String fieldName) {
+        int index = definition.indexOf(fieldName);
+
+        if (index < 0) {
+            throw new IllegalArgumentException(definition.getName() + " has no field " + fieldName);
+        }
+
+        return values[index];
+    }
+
+    @Override
+    public NodeId getTypeId() {
+        return definition.getTypeId();
+    }
+
+    @Override
+    public NodeId getBinaryEncodingId() {
+        return definition.getBinaryEncodingId();
+    }
+
+    @Override
+    public NodeId getXmlEncodingId() {
+        return definition.getXmlEncodingId();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DynamicStructure that = (DynamicStructure) o;
+
+        return definition == that.definition && Arrays.deepEquals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * definition.hashCode() + Arrays.deepHashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(definition.getName());
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+
+            helper.add(definition.getFields().get(i).getName(),
+                    value instanceof Object[] ? Arrays.deepToString((Object[]) value) : value);
+        }
+
+        return helper.toString();
+    }
+
+}
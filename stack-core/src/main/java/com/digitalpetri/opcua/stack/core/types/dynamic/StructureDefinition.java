@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.types.dynamic;
+
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The layout of a structure that has no generated class, e.g. a vendor-specific structure discovered at runtime:
+ * its ids and its fields, in encoding order.
+ * <p>
+ * A {@link com.digitalpetri.opcua.stack.core.serialization.binary.DynamicStructureCodec} compiles a definition into a
+ * codec for {@link DynamicStructure}s of it.
+ */
+public class StructureDefinition {
+
+    private final String name;
+    private final NodeId typeId;
+    private final NodeId binaryEncodingId;
+    private final NodeId xmlEncodingId;
+    private final List<StructureField> fields;
+    private final Map<String, Integer> fieldIndices;
+
+    StructureDefinition(String name,
+                        @Nullable NodeId typeId,
+                        @Nullable NodeId binaryEncodingId,
+                        @Nullable NodeId xmlEncodingId,
+                        List<StructureField> fields) {
+
+        this.name = name;
+        this.typeId = typeId;
+        this.binaryEncodingId = binaryEncodingId;
+        this.xmlEncodingId = xmlEncodingId;
+        this.fields = ImmutableList.copyOf(fields);
+
+        ImmutableMap.Builder<String, Integer> indices = ImmutableMap.builder();
+        for (int i = 0; i < fields.size(); i++) {
+            indices.put(fields.get(i).getName(), i);
+        }
+        this.fieldIndices = indices.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    public NodeId getTypeId() {
+        return typeId;
+    }
+
+    /**
+     * @return the binary encoding id, or {@code null} if the structure is only ever nested in another.
+     */
+    @Nullable
+    public NodeId getBinaryEncodingId() {
+        return binaryEncodingId;
+    }
+
+    @Nullable
+    public NodeId getXmlEncodingId() {
+        return xmlEncodingId;
+    }
+
+    public List<StructureField> getFields() {
+        return fields;
+    }
+
+    /**
+     * @param fieldName the name of a field.
+     * @return the index of the field named {@code fieldName}, or -1 if there is none.
+     */
+    public int indexOf(String fieldName) {
+        Integer index = fieldIndices.get(fieldName);
+
+        return index != null ? index : -1;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("name", name)
+                .add("binaryEncodingId", binaryEncodingId)
+                .add("fields", fields)
+                .toString();
+    }
+
+    public static StructureDefinitionBuilder builder(String name) {
+        return new StructureDefinitionBuilder(name);
+    }
+
+}
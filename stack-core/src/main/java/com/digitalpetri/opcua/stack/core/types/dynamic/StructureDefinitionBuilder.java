@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.types.dynamic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.digitalpetri.opcua.stack.core.BuiltinDataType;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+
+public class StructureDefinitionBuilder {
+
+    private final List<StructureField> fields = new ArrayList<>();
+
+    private final String name;
+
+    private NodeId typeId;
+    private NodeId binaryEncodingId;
+    private NodeId xmlEncodingId;
+
+    StructureDefinitionBuilder(String name) {
+        this.name = name;
+    }
+
+    public StructureDefinitionBuilder setTypeId(NodeId typeId) {
+        this.typeId = typeId;
+        return this;
+    }
+
+    public StructureDefinitionBuilder setBinaryEncodingId(NodeId binaryEncodingId) {
+        this.binaryEncodingId = binaryEncodingId;
+        return this;
+    }
+
+    public StructureDefinitionBuilder setXmlEncodingId(NodeId xmlEncodingId) {
+        this.xmlEncodingId = xmlEncodingId;
+        return this;
+    }
+
+    /**
+     * Add a scalar field of a builtin type. Enumerations are encoded as {@link BuiltinDataType#Int32}.
+     */
+    public StructureDefinitionBuilder addField(String name, BuiltinDataType type) {
+        return addField(name, type, StructureField.SCALAR);
+    }
+
+    /**
+     * Add a field of a builtin type, either {@link StructureField#SCALAR} or {@link StructureField#ONE_DIMENSION}.
+     */
+    public StructureDefinitionBuilder addField(String name, BuiltinDataType type, int valueRank) {
+        fields.add(new StructureField(name, type, null, valueRank));
+        return this;
+    }
+
+    /**
+     * Add a scalar field holding a nested structure.
+     */
+    public StructureDefinitionBuilder addField(String name, StructureDefinition structure) {
+        return addField(name, structure, StructureField.SCALAR);
+    }
+
+    /**
+     * Add a field holding a nested structure, either {@link StructureField#SCALAR} or
+     * {@link StructureField#ONE_DIMENSION}.
+     */
+    public StructureDefinitionBuilder addField(String name, StructureDefinition structure, int valueRank) {
+        fields.add(new StructureField(name, null, structure, valueRank));
+        return this;
+    }
+
+    public StructureDefinition build() {
+        return new StructureDefinition(name, typeId, binaryEncodingId, xmlEncodingId, fields);
+    }
+
+}
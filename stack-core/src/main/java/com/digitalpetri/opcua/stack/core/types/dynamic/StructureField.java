@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.types.dynamic;
+
+import javax.annotation.Nullable;
+
+import com.digitalpetri.opcua.stack.core.BuiltinDataType;
+import com.google.common.base.MoreObjects;
+
+/**
+ * A field of a {@link StructureDefinition}: either a builtin type or a nested structure, scalar or one-dimensional
+ * array.
+ */
+public class StructureField {
+
+    /**
+     * The ValueRank of a scalar field.
+     */
+    public static final int SCALAR = -1;
+
+    /**
+     * The ValueRank of a one-dimensional array field.
+     */
+    public static final int ONE_DIMENSION = 1;
+
+    private final String name;
+    private final BuiltinDataType builtinType;
+    private final StructureDefinition structure;
+    private final int valueRank;
+
+    StructureField(String name,
+                   @Nullable BuiltinDataType builtinType,
+                   @Nullable StructureDefinition structure,
+                   int valueRank) {
+
+        if (valueRank != SCALAR && valueRank != ONE_DIMENSION) {
+            throw new IllegalArgumentException(
+                    "unsupported valueRank for field " + name + ": " + valueRank);
+        }
+
+        this.name = name;
+        this.builtinType = builtinType;
+        this.structure = structure;
+        this.valueRank = valueRank;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the builtin type of this field, or {@code null} if it's a nested structure.
+     */
+    @Nullable
+    public BuiltinDataType getBuiltinType() {
+        return builtinType;
+    }
+
+    /**
+     * @return the definition of the nested structure this field holds, or {@code null} if it's a builtin type.
+     */
+    @Nullable
+    public StructureDefinition getStructure() {
+        return structure;
+    }
+
+    public int getValueRank() {
+        return valueRank;
+    }
+
+    public boolean isArray() {
+        return valueRank == ONE_DIMENSION;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("name", name)
+                .add("type", builtinType != null ? builtinType : structure.getName())
+                .add("valueRank", valueRank)
+                .toString();
+    }
+
+}
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -91,17 +93,39 @@ public class ActivateSessionRequest implements UaRequestMessage {
     public static ActivateSessionRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         SignatureData _clientSignature = decoder.decodeSerializable("ClientSignature", SignatureData.class);
-        SignedSoftwareCertificate[] _clientSoftwareCertificates = decoder.decodeArray("ClientSoftwareCertificates", decoder::decodeSerializable, SignedSoftwareCertificate.class);
-        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = decoder.decodeArray("ClientSoftwareCertificates", decoder::decodeSerializable, SignedSoftwareCertificate.class, SignedSoftwareCertificate[]::new);
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
         ExtensionObject _userIdentityToken = decoder.decodeExtensionObject("UserIdentityToken");
         SignatureData _userTokenSignature = decoder.decodeSerializable("UserTokenSignature", SignatureData.class);
 
         return new ActivateSessionRequest(_requestHeader, _clientSignature, _clientSoftwareCertificates, _localeIds, _userIdentityToken, _userTokenSignature);
     }
 
+    public static void encodeBinary(ActivateSessionRequest activateSessionRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(activateSessionRequest._requestHeader != null ? activateSessionRequest._requestHeader : new RequestHeader(), encoder);
+        SignatureData.encodeBinary(activateSessionRequest._clientSignature != null ? activateSessionRequest._clientSignature : new SignatureData(), encoder);
+        encoder.encodeStructureArray("ClientSoftwareCertificates", activateSessionRequest._clientSoftwareCertificates, SignedSoftwareCertificate::encodeBinary);
+        encoder.encodeArray("LocaleIds", activateSessionRequest._localeIds, encoder::encodeString);
+        encoder.encodeExtensionObject("UserIdentityToken", activateSessionRequest._userIdentityToken);
+        SignatureData.encodeBinary(activateSessionRequest._userTokenSignature != null ? activateSessionRequest._userTokenSignature : new SignatureData(), encoder);
+    }
+
+    public static ActivateSessionRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        SignatureData _clientSignature = SignatureData.decodeBinary(decoder);
+        SignedSoftwareCertificate[] _clientSoftwareCertificates = decoder.decodeStructureArray("ClientSoftwareCertificates", SignedSoftwareCertificate::decodeBinary, SignedSoftwareCertificate[]::new);
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
+        ExtensionObject _userIdentityToken = decoder.decodeExtensionObject("UserIdentityToken");
+        SignatureData _userTokenSignature = SignatureData.decodeBinary(decoder);
+
+        return new ActivateSessionRequest(_requestHeader, _clientSignature, _clientSoftwareCertificates, _localeIds, _userIdentityToken, _userTokenSignature);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ActivateSessionRequest::encode, ActivateSessionRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ActivateSessionRequest::decode, ActivateSessionRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ActivateSessionRequest::encode, ActivateSessionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ActivateSessionRequest::decode, ActivateSessionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ActivateSessionRequest::encodeBinary, ActivateSessionRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ActivateSessionRequest::decodeBinary, ActivateSessionRequest.class, BinaryEncodingId);
     }
 
 }
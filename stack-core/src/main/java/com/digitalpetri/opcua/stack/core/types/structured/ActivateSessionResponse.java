@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -81,15 +83,33 @@ public class ActivateSessionResponse implements UaResponseMessage {
     public static ActivateSessionResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
         ByteString _serverNonce = decoder.decodeByteString("ServerNonce");
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new ActivateSessionResponse(_responseHeader, _serverNonce, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(ActivateSessionResponse activateSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(activateSessionResponse._responseHeader != null ? activateSessionResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeByteString("ServerNonce", activateSessionResponse._serverNonce);
+        encoder.encodeArray("Results", activateSessionResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", activateSessionResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static ActivateSessionResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        ByteString _serverNonce = decoder.decodeByteString("ServerNonce");
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new ActivateSessionResponse(_responseHeader, _serverNonce, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ActivateSessionResponse::encode, ActivateSessionResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ActivateSessionResponse::decode, ActivateSessionResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ActivateSessionResponse::encode, ActivateSessionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ActivateSessionResponse::decode, ActivateSessionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ActivateSessionResponse::encodeBinary, ActivateSessionResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ActivateSessionResponse::decodeBinary, ActivateSessionResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
@@ -109,9 +111,33 @@ public class AddNodesItem implements UaStructure {
         return new AddNodesItem(_parentNodeId, _referenceTypeId, _requestedNewNodeId, _browseName, _nodeClass, _nodeAttributes, _typeDefinition);
     }
 
+    public static void encodeBinary(AddNodesItem addNodesItem, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId("ParentNodeId", addNodesItem._parentNodeId);
+        encoder.encodeNodeId("ReferenceTypeId", addNodesItem._referenceTypeId);
+        encoder.encodeExpandedNodeId("RequestedNewNodeId", addNodesItem._requestedNewNodeId);
+        encoder.encodeQualifiedName("BrowseName", addNodesItem._browseName);
+        encoder.encodeEnumeration("NodeClass", addNodesItem._nodeClass);
+        encoder.encodeExtensionObject("NodeAttributes", addNodesItem._nodeAttributes);
+        encoder.encodeExpandedNodeId("TypeDefinition", addNodesItem._typeDefinition);
+    }
+
+    public static AddNodesItem decodeBinary(BinaryDecoder decoder) {
+        ExpandedNodeId _parentNodeId = decoder.decodeExpandedNodeId("ParentNodeId");
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        ExpandedNodeId _requestedNewNodeId = decoder.decodeExpandedNodeId("RequestedNewNodeId");
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        ExtensionObject _nodeAttributes = decoder.decodeExtensionObject("NodeAttributes");
+        ExpandedNodeId _typeDefinition = decoder.decodeExpandedNodeId("TypeDefinition");
+
+        return new AddNodesItem(_parentNodeId, _referenceTypeId, _requestedNewNodeId, _browseName, _nodeClass, _nodeAttributes, _typeDefinition);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AddNodesItem::encode, AddNodesItem.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddNodesItem::decode, AddNodesItem.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddNodesItem::encode, AddNodesItem.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddNodesItem::decode, AddNodesItem.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddNodesItem::encodeBinary, AddNodesItem.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddNodesItem::decodeBinary, AddNodesItem.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class AddNodesRequest implements UaRequestMessage {
 
     public static AddNodesRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        AddNodesItem[] _nodesToAdd = decoder.decodeArray("NodesToAdd", decoder::decodeSerializable, AddNodesItem.class);
+        AddNodesItem[] _nodesToAdd = decoder.decodeArray("NodesToAdd", decoder::decodeSerializable, AddNodesItem.class, AddNodesItem[]::new);
+
+        return new AddNodesRequest(_requestHeader, _nodesToAdd);
+    }
+
+    public static void encodeBinary(AddNodesRequest addNodesRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(addNodesRequest._requestHeader != null ? addNodesRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("NodesToAdd", addNodesRequest._nodesToAdd, AddNodesItem::encodeBinary);
+    }
+
+    public static AddNodesRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        AddNodesItem[] _nodesToAdd = decoder.decodeStructureArray("NodesToAdd", AddNodesItem::decodeBinary, AddNodesItem[]::new);
 
         return new AddNodesRequest(_requestHeader, _nodesToAdd);
     }
 
     static {
-        DelegateRegistry.registerEncoder(AddNodesRequest::encode, AddNodesRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddNodesRequest::decode, AddNodesRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddNodesRequest::encode, AddNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddNodesRequest::decode, AddNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddNodesRequest::encodeBinary, AddNodesRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddNodesRequest::decodeBinary, AddNodesRequest.class, BinaryEncodingId);
     }
 
 }
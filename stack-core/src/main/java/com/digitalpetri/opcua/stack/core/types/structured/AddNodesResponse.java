@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class AddNodesResponse implements UaResponseMessage {
 
     public static AddNodesResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        AddNodesResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, AddNodesResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        AddNodesResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, AddNodesResult.class, AddNodesResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new AddNodesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(AddNodesResponse addNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(addNodesResponse._responseHeader != null ? addNodesResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", addNodesResponse._results, AddNodesResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", addNodesResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static AddNodesResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        AddNodesResult[] _results = decoder.decodeStructureArray("Results", AddNodesResult::decodeBinary, AddNodesResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new AddNodesResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(AddNodesResponse::encode, AddNodesResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddNodesResponse::decode, AddNodesResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddNodesResponse::encode, AddNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddNodesResponse::decode, AddNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddNodesResponse::encodeBinary, AddNodesResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddNodesResponse::decodeBinary, AddNodesResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -71,9 +73,23 @@ public class AddNodesResult implements UaStructure {
         return new AddNodesResult(_statusCode, _addedNodeId);
     }
 
+    public static void encodeBinary(AddNodesResult addNodesResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", addNodesResult._statusCode);
+        encoder.encodeNodeId("AddedNodeId", addNodesResult._addedNodeId);
+    }
+
+    public static AddNodesResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        NodeId _addedNodeId = decoder.decodeNodeId("AddedNodeId");
+
+        return new AddNodesResult(_statusCode, _addedNodeId);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AddNodesResult::encode, AddNodesResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddNodesResult::decode, AddNodesResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddNodesResult::encode, AddNodesResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddNodesResult::decode, AddNodesResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddNodesResult::encodeBinary, AddNodesResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddNodesResult::decodeBinary, AddNodesResult.class, BinaryEncodingId);
     }
 
 }
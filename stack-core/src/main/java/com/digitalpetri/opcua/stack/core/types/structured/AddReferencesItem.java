@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -100,9 +102,31 @@ public class AddReferencesItem implements UaStructure {
         return new AddReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetServerUri, _targetNodeId, _targetNodeClass);
     }
 
+    public static void encodeBinary(AddReferencesItem addReferencesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId("SourceNodeId", addReferencesItem._sourceNodeId);
+        encoder.encodeNodeId("ReferenceTypeId", addReferencesItem._referenceTypeId);
+        encoder.encodeBoolean("IsForward", addReferencesItem._isForward);
+        encoder.encodeString("TargetServerUri", addReferencesItem._targetServerUri);
+        encoder.encodeExpandedNodeId("TargetNodeId", addReferencesItem._targetNodeId);
+        encoder.encodeEnumeration("TargetNodeClass", addReferencesItem._targetNodeClass);
+    }
+
+    public static AddReferencesItem decodeBinary(BinaryDecoder decoder) {
+        NodeId _sourceNodeId = decoder.decodeNodeId("SourceNodeId");
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _isForward = decoder.decodeBoolean("IsForward");
+        String _targetServerUri = decoder.decodeString("TargetServerUri");
+        ExpandedNodeId _targetNodeId = decoder.decodeExpandedNodeId("TargetNodeId");
+        NodeClass _targetNodeClass = NodeClass.decode(decoder);
+
+        return new AddReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetServerUri, _targetNodeId, _targetNodeClass);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AddReferencesItem::encode, AddReferencesItem.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddReferencesItem::decode, AddReferencesItem.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddReferencesItem::encode, AddReferencesItem.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddReferencesItem::decode, AddReferencesItem.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddReferencesItem::encodeBinary, AddReferencesItem.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddReferencesItem::decodeBinary, AddReferencesItem.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class AddReferencesRequest implements UaRequestMessage {
 
     public static AddReferencesRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        AddReferencesItem[] _referencesToAdd = decoder.decodeArray("ReferencesToAdd", decoder::decodeSerializable, AddReferencesItem.class);
+        AddReferencesItem[] _referencesToAdd = decoder.decodeArray("ReferencesToAdd", decoder::decodeSerializable, AddReferencesItem.class, AddReferencesItem[]::new);
+
+        return new AddReferencesRequest(_requestHeader, _referencesToAdd);
+    }
+
+    public static void encodeBinary(AddReferencesRequest addReferencesRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(addReferencesRequest._requestHeader != null ? addReferencesRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("ReferencesToAdd", addReferencesRequest._referencesToAdd, AddReferencesItem::encodeBinary);
+    }
+
+    public static AddReferencesRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        AddReferencesItem[] _referencesToAdd = decoder.decodeStructureArray("ReferencesToAdd", AddReferencesItem::decodeBinary, AddReferencesItem[]::new);
 
         return new AddReferencesRequest(_requestHeader, _referencesToAdd);
     }
 
     static {
-        DelegateRegistry.registerEncoder(AddReferencesRequest::encode, AddReferencesRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddReferencesRequest::decode, AddReferencesRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddReferencesRequest::encode, AddReferencesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddReferencesRequest::decode, AddReferencesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddReferencesRequest::encodeBinary, AddReferencesRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddReferencesRequest::decodeBinary, AddReferencesRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class AddReferencesResponse implements UaResponseMessage {
 
     public static AddReferencesResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new AddReferencesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(AddReferencesResponse addReferencesResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(addReferencesResponse._responseHeader != null ? addReferencesResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", addReferencesResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", addReferencesResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static AddReferencesResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new AddReferencesResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(AddReferencesResponse::encode, AddReferencesResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AddReferencesResponse::decode, AddReferencesResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AddReferencesResponse::encode, AddReferencesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AddReferencesResponse::decode, AddReferencesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AddReferencesResponse::encodeBinary, AddReferencesResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AddReferencesResponse::decodeBinary, AddReferencesResponse.class, BinaryEncodingId);
     }
 
 }
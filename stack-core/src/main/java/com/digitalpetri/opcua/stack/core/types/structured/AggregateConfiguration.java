@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
@@ -92,9 +94,29 @@ public class AggregateConfiguration implements UaStructure {
         return new AggregateConfiguration(_useServerCapabilitiesDefaults, _treatUncertainAsBad, _percentDataBad, _percentDataGood, _useSlopedExtrapolation);
     }
 
+    public static void encodeBinary(AggregateConfiguration aggregateConfiguration, BinaryEncoder encoder) {
+        encoder.encodeBoolean("UseServerCapabilitiesDefaults", aggregateConfiguration._useServerCapabilitiesDefaults);
+        encoder.encodeBoolean("TreatUncertainAsBad", aggregateConfiguration._treatUncertainAsBad);
+        encoder.encodeByte("PercentDataBad", aggregateConfiguration._percentDataBad);
+        encoder.encodeByte("PercentDataGood", aggregateConfiguration._percentDataGood);
+        encoder.encodeBoolean("UseSlopedExtrapolation", aggregateConfiguration._useSlopedExtrapolation);
+    }
+
+    public static AggregateConfiguration decodeBinary(BinaryDecoder decoder) {
+        Boolean _useServerCapabilitiesDefaults = decoder.decodeBoolean("UseServerCapabilitiesDefaults");
+        Boolean _treatUncertainAsBad = decoder.decodeBoolean("TreatUncertainAsBad");
+        UByte _percentDataBad = decoder.decodeByte("PercentDataBad");
+        UByte _percentDataGood = decoder.decodeByte("PercentDataGood");
+        Boolean _useSlopedExtrapolation = decoder.decodeBoolean("UseSlopedExtrapolation");
+
+        return new AggregateConfiguration(_useServerCapabilitiesDefaults, _treatUncertainAsBad, _percentDataBad, _percentDataGood, _useSlopedExtrapolation);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AggregateConfiguration::encode, AggregateConfiguration.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AggregateConfiguration::decode, AggregateConfiguration.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AggregateConfiguration::encode, AggregateConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AggregateConfiguration::decode, AggregateConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AggregateConfiguration::encodeBinary, AggregateConfiguration.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AggregateConfiguration::decodeBinary, AggregateConfiguration.class, BinaryEncodingId);
     }
 
 }
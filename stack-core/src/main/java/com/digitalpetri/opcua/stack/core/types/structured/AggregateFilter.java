@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -86,9 +88,27 @@ public class AggregateFilter extends MonitoringFilter {
         return new AggregateFilter(_startTime, _aggregateType, _processingInterval, _aggregateConfiguration);
     }
 
+    public static void encodeBinary(AggregateFilter aggregateFilter, BinaryEncoder encoder) {
+        encoder.encodeDateTime("StartTime", aggregateFilter._startTime);
+        encoder.encodeNodeId("AggregateType", aggregateFilter._aggregateType);
+        encoder.encodeDouble("ProcessingInterval", aggregateFilter._processingInterval);
+        AggregateConfiguration.encodeBinary(aggregateFilter._aggregateConfiguration != null ? aggregateFilter._aggregateConfiguration : new AggregateConfiguration(), encoder);
+    }
+
+    public static AggregateFilter decodeBinary(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime("StartTime");
+        NodeId _aggregateType = decoder.decodeNodeId("AggregateType");
+        Double _processingInterval = decoder.decodeDouble("ProcessingInterval");
+        AggregateConfiguration _aggregateConfiguration = AggregateConfiguration.decodeBinary(decoder);
+
+        return new AggregateFilter(_startTime, _aggregateType, _processingInterval, _aggregateConfiguration);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AggregateFilter::encode, AggregateFilter.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AggregateFilter::decode, AggregateFilter.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AggregateFilter::encode, AggregateFilter.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AggregateFilter::decode, AggregateFilter.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AggregateFilter::encodeBinary, AggregateFilter.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AggregateFilter::decodeBinary, AggregateFilter.class, BinaryEncodingId);
     }
 
 }
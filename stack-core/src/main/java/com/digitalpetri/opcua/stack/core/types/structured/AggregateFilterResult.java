@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -79,9 +81,25 @@ public class AggregateFilterResult extends MonitoringFilterResult {
         return new AggregateFilterResult(_revisedStartTime, _revisedProcessingInterval, _revisedAggregateConfiguration);
     }
 
+    public static void encodeBinary(AggregateFilterResult aggregateFilterResult, BinaryEncoder encoder) {
+        encoder.encodeDateTime("RevisedStartTime", aggregateFilterResult._revisedStartTime);
+        encoder.encodeDouble("RevisedProcessingInterval", aggregateFilterResult._revisedProcessingInterval);
+        AggregateConfiguration.encodeBinary(aggregateFilterResult._revisedAggregateConfiguration != null ? aggregateFilterResult._revisedAggregateConfiguration : new AggregateConfiguration(), encoder);
+    }
+
+    public static AggregateFilterResult decodeBinary(BinaryDecoder decoder) {
+        DateTime _revisedStartTime = decoder.decodeDateTime("RevisedStartTime");
+        Double _revisedProcessingInterval = decoder.decodeDouble("RevisedProcessingInterval");
+        AggregateConfiguration _revisedAggregateConfiguration = AggregateConfiguration.decodeBinary(decoder);
+
+        return new AggregateFilterResult(_revisedStartTime, _revisedProcessingInterval, _revisedAggregateConfiguration);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AggregateFilterResult::encode, AggregateFilterResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AggregateFilterResult::decode, AggregateFilterResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AggregateFilterResult::encode, AggregateFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AggregateFilterResult::decode, AggregateFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AggregateFilterResult::encodeBinary, AggregateFilterResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AggregateFilterResult::decodeBinary, AggregateFilterResult.class, BinaryEncodingId);
     }
 
 }
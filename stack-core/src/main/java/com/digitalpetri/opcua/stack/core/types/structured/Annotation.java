@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -78,9 +80,25 @@ public class Annotation implements UaStructure {
         return new Annotation(_message, _userName, _annotationTime);
     }
 
+    public static void encodeBinary(Annotation annotation, BinaryEncoder encoder) {
+        encoder.encodeString("Message", annotation._message);
+        encoder.encodeString("UserName", annotation._userName);
+        encoder.encodeDateTime("AnnotationTime", annotation._annotationTime);
+    }
+
+    public static Annotation decodeBinary(BinaryDecoder decoder) {
+        String _message = decoder.decodeString("Message");
+        String _userName = decoder.decodeString("UserName");
+        DateTime _annotationTime = decoder.decodeDateTime("AnnotationTime");
+
+        return new Annotation(_message, _userName, _annotationTime);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(Annotation::encode, Annotation.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(Annotation::decode, Annotation.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(Annotation::encode, Annotation.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(Annotation::decode, Annotation.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(Annotation::encodeBinary, Annotation.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(Annotation::decodeBinary, Annotation.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -60,9 +62,21 @@ public class AnonymousIdentityToken extends UserIdentityToken {
         return new AnonymousIdentityToken(_policyId);
     }
 
+    public static void encodeBinary(AnonymousIdentityToken anonymousIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", anonymousIdentityToken._policyId);
+    }
+
+    public static AnonymousIdentityToken decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+
+        return new AnonymousIdentityToken(_policyId);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AnonymousIdentityToken::encode, AnonymousIdentityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AnonymousIdentityToken::decode, AnonymousIdentityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AnonymousIdentityToken::encode, AnonymousIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AnonymousIdentityToken::decode, AnonymousIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AnonymousIdentityToken::encodeBinary, AnonymousIdentityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AnonymousIdentityToken::decodeBinary, AnonymousIdentityToken.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -102,14 +104,38 @@ public class ApplicationDescription implements UaStructure {
         ApplicationType _applicationType = decoder.decodeEnumeration("ApplicationType", ApplicationType.class);
         String _gatewayServerUri = decoder.decodeString("GatewayServerUri");
         String _discoveryProfileUri = decoder.decodeString("DiscoveryProfileUri");
-        String[] _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String.class);
+        String[] _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String[]::new);
+
+        return new ApplicationDescription(_applicationUri, _productUri, _applicationName, _applicationType, _gatewayServerUri, _discoveryProfileUri, _discoveryUrls);
+    }
+
+    public static void encodeBinary(ApplicationDescription applicationDescription, BinaryEncoder encoder) {
+        encoder.encodeString("ApplicationUri", applicationDescription._applicationUri);
+        encoder.encodeString("ProductUri", applicationDescription._productUri);
+        encoder.encodeLocalizedText("ApplicationName", applicationDescription._applicationName);
+        encoder.encodeEnumeration("ApplicationType", applicationDescription._applicationType);
+        encoder.encodeString("GatewayServerUri", applicationDescription._gatewayServerUri);
+        encoder.encodeString("DiscoveryProfileUri", applicationDescription._discoveryProfileUri);
+        encoder.encodeArray("DiscoveryUrls", applicationDescription._discoveryUrls, encoder::encodeString);
+    }
+
+    public static ApplicationDescription decodeBinary(BinaryDecoder decoder) {
+        String _applicationUri = decoder.decodeString("ApplicationUri");
+        String _productUri = decoder.decodeString("ProductUri");
+        LocalizedText _applicationName = decoder.decodeLocalizedText("ApplicationName");
+        ApplicationType _applicationType = ApplicationType.decode(decoder);
+        String _gatewayServerUri = decoder.decodeString("GatewayServerUri");
+        String _discoveryProfileUri = decoder.decodeString("DiscoveryProfileUri");
+        String[] _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String[]::new);
 
         return new ApplicationDescription(_applicationUri, _productUri, _applicationName, _applicationType, _gatewayServerUri, _discoveryProfileUri, _discoveryUrls);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ApplicationDescription::encode, ApplicationDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ApplicationDescription::decode, ApplicationDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ApplicationDescription::encode, ApplicationDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ApplicationDescription::decode, ApplicationDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ApplicationDescription::encodeBinary, ApplicationDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ApplicationDescription::decodeBinary, ApplicationDescription.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -87,15 +89,35 @@ public class Argument implements UaStructure {
         String _name = decoder.decodeString("Name");
         NodeId _dataType = decoder.decodeNodeId("DataType");
         Integer _valueRank = decoder.decodeInt32("ValueRank");
-        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+
+        return new Argument(_name, _dataType, _valueRank, _arrayDimensions, _description);
+    }
+
+    public static void encodeBinary(Argument argument, BinaryEncoder encoder) {
+        encoder.encodeString("Name", argument._name);
+        encoder.encodeNodeId("DataType", argument._dataType);
+        encoder.encodeInt32("ValueRank", argument._valueRank);
+        encoder.encodeArray("ArrayDimensions", argument._arrayDimensions, encoder::encodeUInt32);
+        encoder.encodeLocalizedText("Description", argument._description);
+    }
+
+    public static Argument decodeBinary(BinaryDecoder decoder) {
+        String _name = decoder.decodeString("Name");
+        NodeId _dataType = decoder.decodeNodeId("DataType");
+        Integer _valueRank = decoder.decodeInt32("ValueRank");
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
         LocalizedText _description = decoder.decodeLocalizedText("Description");
 
         return new Argument(_name, _dataType, _valueRank, _arrayDimensions, _description);
     }
 
     static {
-        DelegateRegistry.registerEncoder(Argument::encode, Argument.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(Argument::decode, Argument.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(Argument::encode, Argument.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(Argument::decode, Argument.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(Argument::encodeBinary, Argument.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(Argument::decodeBinary, Argument.class, BinaryEncodingId);
     }
 
 }
@@ -23,6 +23,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
@@ -275,38 +277,98 @@ public class ArrayTestType implements UaStructure {
     }
 
     public static ArrayTestType decode(UaDecoder decoder) {
-        Boolean[] _booleans = decoder.decodeArray("Booleans", decoder::decodeBoolean, Boolean.class);
-        Byte[] _sBytes = decoder.decodeArray("SBytes", decoder::decodeSByte, Byte.class);
-        Short[] _int16s = decoder.decodeArray("Int16s", decoder::decodeInt16, Short.class);
-        UShort[] _uInt16s = decoder.decodeArray("UInt16s", decoder::decodeUInt16, UShort.class);
-        Integer[] _int32s = decoder.decodeArray("Int32s", decoder::decodeInt32, Integer.class);
-        UInteger[] _uInt32s = decoder.decodeArray("UInt32s", decoder::decodeUInt32, UInteger.class);
-        Long[] _int64s = decoder.decodeArray("Int64s", decoder::decodeInt64, Long.class);
-        ULong[] _uInt64s = decoder.decodeArray("UInt64s", decoder::decodeUInt64, ULong.class);
-        Float[] _floats = decoder.decodeArray("Floats", decoder::decodeFloat, Float.class);
-        Double[] _doubles = decoder.decodeArray("Doubles", decoder::decodeDouble, Double.class);
-        String[] _strings = decoder.decodeArray("Strings", decoder::decodeString, String.class);
-        DateTime[] _dateTimes = decoder.decodeArray("DateTimes", decoder::decodeDateTime, DateTime.class);
-        UUID[] _guids = decoder.decodeArray("Guids", decoder::decodeGuid, UUID.class);
-        ByteString[] _byteStrings = decoder.decodeArray("ByteStrings", decoder::decodeByteString, ByteString.class);
-        XmlElement[] _xmlElements = decoder.decodeArray("XmlElements", decoder::decodeXmlElement, XmlElement.class);
-        NodeId[] _nodeIds = decoder.decodeArray("NodeIds", decoder::decodeNodeId, NodeId.class);
-        ExpandedNodeId[] _expandedNodeIds = decoder.decodeArray("ExpandedNodeIds", decoder::decodeExpandedNodeId, ExpandedNodeId.class);
-        StatusCode[] _statusCodes = decoder.decodeArray("StatusCodes", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
-        QualifiedName[] _qualifiedNames = decoder.decodeArray("QualifiedNames", decoder::decodeQualifiedName, QualifiedName.class);
-        LocalizedText[] _localizedTexts = decoder.decodeArray("LocalizedTexts", decoder::decodeLocalizedText, LocalizedText.class);
-        ExtensionObject[] _extensionObjects = decoder.decodeArray("ExtensionObjects", decoder::decodeExtensionObject, ExtensionObject.class);
-        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue.class);
-        Variant[] _variants = decoder.decodeArray("Variants", decoder::decodeVariant, Variant.class);
-        EnumeratedTestType[] _enumeratedValues = decoder.decodeArray("EnumeratedValues", decoder::decodeEnumeration, EnumeratedTestType.class);
+        Boolean[] _booleans = decoder.decodeArray("Booleans", decoder::decodeBoolean, Boolean[]::new);
+        Byte[] _sBytes = decoder.decodeArray("SBytes", decoder::decodeSByte, Byte[]::new);
+        Short[] _int16s = decoder.decodeArray("Int16s", decoder::decodeInt16, Short[]::new);
+        UShort[] _uInt16s = decoder.decodeArray("UInt16s", decoder::decodeUInt16, UShort[]::new);
+        Integer[] _int32s = decoder.decodeArray("Int32s", decoder::decodeInt32, Integer[]::new);
+        UInteger[] _uInt32s = decoder.decodeArray("UInt32s", decoder::decodeUInt32, UInteger[]::new);
+        Long[] _int64s = decoder.decodeArray("Int64s", decoder::decodeInt64, Long[]::new);
+        ULong[] _uInt64s = decoder.decodeArray("UInt64s", decoder::decodeUInt64, ULong[]::new);
+        Float[] _floats = decoder.decodeArray("Floats", decoder::decodeFloat, Float[]::new);
+        Double[] _doubles = decoder.decodeArray("Doubles", decoder::decodeDouble, Double[]::new);
+        String[] _strings = decoder.decodeArray("Strings", decoder::decodeString, String[]::new);
+        DateTime[] _dateTimes = decoder.decodeArray("DateTimes", decoder::decodeDateTime, DateTime[]::new);
+        UUID[] _guids = decoder.decodeArray("Guids", decoder::decodeGuid, UUID[]::new);
+        ByteString[] _byteStrings = decoder.decodeArray("ByteStrings", decoder::decodeByteString, ByteString[]::new);
+        XmlElement[] _xmlElements = decoder.decodeArray("XmlElements", decoder::decodeXmlElement, XmlElement[]::new);
+        NodeId[] _nodeIds = decoder.decodeArray("NodeIds", decoder::decodeNodeId, NodeId[]::new);
+        ExpandedNodeId[] _expandedNodeIds = decoder.decodeArray("ExpandedNodeIds", decoder::decodeExpandedNodeId, ExpandedNodeId[]::new);
+        StatusCode[] _statusCodes = decoder.decodeArray("StatusCodes", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        QualifiedName[] _qualifiedNames = decoder.decodeArray("QualifiedNames", decoder::decodeQualifiedName, QualifiedName[]::new);
+        LocalizedText[] _localizedTexts = decoder.decodeArray("LocalizedTexts", decoder::decodeLocalizedText, LocalizedText[]::new);
+        ExtensionObject[] _extensionObjects = decoder.decodeArray("ExtensionObjects", decoder::decodeExtensionObject, ExtensionObject[]::new);
+        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue[]::new);
+        Variant[] _variants = decoder.decodeArray("Variants", decoder::decodeVariant, Variant[]::new);
+        EnumeratedTestType[] _enumeratedValues = decoder.decodeArray("EnumeratedValues", decoder::decodeEnumeration, EnumeratedTestType.class, EnumeratedTestType[]::new);
+
+        return new ArrayTestType(_booleans, _sBytes, _int16s, _uInt16s, _int32s, _uInt32s, _int64s, _uInt64s, _floats, _doubles, _strings, _dateTimes, _guids, _byteStrings, _xmlElements, _nodeIds, _expandedNodeIds, _statusCodes, _diagnosticInfos, _qualifiedNames, _localizedTexts, _extensionObjects, _dataValues, _variants, _enumeratedValues);
+    }
+
+    public static void encodeBinary(ArrayTestType arrayTestType, BinaryEncoder encoder) {
+        encoder.encodeArray("Booleans", arrayTestType._booleans, encoder::encodeBoolean);
+        encoder.encodeArray("SBytes", arrayTestType._sBytes, encoder::encodeSByte);
+        encoder.encodeArray("Int16s", arrayTestType._int16s, encoder::encodeInt16);
+        encoder.encodeArray("UInt16s", arrayTestType._uInt16s, encoder::encodeUInt16);
+        encoder.encodeArray("Int32s", arrayTestType._int32s, encoder::encodeInt32);
+        encoder.encodeArray("UInt32s", arrayTestType._uInt32s, encoder::encodeUInt32);
+        encoder.encodeArray("Int64s", arrayTestType._int64s, encoder::encodeInt64);
+        encoder.encodeArray("UInt64s", arrayTestType._uInt64s, encoder::encodeUInt64);
+        encoder.encodeArray("Floats", arrayTestType._floats, encoder::encodeFloat);
+        encoder.encodeArray("Doubles", arrayTestType._doubles, encoder::encodeDouble);
+        encoder.encodeArray("Strings", arrayTestType._strings, encoder::encodeString);
+        encoder.encodeArray("DateTimes", arrayTestType._dateTimes, encoder::encodeDateTime);
+        encoder.encodeArray("Guids", arrayTestType._guids, encoder::encodeGuid);
+        encoder.encodeArray("ByteStrings", arrayTestType._byteStrings, encoder::encodeByteString);
+        encoder.encodeArray("XmlElements", arrayTestType._xmlElements, encoder::encodeXmlElement);
+        encoder.encodeArray("NodeIds", arrayTestType._nodeIds, encoder::encodeNodeId);
+        encoder.encodeArray("ExpandedNodeIds", arrayTestType._expandedNodeIds, encoder::encodeExpandedNodeId);
+        encoder.encodeArray("StatusCodes", arrayTestType._statusCodes, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", arrayTestType._diagnosticInfos, encoder::encodeDiagnosticInfo);
+        encoder.encodeArray("QualifiedNames", arrayTestType._qualifiedNames, encoder::encodeQualifiedName);
+        encoder.encodeArray("LocalizedTexts", arrayTestType._localizedTexts, encoder::encodeLocalizedText);
+        encoder.encodeArray("ExtensionObjects", arrayTestType._extensionObjects, encoder::encodeExtensionObject);
+        encoder.encodeArray("DataValues", arrayTestType._dataValues, encoder::encodeDataValue);
+        encoder.encodeArray("Variants", arrayTestType._variants, encoder::encodeVariant);
+        encoder.encodeArray("EnumeratedValues", arrayTestType._enumeratedValues, encoder::encodeEnumeration);
+    }
+
+    public static ArrayTestType decodeBinary(BinaryDecoder decoder) {
+        Boolean[] _booleans = decoder.decodeArray("Booleans", decoder::decodeBoolean, Boolean[]::new);
+        Byte[] _sBytes = decoder.decodeArray("SBytes", decoder::decodeSByte, Byte[]::new);
+        Short[] _int16s = decoder.decodeArray("Int16s", decoder::decodeInt16, Short[]::new);
+        UShort[] _uInt16s = decoder.decodeArray("UInt16s", decoder::decodeUInt16, UShort[]::new);
+        Integer[] _int32s = decoder.decodeArray("Int32s", decoder::decodeInt32, Integer[]::new);
+        UInteger[] _uInt32s = decoder.decodeArray("UInt32s", decoder::decodeUInt32, UInteger[]::new);
+        Long[] _int64s = decoder.decodeArray("Int64s", decoder::decodeInt64, Long[]::new);
+        ULong[] _uInt64s = decoder.decodeArray("UInt64s", decoder::decodeUInt64, ULong[]::new);
+        Float[] _floats = decoder.decodeArray("Floats", decoder::decodeFloat, Float[]::new);
+        Double[] _doubles = decoder.decodeArray("Doubles", decoder::decodeDouble, Double[]::new);
+        String[] _strings = decoder.decodeArray("Strings", decoder::decodeString, String[]::new);
+        DateTime[] _dateTimes = decoder.decodeArray("DateTimes", decoder::decodeDateTime, DateTime[]::new);
+        UUID[] _guids = decoder.decodeArray("Guids", decoder::decodeGuid, UUID[]::new);
+        ByteString[] _byteStrings = decoder.decodeArray("ByteStrings", decoder::decodeByteString, ByteString[]::new);
+        XmlElement[] _xmlElements = decoder.decodeArray("XmlElements", decoder::decodeXmlElement, XmlElement[]::new);
+        NodeId[] _nodeIds = decoder.decodeArray("NodeIds", decoder::decodeNodeId, NodeId[]::new);
+        ExpandedNodeId[] _expandedNodeIds = decoder.decodeArray("ExpandedNodeIds", decoder::decodeExpandedNodeId, ExpandedNodeId[]::new);
+        StatusCode[] _statusCodes = decoder.decodeArray("StatusCodes", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        QualifiedName[] _qualifiedNames = decoder.decodeArray("QualifiedNames", decoder::decodeQualifiedName, QualifiedName[]::new);
+        LocalizedText[] _localizedTexts = decoder.decodeArray("LocalizedTexts", decoder::decodeLocalizedText, LocalizedText[]::new);
+        ExtensionObject[] _extensionObjects = decoder.decodeArray("ExtensionObjects", decoder::decodeExtensionObject, ExtensionObject[]::new);
+        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue[]::new);
+        Variant[] _variants = decoder.decodeArray("Variants", decoder::decodeVariant, Variant[]::new);
+        EnumeratedTestType[] _enumeratedValues = decoder.decodeArray("EnumeratedValues", decoder::decodeEnumeration, EnumeratedTestType.class, EnumeratedTestType[]::new);
 
         return new ArrayTestType(_booleans, _sBytes, _int16s, _uInt16s, _int32s, _uInt32s, _int64s, _uInt64s, _floats, _doubles, _strings, _dateTimes, _guids, _byteStrings, _xmlElements, _nodeIds, _expandedNodeIds, _statusCodes, _diagnosticInfos, _qualifiedNames, _localizedTexts, _extensionObjects, _dataValues, _variants, _enumeratedValues);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ArrayTestType::encode, ArrayTestType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ArrayTestType::decode, ArrayTestType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ArrayTestType::encode, ArrayTestType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ArrayTestType::decode, ArrayTestType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ArrayTestType::encodeBinary, ArrayTestType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ArrayTestType::decodeBinary, ArrayTestType.class, BinaryEncodingId);
     }
 
 }
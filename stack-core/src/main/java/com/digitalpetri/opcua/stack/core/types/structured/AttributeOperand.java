@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -93,9 +95,29 @@ public class AttributeOperand extends FilterOperand {
         return new AttributeOperand(_nodeId, _alias, _browsePath, _attributeId, _indexRange);
     }
 
+    public static void encodeBinary(AttributeOperand attributeOperand, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", attributeOperand._nodeId);
+        encoder.encodeString("Alias", attributeOperand._alias);
+        RelativePath.encodeBinary(attributeOperand._browsePath != null ? attributeOperand._browsePath : new RelativePath(), encoder);
+        encoder.encodeUInt32("AttributeId", attributeOperand._attributeId);
+        encoder.encodeString("IndexRange", attributeOperand._indexRange);
+    }
+
+    public static AttributeOperand decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        String _alias = decoder.decodeString("Alias");
+        RelativePath _browsePath = RelativePath.decodeBinary(decoder);
+        UInteger _attributeId = decoder.decodeUInt32("AttributeId");
+        String _indexRange = decoder.decodeString("IndexRange");
+
+        return new AttributeOperand(_nodeId, _alias, _browsePath, _attributeId, _indexRange);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(AttributeOperand::encode, AttributeOperand.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AttributeOperand::decode, AttributeOperand.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AttributeOperand::encode, AttributeOperand.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AttributeOperand::decode, AttributeOperand.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AttributeOperand::encodeBinary, AttributeOperand.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AttributeOperand::decodeBinary, AttributeOperand.class, BinaryEncodingId);
     }
 
 }
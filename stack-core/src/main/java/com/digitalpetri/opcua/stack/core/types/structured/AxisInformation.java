@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -88,14 +90,34 @@ public class AxisInformation implements UaStructure {
         Range _eURange = decoder.decodeSerializable("EURange", Range.class);
         LocalizedText _title = decoder.decodeLocalizedText("Title");
         AxisScaleEnumeration _axisScaleType = decoder.decodeEnumeration("AxisScaleType", AxisScaleEnumeration.class);
-        Double[] _axisSteps = decoder.decodeArray("AxisSteps", decoder::decodeDouble, Double.class);
+        Double[] _axisSteps = decoder.decodeArray("AxisSteps", decoder::decodeDouble, Double[]::new);
+
+        return new AxisInformation(_engineeringUnits, _eURange, _title, _axisScaleType, _axisSteps);
+    }
+
+    public static void encodeBinary(AxisInformation axisInformation, BinaryEncoder encoder) {
+        EUInformation.encodeBinary(axisInformation._engineeringUnits != null ? axisInformation._engineeringUnits : new EUInformation(), encoder);
+        Range.encodeBinary(axisInformation._eURange != null ? axisInformation._eURange : new Range(), encoder);
+        encoder.encodeLocalizedText("Title", axisInformation._title);
+        encoder.encodeEnumeration("AxisScaleType", axisInformation._axisScaleType);
+        encoder.encodeArray("AxisSteps", axisInformation._axisSteps, encoder::encodeDouble);
+    }
+
+    public static AxisInformation decodeBinary(BinaryDecoder decoder) {
+        EUInformation _engineeringUnits = EUInformation.decodeBinary(decoder);
+        Range _eURange = Range.decodeBinary(decoder);
+        LocalizedText _title = decoder.decodeLocalizedText("Title");
+        AxisScaleEnumeration _axisScaleType = AxisScaleEnumeration.decode(decoder);
+        Double[] _axisSteps = decoder.decodeArray("AxisSteps", decoder::decodeDouble, Double[]::new);
 
         return new AxisInformation(_engineeringUnits, _eURange, _title, _axisScaleType, _axisSteps);
     }
 
     static {
-        DelegateRegistry.registerEncoder(AxisInformation::encode, AxisInformation.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(AxisInformation::decode, AxisInformation.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(AxisInformation::encode, AxisInformation.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(AxisInformation::decode, AxisInformation.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(AxisInformation::encodeBinary, AxisInformation.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(AxisInformation::decodeBinary, AxisInformation.class, BinaryEncodingId);
     }
 
 }
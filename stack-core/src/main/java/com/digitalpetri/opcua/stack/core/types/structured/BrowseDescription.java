@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -100,9 +102,31 @@ public class BrowseDescription implements UaStructure {
         return new BrowseDescription(_nodeId, _browseDirection, _referenceTypeId, _includeSubtypes, _nodeClassMask, _resultMask);
     }
 
+    public static void encodeBinary(BrowseDescription browseDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", browseDescription._nodeId);
+        encoder.encodeEnumeration("BrowseDirection", browseDescription._browseDirection);
+        encoder.encodeNodeId("ReferenceTypeId", browseDescription._referenceTypeId);
+        encoder.encodeBoolean("IncludeSubtypes", browseDescription._includeSubtypes);
+        encoder.encodeUInt32("NodeClassMask", browseDescription._nodeClassMask);
+        encoder.encodeUInt32("ResultMask", browseDescription._resultMask);
+    }
+
+    public static BrowseDescription decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        BrowseDirection _browseDirection = BrowseDirection.decode(decoder);
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _includeSubtypes = decoder.decodeBoolean("IncludeSubtypes");
+        UInteger _nodeClassMask = decoder.decodeUInt32("NodeClassMask");
+        UInteger _resultMask = decoder.decodeUInt32("ResultMask");
+
+        return new BrowseDescription(_nodeId, _browseDirection, _referenceTypeId, _includeSubtypes, _nodeClassMask, _resultMask);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(BrowseDescription::encode, BrowseDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowseDescription::decode, BrowseDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowseDescription::encode, BrowseDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowseDescription::decode, BrowseDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowseDescription::encodeBinary, BrowseDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowseDescription::decodeBinary, BrowseDescription.class, BinaryEncodingId);
     }
 
 }
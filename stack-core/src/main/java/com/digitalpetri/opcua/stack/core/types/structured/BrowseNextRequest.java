@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,14 +75,30 @@ public class BrowseNextRequest implements UaRequestMessage {
     public static BrowseNextRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         Boolean _releaseContinuationPoints = decoder.decodeBoolean("ReleaseContinuationPoints");
-        ByteString[] _continuationPoints = decoder.decodeArray("ContinuationPoints", decoder::decodeByteString, ByteString.class);
+        ByteString[] _continuationPoints = decoder.decodeArray("ContinuationPoints", decoder::decodeByteString, ByteString[]::new);
+
+        return new BrowseNextRequest(_requestHeader, _releaseContinuationPoints, _continuationPoints);
+    }
+
+    public static void encodeBinary(BrowseNextRequest browseNextRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(browseNextRequest._requestHeader != null ? browseNextRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean("ReleaseContinuationPoints", browseNextRequest._releaseContinuationPoints);
+        encoder.encodeArray("ContinuationPoints", browseNextRequest._continuationPoints, encoder::encodeByteString);
+    }
+
+    public static BrowseNextRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        Boolean _releaseContinuationPoints = decoder.decodeBoolean("ReleaseContinuationPoints");
+        ByteString[] _continuationPoints = decoder.decodeArray("ContinuationPoints", decoder::decodeByteString, ByteString[]::new);
 
         return new BrowseNextRequest(_requestHeader, _releaseContinuationPoints, _continuationPoints);
     }
 
     static {
-        DelegateRegistry.registerEncoder(BrowseNextRequest::encode, BrowseNextRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowseNextRequest::decode, BrowseNextRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowseNextRequest::encode, BrowseNextRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowseNextRequest::decode, BrowseNextRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowseNextRequest::encodeBinary, BrowseNextRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowseNextRequest::decodeBinary, BrowseNextRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class BrowseNextResponse implements UaResponseMessage {
 
     public static BrowseNextResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        BrowseResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, BrowseResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        BrowseResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, BrowseResult.class, BrowseResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new BrowseNextResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(BrowseNextResponse browseNextResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(browseNextResponse._responseHeader != null ? browseNextResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", browseNextResponse._results, BrowseResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", browseNextResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static BrowseNextResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        BrowseResult[] _results = decoder.decodeStructureArray("Results", BrowseResult::decodeBinary, BrowseResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new BrowseNextResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(BrowseNextResponse::encode, BrowseNextResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowseNextResponse::decode, BrowseNextResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowseNextResponse::encode, BrowseNextResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowseNextResponse::decode, BrowseNextResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowseNextResponse::encodeBinary, BrowseNextResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowseNextResponse::decodeBinary, BrowseNextResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class BrowsePath implements UaStructure {
         return new BrowsePath(_startingNode, _relativePath);
     }
 
+    public static void encodeBinary(BrowsePath browsePath, BinaryEncoder encoder) {
+        encoder.encodeNodeId("StartingNode", browsePath._startingNode);
+        RelativePath.encodeBinary(browsePath._relativePath != null ? browsePath._relativePath : new RelativePath(), encoder);
+    }
+
+    public static BrowsePath decodeBinary(BinaryDecoder decoder) {
+        NodeId _startingNode = decoder.decodeNodeId("StartingNode");
+        RelativePath _relativePath = RelativePath.decodeBinary(decoder);
+
+        return new BrowsePath(_startingNode, _relativePath);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(BrowsePath::encode, BrowsePath.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowsePath::decode, BrowsePath.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowsePath::encode, BrowsePath.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowsePath::decode, BrowsePath.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowsePath::encodeBinary, BrowsePath.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowsePath::decodeBinary, BrowsePath.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -66,14 +68,28 @@ public class BrowsePathResult implements UaStructure {
 
     public static BrowsePathResult decode(UaDecoder decoder) {
         StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
-        BrowsePathTarget[] _targets = decoder.decodeArray("Targets", decoder::decodeSerializable, BrowsePathTarget.class);
+        BrowsePathTarget[] _targets = decoder.decodeArray("Targets", decoder::decodeSerializable, BrowsePathTarget.class, BrowsePathTarget[]::new);
+
+        return new BrowsePathResult(_statusCode, _targets);
+    }
+
+    public static void encodeBinary(BrowsePathResult browsePathResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", browsePathResult._statusCode);
+        encoder.encodeStructureArray("Targets", browsePathResult._targets, BrowsePathTarget::encodeBinary);
+    }
+
+    public static BrowsePathResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        BrowsePathTarget[] _targets = decoder.decodeStructureArray("Targets", BrowsePathTarget::decodeBinary, BrowsePathTarget[]::new);
 
         return new BrowsePathResult(_statusCode, _targets);
     }
 
     static {
-        DelegateRegistry.registerEncoder(BrowsePathResult::encode, BrowsePathResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowsePathResult::decode, BrowsePathResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowsePathResult::encode, BrowsePathResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowsePathResult::decode, BrowsePathResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowsePathResult::encodeBinary, BrowsePathResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowsePathResult::decodeBinary, BrowsePathResult.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,9 +74,23 @@ public class BrowsePathTarget implements UaStructure {
         return new BrowsePathTarget(_targetId, _remainingPathIndex);
     }
 
+    public static void encodeBinary(BrowsePathTarget browsePathTarget, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId("TargetId", browsePathTarget._targetId);
+        encoder.encodeUInt32("RemainingPathIndex", browsePathTarget._remainingPathIndex);
+    }
+
+    public static BrowsePathTarget decodeBinary(BinaryDecoder decoder) {
+        ExpandedNodeId _targetId = decoder.decodeExpandedNodeId("TargetId");
+        UInteger _remainingPathIndex = decoder.decodeUInt32("RemainingPathIndex");
+
+        return new BrowsePathTarget(_targetId, _remainingPathIndex);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(BrowsePathTarget::encode, BrowsePathTarget.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowsePathTarget::decode, BrowsePathTarget.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowsePathTarget::encode, BrowsePathTarget.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowsePathTarget::decode, BrowsePathTarget.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowsePathTarget::encodeBinary, BrowsePathTarget.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowsePathTarget::decodeBinary, BrowsePathTarget.class, BinaryEncodingId);
     }
 
 }
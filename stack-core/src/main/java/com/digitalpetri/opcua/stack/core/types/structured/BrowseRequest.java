@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -80,14 +82,32 @@ public class BrowseRequest implements UaRequestMessage {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         ViewDescription _view = decoder.decodeSerializable("View", ViewDescription.class);
         UInteger _requestedMaxReferencesPerNode = decoder.decodeUInt32("RequestedMaxReferencesPerNode");
-        BrowseDescription[] _nodesToBrowse = decoder.decodeArray("NodesToBrowse", decoder::decodeSerializable, BrowseDescription.class);
+        BrowseDescription[] _nodesToBrowse = decoder.decodeArray("NodesToBrowse", decoder::decodeSerializable, BrowseDescription.class, BrowseDescription[]::new);
+
+        return new BrowseRequest(_requestHeader, _view, _requestedMaxReferencesPerNode, _nodesToBrowse);
+    }
+
+    public static void encodeBinary(BrowseRequest browseRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(browseRequest._requestHeader != null ? browseRequest._requestHeader : new RequestHeader(), encoder);
+        ViewDescription.encodeBinary(browseRequest._view != null ? browseRequest._view : new ViewDescription(), encoder);
+        encoder.encodeUInt32("RequestedMaxReferencesPerNode", browseRequest._requestedMaxReferencesPerNode);
+        encoder.encodeStructureArray("NodesToBrowse", browseRequest._nodesToBrowse, BrowseDescription::encodeBinary);
+    }
+
+    public static BrowseRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        ViewDescription _view = ViewDescription.decodeBinary(decoder);
+        UInteger _requestedMaxReferencesPerNode = decoder.decodeUInt32("RequestedMaxReferencesPerNode");
+        BrowseDescription[] _nodesToBrowse = decoder.decodeStructureArray("NodesToBrowse", BrowseDescription::decodeBinary, BrowseDescription[]::new);
 
         return new BrowseRequest(_requestHeader, _view, _requestedMaxReferencesPerNode, _nodesToBrowse);
     }
 
     static {
-        DelegateRegistry.registerEncoder(BrowseRequest::encode, BrowseRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowseRequest::decode, BrowseRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowseRequest::encode, BrowseRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowseRequest::decode, BrowseRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowseRequest::encodeBinary, BrowseRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowseRequest::decodeBinary, BrowseRequest.class, BinaryEncodingId);
     }
 
 }
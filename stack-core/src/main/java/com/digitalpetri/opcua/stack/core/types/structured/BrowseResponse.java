@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class BrowseResponse implements UaResponseMessage {
 
     public static BrowseResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        BrowseResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, BrowseResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        BrowseResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, BrowseResult.class, BrowseResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new BrowseResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(BrowseResponse browseResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(browseResponse._responseHeader != null ? browseResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", browseResponse._results, BrowseResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", browseResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static BrowseResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        BrowseResult[] _results = decoder.decodeStructureArray("Results", BrowseResult::decodeBinary, BrowseResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new BrowseResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(BrowseResponse::encode, BrowseResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowseResponse::decode, BrowseResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowseResponse::encode, BrowseResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowseResponse::decode, BrowseResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowseResponse::encodeBinary, BrowseResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowseResponse::decodeBinary, BrowseResponse.class, BinaryEncodingId);
     }
 
 }
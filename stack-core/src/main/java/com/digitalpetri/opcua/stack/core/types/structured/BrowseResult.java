@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -74,14 +76,30 @@ public class BrowseResult implements UaStructure {
     public static BrowseResult decode(UaDecoder decoder) {
         StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
         ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
-        ReferenceDescription[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceDescription.class);
+        ReferenceDescription[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceDescription.class, ReferenceDescription[]::new);
+
+        return new BrowseResult(_statusCode, _continuationPoint, _references);
+    }
+
+    public static void encodeBinary(BrowseResult browseResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", browseResult._statusCode);
+        encoder.encodeByteString("ContinuationPoint", browseResult._continuationPoint);
+        encoder.encodeStructureArray("References", browseResult._references, ReferenceDescription::encodeBinary);
+    }
+
+    public static BrowseResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
+        ReferenceDescription[] _references = decoder.decodeStructureArray("References", ReferenceDescription::decodeBinary, ReferenceDescription[]::new);
 
         return new BrowseResult(_statusCode, _continuationPoint, _references);
     }
 
     static {
-        DelegateRegistry.registerEncoder(BrowseResult::encode, BrowseResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BrowseResult::decode, BrowseResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BrowseResult::encode, BrowseResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BrowseResult::decode, BrowseResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BrowseResult::encodeBinary, BrowseResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BrowseResult::decodeBinary, BrowseResult.class, BinaryEncodingId);
     }
 
 }
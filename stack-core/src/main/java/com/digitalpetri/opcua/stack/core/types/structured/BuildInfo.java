@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -99,9 +101,31 @@ public class BuildInfo implements UaStructure {
         return new BuildInfo(_productUri, _manufacturerName, _productName, _softwareVersion, _buildNumber, _buildDate);
     }
 
+    public static void encodeBinary(BuildInfo buildInfo, BinaryEncoder encoder) {
+        encoder.encodeString("ProductUri", buildInfo._productUri);
+        encoder.encodeString("ManufacturerName", buildInfo._manufacturerName);
+        encoder.encodeString("ProductName", buildInfo._productName);
+        encoder.encodeString("SoftwareVersion", buildInfo._softwareVersion);
+        encoder.encodeString("BuildNumber", buildInfo._buildNumber);
+        encoder.encodeDateTime("BuildDate", buildInfo._buildDate);
+    }
+
+    public static BuildInfo decodeBinary(BinaryDecoder decoder) {
+        String _productUri = decoder.decodeString("ProductUri");
+        String _manufacturerName = decoder.decodeString("ManufacturerName");
+        String _productName = decoder.decodeString("ProductName");
+        String _softwareVersion = decoder.decodeString("SoftwareVersion");
+        String _buildNumber = decoder.decodeString("BuildNumber");
+        DateTime _buildDate = decoder.decodeDateTime("BuildDate");
+
+        return new BuildInfo(_productUri, _manufacturerName, _productName, _softwareVersion, _buildNumber, _buildDate);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(BuildInfo::encode, BuildInfo.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(BuildInfo::decode, BuildInfo.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(BuildInfo::encode, BuildInfo.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(BuildInfo::decode, BuildInfo.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(BuildInfo::encodeBinary, BuildInfo.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(BuildInfo::decodeBinary, BuildInfo.class, BinaryEncodingId);
     }
 
 }
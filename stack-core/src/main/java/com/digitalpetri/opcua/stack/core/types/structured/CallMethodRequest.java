@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
@@ -73,14 +75,30 @@ public class CallMethodRequest implements UaStructure {
     public static CallMethodRequest decode(UaDecoder decoder) {
         NodeId _objectId = decoder.decodeNodeId("ObjectId");
         NodeId _methodId = decoder.decodeNodeId("MethodId");
-        Variant[] _inputArguments = decoder.decodeArray("InputArguments", decoder::decodeVariant, Variant.class);
+        Variant[] _inputArguments = decoder.decodeArray("InputArguments", decoder::decodeVariant, Variant[]::new);
+
+        return new CallMethodRequest(_objectId, _methodId, _inputArguments);
+    }
+
+    public static void encodeBinary(CallMethodRequest callMethodRequest, BinaryEncoder encoder) {
+        encoder.encodeNodeId("ObjectId", callMethodRequest._objectId);
+        encoder.encodeNodeId("MethodId", callMethodRequest._methodId);
+        encoder.encodeArray("InputArguments", callMethodRequest._inputArguments, encoder::encodeVariant);
+    }
+
+    public static CallMethodRequest decodeBinary(BinaryDecoder decoder) {
+        NodeId _objectId = decoder.decodeNodeId("ObjectId");
+        NodeId _methodId = decoder.decodeNodeId("MethodId");
+        Variant[] _inputArguments = decoder.decodeArray("InputArguments", decoder::decodeVariant, Variant[]::new);
 
         return new CallMethodRequest(_objectId, _methodId, _inputArguments);
     }
 
     static {
-        DelegateRegistry.registerEncoder(CallMethodRequest::encode, CallMethodRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CallMethodRequest::decode, CallMethodRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CallMethodRequest::encode, CallMethodRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CallMethodRequest::decode, CallMethodRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CallMethodRequest::encodeBinary, CallMethodRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CallMethodRequest::decodeBinary, CallMethodRequest.class, BinaryEncodingId);
     }
 
 }
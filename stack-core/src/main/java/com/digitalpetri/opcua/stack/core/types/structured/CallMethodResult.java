@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -80,16 +82,34 @@ public class CallMethodResult implements UaStructure {
 
     public static CallMethodResult decode(UaDecoder decoder) {
         StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
-        StatusCode[] _inputArgumentResults = decoder.decodeArray("InputArgumentResults", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _inputArgumentDiagnosticInfos = decoder.decodeArray("InputArgumentDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
-        Variant[] _outputArguments = decoder.decodeArray("OutputArguments", decoder::decodeVariant, Variant.class);
+        StatusCode[] _inputArgumentResults = decoder.decodeArray("InputArgumentResults", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = decoder.decodeArray("InputArgumentDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        Variant[] _outputArguments = decoder.decodeArray("OutputArguments", decoder::decodeVariant, Variant[]::new);
+
+        return new CallMethodResult(_statusCode, _inputArgumentResults, _inputArgumentDiagnosticInfos, _outputArguments);
+    }
+
+    public static void encodeBinary(CallMethodResult callMethodResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", callMethodResult._statusCode);
+        encoder.encodeArray("InputArgumentResults", callMethodResult._inputArgumentResults, encoder::encodeStatusCode);
+        encoder.encodeArray("InputArgumentDiagnosticInfos", callMethodResult._inputArgumentDiagnosticInfos, encoder::encodeDiagnosticInfo);
+        encoder.encodeArray("OutputArguments", callMethodResult._outputArguments, encoder::encodeVariant);
+    }
+
+    public static CallMethodResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        StatusCode[] _inputArgumentResults = decoder.decodeArray("InputArgumentResults", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _inputArgumentDiagnosticInfos = decoder.decodeArray("InputArgumentDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        Variant[] _outputArguments = decoder.decodeArray("OutputArguments", decoder::decodeVariant, Variant[]::new);
 
         return new CallMethodResult(_statusCode, _inputArgumentResults, _inputArgumentDiagnosticInfos, _outputArguments);
     }
 
     static {
-        DelegateRegistry.registerEncoder(CallMethodResult::encode, CallMethodResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CallMethodResult::decode, CallMethodResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CallMethodResult::encode, CallMethodResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CallMethodResult::decode, CallMethodResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CallMethodResult::encodeBinary, CallMethodResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CallMethodResult::decodeBinary, CallMethodResult.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class CallRequest implements UaRequestMessage {
 
     public static CallRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        CallMethodRequest[] _methodsToCall = decoder.decodeArray("MethodsToCall", decoder::decodeSerializable, CallMethodRequest.class);
+        CallMethodRequest[] _methodsToCall = decoder.decodeArray("MethodsToCall", decoder::decodeSerializable, CallMethodRequest.class, CallMethodRequest[]::new);
+
+        return new CallRequest(_requestHeader, _methodsToCall);
+    }
+
+    public static void encodeBinary(CallRequest callRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(callRequest._requestHeader != null ? callRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("MethodsToCall", callRequest._methodsToCall, CallMethodRequest::encodeBinary);
+    }
+
+    public static CallRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        CallMethodRequest[] _methodsToCall = decoder.decodeStructureArray("MethodsToCall", CallMethodRequest::decodeBinary, CallMethodRequest[]::new);
 
         return new CallRequest(_requestHeader, _methodsToCall);
     }
 
     static {
-        DelegateRegistry.registerEncoder(CallRequest::encode, CallRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CallRequest::decode, CallRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CallRequest::encode, CallRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CallRequest::decode, CallRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CallRequest::encodeBinary, CallRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CallRequest::decodeBinary, CallRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class CallResponse implements UaResponseMessage {
 
     public static CallResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        CallMethodResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, CallMethodResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        CallMethodResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, CallMethodResult.class, CallMethodResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new CallResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(CallResponse callResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(callResponse._responseHeader != null ? callResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", callResponse._results, CallMethodResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", callResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static CallResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        CallMethodResult[] _results = decoder.decodeStructureArray("Results", CallMethodResult::decodeBinary, CallMethodResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new CallResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(CallResponse::encode, CallResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CallResponse::decode, CallResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CallResponse::encode, CallResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CallResponse::decode, CallResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CallResponse::encodeBinary, CallResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CallResponse::decodeBinary, CallResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -71,9 +73,23 @@ public class CancelRequest implements UaRequestMessage {
         return new CancelRequest(_requestHeader, _requestHandle);
     }
 
+    public static void encodeBinary(CancelRequest cancelRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(cancelRequest._requestHeader != null ? cancelRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("RequestHandle", cancelRequest._requestHandle);
+    }
+
+    public static CancelRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _requestHandle = decoder.decodeUInt32("RequestHandle");
+
+        return new CancelRequest(_requestHeader, _requestHandle);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CancelRequest::encode, CancelRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CancelRequest::decode, CancelRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CancelRequest::encode, CancelRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CancelRequest::decode, CancelRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CancelRequest::encodeBinary, CancelRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CancelRequest::decodeBinary, CancelRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -71,9 +73,23 @@ public class CancelResponse implements UaResponseMessage {
         return new CancelResponse(_responseHeader, _cancelCount);
     }
 
+    public static void encodeBinary(CancelResponse cancelResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(cancelResponse._responseHeader != null ? cancelResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32("CancelCount", cancelResponse._cancelCount);
+    }
+
+    public static CancelResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        UInteger _cancelCount = decoder.decodeUInt32("CancelCount");
+
+        return new CancelResponse(_responseHeader, _cancelCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CancelResponse::encode, CancelResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CancelResponse::decode, CancelResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CancelResponse::encode, CancelResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CancelResponse::decode, CancelResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CancelResponse::encodeBinary, CancelResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CancelResponse::decodeBinary, CancelResponse.class, BinaryEncodingId);
     }
 
 }
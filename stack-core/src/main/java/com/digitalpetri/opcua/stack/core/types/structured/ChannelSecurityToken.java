@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -86,9 +88,27 @@ public class ChannelSecurityToken implements UaStructure {
         return new ChannelSecurityToken(_channelId, _tokenId, _createdAt, _revisedLifetime);
     }
 
+    public static void encodeBinary(ChannelSecurityToken channelSecurityToken, BinaryEncoder encoder) {
+        encoder.encodeUInt32("ChannelId", channelSecurityToken._channelId);
+        encoder.encodeUInt32("TokenId", channelSecurityToken._tokenId);
+        encoder.encodeDateTime("CreatedAt", channelSecurityToken._createdAt);
+        encoder.encodeUInt32("RevisedLifetime", channelSecurityToken._revisedLifetime);
+    }
+
+    public static ChannelSecurityToken decodeBinary(BinaryDecoder decoder) {
+        UInteger _channelId = decoder.decodeUInt32("ChannelId");
+        UInteger _tokenId = decoder.decodeUInt32("TokenId");
+        DateTime _createdAt = decoder.decodeDateTime("CreatedAt");
+        UInteger _revisedLifetime = decoder.decodeUInt32("RevisedLifetime");
+
+        return new ChannelSecurityToken(_channelId, _tokenId, _createdAt, _revisedLifetime);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ChannelSecurityToken::encode, ChannelSecurityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ChannelSecurityToken::decode, ChannelSecurityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ChannelSecurityToken::encode, ChannelSecurityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ChannelSecurityToken::decode, ChannelSecurityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ChannelSecurityToken::encodeBinary, ChannelSecurityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ChannelSecurityToken::decodeBinary, ChannelSecurityToken.class, BinaryEncodingId);
     }
 
 }
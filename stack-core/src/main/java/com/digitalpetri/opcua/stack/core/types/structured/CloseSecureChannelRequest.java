@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class CloseSecureChannelRequest implements UaRequestMessage {
         return new CloseSecureChannelRequest(_requestHeader);
     }
 
+    public static void encodeBinary(CloseSecureChannelRequest closeSecureChannelRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(closeSecureChannelRequest._requestHeader != null ? closeSecureChannelRequest._requestHeader : new RequestHeader(), encoder);
+    }
+
+    public static CloseSecureChannelRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+
+        return new CloseSecureChannelRequest(_requestHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CloseSecureChannelRequest::encode, CloseSecureChannelRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CloseSecureChannelRequest::decode, CloseSecureChannelRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CloseSecureChannelRequest::encode, CloseSecureChannelRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CloseSecureChannelRequest::decode, CloseSecureChannelRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CloseSecureChannelRequest::encodeBinary, CloseSecureChannelRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CloseSecureChannelRequest::decodeBinary, CloseSecureChannelRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class CloseSecureChannelResponse implements UaResponseMessage {
         return new CloseSecureChannelResponse(_responseHeader);
     }
 
+    public static void encodeBinary(CloseSecureChannelResponse closeSecureChannelResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(closeSecureChannelResponse._responseHeader != null ? closeSecureChannelResponse._responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static CloseSecureChannelResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+
+        return new CloseSecureChannelResponse(_responseHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CloseSecureChannelResponse::encode, CloseSecureChannelResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CloseSecureChannelResponse::decode, CloseSecureChannelResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CloseSecureChannelResponse::encode, CloseSecureChannelResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CloseSecureChannelResponse::decode, CloseSecureChannelResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CloseSecureChannelResponse::encodeBinary, CloseSecureChannelResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CloseSecureChannelResponse::decodeBinary, CloseSecureChannelResponse.class, BinaryEncodingId);
     }
 
 }
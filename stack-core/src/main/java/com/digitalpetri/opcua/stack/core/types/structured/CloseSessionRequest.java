@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class CloseSessionRequest implements UaRequestMessage {
         return new CloseSessionRequest(_requestHeader, _deleteSubscriptions);
     }
 
+    public static void encodeBinary(CloseSessionRequest closeSessionRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(closeSessionRequest._requestHeader != null ? closeSessionRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean("DeleteSubscriptions", closeSessionRequest._deleteSubscriptions);
+    }
+
+    public static CloseSessionRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        Boolean _deleteSubscriptions = decoder.decodeBoolean("DeleteSubscriptions");
+
+        return new CloseSessionRequest(_requestHeader, _deleteSubscriptions);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CloseSessionRequest::encode, CloseSessionRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CloseSessionRequest::decode, CloseSessionRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CloseSessionRequest::encode, CloseSessionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CloseSessionRequest::decode, CloseSessionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CloseSessionRequest::encodeBinary, CloseSessionRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CloseSessionRequest::decodeBinary, CloseSessionRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class CloseSessionResponse implements UaResponseMessage {
         return new CloseSessionResponse(_responseHeader);
     }
 
+    public static void encodeBinary(CloseSessionResponse closeSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(closeSessionResponse._responseHeader != null ? closeSessionResponse._responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static CloseSessionResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+
+        return new CloseSessionResponse(_responseHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CloseSessionResponse::encode, CloseSessionResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CloseSessionResponse::decode, CloseSessionResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CloseSessionResponse::encode, CloseSessionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CloseSessionResponse::decode, CloseSessionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CloseSessionResponse::encodeBinary, CloseSessionResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CloseSessionResponse::decodeBinary, CloseSessionResponse.class, BinaryEncodingId);
     }
 
 }
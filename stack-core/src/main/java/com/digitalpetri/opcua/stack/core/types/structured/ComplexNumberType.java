@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class ComplexNumberType implements UaStructure {
         return new ComplexNumberType(_real, _imaginary);
     }
 
+    public static void encodeBinary(ComplexNumberType complexNumberType, BinaryEncoder encoder) {
+        encoder.encodeFloat("Real", complexNumberType._real);
+        encoder.encodeFloat("Imaginary", complexNumberType._imaginary);
+    }
+
+    public static ComplexNumberType decodeBinary(BinaryDecoder decoder) {
+        Float _real = decoder.decodeFloat("Real");
+        Float _imaginary = decoder.decodeFloat("Imaginary");
+
+        return new ComplexNumberType(_real, _imaginary);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ComplexNumberType::encode, ComplexNumberType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ComplexNumberType::decode, ComplexNumberType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ComplexNumberType::encode, ComplexNumberType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ComplexNumberType::decode, ComplexNumberType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ComplexNumberType::encodeBinary, ComplexNumberType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ComplexNumberType::decodeBinary, ComplexNumberType.class, BinaryEncodingId);
     }
 
 }
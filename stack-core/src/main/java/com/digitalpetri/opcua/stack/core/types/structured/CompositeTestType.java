@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -80,9 +82,23 @@ public class CompositeTestType implements UaStructure {
         return new CompositeTestType(_field1, _field2);
     }
 
+    public static void encodeBinary(CompositeTestType compositeTestType, BinaryEncoder encoder) {
+        ScalarTestType.encodeBinary(compositeTestType._field1 != null ? compositeTestType._field1 : new ScalarTestType(), encoder);
+        ArrayTestType.encodeBinary(compositeTestType._field2 != null ? compositeTestType._field2 : new ArrayTestType(), encoder);
+    }
+
+    public static CompositeTestType decodeBinary(BinaryDecoder decoder) {
+        ScalarTestType _field1 = ScalarTestType.decodeBinary(decoder);
+        ArrayTestType _field2 = ArrayTestType.decodeBinary(decoder);
+
+        return new CompositeTestType(_field1, _field2);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CompositeTestType::encode, CompositeTestType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CompositeTestType::decode, CompositeTestType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CompositeTestType::encode, CompositeTestType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CompositeTestType::decode, CompositeTestType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CompositeTestType::encodeBinary, CompositeTestType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CompositeTestType::decodeBinary, CompositeTestType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -58,14 +60,26 @@ public class ContentFilter implements UaStructure {
     }
 
     public static ContentFilter decode(UaDecoder decoder) {
-        ContentFilterElement[] _elements = decoder.decodeArray("Elements", decoder::decodeSerializable, ContentFilterElement.class);
+        ContentFilterElement[] _elements = decoder.decodeArray("Elements", decoder::decodeSerializable, ContentFilterElement.class, ContentFilterElement[]::new);
+
+        return new ContentFilter(_elements);
+    }
+
+    public static void encodeBinary(ContentFilter contentFilter, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("Elements", contentFilter._elements, ContentFilterElement::encodeBinary);
+    }
+
+    public static ContentFilter decodeBinary(BinaryDecoder decoder) {
+        ContentFilterElement[] _elements = decoder.decodeStructureArray("Elements", ContentFilterElement::decodeBinary, ContentFilterElement[]::new);
 
         return new ContentFilter(_elements);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ContentFilter::encode, ContentFilter.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ContentFilter::decode, ContentFilter.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ContentFilter::encode, ContentFilter.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ContentFilter::decode, ContentFilter.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ContentFilter::encodeBinary, ContentFilter.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ContentFilter::decodeBinary, ContentFilter.class, BinaryEncodingId);
     }
 
 }
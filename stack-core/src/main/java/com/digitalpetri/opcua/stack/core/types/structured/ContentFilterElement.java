@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -67,14 +69,28 @@ public class ContentFilterElement implements UaStructure {
 
     public static ContentFilterElement decode(UaDecoder decoder) {
         FilterOperator _filterOperator = decoder.decodeEnumeration("FilterOperator", FilterOperator.class);
-        ExtensionObject[] _filterOperands = decoder.decodeArray("FilterOperands", decoder::decodeExtensionObject, ExtensionObject.class);
+        ExtensionObject[] _filterOperands = decoder.decodeArray("FilterOperands", decoder::decodeExtensionObject, ExtensionObject[]::new);
+
+        return new ContentFilterElement(_filterOperator, _filterOperands);
+    }
+
+    public static void encodeBinary(ContentFilterElement contentFilterElement, BinaryEncoder encoder) {
+        encoder.encodeEnumeration("FilterOperator", contentFilterElement._filterOperator);
+        encoder.encodeArray("FilterOperands", contentFilterElement._filterOperands, encoder::encodeExtensionObject);
+    }
+
+    public static ContentFilterElement decodeBinary(BinaryDecoder decoder) {
+        FilterOperator _filterOperator = FilterOperator.decode(decoder);
+        ExtensionObject[] _filterOperands = decoder.decodeArray("FilterOperands", decoder::decodeExtensionObject, ExtensionObject[]::new);
 
         return new ContentFilterElement(_filterOperator, _filterOperands);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ContentFilterElement::encode, ContentFilterElement.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ContentFilterElement::decode, ContentFilterElement.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ContentFilterElement::encode, ContentFilterElement.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ContentFilterElement::decode, ContentFilterElement.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ContentFilterElement::encodeBinary, ContentFilterElement.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterElement::decodeBinary, ContentFilterElement.class, BinaryEncodingId);
     }
 
 }
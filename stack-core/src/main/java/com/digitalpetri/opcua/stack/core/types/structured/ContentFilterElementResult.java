@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class ContentFilterElementResult implements UaStructure {
 
     public static ContentFilterElementResult decode(UaDecoder decoder) {
         StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
-        StatusCode[] _operandStatusCodes = decoder.decodeArray("OperandStatusCodes", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _operandDiagnosticInfos = decoder.decodeArray("OperandDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _operandStatusCodes = decoder.decodeArray("OperandStatusCodes", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _operandDiagnosticInfos = decoder.decodeArray("OperandDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new ContentFilterElementResult(_statusCode, _operandStatusCodes, _operandDiagnosticInfos);
+    }
+
+    public static void encodeBinary(ContentFilterElementResult contentFilterElementResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", contentFilterElementResult._statusCode);
+        encoder.encodeArray("OperandStatusCodes", contentFilterElementResult._operandStatusCodes, encoder::encodeStatusCode);
+        encoder.encodeArray("OperandDiagnosticInfos", contentFilterElementResult._operandDiagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static ContentFilterElementResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        StatusCode[] _operandStatusCodes = decoder.decodeArray("OperandStatusCodes", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _operandDiagnosticInfos = decoder.decodeArray("OperandDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new ContentFilterElementResult(_statusCode, _operandStatusCodes, _operandDiagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ContentFilterElementResult::encode, ContentFilterElementResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ContentFilterElementResult::decode, ContentFilterElementResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ContentFilterElementResult::encode, ContentFilterElementResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ContentFilterElementResult::decode, ContentFilterElementResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ContentFilterElementResult::encodeBinary, ContentFilterElementResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterElementResult::decodeBinary, ContentFilterElementResult.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -65,15 +67,29 @@ public class ContentFilterResult implements UaStructure {
     }
 
     public static ContentFilterResult decode(UaDecoder decoder) {
-        ContentFilterElementResult[] _elementResults = decoder.decodeArray("ElementResults", decoder::decodeSerializable, ContentFilterElementResult.class);
-        DiagnosticInfo[] _elementDiagnosticInfos = decoder.decodeArray("ElementDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        ContentFilterElementResult[] _elementResults = decoder.decodeArray("ElementResults", decoder::decodeSerializable, ContentFilterElementResult.class, ContentFilterElementResult[]::new);
+        DiagnosticInfo[] _elementDiagnosticInfos = decoder.decodeArray("ElementDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new ContentFilterResult(_elementResults, _elementDiagnosticInfos);
+    }
+
+    public static void encodeBinary(ContentFilterResult contentFilterResult, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("ElementResults", contentFilterResult._elementResults, ContentFilterElementResult::encodeBinary);
+        encoder.encodeArray("ElementDiagnosticInfos", contentFilterResult._elementDiagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static ContentFilterResult decodeBinary(BinaryDecoder decoder) {
+        ContentFilterElementResult[] _elementResults = decoder.decodeStructureArray("ElementResults", ContentFilterElementResult::decodeBinary, ContentFilterElementResult[]::new);
+        DiagnosticInfo[] _elementDiagnosticInfos = decoder.decodeArray("ElementDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new ContentFilterResult(_elementResults, _elementDiagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ContentFilterResult::encode, ContentFilterResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ContentFilterResult::decode, ContentFilterResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ContentFilterResult::encode, ContentFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ContentFilterResult::decode, ContentFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ContentFilterResult::encodeBinary, ContentFilterResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ContentFilterResult::decodeBinary, ContentFilterResult.class, BinaryEncodingId);
     }
 
 }
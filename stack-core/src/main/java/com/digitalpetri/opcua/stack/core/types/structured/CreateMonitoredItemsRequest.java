@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -81,14 +83,32 @@ public class CreateMonitoredItemsRequest implements UaRequestMessage {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
         TimestampsToReturn _timestampsToReturn = decoder.decodeEnumeration("TimestampsToReturn", TimestampsToReturn.class);
-        MonitoredItemCreateRequest[] _itemsToCreate = decoder.decodeArray("ItemsToCreate", decoder::decodeSerializable, MonitoredItemCreateRequest.class);
+        MonitoredItemCreateRequest[] _itemsToCreate = decoder.decodeArray("ItemsToCreate", decoder::decodeSerializable, MonitoredItemCreateRequest.class, MonitoredItemCreateRequest[]::new);
+
+        return new CreateMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToCreate);
+    }
+
+    public static void encodeBinary(CreateMonitoredItemsRequest createMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(createMonitoredItemsRequest._requestHeader != null ? createMonitoredItemsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", createMonitoredItemsRequest._subscriptionId);
+        encoder.encodeEnumeration("TimestampsToReturn", createMonitoredItemsRequest._timestampsToReturn);
+        encoder.encodeStructureArray("ItemsToCreate", createMonitoredItemsRequest._itemsToCreate, MonitoredItemCreateRequest::encodeBinary);
+    }
+
+    public static CreateMonitoredItemsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        MonitoredItemCreateRequest[] _itemsToCreate = decoder.decodeStructureArray("ItemsToCreate", MonitoredItemCreateRequest::decodeBinary, MonitoredItemCreateRequest[]::new);
 
         return new CreateMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToCreate);
     }
 
     static {
-        DelegateRegistry.registerEncoder(CreateMonitoredItemsRequest::encode, CreateMonitoredItemsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CreateMonitoredItemsRequest::decode, CreateMonitoredItemsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CreateMonitoredItemsRequest::encode, CreateMonitoredItemsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CreateMonitoredItemsRequest::decode, CreateMonitoredItemsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CreateMonitoredItemsRequest::encodeBinary, CreateMonitoredItemsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CreateMonitoredItemsRequest::decodeBinary, CreateMonitoredItemsRequest.class, BinaryEncodingId);
     }
 
 }
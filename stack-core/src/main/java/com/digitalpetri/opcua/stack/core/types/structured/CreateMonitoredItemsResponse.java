@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class CreateMonitoredItemsResponse implements UaResponseMessage {
 
     public static CreateMonitoredItemsResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        MonitoredItemCreateResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, MonitoredItemCreateResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        MonitoredItemCreateResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, MonitoredItemCreateResult.class, MonitoredItemCreateResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new CreateMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(CreateMonitoredItemsResponse createMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(createMonitoredItemsResponse._responseHeader != null ? createMonitoredItemsResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", createMonitoredItemsResponse._results, MonitoredItemCreateResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", createMonitoredItemsResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static CreateMonitoredItemsResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        MonitoredItemCreateResult[] _results = decoder.decodeStructureArray("Results", MonitoredItemCreateResult::decodeBinary, MonitoredItemCreateResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new CreateMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(CreateMonitoredItemsResponse::encode, CreateMonitoredItemsResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CreateMonitoredItemsResponse::decode, CreateMonitoredItemsResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CreateMonitoredItemsResponse::encode, CreateMonitoredItemsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CreateMonitoredItemsResponse::decode, CreateMonitoredItemsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CreateMonitoredItemsResponse::encodeBinary, CreateMonitoredItemsResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CreateMonitoredItemsResponse::decodeBinary, CreateMonitoredItemsResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -121,9 +123,37 @@ public class CreateSessionRequest implements UaRequestMessage {
         return new CreateSessionRequest(_requestHeader, _clientDescription, _serverUri, _endpointUrl, _sessionName, _clientNonce, _clientCertificate, _requestedSessionTimeout, _maxResponseMessageSize);
     }
 
+    public static void encodeBinary(CreateSessionRequest createSessionRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(createSessionRequest._requestHeader != null ? createSessionRequest._requestHeader : new RequestHeader(), encoder);
+        ApplicationDescription.encodeBinary(createSessionRequest._clientDescription != null ? createSessionRequest._clientDescription : new ApplicationDescription(), encoder);
+        encoder.encodeString("ServerUri", createSessionRequest._serverUri);
+        encoder.encodeString("EndpointUrl", createSessionRequest._endpointUrl);
+        encoder.encodeString("SessionName", createSessionRequest._sessionName);
+        encoder.encodeByteString("ClientNonce", createSessionRequest._clientNonce);
+        encoder.encodeByteString("ClientCertificate", createSessionRequest._clientCertificate);
+        encoder.encodeDouble("RequestedSessionTimeout", createSessionRequest._requestedSessionTimeout);
+        encoder.encodeUInt32("MaxResponseMessageSize", createSessionRequest._maxResponseMessageSize);
+    }
+
+    public static CreateSessionRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        ApplicationDescription _clientDescription = ApplicationDescription.decodeBinary(decoder);
+        String _serverUri = decoder.decodeString("ServerUri");
+        String _endpointUrl = decoder.decodeString("EndpointUrl");
+        String _sessionName = decoder.decodeString("SessionName");
+        ByteString _clientNonce = decoder.decodeByteString("ClientNonce");
+        ByteString _clientCertificate = decoder.decodeByteString("ClientCertificate");
+        Double _requestedSessionTimeout = decoder.decodeDouble("RequestedSessionTimeout");
+        UInteger _maxResponseMessageSize = decoder.decodeUInt32("MaxResponseMessageSize");
+
+        return new CreateSessionRequest(_requestHeader, _clientDescription, _serverUri, _endpointUrl, _sessionName, _clientNonce, _clientCertificate, _requestedSessionTimeout, _maxResponseMessageSize);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CreateSessionRequest::encode, CreateSessionRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CreateSessionRequest::decode, CreateSessionRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CreateSessionRequest::encode, CreateSessionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CreateSessionRequest::decode, CreateSessionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CreateSessionRequest::encodeBinary, CreateSessionRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CreateSessionRequest::decodeBinary, CreateSessionRequest.class, BinaryEncodingId);
     }
 
 }
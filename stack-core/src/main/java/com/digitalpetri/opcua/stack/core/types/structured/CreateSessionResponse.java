@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -120,17 +122,47 @@ public class CreateSessionResponse implements UaResponseMessage {
         Double _revisedSessionTimeout = decoder.decodeDouble("RevisedSessionTimeout");
         ByteString _serverNonce = decoder.decodeByteString("ServerNonce");
         ByteString _serverCertificate = decoder.decodeByteString("ServerCertificate");
-        EndpointDescription[] _serverEndpoints = decoder.decodeArray("ServerEndpoints", decoder::decodeSerializable, EndpointDescription.class);
-        SignedSoftwareCertificate[] _serverSoftwareCertificates = decoder.decodeArray("ServerSoftwareCertificates", decoder::decodeSerializable, SignedSoftwareCertificate.class);
+        EndpointDescription[] _serverEndpoints = decoder.decodeArray("ServerEndpoints", decoder::decodeSerializable, EndpointDescription.class, EndpointDescription[]::new);
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = decoder.decodeArray("ServerSoftwareCertificates", decoder::decodeSerializable, SignedSoftwareCertificate.class, SignedSoftwareCertificate[]::new);
         SignatureData _serverSignature = decoder.decodeSerializable("ServerSignature", SignatureData.class);
         UInteger _maxRequestMessageSize = decoder.decodeUInt32("MaxRequestMessageSize");
 
         return new CreateSessionResponse(_responseHeader, _sessionId, _authenticationToken, _revisedSessionTimeout, _serverNonce, _serverCertificate, _serverEndpoints, _serverSoftwareCertificates, _serverSignature, _maxRequestMessageSize);
     }
 
+    public static void encodeBinary(CreateSessionResponse createSessionResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(createSessionResponse._responseHeader != null ? createSessionResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeNodeId("SessionId", createSessionResponse._sessionId);
+        encoder.encodeNodeId("AuthenticationToken", createSessionResponse._authenticationToken);
+        encoder.encodeDouble("RevisedSessionTimeout", createSessionResponse._revisedSessionTimeout);
+        encoder.encodeByteString("ServerNonce", createSessionResponse._serverNonce);
+        encoder.encodeByteString("ServerCertificate", createSessionResponse._serverCertificate);
+        encoder.encodeStructureArray("ServerEndpoints", createSessionResponse._serverEndpoints, EndpointDescription::encodeBinary);
+        encoder.encodeStructureArray("ServerSoftwareCertificates", createSessionResponse._serverSoftwareCertificates, SignedSoftwareCertificate::encodeBinary);
+        SignatureData.encodeBinary(createSessionResponse._serverSignature != null ? createSessionResponse._serverSignature : new SignatureData(), encoder);
+        encoder.encodeUInt32("MaxRequestMessageSize", createSessionResponse._maxRequestMessageSize);
+    }
+
+    public static CreateSessionResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        NodeId _sessionId = decoder.decodeNodeId("SessionId");
+        NodeId _authenticationToken = decoder.decodeNodeId("AuthenticationToken");
+        Double _revisedSessionTimeout = decoder.decodeDouble("RevisedSessionTimeout");
+        ByteString _serverNonce = decoder.decodeByteString("ServerNonce");
+        ByteString _serverCertificate = decoder.decodeByteString("ServerCertificate");
+        EndpointDescription[] _serverEndpoints = decoder.decodeStructureArray("ServerEndpoints", EndpointDescription::decodeBinary, EndpointDescription[]::new);
+        SignedSoftwareCertificate[] _serverSoftwareCertificates = decoder.decodeStructureArray("ServerSoftwareCertificates", SignedSoftwareCertificate::decodeBinary, SignedSoftwareCertificate[]::new);
+        SignatureData _serverSignature = SignatureData.decodeBinary(decoder);
+        UInteger _maxRequestMessageSize = decoder.decodeUInt32("MaxRequestMessageSize");
+
+        return new CreateSessionResponse(_responseHeader, _sessionId, _authenticationToken, _revisedSessionTimeout, _serverNonce, _serverCertificate, _serverEndpoints, _serverSoftwareCertificates, _serverSignature, _maxRequestMessageSize);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CreateSessionResponse::encode, CreateSessionResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CreateSessionResponse::decode, CreateSessionResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CreateSessionResponse::encode, CreateSessionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CreateSessionResponse::decode, CreateSessionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CreateSessionResponse::encodeBinary, CreateSessionResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CreateSessionResponse::decodeBinary, CreateSessionResponse.class, BinaryEncodingId);
     }
 
 }
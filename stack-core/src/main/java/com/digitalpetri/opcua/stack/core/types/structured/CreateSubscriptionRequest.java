@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
@@ -107,9 +109,33 @@ public class CreateSubscriptionRequest implements UaRequestMessage {
         return new CreateSubscriptionRequest(_requestHeader, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _publishingEnabled, _priority);
     }
 
+    public static void encodeBinary(CreateSubscriptionRequest createSubscriptionRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(createSubscriptionRequest._requestHeader != null ? createSubscriptionRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeDouble("RequestedPublishingInterval", createSubscriptionRequest._requestedPublishingInterval);
+        encoder.encodeUInt32("RequestedLifetimeCount", createSubscriptionRequest._requestedLifetimeCount);
+        encoder.encodeUInt32("RequestedMaxKeepAliveCount", createSubscriptionRequest._requestedMaxKeepAliveCount);
+        encoder.encodeUInt32("MaxNotificationsPerPublish", createSubscriptionRequest._maxNotificationsPerPublish);
+        encoder.encodeBoolean("PublishingEnabled", createSubscriptionRequest._publishingEnabled);
+        encoder.encodeByte("Priority", createSubscriptionRequest._priority);
+    }
+
+    public static CreateSubscriptionRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        Double _requestedPublishingInterval = decoder.decodeDouble("RequestedPublishingInterval");
+        UInteger _requestedLifetimeCount = decoder.decodeUInt32("RequestedLifetimeCount");
+        UInteger _requestedMaxKeepAliveCount = decoder.decodeUInt32("RequestedMaxKeepAliveCount");
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32("MaxNotificationsPerPublish");
+        Boolean _publishingEnabled = decoder.decodeBoolean("PublishingEnabled");
+        UByte _priority = decoder.decodeByte("Priority");
+
+        return new CreateSubscriptionRequest(_requestHeader, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _publishingEnabled, _priority);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CreateSubscriptionRequest::encode, CreateSubscriptionRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CreateSubscriptionRequest::decode, CreateSubscriptionRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CreateSubscriptionRequest::encode, CreateSubscriptionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CreateSubscriptionRequest::decode, CreateSubscriptionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CreateSubscriptionRequest::encodeBinary, CreateSubscriptionRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CreateSubscriptionRequest::decodeBinary, CreateSubscriptionRequest.class, BinaryEncodingId);
     }
 
 }
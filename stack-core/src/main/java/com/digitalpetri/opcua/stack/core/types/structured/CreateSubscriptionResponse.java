@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -92,9 +94,29 @@ public class CreateSubscriptionResponse implements UaResponseMessage {
         return new CreateSubscriptionResponse(_responseHeader, _subscriptionId, _revisedPublishingInterval, _revisedLifetimeCount, _revisedMaxKeepAliveCount);
     }
 
+    public static void encodeBinary(CreateSubscriptionResponse createSubscriptionResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(createSubscriptionResponse._responseHeader != null ? createSubscriptionResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", createSubscriptionResponse._subscriptionId);
+        encoder.encodeDouble("RevisedPublishingInterval", createSubscriptionResponse._revisedPublishingInterval);
+        encoder.encodeUInt32("RevisedLifetimeCount", createSubscriptionResponse._revisedLifetimeCount);
+        encoder.encodeUInt32("RevisedMaxKeepAliveCount", createSubscriptionResponse._revisedMaxKeepAliveCount);
+    }
+
+    public static CreateSubscriptionResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        Double _revisedPublishingInterval = decoder.decodeDouble("RevisedPublishingInterval");
+        UInteger _revisedLifetimeCount = decoder.decodeUInt32("RevisedLifetimeCount");
+        UInteger _revisedMaxKeepAliveCount = decoder.decodeUInt32("RevisedMaxKeepAliveCount");
+
+        return new CreateSubscriptionResponse(_responseHeader, _subscriptionId, _revisedPublishingInterval, _revisedLifetimeCount, _revisedMaxKeepAliveCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(CreateSubscriptionResponse::encode, CreateSubscriptionResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(CreateSubscriptionResponse::decode, CreateSubscriptionResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(CreateSubscriptionResponse::encode, CreateSubscriptionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(CreateSubscriptionResponse::decode, CreateSubscriptionResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(CreateSubscriptionResponse::encodeBinary, CreateSubscriptionResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(CreateSubscriptionResponse::decodeBinary, CreateSubscriptionResponse.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -80,9 +82,25 @@ public class DataChangeFilter extends MonitoringFilter {
         return new DataChangeFilter(_trigger, _deadbandType, _deadbandValue);
     }
 
+    public static void encodeBinary(DataChangeFilter dataChangeFilter, BinaryEncoder encoder) {
+        encoder.encodeEnumeration("Trigger", dataChangeFilter._trigger);
+        encoder.encodeUInt32("DeadbandType", dataChangeFilter._deadbandType);
+        encoder.encodeDouble("DeadbandValue", dataChangeFilter._deadbandValue);
+    }
+
+    public static DataChangeFilter decodeBinary(BinaryDecoder decoder) {
+        DataChangeTrigger _trigger = DataChangeTrigger.decode(decoder);
+        UInteger _deadbandType = decoder.decodeUInt32("DeadbandType");
+        Double _deadbandValue = decoder.decodeDouble("DeadbandValue");
+
+        return new DataChangeFilter(_trigger, _deadbandType, _deadbandValue);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DataChangeFilter::encode, DataChangeFilter.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DataChangeFilter::decode, DataChangeFilter.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DataChangeFilter::encode, DataChangeFilter.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DataChangeFilter::decode, DataChangeFilter.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DataChangeFilter::encodeBinary, DataChangeFilter.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DataChangeFilter::decodeBinary, DataChangeFilter.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -66,15 +68,29 @@ public class DataChangeNotification extends NotificationData {
     }
 
     public static DataChangeNotification decode(UaDecoder decoder) {
-        MonitoredItemNotification[] _monitoredItems = decoder.decodeArray("MonitoredItems", decoder::decodeSerializable, MonitoredItemNotification.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        MonitoredItemNotification[] _monitoredItems = decoder.decodeArray("MonitoredItems", decoder::decodeSerializable, MonitoredItemNotification.class, MonitoredItemNotification[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new DataChangeNotification(_monitoredItems, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(DataChangeNotification dataChangeNotification, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("MonitoredItems", dataChangeNotification._monitoredItems, MonitoredItemNotification::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", dataChangeNotification._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static DataChangeNotification decodeBinary(BinaryDecoder decoder) {
+        MonitoredItemNotification[] _monitoredItems = decoder.decodeStructureArray("MonitoredItems", MonitoredItemNotification::decodeBinary, MonitoredItemNotification[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new DataChangeNotification(_monitoredItems, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DataChangeNotification::encode, DataChangeNotification.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DataChangeNotification::decode, DataChangeNotification.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DataChangeNotification::encode, DataChangeNotification.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DataChangeNotification::decode, DataChangeNotification.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DataChangeNotification::encodeBinary, DataChangeNotification.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DataChangeNotification::decodeBinary, DataChangeNotification.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -76,9 +78,31 @@ public class DataTypeAttributes extends NodeAttributes {
         return new DataTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
     }
 
+    public static void encodeBinary(DataTypeAttributes dataTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", dataTypeAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", dataTypeAttributes._displayName);
+        encoder.encodeLocalizedText("Description", dataTypeAttributes._description);
+        encoder.encodeUInt32("WriteMask", dataTypeAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", dataTypeAttributes._userWriteMask);
+        encoder.encodeBoolean("IsAbstract", dataTypeAttributes._isAbstract);
+    }
+
+    public static DataTypeAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+
+        return new DataTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DataTypeAttributes::encode, DataTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DataTypeAttributes::decode, DataTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DataTypeAttributes::encode, DataTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DataTypeAttributes::decode, DataTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DataTypeAttributes::encodeBinary, DataTypeAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DataTypeAttributes::decodeBinary, DataTypeAttributes.class, BinaryEncodingId);
     }
 
 }
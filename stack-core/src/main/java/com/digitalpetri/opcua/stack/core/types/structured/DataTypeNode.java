@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -78,15 +80,43 @@ public class DataTypeNode extends TypeNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+
+        return new DataTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
+    }
+
+    public static void encodeBinary(DataTypeNode dataTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", dataTypeNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", dataTypeNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", dataTypeNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", dataTypeNode._displayName);
+        encoder.encodeLocalizedText("Description", dataTypeNode._description);
+        encoder.encodeUInt32("WriteMask", dataTypeNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", dataTypeNode._userWriteMask);
+        encoder.encodeStructureArray("References", dataTypeNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeBoolean("IsAbstract", dataTypeNode._isAbstract);
+    }
+
+    public static DataTypeNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
         Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
 
         return new DataTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DataTypeNode::encode, DataTypeNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DataTypeNode::decode, DataTypeNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DataTypeNode::encode, DataTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DataTypeNode::decode, DataTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DataTypeNode::encodeBinary, DataTypeNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DataTypeNode::decodeBinary, DataTypeNode.class, BinaryEncodingId);
     }
 
 }
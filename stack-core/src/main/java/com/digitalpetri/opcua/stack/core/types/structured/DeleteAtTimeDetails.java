@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -62,14 +64,28 @@ public class DeleteAtTimeDetails extends HistoryUpdateDetails {
 
     public static DeleteAtTimeDetails decode(UaDecoder decoder) {
         NodeId _nodeId = decoder.decodeNodeId("NodeId");
-        DateTime[] _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime.class);
+        DateTime[] _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime[]::new);
+
+        return new DeleteAtTimeDetails(_nodeId, _reqTimes);
+    }
+
+    public static void encodeBinary(DeleteAtTimeDetails deleteAtTimeDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", deleteAtTimeDetails._nodeId);
+        encoder.encodeArray("ReqTimes", deleteAtTimeDetails._reqTimes, encoder::encodeDateTime);
+    }
+
+    public static DeleteAtTimeDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        DateTime[] _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime[]::new);
 
         return new DeleteAtTimeDetails(_nodeId, _reqTimes);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteAtTimeDetails::encode, DeleteAtTimeDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteAtTimeDetails::decode, DeleteAtTimeDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteAtTimeDetails::encode, DeleteAtTimeDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteAtTimeDetails::decode, DeleteAtTimeDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteAtTimeDetails::encodeBinary, DeleteAtTimeDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteAtTimeDetails::decodeBinary, DeleteAtTimeDetails.class, BinaryEncodingId);
     }
 
 }
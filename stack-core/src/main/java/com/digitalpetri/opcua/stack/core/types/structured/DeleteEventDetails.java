@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -62,14 +64,28 @@ public class DeleteEventDetails extends HistoryUpdateDetails {
 
     public static DeleteEventDetails decode(UaDecoder decoder) {
         NodeId _nodeId = decoder.decodeNodeId("NodeId");
-        ByteString[] _eventIds = decoder.decodeArray("EventIds", decoder::decodeByteString, ByteString.class);
+        ByteString[] _eventIds = decoder.decodeArray("EventIds", decoder::decodeByteString, ByteString[]::new);
+
+        return new DeleteEventDetails(_nodeId, _eventIds);
+    }
+
+    public static void encodeBinary(DeleteEventDetails deleteEventDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", deleteEventDetails._nodeId);
+        encoder.encodeArray("EventIds", deleteEventDetails._eventIds, encoder::encodeByteString);
+    }
+
+    public static DeleteEventDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        ByteString[] _eventIds = decoder.decodeArray("EventIds", decoder::decodeByteString, ByteString[]::new);
 
         return new DeleteEventDetails(_nodeId, _eventIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteEventDetails::encode, DeleteEventDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteEventDetails::decode, DeleteEventDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteEventDetails::encode, DeleteEventDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteEventDetails::decode, DeleteEventDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteEventDetails::encodeBinary, DeleteEventDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteEventDetails::decodeBinary, DeleteEventDetails.class, BinaryEncodingId);
     }
 
 }
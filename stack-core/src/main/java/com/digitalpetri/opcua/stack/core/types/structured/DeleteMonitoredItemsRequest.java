@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -73,14 +75,30 @@ public class DeleteMonitoredItemsRequest implements UaRequestMessage {
     public static DeleteMonitoredItemsRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
-        UInteger[] _monitoredItemIds = decoder.decodeArray("MonitoredItemIds", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _monitoredItemIds = decoder.decodeArray("MonitoredItemIds", decoder::decodeUInt32, UInteger[]::new);
+
+        return new DeleteMonitoredItemsRequest(_requestHeader, _subscriptionId, _monitoredItemIds);
+    }
+
+    public static void encodeBinary(DeleteMonitoredItemsRequest deleteMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(deleteMonitoredItemsRequest._requestHeader != null ? deleteMonitoredItemsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", deleteMonitoredItemsRequest._subscriptionId);
+        encoder.encodeArray("MonitoredItemIds", deleteMonitoredItemsRequest._monitoredItemIds, encoder::encodeUInt32);
+    }
+
+    public static DeleteMonitoredItemsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        UInteger[] _monitoredItemIds = decoder.decodeArray("MonitoredItemIds", decoder::decodeUInt32, UInteger[]::new);
 
         return new DeleteMonitoredItemsRequest(_requestHeader, _subscriptionId, _monitoredItemIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteMonitoredItemsRequest::encode, DeleteMonitoredItemsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteMonitoredItemsRequest::decode, DeleteMonitoredItemsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteMonitoredItemsRequest::encode, DeleteMonitoredItemsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteMonitoredItemsRequest::decode, DeleteMonitoredItemsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteMonitoredItemsRequest::encodeBinary, DeleteMonitoredItemsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteMonitoredItemsRequest::decodeBinary, DeleteMonitoredItemsRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class DeleteMonitoredItemsResponse implements UaResponseMessage {
 
     public static DeleteMonitoredItemsResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new DeleteMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(DeleteMonitoredItemsResponse deleteMonitoredItemsResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(deleteMonitoredItemsResponse._responseHeader != null ? deleteMonitoredItemsResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", deleteMonitoredItemsResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", deleteMonitoredItemsResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static DeleteMonitoredItemsResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new DeleteMonitoredItemsResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteMonitoredItemsResponse::encode, DeleteMonitoredItemsResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteMonitoredItemsResponse::decode, DeleteMonitoredItemsResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteMonitoredItemsResponse::encode, DeleteMonitoredItemsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteMonitoredItemsResponse::decode, DeleteMonitoredItemsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteMonitoredItemsResponse::encodeBinary, DeleteMonitoredItemsResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteMonitoredItemsResponse::decodeBinary, DeleteMonitoredItemsResponse.class, BinaryEncodingId);
     }
 
 }
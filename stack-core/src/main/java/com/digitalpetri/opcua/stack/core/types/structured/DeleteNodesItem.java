@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class DeleteNodesItem implements UaStructure {
         return new DeleteNodesItem(_nodeId, _deleteTargetReferences);
     }
 
+    public static void encodeBinary(DeleteNodesItem deleteNodesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", deleteNodesItem._nodeId);
+        encoder.encodeBoolean("DeleteTargetReferences", deleteNodesItem._deleteTargetReferences);
+    }
+
+    public static DeleteNodesItem decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        Boolean _deleteTargetReferences = decoder.decodeBoolean("DeleteTargetReferences");
+
+        return new DeleteNodesItem(_nodeId, _deleteTargetReferences);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DeleteNodesItem::encode, DeleteNodesItem.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteNodesItem::decode, DeleteNodesItem.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteNodesItem::encode, DeleteNodesItem.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteNodesItem::decode, DeleteNodesItem.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteNodesItem::encodeBinary, DeleteNodesItem.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteNodesItem::decodeBinary, DeleteNodesItem.class, BinaryEncodingId);
     }
 
 }
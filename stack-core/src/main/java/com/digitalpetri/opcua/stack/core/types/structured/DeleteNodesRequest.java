@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class DeleteNodesRequest implements UaRequestMessage {
 
     public static DeleteNodesRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        DeleteNodesItem[] _nodesToDelete = decoder.decodeArray("NodesToDelete", decoder::decodeSerializable, DeleteNodesItem.class);
+        DeleteNodesItem[] _nodesToDelete = decoder.decodeArray("NodesToDelete", decoder::decodeSerializable, DeleteNodesItem.class, DeleteNodesItem[]::new);
+
+        return new DeleteNodesRequest(_requestHeader, _nodesToDelete);
+    }
+
+    public static void encodeBinary(DeleteNodesRequest deleteNodesRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(deleteNodesRequest._requestHeader != null ? deleteNodesRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("NodesToDelete", deleteNodesRequest._nodesToDelete, DeleteNodesItem::encodeBinary);
+    }
+
+    public static DeleteNodesRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        DeleteNodesItem[] _nodesToDelete = decoder.decodeStructureArray("NodesToDelete", DeleteNodesItem::decodeBinary, DeleteNodesItem[]::new);
 
         return new DeleteNodesRequest(_requestHeader, _nodesToDelete);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteNodesRequest::encode, DeleteNodesRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteNodesRequest::decode, DeleteNodesRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteNodesRequest::encode, DeleteNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteNodesRequest::decode, DeleteNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteNodesRequest::encodeBinary, DeleteNodesRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteNodesRequest::decodeBinary, DeleteNodesRequest.class, BinaryEncodingId);
     }
 
 }
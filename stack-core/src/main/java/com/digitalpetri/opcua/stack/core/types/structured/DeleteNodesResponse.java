@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class DeleteNodesResponse implements UaResponseMessage {
 
     public static DeleteNodesResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new DeleteNodesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(DeleteNodesResponse deleteNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(deleteNodesResponse._responseHeader != null ? deleteNodesResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", deleteNodesResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", deleteNodesResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static DeleteNodesResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new DeleteNodesResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteNodesResponse::encode, DeleteNodesResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteNodesResponse::decode, DeleteNodesResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteNodesResponse::encode, DeleteNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteNodesResponse::decode, DeleteNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteNodesResponse::encodeBinary, DeleteNodesResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteNodesResponse::decodeBinary, DeleteNodesResponse.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -81,9 +83,27 @@ public class DeleteRawModifiedDetails extends HistoryUpdateDetails {
         return new DeleteRawModifiedDetails(_nodeId, _isDeleteModified, _startTime, _endTime);
     }
 
+    public static void encodeBinary(DeleteRawModifiedDetails deleteRawModifiedDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", deleteRawModifiedDetails._nodeId);
+        encoder.encodeBoolean("IsDeleteModified", deleteRawModifiedDetails._isDeleteModified);
+        encoder.encodeDateTime("StartTime", deleteRawModifiedDetails._startTime);
+        encoder.encodeDateTime("EndTime", deleteRawModifiedDetails._endTime);
+    }
+
+    public static DeleteRawModifiedDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        Boolean _isDeleteModified = decoder.decodeBoolean("IsDeleteModified");
+        DateTime _startTime = decoder.decodeDateTime("StartTime");
+        DateTime _endTime = decoder.decodeDateTime("EndTime");
+
+        return new DeleteRawModifiedDetails(_nodeId, _isDeleteModified, _startTime, _endTime);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DeleteRawModifiedDetails::encode, DeleteRawModifiedDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteRawModifiedDetails::decode, DeleteRawModifiedDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteRawModifiedDetails::encode, DeleteRawModifiedDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteRawModifiedDetails::decode, DeleteRawModifiedDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteRawModifiedDetails::encodeBinary, DeleteRawModifiedDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteRawModifiedDetails::decodeBinary, DeleteRawModifiedDetails.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -92,9 +94,29 @@ public class DeleteReferencesItem implements UaStructure {
         return new DeleteReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetNodeId, _deleteBidirectional);
     }
 
+    public static void encodeBinary(DeleteReferencesItem deleteReferencesItem, BinaryEncoder encoder) {
+        encoder.encodeNodeId("SourceNodeId", deleteReferencesItem._sourceNodeId);
+        encoder.encodeNodeId("ReferenceTypeId", deleteReferencesItem._referenceTypeId);
+        encoder.encodeBoolean("IsForward", deleteReferencesItem._isForward);
+        encoder.encodeExpandedNodeId("TargetNodeId", deleteReferencesItem._targetNodeId);
+        encoder.encodeBoolean("DeleteBidirectional", deleteReferencesItem._deleteBidirectional);
+    }
+
+    public static DeleteReferencesItem decodeBinary(BinaryDecoder decoder) {
+        NodeId _sourceNodeId = decoder.decodeNodeId("SourceNodeId");
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _isForward = decoder.decodeBoolean("IsForward");
+        ExpandedNodeId _targetNodeId = decoder.decodeExpandedNodeId("TargetNodeId");
+        Boolean _deleteBidirectional = decoder.decodeBoolean("DeleteBidirectional");
+
+        return new DeleteReferencesItem(_sourceNodeId, _referenceTypeId, _isForward, _targetNodeId, _deleteBidirectional);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DeleteReferencesItem::encode, DeleteReferencesItem.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteReferencesItem::decode, DeleteReferencesItem.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteReferencesItem::encode, DeleteReferencesItem.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteReferencesItem::decode, DeleteReferencesItem.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteReferencesItem::encodeBinary, DeleteReferencesItem.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteReferencesItem::decodeBinary, DeleteReferencesItem.class, BinaryEncodingId);
     }
 
 }
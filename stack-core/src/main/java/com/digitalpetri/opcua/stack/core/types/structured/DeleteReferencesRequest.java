@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class DeleteReferencesRequest implements UaRequestMessage {
 
     public static DeleteReferencesRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        DeleteReferencesItem[] _referencesToDelete = decoder.decodeArray("ReferencesToDelete", decoder::decodeSerializable, DeleteReferencesItem.class);
+        DeleteReferencesItem[] _referencesToDelete = decoder.decodeArray("ReferencesToDelete", decoder::decodeSerializable, DeleteReferencesItem.class, DeleteReferencesItem[]::new);
+
+        return new DeleteReferencesRequest(_requestHeader, _referencesToDelete);
+    }
+
+    public static void encodeBinary(DeleteReferencesRequest deleteReferencesRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(deleteReferencesRequest._requestHeader != null ? deleteReferencesRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("ReferencesToDelete", deleteReferencesRequest._referencesToDelete, DeleteReferencesItem::encodeBinary);
+    }
+
+    public static DeleteReferencesRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        DeleteReferencesItem[] _referencesToDelete = decoder.decodeStructureArray("ReferencesToDelete", DeleteReferencesItem::decodeBinary, DeleteReferencesItem[]::new);
 
         return new DeleteReferencesRequest(_requestHeader, _referencesToDelete);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteReferencesRequest::encode, DeleteReferencesRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteReferencesRequest::decode, DeleteReferencesRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteReferencesRequest::encode, DeleteReferencesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteReferencesRequest::decode, DeleteReferencesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteReferencesRequest::encodeBinary, DeleteReferencesRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteReferencesRequest::decodeBinary, DeleteReferencesRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class DeleteReferencesResponse implements UaResponseMessage {
 
     public static DeleteReferencesResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new DeleteReferencesResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(DeleteReferencesResponse deleteReferencesResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(deleteReferencesResponse._responseHeader != null ? deleteReferencesResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", deleteReferencesResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", deleteReferencesResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static DeleteReferencesResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new DeleteReferencesResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteReferencesResponse::encode, DeleteReferencesResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteReferencesResponse::decode, DeleteReferencesResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteReferencesResponse::encode, DeleteReferencesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteReferencesResponse::decode, DeleteReferencesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteReferencesResponse::encodeBinary, DeleteReferencesResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteReferencesResponse::decodeBinary, DeleteReferencesResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -66,14 +68,28 @@ public class DeleteSubscriptionsRequest implements UaRequestMessage {
 
     public static DeleteSubscriptionsRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger[]::new);
+
+        return new DeleteSubscriptionsRequest(_requestHeader, _subscriptionIds);
+    }
+
+    public static void encodeBinary(DeleteSubscriptionsRequest deleteSubscriptionsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(deleteSubscriptionsRequest._requestHeader != null ? deleteSubscriptionsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeArray("SubscriptionIds", deleteSubscriptionsRequest._subscriptionIds, encoder::encodeUInt32);
+    }
+
+    public static DeleteSubscriptionsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger[]::new);
 
         return new DeleteSubscriptionsRequest(_requestHeader, _subscriptionIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteSubscriptionsRequest::encode, DeleteSubscriptionsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteSubscriptionsRequest::decode, DeleteSubscriptionsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteSubscriptionsRequest::encode, DeleteSubscriptionsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteSubscriptionsRequest::decode, DeleteSubscriptionsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteSubscriptionsRequest::encodeBinary, DeleteSubscriptionsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteSubscriptionsRequest::decodeBinary, DeleteSubscriptionsRequest.class, BinaryEncodingId);
     }
 
 }
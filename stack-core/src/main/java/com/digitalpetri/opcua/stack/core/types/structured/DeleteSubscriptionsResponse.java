@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class DeleteSubscriptionsResponse implements UaResponseMessage {
 
     public static DeleteSubscriptionsResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new DeleteSubscriptionsResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(DeleteSubscriptionsResponse deleteSubscriptionsResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(deleteSubscriptionsResponse._responseHeader != null ? deleteSubscriptionsResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", deleteSubscriptionsResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", deleteSubscriptionsResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static DeleteSubscriptionsResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new DeleteSubscriptionsResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(DeleteSubscriptionsResponse::encode, DeleteSubscriptionsResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DeleteSubscriptionsResponse::decode, DeleteSubscriptionsResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DeleteSubscriptionsResponse::encode, DeleteSubscriptionsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DeleteSubscriptionsResponse::decode, DeleteSubscriptionsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DeleteSubscriptionsResponse::encodeBinary, DeleteSubscriptionsResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DeleteSubscriptionsResponse::decodeBinary, DeleteSubscriptionsResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -55,9 +57,19 @@ public class DiscoveryConfiguration implements UaStructure {
         return new DiscoveryConfiguration();
     }
 
+    public static void encodeBinary(DiscoveryConfiguration discoveryConfiguration, BinaryEncoder encoder) {
+    }
+
+    public static DiscoveryConfiguration decodeBinary(BinaryDecoder decoder) {
+
+        return new DiscoveryConfiguration();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DiscoveryConfiguration::encode, DiscoveryConfiguration.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DiscoveryConfiguration::decode, DiscoveryConfiguration.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DiscoveryConfiguration::encode, DiscoveryConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DiscoveryConfiguration::decode, DiscoveryConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DiscoveryConfiguration::encodeBinary, DiscoveryConfiguration.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DiscoveryConfiguration::decodeBinary, DiscoveryConfiguration.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class DoubleComplexNumberType implements UaStructure {
         return new DoubleComplexNumberType(_real, _imaginary);
     }
 
+    public static void encodeBinary(DoubleComplexNumberType doubleComplexNumberType, BinaryEncoder encoder) {
+        encoder.encodeDouble("Real", doubleComplexNumberType._real);
+        encoder.encodeDouble("Imaginary", doubleComplexNumberType._imaginary);
+    }
+
+    public static DoubleComplexNumberType decodeBinary(BinaryDecoder decoder) {
+        Double _real = decoder.decodeDouble("Real");
+        Double _imaginary = decoder.decodeDouble("Imaginary");
+
+        return new DoubleComplexNumberType(_real, _imaginary);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(DoubleComplexNumberType::encode, DoubleComplexNumberType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(DoubleComplexNumberType::decode, DoubleComplexNumberType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(DoubleComplexNumberType::encode, DoubleComplexNumberType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(DoubleComplexNumberType::decode, DoubleComplexNumberType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(DoubleComplexNumberType::encodeBinary, DoubleComplexNumberType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(DoubleComplexNumberType::decodeBinary, DoubleComplexNumberType.class, BinaryEncodingId);
     }
 
 }
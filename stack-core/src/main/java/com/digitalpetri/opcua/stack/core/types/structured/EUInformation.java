@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -85,9 +87,27 @@ public class EUInformation implements UaStructure {
         return new EUInformation(_namespaceUri, _unitId, _displayName, _description);
     }
 
+    public static void encodeBinary(EUInformation eUInformation, BinaryEncoder encoder) {
+        encoder.encodeString("NamespaceUri", eUInformation._namespaceUri);
+        encoder.encodeInt32("UnitId", eUInformation._unitId);
+        encoder.encodeLocalizedText("DisplayName", eUInformation._displayName);
+        encoder.encodeLocalizedText("Description", eUInformation._description);
+    }
+
+    public static EUInformation decodeBinary(BinaryDecoder decoder) {
+        String _namespaceUri = decoder.decodeString("NamespaceUri");
+        Integer _unitId = decoder.decodeInt32("UnitId");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+
+        return new EUInformation(_namespaceUri, _unitId, _displayName, _description);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(EUInformation::encode, EUInformation.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EUInformation::decode, EUInformation.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EUInformation::encode, EUInformation.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EUInformation::decode, EUInformation.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EUInformation::encodeBinary, EUInformation.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EUInformation::decodeBinary, EUInformation.class, BinaryEncodingId);
     }
 
 }
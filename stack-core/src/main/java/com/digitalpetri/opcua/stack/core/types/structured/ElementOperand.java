@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -65,9 +67,21 @@ public class ElementOperand extends FilterOperand {
         return new ElementOperand(_index);
     }
 
+    public static void encodeBinary(ElementOperand elementOperand, BinaryEncoder encoder) {
+        encoder.encodeUInt32("Index", elementOperand._index);
+    }
+
+    public static ElementOperand decodeBinary(BinaryDecoder decoder) {
+        UInteger _index = decoder.decodeUInt32("Index");
+
+        return new ElementOperand(_index);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ElementOperand::encode, ElementOperand.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ElementOperand::decode, ElementOperand.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ElementOperand::encode, ElementOperand.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ElementOperand::decode, ElementOperand.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ElementOperand::encodeBinary, ElementOperand.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ElementOperand::decodeBinary, ElementOperand.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -119,9 +121,37 @@ public class EndpointConfiguration implements UaStructure {
         return new EndpointConfiguration(_operationTimeout, _useBinaryEncoding, _maxStringLength, _maxByteStringLength, _maxArrayLength, _maxMessageSize, _maxBufferSize, _channelLifetime, _securityTokenLifetime);
     }
 
+    public static void encodeBinary(EndpointConfiguration endpointConfiguration, BinaryEncoder encoder) {
+        encoder.encodeInt32("OperationTimeout", endpointConfiguration._operationTimeout);
+        encoder.encodeBoolean("UseBinaryEncoding", endpointConfiguration._useBinaryEncoding);
+        encoder.encodeInt32("MaxStringLength", endpointConfiguration._maxStringLength);
+        encoder.encodeInt32("MaxByteStringLength", endpointConfiguration._maxByteStringLength);
+        encoder.encodeInt32("MaxArrayLength", endpointConfiguration._maxArrayLength);
+        encoder.encodeInt32("MaxMessageSize", endpointConfiguration._maxMessageSize);
+        encoder.encodeInt32("MaxBufferSize", endpointConfiguration._maxBufferSize);
+        encoder.encodeInt32("ChannelLifetime", endpointConfiguration._channelLifetime);
+        encoder.encodeInt32("SecurityTokenLifetime", endpointConfiguration._securityTokenLifetime);
+    }
+
+    public static EndpointConfiguration decodeBinary(BinaryDecoder decoder) {
+        Integer _operationTimeout = decoder.decodeInt32("OperationTimeout");
+        Boolean _useBinaryEncoding = decoder.decodeBoolean("UseBinaryEncoding");
+        Integer _maxStringLength = decoder.decodeInt32("MaxStringLength");
+        Integer _maxByteStringLength = decoder.decodeInt32("MaxByteStringLength");
+        Integer _maxArrayLength = decoder.decodeInt32("MaxArrayLength");
+        Integer _maxMessageSize = decoder.decodeInt32("MaxMessageSize");
+        Integer _maxBufferSize = decoder.decodeInt32("MaxBufferSize");
+        Integer _channelLifetime = decoder.decodeInt32("ChannelLifetime");
+        Integer _securityTokenLifetime = decoder.decodeInt32("SecurityTokenLifetime");
+
+        return new EndpointConfiguration(_operationTimeout, _useBinaryEncoding, _maxStringLength, _maxByteStringLength, _maxArrayLength, _maxMessageSize, _maxBufferSize, _channelLifetime, _securityTokenLifetime);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(EndpointConfiguration::encode, EndpointConfiguration.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EndpointConfiguration::decode, EndpointConfiguration.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EndpointConfiguration::encode, EndpointConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EndpointConfiguration::decode, EndpointConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EndpointConfiguration::encodeBinary, EndpointConfiguration.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EndpointConfiguration::decodeBinary, EndpointConfiguration.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -108,7 +110,31 @@ public class EndpointDescription implements UaStructure {
         ByteString _serverCertificate = decoder.decodeByteString("ServerCertificate");
         MessageSecurityMode _securityMode = decoder.decodeEnumeration("SecurityMode", MessageSecurityMode.class);
         String _securityPolicyUri = decoder.decodeString("SecurityPolicyUri");
-        UserTokenPolicy[] _userIdentityTokens = decoder.decodeArray("UserIdentityTokens", decoder::decodeSerializable, UserTokenPolicy.class);
+        UserTokenPolicy[] _userIdentityTokens = decoder.decodeArray("UserIdentityTokens", decoder::decodeSerializable, UserTokenPolicy.class, UserTokenPolicy[]::new);
+        String _transportProfileUri = decoder.decodeString("TransportProfileUri");
+        UByte _securityLevel = decoder.decodeByte("SecurityLevel");
+
+        return new EndpointDescription(_endpointUrl, _server, _serverCertificate, _securityMode, _securityPolicyUri, _userIdentityTokens, _transportProfileUri, _securityLevel);
+    }
+
+    public static void encodeBinary(EndpointDescription endpointDescription, BinaryEncoder encoder) {
+        encoder.encodeString("EndpointUrl", endpointDescription._endpointUrl);
+        ApplicationDescription.encodeBinary(endpointDescription._server != null ? endpointDescription._server : new ApplicationDescription(), encoder);
+        encoder.encodeByteString("ServerCertificate", endpointDescription._serverCertificate);
+        encoder.encodeEnumeration("SecurityMode", endpointDescription._securityMode);
+        encoder.encodeString("SecurityPolicyUri", endpointDescription._securityPolicyUri);
+        encoder.encodeStructureArray("UserIdentityTokens", endpointDescription._userIdentityTokens, UserTokenPolicy::encodeBinary);
+        encoder.encodeString("TransportProfileUri", endpointDescription._transportProfileUri);
+        encoder.encodeByte("SecurityLevel", endpointDescription._securityLevel);
+    }
+
+    public static EndpointDescription decodeBinary(BinaryDecoder decoder) {
+        String _endpointUrl = decoder.decodeString("EndpointUrl");
+        ApplicationDescription _server = ApplicationDescription.decodeBinary(decoder);
+        ByteString _serverCertificate = decoder.decodeByteString("ServerCertificate");
+        MessageSecurityMode _securityMode = MessageSecurityMode.decode(decoder);
+        String _securityPolicyUri = decoder.decodeString("SecurityPolicyUri");
+        UserTokenPolicy[] _userIdentityTokens = decoder.decodeStructureArray("UserIdentityTokens", UserTokenPolicy::decodeBinary, UserTokenPolicy[]::new);
         String _transportProfileUri = decoder.decodeString("TransportProfileUri");
         UByte _securityLevel = decoder.decodeByte("SecurityLevel");
 
@@ -116,8 +142,10 @@ public class EndpointDescription implements UaStructure {
     }
 
     static {
-        DelegateRegistry.registerEncoder(EndpointDescription::encode, EndpointDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EndpointDescription::decode, EndpointDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EndpointDescription::encode, EndpointDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EndpointDescription::decode, EndpointDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EndpointDescription::encodeBinary, EndpointDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EndpointDescription::decodeBinary, EndpointDescription.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -58,14 +60,26 @@ public class EndpointUrlListDataType implements UaStructure {
     }
 
     public static EndpointUrlListDataType decode(UaDecoder decoder) {
-        String[] _endpointUrlList = decoder.decodeArray("EndpointUrlList", decoder::decodeString, String.class);
+        String[] _endpointUrlList = decoder.decodeArray("EndpointUrlList", decoder::decodeString, String[]::new);
+
+        return new EndpointUrlListDataType(_endpointUrlList);
+    }
+
+    public static void encodeBinary(EndpointUrlListDataType endpointUrlListDataType, BinaryEncoder encoder) {
+        encoder.encodeArray("EndpointUrlList", endpointUrlListDataType._endpointUrlList, encoder::encodeString);
+    }
+
+    public static EndpointUrlListDataType decodeBinary(BinaryDecoder decoder) {
+        String[] _endpointUrlList = decoder.decodeArray("EndpointUrlList", decoder::decodeString, String[]::new);
 
         return new EndpointUrlListDataType(_endpointUrlList);
     }
 
     static {
-        DelegateRegistry.registerEncoder(EndpointUrlListDataType::encode, EndpointUrlListDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EndpointUrlListDataType::decode, EndpointUrlListDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EndpointUrlListDataType::encode, EndpointUrlListDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EndpointUrlListDataType::decode, EndpointUrlListDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EndpointUrlListDataType::encodeBinary, EndpointUrlListDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EndpointUrlListDataType::decodeBinary, EndpointUrlListDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -78,9 +80,25 @@ public class EnumValueType implements UaStructure {
         return new EnumValueType(_value, _displayName, _description);
     }
 
+    public static void encodeBinary(EnumValueType enumValueType, BinaryEncoder encoder) {
+        encoder.encodeInt64("Value", enumValueType._value);
+        encoder.encodeLocalizedText("DisplayName", enumValueType._displayName);
+        encoder.encodeLocalizedText("Description", enumValueType._description);
+    }
+
+    public static EnumValueType decodeBinary(BinaryDecoder decoder) {
+        Long _value = decoder.decodeInt64("Value");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+
+        return new EnumValueType(_value, _displayName, _description);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(EnumValueType::encode, EnumValueType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EnumValueType::decode, EnumValueType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EnumValueType::encode, EnumValueType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EnumValueType::decode, EnumValueType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EnumValueType::encodeBinary, EnumValueType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EnumValueType::decodeBinary, EnumValueType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
@@ -67,14 +69,28 @@ public class EventFieldList implements UaStructure {
 
     public static EventFieldList decode(UaDecoder decoder) {
         UInteger _clientHandle = decoder.decodeUInt32("ClientHandle");
-        Variant[] _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant.class);
+        Variant[] _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant[]::new);
+
+        return new EventFieldList(_clientHandle, _eventFields);
+    }
+
+    public static void encodeBinary(EventFieldList eventFieldList, BinaryEncoder encoder) {
+        encoder.encodeUInt32("ClientHandle", eventFieldList._clientHandle);
+        encoder.encodeArray("EventFields", eventFieldList._eventFields, encoder::encodeVariant);
+    }
+
+    public static EventFieldList decodeBinary(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32("ClientHandle");
+        Variant[] _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant[]::new);
 
         return new EventFieldList(_clientHandle, _eventFields);
     }
 
     static {
-        DelegateRegistry.registerEncoder(EventFieldList::encode, EventFieldList.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EventFieldList::decode, EventFieldList.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EventFieldList::encode, EventFieldList.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EventFieldList::decode, EventFieldList.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EventFieldList::encodeBinary, EventFieldList.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EventFieldList::decodeBinary, EventFieldList.class, BinaryEncodingId);
     }
 
 }
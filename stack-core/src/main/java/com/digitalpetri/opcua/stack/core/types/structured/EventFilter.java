@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,15 +67,29 @@ public class EventFilter extends MonitoringFilter {
     }
 
     public static EventFilter decode(UaDecoder decoder) {
-        SimpleAttributeOperand[] _selectClauses = decoder.decodeArray("SelectClauses", decoder::decodeSerializable, SimpleAttributeOperand.class);
+        SimpleAttributeOperand[] _selectClauses = decoder.decodeArray("SelectClauses", decoder::decodeSerializable, SimpleAttributeOperand.class, SimpleAttributeOperand[]::new);
         ContentFilter _whereClause = decoder.decodeSerializable("WhereClause", ContentFilter.class);
 
         return new EventFilter(_selectClauses, _whereClause);
     }
 
+    public static void encodeBinary(EventFilter eventFilter, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("SelectClauses", eventFilter._selectClauses, SimpleAttributeOperand::encodeBinary);
+        ContentFilter.encodeBinary(eventFilter._whereClause != null ? eventFilter._whereClause : new ContentFilter(), encoder);
+    }
+
+    public static EventFilter decodeBinary(BinaryDecoder decoder) {
+        SimpleAttributeOperand[] _selectClauses = decoder.decodeStructureArray("SelectClauses", SimpleAttributeOperand::decodeBinary, SimpleAttributeOperand[]::new);
+        ContentFilter _whereClause = ContentFilter.decodeBinary(decoder);
+
+        return new EventFilter(_selectClauses, _whereClause);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(EventFilter::encode, EventFilter.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EventFilter::decode, EventFilter.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EventFilter::encode, EventFilter.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EventFilter::decode, EventFilter.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EventFilter::encodeBinary, EventFilter.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EventFilter::decodeBinary, EventFilter.class, BinaryEncodingId);
     }
 
 }
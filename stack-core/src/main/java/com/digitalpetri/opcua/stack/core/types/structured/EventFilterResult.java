@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,16 +75,32 @@ public class EventFilterResult extends MonitoringFilterResult {
     }
 
     public static EventFilterResult decode(UaDecoder decoder) {
-        StatusCode[] _selectClauseResults = decoder.decodeArray("SelectClauseResults", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _selectClauseDiagnosticInfos = decoder.decodeArray("SelectClauseDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _selectClauseResults = decoder.decodeArray("SelectClauseResults", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = decoder.decodeArray("SelectClauseDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
         ContentFilterResult _whereClauseResult = decoder.decodeSerializable("WhereClauseResult", ContentFilterResult.class);
 
         return new EventFilterResult(_selectClauseResults, _selectClauseDiagnosticInfos, _whereClauseResult);
     }
 
+    public static void encodeBinary(EventFilterResult eventFilterResult, BinaryEncoder encoder) {
+        encoder.encodeArray("SelectClauseResults", eventFilterResult._selectClauseResults, encoder::encodeStatusCode);
+        encoder.encodeArray("SelectClauseDiagnosticInfos", eventFilterResult._selectClauseDiagnosticInfos, encoder::encodeDiagnosticInfo);
+        ContentFilterResult.encodeBinary(eventFilterResult._whereClauseResult != null ? eventFilterResult._whereClauseResult : new ContentFilterResult(), encoder);
+    }
+
+    public static EventFilterResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode[] _selectClauseResults = decoder.decodeArray("SelectClauseResults", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _selectClauseDiagnosticInfos = decoder.decodeArray("SelectClauseDiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        ContentFilterResult _whereClauseResult = ContentFilterResult.decodeBinary(decoder);
+
+        return new EventFilterResult(_selectClauseResults, _selectClauseDiagnosticInfos, _whereClauseResult);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(EventFilterResult::encode, EventFilterResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EventFilterResult::decode, EventFilterResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EventFilterResult::encode, EventFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EventFilterResult::decode, EventFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EventFilterResult::encodeBinary, EventFilterResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EventFilterResult::decodeBinary, EventFilterResult.class, BinaryEncodingId);
     }
 
 }
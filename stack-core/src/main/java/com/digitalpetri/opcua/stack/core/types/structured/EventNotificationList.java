@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -59,14 +61,26 @@ public class EventNotificationList extends NotificationData {
     }
 
     public static EventNotificationList decode(UaDecoder decoder) {
-        EventFieldList[] _events = decoder.decodeArray("Events", decoder::decodeSerializable, EventFieldList.class);
+        EventFieldList[] _events = decoder.decodeArray("Events", decoder::decodeSerializable, EventFieldList.class, EventFieldList[]::new);
+
+        return new EventNotificationList(_events);
+    }
+
+    public static void encodeBinary(EventNotificationList eventNotificationList, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("Events", eventNotificationList._events, EventFieldList::encodeBinary);
+    }
+
+    public static EventNotificationList decodeBinary(BinaryDecoder decoder) {
+        EventFieldList[] _events = decoder.decodeStructureArray("Events", EventFieldList::decodeBinary, EventFieldList[]::new);
 
         return new EventNotificationList(_events);
     }
 
     static {
-        DelegateRegistry.registerEncoder(EventNotificationList::encode, EventNotificationList.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(EventNotificationList::decode, EventNotificationList.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(EventNotificationList::encode, EventNotificationList.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(EventNotificationList::decode, EventNotificationList.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(EventNotificationList::encodeBinary, EventNotificationList.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(EventNotificationList::decodeBinary, EventNotificationList.class, BinaryEncodingId);
     }
 
 }
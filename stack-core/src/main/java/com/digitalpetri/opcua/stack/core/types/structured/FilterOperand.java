@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -54,9 +56,19 @@ public class FilterOperand implements UaStructure {
         return new FilterOperand();
     }
 
+    public static void encodeBinary(FilterOperand filterOperand, BinaryEncoder encoder) {
+    }
+
+    public static FilterOperand decodeBinary(BinaryDecoder decoder) {
+
+        return new FilterOperand();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(FilterOperand::encode, FilterOperand.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(FilterOperand::decode, FilterOperand.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(FilterOperand::encode, FilterOperand.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(FilterOperand::decode, FilterOperand.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(FilterOperand::encodeBinary, FilterOperand.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(FilterOperand::decodeBinary, FilterOperand.class, BinaryEncodingId);
     }
 
 }
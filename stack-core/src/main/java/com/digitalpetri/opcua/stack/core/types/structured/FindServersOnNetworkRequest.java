@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -80,14 +82,32 @@ public class FindServersOnNetworkRequest implements UaRequestMessage {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         UInteger _startingRecordId = decoder.decodeUInt32("StartingRecordId");
         UInteger _maxRecordsToReturn = decoder.decodeUInt32("MaxRecordsToReturn");
-        String[] _serverCapabilityFilter = decoder.decodeArray("ServerCapabilityFilter", decoder::decodeString, String.class);
+        String[] _serverCapabilityFilter = decoder.decodeArray("ServerCapabilityFilter", decoder::decodeString, String[]::new);
+
+        return new FindServersOnNetworkRequest(_requestHeader, _startingRecordId, _maxRecordsToReturn, _serverCapabilityFilter);
+    }
+
+    public static void encodeBinary(FindServersOnNetworkRequest findServersOnNetworkRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(findServersOnNetworkRequest._requestHeader != null ? findServersOnNetworkRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("StartingRecordId", findServersOnNetworkRequest._startingRecordId);
+        encoder.encodeUInt32("MaxRecordsToReturn", findServersOnNetworkRequest._maxRecordsToReturn);
+        encoder.encodeArray("ServerCapabilityFilter", findServersOnNetworkRequest._serverCapabilityFilter, encoder::encodeString);
+    }
+
+    public static FindServersOnNetworkRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _startingRecordId = decoder.decodeUInt32("StartingRecordId");
+        UInteger _maxRecordsToReturn = decoder.decodeUInt32("MaxRecordsToReturn");
+        String[] _serverCapabilityFilter = decoder.decodeArray("ServerCapabilityFilter", decoder::decodeString, String[]::new);
 
         return new FindServersOnNetworkRequest(_requestHeader, _startingRecordId, _maxRecordsToReturn, _serverCapabilityFilter);
     }
 
     static {
-        DelegateRegistry.registerEncoder(FindServersOnNetworkRequest::encode, FindServersOnNetworkRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(FindServersOnNetworkRequest::decode, FindServersOnNetworkRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(FindServersOnNetworkRequest::encode, FindServersOnNetworkRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(FindServersOnNetworkRequest::decode, FindServersOnNetworkRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(FindServersOnNetworkRequest::encodeBinary, FindServersOnNetworkRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(FindServersOnNetworkRequest::decodeBinary, FindServersOnNetworkRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,14 +75,30 @@ public class FindServersOnNetworkResponse implements UaResponseMessage {
     public static FindServersOnNetworkResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
         DateTime _lastCounterResetTime = decoder.decodeDateTime("LastCounterResetTime");
-        ServerOnNetwork[] _servers = decoder.decodeArray("Servers", decoder::decodeSerializable, ServerOnNetwork.class);
+        ServerOnNetwork[] _servers = decoder.decodeArray("Servers", decoder::decodeSerializable, ServerOnNetwork.class, ServerOnNetwork[]::new);
+
+        return new FindServersOnNetworkResponse(_responseHeader, _lastCounterResetTime, _servers);
+    }
+
+    public static void encodeBinary(FindServersOnNetworkResponse findServersOnNetworkResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(findServersOnNetworkResponse._responseHeader != null ? findServersOnNetworkResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeDateTime("LastCounterResetTime", findServersOnNetworkResponse._lastCounterResetTime);
+        encoder.encodeStructureArray("Servers", findServersOnNetworkResponse._servers, ServerOnNetwork::encodeBinary);
+    }
+
+    public static FindServersOnNetworkResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        DateTime _lastCounterResetTime = decoder.decodeDateTime("LastCounterResetTime");
+        ServerOnNetwork[] _servers = decoder.decodeStructureArray("Servers", ServerOnNetwork::decodeBinary, ServerOnNetwork[]::new);
 
         return new FindServersOnNetworkResponse(_responseHeader, _lastCounterResetTime, _servers);
     }
 
     static {
-        DelegateRegistry.registerEncoder(FindServersOnNetworkResponse::encode, FindServersOnNetworkResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(FindServersOnNetworkResponse::decode, FindServersOnNetworkResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(FindServersOnNetworkResponse::encode, FindServersOnNetworkResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(FindServersOnNetworkResponse::decode, FindServersOnNetworkResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(FindServersOnNetworkResponse::encodeBinary, FindServersOnNetworkResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(FindServersOnNetworkResponse::decodeBinary, FindServersOnNetworkResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -78,15 +80,33 @@ public class FindServersRequest implements UaRequestMessage {
     public static FindServersRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         String _endpointUrl = decoder.decodeString("EndpointUrl");
-        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
-        String[] _serverUris = decoder.decodeArray("ServerUris", decoder::decodeString, String.class);
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
+        String[] _serverUris = decoder.decodeArray("ServerUris", decoder::decodeString, String[]::new);
+
+        return new FindServersRequest(_requestHeader, _endpointUrl, _localeIds, _serverUris);
+    }
+
+    public static void encodeBinary(FindServersRequest findServersRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(findServersRequest._requestHeader != null ? findServersRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeString("EndpointUrl", findServersRequest._endpointUrl);
+        encoder.encodeArray("LocaleIds", findServersRequest._localeIds, encoder::encodeString);
+        encoder.encodeArray("ServerUris", findServersRequest._serverUris, encoder::encodeString);
+    }
+
+    public static FindServersRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        String _endpointUrl = decoder.decodeString("EndpointUrl");
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
+        String[] _serverUris = decoder.decodeArray("ServerUris", decoder::decodeString, String[]::new);
 
         return new FindServersRequest(_requestHeader, _endpointUrl, _localeIds, _serverUris);
     }
 
     static {
-        DelegateRegistry.registerEncoder(FindServersRequest::encode, FindServersRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(FindServersRequest::decode, FindServersRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(FindServersRequest::encode, FindServersRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(FindServersRequest::decode, FindServersRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(FindServersRequest::encodeBinary, FindServersRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(FindServersRequest::decodeBinary, FindServersRequest.class, BinaryEncodingId);
     }
 
 }
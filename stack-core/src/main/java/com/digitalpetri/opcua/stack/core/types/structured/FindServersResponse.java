@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class FindServersResponse implements UaResponseMessage {
 
     public static FindServersResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        ApplicationDescription[] _servers = decoder.decodeArray("Servers", decoder::decodeSerializable, ApplicationDescription.class);
+        ApplicationDescription[] _servers = decoder.decodeArray("Servers", decoder::decodeSerializable, ApplicationDescription.class, ApplicationDescription[]::new);
+
+        return new FindServersResponse(_responseHeader, _servers);
+    }
+
+    public static void encodeBinary(FindServersResponse findServersResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(findServersResponse._responseHeader != null ? findServersResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Servers", findServersResponse._servers, ApplicationDescription::encodeBinary);
+    }
+
+    public static FindServersResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        ApplicationDescription[] _servers = decoder.decodeStructureArray("Servers", ApplicationDescription::decodeBinary, ApplicationDescription[]::new);
 
         return new FindServersResponse(_responseHeader, _servers);
     }
 
     static {
-        DelegateRegistry.registerEncoder(FindServersResponse::encode, FindServersResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(FindServersResponse::decode, FindServersResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(FindServersResponse::encode, FindServersResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(FindServersResponse::decode, FindServersResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(FindServersResponse::encodeBinary, FindServersResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(FindServersResponse::decodeBinary, FindServersResponse.class, BinaryEncodingId);
     }
 
 }
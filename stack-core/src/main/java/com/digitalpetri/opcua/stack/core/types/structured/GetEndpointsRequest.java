@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -78,15 +80,33 @@ public class GetEndpointsRequest implements UaRequestMessage {
     public static GetEndpointsRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         String _endpointUrl = decoder.decodeString("EndpointUrl");
-        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
-        String[] _profileUris = decoder.decodeArray("ProfileUris", decoder::decodeString, String.class);
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
+        String[] _profileUris = decoder.decodeArray("ProfileUris", decoder::decodeString, String[]::new);
+
+        return new GetEndpointsRequest(_requestHeader, _endpointUrl, _localeIds, _profileUris);
+    }
+
+    public static void encodeBinary(GetEndpointsRequest getEndpointsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(getEndpointsRequest._requestHeader != null ? getEndpointsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeString("EndpointUrl", getEndpointsRequest._endpointUrl);
+        encoder.encodeArray("LocaleIds", getEndpointsRequest._localeIds, encoder::encodeString);
+        encoder.encodeArray("ProfileUris", getEndpointsRequest._profileUris, encoder::encodeString);
+    }
+
+    public static GetEndpointsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        String _endpointUrl = decoder.decodeString("EndpointUrl");
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
+        String[] _profileUris = decoder.decodeArray("ProfileUris", decoder::decodeString, String[]::new);
 
         return new GetEndpointsRequest(_requestHeader, _endpointUrl, _localeIds, _profileUris);
     }
 
     static {
-        DelegateRegistry.registerEncoder(GetEndpointsRequest::encode, GetEndpointsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(GetEndpointsRequest::decode, GetEndpointsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(GetEndpointsRequest::encode, GetEndpointsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(GetEndpointsRequest::decode, GetEndpointsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(GetEndpointsRequest::encodeBinary, GetEndpointsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(GetEndpointsRequest::decodeBinary, GetEndpointsRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class GetEndpointsResponse implements UaResponseMessage {
 
     public static GetEndpointsResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        EndpointDescription[] _endpoints = decoder.decodeArray("Endpoints", decoder::decodeSerializable, EndpointDescription.class);
+        EndpointDescription[] _endpoints = decoder.decodeArray("Endpoints", decoder::decodeSerializable, EndpointDescription.class, EndpointDescription[]::new);
+
+        return new GetEndpointsResponse(_responseHeader, _endpoints);
+    }
+
+    public static void encodeBinary(GetEndpointsResponse getEndpointsResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(getEndpointsResponse._responseHeader != null ? getEndpointsResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Endpoints", getEndpointsResponse._endpoints, EndpointDescription::encodeBinary);
+    }
+
+    public static GetEndpointsResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        EndpointDescription[] _endpoints = decoder.decodeStructureArray("Endpoints", EndpointDescription::decodeBinary, EndpointDescription[]::new);
 
         return new GetEndpointsResponse(_responseHeader, _endpoints);
     }
 
     static {
-        DelegateRegistry.registerEncoder(GetEndpointsResponse::encode, GetEndpointsResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(GetEndpointsResponse::decode, GetEndpointsResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(GetEndpointsResponse::encode, GetEndpointsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(GetEndpointsResponse::decode, GetEndpointsResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(GetEndpointsResponse::encodeBinary, GetEndpointsResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(GetEndpointsResponse::decodeBinary, GetEndpointsResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -59,14 +61,26 @@ public class HistoryData implements UaStructure {
     }
 
     public static HistoryData decode(UaDecoder decoder) {
-        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue.class);
+        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue[]::new);
+
+        return new HistoryData(_dataValues);
+    }
+
+    public static void encodeBinary(HistoryData historyData, BinaryEncoder encoder) {
+        encoder.encodeArray("DataValues", historyData._dataValues, encoder::encodeDataValue);
+    }
+
+    public static HistoryData decodeBinary(BinaryDecoder decoder) {
+        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue[]::new);
 
         return new HistoryData(_dataValues);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryData::encode, HistoryData.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryData::decode, HistoryData.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryData::encode, HistoryData.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryData::decode, HistoryData.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryData::encodeBinary, HistoryData.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryData::decodeBinary, HistoryData.class, BinaryEncodingId);
     }
 
 }
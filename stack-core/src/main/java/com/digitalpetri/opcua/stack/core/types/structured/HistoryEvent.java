@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -58,14 +60,26 @@ public class HistoryEvent implements UaStructure {
     }
 
     public static HistoryEvent decode(UaDecoder decoder) {
-        HistoryEventFieldList[] _events = decoder.decodeArray("Events", decoder::decodeSerializable, HistoryEventFieldList.class);
+        HistoryEventFieldList[] _events = decoder.decodeArray("Events", decoder::decodeSerializable, HistoryEventFieldList.class, HistoryEventFieldList[]::new);
+
+        return new HistoryEvent(_events);
+    }
+
+    public static void encodeBinary(HistoryEvent historyEvent, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("Events", historyEvent._events, HistoryEventFieldList::encodeBinary);
+    }
+
+    public static HistoryEvent decodeBinary(BinaryDecoder decoder) {
+        HistoryEventFieldList[] _events = decoder.decodeStructureArray("Events", HistoryEventFieldList::decodeBinary, HistoryEventFieldList[]::new);
 
         return new HistoryEvent(_events);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryEvent::encode, HistoryEvent.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryEvent::decode, HistoryEvent.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryEvent::encode, HistoryEvent.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryEvent::decode, HistoryEvent.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryEvent::encodeBinary, HistoryEvent.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryEvent::decodeBinary, HistoryEvent.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
@@ -59,14 +61,26 @@ public class HistoryEventFieldList implements UaStructure {
     }
 
     public static HistoryEventFieldList decode(UaDecoder decoder) {
-        Variant[] _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant.class);
+        Variant[] _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant[]::new);
+
+        return new HistoryEventFieldList(_eventFields);
+    }
+
+    public static void encodeBinary(HistoryEventFieldList historyEventFieldList, BinaryEncoder encoder) {
+        encoder.encodeArray("EventFields", historyEventFieldList._eventFields, encoder::encodeVariant);
+    }
+
+    public static HistoryEventFieldList decodeBinary(BinaryDecoder decoder) {
+        Variant[] _eventFields = decoder.decodeArray("EventFields", decoder::decodeVariant, Variant[]::new);
 
         return new HistoryEventFieldList(_eventFields);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryEventFieldList::encode, HistoryEventFieldList.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryEventFieldList::decode, HistoryEventFieldList.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryEventFieldList::encode, HistoryEventFieldList.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryEventFieldList::decode, HistoryEventFieldList.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryEventFieldList::encodeBinary, HistoryEventFieldList.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryEventFieldList::decodeBinary, HistoryEventFieldList.class, BinaryEncodingId);
     }
 
 }
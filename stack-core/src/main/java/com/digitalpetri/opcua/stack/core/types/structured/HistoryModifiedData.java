@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -66,15 +68,29 @@ public class HistoryModifiedData extends HistoryData {
     }
 
     public static HistoryModifiedData decode(UaDecoder decoder) {
-        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue.class);
-        ModificationInfo[] _modificationInfos = decoder.decodeArray("ModificationInfos", decoder::decodeSerializable, ModificationInfo.class);
+        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue[]::new);
+        ModificationInfo[] _modificationInfos = decoder.decodeArray("ModificationInfos", decoder::decodeSerializable, ModificationInfo.class, ModificationInfo[]::new);
+
+        return new HistoryModifiedData(_dataValues, _modificationInfos);
+    }
+
+    public static void encodeBinary(HistoryModifiedData historyModifiedData, BinaryEncoder encoder) {
+        encoder.encodeArray("DataValues", historyModifiedData._dataValues, encoder::encodeDataValue);
+        encoder.encodeStructureArray("ModificationInfos", historyModifiedData._modificationInfos, ModificationInfo::encodeBinary);
+    }
+
+    public static HistoryModifiedData decodeBinary(BinaryDecoder decoder) {
+        DataValue[] _dataValues = decoder.decodeArray("DataValues", decoder::decodeDataValue, DataValue[]::new);
+        ModificationInfo[] _modificationInfos = decoder.decodeStructureArray("ModificationInfos", ModificationInfo::decodeBinary, ModificationInfo[]::new);
 
         return new HistoryModifiedData(_dataValues, _modificationInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryModifiedData::encode, HistoryModifiedData.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryModifiedData::decode, HistoryModifiedData.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryModifiedData::encode, HistoryModifiedData.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryModifiedData::decode, HistoryModifiedData.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryModifiedData::encodeBinary, HistoryModifiedData.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryModifiedData::decodeBinary, HistoryModifiedData.class, BinaryEncodingId);
     }
 
 }
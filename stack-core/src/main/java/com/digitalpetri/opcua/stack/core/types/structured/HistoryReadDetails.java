@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -54,9 +56,19 @@ public class HistoryReadDetails implements UaStructure {
         return new HistoryReadDetails();
     }
 
+    public static void encodeBinary(HistoryReadDetails historyReadDetails, BinaryEncoder encoder) {
+    }
+
+    public static HistoryReadDetails decodeBinary(BinaryDecoder decoder) {
+
+        return new HistoryReadDetails();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(HistoryReadDetails::encode, HistoryReadDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryReadDetails::decode, HistoryReadDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryReadDetails::encode, HistoryReadDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryReadDetails::decode, HistoryReadDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryReadDetails::encodeBinary, HistoryReadDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadDetails::decodeBinary, HistoryReadDetails.class, BinaryEncodingId);
     }
 
 }
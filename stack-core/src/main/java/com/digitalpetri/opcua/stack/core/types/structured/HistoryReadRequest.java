@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -88,14 +90,34 @@ public class HistoryReadRequest implements UaRequestMessage {
         ExtensionObject _historyReadDetails = decoder.decodeExtensionObject("HistoryReadDetails");
         TimestampsToReturn _timestampsToReturn = decoder.decodeEnumeration("TimestampsToReturn", TimestampsToReturn.class);
         Boolean _releaseContinuationPoints = decoder.decodeBoolean("ReleaseContinuationPoints");
-        HistoryReadValueId[] _nodesToRead = decoder.decodeArray("NodesToRead", decoder::decodeSerializable, HistoryReadValueId.class);
+        HistoryReadValueId[] _nodesToRead = decoder.decodeArray("NodesToRead", decoder::decodeSerializable, HistoryReadValueId.class, HistoryReadValueId[]::new);
+
+        return new HistoryReadRequest(_requestHeader, _historyReadDetails, _timestampsToReturn, _releaseContinuationPoints, _nodesToRead);
+    }
+
+    public static void encodeBinary(HistoryReadRequest historyReadRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(historyReadRequest._requestHeader != null ? historyReadRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeExtensionObject("HistoryReadDetails", historyReadRequest._historyReadDetails);
+        encoder.encodeEnumeration("TimestampsToReturn", historyReadRequest._timestampsToReturn);
+        encoder.encodeBoolean("ReleaseContinuationPoints", historyReadRequest._releaseContinuationPoints);
+        encoder.encodeStructureArray("NodesToRead", historyReadRequest._nodesToRead, HistoryReadValueId::encodeBinary);
+    }
+
+    public static HistoryReadRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        ExtensionObject _historyReadDetails = decoder.decodeExtensionObject("HistoryReadDetails");
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        Boolean _releaseContinuationPoints = decoder.decodeBoolean("ReleaseContinuationPoints");
+        HistoryReadValueId[] _nodesToRead = decoder.decodeStructureArray("NodesToRead", HistoryReadValueId::decodeBinary, HistoryReadValueId[]::new);
 
         return new HistoryReadRequest(_requestHeader, _historyReadDetails, _timestampsToReturn, _releaseContinuationPoints, _nodesToRead);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryReadRequest::encode, HistoryReadRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryReadRequest::decode, HistoryReadRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryReadRequest::encode, HistoryReadRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryReadRequest::decode, HistoryReadRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryReadRequest::encodeBinary, HistoryReadRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadRequest::decodeBinary, HistoryReadRequest.class, BinaryEncodingId);
     }
 
 }
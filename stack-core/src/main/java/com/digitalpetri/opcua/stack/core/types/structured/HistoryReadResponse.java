@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class HistoryReadResponse implements UaResponseMessage {
 
     public static HistoryReadResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        HistoryReadResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, HistoryReadResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        HistoryReadResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, HistoryReadResult.class, HistoryReadResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new HistoryReadResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(HistoryReadResponse historyReadResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(historyReadResponse._responseHeader != null ? historyReadResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", historyReadResponse._results, HistoryReadResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", historyReadResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static HistoryReadResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        HistoryReadResult[] _results = decoder.decodeStructureArray("Results", HistoryReadResult::decodeBinary, HistoryReadResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new HistoryReadResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryReadResponse::encode, HistoryReadResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryReadResponse::decode, HistoryReadResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryReadResponse::encode, HistoryReadResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryReadResponse::decode, HistoryReadResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryReadResponse::encodeBinary, HistoryReadResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadResponse::decodeBinary, HistoryReadResponse.class, BinaryEncodingId);
     }
 
 }
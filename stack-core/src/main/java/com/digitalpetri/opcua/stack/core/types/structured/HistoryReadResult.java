@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
@@ -80,9 +82,25 @@ public class HistoryReadResult implements UaStructure {
         return new HistoryReadResult(_statusCode, _continuationPoint, _historyData);
     }
 
+    public static void encodeBinary(HistoryReadResult historyReadResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", historyReadResult._statusCode);
+        encoder.encodeByteString("ContinuationPoint", historyReadResult._continuationPoint);
+        encoder.encodeExtensionObject("HistoryData", historyReadResult._historyData);
+    }
+
+    public static HistoryReadResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
+        ExtensionObject _historyData = decoder.decodeExtensionObject("HistoryData");
+
+        return new HistoryReadResult(_statusCode, _continuationPoint, _historyData);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(HistoryReadResult::encode, HistoryReadResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryReadResult::decode, HistoryReadResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryReadResult::encode, HistoryReadResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryReadResult::decode, HistoryReadResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryReadResult::encodeBinary, HistoryReadResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadResult::decodeBinary, HistoryReadResult.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -86,9 +88,27 @@ public class HistoryReadValueId implements UaStructure {
         return new HistoryReadValueId(_nodeId, _indexRange, _dataEncoding, _continuationPoint);
     }
 
+    public static void encodeBinary(HistoryReadValueId historyReadValueId, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", historyReadValueId._nodeId);
+        encoder.encodeString("IndexRange", historyReadValueId._indexRange);
+        encoder.encodeQualifiedName("DataEncoding", historyReadValueId._dataEncoding);
+        encoder.encodeByteString("ContinuationPoint", historyReadValueId._continuationPoint);
+    }
+
+    public static HistoryReadValueId decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        String _indexRange = decoder.decodeString("IndexRange");
+        QualifiedName _dataEncoding = decoder.decodeQualifiedName("DataEncoding");
+        ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
+
+        return new HistoryReadValueId(_nodeId, _indexRange, _dataEncoding, _continuationPoint);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(HistoryReadValueId::encode, HistoryReadValueId.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryReadValueId::decode, HistoryReadValueId.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryReadValueId::encode, HistoryReadValueId.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryReadValueId::decode, HistoryReadValueId.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryReadValueId::encodeBinary, HistoryReadValueId.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryReadValueId::decodeBinary, HistoryReadValueId.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class HistoryUpdateDetails implements UaStructure {
         return new HistoryUpdateDetails(_nodeId);
     }
 
+    public static void encodeBinary(HistoryUpdateDetails historyUpdateDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", historyUpdateDetails._nodeId);
+    }
+
+    public static HistoryUpdateDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+
+        return new HistoryUpdateDetails(_nodeId);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(HistoryUpdateDetails::encode, HistoryUpdateDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryUpdateDetails::decode, HistoryUpdateDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryUpdateDetails::encode, HistoryUpdateDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryUpdateDetails::decode, HistoryUpdateDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateDetails::encodeBinary, HistoryUpdateDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateDetails::decodeBinary, HistoryUpdateDetails.class, BinaryEncodingId);
     }
 
 }
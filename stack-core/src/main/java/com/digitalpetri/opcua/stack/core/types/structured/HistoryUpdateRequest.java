@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -66,14 +68,28 @@ public class HistoryUpdateRequest implements UaRequestMessage {
 
     public static HistoryUpdateRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        ExtensionObject[] _historyUpdateDetails = decoder.decodeArray("HistoryUpdateDetails", decoder::decodeExtensionObject, ExtensionObject.class);
+        ExtensionObject[] _historyUpdateDetails = decoder.decodeArray("HistoryUpdateDetails", decoder::decodeExtensionObject, ExtensionObject[]::new);
+
+        return new HistoryUpdateRequest(_requestHeader, _historyUpdateDetails);
+    }
+
+    public static void encodeBinary(HistoryUpdateRequest historyUpdateRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(historyUpdateRequest._requestHeader != null ? historyUpdateRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeArray("HistoryUpdateDetails", historyUpdateRequest._historyUpdateDetails, encoder::encodeExtensionObject);
+    }
+
+    public static HistoryUpdateRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        ExtensionObject[] _historyUpdateDetails = decoder.decodeArray("HistoryUpdateDetails", decoder::decodeExtensionObject, ExtensionObject[]::new);
 
         return new HistoryUpdateRequest(_requestHeader, _historyUpdateDetails);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryUpdateRequest::encode, HistoryUpdateRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryUpdateRequest::decode, HistoryUpdateRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryUpdateRequest::encode, HistoryUpdateRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryUpdateRequest::decode, HistoryUpdateRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateRequest::encodeBinary, HistoryUpdateRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateRequest::decodeBinary, HistoryUpdateRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class HistoryUpdateResponse implements UaResponseMessage {
 
     public static HistoryUpdateResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        HistoryUpdateResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, HistoryUpdateResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        HistoryUpdateResult[] _results = decoder.decodeArray("Results", decoder::decodeSerializable, HistoryUpdateResult.class, HistoryUpdateResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new HistoryUpdateResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(HistoryUpdateResponse historyUpdateResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(historyUpdateResponse._responseHeader != null ? historyUpdateResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", historyUpdateResponse._results, HistoryUpdateResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", historyUpdateResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static HistoryUpdateResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        HistoryUpdateResult[] _results = decoder.decodeStructureArray("Results", HistoryUpdateResult::decodeBinary, HistoryUpdateResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new HistoryUpdateResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(HistoryUpdateResponse::encode, HistoryUpdateResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(HistoryUpdateResponse::decode, HistoryUpdateResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(HistoryUpdateResponse::encode, HistoryUpdateResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(HistoryUpdateResponse::decode, HistoryUpdateResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(HistoryUpdateResponse::encodeBinary, HistoryUpdateResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(HistoryUpdateResponse::decodeBinary, HistoryUpdateResponse.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,14 +75,40 @@ public class InstanceNode extends Node {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+
+        return new InstanceNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    public static void encodeBinary(InstanceNode instanceNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", instanceNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", instanceNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", instanceNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", instanceNode._displayName);
+        encoder.encodeLocalizedText("Description", instanceNode._description);
+        encoder.encodeUInt32("WriteMask", instanceNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", instanceNode._userWriteMask);
+        encoder.encodeStructureArray("References", instanceNode._references, ReferenceNode::encodeBinary);
+    }
+
+    public static InstanceNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
 
         return new InstanceNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
     }
 
     static {
-        DelegateRegistry.registerEncoder(InstanceNode::encode, InstanceNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(InstanceNode::decode, InstanceNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(InstanceNode::encode, InstanceNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(InstanceNode::decode, InstanceNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(InstanceNode::encodeBinary, InstanceNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(InstanceNode::decodeBinary, InstanceNode.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -74,9 +76,25 @@ public class IssuedIdentityToken extends UserIdentityToken {
         return new IssuedIdentityToken(_policyId, _tokenData, _encryptionAlgorithm);
     }
 
+    public static void encodeBinary(IssuedIdentityToken issuedIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", issuedIdentityToken._policyId);
+        encoder.encodeByteString("TokenData", issuedIdentityToken._tokenData);
+        encoder.encodeString("EncryptionAlgorithm", issuedIdentityToken._encryptionAlgorithm);
+    }
+
+    public static IssuedIdentityToken decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+        ByteString _tokenData = decoder.decodeByteString("TokenData");
+        String _encryptionAlgorithm = decoder.decodeString("EncryptionAlgorithm");
+
+        return new IssuedIdentityToken(_policyId, _tokenData, _encryptionAlgorithm);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(IssuedIdentityToken::encode, IssuedIdentityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(IssuedIdentityToken::decode, IssuedIdentityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(IssuedIdentityToken::encode, IssuedIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(IssuedIdentityToken::decode, IssuedIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(IssuedIdentityToken::encodeBinary, IssuedIdentityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(IssuedIdentityToken::decodeBinary, IssuedIdentityToken.class, BinaryEncodingId);
     }
 
 }
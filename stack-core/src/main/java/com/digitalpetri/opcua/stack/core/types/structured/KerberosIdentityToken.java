@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -67,9 +69,23 @@ public class KerberosIdentityToken extends UserIdentityToken {
         return new KerberosIdentityToken(_policyId, _ticketData);
     }
 
+    public static void encodeBinary(KerberosIdentityToken kerberosIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", kerberosIdentityToken._policyId);
+        encoder.encodeByteString("TicketData", kerberosIdentityToken._ticketData);
+    }
+
+    public static KerberosIdentityToken decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+        ByteString _ticketData = decoder.decodeByteString("TicketData");
+
+        return new KerberosIdentityToken(_policyId, _ticketData);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(KerberosIdentityToken::encode, KerberosIdentityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(KerberosIdentityToken::decode, KerberosIdentityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(KerberosIdentityToken::encode, KerberosIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(KerberosIdentityToken::decode, KerberosIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(KerberosIdentityToken::encodeBinary, KerberosIdentityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(KerberosIdentityToken::decodeBinary, KerberosIdentityToken.class, BinaryEncodingId);
     }
 
 }
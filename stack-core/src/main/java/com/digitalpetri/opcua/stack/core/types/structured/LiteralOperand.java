@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
@@ -65,9 +67,21 @@ public class LiteralOperand extends FilterOperand {
         return new LiteralOperand(_value);
     }
 
+    public static void encodeBinary(LiteralOperand literalOperand, BinaryEncoder encoder) {
+        encoder.encodeVariant("Value", literalOperand._value);
+    }
+
+    public static LiteralOperand decodeBinary(BinaryDecoder decoder) {
+        Variant _value = decoder.decodeVariant("Value");
+
+        return new LiteralOperand(_value);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(LiteralOperand::encode, LiteralOperand.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(LiteralOperand::decode, LiteralOperand.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(LiteralOperand::encode, LiteralOperand.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(LiteralOperand::decode, LiteralOperand.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(LiteralOperand::encodeBinary, LiteralOperand.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(LiteralOperand::decodeBinary, LiteralOperand.class, BinaryEncodingId);
     }
 
 }
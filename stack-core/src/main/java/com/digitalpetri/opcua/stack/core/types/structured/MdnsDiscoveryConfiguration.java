@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -66,14 +68,28 @@ public class MdnsDiscoveryConfiguration extends DiscoveryConfiguration {
 
     public static MdnsDiscoveryConfiguration decode(UaDecoder decoder) {
         String _mdnsServerName = decoder.decodeString("MdnsServerName");
-        String[] _serverCapabilities = decoder.decodeArray("ServerCapabilities", decoder::decodeString, String.class);
+        String[] _serverCapabilities = decoder.decodeArray("ServerCapabilities", decoder::decodeString, String[]::new);
+
+        return new MdnsDiscoveryConfiguration(_mdnsServerName, _serverCapabilities);
+    }
+
+    public static void encodeBinary(MdnsDiscoveryConfiguration mdnsDiscoveryConfiguration, BinaryEncoder encoder) {
+        encoder.encodeString("MdnsServerName", mdnsDiscoveryConfiguration._mdnsServerName);
+        encoder.encodeArray("ServerCapabilities", mdnsDiscoveryConfiguration._serverCapabilities, encoder::encodeString);
+    }
+
+    public static MdnsDiscoveryConfiguration decodeBinary(BinaryDecoder decoder) {
+        String _mdnsServerName = decoder.decodeString("MdnsServerName");
+        String[] _serverCapabilities = decoder.decodeArray("ServerCapabilities", decoder::decodeString, String[]::new);
 
         return new MdnsDiscoveryConfiguration(_mdnsServerName, _serverCapabilities);
     }
 
     static {
-        DelegateRegistry.registerEncoder(MdnsDiscoveryConfiguration::encode, MdnsDiscoveryConfiguration.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MdnsDiscoveryConfiguration::decode, MdnsDiscoveryConfiguration.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MdnsDiscoveryConfiguration::encode, MdnsDiscoveryConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MdnsDiscoveryConfiguration::decode, MdnsDiscoveryConfiguration.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MdnsDiscoveryConfiguration::encodeBinary, MdnsDiscoveryConfiguration.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MdnsDiscoveryConfiguration::decodeBinary, MdnsDiscoveryConfiguration.class, BinaryEncodingId);
     }
 
 }
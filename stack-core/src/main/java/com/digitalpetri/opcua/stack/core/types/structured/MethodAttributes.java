@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -83,9 +85,33 @@ public class MethodAttributes extends NodeAttributes {
         return new MethodAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _executable, _userExecutable);
     }
 
+    public static void encodeBinary(MethodAttributes methodAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", methodAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", methodAttributes._displayName);
+        encoder.encodeLocalizedText("Description", methodAttributes._description);
+        encoder.encodeUInt32("WriteMask", methodAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", methodAttributes._userWriteMask);
+        encoder.encodeBoolean("Executable", methodAttributes._executable);
+        encoder.encodeBoolean("UserExecutable", methodAttributes._userExecutable);
+    }
+
+    public static MethodAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Boolean _executable = decoder.decodeBoolean("Executable");
+        Boolean _userExecutable = decoder.decodeBoolean("UserExecutable");
+
+        return new MethodAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _executable, _userExecutable);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MethodAttributes::encode, MethodAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MethodAttributes::decode, MethodAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MethodAttributes::encode, MethodAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MethodAttributes::decode, MethodAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MethodAttributes::encodeBinary, MethodAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MethodAttributes::decodeBinary, MethodAttributes.class, BinaryEncodingId);
     }
 
 }
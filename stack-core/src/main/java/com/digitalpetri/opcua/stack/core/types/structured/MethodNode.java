@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -84,7 +86,35 @@ public class MethodNode extends InstanceNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+        Boolean _executable = decoder.decodeBoolean("Executable");
+        Boolean _userExecutable = decoder.decodeBoolean("UserExecutable");
+
+        return new MethodNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _executable, _userExecutable);
+    }
+
+    public static void encodeBinary(MethodNode methodNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", methodNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", methodNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", methodNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", methodNode._displayName);
+        encoder.encodeLocalizedText("Description", methodNode._description);
+        encoder.encodeUInt32("WriteMask", methodNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", methodNode._userWriteMask);
+        encoder.encodeStructureArray("References", methodNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeBoolean("Executable", methodNode._executable);
+        encoder.encodeBoolean("UserExecutable", methodNode._userExecutable);
+    }
+
+    public static MethodNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
         Boolean _executable = decoder.decodeBoolean("Executable");
         Boolean _userExecutable = decoder.decodeBoolean("UserExecutable");
 
@@ -92,8 +122,10 @@ public class MethodNode extends InstanceNode {
     }
 
     static {
-        DelegateRegistry.registerEncoder(MethodNode::encode, MethodNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MethodNode::decode, MethodNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MethodNode::encode, MethodNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MethodNode::decode, MethodNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MethodNode::encodeBinary, MethodNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MethodNode::decodeBinary, MethodNode.class, BinaryEncodingId);
     }
 
 }
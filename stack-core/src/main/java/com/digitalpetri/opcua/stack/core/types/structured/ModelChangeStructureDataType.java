@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
@@ -78,9 +80,25 @@ public class ModelChangeStructureDataType implements UaStructure {
         return new ModelChangeStructureDataType(_affected, _affectedType, _verb);
     }
 
+    public static void encodeBinary(ModelChangeStructureDataType modelChangeStructureDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId("Affected", modelChangeStructureDataType._affected);
+        encoder.encodeNodeId("AffectedType", modelChangeStructureDataType._affectedType);
+        encoder.encodeByte("Verb", modelChangeStructureDataType._verb);
+    }
+
+    public static ModelChangeStructureDataType decodeBinary(BinaryDecoder decoder) {
+        NodeId _affected = decoder.decodeNodeId("Affected");
+        NodeId _affectedType = decoder.decodeNodeId("AffectedType");
+        UByte _verb = decoder.decodeByte("Verb");
+
+        return new ModelChangeStructureDataType(_affected, _affectedType, _verb);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ModelChangeStructureDataType::encode, ModelChangeStructureDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ModelChangeStructureDataType::decode, ModelChangeStructureDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ModelChangeStructureDataType::encode, ModelChangeStructureDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ModelChangeStructureDataType::decode, ModelChangeStructureDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ModelChangeStructureDataType::encodeBinary, ModelChangeStructureDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ModelChangeStructureDataType::decodeBinary, ModelChangeStructureDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -79,9 +81,25 @@ public class ModificationInfo implements UaStructure {
         return new ModificationInfo(_modificationTime, _updateType, _userName);
     }
 
+    public static void encodeBinary(ModificationInfo modificationInfo, BinaryEncoder encoder) {
+        encoder.encodeDateTime("ModificationTime", modificationInfo._modificationTime);
+        encoder.encodeEnumeration("UpdateType", modificationInfo._updateType);
+        encoder.encodeString("UserName", modificationInfo._userName);
+    }
+
+    public static ModificationInfo decodeBinary(BinaryDecoder decoder) {
+        DateTime _modificationTime = decoder.decodeDateTime("ModificationTime");
+        HistoryUpdateType _updateType = HistoryUpdateType.decode(decoder);
+        String _userName = decoder.decodeString("UserName");
+
+        return new ModificationInfo(_modificationTime, _updateType, _userName);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ModificationInfo::encode, ModificationInfo.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ModificationInfo::decode, ModificationInfo.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ModificationInfo::encode, ModificationInfo.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ModificationInfo::decode, ModificationInfo.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ModificationInfo::encodeBinary, ModificationInfo.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ModificationInfo::decodeBinary, ModificationInfo.class, BinaryEncodingId);
     }
 
 }
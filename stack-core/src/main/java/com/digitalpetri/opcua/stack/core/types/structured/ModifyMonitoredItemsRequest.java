@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -81,14 +83,32 @@ public class ModifyMonitoredItemsRequest implements UaRequestMessage {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
         TimestampsToReturn _timestampsToReturn = decoder.decodeEnumeration("TimestampsToReturn", TimestampsToReturn.class);
-        MonitoredItemModifyRequest[] _itemsToModify = decoder.decodeArray("ItemsToModify", decoder::decodeSerializable, MonitoredItemModifyRequest.class);
+        MonitoredItemModifyRequest[] _itemsToModify = decoder.decodeArray("ItemsToModify", decoder::decodeSerializable, MonitoredItemModifyRequest.class, MonitoredItemModifyRequest[]::new);
+
+        return new ModifyMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToModify);
+    }
+
+    public static void encodeBinary(ModifyMonitoredItemsRequest modifyMonitoredItemsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(modifyMonitoredItemsRequest._requestHeader != null ? modifyMonitoredItemsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", modifyMonitoredItemsRequest._subscriptionId);
+        encoder.encodeEnumeration("TimestampsToReturn", modifyMonitoredItemsRequest._timestampsToReturn);
+        encoder.encodeStructureArray("ItemsToModify", modifyMonitoredItemsRequest._itemsToModify, MonitoredItemModifyRequest::encodeBinary);
+    }
+
+    public static ModifyMonitoredItemsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        MonitoredItemModifyRequest[] _itemsToModify = decoder.decodeStructureArray("ItemsToModify", MonitoredItemModifyRequest::decodeBinary, MonitoredItemModifyRequest[]::new);
 
         return new ModifyMonitoredItemsRequest(_requestHeader, _subscriptionId, _timestampsToReturn, _itemsToModify);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ModifyMonitoredItemsRequest::encode, ModifyMonitoredItemsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ModifyMonitoredItemsRequest::decode, ModifyMonitoredItemsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ModifyMonitoredItemsRequest::encode, ModifyMonitoredItemsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ModifyMonitoredItemsRequest::decode, ModifyMonitoredItemsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ModifyMonitoredItemsRequest::encodeBinary, ModifyMonitoredItemsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ModifyMonitoredItemsRequest::decodeBinary, ModifyMonitoredItemsRequest.class, BinaryEncodingId);
     }
 
 }
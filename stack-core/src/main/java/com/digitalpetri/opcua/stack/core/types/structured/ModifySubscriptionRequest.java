@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
@@ -107,9 +109,33 @@ public class ModifySubscriptionRequest implements UaRequestMessage {
         return new ModifySubscriptionRequest(_requestHeader, _subscriptionId, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _priority);
     }
 
+    public static void encodeBinary(ModifySubscriptionRequest modifySubscriptionRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(modifySubscriptionRequest._requestHeader != null ? modifySubscriptionRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", modifySubscriptionRequest._subscriptionId);
+        encoder.encodeDouble("RequestedPublishingInterval", modifySubscriptionRequest._requestedPublishingInterval);
+        encoder.encodeUInt32("RequestedLifetimeCount", modifySubscriptionRequest._requestedLifetimeCount);
+        encoder.encodeUInt32("RequestedMaxKeepAliveCount", modifySubscriptionRequest._requestedMaxKeepAliveCount);
+        encoder.encodeUInt32("MaxNotificationsPerPublish", modifySubscriptionRequest._maxNotificationsPerPublish);
+        encoder.encodeByte("Priority", modifySubscriptionRequest._priority);
+    }
+
+    public static ModifySubscriptionRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        Double _requestedPublishingInterval = decoder.decodeDouble("RequestedPublishingInterval");
+        UInteger _requestedLifetimeCount = decoder.decodeUInt32("RequestedLifetimeCount");
+        UInteger _requestedMaxKeepAliveCount = decoder.decodeUInt32("RequestedMaxKeepAliveCount");
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32("MaxNotificationsPerPublish");
+        UByte _priority = decoder.decodeByte("Priority");
+
+        return new ModifySubscriptionRequest(_requestHeader, _subscriptionId, _requestedPublishingInterval, _requestedLifetimeCount, _requestedMaxKeepAliveCount, _maxNotificationsPerPublish, _priority);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ModifySubscriptionRequest::encode, ModifySubscriptionRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ModifySubscriptionRequest::decode, ModifySubscriptionRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ModifySubscriptionRequest::encode, ModifySubscriptionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ModifySubscriptionRequest::decode, ModifySubscriptionRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ModifySubscriptionRequest::encodeBinary, ModifySubscriptionRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ModifySubscriptionRequest::decodeBinary, ModifySubscriptionRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.enumerated.MonitoringMode;
@@ -78,9 +80,25 @@ public class MonitoredItemCreateRequest implements UaStructure {
         return new MonitoredItemCreateRequest(_itemToMonitor, _monitoringMode, _requestedParameters);
     }
 
+    public static void encodeBinary(MonitoredItemCreateRequest monitoredItemCreateRequest, BinaryEncoder encoder) {
+        ReadValueId.encodeBinary(monitoredItemCreateRequest._itemToMonitor != null ? monitoredItemCreateRequest._itemToMonitor : new ReadValueId(), encoder);
+        encoder.encodeEnumeration("MonitoringMode", monitoredItemCreateRequest._monitoringMode);
+        MonitoringParameters.encodeBinary(monitoredItemCreateRequest._requestedParameters != null ? monitoredItemCreateRequest._requestedParameters : new MonitoringParameters(), encoder);
+    }
+
+    public static MonitoredItemCreateRequest decodeBinary(BinaryDecoder decoder) {
+        ReadValueId _itemToMonitor = ReadValueId.decodeBinary(decoder);
+        MonitoringMode _monitoringMode = MonitoringMode.decode(decoder);
+        MonitoringParameters _requestedParameters = MonitoringParameters.decodeBinary(decoder);
+
+        return new MonitoredItemCreateRequest(_itemToMonitor, _monitoringMode, _requestedParameters);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoredItemCreateRequest::encode, MonitoredItemCreateRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoredItemCreateRequest::decode, MonitoredItemCreateRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoredItemCreateRequest::encode, MonitoredItemCreateRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoredItemCreateRequest::decode, MonitoredItemCreateRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemCreateRequest::encodeBinary, MonitoredItemCreateRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemCreateRequest::decodeBinary, MonitoredItemCreateRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -94,9 +96,29 @@ public class MonitoredItemCreateResult implements UaStructure {
         return new MonitoredItemCreateResult(_statusCode, _monitoredItemId, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
     }
 
+    public static void encodeBinary(MonitoredItemCreateResult monitoredItemCreateResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", monitoredItemCreateResult._statusCode);
+        encoder.encodeUInt32("MonitoredItemId", monitoredItemCreateResult._monitoredItemId);
+        encoder.encodeDouble("RevisedSamplingInterval", monitoredItemCreateResult._revisedSamplingInterval);
+        encoder.encodeUInt32("RevisedQueueSize", monitoredItemCreateResult._revisedQueueSize);
+        encoder.encodeExtensionObject("FilterResult", monitoredItemCreateResult._filterResult);
+    }
+
+    public static MonitoredItemCreateResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        UInteger _monitoredItemId = decoder.decodeUInt32("MonitoredItemId");
+        Double _revisedSamplingInterval = decoder.decodeDouble("RevisedSamplingInterval");
+        UInteger _revisedQueueSize = decoder.decodeUInt32("RevisedQueueSize");
+        ExtensionObject _filterResult = decoder.decodeExtensionObject("FilterResult");
+
+        return new MonitoredItemCreateResult(_statusCode, _monitoredItemId, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoredItemCreateResult::encode, MonitoredItemCreateResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoredItemCreateResult::decode, MonitoredItemCreateResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoredItemCreateResult::encode, MonitoredItemCreateResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoredItemCreateResult::decode, MonitoredItemCreateResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemCreateResult::encodeBinary, MonitoredItemCreateResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemCreateResult::decodeBinary, MonitoredItemCreateResult.class, BinaryEncodingId);
     }
 
 }
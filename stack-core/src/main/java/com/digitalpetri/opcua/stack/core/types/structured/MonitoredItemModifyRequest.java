@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -71,9 +73,23 @@ public class MonitoredItemModifyRequest implements UaStructure {
         return new MonitoredItemModifyRequest(_monitoredItemId, _requestedParameters);
     }
 
+    public static void encodeBinary(MonitoredItemModifyRequest monitoredItemModifyRequest, BinaryEncoder encoder) {
+        encoder.encodeUInt32("MonitoredItemId", monitoredItemModifyRequest._monitoredItemId);
+        MonitoringParameters.encodeBinary(monitoredItemModifyRequest._requestedParameters != null ? monitoredItemModifyRequest._requestedParameters : new MonitoringParameters(), encoder);
+    }
+
+    public static MonitoredItemModifyRequest decodeBinary(BinaryDecoder decoder) {
+        UInteger _monitoredItemId = decoder.decodeUInt32("MonitoredItemId");
+        MonitoringParameters _requestedParameters = MonitoringParameters.decodeBinary(decoder);
+
+        return new MonitoredItemModifyRequest(_monitoredItemId, _requestedParameters);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoredItemModifyRequest::encode, MonitoredItemModifyRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoredItemModifyRequest::decode, MonitoredItemModifyRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoredItemModifyRequest::encode, MonitoredItemModifyRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoredItemModifyRequest::decode, MonitoredItemModifyRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemModifyRequest::encodeBinary, MonitoredItemModifyRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemModifyRequest::decodeBinary, MonitoredItemModifyRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -87,9 +89,27 @@ public class MonitoredItemModifyResult implements UaStructure {
         return new MonitoredItemModifyResult(_statusCode, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
     }
 
+    public static void encodeBinary(MonitoredItemModifyResult monitoredItemModifyResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", monitoredItemModifyResult._statusCode);
+        encoder.encodeDouble("RevisedSamplingInterval", monitoredItemModifyResult._revisedSamplingInterval);
+        encoder.encodeUInt32("RevisedQueueSize", monitoredItemModifyResult._revisedQueueSize);
+        encoder.encodeExtensionObject("FilterResult", monitoredItemModifyResult._filterResult);
+    }
+
+    public static MonitoredItemModifyResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        Double _revisedSamplingInterval = decoder.decodeDouble("RevisedSamplingInterval");
+        UInteger _revisedQueueSize = decoder.decodeUInt32("RevisedQueueSize");
+        ExtensionObject _filterResult = decoder.decodeExtensionObject("FilterResult");
+
+        return new MonitoredItemModifyResult(_statusCode, _revisedSamplingInterval, _revisedQueueSize, _filterResult);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoredItemModifyResult::encode, MonitoredItemModifyResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoredItemModifyResult::decode, MonitoredItemModifyResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoredItemModifyResult::encode, MonitoredItemModifyResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoredItemModifyResult::decode, MonitoredItemModifyResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemModifyResult::encodeBinary, MonitoredItemModifyResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemModifyResult::decodeBinary, MonitoredItemModifyResult.class, BinaryEncodingId);
     }
 
 }
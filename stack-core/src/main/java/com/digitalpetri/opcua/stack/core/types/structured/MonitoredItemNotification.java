@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,9 +74,23 @@ public class MonitoredItemNotification implements UaStructure {
         return new MonitoredItemNotification(_clientHandle, _value);
     }
 
+    public static void encodeBinary(MonitoredItemNotification monitoredItemNotification, BinaryEncoder encoder) {
+        encoder.encodeUInt32("ClientHandle", monitoredItemNotification._clientHandle);
+        encoder.encodeDataValue("Value", monitoredItemNotification._value);
+    }
+
+    public static MonitoredItemNotification decodeBinary(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32("ClientHandle");
+        DataValue _value = decoder.decodeDataValue("Value");
+
+        return new MonitoredItemNotification(_clientHandle, _value);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoredItemNotification::encode, MonitoredItemNotification.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoredItemNotification::decode, MonitoredItemNotification.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoredItemNotification::encode, MonitoredItemNotification.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoredItemNotification::decode, MonitoredItemNotification.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoredItemNotification::encodeBinary, MonitoredItemNotification.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoredItemNotification::decodeBinary, MonitoredItemNotification.class, BinaryEncodingId);
     }
 
 }
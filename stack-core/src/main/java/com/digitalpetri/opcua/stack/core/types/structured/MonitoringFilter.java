@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -54,9 +56,19 @@ public class MonitoringFilter implements UaStructure {
         return new MonitoringFilter();
     }
 
+    public static void encodeBinary(MonitoringFilter monitoringFilter, BinaryEncoder encoder) {
+    }
+
+    public static MonitoringFilter decodeBinary(BinaryDecoder decoder) {
+
+        return new MonitoringFilter();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoringFilter::encode, MonitoringFilter.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoringFilter::decode, MonitoringFilter.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoringFilter::encode, MonitoringFilter.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoringFilter::decode, MonitoringFilter.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoringFilter::encodeBinary, MonitoringFilter.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoringFilter::decodeBinary, MonitoringFilter.class, BinaryEncodingId);
     }
 
 }
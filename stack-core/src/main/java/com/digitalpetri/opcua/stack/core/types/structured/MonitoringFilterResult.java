@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -54,9 +56,19 @@ public class MonitoringFilterResult implements UaStructure {
         return new MonitoringFilterResult();
     }
 
+    public static void encodeBinary(MonitoringFilterResult monitoringFilterResult, BinaryEncoder encoder) {
+    }
+
+    public static MonitoringFilterResult decodeBinary(BinaryDecoder decoder) {
+
+        return new MonitoringFilterResult();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoringFilterResult::encode, MonitoringFilterResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoringFilterResult::decode, MonitoringFilterResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoringFilterResult::encode, MonitoringFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoringFilterResult::decode, MonitoringFilterResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoringFilterResult::encodeBinary, MonitoringFilterResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoringFilterResult::decodeBinary, MonitoringFilterResult.class, BinaryEncodingId);
     }
 
 }
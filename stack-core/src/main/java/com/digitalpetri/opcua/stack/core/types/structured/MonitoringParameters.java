@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -93,9 +95,29 @@ public class MonitoringParameters implements UaStructure {
         return new MonitoringParameters(_clientHandle, _samplingInterval, _filter, _queueSize, _discardOldest);
     }
 
+    public static void encodeBinary(MonitoringParameters monitoringParameters, BinaryEncoder encoder) {
+        encoder.encodeUInt32("ClientHandle", monitoringParameters._clientHandle);
+        encoder.encodeDouble("SamplingInterval", monitoringParameters._samplingInterval);
+        encoder.encodeExtensionObject("Filter", monitoringParameters._filter);
+        encoder.encodeUInt32("QueueSize", monitoringParameters._queueSize);
+        encoder.encodeBoolean("DiscardOldest", monitoringParameters._discardOldest);
+    }
+
+    public static MonitoringParameters decodeBinary(BinaryDecoder decoder) {
+        UInteger _clientHandle = decoder.decodeUInt32("ClientHandle");
+        Double _samplingInterval = decoder.decodeDouble("SamplingInterval");
+        ExtensionObject _filter = decoder.decodeExtensionObject("Filter");
+        UInteger _queueSize = decoder.decodeUInt32("QueueSize");
+        Boolean _discardOldest = decoder.decodeBoolean("DiscardOldest");
+
+        return new MonitoringParameters(_clientHandle, _samplingInterval, _filter, _queueSize, _discardOldest);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(MonitoringParameters::encode, MonitoringParameters.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(MonitoringParameters::decode, MonitoringParameters.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(MonitoringParameters::encode, MonitoringParameters.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(MonitoringParameters::decode, MonitoringParameters.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(MonitoringParameters::encodeBinary, MonitoringParameters.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(MonitoringParameters::decodeBinary, MonitoringParameters.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class NetworkGroupDataType implements UaStructure {
 
     public static NetworkGroupDataType decode(UaDecoder decoder) {
         String _serverUri = decoder.decodeString("ServerUri");
-        EndpointUrlListDataType[] _networkPaths = decoder.decodeArray("NetworkPaths", decoder::decodeSerializable, EndpointUrlListDataType.class);
+        EndpointUrlListDataType[] _networkPaths = decoder.decodeArray("NetworkPaths", decoder::decodeSerializable, EndpointUrlListDataType.class, EndpointUrlListDataType[]::new);
+
+        return new NetworkGroupDataType(_serverUri, _networkPaths);
+    }
+
+    public static void encodeBinary(NetworkGroupDataType networkGroupDataType, BinaryEncoder encoder) {
+        encoder.encodeString("ServerUri", networkGroupDataType._serverUri);
+        encoder.encodeStructureArray("NetworkPaths", networkGroupDataType._networkPaths, EndpointUrlListDataType::encodeBinary);
+    }
+
+    public static NetworkGroupDataType decodeBinary(BinaryDecoder decoder) {
+        String _serverUri = decoder.decodeString("ServerUri");
+        EndpointUrlListDataType[] _networkPaths = decoder.decodeStructureArray("NetworkPaths", EndpointUrlListDataType::decodeBinary, EndpointUrlListDataType[]::new);
 
         return new NetworkGroupDataType(_serverUri, _networkPaths);
     }
 
     static {
-        DelegateRegistry.registerEncoder(NetworkGroupDataType::encode, NetworkGroupDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(NetworkGroupDataType::decode, NetworkGroupDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(NetworkGroupDataType::encode, NetworkGroupDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(NetworkGroupDataType::decode, NetworkGroupDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(NetworkGroupDataType::encodeBinary, NetworkGroupDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(NetworkGroupDataType::decodeBinary, NetworkGroupDataType.class, BinaryEncodingId);
     }
 
 }
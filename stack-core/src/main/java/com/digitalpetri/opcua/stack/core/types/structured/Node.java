@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -111,14 +113,40 @@ public class Node implements UaStructure {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+
+        return new Node(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    public static void encodeBinary(Node node, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", node._nodeId);
+        encoder.encodeEnumeration("NodeClass", node._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", node._browseName);
+        encoder.encodeLocalizedText("DisplayName", node._displayName);
+        encoder.encodeLocalizedText("Description", node._description);
+        encoder.encodeUInt32("WriteMask", node._writeMask);
+        encoder.encodeUInt32("UserWriteMask", node._userWriteMask);
+        encoder.encodeStructureArray("References", node._references, ReferenceNode::encodeBinary);
+    }
+
+    public static Node decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
 
         return new Node(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
     }
 
     static {
-        DelegateRegistry.registerEncoder(Node::encode, Node.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(Node::decode, Node.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(Node::encode, Node.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(Node::decode, Node.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(Node::encodeBinary, Node.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(Node::decodeBinary, Node.class, BinaryEncodingId);
     }
 
 }
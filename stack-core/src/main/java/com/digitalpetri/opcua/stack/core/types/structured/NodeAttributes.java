@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -93,9 +95,29 @@ public class NodeAttributes implements UaStructure {
         return new NodeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask);
     }
 
+    public static void encodeBinary(NodeAttributes nodeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", nodeAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", nodeAttributes._displayName);
+        encoder.encodeLocalizedText("Description", nodeAttributes._description);
+        encoder.encodeUInt32("WriteMask", nodeAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", nodeAttributes._userWriteMask);
+    }
+
+    public static NodeAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+
+        return new NodeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(NodeAttributes::encode, NodeAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(NodeAttributes::decode, NodeAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(NodeAttributes::encode, NodeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(NodeAttributes::decode, NodeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(NodeAttributes::encodeBinary, NodeAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(NodeAttributes::decodeBinary, NodeAttributes.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -79,14 +81,32 @@ public class NodeReference implements UaStructure {
         NodeId _nodeId = decoder.decodeNodeId("NodeId");
         NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
         Boolean _isForward = decoder.decodeBoolean("IsForward");
-        NodeId[] _referencedNodeIds = decoder.decodeArray("ReferencedNodeIds", decoder::decodeNodeId, NodeId.class);
+        NodeId[] _referencedNodeIds = decoder.decodeArray("ReferencedNodeIds", decoder::decodeNodeId, NodeId[]::new);
+
+        return new NodeReference(_nodeId, _referenceTypeId, _isForward, _referencedNodeIds);
+    }
+
+    public static void encodeBinary(NodeReference nodeReference, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", nodeReference._nodeId);
+        encoder.encodeNodeId("ReferenceTypeId", nodeReference._referenceTypeId);
+        encoder.encodeBoolean("IsForward", nodeReference._isForward);
+        encoder.encodeArray("ReferencedNodeIds", nodeReference._referencedNodeIds, encoder::encodeNodeId);
+    }
+
+    public static NodeReference decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _isForward = decoder.decodeBoolean("IsForward");
+        NodeId[] _referencedNodeIds = decoder.decodeArray("ReferencedNodeIds", decoder::decodeNodeId, NodeId[]::new);
 
         return new NodeReference(_nodeId, _referenceTypeId, _isForward, _referencedNodeIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(NodeReference::encode, NodeReference.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(NodeReference::decode, NodeReference.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(NodeReference::encode, NodeReference.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(NodeReference::decode, NodeReference.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(NodeReference::encodeBinary, NodeReference.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(NodeReference::decodeBinary, NodeReference.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,14 +75,30 @@ public class NodeTypeDescription implements UaStructure {
     public static NodeTypeDescription decode(UaDecoder decoder) {
         ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId("TypeDefinitionNode");
         Boolean _includeSubTypes = decoder.decodeBoolean("IncludeSubTypes");
-        QueryDataDescription[] _dataToReturn = decoder.decodeArray("DataToReturn", decoder::decodeSerializable, QueryDataDescription.class);
+        QueryDataDescription[] _dataToReturn = decoder.decodeArray("DataToReturn", decoder::decodeSerializable, QueryDataDescription.class, QueryDataDescription[]::new);
+
+        return new NodeTypeDescription(_typeDefinitionNode, _includeSubTypes, _dataToReturn);
+    }
+
+    public static void encodeBinary(NodeTypeDescription nodeTypeDescription, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId("TypeDefinitionNode", nodeTypeDescription._typeDefinitionNode);
+        encoder.encodeBoolean("IncludeSubTypes", nodeTypeDescription._includeSubTypes);
+        encoder.encodeStructureArray("DataToReturn", nodeTypeDescription._dataToReturn, QueryDataDescription::encodeBinary);
+    }
+
+    public static NodeTypeDescription decodeBinary(BinaryDecoder decoder) {
+        ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId("TypeDefinitionNode");
+        Boolean _includeSubTypes = decoder.decodeBoolean("IncludeSubTypes");
+        QueryDataDescription[] _dataToReturn = decoder.decodeStructureArray("DataToReturn", QueryDataDescription::decodeBinary, QueryDataDescription[]::new);
 
         return new NodeTypeDescription(_typeDefinitionNode, _includeSubTypes, _dataToReturn);
     }
 
     static {
-        DelegateRegistry.registerEncoder(NodeTypeDescription::encode, NodeTypeDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(NodeTypeDescription::decode, NodeTypeDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(NodeTypeDescription::encode, NodeTypeDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(NodeTypeDescription::decode, NodeTypeDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(NodeTypeDescription::encodeBinary, NodeTypeDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(NodeTypeDescription::decodeBinary, NodeTypeDescription.class, BinaryEncodingId);
     }
 
 }
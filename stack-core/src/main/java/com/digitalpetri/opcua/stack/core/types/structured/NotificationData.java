@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -55,9 +57,19 @@ public class NotificationData implements UaStructure {
         return new NotificationData();
     }
 
+    public static void encodeBinary(NotificationData notificationData, BinaryEncoder encoder) {
+    }
+
+    public static NotificationData decodeBinary(BinaryDecoder decoder) {
+
+        return new NotificationData();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(NotificationData::encode, NotificationData.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(NotificationData::decode, NotificationData.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(NotificationData::encode, NotificationData.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(NotificationData::decode, NotificationData.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(NotificationData::encodeBinary, NotificationData.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(NotificationData::decodeBinary, NotificationData.class, BinaryEncodingId);
     }
 
 }
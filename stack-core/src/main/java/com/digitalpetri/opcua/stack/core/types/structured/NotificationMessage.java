@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
@@ -75,14 +77,30 @@ public class NotificationMessage implements UaStructure {
     public static NotificationMessage decode(UaDecoder decoder) {
         UInteger _sequenceNumber = decoder.decodeUInt32("SequenceNumber");
         DateTime _publishTime = decoder.decodeDateTime("PublishTime");
-        ExtensionObject[] _notificationData = decoder.decodeArray("NotificationData", decoder::decodeExtensionObject, ExtensionObject.class);
+        ExtensionObject[] _notificationData = decoder.decodeArray("NotificationData", decoder::decodeExtensionObject, ExtensionObject[]::new);
+
+        return new NotificationMessage(_sequenceNumber, _publishTime, _notificationData);
+    }
+
+    public static void encodeBinary(NotificationMessage notificationMessage, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SequenceNumber", notificationMessage._sequenceNumber);
+        encoder.encodeDateTime("PublishTime", notificationMessage._publishTime);
+        encoder.encodeArray("NotificationData", notificationMessage._notificationData, encoder::encodeExtensionObject);
+    }
+
+    public static NotificationMessage decodeBinary(BinaryDecoder decoder) {
+        UInteger _sequenceNumber = decoder.decodeUInt32("SequenceNumber");
+        DateTime _publishTime = decoder.decodeDateTime("PublishTime");
+        ExtensionObject[] _notificationData = decoder.decodeArray("NotificationData", decoder::decodeExtensionObject, ExtensionObject[]::new);
 
         return new NotificationMessage(_sequenceNumber, _publishTime, _notificationData);
     }
 
     static {
-        DelegateRegistry.registerEncoder(NotificationMessage::encode, NotificationMessage.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(NotificationMessage::decode, NotificationMessage.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(NotificationMessage::encode, NotificationMessage.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(NotificationMessage::decode, NotificationMessage.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(NotificationMessage::encodeBinary, NotificationMessage.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(NotificationMessage::decodeBinary, NotificationMessage.class, BinaryEncodingId);
     }
 
 }
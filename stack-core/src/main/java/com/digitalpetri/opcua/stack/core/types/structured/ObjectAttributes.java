@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -77,9 +79,31 @@ public class ObjectAttributes extends NodeAttributes {
         return new ObjectAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _eventNotifier);
     }
 
+    public static void encodeBinary(ObjectAttributes objectAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", objectAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", objectAttributes._displayName);
+        encoder.encodeLocalizedText("Description", objectAttributes._description);
+        encoder.encodeUInt32("WriteMask", objectAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", objectAttributes._userWriteMask);
+        encoder.encodeByte("EventNotifier", objectAttributes._eventNotifier);
+    }
+
+    public static ObjectAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        UByte _eventNotifier = decoder.decodeByte("EventNotifier");
+
+        return new ObjectAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _eventNotifier);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ObjectAttributes::encode, ObjectAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ObjectAttributes::decode, ObjectAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ObjectAttributes::encode, ObjectAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ObjectAttributes::decode, ObjectAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ObjectAttributes::encodeBinary, ObjectAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ObjectAttributes::decodeBinary, ObjectAttributes.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -79,15 +81,43 @@ public class ObjectNode extends InstanceNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+        UByte _eventNotifier = decoder.decodeByte("EventNotifier");
+
+        return new ObjectNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _eventNotifier);
+    }
+
+    public static void encodeBinary(ObjectNode objectNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", objectNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", objectNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", objectNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", objectNode._displayName);
+        encoder.encodeLocalizedText("Description", objectNode._description);
+        encoder.encodeUInt32("WriteMask", objectNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", objectNode._userWriteMask);
+        encoder.encodeStructureArray("References", objectNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeByte("EventNotifier", objectNode._eventNotifier);
+    }
+
+    public static ObjectNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
         UByte _eventNotifier = decoder.decodeByte("EventNotifier");
 
         return new ObjectNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _eventNotifier);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ObjectNode::encode, ObjectNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ObjectNode::decode, ObjectNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ObjectNode::encode, ObjectNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ObjectNode::decode, ObjectNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ObjectNode::encodeBinary, ObjectNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ObjectNode::decodeBinary, ObjectNode.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -76,9 +78,31 @@ public class ObjectTypeAttributes extends NodeAttributes {
         return new ObjectTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
     }
 
+    public static void encodeBinary(ObjectTypeAttributes objectTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", objectTypeAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", objectTypeAttributes._displayName);
+        encoder.encodeLocalizedText("Description", objectTypeAttributes._description);
+        encoder.encodeUInt32("WriteMask", objectTypeAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", objectTypeAttributes._userWriteMask);
+        encoder.encodeBoolean("IsAbstract", objectTypeAttributes._isAbstract);
+    }
+
+    public static ObjectTypeAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+
+        return new ObjectTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ObjectTypeAttributes::encode, ObjectTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ObjectTypeAttributes::decode, ObjectTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ObjectTypeAttributes::encode, ObjectTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ObjectTypeAttributes::decode, ObjectTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ObjectTypeAttributes::encodeBinary, ObjectTypeAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ObjectTypeAttributes::decodeBinary, ObjectTypeAttributes.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -78,15 +80,43 @@ public class ObjectTypeNode extends TypeNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+
+        return new ObjectTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
+    }
+
+    public static void encodeBinary(ObjectTypeNode objectTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", objectTypeNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", objectTypeNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", objectTypeNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", objectTypeNode._displayName);
+        encoder.encodeLocalizedText("Description", objectTypeNode._description);
+        encoder.encodeUInt32("WriteMask", objectTypeNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", objectTypeNode._userWriteMask);
+        encoder.encodeStructureArray("References", objectTypeNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeBoolean("IsAbstract", objectTypeNode._isAbstract);
+    }
+
+    public static ObjectTypeNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
         Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
 
         return new ObjectTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ObjectTypeNode::encode, ObjectTypeNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ObjectTypeNode::decode, ObjectTypeNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ObjectTypeNode::encode, ObjectTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ObjectTypeNode::decode, ObjectTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ObjectTypeNode::encodeBinary, ObjectTypeNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ObjectTypeNode::decodeBinary, ObjectTypeNode.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -102,9 +104,31 @@ public class OpenSecureChannelRequest implements UaRequestMessage {
         return new OpenSecureChannelRequest(_requestHeader, _clientProtocolVersion, _requestType, _securityMode, _clientNonce, _requestedLifetime);
     }
 
+    public static void encodeBinary(OpenSecureChannelRequest openSecureChannelRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(openSecureChannelRequest._requestHeader != null ? openSecureChannelRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("ClientProtocolVersion", openSecureChannelRequest._clientProtocolVersion);
+        encoder.encodeEnumeration("RequestType", openSecureChannelRequest._requestType);
+        encoder.encodeEnumeration("SecurityMode", openSecureChannelRequest._securityMode);
+        encoder.encodeByteString("ClientNonce", openSecureChannelRequest._clientNonce);
+        encoder.encodeUInt32("RequestedLifetime", openSecureChannelRequest._requestedLifetime);
+    }
+
+    public static OpenSecureChannelRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _clientProtocolVersion = decoder.decodeUInt32("ClientProtocolVersion");
+        SecurityTokenRequestType _requestType = SecurityTokenRequestType.decode(decoder);
+        MessageSecurityMode _securityMode = MessageSecurityMode.decode(decoder);
+        ByteString _clientNonce = decoder.decodeByteString("ClientNonce");
+        UInteger _requestedLifetime = decoder.decodeUInt32("RequestedLifetime");
+
+        return new OpenSecureChannelRequest(_requestHeader, _clientProtocolVersion, _requestType, _securityMode, _clientNonce, _requestedLifetime);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(OpenSecureChannelRequest::encode, OpenSecureChannelRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(OpenSecureChannelRequest::decode, OpenSecureChannelRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(OpenSecureChannelRequest::encode, OpenSecureChannelRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(OpenSecureChannelRequest::decode, OpenSecureChannelRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(OpenSecureChannelRequest::encodeBinary, OpenSecureChannelRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(OpenSecureChannelRequest::decodeBinary, OpenSecureChannelRequest.class, BinaryEncodingId);
     }
 
 }
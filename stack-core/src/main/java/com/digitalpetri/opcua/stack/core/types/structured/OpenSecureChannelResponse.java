@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -86,9 +88,27 @@ public class OpenSecureChannelResponse implements UaResponseMessage {
         return new OpenSecureChannelResponse(_responseHeader, _serverProtocolVersion, _securityToken, _serverNonce);
     }
 
+    public static void encodeBinary(OpenSecureChannelResponse openSecureChannelResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(openSecureChannelResponse._responseHeader != null ? openSecureChannelResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32("ServerProtocolVersion", openSecureChannelResponse._serverProtocolVersion);
+        ChannelSecurityToken.encodeBinary(openSecureChannelResponse._securityToken != null ? openSecureChannelResponse._securityToken : new ChannelSecurityToken(), encoder);
+        encoder.encodeByteString("ServerNonce", openSecureChannelResponse._serverNonce);
+    }
+
+    public static OpenSecureChannelResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        UInteger _serverProtocolVersion = decoder.decodeUInt32("ServerProtocolVersion");
+        ChannelSecurityToken _securityToken = ChannelSecurityToken.decodeBinary(decoder);
+        ByteString _serverNonce = decoder.decodeByteString("ServerNonce");
+
+        return new OpenSecureChannelResponse(_responseHeader, _serverProtocolVersion, _securityToken, _serverNonce);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(OpenSecureChannelResponse::encode, OpenSecureChannelResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(OpenSecureChannelResponse::decode, OpenSecureChannelResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(OpenSecureChannelResponse::encode, OpenSecureChannelResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(OpenSecureChannelResponse::decode, OpenSecureChannelResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(OpenSecureChannelResponse::encodeBinary, OpenSecureChannelResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(OpenSecureChannelResponse::decodeBinary, OpenSecureChannelResponse.class, BinaryEncodingId);
     }
 
 }
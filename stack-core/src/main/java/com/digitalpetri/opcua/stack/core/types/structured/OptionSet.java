@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -71,9 +73,23 @@ public class OptionSet implements UaStructure {
         return new OptionSet(_value, _validBits);
     }
 
+    public static void encodeBinary(OptionSet optionSet, BinaryEncoder encoder) {
+        encoder.encodeByteString("Value", optionSet._value);
+        encoder.encodeByteString("ValidBits", optionSet._validBits);
+    }
+
+    public static OptionSet decodeBinary(BinaryDecoder decoder) {
+        ByteString _value = decoder.decodeByteString("Value");
+        ByteString _validBits = decoder.decodeByteString("ValidBits");
+
+        return new OptionSet(_value, _validBits);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(OptionSet::encode, OptionSet.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(OptionSet::decode, OptionSet.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(OptionSet::encode, OptionSet.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(OptionSet::decode, OptionSet.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(OptionSet::encodeBinary, OptionSet.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(OptionSet::decodeBinary, OptionSet.class, BinaryEncodingId);
     }
 
 }
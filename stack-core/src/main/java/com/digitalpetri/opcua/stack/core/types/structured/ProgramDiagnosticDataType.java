@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -119,17 +121,47 @@ public class ProgramDiagnosticDataType implements UaStructure {
         DateTime _lastTransitionTime = decoder.decodeDateTime("LastTransitionTime");
         String _lastMethodCall = decoder.decodeString("LastMethodCall");
         NodeId _lastMethodSessionId = decoder.decodeNodeId("LastMethodSessionId");
-        Argument[] _lastMethodInputArguments = decoder.decodeArray("LastMethodInputArguments", decoder::decodeSerializable, Argument.class);
-        Argument[] _lastMethodOutputArguments = decoder.decodeArray("LastMethodOutputArguments", decoder::decodeSerializable, Argument.class);
+        Argument[] _lastMethodInputArguments = decoder.decodeArray("LastMethodInputArguments", decoder::decodeSerializable, Argument.class, Argument[]::new);
+        Argument[] _lastMethodOutputArguments = decoder.decodeArray("LastMethodOutputArguments", decoder::decodeSerializable, Argument.class, Argument[]::new);
         DateTime _lastMethodCallTime = decoder.decodeDateTime("LastMethodCallTime");
         StatusResult _lastMethodReturnStatus = decoder.decodeSerializable("LastMethodReturnStatus", StatusResult.class);
 
         return new ProgramDiagnosticDataType(_createSessionId, _createClientName, _invocationCreationTime, _lastTransitionTime, _lastMethodCall, _lastMethodSessionId, _lastMethodInputArguments, _lastMethodOutputArguments, _lastMethodCallTime, _lastMethodReturnStatus);
     }
 
+    public static void encodeBinary(ProgramDiagnosticDataType programDiagnosticDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId("CreateSessionId", programDiagnosticDataType._createSessionId);
+        encoder.encodeString("CreateClientName", programDiagnosticDataType._createClientName);
+        encoder.encodeDateTime("InvocationCreationTime", programDiagnosticDataType._invocationCreationTime);
+        encoder.encodeDateTime("LastTransitionTime", programDiagnosticDataType._lastTransitionTime);
+        encoder.encodeString("LastMethodCall", programDiagnosticDataType._lastMethodCall);
+        encoder.encodeNodeId("LastMethodSessionId", programDiagnosticDataType._lastMethodSessionId);
+        encoder.encodeStructureArray("LastMethodInputArguments", programDiagnosticDataType._lastMethodInputArguments, Argument::encodeBinary);
+        encoder.encodeStructureArray("LastMethodOutputArguments", programDiagnosticDataType._lastMethodOutputArguments, Argument::encodeBinary);
+        encoder.encodeDateTime("LastMethodCallTime", programDiagnosticDataType._lastMethodCallTime);
+        StatusResult.encodeBinary(programDiagnosticDataType._lastMethodReturnStatus != null ? programDiagnosticDataType._lastMethodReturnStatus : new StatusResult(), encoder);
+    }
+
+    public static ProgramDiagnosticDataType decodeBinary(BinaryDecoder decoder) {
+        NodeId _createSessionId = decoder.decodeNodeId("CreateSessionId");
+        String _createClientName = decoder.decodeString("CreateClientName");
+        DateTime _invocationCreationTime = decoder.decodeDateTime("InvocationCreationTime");
+        DateTime _lastTransitionTime = decoder.decodeDateTime("LastTransitionTime");
+        String _lastMethodCall = decoder.decodeString("LastMethodCall");
+        NodeId _lastMethodSessionId = decoder.decodeNodeId("LastMethodSessionId");
+        Argument[] _lastMethodInputArguments = decoder.decodeStructureArray("LastMethodInputArguments", Argument::decodeBinary, Argument[]::new);
+        Argument[] _lastMethodOutputArguments = decoder.decodeStructureArray("LastMethodOutputArguments", Argument::decodeBinary, Argument[]::new);
+        DateTime _lastMethodCallTime = decoder.decodeDateTime("LastMethodCallTime");
+        StatusResult _lastMethodReturnStatus = StatusResult.decodeBinary(decoder);
+
+        return new ProgramDiagnosticDataType(_createSessionId, _createClientName, _invocationCreationTime, _lastTransitionTime, _lastMethodCall, _lastMethodSessionId, _lastMethodInputArguments, _lastMethodOutputArguments, _lastMethodCallTime, _lastMethodReturnStatus);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ProgramDiagnosticDataType::encode, ProgramDiagnosticDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ProgramDiagnosticDataType::decode, ProgramDiagnosticDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ProgramDiagnosticDataType::encode, ProgramDiagnosticDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ProgramDiagnosticDataType::decode, ProgramDiagnosticDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ProgramDiagnosticDataType::encodeBinary, ProgramDiagnosticDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ProgramDiagnosticDataType::decodeBinary, ProgramDiagnosticDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class PublishRequest implements UaRequestMessage {
 
     public static PublishRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = decoder.decodeArray("SubscriptionAcknowledgements", decoder::decodeSerializable, SubscriptionAcknowledgement.class);
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = decoder.decodeArray("SubscriptionAcknowledgements", decoder::decodeSerializable, SubscriptionAcknowledgement.class, SubscriptionAcknowledgement[]::new);
+
+        return new PublishRequest(_requestHeader, _subscriptionAcknowledgements);
+    }
+
+    public static void encodeBinary(PublishRequest publishRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(publishRequest._requestHeader != null ? publishRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("SubscriptionAcknowledgements", publishRequest._subscriptionAcknowledgements, SubscriptionAcknowledgement::encodeBinary);
+    }
+
+    public static PublishRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        SubscriptionAcknowledgement[] _subscriptionAcknowledgements = decoder.decodeStructureArray("SubscriptionAcknowledgements", SubscriptionAcknowledgement::decodeBinary, SubscriptionAcknowledgement[]::new);
 
         return new PublishRequest(_requestHeader, _subscriptionAcknowledgements);
     }
 
     static {
-        DelegateRegistry.registerEncoder(PublishRequest::encode, PublishRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(PublishRequest::decode, PublishRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(PublishRequest::encode, PublishRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(PublishRequest::decode, PublishRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(PublishRequest::encodeBinary, PublishRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(PublishRequest::decodeBinary, PublishRequest.class, BinaryEncodingId);
     }
 
 }
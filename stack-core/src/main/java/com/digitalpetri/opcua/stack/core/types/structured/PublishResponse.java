@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -99,18 +101,42 @@ public class PublishResponse implements UaResponseMessage {
     public static PublishResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
         UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
-        UInteger[] _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger[]::new);
         Boolean _moreNotifications = decoder.decodeBoolean("MoreNotifications");
         NotificationMessage _notificationMessage = decoder.decodeSerializable("NotificationMessage", NotificationMessage.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new PublishResponse(_responseHeader, _subscriptionId, _availableSequenceNumbers, _moreNotifications, _notificationMessage, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(PublishResponse publishResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(publishResponse._responseHeader != null ? publishResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", publishResponse._subscriptionId);
+        encoder.encodeArray("AvailableSequenceNumbers", publishResponse._availableSequenceNumbers, encoder::encodeUInt32);
+        encoder.encodeBoolean("MoreNotifications", publishResponse._moreNotifications);
+        NotificationMessage.encodeBinary(publishResponse._notificationMessage != null ? publishResponse._notificationMessage : new NotificationMessage(), encoder);
+        encoder.encodeArray("Results", publishResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", publishResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static PublishResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        UInteger[] _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger[]::new);
+        Boolean _moreNotifications = decoder.decodeBoolean("MoreNotifications");
+        NotificationMessage _notificationMessage = NotificationMessage.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new PublishResponse(_responseHeader, _subscriptionId, _availableSequenceNumbers, _moreNotifications, _notificationMessage, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(PublishResponse::encode, PublishResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(PublishResponse::decode, PublishResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(PublishResponse::encode, PublishResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(PublishResponse::decode, PublishResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(PublishResponse::encodeBinary, PublishResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(PublishResponse::decodeBinary, PublishResponse.class, BinaryEncodingId);
     }
 
 }
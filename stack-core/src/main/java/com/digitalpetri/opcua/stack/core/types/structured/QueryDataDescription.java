@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -78,9 +80,25 @@ public class QueryDataDescription implements UaStructure {
         return new QueryDataDescription(_relativePath, _attributeId, _indexRange);
     }
 
+    public static void encodeBinary(QueryDataDescription queryDataDescription, BinaryEncoder encoder) {
+        RelativePath.encodeBinary(queryDataDescription._relativePath != null ? queryDataDescription._relativePath : new RelativePath(), encoder);
+        encoder.encodeUInt32("AttributeId", queryDataDescription._attributeId);
+        encoder.encodeString("IndexRange", queryDataDescription._indexRange);
+    }
+
+    public static QueryDataDescription decodeBinary(BinaryDecoder decoder) {
+        RelativePath _relativePath = RelativePath.decodeBinary(decoder);
+        UInteger _attributeId = decoder.decodeUInt32("AttributeId");
+        String _indexRange = decoder.decodeString("IndexRange");
+
+        return new QueryDataDescription(_relativePath, _attributeId, _indexRange);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(QueryDataDescription::encode, QueryDataDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(QueryDataDescription::decode, QueryDataDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(QueryDataDescription::encode, QueryDataDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(QueryDataDescription::decode, QueryDataDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(QueryDataDescription::encodeBinary, QueryDataDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(QueryDataDescription::decodeBinary, QueryDataDescription.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -74,14 +76,30 @@ public class QueryDataSet implements UaStructure {
     public static QueryDataSet decode(UaDecoder decoder) {
         ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId("NodeId");
         ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId("TypeDefinitionNode");
-        Variant[] _values = decoder.decodeArray("Values", decoder::decodeVariant, Variant.class);
+        Variant[] _values = decoder.decodeArray("Values", decoder::decodeVariant, Variant[]::new);
+
+        return new QueryDataSet(_nodeId, _typeDefinitionNode, _values);
+    }
+
+    public static void encodeBinary(QueryDataSet queryDataSet, BinaryEncoder encoder) {
+        encoder.encodeExpandedNodeId("NodeId", queryDataSet._nodeId);
+        encoder.encodeExpandedNodeId("TypeDefinitionNode", queryDataSet._typeDefinitionNode);
+        encoder.encodeArray("Values", queryDataSet._values, encoder::encodeVariant);
+    }
+
+    public static QueryDataSet decodeBinary(BinaryDecoder decoder) {
+        ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId("NodeId");
+        ExpandedNodeId _typeDefinitionNode = decoder.decodeExpandedNodeId("TypeDefinitionNode");
+        Variant[] _values = decoder.decodeArray("Values", decoder::decodeVariant, Variant[]::new);
 
         return new QueryDataSet(_nodeId, _typeDefinitionNode, _values);
     }
 
     static {
-        DelegateRegistry.registerEncoder(QueryDataSet::encode, QueryDataSet.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(QueryDataSet::decode, QueryDataSet.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(QueryDataSet::encode, QueryDataSet.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(QueryDataSet::decode, QueryDataSet.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(QueryDataSet::encodeBinary, QueryDataSet.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(QueryDataSet::decodeBinary, QueryDataSet.class, BinaryEncodingId);
     }
 
 }
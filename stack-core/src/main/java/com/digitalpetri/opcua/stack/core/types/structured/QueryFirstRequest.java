@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -91,7 +93,7 @@ public class QueryFirstRequest implements UaRequestMessage {
     public static QueryFirstRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         ViewDescription _view = decoder.decodeSerializable("View", ViewDescription.class);
-        NodeTypeDescription[] _nodeTypes = decoder.decodeArray("NodeTypes", decoder::decodeSerializable, NodeTypeDescription.class);
+        NodeTypeDescription[] _nodeTypes = decoder.decodeArray("NodeTypes", decoder::decodeSerializable, NodeTypeDescription.class, NodeTypeDescription[]::new);
         ContentFilter _filter = decoder.decodeSerializable("Filter", ContentFilter.class);
         UInteger _maxDataSetsToReturn = decoder.decodeUInt32("MaxDataSetsToReturn");
         UInteger _maxReferencesToReturn = decoder.decodeUInt32("MaxReferencesToReturn");
@@ -99,9 +101,31 @@ public class QueryFirstRequest implements UaRequestMessage {
         return new QueryFirstRequest(_requestHeader, _view, _nodeTypes, _filter, _maxDataSetsToReturn, _maxReferencesToReturn);
     }
 
+    public static void encodeBinary(QueryFirstRequest queryFirstRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(queryFirstRequest._requestHeader != null ? queryFirstRequest._requestHeader : new RequestHeader(), encoder);
+        ViewDescription.encodeBinary(queryFirstRequest._view != null ? queryFirstRequest._view : new ViewDescription(), encoder);
+        encoder.encodeStructureArray("NodeTypes", queryFirstRequest._nodeTypes, NodeTypeDescription::encodeBinary);
+        ContentFilter.encodeBinary(queryFirstRequest._filter != null ? queryFirstRequest._filter : new ContentFilter(), encoder);
+        encoder.encodeUInt32("MaxDataSetsToReturn", queryFirstRequest._maxDataSetsToReturn);
+        encoder.encodeUInt32("MaxReferencesToReturn", queryFirstRequest._maxReferencesToReturn);
+    }
+
+    public static QueryFirstRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        ViewDescription _view = ViewDescription.decodeBinary(decoder);
+        NodeTypeDescription[] _nodeTypes = decoder.decodeStructureArray("NodeTypes", NodeTypeDescription::decodeBinary, NodeTypeDescription[]::new);
+        ContentFilter _filter = ContentFilter.decodeBinary(decoder);
+        UInteger _maxDataSetsToReturn = decoder.decodeUInt32("MaxDataSetsToReturn");
+        UInteger _maxReferencesToReturn = decoder.decodeUInt32("MaxReferencesToReturn");
+
+        return new QueryFirstRequest(_requestHeader, _view, _nodeTypes, _filter, _maxDataSetsToReturn, _maxReferencesToReturn);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(QueryFirstRequest::encode, QueryFirstRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(QueryFirstRequest::decode, QueryFirstRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(QueryFirstRequest::encode, QueryFirstRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(QueryFirstRequest::decode, QueryFirstRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(QueryFirstRequest::encodeBinary, QueryFirstRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(QueryFirstRequest::decodeBinary, QueryFirstRequest.class, BinaryEncodingId);
     }
 
 }
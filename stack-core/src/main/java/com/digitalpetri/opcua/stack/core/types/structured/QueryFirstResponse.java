@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -91,18 +93,40 @@ public class QueryFirstResponse implements UaResponseMessage {
 
     public static QueryFirstResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        QueryDataSet[] _queryDataSets = decoder.decodeArray("QueryDataSets", decoder::decodeSerializable, QueryDataSet.class);
+        QueryDataSet[] _queryDataSets = decoder.decodeArray("QueryDataSets", decoder::decodeSerializable, QueryDataSet.class, QueryDataSet[]::new);
         ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
-        ParsingResult[] _parsingResults = decoder.decodeArray("ParsingResults", decoder::decodeSerializable, ParsingResult.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        ParsingResult[] _parsingResults = decoder.decodeArray("ParsingResults", decoder::decodeSerializable, ParsingResult.class, ParsingResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
         ContentFilterResult _filterResult = decoder.decodeSerializable("FilterResult", ContentFilterResult.class);
 
         return new QueryFirstResponse(_responseHeader, _queryDataSets, _continuationPoint, _parsingResults, _diagnosticInfos, _filterResult);
     }
 
+    public static void encodeBinary(QueryFirstResponse queryFirstResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(queryFirstResponse._responseHeader != null ? queryFirstResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("QueryDataSets", queryFirstResponse._queryDataSets, QueryDataSet::encodeBinary);
+        encoder.encodeByteString("ContinuationPoint", queryFirstResponse._continuationPoint);
+        encoder.encodeStructureArray("ParsingResults", queryFirstResponse._parsingResults, ParsingResult::encodeBinary);
+        encoder.encodeArray("DiagnosticInfos", queryFirstResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+        ContentFilterResult.encodeBinary(queryFirstResponse._filterResult != null ? queryFirstResponse._filterResult : new ContentFilterResult(), encoder);
+    }
+
+    public static QueryFirstResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        QueryDataSet[] _queryDataSets = decoder.decodeStructureArray("QueryDataSets", QueryDataSet::decodeBinary, QueryDataSet[]::new);
+        ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
+        ParsingResult[] _parsingResults = decoder.decodeStructureArray("ParsingResults", ParsingResult::decodeBinary, ParsingResult[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+        ContentFilterResult _filterResult = ContentFilterResult.decodeBinary(decoder);
+
+        return new QueryFirstResponse(_responseHeader, _queryDataSets, _continuationPoint, _parsingResults, _diagnosticInfos, _filterResult);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(QueryFirstResponse::encode, QueryFirstResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(QueryFirstResponse::decode, QueryFirstResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(QueryFirstResponse::encode, QueryFirstResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(QueryFirstResponse::decode, QueryFirstResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(QueryFirstResponse::encodeBinary, QueryFirstResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(QueryFirstResponse::decodeBinary, QueryFirstResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -78,9 +80,25 @@ public class QueryNextRequest implements UaRequestMessage {
         return new QueryNextRequest(_requestHeader, _releaseContinuationPoint, _continuationPoint);
     }
 
+    public static void encodeBinary(QueryNextRequest queryNextRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(queryNextRequest._requestHeader != null ? queryNextRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean("ReleaseContinuationPoint", queryNextRequest._releaseContinuationPoint);
+        encoder.encodeByteString("ContinuationPoint", queryNextRequest._continuationPoint);
+    }
+
+    public static QueryNextRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        Boolean _releaseContinuationPoint = decoder.decodeBoolean("ReleaseContinuationPoint");
+        ByteString _continuationPoint = decoder.decodeByteString("ContinuationPoint");
+
+        return new QueryNextRequest(_requestHeader, _releaseContinuationPoint, _continuationPoint);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(QueryNextRequest::encode, QueryNextRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(QueryNextRequest::decode, QueryNextRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(QueryNextRequest::encode, QueryNextRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(QueryNextRequest::decode, QueryNextRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(QueryNextRequest::encodeBinary, QueryNextRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(QueryNextRequest::decodeBinary, QueryNextRequest.class, BinaryEncodingId);
     }
 
 }
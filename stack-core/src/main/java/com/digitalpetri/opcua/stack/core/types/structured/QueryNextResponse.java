@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,15 +74,31 @@ public class QueryNextResponse implements UaResponseMessage {
 
     public static QueryNextResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        QueryDataSet[] _queryDataSets = decoder.decodeArray("QueryDataSets", decoder::decodeSerializable, QueryDataSet.class);
+        QueryDataSet[] _queryDataSets = decoder.decodeArray("QueryDataSets", decoder::decodeSerializable, QueryDataSet.class, QueryDataSet[]::new);
+        ByteString _revisedContinuationPoint = decoder.decodeByteString("RevisedContinuationPoint");
+
+        return new QueryNextResponse(_responseHeader, _queryDataSets, _revisedContinuationPoint);
+    }
+
+    public static void encodeBinary(QueryNextResponse queryNextResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(queryNextResponse._responseHeader != null ? queryNextResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("QueryDataSets", queryNextResponse._queryDataSets, QueryDataSet::encodeBinary);
+        encoder.encodeByteString("RevisedContinuationPoint", queryNextResponse._revisedContinuationPoint);
+    }
+
+    public static QueryNextResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        QueryDataSet[] _queryDataSets = decoder.decodeStructureArray("QueryDataSets", QueryDataSet::decodeBinary, QueryDataSet[]::new);
         ByteString _revisedContinuationPoint = decoder.decodeByteString("RevisedContinuationPoint");
 
         return new QueryNextResponse(_responseHeader, _queryDataSets, _revisedContinuationPoint);
     }
 
     static {
-        DelegateRegistry.registerEncoder(QueryNextResponse::encode, QueryNextResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(QueryNextResponse::decode, QueryNextResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(QueryNextResponse::encode, QueryNextResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(QueryNextResponse::decode, QueryNextResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(QueryNextResponse::encodeBinary, QueryNextResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(QueryNextResponse::decodeBinary, QueryNextResponse.class, BinaryEncodingId);
     }
 
 }
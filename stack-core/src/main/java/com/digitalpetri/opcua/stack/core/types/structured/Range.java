@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class Range implements UaStructure {
         return new Range(_low, _high);
     }
 
+    public static void encodeBinary(Range range, BinaryEncoder encoder) {
+        encoder.encodeDouble("Low", range._low);
+        encoder.encodeDouble("High", range._high);
+    }
+
+    public static Range decodeBinary(BinaryDecoder decoder) {
+        Double _low = decoder.decodeDouble("Low");
+        Double _high = decoder.decodeDouble("High");
+
+        return new Range(_low, _high);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(Range::encode, Range.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(Range::decode, Range.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(Range::encode, Range.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(Range::decode, Range.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(Range::encodeBinary, Range.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(Range::decodeBinary, Range.class, BinaryEncodingId);
     }
 
 }
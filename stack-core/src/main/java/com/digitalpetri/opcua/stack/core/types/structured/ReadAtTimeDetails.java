@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -66,15 +68,29 @@ public class ReadAtTimeDetails extends HistoryReadDetails {
     }
 
     public static ReadAtTimeDetails decode(UaDecoder decoder) {
-        DateTime[] _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime.class);
+        DateTime[] _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime[]::new);
+        Boolean _useSimpleBounds = decoder.decodeBoolean("UseSimpleBounds");
+
+        return new ReadAtTimeDetails(_reqTimes, _useSimpleBounds);
+    }
+
+    public static void encodeBinary(ReadAtTimeDetails readAtTimeDetails, BinaryEncoder encoder) {
+        encoder.encodeArray("ReqTimes", readAtTimeDetails._reqTimes, encoder::encodeDateTime);
+        encoder.encodeBoolean("UseSimpleBounds", readAtTimeDetails._useSimpleBounds);
+    }
+
+    public static ReadAtTimeDetails decodeBinary(BinaryDecoder decoder) {
+        DateTime[] _reqTimes = decoder.decodeArray("ReqTimes", decoder::decodeDateTime, DateTime[]::new);
         Boolean _useSimpleBounds = decoder.decodeBoolean("UseSimpleBounds");
 
         return new ReadAtTimeDetails(_reqTimes, _useSimpleBounds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ReadAtTimeDetails::encode, ReadAtTimeDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadAtTimeDetails::decode, ReadAtTimeDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadAtTimeDetails::encode, ReadAtTimeDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadAtTimeDetails::decode, ReadAtTimeDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadAtTimeDetails::encodeBinary, ReadAtTimeDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadAtTimeDetails::decodeBinary, ReadAtTimeDetails.class, BinaryEncodingId);
     }
 
 }
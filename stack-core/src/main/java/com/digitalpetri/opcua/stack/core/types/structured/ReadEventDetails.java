@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -87,9 +89,27 @@ public class ReadEventDetails extends HistoryReadDetails {
         return new ReadEventDetails(_numValuesPerNode, _startTime, _endTime, _filter);
     }
 
+    public static void encodeBinary(ReadEventDetails readEventDetails, BinaryEncoder encoder) {
+        encoder.encodeUInt32("NumValuesPerNode", readEventDetails._numValuesPerNode);
+        encoder.encodeDateTime("StartTime", readEventDetails._startTime);
+        encoder.encodeDateTime("EndTime", readEventDetails._endTime);
+        EventFilter.encodeBinary(readEventDetails._filter != null ? readEventDetails._filter : new EventFilter(), encoder);
+    }
+
+    public static ReadEventDetails decodeBinary(BinaryDecoder decoder) {
+        UInteger _numValuesPerNode = decoder.decodeUInt32("NumValuesPerNode");
+        DateTime _startTime = decoder.decodeDateTime("StartTime");
+        DateTime _endTime = decoder.decodeDateTime("EndTime");
+        EventFilter _filter = EventFilter.decodeBinary(decoder);
+
+        return new ReadEventDetails(_numValuesPerNode, _startTime, _endTime, _filter);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReadEventDetails::encode, ReadEventDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadEventDetails::decode, ReadEventDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadEventDetails::encode, ReadEventDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadEventDetails::decode, ReadEventDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadEventDetails::encodeBinary, ReadEventDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadEventDetails::decodeBinary, ReadEventDetails.class, BinaryEncodingId);
     }
 
 }
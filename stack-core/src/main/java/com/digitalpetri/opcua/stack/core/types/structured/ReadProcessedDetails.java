@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -87,15 +89,35 @@ public class ReadProcessedDetails extends HistoryReadDetails {
         DateTime _startTime = decoder.decodeDateTime("StartTime");
         DateTime _endTime = decoder.decodeDateTime("EndTime");
         Double _processingInterval = decoder.decodeDouble("ProcessingInterval");
-        NodeId[] _aggregateType = decoder.decodeArray("AggregateType", decoder::decodeNodeId, NodeId.class);
+        NodeId[] _aggregateType = decoder.decodeArray("AggregateType", decoder::decodeNodeId, NodeId[]::new);
         AggregateConfiguration _aggregateConfiguration = decoder.decodeSerializable("AggregateConfiguration", AggregateConfiguration.class);
 
         return new ReadProcessedDetails(_startTime, _endTime, _processingInterval, _aggregateType, _aggregateConfiguration);
     }
 
+    public static void encodeBinary(ReadProcessedDetails readProcessedDetails, BinaryEncoder encoder) {
+        encoder.encodeDateTime("StartTime", readProcessedDetails._startTime);
+        encoder.encodeDateTime("EndTime", readProcessedDetails._endTime);
+        encoder.encodeDouble("ProcessingInterval", readProcessedDetails._processingInterval);
+        encoder.encodeArray("AggregateType", readProcessedDetails._aggregateType, encoder::encodeNodeId);
+        AggregateConfiguration.encodeBinary(readProcessedDetails._aggregateConfiguration != null ? readProcessedDetails._aggregateConfiguration : new AggregateConfiguration(), encoder);
+    }
+
+    public static ReadProcessedDetails decodeBinary(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime("StartTime");
+        DateTime _endTime = decoder.decodeDateTime("EndTime");
+        Double _processingInterval = decoder.decodeDouble("ProcessingInterval");
+        NodeId[] _aggregateType = decoder.decodeArray("AggregateType", decoder::decodeNodeId, NodeId[]::new);
+        AggregateConfiguration _aggregateConfiguration = AggregateConfiguration.decodeBinary(decoder);
+
+        return new ReadProcessedDetails(_startTime, _endTime, _processingInterval, _aggregateType, _aggregateConfiguration);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReadProcessedDetails::encode, ReadProcessedDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadProcessedDetails::decode, ReadProcessedDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadProcessedDetails::encode, ReadProcessedDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadProcessedDetails::decode, ReadProcessedDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadProcessedDetails::encodeBinary, ReadProcessedDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadProcessedDetails::decodeBinary, ReadProcessedDetails.class, BinaryEncodingId);
     }
 
 }
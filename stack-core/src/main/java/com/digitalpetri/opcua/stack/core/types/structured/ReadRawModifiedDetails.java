@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -94,9 +96,29 @@ public class ReadRawModifiedDetails extends HistoryReadDetails {
         return new ReadRawModifiedDetails(_isReadModified, _startTime, _endTime, _numValuesPerNode, _returnBounds);
     }
 
+    public static void encodeBinary(ReadRawModifiedDetails readRawModifiedDetails, BinaryEncoder encoder) {
+        encoder.encodeBoolean("IsReadModified", readRawModifiedDetails._isReadModified);
+        encoder.encodeDateTime("StartTime", readRawModifiedDetails._startTime);
+        encoder.encodeDateTime("EndTime", readRawModifiedDetails._endTime);
+        encoder.encodeUInt32("NumValuesPerNode", readRawModifiedDetails._numValuesPerNode);
+        encoder.encodeBoolean("ReturnBounds", readRawModifiedDetails._returnBounds);
+    }
+
+    public static ReadRawModifiedDetails decodeBinary(BinaryDecoder decoder) {
+        Boolean _isReadModified = decoder.decodeBoolean("IsReadModified");
+        DateTime _startTime = decoder.decodeDateTime("StartTime");
+        DateTime _endTime = decoder.decodeDateTime("EndTime");
+        UInteger _numValuesPerNode = decoder.decodeUInt32("NumValuesPerNode");
+        Boolean _returnBounds = decoder.decodeBoolean("ReturnBounds");
+
+        return new ReadRawModifiedDetails(_isReadModified, _startTime, _endTime, _numValuesPerNode, _returnBounds);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReadRawModifiedDetails::encode, ReadRawModifiedDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadRawModifiedDetails::decode, ReadRawModifiedDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadRawModifiedDetails::encode, ReadRawModifiedDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadRawModifiedDetails::decode, ReadRawModifiedDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadRawModifiedDetails::encodeBinary, ReadRawModifiedDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadRawModifiedDetails::decodeBinary, ReadRawModifiedDetails.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
@@ -80,14 +82,32 @@ public class ReadRequest implements UaRequestMessage {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         Double _maxAge = decoder.decodeDouble("MaxAge");
         TimestampsToReturn _timestampsToReturn = decoder.decodeEnumeration("TimestampsToReturn", TimestampsToReturn.class);
-        ReadValueId[] _nodesToRead = decoder.decodeArray("NodesToRead", decoder::decodeSerializable, ReadValueId.class);
+        ReadValueId[] _nodesToRead = decoder.decodeArray("NodesToRead", decoder::decodeSerializable, ReadValueId.class, ReadValueId[]::new);
+
+        return new ReadRequest(_requestHeader, _maxAge, _timestampsToReturn, _nodesToRead);
+    }
+
+    public static void encodeBinary(ReadRequest readRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(readRequest._requestHeader != null ? readRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeDouble("MaxAge", readRequest._maxAge);
+        encoder.encodeEnumeration("TimestampsToReturn", readRequest._timestampsToReturn);
+        encoder.encodeStructureArray("NodesToRead", readRequest._nodesToRead, ReadValueId::encodeBinary);
+    }
+
+    public static ReadRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        Double _maxAge = decoder.decodeDouble("MaxAge");
+        TimestampsToReturn _timestampsToReturn = TimestampsToReturn.decode(decoder);
+        ReadValueId[] _nodesToRead = decoder.decodeStructureArray("NodesToRead", ReadValueId::decodeBinary, ReadValueId[]::new);
 
         return new ReadRequest(_requestHeader, _maxAge, _timestampsToReturn, _nodesToRead);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ReadRequest::encode, ReadRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadRequest::decode, ReadRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadRequest::encode, ReadRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadRequest::decode, ReadRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadRequest::encodeBinary, ReadRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadRequest::decodeBinary, ReadRequest.class, BinaryEncodingId);
     }
 
 }
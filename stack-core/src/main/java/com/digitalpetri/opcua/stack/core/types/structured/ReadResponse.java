@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -73,15 +75,31 @@ public class ReadResponse implements UaResponseMessage {
 
     public static ReadResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        DataValue[] _results = decoder.decodeArray("Results", decoder::decodeDataValue, DataValue.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        DataValue[] _results = decoder.decodeArray("Results", decoder::decodeDataValue, DataValue[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new ReadResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(ReadResponse readResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(readResponse._responseHeader != null ? readResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeStructureArray("Results", readResponse._results, (v, e) -> e.encodeDataValue(null, v));
+        encoder.encodeArray("DiagnosticInfos", readResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static ReadResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        DataValue[] _results = decoder.decodeArray("Results", decoder::decodeDataValue, DataValue[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new ReadResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ReadResponse::encode, ReadResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadResponse::decode, ReadResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadResponse::encode, ReadResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadResponse::decode, ReadResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadResponse::encodeBinary, ReadResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadResponse::decodeBinary, ReadResponse.class, BinaryEncodingId);
     }
 
 }
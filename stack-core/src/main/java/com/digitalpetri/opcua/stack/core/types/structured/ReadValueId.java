@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
@@ -86,9 +88,27 @@ public class ReadValueId implements UaStructure {
         return new ReadValueId(_nodeId, _attributeId, _indexRange, _dataEncoding);
     }
 
+    public static void encodeBinary(ReadValueId readValueId, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", readValueId._nodeId);
+        encoder.encodeUInt32("AttributeId", readValueId._attributeId);
+        encoder.encodeString("IndexRange", readValueId._indexRange);
+        encoder.encodeQualifiedName("DataEncoding", readValueId._dataEncoding);
+    }
+
+    public static ReadValueId decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        UInteger _attributeId = decoder.decodeUInt32("AttributeId");
+        String _indexRange = decoder.decodeString("IndexRange");
+        QualifiedName _dataEncoding = decoder.decodeQualifiedName("DataEncoding");
+
+        return new ReadValueId(_nodeId, _attributeId, _indexRange, _dataEncoding);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReadValueId::encode, ReadValueId.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReadValueId::decode, ReadValueId.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReadValueId::encode, ReadValueId.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReadValueId::decode, ReadValueId.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReadValueId::encodeBinary, ReadValueId.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReadValueId::decodeBinary, ReadValueId.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
@@ -79,9 +81,25 @@ public class RedundantServerDataType implements UaStructure {
         return new RedundantServerDataType(_serverId, _serviceLevel, _serverState);
     }
 
+    public static void encodeBinary(RedundantServerDataType redundantServerDataType, BinaryEncoder encoder) {
+        encoder.encodeString("ServerId", redundantServerDataType._serverId);
+        encoder.encodeByte("ServiceLevel", redundantServerDataType._serviceLevel);
+        encoder.encodeEnumeration("ServerState", redundantServerDataType._serverState);
+    }
+
+    public static RedundantServerDataType decodeBinary(BinaryDecoder decoder) {
+        String _serverId = decoder.decodeString("ServerId");
+        UByte _serviceLevel = decoder.decodeByte("ServiceLevel");
+        ServerState _serverState = ServerState.decode(decoder);
+
+        return new RedundantServerDataType(_serverId, _serviceLevel, _serverState);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RedundantServerDataType::encode, RedundantServerDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RedundantServerDataType::decode, RedundantServerDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RedundantServerDataType::encode, RedundantServerDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RedundantServerDataType::decode, RedundantServerDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RedundantServerDataType::encodeBinary, RedundantServerDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RedundantServerDataType::decodeBinary, RedundantServerDataType.class, BinaryEncodingId);
     }
 
 }
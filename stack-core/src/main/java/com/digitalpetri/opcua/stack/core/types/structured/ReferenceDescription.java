@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
@@ -109,9 +111,33 @@ public class ReferenceDescription implements UaStructure {
         return new ReferenceDescription(_referenceTypeId, _isForward, _nodeId, _browseName, _displayName, _nodeClass, _typeDefinition);
     }
 
+    public static void encodeBinary(ReferenceDescription referenceDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId("ReferenceTypeId", referenceDescription._referenceTypeId);
+        encoder.encodeBoolean("IsForward", referenceDescription._isForward);
+        encoder.encodeExpandedNodeId("NodeId", referenceDescription._nodeId);
+        encoder.encodeQualifiedName("BrowseName", referenceDescription._browseName);
+        encoder.encodeLocalizedText("DisplayName", referenceDescription._displayName);
+        encoder.encodeEnumeration("NodeClass", referenceDescription._nodeClass);
+        encoder.encodeExpandedNodeId("TypeDefinition", referenceDescription._typeDefinition);
+    }
+
+    public static ReferenceDescription decodeBinary(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _isForward = decoder.decodeBoolean("IsForward");
+        ExpandedNodeId _nodeId = decoder.decodeExpandedNodeId("NodeId");
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        ExpandedNodeId _typeDefinition = decoder.decodeExpandedNodeId("TypeDefinition");
+
+        return new ReferenceDescription(_referenceTypeId, _isForward, _nodeId, _browseName, _displayName, _nodeClass, _typeDefinition);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReferenceDescription::encode, ReferenceDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReferenceDescription::decode, ReferenceDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReferenceDescription::encode, ReferenceDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReferenceDescription::decode, ReferenceDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReferenceDescription::encodeBinary, ReferenceDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReferenceDescription::decodeBinary, ReferenceDescription.class, BinaryEncodingId);
     }
 
 }
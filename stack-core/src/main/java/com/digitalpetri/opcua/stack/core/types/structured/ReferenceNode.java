@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -78,9 +80,25 @@ public class ReferenceNode implements UaStructure {
         return new ReferenceNode(_referenceTypeId, _isInverse, _targetId);
     }
 
+    public static void encodeBinary(ReferenceNode referenceNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("ReferenceTypeId", referenceNode._referenceTypeId);
+        encoder.encodeBoolean("IsInverse", referenceNode._isInverse);
+        encoder.encodeExpandedNodeId("TargetId", referenceNode._targetId);
+    }
+
+    public static ReferenceNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _isInverse = decoder.decodeBoolean("IsInverse");
+        ExpandedNodeId _targetId = decoder.decodeExpandedNodeId("TargetId");
+
+        return new ReferenceNode(_referenceTypeId, _isInverse, _targetId);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReferenceNode::encode, ReferenceNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReferenceNode::decode, ReferenceNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReferenceNode::encode, ReferenceNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReferenceNode::decode, ReferenceNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReferenceNode::encodeBinary, ReferenceNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReferenceNode::decodeBinary, ReferenceNode.class, BinaryEncodingId);
     }
 
 }
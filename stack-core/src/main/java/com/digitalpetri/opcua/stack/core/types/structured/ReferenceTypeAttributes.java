@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -90,9 +92,35 @@ public class ReferenceTypeAttributes extends NodeAttributes {
         return new ReferenceTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract, _symmetric, _inverseName);
     }
 
+    public static void encodeBinary(ReferenceTypeAttributes referenceTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", referenceTypeAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", referenceTypeAttributes._displayName);
+        encoder.encodeLocalizedText("Description", referenceTypeAttributes._description);
+        encoder.encodeUInt32("WriteMask", referenceTypeAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", referenceTypeAttributes._userWriteMask);
+        encoder.encodeBoolean("IsAbstract", referenceTypeAttributes._isAbstract);
+        encoder.encodeBoolean("Symmetric", referenceTypeAttributes._symmetric);
+        encoder.encodeLocalizedText("InverseName", referenceTypeAttributes._inverseName);
+    }
+
+    public static ReferenceTypeAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+        Boolean _symmetric = decoder.decodeBoolean("Symmetric");
+        LocalizedText _inverseName = decoder.decodeLocalizedText("InverseName");
+
+        return new ReferenceTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _isAbstract, _symmetric, _inverseName);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ReferenceTypeAttributes::encode, ReferenceTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReferenceTypeAttributes::decode, ReferenceTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReferenceTypeAttributes::encode, ReferenceTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReferenceTypeAttributes::decode, ReferenceTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReferenceTypeAttributes::encodeBinary, ReferenceTypeAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReferenceTypeAttributes::decodeBinary, ReferenceTypeAttributes.class, BinaryEncodingId);
     }
 
 }
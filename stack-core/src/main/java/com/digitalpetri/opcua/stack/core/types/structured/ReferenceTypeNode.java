@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -95,7 +97,37 @@ public class ReferenceTypeNode extends TypeNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+        Boolean _symmetric = decoder.decodeBoolean("Symmetric");
+        LocalizedText _inverseName = decoder.decodeLocalizedText("InverseName");
+
+        return new ReferenceTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _isAbstract, _symmetric, _inverseName);
+    }
+
+    public static void encodeBinary(ReferenceTypeNode referenceTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", referenceTypeNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", referenceTypeNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", referenceTypeNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", referenceTypeNode._displayName);
+        encoder.encodeLocalizedText("Description", referenceTypeNode._description);
+        encoder.encodeUInt32("WriteMask", referenceTypeNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", referenceTypeNode._userWriteMask);
+        encoder.encodeStructureArray("References", referenceTypeNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeBoolean("IsAbstract", referenceTypeNode._isAbstract);
+        encoder.encodeBoolean("Symmetric", referenceTypeNode._symmetric);
+        encoder.encodeLocalizedText("InverseName", referenceTypeNode._inverseName);
+    }
+
+    public static ReferenceTypeNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
         Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
         Boolean _symmetric = decoder.decodeBoolean("Symmetric");
         LocalizedText _inverseName = decoder.decodeLocalizedText("InverseName");
@@ -104,8 +136,10 @@ public class ReferenceTypeNode extends TypeNode {
     }
 
     static {
-        DelegateRegistry.registerEncoder(ReferenceTypeNode::encode, ReferenceTypeNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ReferenceTypeNode::decode, ReferenceTypeNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ReferenceTypeNode::encode, ReferenceTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ReferenceTypeNode::decode, ReferenceTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ReferenceTypeNode::encodeBinary, ReferenceTypeNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ReferenceTypeNode::decodeBinary, ReferenceTypeNode.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class RegisterNodesRequest implements UaRequestMessage {
 
     public static RegisterNodesRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        NodeId[] _nodesToRegister = decoder.decodeArray("NodesToRegister", decoder::decodeNodeId, NodeId.class);
+        NodeId[] _nodesToRegister = decoder.decodeArray("NodesToRegister", decoder::decodeNodeId, NodeId[]::new);
+
+        return new RegisterNodesRequest(_requestHeader, _nodesToRegister);
+    }
+
+    public static void encodeBinary(RegisterNodesRequest registerNodesRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(registerNodesRequest._requestHeader != null ? registerNodesRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeArray("NodesToRegister", registerNodesRequest._nodesToRegister, encoder::encodeNodeId);
+    }
+
+    public static RegisterNodesRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        NodeId[] _nodesToRegister = decoder.decodeArray("NodesToRegister", decoder::decodeNodeId, NodeId[]::new);
 
         return new RegisterNodesRequest(_requestHeader, _nodesToRegister);
     }
 
     static {
-        DelegateRegistry.registerEncoder(RegisterNodesRequest::encode, RegisterNodesRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisterNodesRequest::decode, RegisterNodesRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisterNodesRequest::encode, RegisterNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisterNodesRequest::decode, RegisterNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisterNodesRequest::encodeBinary, RegisterNodesRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisterNodesRequest::decodeBinary, RegisterNodesRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class RegisterNodesResponse implements UaResponseMessage {
 
     public static RegisterNodesResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        NodeId[] _registeredNodeIds = decoder.decodeArray("RegisteredNodeIds", decoder::decodeNodeId, NodeId.class);
+        NodeId[] _registeredNodeIds = decoder.decodeArray("RegisteredNodeIds", decoder::decodeNodeId, NodeId[]::new);
+
+        return new RegisterNodesResponse(_responseHeader, _registeredNodeIds);
+    }
+
+    public static void encodeBinary(RegisterNodesResponse registerNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(registerNodesResponse._responseHeader != null ? registerNodesResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("RegisteredNodeIds", registerNodesResponse._registeredNodeIds, encoder::encodeNodeId);
+    }
+
+    public static RegisterNodesResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        NodeId[] _registeredNodeIds = decoder.decodeArray("RegisteredNodeIds", decoder::decodeNodeId, NodeId[]::new);
 
         return new RegisterNodesResponse(_responseHeader, _registeredNodeIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(RegisterNodesResponse::encode, RegisterNodesResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisterNodesResponse::decode, RegisterNodesResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisterNodesResponse::encode, RegisterNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisterNodesResponse::decode, RegisterNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisterNodesResponse::encodeBinary, RegisterNodesResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisterNodesResponse::decodeBinary, RegisterNodesResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,14 +75,30 @@ public class RegisterServer2Request implements UaRequestMessage {
     public static RegisterServer2Request decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         RegisteredServer _server = decoder.decodeSerializable("Server", RegisteredServer.class);
-        ExtensionObject[] _discoveryConfiguration = decoder.decodeArray("DiscoveryConfiguration", decoder::decodeExtensionObject, ExtensionObject.class);
+        ExtensionObject[] _discoveryConfiguration = decoder.decodeArray("DiscoveryConfiguration", decoder::decodeExtensionObject, ExtensionObject[]::new);
+
+        return new RegisterServer2Request(_requestHeader, _server, _discoveryConfiguration);
+    }
+
+    public static void encodeBinary(RegisterServer2Request registerServer2Request, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(registerServer2Request._requestHeader != null ? registerServer2Request._requestHeader : new RequestHeader(), encoder);
+        RegisteredServer.encodeBinary(registerServer2Request._server != null ? registerServer2Request._server : new RegisteredServer(), encoder);
+        encoder.encodeArray("DiscoveryConfiguration", registerServer2Request._discoveryConfiguration, encoder::encodeExtensionObject);
+    }
+
+    public static RegisterServer2Request decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        RegisteredServer _server = RegisteredServer.decodeBinary(decoder);
+        ExtensionObject[] _discoveryConfiguration = decoder.decodeArray("DiscoveryConfiguration", decoder::decodeExtensionObject, ExtensionObject[]::new);
 
         return new RegisterServer2Request(_requestHeader, _server, _discoveryConfiguration);
     }
 
     static {
-        DelegateRegistry.registerEncoder(RegisterServer2Request::encode, RegisterServer2Request.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisterServer2Request::decode, RegisterServer2Request.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisterServer2Request::encode, RegisterServer2Request.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisterServer2Request::decode, RegisterServer2Request.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisterServer2Request::encodeBinary, RegisterServer2Request.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisterServer2Request::decodeBinary, RegisterServer2Request.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class RegisterServer2Response implements UaResponseMessage {
 
     public static RegisterServer2Response decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _configurationResults = decoder.decodeArray("ConfigurationResults", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _configurationResults = decoder.decodeArray("ConfigurationResults", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new RegisterServer2Response(_responseHeader, _configurationResults, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(RegisterServer2Response registerServer2Response, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(registerServer2Response._responseHeader != null ? registerServer2Response._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("ConfigurationResults", registerServer2Response._configurationResults, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", registerServer2Response._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static RegisterServer2Response decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _configurationResults = decoder.decodeArray("ConfigurationResults", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new RegisterServer2Response(_responseHeader, _configurationResults, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(RegisterServer2Response::encode, RegisterServer2Response.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisterServer2Response::decode, RegisterServer2Response.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisterServer2Response::encode, RegisterServer2Response.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisterServer2Response::decode, RegisterServer2Response.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisterServer2Response::encodeBinary, RegisterServer2Response.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisterServer2Response::decodeBinary, RegisterServer2Response.class, BinaryEncodingId);
     }
 
 }
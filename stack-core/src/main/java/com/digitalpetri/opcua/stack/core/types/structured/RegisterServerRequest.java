@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class RegisterServerRequest implements UaRequestMessage {
         return new RegisterServerRequest(_requestHeader, _server);
     }
 
+    public static void encodeBinary(RegisterServerRequest registerServerRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(registerServerRequest._requestHeader != null ? registerServerRequest._requestHeader : new RequestHeader(), encoder);
+        RegisteredServer.encodeBinary(registerServerRequest._server != null ? registerServerRequest._server : new RegisteredServer(), encoder);
+    }
+
+    public static RegisterServerRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        RegisteredServer _server = RegisteredServer.decodeBinary(decoder);
+
+        return new RegisterServerRequest(_requestHeader, _server);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RegisterServerRequest::encode, RegisterServerRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisterServerRequest::decode, RegisterServerRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisterServerRequest::encode, RegisterServerRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisterServerRequest::decode, RegisterServerRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisterServerRequest::encodeBinary, RegisterServerRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisterServerRequest::decodeBinary, RegisterServerRequest.class, BinaryEncodingId);
     }
 
 }
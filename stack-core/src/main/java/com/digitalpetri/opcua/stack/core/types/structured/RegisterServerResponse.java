@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class RegisterServerResponse implements UaResponseMessage {
         return new RegisterServerResponse(_responseHeader);
     }
 
+    public static void encodeBinary(RegisterServerResponse registerServerResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(registerServerResponse._responseHeader != null ? registerServerResponse._responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static RegisterServerResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+
+        return new RegisterServerResponse(_responseHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RegisterServerResponse::encode, RegisterServerResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisterServerResponse::decode, RegisterServerResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisterServerResponse::encode, RegisterServerResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisterServerResponse::decode, RegisterServerResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisterServerResponse::encodeBinary, RegisterServerResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisterServerResponse::decodeBinary, RegisterServerResponse.class, BinaryEncodingId);
     }
 
 }
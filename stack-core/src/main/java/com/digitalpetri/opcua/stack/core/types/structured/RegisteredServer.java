@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -104,10 +106,34 @@ public class RegisteredServer implements UaStructure {
     public static RegisteredServer decode(UaDecoder decoder) {
         String _serverUri = decoder.decodeString("ServerUri");
         String _productUri = decoder.decodeString("ProductUri");
-        LocalizedText[] _serverNames = decoder.decodeArray("ServerNames", decoder::decodeLocalizedText, LocalizedText.class);
+        LocalizedText[] _serverNames = decoder.decodeArray("ServerNames", decoder::decodeLocalizedText, LocalizedText[]::new);
         ApplicationType _serverType = decoder.decodeEnumeration("ServerType", ApplicationType.class);
         String _gatewayServerUri = decoder.decodeString("GatewayServerUri");
-        String[] _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String.class);
+        String[] _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String[]::new);
+        String _semaphoreFilePath = decoder.decodeString("SemaphoreFilePath");
+        Boolean _isOnline = decoder.decodeBoolean("IsOnline");
+
+        return new RegisteredServer(_serverUri, _productUri, _serverNames, _serverType, _gatewayServerUri, _discoveryUrls, _semaphoreFilePath, _isOnline);
+    }
+
+    public static void encodeBinary(RegisteredServer registeredServer, BinaryEncoder encoder) {
+        encoder.encodeString("ServerUri", registeredServer._serverUri);
+        encoder.encodeString("ProductUri", registeredServer._productUri);
+        encoder.encodeArray("ServerNames", registeredServer._serverNames, encoder::encodeLocalizedText);
+        encoder.encodeEnumeration("ServerType", registeredServer._serverType);
+        encoder.encodeString("GatewayServerUri", registeredServer._gatewayServerUri);
+        encoder.encodeArray("DiscoveryUrls", registeredServer._discoveryUrls, encoder::encodeString);
+        encoder.encodeString("SemaphoreFilePath", registeredServer._semaphoreFilePath);
+        encoder.encodeBoolean("IsOnline", registeredServer._isOnline);
+    }
+
+    public static RegisteredServer decodeBinary(BinaryDecoder decoder) {
+        String _serverUri = decoder.decodeString("ServerUri");
+        String _productUri = decoder.decodeString("ProductUri");
+        LocalizedText[] _serverNames = decoder.decodeArray("ServerNames", decoder::decodeLocalizedText, LocalizedText[]::new);
+        ApplicationType _serverType = ApplicationType.decode(decoder);
+        String _gatewayServerUri = decoder.decodeString("GatewayServerUri");
+        String[] _discoveryUrls = decoder.decodeArray("DiscoveryUrls", decoder::decodeString, String[]::new);
         String _semaphoreFilePath = decoder.decodeString("SemaphoreFilePath");
         Boolean _isOnline = decoder.decodeBoolean("IsOnline");
 
@@ -115,8 +141,10 @@ public class RegisteredServer implements UaStructure {
     }
 
     static {
-        DelegateRegistry.registerEncoder(RegisteredServer::encode, RegisteredServer.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RegisteredServer::decode, RegisteredServer.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RegisteredServer::encode, RegisteredServer.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RegisteredServer::decode, RegisteredServer.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RegisteredServer::encodeBinary, RegisteredServer.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RegisteredServer::decodeBinary, RegisteredServer.class, BinaryEncodingId);
     }
 
 }
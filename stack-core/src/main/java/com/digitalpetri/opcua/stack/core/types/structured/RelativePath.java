@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -58,14 +60,26 @@ public class RelativePath implements UaStructure {
     }
 
     public static RelativePath decode(UaDecoder decoder) {
-        RelativePathElement[] _elements = decoder.decodeArray("Elements", decoder::decodeSerializable, RelativePathElement.class);
+        RelativePathElement[] _elements = decoder.decodeArray("Elements", decoder::decodeSerializable, RelativePathElement.class, RelativePathElement[]::new);
+
+        return new RelativePath(_elements);
+    }
+
+    public static void encodeBinary(RelativePath relativePath, BinaryEncoder encoder) {
+        encoder.encodeStructureArray("Elements", relativePath._elements, RelativePathElement::encodeBinary);
+    }
+
+    public static RelativePath decodeBinary(BinaryDecoder decoder) {
+        RelativePathElement[] _elements = decoder.decodeStructureArray("Elements", RelativePathElement::decodeBinary, RelativePathElement[]::new);
 
         return new RelativePath(_elements);
     }
 
     static {
-        DelegateRegistry.registerEncoder(RelativePath::encode, RelativePath.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RelativePath::decode, RelativePath.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RelativePath::encode, RelativePath.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RelativePath::decode, RelativePath.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RelativePath::encodeBinary, RelativePath.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RelativePath::decodeBinary, RelativePath.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
@@ -85,9 +87,27 @@ public class RelativePathElement implements UaStructure {
         return new RelativePathElement(_referenceTypeId, _isInverse, _includeSubtypes, _targetName);
     }
 
+    public static void encodeBinary(RelativePathElement relativePathElement, BinaryEncoder encoder) {
+        encoder.encodeNodeId("ReferenceTypeId", relativePathElement._referenceTypeId);
+        encoder.encodeBoolean("IsInverse", relativePathElement._isInverse);
+        encoder.encodeBoolean("IncludeSubtypes", relativePathElement._includeSubtypes);
+        encoder.encodeQualifiedName("TargetName", relativePathElement._targetName);
+    }
+
+    public static RelativePathElement decodeBinary(BinaryDecoder decoder) {
+        NodeId _referenceTypeId = decoder.decodeNodeId("ReferenceTypeId");
+        Boolean _isInverse = decoder.decodeBoolean("IsInverse");
+        Boolean _includeSubtypes = decoder.decodeBoolean("IncludeSubtypes");
+        QualifiedName _targetName = decoder.decodeQualifiedName("TargetName");
+
+        return new RelativePathElement(_referenceTypeId, _isInverse, _includeSubtypes, _targetName);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RelativePathElement::encode, RelativePathElement.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RelativePathElement::decode, RelativePathElement.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RelativePathElement::encode, RelativePathElement.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RelativePathElement::decode, RelativePathElement.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RelativePathElement::encodeBinary, RelativePathElement.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RelativePathElement::decodeBinary, RelativePathElement.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -78,9 +80,25 @@ public class RepublishRequest implements UaRequestMessage {
         return new RepublishRequest(_requestHeader, _subscriptionId, _retransmitSequenceNumber);
     }
 
+    public static void encodeBinary(RepublishRequest republishRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(republishRequest._requestHeader != null ? republishRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", republishRequest._subscriptionId);
+        encoder.encodeUInt32("RetransmitSequenceNumber", republishRequest._retransmitSequenceNumber);
+    }
+
+    public static RepublishRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        UInteger _retransmitSequenceNumber = decoder.decodeUInt32("RetransmitSequenceNumber");
+
+        return new RepublishRequest(_requestHeader, _subscriptionId, _retransmitSequenceNumber);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RepublishRequest::encode, RepublishRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RepublishRequest::decode, RepublishRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RepublishRequest::encode, RepublishRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RepublishRequest::decode, RepublishRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RepublishRequest::encodeBinary, RepublishRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RepublishRequest::decodeBinary, RepublishRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class RepublishResponse implements UaResponseMessage {
         return new RepublishResponse(_responseHeader, _notificationMessage);
     }
 
+    public static void encodeBinary(RepublishResponse republishResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(republishResponse._responseHeader != null ? republishResponse._responseHeader : new ResponseHeader(), encoder);
+        NotificationMessage.encodeBinary(republishResponse._notificationMessage != null ? republishResponse._notificationMessage : new NotificationMessage(), encoder);
+    }
+
+    public static RepublishResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        NotificationMessage _notificationMessage = NotificationMessage.decodeBinary(decoder);
+
+        return new RepublishResponse(_responseHeader, _notificationMessage);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RepublishResponse::encode, RepublishResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RepublishResponse::decode, RepublishResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RepublishResponse::encode, RepublishResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RepublishResponse::decode, RepublishResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RepublishResponse::encodeBinary, RepublishResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RepublishResponse::decodeBinary, RepublishResponse.class, BinaryEncodingId);
     }
 
 }
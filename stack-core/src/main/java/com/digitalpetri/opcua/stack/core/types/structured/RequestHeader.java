@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
@@ -108,9 +110,33 @@ public class RequestHeader implements UaStructure {
         return new RequestHeader(_authenticationToken, _timestamp, _requestHandle, _returnDiagnostics, _auditEntryId, _timeoutHint, _additionalHeader);
     }
 
+    public static void encodeBinary(RequestHeader requestHeader, BinaryEncoder encoder) {
+        encoder.encodeNodeId("AuthenticationToken", requestHeader._authenticationToken);
+        encoder.encodeDateTime("Timestamp", requestHeader._timestamp);
+        encoder.encodeUInt32("RequestHandle", requestHeader._requestHandle);
+        encoder.encodeUInt32("ReturnDiagnostics", requestHeader._returnDiagnostics);
+        encoder.encodeString("AuditEntryId", requestHeader._auditEntryId);
+        encoder.encodeUInt32("TimeoutHint", requestHeader._timeoutHint);
+        encoder.encodeExtensionObject("AdditionalHeader", requestHeader._additionalHeader);
+    }
+
+    public static RequestHeader decodeBinary(BinaryDecoder decoder) {
+        NodeId _authenticationToken = decoder.decodeNodeId("AuthenticationToken");
+        DateTime _timestamp = decoder.decodeDateTime("Timestamp");
+        UInteger _requestHandle = decoder.decodeUInt32("RequestHandle");
+        UInteger _returnDiagnostics = decoder.decodeUInt32("ReturnDiagnostics");
+        String _auditEntryId = decoder.decodeString("AuditEntryId");
+        UInteger _timeoutHint = decoder.decodeUInt32("TimeoutHint");
+        ExtensionObject _additionalHeader = decoder.decodeExtensionObject("AdditionalHeader");
+
+        return new RequestHeader(_authenticationToken, _timestamp, _requestHandle, _returnDiagnostics, _auditEntryId, _timeoutHint, _additionalHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(RequestHeader::encode, RequestHeader.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(RequestHeader::decode, RequestHeader.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(RequestHeader::encode, RequestHeader.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(RequestHeader::decode, RequestHeader.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(RequestHeader::encodeBinary, RequestHeader.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(RequestHeader::decodeBinary, RequestHeader.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -97,15 +99,37 @@ public class ResponseHeader implements UaStructure {
         UInteger _requestHandle = decoder.decodeUInt32("RequestHandle");
         StatusCode _serviceResult = decoder.decodeStatusCode("ServiceResult");
         DiagnosticInfo _serviceDiagnostics = decoder.decodeDiagnosticInfo("ServiceDiagnostics");
-        String[] _stringTable = decoder.decodeArray("StringTable", decoder::decodeString, String.class);
+        String[] _stringTable = decoder.decodeArray("StringTable", decoder::decodeString, String[]::new);
+        ExtensionObject _additionalHeader = decoder.decodeExtensionObject("AdditionalHeader");
+
+        return new ResponseHeader(_timestamp, _requestHandle, _serviceResult, _serviceDiagnostics, _stringTable, _additionalHeader);
+    }
+
+    public static void encodeBinary(ResponseHeader responseHeader, BinaryEncoder encoder) {
+        encoder.encodeDateTime("Timestamp", responseHeader._timestamp);
+        encoder.encodeUInt32("RequestHandle", responseHeader._requestHandle);
+        encoder.encodeStatusCode("ServiceResult", responseHeader._serviceResult);
+        encoder.encodeDiagnosticInfo("ServiceDiagnostics", responseHeader._serviceDiagnostics);
+        encoder.encodeArray("StringTable", responseHeader._stringTable, encoder::encodeString);
+        encoder.encodeExtensionObject("AdditionalHeader", responseHeader._additionalHeader);
+    }
+
+    public static ResponseHeader decodeBinary(BinaryDecoder decoder) {
+        DateTime _timestamp = decoder.decodeDateTime("Timestamp");
+        UInteger _requestHandle = decoder.decodeUInt32("RequestHandle");
+        StatusCode _serviceResult = decoder.decodeStatusCode("ServiceResult");
+        DiagnosticInfo _serviceDiagnostics = decoder.decodeDiagnosticInfo("ServiceDiagnostics");
+        String[] _stringTable = decoder.decodeArray("StringTable", decoder::decodeString, String[]::new);
         ExtensionObject _additionalHeader = decoder.decodeExtensionObject("AdditionalHeader");
 
         return new ResponseHeader(_timestamp, _requestHandle, _serviceResult, _serviceDiagnostics, _stringTable, _additionalHeader);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ResponseHeader::encode, ResponseHeader.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ResponseHeader::decode, ResponseHeader.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ResponseHeader::encode, ResponseHeader.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ResponseHeader::decode, ResponseHeader.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ResponseHeader::encodeBinary, ResponseHeader.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ResponseHeader::decodeBinary, ResponseHeader.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -85,9 +87,27 @@ public class SamplingIntervalDiagnosticsDataType implements UaStructure {
         return new SamplingIntervalDiagnosticsDataType(_samplingInterval, _monitoredItemCount, _maxMonitoredItemCount, _disabledMonitoredItemCount);
     }
 
+    public static void encodeBinary(SamplingIntervalDiagnosticsDataType samplingIntervalDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeDouble("SamplingInterval", samplingIntervalDiagnosticsDataType._samplingInterval);
+        encoder.encodeUInt32("MonitoredItemCount", samplingIntervalDiagnosticsDataType._monitoredItemCount);
+        encoder.encodeUInt32("MaxMonitoredItemCount", samplingIntervalDiagnosticsDataType._maxMonitoredItemCount);
+        encoder.encodeUInt32("DisabledMonitoredItemCount", samplingIntervalDiagnosticsDataType._disabledMonitoredItemCount);
+    }
+
+    public static SamplingIntervalDiagnosticsDataType decodeBinary(BinaryDecoder decoder) {
+        Double _samplingInterval = decoder.decodeDouble("SamplingInterval");
+        UInteger _monitoredItemCount = decoder.decodeUInt32("MonitoredItemCount");
+        UInteger _maxMonitoredItemCount = decoder.decodeUInt32("MaxMonitoredItemCount");
+        UInteger _disabledMonitoredItemCount = decoder.decodeUInt32("DisabledMonitoredItemCount");
+
+        return new SamplingIntervalDiagnosticsDataType(_samplingInterval, _monitoredItemCount, _maxMonitoredItemCount, _disabledMonitoredItemCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SamplingIntervalDiagnosticsDataType::encode, SamplingIntervalDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SamplingIntervalDiagnosticsDataType::decode, SamplingIntervalDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SamplingIntervalDiagnosticsDataType::encode, SamplingIntervalDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SamplingIntervalDiagnosticsDataType::decode, SamplingIntervalDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SamplingIntervalDiagnosticsDataType::encodeBinary, SamplingIntervalDiagnosticsDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SamplingIntervalDiagnosticsDataType::decodeBinary, SamplingIntervalDiagnosticsDataType.class, BinaryEncodingId);
     }
 
 }
@@ -23,6 +23,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
@@ -304,9 +306,69 @@ public class ScalarTestType implements UaStructure {
         return new ScalarTestType(_boolean, _sByte, _byte, _int16, _uInt16, _int32, _uInt32, _int64, _uInt64, _float, _double, _string, _dateTime, _guid, _byteString, _xmlElement, _nodeId, _expandedNodeId, _statusCode, _diagnosticInfo, _qualifiedName, _localizedText, _extensionObject, _dataValue, _enumeratedValue);
     }
 
+    public static void encodeBinary(ScalarTestType scalarTestType, BinaryEncoder encoder) {
+        encoder.encodeBoolean("Boolean", scalarTestType._boolean);
+        encoder.encodeSByte("SByte", scalarTestType._sByte);
+        encoder.encodeByte("Byte", scalarTestType._byte);
+        encoder.encodeInt16("Int16", scalarTestType._int16);
+        encoder.encodeUInt16("UInt16", scalarTestType._uInt16);
+        encoder.encodeInt32("Int32", scalarTestType._int32);
+        encoder.encodeUInt32("UInt32", scalarTestType._uInt32);
+        encoder.encodeInt64("Int64", scalarTestType._int64);
+        encoder.encodeUInt64("UInt64", scalarTestType._uInt64);
+        encoder.encodeFloat("Float", scalarTestType._float);
+        encoder.encodeDouble("Double", scalarTestType._double);
+        encoder.encodeString("String", scalarTestType._string);
+        encoder.encodeDateTime("DateTime", scalarTestType._dateTime);
+        encoder.encodeGuid("Guid", scalarTestType._guid);
+        encoder.encodeByteString("ByteString", scalarTestType._byteString);
+        encoder.encodeXmlElement("XmlElement", scalarTestType._xmlElement);
+        encoder.encodeNodeId("NodeId", scalarTestType._nodeId);
+        encoder.encodeExpandedNodeId("ExpandedNodeId", scalarTestType._expandedNodeId);
+        encoder.encodeStatusCode("StatusCode", scalarTestType._statusCode);
+        encoder.encodeDiagnosticInfo("DiagnosticInfo", scalarTestType._diagnosticInfo);
+        encoder.encodeQualifiedName("QualifiedName", scalarTestType._qualifiedName);
+        encoder.encodeLocalizedText("LocalizedText", scalarTestType._localizedText);
+        encoder.encodeExtensionObject("ExtensionObject", scalarTestType._extensionObject);
+        encoder.encodeDataValue("DataValue", scalarTestType._dataValue);
+        encoder.encodeEnumeration("EnumeratedValue", scalarTestType._enumeratedValue);
+    }
+
+    public static ScalarTestType decodeBinary(BinaryDecoder decoder) {
+        Boolean _boolean = decoder.decodeBoolean("Boolean");
+        Byte _sByte = decoder.decodeSByte("SByte");
+        UByte _byte = decoder.decodeByte("Byte");
+        Short _int16 = decoder.decodeInt16("Int16");
+        UShort _uInt16 = decoder.decodeUInt16("UInt16");
+        Integer _int32 = decoder.decodeInt32("Int32");
+        UInteger _uInt32 = decoder.decodeUInt32("UInt32");
+        Long _int64 = decoder.decodeInt64("Int64");
+        ULong _uInt64 = decoder.decodeUInt64("UInt64");
+        Float _float = decoder.decodeFloat("Float");
+        Double _double = decoder.decodeDouble("Double");
+        String _string = decoder.decodeString("String");
+        DateTime _dateTime = decoder.decodeDateTime("DateTime");
+        UUID _guid = decoder.decodeGuid("Guid");
+        ByteString _byteString = decoder.decodeByteString("ByteString");
+        XmlElement _xmlElement = decoder.decodeXmlElement("XmlElement");
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        ExpandedNodeId _expandedNodeId = decoder.decodeExpandedNodeId("ExpandedNodeId");
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo("DiagnosticInfo");
+        QualifiedName _qualifiedName = decoder.decodeQualifiedName("QualifiedName");
+        LocalizedText _localizedText = decoder.decodeLocalizedText("LocalizedText");
+        ExtensionObject _extensionObject = decoder.decodeExtensionObject("ExtensionObject");
+        DataValue _dataValue = decoder.decodeDataValue("DataValue");
+        EnumeratedTestType _enumeratedValue = EnumeratedTestType.decode(decoder);
+
+        return new ScalarTestType(_boolean, _sByte, _byte, _int16, _uInt16, _int32, _uInt32, _int64, _uInt64, _float, _double, _string, _dateTime, _guid, _byteString, _xmlElement, _nodeId, _expandedNodeId, _statusCode, _diagnosticInfo, _qualifiedName, _localizedText, _extensionObject, _dataValue, _enumeratedValue);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ScalarTestType::encode, ScalarTestType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ScalarTestType::decode, ScalarTestType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ScalarTestType::encode, ScalarTestType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ScalarTestType::decode, ScalarTestType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ScalarTestType::encodeBinary, ScalarTestType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ScalarTestType::decodeBinary, ScalarTestType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class SemanticChangeStructureDataType implements UaStructure {
         return new SemanticChangeStructureDataType(_affected, _affectedType);
     }
 
+    public static void encodeBinary(SemanticChangeStructureDataType semanticChangeStructureDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId("Affected", semanticChangeStructureDataType._affected);
+        encoder.encodeNodeId("AffectedType", semanticChangeStructureDataType._affectedType);
+    }
+
+    public static SemanticChangeStructureDataType decodeBinary(BinaryDecoder decoder) {
+        NodeId _affected = decoder.decodeNodeId("Affected");
+        NodeId _affectedType = decoder.decodeNodeId("AffectedType");
+
+        return new SemanticChangeStructureDataType(_affected, _affectedType);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SemanticChangeStructureDataType::encode, SemanticChangeStructureDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SemanticChangeStructureDataType::decode, SemanticChangeStructureDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SemanticChangeStructureDataType::encode, SemanticChangeStructureDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SemanticChangeStructureDataType::decode, SemanticChangeStructureDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SemanticChangeStructureDataType::encodeBinary, SemanticChangeStructureDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SemanticChangeStructureDataType::decodeBinary, SemanticChangeStructureDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -141,9 +143,43 @@ public class ServerDiagnosticsSummaryDataType implements UaStructure {
         return new ServerDiagnosticsSummaryDataType(_serverViewCount, _currentSessionCount, _cumulatedSessionCount, _securityRejectedSessionCount, _rejectedSessionCount, _sessionTimeoutCount, _sessionAbortCount, _currentSubscriptionCount, _cumulatedSubscriptionCount, _publishingIntervalCount, _securityRejectedRequestsCount, _rejectedRequestsCount);
     }
 
+    public static void encodeBinary(ServerDiagnosticsSummaryDataType serverDiagnosticsSummaryDataType, BinaryEncoder encoder) {
+        encoder.encodeUInt32("ServerViewCount", serverDiagnosticsSummaryDataType._serverViewCount);
+        encoder.encodeUInt32("CurrentSessionCount", serverDiagnosticsSummaryDataType._currentSessionCount);
+        encoder.encodeUInt32("CumulatedSessionCount", serverDiagnosticsSummaryDataType._cumulatedSessionCount);
+        encoder.encodeUInt32("SecurityRejectedSessionCount", serverDiagnosticsSummaryDataType._securityRejectedSessionCount);
+        encoder.encodeUInt32("RejectedSessionCount", serverDiagnosticsSummaryDataType._rejectedSessionCount);
+        encoder.encodeUInt32("SessionTimeoutCount", serverDiagnosticsSummaryDataType._sessionTimeoutCount);
+        encoder.encodeUInt32("SessionAbortCount", serverDiagnosticsSummaryDataType._sessionAbortCount);
+        encoder.encodeUInt32("CurrentSubscriptionCount", serverDiagnosticsSummaryDataType._currentSubscriptionCount);
+        encoder.encodeUInt32("CumulatedSubscriptionCount", serverDiagnosticsSummaryDataType._cumulatedSubscriptionCount);
+        encoder.encodeUInt32("PublishingIntervalCount", serverDiagnosticsSummaryDataType._publishingIntervalCount);
+        encoder.encodeUInt32("SecurityRejectedRequestsCount", serverDiagnosticsSummaryDataType._securityRejectedRequestsCount);
+        encoder.encodeUInt32("RejectedRequestsCount", serverDiagnosticsSummaryDataType._rejectedRequestsCount);
+    }
+
+    public static ServerDiagnosticsSummaryDataType decodeBinary(BinaryDecoder decoder) {
+        UInteger _serverViewCount = decoder.decodeUInt32("ServerViewCount");
+        UInteger _currentSessionCount = decoder.decodeUInt32("CurrentSessionCount");
+        UInteger _cumulatedSessionCount = decoder.decodeUInt32("CumulatedSessionCount");
+        UInteger _securityRejectedSessionCount = decoder.decodeUInt32("SecurityRejectedSessionCount");
+        UInteger _rejectedSessionCount = decoder.decodeUInt32("RejectedSessionCount");
+        UInteger _sessionTimeoutCount = decoder.decodeUInt32("SessionTimeoutCount");
+        UInteger _sessionAbortCount = decoder.decodeUInt32("SessionAbortCount");
+        UInteger _currentSubscriptionCount = decoder.decodeUInt32("CurrentSubscriptionCount");
+        UInteger _cumulatedSubscriptionCount = decoder.decodeUInt32("CumulatedSubscriptionCount");
+        UInteger _publishingIntervalCount = decoder.decodeUInt32("PublishingIntervalCount");
+        UInteger _securityRejectedRequestsCount = decoder.decodeUInt32("SecurityRejectedRequestsCount");
+        UInteger _rejectedRequestsCount = decoder.decodeUInt32("RejectedRequestsCount");
+
+        return new ServerDiagnosticsSummaryDataType(_serverViewCount, _currentSessionCount, _cumulatedSessionCount, _securityRejectedSessionCount, _rejectedSessionCount, _sessionTimeoutCount, _sessionAbortCount, _currentSubscriptionCount, _cumulatedSubscriptionCount, _publishingIntervalCount, _securityRejectedRequestsCount, _rejectedRequestsCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ServerDiagnosticsSummaryDataType::encode, ServerDiagnosticsSummaryDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ServerDiagnosticsSummaryDataType::decode, ServerDiagnosticsSummaryDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ServerDiagnosticsSummaryDataType::encode, ServerDiagnosticsSummaryDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ServerDiagnosticsSummaryDataType::decode, ServerDiagnosticsSummaryDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ServerDiagnosticsSummaryDataType::encodeBinary, ServerDiagnosticsSummaryDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ServerDiagnosticsSummaryDataType::decodeBinary, ServerDiagnosticsSummaryDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -80,14 +82,32 @@ public class ServerOnNetwork implements UaStructure {
         UInteger _recordId = decoder.decodeUInt32("RecordId");
         String _serverName = decoder.decodeString("ServerName");
         String _discoveryUrl = decoder.decodeString("DiscoveryUrl");
-        String[] _serverCapabilities = decoder.decodeArray("ServerCapabilities", decoder::decodeString, String.class);
+        String[] _serverCapabilities = decoder.decodeArray("ServerCapabilities", decoder::decodeString, String[]::new);
+
+        return new ServerOnNetwork(_recordId, _serverName, _discoveryUrl, _serverCapabilities);
+    }
+
+    public static void encodeBinary(ServerOnNetwork serverOnNetwork, BinaryEncoder encoder) {
+        encoder.encodeUInt32("RecordId", serverOnNetwork._recordId);
+        encoder.encodeString("ServerName", serverOnNetwork._serverName);
+        encoder.encodeString("DiscoveryUrl", serverOnNetwork._discoveryUrl);
+        encoder.encodeArray("ServerCapabilities", serverOnNetwork._serverCapabilities, encoder::encodeString);
+    }
+
+    public static ServerOnNetwork decodeBinary(BinaryDecoder decoder) {
+        UInteger _recordId = decoder.decodeUInt32("RecordId");
+        String _serverName = decoder.decodeString("ServerName");
+        String _discoveryUrl = decoder.decodeString("DiscoveryUrl");
+        String[] _serverCapabilities = decoder.decodeArray("ServerCapabilities", decoder::decodeString, String[]::new);
 
         return new ServerOnNetwork(_recordId, _serverName, _discoveryUrl, _serverCapabilities);
     }
 
     static {
-        DelegateRegistry.registerEncoder(ServerOnNetwork::encode, ServerOnNetwork.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ServerOnNetwork::decode, ServerOnNetwork.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ServerOnNetwork::encode, ServerOnNetwork.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ServerOnNetwork::decode, ServerOnNetwork.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ServerOnNetwork::encodeBinary, ServerOnNetwork.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ServerOnNetwork::decodeBinary, ServerOnNetwork.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
@@ -102,9 +104,31 @@ public class ServerStatusDataType implements UaStructure {
         return new ServerStatusDataType(_startTime, _currentTime, _state, _buildInfo, _secondsTillShutdown, _shutdownReason);
     }
 
+    public static void encodeBinary(ServerStatusDataType serverStatusDataType, BinaryEncoder encoder) {
+        encoder.encodeDateTime("StartTime", serverStatusDataType._startTime);
+        encoder.encodeDateTime("CurrentTime", serverStatusDataType._currentTime);
+        encoder.encodeEnumeration("State", serverStatusDataType._state);
+        BuildInfo.encodeBinary(serverStatusDataType._buildInfo != null ? serverStatusDataType._buildInfo : new BuildInfo(), encoder);
+        encoder.encodeUInt32("SecondsTillShutdown", serverStatusDataType._secondsTillShutdown);
+        encoder.encodeLocalizedText("ShutdownReason", serverStatusDataType._shutdownReason);
+    }
+
+    public static ServerStatusDataType decodeBinary(BinaryDecoder decoder) {
+        DateTime _startTime = decoder.decodeDateTime("StartTime");
+        DateTime _currentTime = decoder.decodeDateTime("CurrentTime");
+        ServerState _state = ServerState.decode(decoder);
+        BuildInfo _buildInfo = BuildInfo.decodeBinary(decoder);
+        UInteger _secondsTillShutdown = decoder.decodeUInt32("SecondsTillShutdown");
+        LocalizedText _shutdownReason = decoder.decodeLocalizedText("ShutdownReason");
+
+        return new ServerStatusDataType(_startTime, _currentTime, _state, _buildInfo, _secondsTillShutdown, _shutdownReason);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ServerStatusDataType::encode, ServerStatusDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ServerStatusDataType::decode, ServerStatusDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ServerStatusDataType::encode, ServerStatusDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ServerStatusDataType::decode, ServerStatusDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ServerStatusDataType::encodeBinary, ServerStatusDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ServerStatusDataType::decodeBinary, ServerStatusDataType.class, BinaryEncodingId);
     }
 
 }
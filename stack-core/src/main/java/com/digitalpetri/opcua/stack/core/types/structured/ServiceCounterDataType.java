@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -71,9 +73,23 @@ public class ServiceCounterDataType implements UaStructure {
         return new ServiceCounterDataType(_totalCount, _errorCount);
     }
 
+    public static void encodeBinary(ServiceCounterDataType serviceCounterDataType, BinaryEncoder encoder) {
+        encoder.encodeUInt32("TotalCount", serviceCounterDataType._totalCount);
+        encoder.encodeUInt32("ErrorCount", serviceCounterDataType._errorCount);
+    }
+
+    public static ServiceCounterDataType decodeBinary(BinaryDecoder decoder) {
+        UInteger _totalCount = decoder.decodeUInt32("TotalCount");
+        UInteger _errorCount = decoder.decodeUInt32("ErrorCount");
+
+        return new ServiceCounterDataType(_totalCount, _errorCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ServiceCounterDataType::encode, ServiceCounterDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ServiceCounterDataType::decode, ServiceCounterDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ServiceCounterDataType::encode, ServiceCounterDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ServiceCounterDataType::decode, ServiceCounterDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ServiceCounterDataType::encodeBinary, ServiceCounterDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ServiceCounterDataType::decodeBinary, ServiceCounterDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class ServiceFault implements UaResponseMessage {
         return new ServiceFault(_responseHeader);
     }
 
+    public static void encodeBinary(ServiceFault serviceFault, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(serviceFault._responseHeader != null ? serviceFault._responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static ServiceFault decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+
+        return new ServiceFault(_responseHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ServiceFault::encode, ServiceFault.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ServiceFault::decode, ServiceFault.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ServiceFault::encode, ServiceFault.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ServiceFault::decode, ServiceFault.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ServiceFault::encodeBinary, ServiceFault.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ServiceFault::decodeBinary, ServiceFault.class, BinaryEncodingId);
     }
 
 }
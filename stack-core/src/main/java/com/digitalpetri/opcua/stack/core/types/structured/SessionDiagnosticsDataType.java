@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -317,7 +319,7 @@ public class SessionDiagnosticsDataType implements UaStructure {
         ApplicationDescription _clientDescription = decoder.decodeSerializable("ClientDescription", ApplicationDescription.class);
         String _serverUri = decoder.decodeString("ServerUri");
         String _endpointUrl = decoder.decodeString("EndpointUrl");
-        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String.class);
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
         Double _actualSessionTimeout = decoder.decodeDouble("ActualSessionTimeout");
         UInteger _maxResponseMessageSize = decoder.decodeUInt32("MaxResponseMessageSize");
         DateTime _clientConnectionTime = decoder.decodeDateTime("ClientConnectionTime");
@@ -359,9 +361,105 @@ public class SessionDiagnosticsDataType implements UaStructure {
         return new SessionDiagnosticsDataType(_sessionId, _sessionName, _clientDescription, _serverUri, _endpointUrl, _localeIds, _actualSessionTimeout, _maxResponseMessageSize, _clientConnectionTime, _clientLastContactTime, _currentSubscriptionsCount, _currentMonitoredItemsCount, _currentPublishRequestsInQueue, _totalRequestCount, _unauthorizedRequestCount, _readCount, _historyReadCount, _writeCount, _historyUpdateCount, _callCount, _createMonitoredItemsCount, _modifyMonitoredItemsCount, _setMonitoringModeCount, _setTriggeringCount, _deleteMonitoredItemsCount, _createSubscriptionCount, _modifySubscriptionCount, _setPublishingModeCount, _publishCount, _republishCount, _transferSubscriptionsCount, _deleteSubscriptionsCount, _addNodesCount, _addReferencesCount, _deleteNodesCount, _deleteReferencesCount, _browseCount, _browseNextCount, _translateBrowsePathsToNodeIdsCount, _queryFirstCount, _queryNextCount, _registerNodesCount, _unregisterNodesCount);
     }
 
+    public static void encodeBinary(SessionDiagnosticsDataType sessionDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId("SessionId", sessionDiagnosticsDataType._sessionId);
+        encoder.encodeString("SessionName", sessionDiagnosticsDataType._sessionName);
+        ApplicationDescription.encodeBinary(sessionDiagnosticsDataType._clientDescription != null ? sessionDiagnosticsDataType._clientDescription : new ApplicationDescription(), encoder);
+        encoder.encodeString("ServerUri", sessionDiagnosticsDataType._serverUri);
+        encoder.encodeString("EndpointUrl", sessionDiagnosticsDataType._endpointUrl);
+        encoder.encodeArray("LocaleIds", sessionDiagnosticsDataType._localeIds, encoder::encodeString);
+        encoder.encodeDouble("ActualSessionTimeout", sessionDiagnosticsDataType._actualSessionTimeout);
+        encoder.encodeUInt32("MaxResponseMessageSize", sessionDiagnosticsDataType._maxResponseMessageSize);
+        encoder.encodeDateTime("ClientConnectionTime", sessionDiagnosticsDataType._clientConnectionTime);
+        encoder.encodeDateTime("ClientLastContactTime", sessionDiagnosticsDataType._clientLastContactTime);
+        encoder.encodeUInt32("CurrentSubscriptionsCount", sessionDiagnosticsDataType._currentSubscriptionsCount);
+        encoder.encodeUInt32("CurrentMonitoredItemsCount", sessionDiagnosticsDataType._currentMonitoredItemsCount);
+        encoder.encodeUInt32("CurrentPublishRequestsInQueue", sessionDiagnosticsDataType._currentPublishRequestsInQueue);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._totalRequestCount != null ? sessionDiagnosticsDataType._totalRequestCount : new ServiceCounterDataType(), encoder);
+        encoder.encodeUInt32("UnauthorizedRequestCount", sessionDiagnosticsDataType._unauthorizedRequestCount);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._readCount != null ? sessionDiagnosticsDataType._readCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._historyReadCount != null ? sessionDiagnosticsDataType._historyReadCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._writeCount != null ? sessionDiagnosticsDataType._writeCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._historyUpdateCount != null ? sessionDiagnosticsDataType._historyUpdateCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._callCount != null ? sessionDiagnosticsDataType._callCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._createMonitoredItemsCount != null ? sessionDiagnosticsDataType._createMonitoredItemsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._modifyMonitoredItemsCount != null ? sessionDiagnosticsDataType._modifyMonitoredItemsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._setMonitoringModeCount != null ? sessionDiagnosticsDataType._setMonitoringModeCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._setTriggeringCount != null ? sessionDiagnosticsDataType._setTriggeringCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._deleteMonitoredItemsCount != null ? sessionDiagnosticsDataType._deleteMonitoredItemsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._createSubscriptionCount != null ? sessionDiagnosticsDataType._createSubscriptionCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._modifySubscriptionCount != null ? sessionDiagnosticsDataType._modifySubscriptionCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._setPublishingModeCount != null ? sessionDiagnosticsDataType._setPublishingModeCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._publishCount != null ? sessionDiagnosticsDataType._publishCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._republishCount != null ? sessionDiagnosticsDataType._republishCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._transferSubscriptionsCount != null ? sessionDiagnosticsDataType._transferSubscriptionsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._deleteSubscriptionsCount != null ? sessionDiagnosticsDataType._deleteSubscriptionsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._addNodesCount != null ? sessionDiagnosticsDataType._addNodesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._addReferencesCount != null ? sessionDiagnosticsDataType._addReferencesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._deleteNodesCount != null ? sessionDiagnosticsDataType._deleteNodesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._deleteReferencesCount != null ? sessionDiagnosticsDataType._deleteReferencesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._browseCount != null ? sessionDiagnosticsDataType._browseCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._browseNextCount != null ? sessionDiagnosticsDataType._browseNextCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._translateBrowsePathsToNodeIdsCount != null ? sessionDiagnosticsDataType._translateBrowsePathsToNodeIdsCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._queryFirstCount != null ? sessionDiagnosticsDataType._queryFirstCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._queryNextCount != null ? sessionDiagnosticsDataType._queryNextCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._registerNodesCount != null ? sessionDiagnosticsDataType._registerNodesCount : new ServiceCounterDataType(), encoder);
+        ServiceCounterDataType.encodeBinary(sessionDiagnosticsDataType._unregisterNodesCount != null ? sessionDiagnosticsDataType._unregisterNodesCount : new ServiceCounterDataType(), encoder);
+    }
+
+    public static SessionDiagnosticsDataType decodeBinary(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId("SessionId");
+        String _sessionName = decoder.decodeString("SessionName");
+        ApplicationDescription _clientDescription = ApplicationDescription.decodeBinary(decoder);
+        String _serverUri = decoder.decodeString("ServerUri");
+        String _endpointUrl = decoder.decodeString("EndpointUrl");
+        String[] _localeIds = decoder.decodeArray("LocaleIds", decoder::decodeString, String[]::new);
+        Double _actualSessionTimeout = decoder.decodeDouble("ActualSessionTimeout");
+        UInteger _maxResponseMessageSize = decoder.decodeUInt32("MaxResponseMessageSize");
+        DateTime _clientConnectionTime = decoder.decodeDateTime("ClientConnectionTime");
+        DateTime _clientLastContactTime = decoder.decodeDateTime("ClientLastContactTime");
+        UInteger _currentSubscriptionsCount = decoder.decodeUInt32("CurrentSubscriptionsCount");
+        UInteger _currentMonitoredItemsCount = decoder.decodeUInt32("CurrentMonitoredItemsCount");
+        UInteger _currentPublishRequestsInQueue = decoder.decodeUInt32("CurrentPublishRequestsInQueue");
+        ServiceCounterDataType _totalRequestCount = ServiceCounterDataType.decodeBinary(decoder);
+        UInteger _unauthorizedRequestCount = decoder.decodeUInt32("UnauthorizedRequestCount");
+        ServiceCounterDataType _readCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _historyReadCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _writeCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _historyUpdateCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _callCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _createMonitoredItemsCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _modifyMonitoredItemsCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _setMonitoringModeCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _setTriggeringCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _deleteMonitoredItemsCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _createSubscriptionCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _modifySubscriptionCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _setPublishingModeCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _publishCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _republishCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _transferSubscriptionsCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _deleteSubscriptionsCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _addNodesCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _addReferencesCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _deleteNodesCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _deleteReferencesCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _browseCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _browseNextCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _translateBrowsePathsToNodeIdsCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _queryFirstCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _queryNextCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _registerNodesCount = ServiceCounterDataType.decodeBinary(decoder);
+        ServiceCounterDataType _unregisterNodesCount = ServiceCounterDataType.decodeBinary(decoder);
+
+        return new SessionDiagnosticsDataType(_sessionId, _sessionName, _clientDescription, _serverUri, _endpointUrl, _localeIds, _actualSessionTimeout, _maxResponseMessageSize, _clientConnectionTime, _clientLastContactTime, _currentSubscriptionsCount, _currentMonitoredItemsCount, _currentPublishRequestsInQueue, _totalRequestCount, _unauthorizedRequestCount, _readCount, _historyReadCount, _writeCount, _historyUpdateCount, _callCount, _createMonitoredItemsCount, _modifyMonitoredItemsCount, _setMonitoringModeCount, _setTriggeringCount, _deleteMonitoredItemsCount, _createSubscriptionCount, _modifySubscriptionCount, _setPublishingModeCount, _publishCount, _republishCount, _transferSubscriptionsCount, _deleteSubscriptionsCount, _addNodesCount, _addReferencesCount, _deleteNodesCount, _deleteReferencesCount, _browseCount, _browseNextCount, _translateBrowsePathsToNodeIdsCount, _queryFirstCount, _queryNextCount, _registerNodesCount, _unregisterNodesCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SessionDiagnosticsDataType::encode, SessionDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SessionDiagnosticsDataType::decode, SessionDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SessionDiagnosticsDataType::encode, SessionDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SessionDiagnosticsDataType::decode, SessionDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SessionDiagnosticsDataType::encodeBinary, SessionDiagnosticsDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SessionDiagnosticsDataType::decodeBinary, SessionDiagnosticsDataType.class, BinaryEncodingId);
     }
 
 }
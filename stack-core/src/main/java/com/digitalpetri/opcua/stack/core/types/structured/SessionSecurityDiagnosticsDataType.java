@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -110,7 +112,7 @@ public class SessionSecurityDiagnosticsDataType implements UaStructure {
     public static SessionSecurityDiagnosticsDataType decode(UaDecoder decoder) {
         NodeId _sessionId = decoder.decodeNodeId("SessionId");
         String _clientUserIdOfSession = decoder.decodeString("ClientUserIdOfSession");
-        String[] _clientUserIdHistory = decoder.decodeArray("ClientUserIdHistory", decoder::decodeString, String.class);
+        String[] _clientUserIdHistory = decoder.decodeArray("ClientUserIdHistory", decoder::decodeString, String[]::new);
         String _authenticationMechanism = decoder.decodeString("AuthenticationMechanism");
         String _encoding = decoder.decodeString("Encoding");
         String _transportProtocol = decoder.decodeString("TransportProtocol");
@@ -121,9 +123,37 @@ public class SessionSecurityDiagnosticsDataType implements UaStructure {
         return new SessionSecurityDiagnosticsDataType(_sessionId, _clientUserIdOfSession, _clientUserIdHistory, _authenticationMechanism, _encoding, _transportProtocol, _securityMode, _securityPolicyUri, _clientCertificate);
     }
 
+    public static void encodeBinary(SessionSecurityDiagnosticsDataType sessionSecurityDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId("SessionId", sessionSecurityDiagnosticsDataType._sessionId);
+        encoder.encodeString("ClientUserIdOfSession", sessionSecurityDiagnosticsDataType._clientUserIdOfSession);
+        encoder.encodeArray("ClientUserIdHistory", sessionSecurityDiagnosticsDataType._clientUserIdHistory, encoder::encodeString);
+        encoder.encodeString("AuthenticationMechanism", sessionSecurityDiagnosticsDataType._authenticationMechanism);
+        encoder.encodeString("Encoding", sessionSecurityDiagnosticsDataType._encoding);
+        encoder.encodeString("TransportProtocol", sessionSecurityDiagnosticsDataType._transportProtocol);
+        encoder.encodeEnumeration("SecurityMode", sessionSecurityDiagnosticsDataType._securityMode);
+        encoder.encodeString("SecurityPolicyUri", sessionSecurityDiagnosticsDataType._securityPolicyUri);
+        encoder.encodeByteString("ClientCertificate", sessionSecurityDiagnosticsDataType._clientCertificate);
+    }
+
+    public static SessionSecurityDiagnosticsDataType decodeBinary(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId("SessionId");
+        String _clientUserIdOfSession = decoder.decodeString("ClientUserIdOfSession");
+        String[] _clientUserIdHistory = decoder.decodeArray("ClientUserIdHistory", decoder::decodeString, String[]::new);
+        String _authenticationMechanism = decoder.decodeString("AuthenticationMechanism");
+        String _encoding = decoder.decodeString("Encoding");
+        String _transportProtocol = decoder.decodeString("TransportProtocol");
+        MessageSecurityMode _securityMode = MessageSecurityMode.decode(decoder);
+        String _securityPolicyUri = decoder.decodeString("SecurityPolicyUri");
+        ByteString _clientCertificate = decoder.decodeByteString("ClientCertificate");
+
+        return new SessionSecurityDiagnosticsDataType(_sessionId, _clientUserIdOfSession, _clientUserIdHistory, _authenticationMechanism, _encoding, _transportProtocol, _securityMode, _securityPolicyUri, _clientCertificate);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SessionSecurityDiagnosticsDataType::encode, SessionSecurityDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SessionSecurityDiagnosticsDataType::decode, SessionSecurityDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SessionSecurityDiagnosticsDataType::encode, SessionSecurityDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SessionSecurityDiagnosticsDataType::decode, SessionSecurityDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SessionSecurityDiagnosticsDataType::encodeBinary, SessionSecurityDiagnosticsDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SessionSecurityDiagnosticsDataType::decodeBinary, SessionSecurityDiagnosticsDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class SetMonitoringModeResponse implements UaResponseMessage {
 
     public static SetMonitoringModeResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new SetMonitoringModeResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(SetMonitoringModeResponse setMonitoringModeResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(setMonitoringModeResponse._responseHeader != null ? setMonitoringModeResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", setMonitoringModeResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", setMonitoringModeResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static SetMonitoringModeResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new SetMonitoringModeResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(SetMonitoringModeResponse::encode, SetMonitoringModeResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SetMonitoringModeResponse::decode, SetMonitoringModeResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SetMonitoringModeResponse::encode, SetMonitoringModeResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SetMonitoringModeResponse::decode, SetMonitoringModeResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SetMonitoringModeResponse::encodeBinary, SetMonitoringModeResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SetMonitoringModeResponse::decodeBinary, SetMonitoringModeResponse.class, BinaryEncodingId);
     }
 
 }
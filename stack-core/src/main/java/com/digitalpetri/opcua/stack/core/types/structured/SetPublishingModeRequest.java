@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -73,14 +75,30 @@ public class SetPublishingModeRequest implements UaRequestMessage {
     public static SetPublishingModeRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         Boolean _publishingEnabled = decoder.decodeBoolean("PublishingEnabled");
-        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger[]::new);
+
+        return new SetPublishingModeRequest(_requestHeader, _publishingEnabled, _subscriptionIds);
+    }
+
+    public static void encodeBinary(SetPublishingModeRequest setPublishingModeRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(setPublishingModeRequest._requestHeader != null ? setPublishingModeRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeBoolean("PublishingEnabled", setPublishingModeRequest._publishingEnabled);
+        encoder.encodeArray("SubscriptionIds", setPublishingModeRequest._subscriptionIds, encoder::encodeUInt32);
+    }
+
+    public static SetPublishingModeRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        Boolean _publishingEnabled = decoder.decodeBoolean("PublishingEnabled");
+        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger[]::new);
 
         return new SetPublishingModeRequest(_requestHeader, _publishingEnabled, _subscriptionIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(SetPublishingModeRequest::encode, SetPublishingModeRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SetPublishingModeRequest::decode, SetPublishingModeRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SetPublishingModeRequest::encode, SetPublishingModeRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SetPublishingModeRequest::decode, SetPublishingModeRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SetPublishingModeRequest::encodeBinary, SetPublishingModeRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SetPublishingModeRequest::decodeBinary, SetPublishingModeRequest.class, BinaryEncodingId);
     }
 
 }
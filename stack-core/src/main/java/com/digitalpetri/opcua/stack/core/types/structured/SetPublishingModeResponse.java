@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class SetPublishingModeResponse implements UaResponseMessage {
 
     public static SetPublishingModeResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new SetPublishingModeResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(SetPublishingModeResponse setPublishingModeResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(setPublishingModeResponse._responseHeader != null ? setPublishingModeResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", setPublishingModeResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", setPublishingModeResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static SetPublishingModeResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new SetPublishingModeResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(SetPublishingModeResponse::encode, SetPublishingModeResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SetPublishingModeResponse::decode, SetPublishingModeResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SetPublishingModeResponse::encode, SetPublishingModeResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SetPublishingModeResponse::decode, SetPublishingModeResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SetPublishingModeResponse::encodeBinary, SetPublishingModeResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SetPublishingModeResponse::decodeBinary, SetPublishingModeResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -86,15 +88,35 @@ public class SetTriggeringRequest implements UaRequestMessage {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
         UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
         UInteger _triggeringItemId = decoder.decodeUInt32("TriggeringItemId");
-        UInteger[] _linksToAdd = decoder.decodeArray("LinksToAdd", decoder::decodeUInt32, UInteger.class);
-        UInteger[] _linksToRemove = decoder.decodeArray("LinksToRemove", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _linksToAdd = decoder.decodeArray("LinksToAdd", decoder::decodeUInt32, UInteger[]::new);
+        UInteger[] _linksToRemove = decoder.decodeArray("LinksToRemove", decoder::decodeUInt32, UInteger[]::new);
+
+        return new SetTriggeringRequest(_requestHeader, _subscriptionId, _triggeringItemId, _linksToAdd, _linksToRemove);
+    }
+
+    public static void encodeBinary(SetTriggeringRequest setTriggeringRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(setTriggeringRequest._requestHeader != null ? setTriggeringRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("SubscriptionId", setTriggeringRequest._subscriptionId);
+        encoder.encodeUInt32("TriggeringItemId", setTriggeringRequest._triggeringItemId);
+        encoder.encodeArray("LinksToAdd", setTriggeringRequest._linksToAdd, encoder::encodeUInt32);
+        encoder.encodeArray("LinksToRemove", setTriggeringRequest._linksToRemove, encoder::encodeUInt32);
+    }
+
+    public static SetTriggeringRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        UInteger _triggeringItemId = decoder.decodeUInt32("TriggeringItemId");
+        UInteger[] _linksToAdd = decoder.decodeArray("LinksToAdd", decoder::decodeUInt32, UInteger[]::new);
+        UInteger[] _linksToRemove = decoder.decodeArray("LinksToRemove", decoder::decodeUInt32, UInteger[]::new);
 
         return new SetTriggeringRequest(_requestHeader, _subscriptionId, _triggeringItemId, _linksToAdd, _linksToRemove);
     }
 
     static {
-        DelegateRegistry.registerEncoder(SetTriggeringRequest::encode, SetTriggeringRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SetTriggeringRequest::decode, SetTriggeringRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SetTriggeringRequest::encode, SetTriggeringRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SetTriggeringRequest::decode, SetTriggeringRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SetTriggeringRequest::encodeBinary, SetTriggeringRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SetTriggeringRequest::decodeBinary, SetTriggeringRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -71,9 +73,23 @@ public class SignatureData implements UaStructure {
         return new SignatureData(_algorithm, _signature);
     }
 
+    public static void encodeBinary(SignatureData signatureData, BinaryEncoder encoder) {
+        encoder.encodeString("Algorithm", signatureData._algorithm);
+        encoder.encodeByteString("Signature", signatureData._signature);
+    }
+
+    public static SignatureData decodeBinary(BinaryDecoder decoder) {
+        String _algorithm = decoder.decodeString("Algorithm");
+        ByteString _signature = decoder.decodeByteString("Signature");
+
+        return new SignatureData(_algorithm, _signature);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SignatureData::encode, SignatureData.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SignatureData::decode, SignatureData.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SignatureData::encode, SignatureData.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SignatureData::decode, SignatureData.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SignatureData::encodeBinary, SignatureData.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SignatureData::decodeBinary, SignatureData.class, BinaryEncodingId);
     }
 
 }
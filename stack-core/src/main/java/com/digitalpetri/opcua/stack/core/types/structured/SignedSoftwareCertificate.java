@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -71,9 +73,23 @@ public class SignedSoftwareCertificate implements UaStructure {
         return new SignedSoftwareCertificate(_certificateData, _signature);
     }
 
+    public static void encodeBinary(SignedSoftwareCertificate signedSoftwareCertificate, BinaryEncoder encoder) {
+        encoder.encodeByteString("CertificateData", signedSoftwareCertificate._certificateData);
+        encoder.encodeByteString("Signature", signedSoftwareCertificate._signature);
+    }
+
+    public static SignedSoftwareCertificate decodeBinary(BinaryDecoder decoder) {
+        ByteString _certificateData = decoder.decodeByteString("CertificateData");
+        ByteString _signature = decoder.decodeByteString("Signature");
+
+        return new SignedSoftwareCertificate(_certificateData, _signature);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SignedSoftwareCertificate::encode, SignedSoftwareCertificate.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SignedSoftwareCertificate::decode, SignedSoftwareCertificate.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SignedSoftwareCertificate::encode, SignedSoftwareCertificate.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SignedSoftwareCertificate::decode, SignedSoftwareCertificate.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SignedSoftwareCertificate::encodeBinary, SignedSoftwareCertificate.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SignedSoftwareCertificate::decodeBinary, SignedSoftwareCertificate.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
@@ -80,7 +82,23 @@ public class SimpleAttributeOperand extends FilterOperand {
 
     public static SimpleAttributeOperand decode(UaDecoder decoder) {
         NodeId _typeDefinitionId = decoder.decodeNodeId("TypeDefinitionId");
-        QualifiedName[] _browsePath = decoder.decodeArray("BrowsePath", decoder::decodeQualifiedName, QualifiedName.class);
+        QualifiedName[] _browsePath = decoder.decodeArray("BrowsePath", decoder::decodeQualifiedName, QualifiedName[]::new);
+        UInteger _attributeId = decoder.decodeUInt32("AttributeId");
+        String _indexRange = decoder.decodeString("IndexRange");
+
+        return new SimpleAttributeOperand(_typeDefinitionId, _browsePath, _attributeId, _indexRange);
+    }
+
+    public static void encodeBinary(SimpleAttributeOperand simpleAttributeOperand, BinaryEncoder encoder) {
+        encoder.encodeNodeId("TypeDefinitionId", simpleAttributeOperand._typeDefinitionId);
+        encoder.encodeArray("BrowsePath", simpleAttributeOperand._browsePath, encoder::encodeQualifiedName);
+        encoder.encodeUInt32("AttributeId", simpleAttributeOperand._attributeId);
+        encoder.encodeString("IndexRange", simpleAttributeOperand._indexRange);
+    }
+
+    public static SimpleAttributeOperand decodeBinary(BinaryDecoder decoder) {
+        NodeId _typeDefinitionId = decoder.decodeNodeId("TypeDefinitionId");
+        QualifiedName[] _browsePath = decoder.decodeArray("BrowsePath", decoder::decodeQualifiedName, QualifiedName[]::new);
         UInteger _attributeId = decoder.decodeUInt32("AttributeId");
         String _indexRange = decoder.decodeString("IndexRange");
 
@@ -88,8 +106,10 @@ public class SimpleAttributeOperand extends FilterOperand {
     }
 
     static {
-        DelegateRegistry.registerEncoder(SimpleAttributeOperand::encode, SimpleAttributeOperand.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SimpleAttributeOperand::decode, SimpleAttributeOperand.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SimpleAttributeOperand::encode, SimpleAttributeOperand.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SimpleAttributeOperand::decode, SimpleAttributeOperand.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SimpleAttributeOperand::encodeBinary, SimpleAttributeOperand.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SimpleAttributeOperand::decodeBinary, SimpleAttributeOperand.class, BinaryEncodingId);
     }
 
 }
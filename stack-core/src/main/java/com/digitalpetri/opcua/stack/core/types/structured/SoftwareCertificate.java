@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
@@ -123,14 +125,44 @@ public class SoftwareCertificate implements UaStructure {
         DateTime _buildDate = decoder.decodeDateTime("BuildDate");
         String _issuedBy = decoder.decodeString("IssuedBy");
         DateTime _issueDate = decoder.decodeDateTime("IssueDate");
-        SupportedProfile[] _supportedProfiles = decoder.decodeArray("SupportedProfiles", decoder::decodeSerializable, SupportedProfile.class);
+        SupportedProfile[] _supportedProfiles = decoder.decodeArray("SupportedProfiles", decoder::decodeSerializable, SupportedProfile.class, SupportedProfile[]::new);
+
+        return new SoftwareCertificate(_productName, _productUri, _vendorName, _vendorProductCertificate, _softwareVersion, _buildNumber, _buildDate, _issuedBy, _issueDate, _supportedProfiles);
+    }
+
+    public static void encodeBinary(SoftwareCertificate softwareCertificate, BinaryEncoder encoder) {
+        encoder.encodeString("ProductName", softwareCertificate._productName);
+        encoder.encodeString("ProductUri", softwareCertificate._productUri);
+        encoder.encodeString("VendorName", softwareCertificate._vendorName);
+        encoder.encodeByteString("VendorProductCertificate", softwareCertificate._vendorProductCertificate);
+        encoder.encodeString("SoftwareVersion", softwareCertificate._softwareVersion);
+        encoder.encodeString("BuildNumber", softwareCertificate._buildNumber);
+        encoder.encodeDateTime("BuildDate", softwareCertificate._buildDate);
+        encoder.encodeString("IssuedBy", softwareCertificate._issuedBy);
+        encoder.encodeDateTime("IssueDate", softwareCertificate._issueDate);
+        encoder.encodeStructureArray("SupportedProfiles", softwareCertificate._supportedProfiles, SupportedProfile::encodeBinary);
+    }
+
+    public static SoftwareCertificate decodeBinary(BinaryDecoder decoder) {
+        String _productName = decoder.decodeString("ProductName");
+        String _productUri = decoder.decodeString("ProductUri");
+        String _vendorName = decoder.decodeString("VendorName");
+        ByteString _vendorProductCertificate = decoder.decodeByteString("VendorProductCertificate");
+        String _softwareVersion = decoder.decodeString("SoftwareVersion");
+        String _buildNumber = decoder.decodeString("BuildNumber");
+        DateTime _buildDate = decoder.decodeDateTime("BuildDate");
+        String _issuedBy = decoder.decodeString("IssuedBy");
+        DateTime _issueDate = decoder.decodeDateTime("IssueDate");
+        SupportedProfile[] _supportedProfiles = decoder.decodeStructureArray("SupportedProfiles", SupportedProfile::decodeBinary, SupportedProfile[]::new);
 
         return new SoftwareCertificate(_productName, _productUri, _vendorName, _vendorProductCertificate, _softwareVersion, _buildNumber, _buildDate, _issuedBy, _issueDate, _supportedProfiles);
     }
 
     static {
-        DelegateRegistry.registerEncoder(SoftwareCertificate::encode, SoftwareCertificate.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SoftwareCertificate::decode, SoftwareCertificate.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SoftwareCertificate::encode, SoftwareCertificate.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SoftwareCertificate::decode, SoftwareCertificate.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SoftwareCertificate::encodeBinary, SoftwareCertificate.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SoftwareCertificate::decodeBinary, SoftwareCertificate.class, BinaryEncodingId);
     }
 
 }
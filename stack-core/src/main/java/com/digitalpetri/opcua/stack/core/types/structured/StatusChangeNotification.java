@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,9 +75,23 @@ public class StatusChangeNotification extends NotificationData {
         return new StatusChangeNotification(_status, _diagnosticInfo);
     }
 
+    public static void encodeBinary(StatusChangeNotification statusChangeNotification, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("Status", statusChangeNotification._status);
+        encoder.encodeDiagnosticInfo("DiagnosticInfo", statusChangeNotification._diagnosticInfo);
+    }
+
+    public static StatusChangeNotification decodeBinary(BinaryDecoder decoder) {
+        StatusCode _status = decoder.decodeStatusCode("Status");
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo("DiagnosticInfo");
+
+        return new StatusChangeNotification(_status, _diagnosticInfo);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(StatusChangeNotification::encode, StatusChangeNotification.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(StatusChangeNotification::decode, StatusChangeNotification.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(StatusChangeNotification::encode, StatusChangeNotification.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(StatusChangeNotification::decode, StatusChangeNotification.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(StatusChangeNotification::encodeBinary, StatusChangeNotification.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(StatusChangeNotification::decodeBinary, StatusChangeNotification.class, BinaryEncodingId);
     }
 
 }
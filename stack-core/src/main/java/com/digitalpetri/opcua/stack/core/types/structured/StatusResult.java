@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -72,9 +74,23 @@ public class StatusResult implements UaStructure {
         return new StatusResult(_statusCode, _diagnosticInfo);
     }
 
+    public static void encodeBinary(StatusResult statusResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", statusResult._statusCode);
+        encoder.encodeDiagnosticInfo("DiagnosticInfo", statusResult._diagnosticInfo);
+    }
+
+    public static StatusResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        DiagnosticInfo _diagnosticInfo = decoder.decodeDiagnosticInfo("DiagnosticInfo");
+
+        return new StatusResult(_statusCode, _diagnosticInfo);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(StatusResult::encode, StatusResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(StatusResult::decode, StatusResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(StatusResult::encode, StatusResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(StatusResult::decode, StatusResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(StatusResult::encodeBinary, StatusResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(StatusResult::decodeBinary, StatusResult.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -71,9 +73,23 @@ public class SubscriptionAcknowledgement implements UaStructure {
         return new SubscriptionAcknowledgement(_subscriptionId, _sequenceNumber);
     }
 
+    public static void encodeBinary(SubscriptionAcknowledgement subscriptionAcknowledgement, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SubscriptionId", subscriptionAcknowledgement._subscriptionId);
+        encoder.encodeUInt32("SequenceNumber", subscriptionAcknowledgement._sequenceNumber);
+    }
+
+    public static SubscriptionAcknowledgement decodeBinary(BinaryDecoder decoder) {
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        UInteger _sequenceNumber = decoder.decodeUInt32("SequenceNumber");
+
+        return new SubscriptionAcknowledgement(_subscriptionId, _sequenceNumber);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SubscriptionAcknowledgement::encode, SubscriptionAcknowledgement.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SubscriptionAcknowledgement::decode, SubscriptionAcknowledgement.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SubscriptionAcknowledgement::encode, SubscriptionAcknowledgement.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SubscriptionAcknowledgement::decode, SubscriptionAcknowledgement.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SubscriptionAcknowledgement::encodeBinary, SubscriptionAcknowledgement.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SubscriptionAcknowledgement::decodeBinary, SubscriptionAcknowledgement.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
@@ -275,9 +277,81 @@ public class SubscriptionDiagnosticsDataType implements UaStructure {
         return new SubscriptionDiagnosticsDataType(_sessionId, _subscriptionId, _priority, _publishingInterval, _maxKeepAliveCount, _maxLifetimeCount, _maxNotificationsPerPublish, _publishingEnabled, _modifyCount, _enableCount, _disableCount, _republishRequestCount, _republishMessageRequestCount, _republishMessageCount, _transferRequestCount, _transferredToAltClientCount, _transferredToSameClientCount, _publishRequestCount, _dataChangeNotificationsCount, _eventNotificationsCount, _notificationsCount, _latePublishRequestCount, _currentKeepAliveCount, _currentLifetimeCount, _unacknowledgedMessageCount, _discardedMessageCount, _monitoredItemCount, _disabledMonitoredItemCount, _monitoringQueueOverflowCount, _nextSequenceNumber, _eventQueueOverFlowCount);
     }
 
+    public static void encodeBinary(SubscriptionDiagnosticsDataType subscriptionDiagnosticsDataType, BinaryEncoder encoder) {
+        encoder.encodeNodeId("SessionId", subscriptionDiagnosticsDataType._sessionId);
+        encoder.encodeUInt32("SubscriptionId", subscriptionDiagnosticsDataType._subscriptionId);
+        encoder.encodeByte("Priority", subscriptionDiagnosticsDataType._priority);
+        encoder.encodeDouble("PublishingInterval", subscriptionDiagnosticsDataType._publishingInterval);
+        encoder.encodeUInt32("MaxKeepAliveCount", subscriptionDiagnosticsDataType._maxKeepAliveCount);
+        encoder.encodeUInt32("MaxLifetimeCount", subscriptionDiagnosticsDataType._maxLifetimeCount);
+        encoder.encodeUInt32("MaxNotificationsPerPublish", subscriptionDiagnosticsDataType._maxNotificationsPerPublish);
+        encoder.encodeBoolean("PublishingEnabled", subscriptionDiagnosticsDataType._publishingEnabled);
+        encoder.encodeUInt32("ModifyCount", subscriptionDiagnosticsDataType._modifyCount);
+        encoder.encodeUInt32("EnableCount", subscriptionDiagnosticsDataType._enableCount);
+        encoder.encodeUInt32("DisableCount", subscriptionDiagnosticsDataType._disableCount);
+        encoder.encodeUInt32("RepublishRequestCount", subscriptionDiagnosticsDataType._republishRequestCount);
+        encoder.encodeUInt32("RepublishMessageRequestCount", subscriptionDiagnosticsDataType._republishMessageRequestCount);
+        encoder.encodeUInt32("RepublishMessageCount", subscriptionDiagnosticsDataType._republishMessageCount);
+        encoder.encodeUInt32("TransferRequestCount", subscriptionDiagnosticsDataType._transferRequestCount);
+        encoder.encodeUInt32("TransferredToAltClientCount", subscriptionDiagnosticsDataType._transferredToAltClientCount);
+        encoder.encodeUInt32("TransferredToSameClientCount", subscriptionDiagnosticsDataType._transferredToSameClientCount);
+        encoder.encodeUInt32("PublishRequestCount", subscriptionDiagnosticsDataType._publishRequestCount);
+        encoder.encodeUInt32("DataChangeNotificationsCount", subscriptionDiagnosticsDataType._dataChangeNotificationsCount);
+        encoder.encodeUInt32("EventNotificationsCount", subscriptionDiagnosticsDataType._eventNotificationsCount);
+        encoder.encodeUInt32("NotificationsCount", subscriptionDiagnosticsDataType._notificationsCount);
+        encoder.encodeUInt32("LatePublishRequestCount", subscriptionDiagnosticsDataType._latePublishRequestCount);
+        encoder.encodeUInt32("CurrentKeepAliveCount", subscriptionDiagnosticsDataType._currentKeepAliveCount);
+        encoder.encodeUInt32("CurrentLifetimeCount", subscriptionDiagnosticsDataType._currentLifetimeCount);
+        encoder.encodeUInt32("UnacknowledgedMessageCount", subscriptionDiagnosticsDataType._unacknowledgedMessageCount);
+        encoder.encodeUInt32("DiscardedMessageCount", subscriptionDiagnosticsDataType._discardedMessageCount);
+        encoder.encodeUInt32("MonitoredItemCount", subscriptionDiagnosticsDataType._monitoredItemCount);
+        encoder.encodeUInt32("DisabledMonitoredItemCount", subscriptionDiagnosticsDataType._disabledMonitoredItemCount);
+        encoder.encodeUInt32("MonitoringQueueOverflowCount", subscriptionDiagnosticsDataType._monitoringQueueOverflowCount);
+        encoder.encodeUInt32("NextSequenceNumber", subscriptionDiagnosticsDataType._nextSequenceNumber);
+        encoder.encodeUInt32("EventQueueOverFlowCount", subscriptionDiagnosticsDataType._eventQueueOverFlowCount);
+    }
+
+    public static SubscriptionDiagnosticsDataType decodeBinary(BinaryDecoder decoder) {
+        NodeId _sessionId = decoder.decodeNodeId("SessionId");
+        UInteger _subscriptionId = decoder.decodeUInt32("SubscriptionId");
+        UByte _priority = decoder.decodeByte("Priority");
+        Double _publishingInterval = decoder.decodeDouble("PublishingInterval");
+        UInteger _maxKeepAliveCount = decoder.decodeUInt32("MaxKeepAliveCount");
+        UInteger _maxLifetimeCount = decoder.decodeUInt32("MaxLifetimeCount");
+        UInteger _maxNotificationsPerPublish = decoder.decodeUInt32("MaxNotificationsPerPublish");
+        Boolean _publishingEnabled = decoder.decodeBoolean("PublishingEnabled");
+        UInteger _modifyCount = decoder.decodeUInt32("ModifyCount");
+        UInteger _enableCount = decoder.decodeUInt32("EnableCount");
+        UInteger _disableCount = decoder.decodeUInt32("DisableCount");
+        UInteger _republishRequestCount = decoder.decodeUInt32("RepublishRequestCount");
+        UInteger _republishMessageRequestCount = decoder.decodeUInt32("RepublishMessageRequestCount");
+        UInteger _republishMessageCount = decoder.decodeUInt32("RepublishMessageCount");
+        UInteger _transferRequestCount = decoder.decodeUInt32("TransferRequestCount");
+        UInteger _transferredToAltClientCount = decoder.decodeUInt32("TransferredToAltClientCount");
+        UInteger _transferredToSameClientCount = decoder.decodeUInt32("TransferredToSameClientCount");
+        UInteger _publishRequestCount = decoder.decodeUInt32("PublishRequestCount");
+        UInteger _dataChangeNotificationsCount = decoder.decodeUInt32("DataChangeNotificationsCount");
+        UInteger _eventNotificationsCount = decoder.decodeUInt32("EventNotificationsCount");
+        UInteger _notificationsCount = decoder.decodeUInt32("NotificationsCount");
+        UInteger _latePublishRequestCount = decoder.decodeUInt32("LatePublishRequestCount");
+        UInteger _currentKeepAliveCount = decoder.decodeUInt32("CurrentKeepAliveCount");
+        UInteger _currentLifetimeCount = decoder.decodeUInt32("CurrentLifetimeCount");
+        UInteger _unacknowledgedMessageCount = decoder.decodeUInt32("UnacknowledgedMessageCount");
+        UInteger _discardedMessageCount = decoder.decodeUInt32("DiscardedMessageCount");
+        UInteger _monitoredItemCount = decoder.decodeUInt32("MonitoredItemCount");
+        UInteger _disabledMonitoredItemCount = decoder.decodeUInt32("DisabledMonitoredItemCount");
+        UInteger _monitoringQueueOverflowCount = decoder.decodeUInt32("MonitoringQueueOverflowCount");
+        UInteger _nextSequenceNumber = decoder.decodeUInt32("NextSequenceNumber");
+        UInteger _eventQueueOverFlowCount = decoder.decodeUInt32("EventQueueOverFlowCount");
+
+        return new SubscriptionDiagnosticsDataType(_sessionId, _subscriptionId, _priority, _publishingInterval, _maxKeepAliveCount, _maxLifetimeCount, _maxNotificationsPerPublish, _publishingEnabled, _modifyCount, _enableCount, _disableCount, _republishRequestCount, _republishMessageRequestCount, _republishMessageCount, _transferRequestCount, _transferredToAltClientCount, _transferredToSameClientCount, _publishRequestCount, _dataChangeNotificationsCount, _eventNotificationsCount, _notificationsCount, _latePublishRequestCount, _currentKeepAliveCount, _currentLifetimeCount, _unacknowledgedMessageCount, _discardedMessageCount, _monitoredItemCount, _disabledMonitoredItemCount, _monitoringQueueOverflowCount, _nextSequenceNumber, _eventQueueOverFlowCount);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(SubscriptionDiagnosticsDataType::encode, SubscriptionDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SubscriptionDiagnosticsDataType::decode, SubscriptionDiagnosticsDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SubscriptionDiagnosticsDataType::encode, SubscriptionDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SubscriptionDiagnosticsDataType::decode, SubscriptionDiagnosticsDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SubscriptionDiagnosticsDataType::encodeBinary, SubscriptionDiagnosticsDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SubscriptionDiagnosticsDataType::decodeBinary, SubscriptionDiagnosticsDataType.class, BinaryEncodingId);
     }
 
 }
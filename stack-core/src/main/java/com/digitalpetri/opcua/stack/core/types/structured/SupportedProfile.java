@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -95,14 +97,36 @@ public class SupportedProfile implements UaStructure {
         String _complianceTool = decoder.decodeString("ComplianceTool");
         DateTime _complianceDate = decoder.decodeDateTime("ComplianceDate");
         ComplianceLevel _complianceLevel = decoder.decodeEnumeration("ComplianceLevel", ComplianceLevel.class);
-        String[] _unsupportedUnitIds = decoder.decodeArray("UnsupportedUnitIds", decoder::decodeString, String.class);
+        String[] _unsupportedUnitIds = decoder.decodeArray("UnsupportedUnitIds", decoder::decodeString, String[]::new);
+
+        return new SupportedProfile(_organizationUri, _profileId, _complianceTool, _complianceDate, _complianceLevel, _unsupportedUnitIds);
+    }
+
+    public static void encodeBinary(SupportedProfile supportedProfile, BinaryEncoder encoder) {
+        encoder.encodeString("OrganizationUri", supportedProfile._organizationUri);
+        encoder.encodeString("ProfileId", supportedProfile._profileId);
+        encoder.encodeString("ComplianceTool", supportedProfile._complianceTool);
+        encoder.encodeDateTime("ComplianceDate", supportedProfile._complianceDate);
+        encoder.encodeEnumeration("ComplianceLevel", supportedProfile._complianceLevel);
+        encoder.encodeArray("UnsupportedUnitIds", supportedProfile._unsupportedUnitIds, encoder::encodeString);
+    }
+
+    public static SupportedProfile decodeBinary(BinaryDecoder decoder) {
+        String _organizationUri = decoder.decodeString("OrganizationUri");
+        String _profileId = decoder.decodeString("ProfileId");
+        String _complianceTool = decoder.decodeString("ComplianceTool");
+        DateTime _complianceDate = decoder.decodeDateTime("ComplianceDate");
+        ComplianceLevel _complianceLevel = ComplianceLevel.decode(decoder);
+        String[] _unsupportedUnitIds = decoder.decodeArray("UnsupportedUnitIds", decoder::decodeString, String[]::new);
 
         return new SupportedProfile(_organizationUri, _profileId, _complianceTool, _complianceDate, _complianceLevel, _unsupportedUnitIds);
     }
 
     static {
-        DelegateRegistry.registerEncoder(SupportedProfile::encode, SupportedProfile.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(SupportedProfile::decode, SupportedProfile.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(SupportedProfile::encode, SupportedProfile.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(SupportedProfile::decode, SupportedProfile.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(SupportedProfile::encodeBinary, SupportedProfile.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(SupportedProfile::decodeBinary, SupportedProfile.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -99,9 +101,27 @@ public class TestStackExRequest implements UaRequestMessage {
         return new TestStackExRequest(_requestHeader, _testId, _iteration, _input);
     }
 
+    public static void encodeBinary(TestStackExRequest testStackExRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(testStackExRequest._requestHeader != null ? testStackExRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("TestId", testStackExRequest._testId);
+        encoder.encodeInt32("Iteration", testStackExRequest._iteration);
+        CompositeTestType.encodeBinary(testStackExRequest._input != null ? testStackExRequest._input : new CompositeTestType(), encoder);
+    }
+
+    public static TestStackExRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _testId = decoder.decodeUInt32("TestId");
+        Integer _iteration = decoder.decodeInt32("Iteration");
+        CompositeTestType _input = CompositeTestType.decodeBinary(decoder);
+
+        return new TestStackExRequest(_requestHeader, _testId, _iteration, _input);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(TestStackExRequest::encode, TestStackExRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TestStackExRequest::decode, TestStackExRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TestStackExRequest::encode, TestStackExRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TestStackExRequest::decode, TestStackExRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TestStackExRequest::encodeBinary, TestStackExRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TestStackExRequest::decodeBinary, TestStackExRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -80,9 +82,23 @@ public class TestStackExResponse implements UaResponseMessage {
         return new TestStackExResponse(_responseHeader, _output);
     }
 
+    public static void encodeBinary(TestStackExResponse testStackExResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(testStackExResponse._responseHeader != null ? testStackExResponse._responseHeader : new ResponseHeader(), encoder);
+        CompositeTestType.encodeBinary(testStackExResponse._output != null ? testStackExResponse._output : new CompositeTestType(), encoder);
+    }
+
+    public static TestStackExResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        CompositeTestType _output = CompositeTestType.decodeBinary(decoder);
+
+        return new TestStackExResponse(_responseHeader, _output);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(TestStackExResponse::encode, TestStackExResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TestStackExResponse::decode, TestStackExResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TestStackExResponse::encode, TestStackExResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TestStackExResponse::decode, TestStackExResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TestStackExResponse::encodeBinary, TestStackExResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TestStackExResponse::decodeBinary, TestStackExResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
@@ -100,9 +102,27 @@ public class TestStackRequest implements UaRequestMessage {
         return new TestStackRequest(_requestHeader, _testId, _iteration, _input);
     }
 
+    public static void encodeBinary(TestStackRequest testStackRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(testStackRequest._requestHeader != null ? testStackRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeUInt32("TestId", testStackRequest._testId);
+        encoder.encodeInt32("Iteration", testStackRequest._iteration);
+        encoder.encodeVariant("Input", testStackRequest._input);
+    }
+
+    public static TestStackRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger _testId = decoder.decodeUInt32("TestId");
+        Integer _iteration = decoder.decodeInt32("Iteration");
+        Variant _input = decoder.decodeVariant("Input");
+
+        return new TestStackRequest(_requestHeader, _testId, _iteration, _input);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(TestStackRequest::encode, TestStackRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TestStackRequest::decode, TestStackRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TestStackRequest::encode, TestStackRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TestStackRequest::decode, TestStackRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TestStackRequest::encodeBinary, TestStackRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TestStackRequest::decodeBinary, TestStackRequest.class, BinaryEncodingId);
     }
 
 }
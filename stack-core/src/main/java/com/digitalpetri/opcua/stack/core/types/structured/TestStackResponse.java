@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
@@ -81,9 +83,23 @@ public class TestStackResponse implements UaResponseMessage {
         return new TestStackResponse(_responseHeader, _output);
     }
 
+    public static void encodeBinary(TestStackResponse testStackResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(testStackResponse._responseHeader != null ? testStackResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeVariant("Output", testStackResponse._output);
+    }
+
+    public static TestStackResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        Variant _output = decoder.decodeVariant("Output");
+
+        return new TestStackResponse(_responseHeader, _output);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(TestStackResponse::encode, TestStackResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TestStackResponse::decode, TestStackResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TestStackResponse::encode, TestStackResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TestStackResponse::decode, TestStackResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TestStackResponse::encodeBinary, TestStackResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TestStackResponse::decodeBinary, TestStackResponse.class, BinaryEncodingId);
     }
 
 }
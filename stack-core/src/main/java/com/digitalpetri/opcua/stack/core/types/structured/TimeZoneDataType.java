@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class TimeZoneDataType implements UaStructure {
         return new TimeZoneDataType(_offset, _daylightSavingInOffset);
     }
 
+    public static void encodeBinary(TimeZoneDataType timeZoneDataType, BinaryEncoder encoder) {
+        encoder.encodeInt16("Offset", timeZoneDataType._offset);
+        encoder.encodeBoolean("DaylightSavingInOffset", timeZoneDataType._daylightSavingInOffset);
+    }
+
+    public static TimeZoneDataType decodeBinary(BinaryDecoder decoder) {
+        Short _offset = decoder.decodeInt16("Offset");
+        Boolean _daylightSavingInOffset = decoder.decodeBoolean("DaylightSavingInOffset");
+
+        return new TimeZoneDataType(_offset, _daylightSavingInOffset);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(TimeZoneDataType::encode, TimeZoneDataType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TimeZoneDataType::decode, TimeZoneDataType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TimeZoneDataType::encode, TimeZoneDataType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TimeZoneDataType::decode, TimeZoneDataType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TimeZoneDataType::encodeBinary, TimeZoneDataType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TimeZoneDataType::decodeBinary, TimeZoneDataType.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
@@ -67,14 +69,28 @@ public class TransferResult implements UaStructure {
 
     public static TransferResult decode(UaDecoder decoder) {
         StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
-        UInteger[] _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger[]::new);
+
+        return new TransferResult(_statusCode, _availableSequenceNumbers);
+    }
+
+    public static void encodeBinary(TransferResult transferResult, BinaryEncoder encoder) {
+        encoder.encodeStatusCode("StatusCode", transferResult._statusCode);
+        encoder.encodeArray("AvailableSequenceNumbers", transferResult._availableSequenceNumbers, encoder::encodeUInt32);
+    }
+
+    public static TransferResult decodeBinary(BinaryDecoder decoder) {
+        StatusCode _statusCode = decoder.decodeStatusCode("StatusCode");
+        UInteger[] _availableSequenceNumbers = decoder.decodeArray("AvailableSequenceNumbers", decoder::decodeUInt32, UInteger[]::new);
 
         return new TransferResult(_statusCode, _availableSequenceNumbers);
     }
 
     static {
-        DelegateRegistry.registerEncoder(TransferResult::encode, TransferResult.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TransferResult::decode, TransferResult.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TransferResult::encode, TransferResult.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TransferResult::decode, TransferResult.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TransferResult::encodeBinary, TransferResult.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TransferResult::decodeBinary, TransferResult.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -72,15 +74,31 @@ public class TransferSubscriptionsRequest implements UaRequestMessage {
 
     public static TransferSubscriptionsRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger[]::new);
+        Boolean _sendInitialValues = decoder.decodeBoolean("SendInitialValues");
+
+        return new TransferSubscriptionsRequest(_requestHeader, _subscriptionIds, _sendInitialValues);
+    }
+
+    public static void encodeBinary(TransferSubscriptionsRequest transferSubscriptionsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(transferSubscriptionsRequest._requestHeader != null ? transferSubscriptionsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeArray("SubscriptionIds", transferSubscriptionsRequest._subscriptionIds, encoder::encodeUInt32);
+        encoder.encodeBoolean("SendInitialValues", transferSubscriptionsRequest._sendInitialValues);
+    }
+
+    public static TransferSubscriptionsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        UInteger[] _subscriptionIds = decoder.decodeArray("SubscriptionIds", decoder::decodeUInt32, UInteger[]::new);
         Boolean _sendInitialValues = decoder.decodeBoolean("SendInitialValues");
 
         return new TransferSubscriptionsRequest(_requestHeader, _subscriptionIds, _sendInitialValues);
     }
 
     static {
-        DelegateRegistry.registerEncoder(TransferSubscriptionsRequest::encode, TransferSubscriptionsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TransferSubscriptionsRequest::decode, TransferSubscriptionsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TransferSubscriptionsRequest::encode, TransferSubscriptionsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TransferSubscriptionsRequest::decode, TransferSubscriptionsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TransferSubscriptionsRequest::encodeBinary, TransferSubscriptionsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TransferSubscriptionsRequest::decodeBinary, TransferSubscriptionsRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class TranslateBrowsePathsToNodeIdsRequest implements UaRequestMessage {
 
     public static TranslateBrowsePathsToNodeIdsRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        BrowsePath[] _browsePaths = decoder.decodeArray("BrowsePaths", decoder::decodeSerializable, BrowsePath.class);
+        BrowsePath[] _browsePaths = decoder.decodeArray("BrowsePaths", decoder::decodeSerializable, BrowsePath.class, BrowsePath[]::new);
+
+        return new TranslateBrowsePathsToNodeIdsRequest(_requestHeader, _browsePaths);
+    }
+
+    public static void encodeBinary(TranslateBrowsePathsToNodeIdsRequest translateBrowsePathsToNodeIdsRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(translateBrowsePathsToNodeIdsRequest._requestHeader != null ? translateBrowsePathsToNodeIdsRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("BrowsePaths", translateBrowsePathsToNodeIdsRequest._browsePaths, BrowsePath::encodeBinary);
+    }
+
+    public static TranslateBrowsePathsToNodeIdsRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        BrowsePath[] _browsePaths = decoder.decodeStructureArray("BrowsePaths", BrowsePath::decodeBinary, BrowsePath[]::new);
 
         return new TranslateBrowsePathsToNodeIdsRequest(_requestHeader, _browsePaths);
     }
 
     static {
-        DelegateRegistry.registerEncoder(TranslateBrowsePathsToNodeIdsRequest::encode, TranslateBrowsePathsToNodeIdsRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TranslateBrowsePathsToNodeIdsRequest::decode, TranslateBrowsePathsToNodeIdsRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TranslateBrowsePathsToNodeIdsRequest::encode, TranslateBrowsePathsToNodeIdsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TranslateBrowsePathsToNodeIdsRequest::decode, TranslateBrowsePathsToNodeIdsRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TranslateBrowsePathsToNodeIdsRequest::encodeBinary, TranslateBrowsePathsToNodeIdsRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TranslateBrowsePathsToNodeIdsRequest::decodeBinary, TranslateBrowsePathsToNodeIdsRequest.class, BinaryEncodingId);
     }
 
 }
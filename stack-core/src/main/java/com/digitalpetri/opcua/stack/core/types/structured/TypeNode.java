@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,14 +75,40 @@ public class TypeNode extends Node {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+
+        return new TypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
+    }
+
+    public static void encodeBinary(TypeNode typeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", typeNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", typeNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", typeNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", typeNode._displayName);
+        encoder.encodeLocalizedText("Description", typeNode._description);
+        encoder.encodeUInt32("WriteMask", typeNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", typeNode._userWriteMask);
+        encoder.encodeStructureArray("References", typeNode._references, ReferenceNode::encodeBinary);
+    }
+
+    public static TypeNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
 
         return new TypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references);
     }
 
     static {
-        DelegateRegistry.registerEncoder(TypeNode::encode, TypeNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(TypeNode::decode, TypeNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(TypeNode::encode, TypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(TypeNode::decode, TypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(TypeNode::encodeBinary, TypeNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(TypeNode::decodeBinary, TypeNode.class, BinaryEncodingId);
     }
 
 }
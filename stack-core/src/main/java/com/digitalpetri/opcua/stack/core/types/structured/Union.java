@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -55,9 +57,19 @@ public class Union implements UaStructure {
         return new Union();
     }
 
+    public static void encodeBinary(Union union, BinaryEncoder encoder) {
+    }
+
+    public static Union decodeBinary(BinaryDecoder decoder) {
+
+        return new Union();
+    }
+
     static {
-        DelegateRegistry.registerEncoder(Union::encode, Union.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(Union::decode, Union.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(Union::encode, Union.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(Union::decode, Union.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(Union::encodeBinary, Union.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(Union::decodeBinary, Union.class, BinaryEncodingId);
     }
 
 }
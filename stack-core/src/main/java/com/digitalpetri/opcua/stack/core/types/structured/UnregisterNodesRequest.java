@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class UnregisterNodesRequest implements UaRequestMessage {
 
     public static UnregisterNodesRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        NodeId[] _nodesToUnregister = decoder.decodeArray("NodesToUnregister", decoder::decodeNodeId, NodeId.class);
+        NodeId[] _nodesToUnregister = decoder.decodeArray("NodesToUnregister", decoder::decodeNodeId, NodeId[]::new);
+
+        return new UnregisterNodesRequest(_requestHeader, _nodesToUnregister);
+    }
+
+    public static void encodeBinary(UnregisterNodesRequest unregisterNodesRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(unregisterNodesRequest._requestHeader != null ? unregisterNodesRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeArray("NodesToUnregister", unregisterNodesRequest._nodesToUnregister, encoder::encodeNodeId);
+    }
+
+    public static UnregisterNodesRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        NodeId[] _nodesToUnregister = decoder.decodeArray("NodesToUnregister", decoder::decodeNodeId, NodeId[]::new);
 
         return new UnregisterNodesRequest(_requestHeader, _nodesToUnregister);
     }
 
     static {
-        DelegateRegistry.registerEncoder(UnregisterNodesRequest::encode, UnregisterNodesRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UnregisterNodesRequest::decode, UnregisterNodesRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UnregisterNodesRequest::encode, UnregisterNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UnregisterNodesRequest::decode, UnregisterNodesRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UnregisterNodesRequest::encodeBinary, UnregisterNodesRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UnregisterNodesRequest::decodeBinary, UnregisterNodesRequest.class, BinaryEncodingId);
     }
 
 }
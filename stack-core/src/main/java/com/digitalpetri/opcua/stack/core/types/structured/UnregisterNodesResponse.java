@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class UnregisterNodesResponse implements UaResponseMessage {
         return new UnregisterNodesResponse(_responseHeader);
     }
 
+    public static void encodeBinary(UnregisterNodesResponse unregisterNodesResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(unregisterNodesResponse._responseHeader != null ? unregisterNodesResponse._responseHeader : new ResponseHeader(), encoder);
+    }
+
+    public static UnregisterNodesResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+
+        return new UnregisterNodesResponse(_responseHeader);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(UnregisterNodesResponse::encode, UnregisterNodesResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UnregisterNodesResponse::decode, UnregisterNodesResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UnregisterNodesResponse::encode, UnregisterNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UnregisterNodesResponse::decode, UnregisterNodesResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UnregisterNodesResponse::encodeBinary, UnregisterNodesResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UnregisterNodesResponse::decodeBinary, UnregisterNodesResponse.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -70,14 +72,30 @@ public class UpdateDataDetails extends HistoryUpdateDetails {
     public static UpdateDataDetails decode(UaDecoder decoder) {
         NodeId _nodeId = decoder.decodeNodeId("NodeId");
         PerformUpdateType _performInsertReplace = decoder.decodeEnumeration("PerformInsertReplace", PerformUpdateType.class);
-        DataValue[] _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue.class);
+        DataValue[] _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue[]::new);
+
+        return new UpdateDataDetails(_nodeId, _performInsertReplace, _updateValues);
+    }
+
+    public static void encodeBinary(UpdateDataDetails updateDataDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", updateDataDetails._nodeId);
+        encoder.encodeEnumeration("PerformInsertReplace", updateDataDetails._performInsertReplace);
+        encoder.encodeArray("UpdateValues", updateDataDetails._updateValues, encoder::encodeDataValue);
+    }
+
+    public static UpdateDataDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        PerformUpdateType _performInsertReplace = PerformUpdateType.decode(decoder);
+        DataValue[] _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue[]::new);
 
         return new UpdateDataDetails(_nodeId, _performInsertReplace, _updateValues);
     }
 
     static {
-        DelegateRegistry.registerEncoder(UpdateDataDetails::encode, UpdateDataDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UpdateDataDetails::decode, UpdateDataDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UpdateDataDetails::encode, UpdateDataDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UpdateDataDetails::decode, UpdateDataDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UpdateDataDetails::encodeBinary, UpdateDataDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UpdateDataDetails::decodeBinary, UpdateDataDetails.class, BinaryEncodingId);
     }
 
 }
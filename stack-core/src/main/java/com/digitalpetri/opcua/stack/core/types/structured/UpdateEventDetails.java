@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.enumerated.PerformUpdateType;
@@ -76,14 +78,32 @@ public class UpdateEventDetails extends HistoryUpdateDetails {
         NodeId _nodeId = decoder.decodeNodeId("NodeId");
         PerformUpdateType _performInsertReplace = decoder.decodeEnumeration("PerformInsertReplace", PerformUpdateType.class);
         EventFilter _filter = decoder.decodeSerializable("Filter", EventFilter.class);
-        HistoryEventFieldList[] _eventData = decoder.decodeArray("EventData", decoder::decodeSerializable, HistoryEventFieldList.class);
+        HistoryEventFieldList[] _eventData = decoder.decodeArray("EventData", decoder::decodeSerializable, HistoryEventFieldList.class, HistoryEventFieldList[]::new);
+
+        return new UpdateEventDetails(_nodeId, _performInsertReplace, _filter, _eventData);
+    }
+
+    public static void encodeBinary(UpdateEventDetails updateEventDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", updateEventDetails._nodeId);
+        encoder.encodeEnumeration("PerformInsertReplace", updateEventDetails._performInsertReplace);
+        EventFilter.encodeBinary(updateEventDetails._filter != null ? updateEventDetails._filter : new EventFilter(), encoder);
+        encoder.encodeStructureArray("EventData", updateEventDetails._eventData, HistoryEventFieldList::encodeBinary);
+    }
+
+    public static UpdateEventDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        PerformUpdateType _performInsertReplace = PerformUpdateType.decode(decoder);
+        EventFilter _filter = EventFilter.decodeBinary(decoder);
+        HistoryEventFieldList[] _eventData = decoder.decodeStructureArray("EventData", HistoryEventFieldList::decodeBinary, HistoryEventFieldList[]::new);
 
         return new UpdateEventDetails(_nodeId, _performInsertReplace, _filter, _eventData);
     }
 
     static {
-        DelegateRegistry.registerEncoder(UpdateEventDetails::encode, UpdateEventDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UpdateEventDetails::decode, UpdateEventDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UpdateEventDetails::encode, UpdateEventDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UpdateEventDetails::decode, UpdateEventDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UpdateEventDetails::encodeBinary, UpdateEventDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UpdateEventDetails::decodeBinary, UpdateEventDetails.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -70,14 +72,30 @@ public class UpdateStructureDataDetails extends HistoryUpdateDetails {
     public static UpdateStructureDataDetails decode(UaDecoder decoder) {
         NodeId _nodeId = decoder.decodeNodeId("NodeId");
         PerformUpdateType _performInsertReplace = decoder.decodeEnumeration("PerformInsertReplace", PerformUpdateType.class);
-        DataValue[] _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue.class);
+        DataValue[] _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue[]::new);
+
+        return new UpdateStructureDataDetails(_nodeId, _performInsertReplace, _updateValues);
+    }
+
+    public static void encodeBinary(UpdateStructureDataDetails updateStructureDataDetails, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", updateStructureDataDetails._nodeId);
+        encoder.encodeEnumeration("PerformInsertReplace", updateStructureDataDetails._performInsertReplace);
+        encoder.encodeArray("UpdateValues", updateStructureDataDetails._updateValues, encoder::encodeDataValue);
+    }
+
+    public static UpdateStructureDataDetails decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        PerformUpdateType _performInsertReplace = PerformUpdateType.decode(decoder);
+        DataValue[] _updateValues = decoder.decodeArray("UpdateValues", decoder::decodeDataValue, DataValue[]::new);
 
         return new UpdateStructureDataDetails(_nodeId, _performInsertReplace, _updateValues);
     }
 
     static {
-        DelegateRegistry.registerEncoder(UpdateStructureDataDetails::encode, UpdateStructureDataDetails.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UpdateStructureDataDetails::decode, UpdateStructureDataDetails.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UpdateStructureDataDetails::encode, UpdateStructureDataDetails.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UpdateStructureDataDetails::decode, UpdateStructureDataDetails.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UpdateStructureDataDetails::encodeBinary, UpdateStructureDataDetails.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UpdateStructureDataDetails::decodeBinary, UpdateStructureDataDetails.class, BinaryEncodingId);
     }
 
 }
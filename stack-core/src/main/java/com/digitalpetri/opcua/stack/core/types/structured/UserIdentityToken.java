@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -63,9 +65,21 @@ public class UserIdentityToken implements UaStructure {
         return new UserIdentityToken(_policyId);
     }
 
+    public static void encodeBinary(UserIdentityToken userIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", userIdentityToken._policyId);
+    }
+
+    public static UserIdentityToken decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+
+        return new UserIdentityToken(_policyId);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(UserIdentityToken::encode, UserIdentityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UserIdentityToken::decode, UserIdentityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UserIdentityToken::encode, UserIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UserIdentityToken::decode, UserIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UserIdentityToken::encodeBinary, UserIdentityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UserIdentityToken::decodeBinary, UserIdentityToken.class, BinaryEncodingId);
     }
 
 }
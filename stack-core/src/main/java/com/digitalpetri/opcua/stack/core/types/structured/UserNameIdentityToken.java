@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -81,9 +83,27 @@ public class UserNameIdentityToken extends UserIdentityToken {
         return new UserNameIdentityToken(_policyId, _userName, _password, _encryptionAlgorithm);
     }
 
+    public static void encodeBinary(UserNameIdentityToken userNameIdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", userNameIdentityToken._policyId);
+        encoder.encodeString("UserName", userNameIdentityToken._userName);
+        encoder.encodeByteString("Password", userNameIdentityToken._password);
+        encoder.encodeString("EncryptionAlgorithm", userNameIdentityToken._encryptionAlgorithm);
+    }
+
+    public static UserNameIdentityToken decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+        String _userName = decoder.decodeString("UserName");
+        ByteString _password = decoder.decodeByteString("Password");
+        String _encryptionAlgorithm = decoder.decodeString("EncryptionAlgorithm");
+
+        return new UserNameIdentityToken(_policyId, _userName, _password, _encryptionAlgorithm);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(UserNameIdentityToken::encode, UserNameIdentityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UserNameIdentityToken::decode, UserNameIdentityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UserNameIdentityToken::encode, UserNameIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UserNameIdentityToken::decode, UserNameIdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UserNameIdentityToken::encodeBinary, UserNameIdentityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UserNameIdentityToken::decodeBinary, UserNameIdentityToken.class, BinaryEncodingId);
     }
 
 }
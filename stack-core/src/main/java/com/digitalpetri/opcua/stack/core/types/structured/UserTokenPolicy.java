@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 import com.digitalpetri.opcua.stack.core.types.enumerated.UserTokenType;
@@ -92,9 +94,29 @@ public class UserTokenPolicy implements UaStructure {
         return new UserTokenPolicy(_policyId, _tokenType, _issuedTokenType, _issuerEndpointUrl, _securityPolicyUri);
     }
 
+    public static void encodeBinary(UserTokenPolicy userTokenPolicy, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", userTokenPolicy._policyId);
+        encoder.encodeEnumeration("TokenType", userTokenPolicy._tokenType);
+        encoder.encodeString("IssuedTokenType", userTokenPolicy._issuedTokenType);
+        encoder.encodeString("IssuerEndpointUrl", userTokenPolicy._issuerEndpointUrl);
+        encoder.encodeString("SecurityPolicyUri", userTokenPolicy._securityPolicyUri);
+    }
+
+    public static UserTokenPolicy decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+        UserTokenType _tokenType = UserTokenType.decode(decoder);
+        String _issuedTokenType = decoder.decodeString("IssuedTokenType");
+        String _issuerEndpointUrl = decoder.decodeString("IssuerEndpointUrl");
+        String _securityPolicyUri = decoder.decodeString("SecurityPolicyUri");
+
+        return new UserTokenPolicy(_policyId, _tokenType, _issuedTokenType, _issuerEndpointUrl, _securityPolicyUri);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(UserTokenPolicy::encode, UserTokenPolicy.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(UserTokenPolicy::decode, UserTokenPolicy.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(UserTokenPolicy::encode, UserTokenPolicy.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(UserTokenPolicy::decode, UserTokenPolicy.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(UserTokenPolicy::encodeBinary, UserTokenPolicy.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(UserTokenPolicy::decodeBinary, UserTokenPolicy.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -118,7 +120,41 @@ public class VariableAttributes extends NodeAttributes {
         Variant _value = decoder.decodeVariant("Value");
         NodeId _dataType = decoder.decodeNodeId("DataType");
         Integer _valueRank = decoder.decodeInt32("ValueRank");
-        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
+        UByte _accessLevel = decoder.decodeByte("AccessLevel");
+        UByte _userAccessLevel = decoder.decodeByte("UserAccessLevel");
+        Double _minimumSamplingInterval = decoder.decodeDouble("MinimumSamplingInterval");
+        Boolean _historizing = decoder.decodeBoolean("Historizing");
+
+        return new VariableAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _accessLevel, _userAccessLevel, _minimumSamplingInterval, _historizing);
+    }
+
+    public static void encodeBinary(VariableAttributes variableAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", variableAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", variableAttributes._displayName);
+        encoder.encodeLocalizedText("Description", variableAttributes._description);
+        encoder.encodeUInt32("WriteMask", variableAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", variableAttributes._userWriteMask);
+        encoder.encodeVariant("Value", variableAttributes._value);
+        encoder.encodeNodeId("DataType", variableAttributes._dataType);
+        encoder.encodeInt32("ValueRank", variableAttributes._valueRank);
+        encoder.encodeArray("ArrayDimensions", variableAttributes._arrayDimensions, encoder::encodeUInt32);
+        encoder.encodeByte("AccessLevel", variableAttributes._accessLevel);
+        encoder.encodeByte("UserAccessLevel", variableAttributes._userAccessLevel);
+        encoder.encodeDouble("MinimumSamplingInterval", variableAttributes._minimumSamplingInterval);
+        encoder.encodeBoolean("Historizing", variableAttributes._historizing);
+    }
+
+    public static VariableAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Variant _value = decoder.decodeVariant("Value");
+        NodeId _dataType = decoder.decodeNodeId("DataType");
+        Integer _valueRank = decoder.decodeInt32("ValueRank");
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
         UByte _accessLevel = decoder.decodeByte("AccessLevel");
         UByte _userAccessLevel = decoder.decodeByte("UserAccessLevel");
         Double _minimumSamplingInterval = decoder.decodeDouble("MinimumSamplingInterval");
@@ -128,8 +164,10 @@ public class VariableAttributes extends NodeAttributes {
     }
 
     static {
-        DelegateRegistry.registerEncoder(VariableAttributes::encode, VariableAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(VariableAttributes::decode, VariableAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(VariableAttributes::encode, VariableAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(VariableAttributes::decode, VariableAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(VariableAttributes::encodeBinary, VariableAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(VariableAttributes::decodeBinary, VariableAttributes.class, BinaryEncodingId);
     }
 
 }
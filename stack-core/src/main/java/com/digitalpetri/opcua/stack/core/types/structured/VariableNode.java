@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -122,11 +124,51 @@ public class VariableNode extends InstanceNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
         Variant _value = decoder.decodeVariant("Value");
         NodeId _dataType = decoder.decodeNodeId("DataType");
         Integer _valueRank = decoder.decodeInt32("ValueRank");
-        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
+        UByte _accessLevel = decoder.decodeByte("AccessLevel");
+        UByte _userAccessLevel = decoder.decodeByte("UserAccessLevel");
+        Double _minimumSamplingInterval = decoder.decodeDouble("MinimumSamplingInterval");
+        Boolean _historizing = decoder.decodeBoolean("Historizing");
+
+        return new VariableNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _accessLevel, _userAccessLevel, _minimumSamplingInterval, _historizing);
+    }
+
+    public static void encodeBinary(VariableNode variableNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", variableNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", variableNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", variableNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", variableNode._displayName);
+        encoder.encodeLocalizedText("Description", variableNode._description);
+        encoder.encodeUInt32("WriteMask", variableNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", variableNode._userWriteMask);
+        encoder.encodeStructureArray("References", variableNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeVariant("Value", variableNode._value);
+        encoder.encodeNodeId("DataType", variableNode._dataType);
+        encoder.encodeInt32("ValueRank", variableNode._valueRank);
+        encoder.encodeArray("ArrayDimensions", variableNode._arrayDimensions, encoder::encodeUInt32);
+        encoder.encodeByte("AccessLevel", variableNode._accessLevel);
+        encoder.encodeByte("UserAccessLevel", variableNode._userAccessLevel);
+        encoder.encodeDouble("MinimumSamplingInterval", variableNode._minimumSamplingInterval);
+        encoder.encodeBoolean("Historizing", variableNode._historizing);
+    }
+
+    public static VariableNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
+        Variant _value = decoder.decodeVariant("Value");
+        NodeId _dataType = decoder.decodeNodeId("DataType");
+        Integer _valueRank = decoder.decodeInt32("ValueRank");
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
         UByte _accessLevel = decoder.decodeByte("AccessLevel");
         UByte _userAccessLevel = decoder.decodeByte("UserAccessLevel");
         Double _minimumSamplingInterval = decoder.decodeDouble("MinimumSamplingInterval");
@@ -136,8 +178,10 @@ public class VariableNode extends InstanceNode {
     }
 
     static {
-        DelegateRegistry.registerEncoder(VariableNode::encode, VariableNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(VariableNode::decode, VariableNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(VariableNode::encode, VariableNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(VariableNode::decode, VariableNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(VariableNode::encodeBinary, VariableNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(VariableNode::decodeBinary, VariableNode.class, BinaryEncodingId);
     }
 
 }
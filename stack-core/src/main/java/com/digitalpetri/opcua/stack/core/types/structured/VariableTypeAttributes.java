@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -99,15 +101,45 @@ public class VariableTypeAttributes extends NodeAttributes {
         Variant _value = decoder.decodeVariant("Value");
         NodeId _dataType = decoder.decodeNodeId("DataType");
         Integer _valueRank = decoder.decodeInt32("ValueRank");
-        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+
+        return new VariableTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
+    }
+
+    public static void encodeBinary(VariableTypeAttributes variableTypeAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", variableTypeAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", variableTypeAttributes._displayName);
+        encoder.encodeLocalizedText("Description", variableTypeAttributes._description);
+        encoder.encodeUInt32("WriteMask", variableTypeAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", variableTypeAttributes._userWriteMask);
+        encoder.encodeVariant("Value", variableTypeAttributes._value);
+        encoder.encodeNodeId("DataType", variableTypeAttributes._dataType);
+        encoder.encodeInt32("ValueRank", variableTypeAttributes._valueRank);
+        encoder.encodeArray("ArrayDimensions", variableTypeAttributes._arrayDimensions, encoder::encodeUInt32);
+        encoder.encodeBoolean("IsAbstract", variableTypeAttributes._isAbstract);
+    }
+
+    public static VariableTypeAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Variant _value = decoder.decodeVariant("Value");
+        NodeId _dataType = decoder.decodeNodeId("DataType");
+        Integer _valueRank = decoder.decodeInt32("ValueRank");
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
         Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
 
         return new VariableTypeAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
     }
 
     static {
-        DelegateRegistry.registerEncoder(VariableTypeAttributes::encode, VariableTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(VariableTypeAttributes::decode, VariableTypeAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(VariableTypeAttributes::encode, VariableTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(VariableTypeAttributes::decode, VariableTypeAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(VariableTypeAttributes::encodeBinary, VariableTypeAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(VariableTypeAttributes::decodeBinary, VariableTypeAttributes.class, BinaryEncodingId);
     }
 
 }
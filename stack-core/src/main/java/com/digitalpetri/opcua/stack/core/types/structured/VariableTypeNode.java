@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -103,19 +105,55 @@ public class VariableTypeNode extends TypeNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
         Variant _value = decoder.decodeVariant("Value");
         NodeId _dataType = decoder.decodeNodeId("DataType");
         Integer _valueRank = decoder.decodeInt32("ValueRank");
-        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger.class);
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
+        Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
+
+        return new VariableTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
+    }
+
+    public static void encodeBinary(VariableTypeNode variableTypeNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", variableTypeNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", variableTypeNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", variableTypeNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", variableTypeNode._displayName);
+        encoder.encodeLocalizedText("Description", variableTypeNode._description);
+        encoder.encodeUInt32("WriteMask", variableTypeNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", variableTypeNode._userWriteMask);
+        encoder.encodeStructureArray("References", variableTypeNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeVariant("Value", variableTypeNode._value);
+        encoder.encodeNodeId("DataType", variableTypeNode._dataType);
+        encoder.encodeInt32("ValueRank", variableTypeNode._valueRank);
+        encoder.encodeArray("ArrayDimensions", variableTypeNode._arrayDimensions, encoder::encodeUInt32);
+        encoder.encodeBoolean("IsAbstract", variableTypeNode._isAbstract);
+    }
+
+    public static VariableTypeNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
+        Variant _value = decoder.decodeVariant("Value");
+        NodeId _dataType = decoder.decodeNodeId("DataType");
+        Integer _valueRank = decoder.decodeInt32("ValueRank");
+        UInteger[] _arrayDimensions = decoder.decodeArray("ArrayDimensions", decoder::decodeUInt32, UInteger[]::new);
         Boolean _isAbstract = decoder.decodeBoolean("IsAbstract");
 
         return new VariableTypeNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _value, _dataType, _valueRank, _arrayDimensions, _isAbstract);
     }
 
     static {
-        DelegateRegistry.registerEncoder(VariableTypeNode::encode, VariableTypeNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(VariableTypeNode::decode, VariableTypeNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(VariableTypeNode::encode, VariableTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(VariableTypeNode::decode, VariableTypeNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(VariableTypeNode::encodeBinary, VariableTypeNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(VariableTypeNode::decodeBinary, VariableTypeNode.class, BinaryEncodingId);
     }
 
 }
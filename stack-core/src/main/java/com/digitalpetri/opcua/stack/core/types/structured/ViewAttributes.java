@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -84,9 +86,33 @@ public class ViewAttributes extends NodeAttributes {
         return new ViewAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _containsNoLoops, _eventNotifier);
     }
 
+    public static void encodeBinary(ViewAttributes viewAttributes, BinaryEncoder encoder) {
+        encoder.encodeUInt32("SpecifiedAttributes", viewAttributes._specifiedAttributes);
+        encoder.encodeLocalizedText("DisplayName", viewAttributes._displayName);
+        encoder.encodeLocalizedText("Description", viewAttributes._description);
+        encoder.encodeUInt32("WriteMask", viewAttributes._writeMask);
+        encoder.encodeUInt32("UserWriteMask", viewAttributes._userWriteMask);
+        encoder.encodeBoolean("ContainsNoLoops", viewAttributes._containsNoLoops);
+        encoder.encodeByte("EventNotifier", viewAttributes._eventNotifier);
+    }
+
+    public static ViewAttributes decodeBinary(BinaryDecoder decoder) {
+        UInteger _specifiedAttributes = decoder.decodeUInt32("SpecifiedAttributes");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        Boolean _containsNoLoops = decoder.decodeBoolean("ContainsNoLoops");
+        UByte _eventNotifier = decoder.decodeByte("EventNotifier");
+
+        return new ViewAttributes(_specifiedAttributes, _displayName, _description, _writeMask, _userWriteMask, _containsNoLoops, _eventNotifier);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ViewAttributes::encode, ViewAttributes.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ViewAttributes::decode, ViewAttributes.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ViewAttributes::encode, ViewAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ViewAttributes::decode, ViewAttributes.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ViewAttributes::encodeBinary, ViewAttributes.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ViewAttributes::decodeBinary, ViewAttributes.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -79,9 +81,25 @@ public class ViewDescription implements UaStructure {
         return new ViewDescription(_viewId, _timestamp, _viewVersion);
     }
 
+    public static void encodeBinary(ViewDescription viewDescription, BinaryEncoder encoder) {
+        encoder.encodeNodeId("ViewId", viewDescription._viewId);
+        encoder.encodeDateTime("Timestamp", viewDescription._timestamp);
+        encoder.encodeUInt32("ViewVersion", viewDescription._viewVersion);
+    }
+
+    public static ViewDescription decodeBinary(BinaryDecoder decoder) {
+        NodeId _viewId = decoder.decodeNodeId("ViewId");
+        DateTime _timestamp = decoder.decodeDateTime("Timestamp");
+        UInteger _viewVersion = decoder.decodeUInt32("ViewVersion");
+
+        return new ViewDescription(_viewId, _timestamp, _viewVersion);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(ViewDescription::encode, ViewDescription.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ViewDescription::decode, ViewDescription.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ViewDescription::encode, ViewDescription.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ViewDescription::decode, ViewDescription.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ViewDescription::encodeBinary, ViewDescription.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ViewDescription::decodeBinary, ViewDescription.class, BinaryEncodingId);
     }
 
 }
@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -85,7 +87,35 @@ public class ViewNode extends InstanceNode {
         LocalizedText _description = decoder.decodeLocalizedText("Description");
         UInteger _writeMask = decoder.decodeUInt32("WriteMask");
         UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
-        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class);
+        ReferenceNode[] _references = decoder.decodeArray("References", decoder::decodeSerializable, ReferenceNode.class, ReferenceNode[]::new);
+        Boolean _containsNoLoops = decoder.decodeBoolean("ContainsNoLoops");
+        UByte _eventNotifier = decoder.decodeByte("EventNotifier");
+
+        return new ViewNode(_nodeId, _nodeClass, _browseName, _displayName, _description, _writeMask, _userWriteMask, _references, _containsNoLoops, _eventNotifier);
+    }
+
+    public static void encodeBinary(ViewNode viewNode, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", viewNode._nodeId);
+        encoder.encodeEnumeration("NodeClass", viewNode._nodeClass);
+        encoder.encodeQualifiedName("BrowseName", viewNode._browseName);
+        encoder.encodeLocalizedText("DisplayName", viewNode._displayName);
+        encoder.encodeLocalizedText("Description", viewNode._description);
+        encoder.encodeUInt32("WriteMask", viewNode._writeMask);
+        encoder.encodeUInt32("UserWriteMask", viewNode._userWriteMask);
+        encoder.encodeStructureArray("References", viewNode._references, ReferenceNode::encodeBinary);
+        encoder.encodeBoolean("ContainsNoLoops", viewNode._containsNoLoops);
+        encoder.encodeByte("EventNotifier", viewNode._eventNotifier);
+    }
+
+    public static ViewNode decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        NodeClass _nodeClass = NodeClass.decode(decoder);
+        QualifiedName _browseName = decoder.decodeQualifiedName("BrowseName");
+        LocalizedText _displayName = decoder.decodeLocalizedText("DisplayName");
+        LocalizedText _description = decoder.decodeLocalizedText("Description");
+        UInteger _writeMask = decoder.decodeUInt32("WriteMask");
+        UInteger _userWriteMask = decoder.decodeUInt32("UserWriteMask");
+        ReferenceNode[] _references = decoder.decodeStructureArray("References", ReferenceNode::decodeBinary, ReferenceNode[]::new);
         Boolean _containsNoLoops = decoder.decodeBoolean("ContainsNoLoops");
         UByte _eventNotifier = decoder.decodeByte("EventNotifier");
 
@@ -93,8 +123,10 @@ public class ViewNode extends InstanceNode {
     }
 
     static {
-        DelegateRegistry.registerEncoder(ViewNode::encode, ViewNode.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(ViewNode::decode, ViewNode.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(ViewNode::encode, ViewNode.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(ViewNode::decode, ViewNode.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(ViewNode::encodeBinary, ViewNode.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(ViewNode::decodeBinary, ViewNode.class, BinaryEncodingId);
     }
 
 }
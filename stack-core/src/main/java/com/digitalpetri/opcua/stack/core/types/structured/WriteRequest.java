@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -65,14 +67,28 @@ public class WriteRequest implements UaRequestMessage {
 
     public static WriteRequest decode(UaDecoder decoder) {
         RequestHeader _requestHeader = decoder.decodeSerializable("RequestHeader", RequestHeader.class);
-        WriteValue[] _nodesToWrite = decoder.decodeArray("NodesToWrite", decoder::decodeSerializable, WriteValue.class);
+        WriteValue[] _nodesToWrite = decoder.decodeArray("NodesToWrite", decoder::decodeSerializable, WriteValue.class, WriteValue[]::new);
+
+        return new WriteRequest(_requestHeader, _nodesToWrite);
+    }
+
+    public static void encodeBinary(WriteRequest writeRequest, BinaryEncoder encoder) {
+        RequestHeader.encodeBinary(writeRequest._requestHeader != null ? writeRequest._requestHeader : new RequestHeader(), encoder);
+        encoder.encodeStructureArray("NodesToWrite", writeRequest._nodesToWrite, WriteValue::encodeBinary);
+    }
+
+    public static WriteRequest decodeBinary(BinaryDecoder decoder) {
+        RequestHeader _requestHeader = RequestHeader.decodeBinary(decoder);
+        WriteValue[] _nodesToWrite = decoder.decodeStructureArray("NodesToWrite", WriteValue::decodeBinary, WriteValue[]::new);
 
         return new WriteRequest(_requestHeader, _nodesToWrite);
     }
 
     static {
-        DelegateRegistry.registerEncoder(WriteRequest::encode, WriteRequest.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(WriteRequest::decode, WriteRequest.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(WriteRequest::encode, WriteRequest.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(WriteRequest::decode, WriteRequest.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(WriteRequest::encodeBinary, WriteRequest.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(WriteRequest::decodeBinary, WriteRequest.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -73,15 +75,31 @@ public class WriteResponse implements UaResponseMessage {
 
     public static WriteResponse decode(UaDecoder decoder) {
         ResponseHeader _responseHeader = decoder.decodeSerializable("ResponseHeader", ResponseHeader.class);
-        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode.class);
-        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo.class);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
+
+        return new WriteResponse(_responseHeader, _results, _diagnosticInfos);
+    }
+
+    public static void encodeBinary(WriteResponse writeResponse, BinaryEncoder encoder) {
+        ResponseHeader.encodeBinary(writeResponse._responseHeader != null ? writeResponse._responseHeader : new ResponseHeader(), encoder);
+        encoder.encodeArray("Results", writeResponse._results, encoder::encodeStatusCode);
+        encoder.encodeArray("DiagnosticInfos", writeResponse._diagnosticInfos, encoder::encodeDiagnosticInfo);
+    }
+
+    public static WriteResponse decodeBinary(BinaryDecoder decoder) {
+        ResponseHeader _responseHeader = ResponseHeader.decodeBinary(decoder);
+        StatusCode[] _results = decoder.decodeArray("Results", decoder::decodeStatusCode, StatusCode[]::new);
+        DiagnosticInfo[] _diagnosticInfos = decoder.decodeArray("DiagnosticInfos", decoder::decodeDiagnosticInfo, DiagnosticInfo[]::new);
 
         return new WriteResponse(_responseHeader, _results, _diagnosticInfos);
     }
 
     static {
-        DelegateRegistry.registerEncoder(WriteResponse::encode, WriteResponse.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(WriteResponse::decode, WriteResponse.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(WriteResponse::encode, WriteResponse.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(WriteResponse::decode, WriteResponse.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(WriteResponse::encodeBinary, WriteResponse.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(WriteResponse::decodeBinary, WriteResponse.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -86,9 +88,27 @@ public class WriteValue implements UaStructure {
         return new WriteValue(_nodeId, _attributeId, _indexRange, _value);
     }
 
+    public static void encodeBinary(WriteValue writeValue, BinaryEncoder encoder) {
+        encoder.encodeNodeId("NodeId", writeValue._nodeId);
+        encoder.encodeUInt32("AttributeId", writeValue._attributeId);
+        encoder.encodeString("IndexRange", writeValue._indexRange);
+        encoder.encodeDataValue("Value", writeValue._value);
+    }
+
+    public static WriteValue decodeBinary(BinaryDecoder decoder) {
+        NodeId _nodeId = decoder.decodeNodeId("NodeId");
+        UInteger _attributeId = decoder.decodeUInt32("AttributeId");
+        String _indexRange = decoder.decodeString("IndexRange");
+        DataValue _value = decoder.decodeDataValue("Value");
+
+        return new WriteValue(_nodeId, _attributeId, _indexRange, _value);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(WriteValue::encode, WriteValue.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(WriteValue::decode, WriteValue.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(WriteValue::encode, WriteValue.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(WriteValue::decode, WriteValue.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(WriteValue::encodeBinary, WriteValue.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(WriteValue::decodeBinary, WriteValue.class, BinaryEncodingId);
     }
 
 }
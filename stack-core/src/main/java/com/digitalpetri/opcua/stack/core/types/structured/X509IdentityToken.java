@@ -20,6 +20,8 @@ import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
@@ -67,9 +69,23 @@ public class X509IdentityToken extends UserIdentityToken {
         return new X509IdentityToken(_policyId, _certificateData);
     }
 
+    public static void encodeBinary(X509IdentityToken x509IdentityToken, BinaryEncoder encoder) {
+        encoder.encodeString("PolicyId", x509IdentityToken._policyId);
+        encoder.encodeByteString("CertificateData", x509IdentityToken._certificateData);
+    }
+
+    public static X509IdentityToken decodeBinary(BinaryDecoder decoder) {
+        String _policyId = decoder.decodeString("PolicyId");
+        ByteString _certificateData = decoder.decodeByteString("CertificateData");
+
+        return new X509IdentityToken(_policyId, _certificateData);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(X509IdentityToken::encode, X509IdentityToken.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(X509IdentityToken::decode, X509IdentityToken.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(X509IdentityToken::encode, X509IdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(X509IdentityToken::decode, X509IdentityToken.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(X509IdentityToken::encodeBinary, X509IdentityToken.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(X509IdentityToken::decodeBinary, X509IdentityToken.class, BinaryEncodingId);
     }
 
 }
@@ -21,6 +21,8 @@ import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
 import com.digitalpetri.opcua.stack.core.serialization.UaDecoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaEncoder;
 import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
 import com.digitalpetri.opcua.stack.core.types.UaDataType;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
 
@@ -70,9 +72,23 @@ public class XVType implements UaStructure {
         return new XVType(_x, _value);
     }
 
+    public static void encodeBinary(XVType xVType, BinaryEncoder encoder) {
+        encoder.encodeDouble("X", xVType._x);
+        encoder.encodeFloat("Value", xVType._value);
+    }
+
+    public static XVType decodeBinary(BinaryDecoder decoder) {
+        Double _x = decoder.decodeDouble("X");
+        Float _value = decoder.decodeFloat("Value");
+
+        return new XVType(_x, _value);
+    }
+
     static {
-        DelegateRegistry.registerEncoder(XVType::encode, XVType.class, BinaryEncodingId, XmlEncodingId);
-        DelegateRegistry.registerDecoder(XVType::decode, XVType.class, BinaryEncodingId, XmlEncodingId);
+        DelegateRegistry.registerEncoder(XVType::encode, XVType.class, XmlEncodingId);
+        DelegateRegistry.registerDecoder(XVType::decode, XVType.class, XmlEncodingId);
+        DelegateRegistry.registerBinaryEncoder(XVType::encodeBinary, XVType.class, BinaryEncodingId);
+        DelegateRegistry.registerBinaryDecoder(XVType::decodeBinary, XVType.class, BinaryEncodingId);
     }
 
 }
@@ -17,10 +17,8 @@
 package com.digitalpetri.opcua.stack.core.util;
 
 import java.lang.reflect.Array;
-import java.util.Arrays;
 
 import com.google.common.base.Preconditions;
-import com.google.common.primitives.Ints;
 
 public class ArrayUtil {
 
@@ -39,23 +37,25 @@ public class ArrayUtil {
 
         Object flattened = Array.newInstance(type, length);
 
-        flatten(array, flattened, dimensions, 0);
+        flatten(array, flattened, dimensions, 0, 0, length);
 
         return flattened;
     }
 
-    private static void flatten(Object array, Object flattened, int[] dimensions, int offset) {
-        if (dimensions.length == 1) {
-            for (int i = 0; i < dimensions[0]; i++) {
-                Object element = Array.get(array, i);
-                Array.set(flattened, i + offset, element);
-            }
+    /**
+     * @param depth  the dimension {@code array} is at.
+     * @param offset the index in {@code flattened} of the first element of {@code array}.
+     * @param length the number of elements in {@code array}, i.e. the product of its dimensions.
+     */
+    private static void flatten(Object array, Object flattened, int[] dimensions, int depth, int offset, int length) {
+        if (depth == dimensions.length - 1) {
+            System.arraycopy(array, 0, flattened, offset, dimensions[depth]);
         } else {
-            int[] tail = Arrays.copyOfRange(dimensions, 1, dimensions.length);
+            int stride = dimensions[depth] > 0 ? length / dimensions[depth] : 0;
 
-            for (int i = 0; i < dimensions[0]; i++) {
+            for (int i = 0; i < dimensions[depth]; i++) {
                 Object a = Array.get(array, i);
-                flatten(a, flattened, tail, offset + i * length(tail));
+                flatten(a, flattened, dimensions, depth + 1, offset + i * stride, stride);
             }
         }
     }
@@ -70,25 +70,30 @@ public class ArrayUtil {
     public static Object unflatten(Object array, int[] dimensions) {
         Class<?> type = getType(array);
 
-        return unflatten(type, array, dimensions, 0);
+        return unflatten(type, array, dimensions, 0, 0, length(dimensions));
     }
 
-    private static Object unflatten(Class<?> type, Object array, int[] dimensions, int offset) {
-        if (dimensions.length == 1) {
-            Object a = Array.newInstance(type, dimensions[0]);
+    /**
+     * @param depth  the dimension being built.
+     * @param offset the index in {@code array} of the first element of the array being built.
+     * @param length the number of elements in the array being built, i.e. the product of its dimensions.
+     */
+    private static Object unflatten(Class<?> type, Object array, int[] dimensions, int depth, int offset, int length) {
+        if (depth == dimensions.length - 1) {
+            Object a = Array.newInstance(type, dimensions[depth]);
 
-            for (int i = 0; i < dimensions[0]; i++) {
-                Array.set(a, i, Array.get(array, offset + i));
-            }
+            System.arraycopy(array, offset, a, 0, dimensions[depth]);
 
             return a;
         } else {
-            Object a = Array.newInstance(type, dimensions);
+            // An empty array of the component type, e.g. double[][] when building a double[][][].
+            Class<?> componentType = Array.newInstance(type, new int[dimensions.length - depth - 1]).getClass();
+            Object a = Array.newInstance(componentType, dimensions[depth]);
 
-            int[] tail = Arrays.copyOfRange(dimensions, 1, dimensions.length);
+            int stride = dimensions[depth] > 0 ? length / dimensions[depth] : 0;
 
-            for (int i = 0; i < dimensions[0]; i++) {
-                Object element = unflatten(type, array, tail, offset + i * length(tail));
+            for (int i = 0; i < dimensions[depth]; i++) {
+                Object element = unflatten(type, array, dimensions, depth + 1, offset + i * stride, stride);
                 Array.set(a, i, element);
             }
 
@@ -97,15 +102,18 @@ public class ArrayUtil {
     }
 
     public static int[] getDimensions(Object array) {
-        int[] dimensions = new int[0];
-        Class<?> type = array.getClass();
+        int rank = 0;
+        for (Class<?> type = array.getClass(); type.isArray(); type = type.getComponentType()) {
+            rank++;
+        }
 
-        while (type.isArray()) {
+        int[] dimensions = new int[rank];
+
+        for (int i = 0; i < rank; i++) {
             int length = array != null ? Array.getLength(array) : 0;
-            dimensions = Ints.concat(dimensions, new int[]{length});
+            dimensions[i] = length;
 
             array = length > 0 ? Array.get(array, 0) : null;
-            type = type.getComponentType();
         }
 
         return dimensions;
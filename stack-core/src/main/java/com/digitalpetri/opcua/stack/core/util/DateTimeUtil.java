@@ -0,0 +1,263 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.util;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+
+/**
+ * Formats and parses {@link DateTime} values as ISO 8601 UTC timestamps, e.g. {@code 2016-04-01T12:30:00.1234567Z},
+ * with the full 100 nanosecond resolution of a DateTime.
+ * <p>
+ * Follows the binary encoding's limits: times at or before the UTC epoch (1601-01-01) are formatted as
+ * {@code 0001-01-01T00:00:00Z} and parse back as {@link DateTime#MIN_VALUE}; times at or after
+ * {@code 9999-12-31T23:59:59Z} parse as {@link Long#MAX_VALUE}.
+ */
+public class DateTimeUtil {
+
+    /** The maximum length of a timestamp written by {@link #formatIso8601(long, byte[])}. */
+    public static final int MAX_ISO8601_LENGTH = 28;
+
+    private static final long TICKS_PER_SECOND = 10_000_000L;
+    private static final long TICKS_PER_DAY = 86400L * TICKS_PER_SECOND;
+
+    /** Days from the UTC epoch (1601-01-01) to the Java epoch (1970-01-01). */
+    private static final long EPOCH_DAYS_DELTA = 134774L;
+
+    /** 9999-12-31T23:59:59Z as 100 nanosecond intervals since the UTC epoch. */
+    private static final long MAX_UTC_TIME = 2650467743990000000L;
+
+    private static final byte[] MIN_TIMESTAMP = "0001-01-01T00:00:00Z".getBytes();
+    private static final byte[] MAX_TIMESTAMP = "9999-12-31T23:59:59Z".getBytes();
+
+    /**
+     * Format {@code utcTime} as an ISO 8601 UTC timestamp into {@code dst}.
+     *
+     * @param utcTime a time as 100 nanosecond intervals since the UTC epoch, as returned by
+     *                {@link DateTime#getUtcTime()}.
+     * @param dst     the destination for the ASCII characters of the timestamp; at least
+     *                {@link #MAX_ISO8601_LENGTH} bytes long.
+     * @return the number of bytes written.
+     */
+    public static int formatIso8601(long utcTime, byte[] dst) {
+        if (utcTime <= 0) {
+            System.arraycopy(MIN_TIMESTAMP, 0, dst, 0, MIN_TIMESTAMP.length);
+            return MIN_TIMESTAMP.length;
+        } else if (utcTime >= MAX_UTC_TIME) {
+            System.arraycopy(MAX_TIMESTAMP, 0, dst, 0, MAX_TIMESTAMP.length);
+            return MAX_TIMESTAMP.length;
+        }
+
+        long days = utcTime / TICKS_PER_DAY;
+        long ticksOfDay = utcTime % TICKS_PER_DAY;
+
+        // civil-from-days, counting from 0000-03-01 so leap days fall at the end of each year
+        long z = days - EPOCH_DAYS_DELTA + 719468;
+        long era = z / 146097;
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+        int secondOfDay = (int) (ticksOfDay / TICKS_PER_SECOND);
+        int fraction = (int) (ticksOfDay % TICKS_PER_SECOND);
+
+        writeDigits(dst, 0, year, 4);
+        dst[4] = '-';
+        writeDigits(dst, 5, month, 2);
+        dst[7] = '-';
+        writeDigits(dst, 8, day, 2);
+        dst[10] = 'T';
+        writeDigits(dst, 11, secondOfDay / 3600, 2);
+        dst[13] = ':';
+        writeDigits(dst, 14, secondOfDay / 60 % 60, 2);
+        dst[16] = ':';
+        writeDigits(dst, 17, secondOfDay % 60, 2);
+
+        int length = 19;
+
+        if (fraction != 0) {
+            int digits = 7;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+
+            dst[length++] = '.';
+            writeDigits(dst, length, fraction, digits);
+            length += digits;
+        }
+
+        dst[length++] = 'Z';
+
+        return length;
+    }
+
+    /**
+     * @param utcTime a time as 100 nanosecond intervals since the UTC epoch.
+     * @return {@code utcTime} formatted as an ISO 8601 UTC timestamp.
+     */
+    public static String formatIso8601(long utcTime) {
+        byte[] bs = new byte[MAX_ISO8601_LENGTH];
+        int length = formatIso8601(utcTime, bs);
+
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) bs[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parse an ISO 8601 timestamp.
+     * <p>
+     * UTC timestamps ({@code yyyy-MM-ddTHH:mm:ss[.fffffff]Z}) are parsed without allocating; timestamps with an
+     * offset fall back to {@link OffsetDateTime#parse(CharSequence)}.
+     *
+     * @param s the timestamp to parse.
+     * @return the time as 100 nanosecond intervals since the UTC epoch.
+     * @throws IllegalArgumentException if {@code s} is not an ISO 8601 timestamp.
+     */
+    public static long parseIso8601(CharSequence s) throws IllegalArgumentException {
+        int length = s.length();
+
+        if (length >= 20 && s.charAt(length - 1) == 'Z' &&
+                s.charAt(4) == '-' && s.charAt(7) == '-' && s.charAt(10) == 'T' &&
+                s.charAt(13) == ':' && s.charAt(16) == ':') {
+
+            int year = parseDigits(s, 0, 4);
+            int month = parseDigits(s, 5, 2);
+            int day = parseDigits(s, 8, 2);
+            int hour = parseDigits(s, 11, 2);
+            int minute = parseDigits(s, 14, 2);
+            int second = parseDigits(s, 17, 2);
+
+            if (month < 1 || month > 12 || day < 1 || day > 31 || hour > 23 || minute > 59 || second > 60) {
+                throw new IllegalArgumentException("invalid timestamp: " + s);
+            }
+
+            long fraction = 0;
+
+            if (length > 20) {
+                if (s.charAt(19) != '.' || length == 21) {
+                    throw new IllegalArgumentException("invalid timestamp: " + s);
+                }
+
+                int digits = length - 21;
+                fraction = parseDigits(s, 20, Math.min(digits, 7));
+                for (int i = digits; i < 7; i++) {
+                    fraction *= 10;
+                }
+                for (int i = 27; i < length - 1; i++) {
+                    parseDigits(s, i, 1); // validate, but truncate, sub-100ns digits
+                }
+            }
+
+            long seconds = (daysFromCivil(year, month, day) + EPOCH_DAYS_DELTA) * 86400L +
+                    hour * 3600L + minute * 60L + second;
+
+            return toUtcTime(seconds, fraction);
+        } else {
+            try {
+                OffsetDateTime dateTime = OffsetDateTime.parse(s);
+                long seconds = dateTime.toEpochSecond() + EPOCH_DAYS_DELTA * 86400L;
+
+                return toUtcTime(seconds, dateTime.getNano() / 100);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("invalid timestamp: " + s, e);
+            }
+        }
+    }
+
+    /**
+     * Parse an xs:dateTime, which unlike an ISO 8601 timestamp may leave out the time zone.
+     * <p>
+     * A timestamp without a time zone is taken to be UTC; otherwise it's parsed as by {@link #parseIso8601}.
+     *
+     * @param s the xs:dateTime to parse.
+     * @return the time as 100 nanosecond intervals since the UTC epoch.
+     * @throws IllegalArgumentException if {@code s} is not an xs:dateTime.
+     */
+    public static long parseXsDateTime(CharSequence s) throws IllegalArgumentException {
+        int length = s.length();
+
+        boolean zoned = length > 0 && s.charAt(length - 1) == 'Z' ||
+                length > 6 && (s.charAt(length - 6) == '+' || s.charAt(length - 6) == '-') &&
+                        s.charAt(length - 3) == ':';
+
+        if (zoned) {
+            return parseIso8601(s);
+        } else {
+            try {
+                LocalDateTime dateTime = LocalDateTime.parse(s);
+                long seconds = dateTime.toEpochSecond(ZoneOffset.UTC) + EPOCH_DAYS_DELTA * 86400L;
+
+                return toUtcTime(seconds, dateTime.getNano() / 100);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("invalid timestamp: " + s, e);
+            }
+        }
+    }
+
+    private static long toUtcTime(long secondsSinceUtcEpoch, long fraction) {
+        if (secondsSinceUtcEpoch < 0) {
+            return DateTime.MIN_VALUE.getUtcTime();
+        } else if (secondsSinceUtcEpoch >= MAX_UTC_TIME / TICKS_PER_SECOND) {
+            return Long.MAX_VALUE;
+        } else {
+            return secondsSinceUtcEpoch * TICKS_PER_SECOND + fraction;
+        }
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yoe = y - era * 400;
+        long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+
+        return era * 146097 + doe - 719468;
+    }
+
+    private static void writeDigits(byte[] dst, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int parseDigits(CharSequence s, int offset, int digits) {
+        int value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                throw new IllegalArgumentException("invalid timestamp: " + s);
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+}
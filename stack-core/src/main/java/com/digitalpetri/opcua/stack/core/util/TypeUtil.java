@@ -21,6 +21,7 @@ import java.util.UUID;
 
 import com.digitalpetri.opcua.stack.core.Identifiers;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteStringView;
 import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -107,6 +108,9 @@ public class TypeUtil {
     public static int getBuiltinTypeId(Class<?> backingType) {
         if (backingType.isPrimitive()) {
             return PRIMITIVE_BUILTIN_TYPES.getOrDefault(backingType, -1);
+        } else if (backingType == ByteStringView.class) {
+            // The BiMap matches exact classes; a view is still a ByteString.
+            return 15;
         } else {
             return BUILTIN_TYPES.inverse().getOrDefault(backingType, -1);
         }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryDecoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.BinaryEncoder;
+import com.digitalpetri.opcua.stack.core.serialization.binary.EncodedSizeCalculator;
+import com.digitalpetri.opcua.stack.core.serialization.json.JsonDecoder;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.google.common.reflect.ClassPath;
+import com.google.common.reflect.ClassPath.ClassInfo;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class DelegateRegistryTest {
+
+    @DataProvider
+    public Object[][] getStructuredTypes() throws Exception {
+        return ClassPath.from(getClass().getClassLoader())
+                .getTopLevelClasses("com.digitalpetri.opcua.stack.core.types.structured")
+                .stream()
+                .map(ClassInfo::load)
+                .map(c -> new Object[]{c})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "getStructuredTypes",
+            description = "Every generated structured type is in the GeneratedTypeIndex under both encoding ids and its DataType id.")
+    public void testTypeIndexed(Class<?> type) throws Exception {
+        NodeId dataTypeId = (NodeId) type.getField("TypeId").get(null);
+        NodeId binaryEncodingId = (NodeId) type.getField("BinaryEncodingId").get(null);
+        NodeId xmlEncodingId = (NodeId) type.getField("XmlEncodingId").get(null);
+
+        assertEquals(GeneratedTypeIndex.getType(binaryEncodingId), type);
+        assertEquals(GeneratedTypeIndex.getType(xmlEncodingId), type);
+        assertEquals(GeneratedTypeIndex.getTypeForDataType(dataTypeId), type);
+        assertNull(GeneratedTypeIndex.getType(dataTypeId));
+
+        assertNotNull(DelegateRegistry.findDecoderForDataType(dataTypeId));
+
+        assertNotNull(DelegateRegistry.getEncoder(binaryEncodingId));
+        assertNotNull(DelegateRegistry.getDecoder(binaryEncodingId));
+        assertNotNull(DelegateRegistry.getEncoder(xmlEncodingId));
+        assertNotNull(DelegateRegistry.getDecoder(xmlEncodingId));
+    }
+
+    @Test
+    public void testUnknownEncodingId() {
+        assertNull(GeneratedTypeIndex.getType(new NodeId(0, 1)));
+        assertNull(GeneratedTypeIndex.getType(new NodeId(1, 631)));
+        assertNull(GeneratedTypeIndex.getType(new NodeId(0, "631")));
+        assertNull(DelegateRegistry.getEncoder(new NodeId(1, 631)));
+    }
+
+    @DataProvider
+    public Object[][] getEncodingIds() {
+        return new Object[][]{
+                {new NodeId(0, DelegateRegistry.DENSE_ID_LIMIT - 1)},
+                {new NodeId(0, DelegateRegistry.DENSE_ID_LIMIT)},
+                {new NodeId(2, 631)},
+                {new NodeId(0, "DelegateRegistryTest")}
+        };
+    }
+
+    @Test(dataProvider = "getEncodingIds",
+            description = "Delegates are found whether the encoding id lands in the dense tier or the map.")
+    public void testRegisterById(NodeId encodingId) {
+        EncoderDelegate<Registered> encoder = (value, e) -> {};
+        DecoderDelegate<Registered> decoder = d -> new Registered();
+
+        DelegateRegistry.registerEncoder(encoder, Registered.class, encodingId);
+        DelegateRegistry.registerDecoder(decoder, Registered.class, encodingId);
+
+        assertSame(DelegateRegistry.getEncoder(encodingId), encoder);
+        assertSame(DelegateRegistry.getDecoder(encodingId), decoder);
+    }
+
+    @Test(description = "Binary delegates fail with a status code when used by another encoding or given another type.")
+    @SuppressWarnings("unchecked")
+    public void testBinaryDelegateMisuse() {
+        NodeId encodingId = new NodeId(2, "DelegateRegistryTest.Binary");
+
+        DelegateRegistry.registerBinaryEncoder((value, e) -> e.encodeInt32(null, 42), Registered.class, encodingId);
+        DelegateRegistry.registerBinaryDecoder(d -> new Registered(), Registered.class, encodingId);
+
+        EncoderDelegate<Object> encoder = DelegateRegistry.getEncoder(encodingId);
+        DecoderDelegate<Object> decoder = DelegateRegistry.getDecoder(encodingId);
+
+        ByteBuf buffer = Unpooled.buffer();
+        encoder.encode(new Registered(), new BinaryEncoder().setBuffer(buffer));
+        assertEquals(buffer.readableBytes(), 4);
+        assertTrue(decoder.decode(new BinaryDecoder().setBuffer(buffer)) instanceof Registered);
+
+        assertStatusCode(() -> encoder.encode(new Registered(), new EncodedSizeCalculator()),
+                StatusCodes.Bad_EncodingError);
+        assertStatusCode(() -> encoder.encode("not Registered", new BinaryEncoder().setBuffer(buffer)),
+                StatusCodes.Bad_EncodingError);
+        assertStatusCode(() -> decoder.decode(new JsonDecoder(buffer)),
+                StatusCodes.Bad_DecodingError);
+    }
+
+    private static void assertStatusCode(Runnable runnable, long statusCode) {
+        try {
+            runnable.run();
+            fail("expected " + StatusCodes.lookup(statusCode).map(ss -> ss[0]).orElse(""));
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), statusCode);
+        }
+    }
+
+    private static class Registered {}
+
+}
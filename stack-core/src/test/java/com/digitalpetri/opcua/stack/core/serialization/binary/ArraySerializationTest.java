@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class ArraySerializationTest extends BinarySerializationFixture {
+
+    @Test
+    public void testArrayFactory() {
+        DataValue[] values = {new DataValue(new Variant(1)), new DataValue(new Variant("two"))};
+        ReadValueId[] readValueIds = {new ReadValueId(new NodeId(2, "foo"), AttributeId.Value.uid(), null, null)};
+
+        encoder.encodeArray(null, values, encoder::encodeDataValue);
+        encoder.encodeArray(null, readValueIds, encoder::encodeSerializable);
+        encoder.encodeStructureArray(null, readValueIds, ReadValueId::encodeBinary);
+
+        DataValue[] decodedValues = decoder.decodeArray(null, decoder::decodeDataValue, DataValue[]::new);
+        ReadValueId[] decodedIds = decoder.decodeArray(null, decoder::decodeSerializable, ReadValueId.class, ReadValueId[]::new);
+        ReadValueId[] decodedStructures = decoder.decodeStructureArray(null, ReadValueId::decodeBinary, ReadValueId[]::new);
+
+        assertEquals(decodedValues.length, 2);
+        assertEquals(decodedValues[1].getValue().getValue(), "two");
+        assertEquals(decodedIds[0].getNodeId(), new NodeId(2, "foo"));
+        assertEquals(decodedStructures[0].getNodeId(), new NodeId(2, "foo"));
+    }
+
+    @Test(description = "A null array (length -1) decodes to an empty array of the element type.")
+    public void testNullArray() {
+        encoder.encodeInt32(null, -1);
+        encoder.encodeInt32(null, -1);
+
+        DataValue[] values = decoder.decodeArray(null, decoder::decodeDataValue, DataValue[]::new);
+        ReadValueId[] readValueIds = decoder.decodeStructureArray(null, ReadValueId::decodeBinary, ReadValueId[]::new);
+
+        assertEquals(values.length, 0);
+        assertEquals(readValueIds.length, 0);
+    }
+
+    @Test(expectedExceptions = UaSerializationException.class)
+    public void testMaxArrayLength() {
+        encoder.encodeInt32(null, 3);
+
+        new BinaryDecoder(2, Integer.MAX_VALUE)
+                .setBuffer(buffer)
+                .decodeArray(null, decoder::decodeDataValue, DataValue[]::new);
+    }
+
+    @Test(description = "Nested arrays of empty elements, each within maxArrayLength, exhaust the element budget.")
+    public void testAllocationBudgetNestedArrays() {
+        encoder.encodeInt32(null, 1000);
+        for (int i = 0; i < 1000; i++) {
+            encoder.encodeInt32(null, 1000);
+        }
+
+        decoder.setAllocationBudget(
+                ChannelConfig.DEFAULT_MAX_DECODED_BYTES_RATIO,
+                ChannelConfig.DEFAULT_MAX_DECODED_ELEMENTS_RATIO);
+
+        try {
+            decoder.decodeArray(null, f -> decoder.decodeArray(null, g -> "", String[]::new), String[][]::new);
+            fail("expected allocation budget to be exceeded");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingLimitsExceeded);
+        }
+    }
+
+    @Test
+    public void testAllocationBudgetWithinLimits() {
+        DataValue[] values = new DataValue[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new DataValue(new Variant(new String[]{"", "foo" + i}));
+        }
+
+        encoder.encodeArray(null, values, encoder::encodeDataValue);
+
+        decoder.setAllocationBudget(
+                ChannelConfig.DEFAULT_MAX_DECODED_BYTES_RATIO,
+                ChannelConfig.DEFAULT_MAX_DECODED_ELEMENTS_RATIO);
+
+        DataValue[] decoded = decoder.decodeArray(null, decoder::decodeDataValue, DataValue[]::new);
+
+        assertEquals(decoded.length, 100);
+    }
+
+    @Test(expectedExceptions = UaSerializationException.class)
+    public void testAllocationBudgetString() {
+        encoder.encodeString(null, "0123456789");
+
+        decoder.setAllocationBudget(1, -1).decodeString(null);
+    }
+
+    @Test
+    public void testParallelStructureArray() {
+        BrowseResult[] results = new BrowseResult[1000];
+        for (int i = 0; i < results.length; i++) {
+            ReferenceDescription[] references = new ReferenceDescription[i % 7];
+            for (int j = 0; j < references.length; j++) {
+                references[j] = new ReferenceDescription(
+                        new NodeId(0, 35), true, new ExpandedNodeId(new NodeId(2, "node" + i + "/" + j)),
+                        new QualifiedName(2, "node" + j), LocalizedText.english("Node " + j),
+                        NodeClass.Variable, ExpandedNodeId.NULL_VALUE);
+            }
+            results[i] = new BrowseResult(StatusCode.GOOD, null, references);
+        }
+
+        DataValue[] values = new DataValue[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new DataValue(new Variant(i % 2 == 0 ? (Object) ("value" + i) : (Object) (double) i));
+        }
+
+        BrowseResponse browseResponse = new BrowseResponse(new ResponseHeader(), results, null);
+        ReadResponse readResponse = new ReadResponse(new ResponseHeader(), values, null);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (UaStructure message : new UaStructure[]{browseResponse, readResponse}) {
+                ByteBuf serial = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+                ByteBuf parallel = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+                new BinaryEncoder().setBuffer(serial).encodeMessage(null, message);
+                new BinaryEncoder().setParallelArrayEncoding(10, pool).setBuffer(parallel).encodeMessage(null, message);
+
+                assertEquals(parallel, serial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testParallelStructureArrayFailure() {
+        ReadValueId[] readValueIds = new ReadValueId[100];
+        for (int i = 0; i < readValueIds.length; i++) {
+            readValueIds[i] = i == 50 ? null : new ReadValueId(new NodeId(2, i), uint(13), null, null);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            encoder.setParallelArrayEncoding(10, pool)
+                    .encodeStructureArray(null, readValueIds, ReadValueId::encodeBinary);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
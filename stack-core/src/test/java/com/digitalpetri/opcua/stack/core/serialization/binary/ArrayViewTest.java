@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryData;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.HistoryReadResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ArrayViewTest extends BinarySerializationFixture {
+
+    private final ResponseHeader responseHeader = new ResponseHeader(
+            DateTime.now(), uint(1), StatusCode.GOOD, null, new String[]{"foo"}, null);
+
+    private final DataValue[] dataValues = {
+            new DataValue(new Variant(42.0), StatusCode.GOOD, DateTime.now(), DateTime.now()),
+            new DataValue(new Variant("h\u00e9llo")),
+            new DataValue(new Variant(new String[]{"a", null, "c"})),
+            new DataValue(new Variant(new Integer[][]{{0, 1}, {2, 3}})),
+            new DataValue(new Variant(new UUID(1L, 2L))),
+            new DataValue(new Variant(new NodeId(2, ByteString.of(new byte[]{1, 2, 3})))),
+            new DataValue(new Variant(new ExpandedNodeId(new NodeId(0, 85), "urn:foo", 2))),
+            new DataValue(new Variant(new QualifiedName(2, "bar"))),
+            new DataValue(new Variant(LocalizedText.english("bar"))),
+            new DataValue(new Variant(new XmlElement("<foo/>"))),
+            new DataValue(new Variant(new ServiceCounterDataType(uint(1), uint(2)))),
+            new DataValue(new Variant(new Variant[]{new Variant(0), new Variant("one")})),
+            new DataValue(StatusCodes.Bad_NodeIdUnknown)
+    };
+
+    @Test(description = "Each element of a ReadResponse view decodes to the same value as an eager decode.")
+    public void testReadResponseView() {
+        DiagnosticInfo[] diagnosticInfos = {new DiagnosticInfo(1, -1, 2, -1, "info", null, null)};
+
+        ReadResponse response = new ReadResponse(responseHeader, dataValues, diagnosticInfos);
+        encoder.encodeMessage(null, response);
+
+        ResponseView<DataValue> view = decodeView();
+
+        assertEquals(buffer.readableBytes(), 0);
+        assertEquals(view.getTypeId(), ReadResponse.TypeId);
+        assertEquals(view.getResponseHeader().getRequestHandle(), uint(1));
+        assertEquals(view.getDiagnosticInfos().length, 1);
+        assertEquals(view.getResults().size(), dataValues.length);
+
+        // Out of order, and twice, to show elements are independent of each other and of the decoder's position.
+        for (int i = dataValues.length - 1; i >= 0; i--) {
+            assertEncodedEquals(view.getResults().get(i), dataValues[i], (v, e) -> e.encodeDataValue(null, v));
+        }
+        for (int i = 0; i < dataValues.length; i++) {
+            assertEncodedEquals(view.getResults().get(i), dataValues[i], (v, e) -> e.encodeDataValue(null, v));
+        }
+
+        assertEquals(buffer.refCnt(), 2);
+        assertTrue(!view.release());
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(description = "Each element of a HistoryReadResponse view decodes to the same value as an eager decode.")
+    public void testHistoryReadResponseView() {
+        HistoryReadResult[] results = {
+                new HistoryReadResult(StatusCode.GOOD, ByteString.of(new byte[]{1, 2, 3}),
+                        ExtensionObject.encode(new HistoryData(dataValues))),
+                new HistoryReadResult(new StatusCode(StatusCodes.Bad_NodeIdUnknown), ByteString.NULL_VALUE, null)
+        };
+
+        encoder.encodeMessage(null, new HistoryReadResponse(responseHeader, results, null));
+
+        ResponseView<HistoryReadResult> view = decodeView();
+
+        assertEquals(view.getTypeId(), HistoryReadResponse.TypeId);
+        assertEquals(view.getResults().size(), results.length);
+
+        for (int i = 0; i < results.length; i++) {
+            assertEncodedEquals(view.getResults().get(i), results[i], HistoryReadResult::encodeBinary);
+        }
+
+        view.release();
+    }
+
+    @Test(description = "Structures with nested arrays and variable-length fields are skipped to the right offset.")
+    public void testStructureArrayView() {
+        ReferenceDescription reference = new ReferenceDescription(
+                Identifiers.Organizes, true, new ExpandedNodeId(Identifiers.Server),
+                new QualifiedName(0, "Server"), LocalizedText.english("Server"),
+                NodeClass.Object, new ExpandedNodeId(Identifiers.ServerType));
+
+        BrowseResult[] results = {
+                new BrowseResult(StatusCode.GOOD, ByteString.of(new byte[]{1}), new ReferenceDescription[]{reference, reference}),
+                new BrowseResult(StatusCode.BAD, null, null),
+                new BrowseResult(StatusCode.GOOD, null, new ReferenceDescription[]{reference})
+        };
+
+        encoder.encodeStructureArray(null, results, BrowseResult::encodeBinary);
+        encoder.encodeInt32(null, 42);
+
+        ArrayView<BrowseResult> view = decoder.decodeArrayView(null, BrowseResult::decodeBinary);
+
+        assertEquals((int) decoder.decodeInt32(null), 42);
+
+        buffer.readerIndex(0);
+        BrowseResult[] decoded = decoder.decodeStructureArray(null, BrowseResult::decodeBinary, BrowseResult.class);
+
+        for (int i = 0; i < results.length; i++) {
+            assertEncodedEquals(view.get(i), decoded[i], BrowseResult::encodeBinary);
+        }
+
+        view.release();
+    }
+
+    @Test
+    public void testNullArrayView() {
+        encoder.encodeInt32(null, -1);
+        encoder.encodeInt32(null, 42);
+
+        ArrayView<DataValue> view = decoder.decodeArrayView(null, d -> d.decodeDataValue(null));
+
+        assertNull(view);
+        assertEquals((int) decoder.decodeInt32(null), 42);
+    }
+
+    @Test(description = "A response whose Results are null is decoded as usual.")
+    public void testNullResults() {
+        encoder.encodeMessage(null, new ReadResponse(responseHeader, null, null));
+
+        UaResponseMessage response = ResponseView.decode(decoder);
+
+        assertTrue(response instanceof ReadResponse);
+        assertNull(((ReadResponse) response).getResults());
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test
+    public void testElementAllocationBudget() {
+        Boolean[] booleans = new Boolean[1000];
+        Arrays.fill(booleans, true);
+
+        encoder.encodeArray(null, new DataValue[]{new DataValue(new Variant(booleans))}, encoder::encodeDataValue);
+
+        // Each Boolean decodes to an 8 byte reference: within 10 bytes per encoded byte, but not 4.
+        decoder.setAllocationBudget(10, -1);
+        buffer.markReaderIndex();
+
+        ArrayView<DataValue> view = decoder.decodeArrayView(null, d -> d.decodeDataValue(null));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(((Boolean[]) view.get(0).getValue().getValue()).length, 1000);
+        }
+        view.release();
+
+        buffer.resetReaderIndex();
+        decoder.setAllocationBudget(4, -1);
+
+        view = decoder.decodeArrayView(null, d -> d.decodeDataValue(null));
+
+        try {
+            view.get(0);
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingLimitsExceeded);
+        } finally {
+            view.release();
+        }
+    }
+
+    @Test(description = "Other responses, e.g. a ServiceFault, are decoded eagerly.")
+    public void testServiceFault() {
+        encoder.encodeMessage(null, new ServiceFault(responseHeader));
+
+        UaResponseMessage response = ResponseView.decode(decoder);
+
+        assertTrue(response instanceof ServiceFault);
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalReferenceCountException.class)
+    public void testGetAfterRelease() {
+        encoder.encodeMessage(null, new ReadResponse(responseHeader, dataValues, null));
+
+        ResponseView<DataValue> view = decodeView();
+        view.release();
+        buffer.release();
+
+        view.getResults().get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseView<T> decodeView() {
+        return (ResponseView<T>) ResponseView.decode(decoder);
+    }
+
+    private static <T> void assertEncodedEquals(T actual, T expected, BiConsumer<T, BinaryEncoder> encode) {
+        ByteBuf actualBuffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuf expectedBuffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        encode.accept(actual, new BinaryEncoder().setBuffer(actualBuffer));
+        encode.accept(expected, new BinaryEncoder().setBuffer(expectedBuffer));
+
+        assertEquals(actualBuffer, expectedBuffer);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+import java.util.Optional;
+
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteStringView;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ByteStringViewTest extends BinarySerializationFixture {
+
+    private static final byte[] BYTES = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    public void testDecodeAboveThreshold() {
+        decoder.setByteStringViewThreshold(BYTES.length);
+
+        encoder.encodeByteString(null, ByteString.of(BYTES));
+        encoder.encodeByteString(null, ByteString.of(new byte[]{9}));
+
+        ByteString decoded = decoder.decodeByteString(null);
+        assertTrue(decoded instanceof ByteStringView);
+        assertEquals(decoded.length(), BYTES.length);
+        assertEquals(decoded.byteAt(7), 8);
+        assertEquals(decoded, ByteString.of(BYTES));
+        assertEquals(buffer.refCnt(), 2);
+
+        ByteString small = decoder.decodeByteString(null);
+        assertFalse(small instanceof ByteStringView);
+
+        ((ByteStringView) decoded).release();
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalReferenceCountException.class)
+    public void testAccessAfterRelease() {
+        ByteStringView view = ByteStringView.wrap(Unpooled.wrappedBuffer(BYTES));
+        view.release();
+
+        view.byteAt(0);
+    }
+
+    @Test
+    public void testCopyOnEscape() {
+        ByteStringView view = ByteStringView.wrap(Unpooled.wrappedBuffer(BYTES));
+
+        byte[] bytes = view.bytes();
+        view.release();
+
+        assertEquals(bytes, BYTES);
+        assertEquals(view.bytes(), BYTES);
+        assertEquals(view.byteAt(3), 4);
+    }
+
+    @Test
+    public void testEncodeView() {
+        ByteBuf payload = Unpooled.wrappedBuffer(BYTES);
+        payload.readByte();
+
+        ByteStringView view = ByteStringView.wrap(payload);
+        encoder.encodeByteString(null, view);
+
+        assertEquals(payload.readerIndex(), 1);
+        assertEquals(decoder.decodeByteString(null), ByteString.of(new byte[]{2, 3, 4, 5, 6, 7, 8}));
+
+        view.release();
+    }
+
+    @Test
+    public void testOpaqueNodeIdIsCopied() {
+        decoder.setByteStringViewThreshold(0);
+
+        encoder.encodeNodeId(null, new NodeId(1, ByteString.of(BYTES)));
+        NodeId nodeId = decoder.decodeNodeId(null);
+
+        assertFalse(nodeId.getIdentifier() instanceof ByteStringView);
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(description = "A Variant decoded with ByteStringViews can be sized and encoded again.")
+    public void testVariantRoundTrip() {
+        decoder.setByteStringViewThreshold(16);
+
+        Variant scalar = new Variant(ByteString.of(new byte[100]));
+        Variant array = new Variant(new ByteString[]{ByteString.of(new byte[100]), ByteString.of(new byte[50])});
+
+        for (Variant variant : new Variant[]{scalar, array}) {
+            buffer.clear();
+            encoder.encodeVariant(null, variant);
+            int encodedLength = buffer.readableBytes();
+
+            Variant decoded = decoder.decodeVariant(null);
+            assertEquals(decoded.getDataType(), Optional.of(Identifiers.ByteString));
+
+            EncodedSizeCalculator calculator = new EncodedSizeCalculator();
+            calculator.encodeVariant(null, decoded);
+            assertEquals(calculator.getSize(), encodedLength);
+
+            ByteBuf reencoded = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+            new BinaryEncoder().setBuffer(reencoded).encodeVariant(null, decoded);
+            assertEquals(reencoded, buffer.readerIndex(0));
+
+            Object value = decoded.getValue();
+            if (value instanceof ByteStringView) {
+                ((ByteStringView) value).release();
+            } else {
+                for (ByteString element : (ByteString[]) value) {
+                    if (element instanceof ByteStringView) ((ByteStringView) element).release();
+                }
+            }
+        }
+
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+}
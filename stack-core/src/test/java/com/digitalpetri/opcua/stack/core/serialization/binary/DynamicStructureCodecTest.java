@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.BuiltinDataType;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.dynamic.DynamicStructure;
+import com.digitalpetri.opcua.stack.core.types.dynamic.StructureDefinition;
+import com.digitalpetri.opcua.stack.core.types.dynamic.StructureField;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class DynamicStructureCodecTest extends BinarySerializationFixture {
+
+    private final StructureDefinition point = StructureDefinition.builder("Point")
+            .addField("X", BuiltinDataType.Double)
+            .addField("Y", BuiltinDataType.Double)
+            .build();
+
+    private final StructureDefinition vendorStructure = StructureDefinition.builder("VendorStructure")
+            .setTypeId(new NodeId(2, "VendorStructure"))
+            .setBinaryEncodingId(new NodeId(2, "VendorStructure_Encoding_DefaultBinary"))
+            .addField("Name", BuiltinDataType.String)
+            .addField("Count", BuiltinDataType.UInt32)
+            .addField("Values", BuiltinDataType.Double, StructureField.ONE_DIMENSION)
+            .addField("Origin", point)
+            .addField("Path", point, StructureField.ONE_DIMENSION)
+            .addField("Value", BuiltinDataType.Variant)
+            .build();
+
+    @Test(description = "A dynamic structure decodes to the values it was encoded from.")
+    public void testRoundTrip() {
+        DynamicStructure value = vendorStructure();
+
+        DynamicStructureCodec codec = DynamicStructureCodec.of(vendorStructure);
+        codec.encode(value, encoder);
+        DynamicStructure decoded = codec.decode(decoder);
+
+        assertEquals(decoded, value);
+        assertEquals(decoded.get("Count"), uint(3));
+        assertEquals(((DynamicStructure) decoded.get("Origin")).get("Y"), 2.0);
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "A definition matching a generated structure encodes exactly as the generated code does.")
+    public void testMatchesGeneratedStructure() {
+        StructureDefinition definition = StructureDefinition.builder("ReadValueId")
+                .addField("NodeId", BuiltinDataType.NodeId)
+                .addField("AttributeId", BuiltinDataType.UInt32)
+                .addField("IndexRange", BuiltinDataType.String)
+                .addField("DataEncoding", BuiltinDataType.QualifiedName)
+                .build();
+
+        ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, "foo"), AttributeId.Value.uid(), "1:2", new QualifiedName(0, "Default Binary"));
+
+        ReadValueId.encodeBinary(readValueId, encoder);
+
+        DynamicStructure decoded = DynamicStructureCodec.of(definition).decode(decoder);
+        assertEquals(decoded.get("NodeId"), readValueId.getNodeId());
+        assertEquals(decoded.get("IndexRange"), "1:2");
+
+        ByteBuf encoded = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        DynamicStructureCodec.of(definition).encode(decoded, new BinaryEncoder().setBuffer(encoded));
+
+        assertEquals(encoded, buffer.readerIndex(0));
+    }
+
+    @Test(description = "Once registered, ExtensionObjects with the definition's encoding id decode as dynamic structures.")
+    public void testRegistered() {
+        DynamicStructureCodec codec = DynamicStructureCodec.of(vendorStructure).register();
+        assertSame(DynamicStructureCodec.of(vendorStructure), codec);
+
+        DynamicStructure value = vendorStructure();
+
+        encoder.encodeVariant(null, new Variant(ExtensionObject.encode(value)));
+
+        ExtensionObject xo = (ExtensionObject) decoder.decodeVariant(null).getValue();
+
+        assertEquals(xo.getEncodingTypeId(), vendorStructure.getBinaryEncodingId());
+        assertEquals(xo.decode(), value);
+    }
+
+    @Test(expectedExceptions = UaSerializationException.class)
+    public void testEncodeWrongFieldType() {
+        DynamicStructure value = new DynamicStructure(point, 1.0, "two");
+
+        DynamicStructureCodec.of(point).encode(value, encoder);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnsupportedValueRank() {
+        StructureDefinition.builder("Matrix").addField("Values", BuiltinDataType.Double, 2);
+    }
+
+    private DynamicStructure vendorStructure() {
+        return new DynamicStructure(
+                vendorStructure,
+                "pump-1",
+                uint(3),
+                new Double[]{1.0, 2.0, 3.0},
+                new DynamicStructure(point, 1.0, 2.0),
+                new DynamicStructure[]{new DynamicStructure(point, 0.0, 0.0), new DynamicStructure(point, 3.0, 4.0)},
+                new Variant(42)
+        );
+    }
+
+}
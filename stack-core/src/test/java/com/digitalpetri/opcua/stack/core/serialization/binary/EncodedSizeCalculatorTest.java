@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.UUID;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+
+public class EncodedSizeCalculatorTest extends BinarySerializationFixture {
+
+    private final EncodedSizeCalculator calculator = new EncodedSizeCalculator();
+
+    @DataProvider
+    public Object[][] getVariants() {
+        return new Object[][]{
+                {new Variant(null)},
+                {new Variant("hello, world")},
+                {new Variant("h\u00e9llo, \u4e16\u754c \ud83d\ude00 \ud83d")},
+                {new Variant(42)},
+                {new Variant(new double[]{0.0, 1.0, 2.0})},
+                {new Variant(new boolean[]{true, false})},
+                {new Variant(new Integer[]{0, 1, 2, 3})},
+                {new Variant(new Integer[][]{{0, 1}, {2, 3}})},
+                {new Variant(new String[]{"foo", null, "\u00e9"})},
+                {new Variant(new UUID(1L, 2L))},
+                {new Variant(new NodeId(2, "foo"))},
+                {new Variant(new NodeId(1, 70000))},
+                {new Variant(new NodeId(3, new UUID(1L, 2L)))},
+                {new Variant(new NodeId(4, ByteString.of(new byte[]{1, 2, 3})))},
+                {new Variant(new ExpandedNodeId(new NodeId(0, 85), "urn:foo", 2))},
+                {new Variant(new QualifiedName(2, "bar"))},
+                {new Variant(LocalizedText.english("bar"))},
+                {new Variant(new LocalizedText(null, null))},
+                {new Variant(new XmlElement("<foo>bar</foo>"))},
+                {new Variant(new ExtensionObject(ByteString.of(new byte[]{1, 2}), new NodeId(0, 1000)))},
+                {new Variant(new ServiceCounterDataType(uint(1), uint(2)))},
+                {new Variant(new ServiceCounterDataType[]{new ServiceCounterDataType(uint(1), uint(2))})},
+                {new Variant(new NodeClass[]{NodeClass.Object, NodeClass.Variable})},
+                {new Variant(new Variant[]{new Variant(0), new Variant("one")})}
+        };
+    }
+
+    @Test(dataProvider = "getVariants",
+            description = "The calculated size of a Variant equals the number of bytes BinaryEncoder writes.")
+    public void testVariantSize(Variant variant) {
+        encoder.encodeVariant(null, variant);
+        calculator.reset().encodeVariant(null, variant);
+
+        assertEquals(calculator.getSize(), buffer.readableBytes());
+    }
+
+    @Test
+    public void testDataValueSize() {
+        DataValue dataValue = new DataValue(new Variant(1.0), StatusCode.BAD, DateTime.now());
+
+        encoder.encodeDataValue(null, dataValue);
+        calculator.reset().encodeDataValue(null, dataValue);
+
+        assertEquals(calculator.getSize(), buffer.readableBytes());
+    }
+
+    @Test
+    public void testDiagnosticInfoSize() {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(1, -1, 2, -1, "additional info",
+                new StatusCode(StatusCodes.Bad_UnexpectedError),
+                new DiagnosticInfo(-1, 3, -1, -1, null, null, null));
+
+        encoder.encodeDiagnosticInfo(null, diagnosticInfo);
+        calculator.reset().encodeDiagnosticInfo(null, diagnosticInfo);
+
+        assertEquals(calculator.getSize(), buffer.readableBytes());
+    }
+
+    @DataProvider
+    public Object[][] getMessages() {
+        RequestHeader requestHeader = new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(10000), null);
+
+        ResponseHeader responseHeader = new ResponseHeader(
+                DateTime.now(), uint(1), StatusCode.GOOD, null, new String[]{"foo", "bar"}, null);
+
+        ReadValueId[] nodesToRead = {
+                new ReadValueId(Identifiers.Server_ServerStatus_CurrentTime, AttributeId.Value.uid(), null, null),
+                new ReadValueId(new NodeId(2, "foo"), AttributeId.DisplayName.uid(), "0:1", new QualifiedName(0, "Default Binary"))
+        };
+
+        DataValue[] results = {
+                new DataValue(new Variant(42.0), StatusCode.GOOD, DateTime.now(), DateTime.now()),
+                new DataValue(new Variant(new String[]{"a", "b"})),
+                new DataValue(StatusCodes.Bad_NodeIdUnknown)
+        };
+
+        ReferenceDescription[] references = {
+                new ReferenceDescription(
+                        Identifiers.Organizes, true, new ExpandedNodeId(Identifiers.Server),
+                        new QualifiedName(0, "Server"), LocalizedText.english("Server"),
+                        NodeClass.Object, new ExpandedNodeId(Identifiers.ServerType))
+        };
+
+        return new Object[][]{
+                {new ReadRequest(requestHeader, 0.0, TimestampsToReturn.Both, nodesToRead)},
+                {new ReadRequest(null, 0.0, null, null)},
+                {new ReadResponse(responseHeader, results, null)},
+                {new BrowseResult(StatusCode.GOOD, null, references)}
+        };
+    }
+
+    @Test(dataProvider = "getMessages",
+            description = "The calculated size of a message equals the number of bytes BinaryEncoder writes.")
+    public void testMessageSize(UaStructure message) {
+        encoder.encodeMessage(null, message);
+
+        assertEquals(calculator.calculateMessageSize(message), buffer.readableBytes());
+    }
+
+}
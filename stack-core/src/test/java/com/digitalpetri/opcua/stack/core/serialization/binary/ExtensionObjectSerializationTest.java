@@ -16,14 +16,28 @@
 
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.serialization.DataTypeEncoding;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteStringView;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
 import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
 import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.structured.ContentFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.SignatureData;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ExtensionObjectSerializationTest extends BinarySerializationFixture {
 
@@ -43,4 +57,138 @@ public class ExtensionObjectSerializationTest extends BinarySerializationFixture
         assertEquals(decoded, xo);
     }
 
+    @Test(description = "A structure body is encoded and decoded in place, producing the same bytes as a ByteString body.")
+    public void testStructureBodyInPlace() throws Exception {
+        ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, "foo"), uint(13), "1:2", new QualifiedName(1, "bar"));
+
+        ExtensionObject xo = ExtensionObject.encode(readValueId);
+        assertFalse(xo.isEncoded());
+
+        ByteString body = DataTypeEncoding.OPC_UA.encodeToByteString(readValueId, readValueId.getBinaryEncodingId());
+        ExtensionObject eager = new ExtensionObject(body, readValueId.getBinaryEncodingId());
+
+        EncodedSizeCalculator calculator = new EncodedSizeCalculator();
+        calculator.encodeExtensionObject(null, xo);
+
+        encoder.encodeExtensionObject(null, xo);
+        byte[] inPlace = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), inPlace);
+        assertEquals(calculator.getSize(), inPlace.length);
+
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+        assertFalse(decoded.isEncoded());
+        assertEquals(buffer.readableBytes(), 0);
+
+        ReadValueId decodedValue = decoded.decode();
+        assertEquals(decodedValue.getNodeId(), readValueId.getNodeId());
+        assertEquals(decodedValue.getIndexRange(), readValueId.getIndexRange());
+
+        encoder.encodeExtensionObject(null, eager);
+        byte[] copied = new byte[buffer.readableBytes()];
+        buffer.readBytes(copied);
+        assertEquals(inPlace, copied);
+
+        assertEquals(decoded, eager);
+    }
+
+    @Test(description = "A body that doesn't decode to its declared length is kept as a ByteString.")
+    public void testStructureBodyLengthMismatch() throws Exception {
+        ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, "foo"), uint(13), null, QualifiedName.NULL_VALUE);
+
+        ByteString body = DataTypeEncoding.OPC_UA.encodeToByteString(readValueId, readValueId.getBinaryEncodingId());
+        byte[] padded = new byte[body.length() + 2];
+        System.arraycopy(body.bytes(), 0, padded, 0, body.length());
+
+        ExtensionObject xo = new ExtensionObject(ByteString.of(padded), readValueId.getBinaryEncodingId());
+
+        encoder.encodeExtensionObject(null, xo);
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+
+        assertTrue(decoded.isEncoded());
+        assertEquals(decoded, xo);
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "A dropped body doesn't leak ByteStringViews of the buffer it was decoded from.")
+    public void testStructureBodyLengthMismatchWithViews() throws Exception {
+        SignatureData signatureData = new SignatureData("algorithm", ByteString.of(new byte[64]));
+
+        ByteString body = DataTypeEncoding.OPC_UA.encodeToByteString(signatureData, SignatureData.BinaryEncodingId);
+        byte[] padded = new byte[body.length() + 2];
+        System.arraycopy(body.bytes(), 0, padded, 0, body.length());
+
+        ExtensionObject xo = new ExtensionObject(ByteString.of(padded), SignatureData.BinaryEncodingId);
+
+        encoder.encodeExtensionObject(null, xo);
+        decoder.setByteStringViewThreshold(16);
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+
+        assertTrue(decoded.isEncoded());
+        assertEquals(decoded, xo);
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(description = "A body decoded in place keeps the ByteStringViews it decoded for the caller to release.")
+    public void testStructureBodyInPlaceWithViews() throws Exception {
+        SignatureData signatureData = new SignatureData("algorithm", ByteString.of(new byte[64]));
+
+        encoder.encodeExtensionObject(null, ExtensionObject.encode(signatureData));
+        decoder.setByteStringViewThreshold(16);
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+
+        assertFalse(decoded.isEncoded());
+        SignatureData decodedValue = decoded.decode();
+        assertTrue(decodedValue.getSignature() instanceof ByteStringView);
+        assertEquals(decodedValue.getSignature(), signatureData.getSignature());
+        assertEquals(buffer.refCnt(), 2);
+
+        ((ByteStringView) decodedValue.getSignature()).release();
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(description = "A dropped body refunds what it charged against the allocation budget.")
+    public void testStructureBodyLengthMismatchRefundsBudget() throws Exception {
+        SignatureData signatureData = new SignatureData("algorithm", ByteString.of(new byte[64]));
+
+        ByteString body = DataTypeEncoding.OPC_UA.encodeToByteString(signatureData, SignatureData.BinaryEncodingId);
+        byte[] padded = new byte[body.length() + 2];
+        System.arraycopy(body.bytes(), 0, padded, 0, body.length());
+
+        ExtensionObject xo = new ExtensionObject(ByteString.of(padded), SignatureData.BinaryEncodingId);
+
+        encoder.encodeExtensionObject(null, xo);
+
+        // Enough for the ByteString fallback, but not for it and the decoded body together.
+        decoder.setAllocationBudget(2, 1);
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+
+        assertTrue(decoded.isEncoded());
+        assertEquals(decoded, xo);
+    }
+
+    @Test(description = "Nested arrays in a body that exhaust the allocation budget fail the decode.")
+    public void testStructureBodyAllocationBudget() {
+        encoder.encodeNodeId(null, ContentFilter.BinaryEncodingId);
+        encoder.encodeByte(null, ubyte(1));
+        encoder.encodeInt32(null, 12);
+
+        // ContentFilter.Elements: 1000 ContentFilterElements, the first with 1000 FilterOperands.
+        encoder.encodeInt32(null, 1000);
+        encoder.encodeInt32(null, 0);
+        encoder.encodeInt32(null, 1000);
+
+        decoder.setAllocationBudget(
+                ChannelConfig.DEFAULT_MAX_DECODED_BYTES_RATIO,
+                ChannelConfig.DEFAULT_MAX_DECODED_ELEMENTS_RATIO);
+
+        try {
+            decoder.decodeExtensionObject(null);
+            fail("expected allocation budget to be exceeded");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingLimitsExceeded);
+        }
+    }
+
 }
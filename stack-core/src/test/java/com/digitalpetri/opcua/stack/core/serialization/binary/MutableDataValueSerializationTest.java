@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.MutableDataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.MutableVariant;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+
+public class MutableDataValueSerializationTest extends BinarySerializationFixture {
+
+    @DataProvider
+    public Object[][] getVariants() {
+        return new Object[][]{
+                {new MutableVariant(), Variant.NULL_VALUE},
+                {new MutableVariant().setBoolean(true), new Variant(true)},
+                {new MutableVariant().setSByte((byte) -1), new Variant((byte) -1)},
+                {new MutableVariant().setByte(255), new Variant(ubyte(255))},
+                {new MutableVariant().setInt16((short) -2), new Variant((short) -2)},
+                {new MutableVariant().setUInt16(65535), new Variant(ushort(65535))},
+                {new MutableVariant().setInt32(-3), new Variant(-3)},
+                {new MutableVariant().setUInt32(4294967295L), new Variant(uint(4294967295L))},
+                {new MutableVariant().setInt64(Long.MIN_VALUE), new Variant(Long.MIN_VALUE)},
+                {new MutableVariant().setUInt64(-1L), new Variant(ulong(-1L))},
+                {new MutableVariant().setFloat(3.14f), new Variant(3.14f)},
+                {new MutableVariant().setDouble(Math.PI), new Variant(Math.PI)},
+                {new MutableVariant().setString("foo"), new Variant("foo")},
+                {new MutableVariant().setDateTime(131026347001234567L), new Variant(new DateTime(131026347001234567L))},
+                {new MutableVariant().setStatusCode(StatusCodes.Bad_Timeout), new Variant(new StatusCode(StatusCodes.Bad_Timeout))},
+                {new MutableVariant().setVariant(new Variant(new Integer[]{1, 2, 3})), new Variant(new Integer[]{1, 2, 3})}
+        };
+    }
+
+    @Test(dataProvider = "getVariants")
+    public void testMutableVariantEncodesLikeVariant(MutableVariant mutable, Variant variant) {
+        assertEquals(mutable.toVariant(), variant);
+        assertEquals(encode(e -> e.encodeVariant(null, mutable)), encode(e -> e.encodeVariant(null, variant)));
+
+        encoder.encodeVariant(null, mutable);
+        assertEquals(decoder.decodeVariant(null), variant);
+    }
+
+    @Test
+    public void testMutableDataValueEncodesLikeDataValue() {
+        MutableDataValue mutable = new MutableDataValue();
+
+        assertEquals(encode(e -> e.encodeDataValue(null, mutable)),
+                encode(e -> e.encodeDataValue(null, mutable.toDataValue())));
+
+        for (int i = 0; i < 10; i++) {
+            mutable.getValue().setDouble(i * 0.5);
+            mutable.setStatusCode(i % 2 == 0 ? 0L : StatusCodes.Uncertain_LastUsableValue);
+            mutable.setSourceTime(131026347000000000L + i);
+            mutable.setServerTime(i % 3 == 0 ? 0L : 131026347000000000L + i);
+
+            DataValue dataValue = mutable.toDataValue();
+
+            assertEquals(encode(e -> e.encodeDataValue(null, mutable)),
+                    encode(e -> e.encodeDataValue(null, dataValue)));
+
+            encoder.encodeDataValue(null, mutable);
+            DataValue decoded = decoder.decodeDataValue(null);
+
+            assertEquals(decoded.getValue(), dataValue.getValue());
+            assertEquals(decoded.getStatusCode(), dataValue.getStatusCode());
+            assertEquals(decoded.getSourceTime(), dataValue.getSourceTime());
+            assertEquals(decoded.getServerTime(), dataValue.getServerTime());
+        }
+    }
+
+    @Test
+    public void testSetDataValue() {
+        DataValue dataValue = new DataValue(
+                new Variant("foo"), new StatusCode(StatusCodes.Bad_Timeout), new DateTime(1L), DateTime.MIN_VALUE);
+
+        MutableDataValue mutable = new MutableDataValue().set(dataValue);
+
+        assertEquals(encode(e -> e.encodeDataValue(null, mutable)),
+                encode(e -> e.encodeDataValue(null, dataValue)));
+    }
+
+    private static String encode(Consumer<BinaryEncoder> consumer) {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        consumer.accept(new BinaryEncoder().setBuffer(buffer));
+        return ByteBufUtil.hexDump(buffer);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class NioBinaryCodecTest extends BinarySerializationFixture {
+
+    private static final BinaryEncoderDelegate<DataValue> DATA_VALUE_ENCODER =
+            (value, encoder) -> encoder.encodeDataValue(null, value);
+
+    private static final BinaryDecoderDelegate<DataValue> DATA_VALUE_DECODER =
+            decoder -> decoder.decodeDataValue(null);
+
+    private final DataValue first = new DataValue(
+            new Variant("a string"), StatusCode.GOOD, new DateTime(1234567890L), null);
+
+    private final DataValue second = new DataValue(
+            new Variant(42.0), StatusCode.GOOD, new DateTime(1234567891L), null);
+
+    @DataProvider
+    public Object[][] getByteBuffers() {
+        return new Object[][]{
+                {ByteBuffer.allocate(256)},
+                {ByteBuffer.allocateDirect(256)}
+        };
+    }
+
+    @Test
+    public void testByteArray() {
+        byte[] expected = encoded(first);
+
+        byte[] array = new byte[256];
+        int written = NioBinaryCodec.encode(first, DATA_VALUE_ENCODER, array, 10);
+
+        assertEquals(written, expected.length);
+        assertEquals(Arrays.copyOfRange(array, 10, 10 + written), expected);
+        assertDecoded(NioBinaryCodec.decode(DATA_VALUE_DECODER, array, 10, written), first);
+    }
+
+    @Test(dataProvider = "getByteBuffers",
+            description = "Values are encoded little-endian at the position whatever the buffer's own byte order.")
+    public void testByteBuffer(ByteBuffer buffer) {
+        buffer.position(3);
+
+        int written = NioBinaryCodec.encode(first, DATA_VALUE_ENCODER, buffer);
+        NioBinaryCodec.encode(second, DATA_VALUE_ENCODER, buffer);
+
+        assertEquals(buffer.position(), 3 + encoded(first).length + encoded(second).length);
+
+        byte[] bytes = new byte[written];
+        ((ByteBuffer) buffer.duplicate().position(3)).get(bytes);
+        assertEquals(bytes, encoded(first));
+
+        buffer.flip().position(3);
+
+        assertDecoded(NioBinaryCodec.decode(DATA_VALUE_DECODER, buffer), first);
+        assertDecoded(NioBinaryCodec.decode(DATA_VALUE_DECODER, buffer), second);
+        assertEquals(buffer.remaining(), 0);
+    }
+
+    @Test
+    public void testMappedByteBuffer() throws Exception {
+        Path path = Files.createTempFile("journal", ".bin");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, 256);
+
+            int written = NioBinaryCodec.encode(first, DATA_VALUE_ENCODER, mapped);
+            mapped.force();
+
+            assertEquals(Arrays.copyOf(Files.readAllBytes(path), written), encoded(first));
+
+            MappedByteBuffer readOnly = channel.map(FileChannel.MapMode.READ_ONLY, 0, written);
+            assertDecoded(NioBinaryCodec.decode(DATA_VALUE_DECODER, readOnly), first);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(dataProvider = "getByteBuffers")
+    public void testBufferTooSmall(ByteBuffer buffer) {
+        buffer.limit(encoded(first).length - 1);
+
+        try {
+            NioBinaryCodec.encode(first, DATA_VALUE_ENCODER, buffer);
+
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_EncodingLimitsExceeded);
+            assertEquals(buffer.position(), 0);
+        }
+    }
+
+    @Test
+    public void testTruncated() {
+        byte[] bytes = encoded(first);
+
+        try {
+            NioBinaryCodec.decode(DATA_VALUE_DECODER, bytes, 0, bytes.length - 1);
+
+            fail("expected UaSerializationException");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_DecodingError);
+        }
+    }
+
+    /**
+     * An absent server timestamp decodes as {@link DateTime#MIN_VALUE}, so only the fields that were set are compared.
+     */
+    private static void assertDecoded(DataValue decoded, DataValue expected) {
+        assertEquals(decoded.getValue(), expected.getValue());
+        assertEquals(decoded.getStatusCode(), expected.getStatusCode());
+        assertEquals(decoded.getSourceTime(), expected.getSourceTime());
+    }
+
+    private byte[] encoded(DataValue value) {
+        buffer.clear();
+        encoder.encodeDataValue(null, value);
+
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+}
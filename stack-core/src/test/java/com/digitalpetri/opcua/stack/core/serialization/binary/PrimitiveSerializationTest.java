@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class PrimitiveSerializationTest extends BinarySerializationFixture {
+
+    @Test(description = "Primitive values are round-trip serializable.")
+    public void testPrimitiveRoundTrip() {
+        encoder.writeBoolean(null, true);
+        encoder.writeSByte(null, Byte.MIN_VALUE);
+        encoder.writeInt16(null, Short.MIN_VALUE);
+        encoder.writeInt32(null, Integer.MIN_VALUE);
+        encoder.writeInt64(null, Long.MIN_VALUE);
+        encoder.writeByte(null, 0xFF);
+        encoder.writeUInt16(null, 0xFFFF);
+        encoder.writeUInt32(null, 0xFFFFFFFFL);
+        encoder.writeUInt64(null, -1L);
+        encoder.writeFloat(null, Float.MAX_VALUE);
+        encoder.writeDouble(null, Double.MIN_VALUE);
+
+        assertTrue(decoder.readBoolean(null));
+        assertEquals(decoder.readSByte(null), Byte.MIN_VALUE);
+        assertEquals(decoder.readInt16(null), Short.MIN_VALUE);
+        assertEquals(decoder.readInt32(null), Integer.MIN_VALUE);
+        assertEquals(decoder.readInt64(null), Long.MIN_VALUE);
+        assertEquals(decoder.readByteAsInt(null), 0xFF);
+        assertEquals(decoder.readUInt16AsInt(null), 0xFFFF);
+        assertEquals(decoder.readUInt32AsLong(null), 0xFFFFFFFFL);
+        assertEquals(decoder.readUInt64AsLong(null), -1L);
+        assertEquals(decoder.readFloat(null), Float.MAX_VALUE);
+        assertEquals(decoder.readDouble(null), Double.MIN_VALUE);
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "Primitive and boxed unsigned values have the same encoding.")
+    public void testUnsignedInterop() {
+        encoder.writeByte(null, 200);
+        encoder.writeUInt16(null, 60000);
+        encoder.writeUInt32(null, 4000000000L);
+        encoder.writeUInt64(null, Long.MIN_VALUE);
+
+        assertEquals(decoder.decodeByte(null), ubyte(200));
+        assertEquals(decoder.decodeUInt16(null), ushort(60000));
+        assertEquals(decoder.decodeUInt32(null), uint(4000000000L));
+        assertEquals(decoder.decodeUInt64(null), ulong(Long.MIN_VALUE));
+
+        encoder.encodeByte(null, ubyte(200));
+        encoder.encodeUInt16(null, ushort(60000));
+        encoder.encodeUInt32(null, uint(4000000000L));
+        encoder.encodeUInt64(null, ulong(Long.MIN_VALUE));
+
+        assertEquals(decoder.readByteAsInt(null), 200);
+        assertEquals(decoder.readUInt16AsInt(null), 60000);
+        assertEquals(decoder.readUInt32AsLong(null), 4000000000L);
+        assertEquals(decoder.readUInt64AsLong(null), Long.MIN_VALUE);
+    }
+
+}
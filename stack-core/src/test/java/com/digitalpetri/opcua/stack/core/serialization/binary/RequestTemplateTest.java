@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+
+public class RequestTemplateTest extends BinarySerializationFixture {
+
+    @DataProvider
+    public Object[][] getAuthenticationTokens() {
+        return new Object[][]{
+                {null},
+                {new NodeId(0, 42)},
+                {new NodeId(1, "a string token, to move the timestamp")}
+        };
+    }
+
+    @Test(dataProvider = "getAuthenticationTokens",
+            description = "A templated request encodes exactly as the request it was built from would with its header.")
+    public void testTemplatedRequest(NodeId authenticationToken) {
+        RequestTemplate template = RequestTemplate.encode(readRequest(authenticationToken, new DateTime(1L), uint(1)));
+
+        for (int i = 2; i < 5; i++) {
+            DateTime timestamp = DateTime.now();
+            UInteger requestHandle = uint(0xFFFFFF00L + i);
+
+            TemplatedRequest request = template.newRequest(timestamp, requestHandle);
+            assertEquals(request.getRequestHeader().getRequestHandle(), requestHandle);
+            assertEquals(request.getRequestHeader().getTimeoutHint(), uint(5000));
+
+            buffer.clear();
+            encoder.encodeMessage(null, request);
+
+            ByteBuf expected = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+            new BinaryEncoder().setBuffer(expected)
+                    .encodeMessage(null, readRequest(authenticationToken, timestamp, requestHandle));
+
+            assertEquals(buffer, expected);
+            assertEquals(new EncodedSizeCalculator().calculateMessageSize(request), expected.readableBytes());
+        }
+    }
+
+    @Test(description = "A templated request is written after whatever is already in the buffer.")
+    public void testWriteAfterExistingBytes() {
+        RequestTemplate template = RequestTemplate.encode(readRequest(null, DateTime.now(), uint(1)));
+
+        encoder.encodeInt32(null, 42);
+        encoder.encodeMessage(null, template.newRequest(DateTime.now(), uint(7)));
+
+        assertEquals((int) decoder.decodeInt32(null), 42);
+
+        ReadRequest decoded = (ReadRequest) decoder.decodeMessage(null);
+        assertEquals(decoded.getRequestHeader().getRequestHandle(), uint(7));
+        assertEquals(decoded.getNodesToRead().length, 3);
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    private static UaRequestMessage readRequest(NodeId authenticationToken, DateTime timestamp, UInteger handle) {
+        RequestHeader header = new RequestHeader(
+                authenticationToken, timestamp, handle, uint(0), null, uint(5000), null);
+
+        ReadValueId[] nodesToRead = new ReadValueId[3];
+        for (int i = 0; i < nodesToRead.length; i++) {
+            nodesToRead[i] = new ReadValueId(new NodeId(2, i), uint(13), null, QualifiedName.NULL_VALUE);
+        }
+
+        return new ReadRequest(header, 0.0, TimestampsToReturn.Both, nodesToRead);
+    }
+
+}
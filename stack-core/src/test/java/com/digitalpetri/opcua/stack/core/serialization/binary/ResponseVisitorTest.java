@@ -0,0 +1,233 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.EventFieldList;
+import com.digitalpetri.opcua.stack.core.types.structured.EventNotificationList;
+import com.digitalpetri.opcua.stack.core.types.structured.MonitoredItemNotification;
+import com.digitalpetri.opcua.stack.core.types.structured.NotificationMessage;
+import com.digitalpetri.opcua.stack.core.types.structured.PublishResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
+import com.digitalpetri.opcua.stack.core.types.structured.StatusChangeNotification;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ResponseVisitorTest extends BinarySerializationFixture {
+
+    private final ResponseHeader responseHeader = new ResponseHeader(
+            DateTime.now(), uint(1), StatusCode.GOOD, null, null, null);
+
+    @Test(description = "Every notification in a PublishResponse is visited, in order, and the whole message consumed.")
+    public void testPublishResponse() {
+        DataChangeNotification dataChange = new DataChangeNotification(
+                new MonitoredItemNotification[]{
+                        new MonitoredItemNotification(uint(10), new DataValue(new Variant(1.0))),
+                        new MonitoredItemNotification(uint(11), new DataValue(StatusCodes.Bad_NodeIdUnknown))
+                },
+                new DiagnosticInfo[]{new DiagnosticInfo(1, -1, -1, -1, null, null, null)}
+        );
+
+        EventNotificationList events = new EventNotificationList(new EventFieldList[]{
+                new EventFieldList(uint(20), new Variant[]{new Variant("a"), new Variant(2)}),
+                new EventFieldList(uint(21), new Variant[0])
+        });
+
+        StatusChangeNotification statusChange =
+                new StatusChangeNotification(new StatusCode(StatusCodes.Bad_Timeout), null);
+
+        ExtensionObject unknown = new ExtensionObject(ByteString.of(new byte[]{1, 2, 3}), new NodeId(2, 1234));
+
+        DateTime publishTime = DateTime.now();
+
+        NotificationMessage notificationMessage = new NotificationMessage(uint(7), publishTime, new ExtensionObject[]{
+                ExtensionObject.encode(dataChange),
+                ExtensionObject.encode(events),
+                ExtensionObject.encode(statusChange),
+                unknown
+        });
+
+        encoder.encodeMessage(null, new PublishResponse(
+                responseHeader, uint(3), new UInteger[]{uint(5), uint(6)}, true,
+                notificationMessage, new StatusCode[]{StatusCode.GOOD}, null));
+
+        List<String> visited = new ArrayList<>();
+
+        UaResponseMessage response = VisitedResponse.decode(decoder, new ResponseVisitor() {
+            @Override
+            public void visitResponseHeader(ResponseHeader responseHeader) {
+                visited.add("header " + responseHeader.getRequestHandle());
+            }
+
+            @Override
+            public void visitAvailableSequenceNumber(long sequenceNumber) {
+                visited.add("available " + sequenceNumber);
+            }
+
+            @Override
+            public void visitNotificationMessage(long subscriptionId,
+                                                 long sequenceNumber,
+                                                 DateTime publishTime,
+                                                 boolean moreNotifications) {
+
+                visited.add("message " + subscriptionId + " " + sequenceNumber + " " + moreNotifications);
+            }
+
+            @Override
+            public void visitDataChange(long clientHandle, DataValue value) {
+                visited.add("dataChange " + clientHandle + " " + value.getValue().getValue() + " " +
+                        value.getStatusCode().getValue());
+            }
+
+            @Override
+            public void visitNotificationDiagnosticInfo(int index, DiagnosticInfo diagnosticInfo) {
+                visited.add("notificationDiagnosticInfo " + index + " " + diagnosticInfo.getNamespaceUri());
+            }
+
+            @Override
+            public void visitEventFields(long clientHandle, int fieldCount) {
+                visited.add("event " + clientHandle + " " + fieldCount);
+            }
+
+            @Override
+            public void visitEventField(int index, Variant field) {
+                visited.add("field " + index + " " + field.getValue());
+            }
+
+            @Override
+            public void visitStatusChange(StatusCode status, DiagnosticInfo diagnosticInfo) {
+                visited.add("statusChange " + status.getValue());
+            }
+
+            @Override
+            public void visitNotificationData(ExtensionObject notificationData) {
+                visited.add("notificationData " + notificationData.getEncodingTypeId());
+            }
+
+            @Override
+            public void visitAcknowledgeResult(int index, StatusCode result) {
+                visited.add("result " + index + " " + result.getValue());
+            }
+        });
+
+        assertEquals(buffer.readableBytes(), 0);
+        assertTrue(response instanceof VisitedResponse);
+        assertEquals(response.getTypeId(), PublishResponse.TypeId);
+        assertEquals(response.getResponseHeader().getRequestHandle(), uint(1));
+
+        List<String> expected = new ArrayList<>();
+        expected.add("header 1");
+        expected.add("available 5");
+        expected.add("available 6");
+        expected.add("message 3 7 true");
+        expected.add("dataChange 10 1.0 0");
+        expected.add("dataChange 11 null " + StatusCodes.Bad_NodeIdUnknown);
+        expected.add("notificationDiagnosticInfo 0 1");
+        expected.add("event 20 2");
+        expected.add("field 0 a");
+        expected.add("field 1 2");
+        expected.add("event 21 0");
+        expected.add("statusChange " + StatusCodes.Bad_Timeout);
+        expected.add("notificationData " + unknown.getEncodingTypeId());
+        expected.add("result 0 0");
+
+        assertEquals(visited, expected);
+    }
+
+    @Test(description = "The Results of a ReadResponse and BrowseResponse are visited one at a time.")
+    public void testReadAndBrowseResponse() {
+        DataValue[] values = {new DataValue(new Variant(1)), new DataValue(new Variant("two"))};
+
+        encoder.encodeMessage(null, new ReadResponse(responseHeader, values, null));
+        encoder.encodeMessage(null, new BrowseResponse(responseHeader, new BrowseResult[]{
+                new BrowseResult(StatusCode.BAD, null, null)
+        }, new DiagnosticInfo[]{new DiagnosticInfo(2, -1, -1, -1, null, null, null)}));
+
+        List<Object> visited = new ArrayList<>();
+
+        ResponseVisitor visitor = new ResponseVisitor() {
+            @Override
+            public void visitReadResult(int index, DataValue value) {
+                visited.add(value.getValue().getValue());
+            }
+
+            @Override
+            public void visitBrowseResult(int index, BrowseResult result) {
+                visited.add(result.getStatusCode());
+            }
+
+            @Override
+            public void visitDiagnosticInfo(int index, DiagnosticInfo diagnosticInfo) {
+                visited.add(diagnosticInfo.getNamespaceUri());
+            }
+        };
+
+        assertEquals(VisitedResponse.decode(decoder, visitor).getTypeId(), ReadResponse.TypeId);
+        assertEquals(VisitedResponse.decode(decoder, visitor).getTypeId(), BrowseResponse.TypeId);
+        assertEquals(buffer.readableBytes(), 0);
+
+        List<Object> expected = new ArrayList<>();
+        expected.add(1);
+        expected.add("two");
+        expected.add(StatusCode.BAD);
+        expected.add(2);
+
+        assertEquals(visited, expected);
+    }
+
+    @Test(description = "A notification body that is longer than its contents is rejected.",
+            expectedExceptions = UaSerializationException.class)
+    public void testNotificationLengthMismatch() {
+        ByteString body = ByteString.of(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0});
+        ExtensionObject statusChange = new ExtensionObject(body, StatusChangeNotification.BinaryEncodingId);
+
+        encoder.encodeMessage(null, new PublishResponse(
+                responseHeader, uint(3), null, false,
+                new NotificationMessage(uint(1), DateTime.now(), new ExtensionObject[]{statusChange}), null, null));
+
+        VisitedResponse.decode(decoder, new ResponseVisitor() {});
+    }
+
+    @Test(description = "Other responses, e.g. a ServiceFault, are decoded as usual.")
+    public void testServiceFault() {
+        encoder.encodeMessage(null, new ServiceFault(responseHeader));
+
+        assertTrue(VisitedResponse.decode(decoder, new ResponseVisitor() {}) instanceof ServiceFault);
+    }
+
+}
@@ -16,6 +16,12 @@
 
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -29,7 +35,10 @@ public class StringSerializationTest extends BinarySerializationFixture {
                 {null},
                 {""},
                 {"Hello, world!"},
-                {"水Boy"}
+                {"水Boy"},
+                {"\u00e9t\u00e9 \ud83d\ude00 caf\u00e9"},
+                {Strings.repeat("abcdefghij", 500)},
+                {Strings.repeat("\u6c34\u00e9\ud83d\ude00a", 500)}
         };
     }
 
@@ -41,4 +50,43 @@ public class StringSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, value);
     }
 
+    @Test(dataProvider = "StringProvider")
+    public void testStringEncodedLikeGetBytes(String value) {
+        encoder.encodeString(null, value);
+
+        if (value == null) {
+            assertEquals(buffer.readInt(), -1);
+        } else {
+            byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            byte[] actual = new byte[buffer.readInt()];
+            buffer.readBytes(actual);
+
+            assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogateReplaced() {
+        String value = "a\ud83db\ude00c\ud83d";
+
+        encoder.encodeString(null, value);
+        String decoded = decoder.decodeString(null);
+
+        assertEquals(decoded, new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+    }
+
+    @Test(dataProvider = "StringProvider")
+    public void testStringRoundTripDirectBuffer(String value) {
+        ByteBuf directBuffer = Unpooled.directBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            new BinaryEncoder().setBuffer(directBuffer).encodeString(null, value);
+            String decoded = new BinaryDecoder().setBuffer(directBuffer).decodeString(null);
+
+            assertEquals(decoded, value);
+        } finally {
+            directBuffer.release();
+        }
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.binary;
+
+import java.nio.ByteOrder;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.serialization.DecoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.EncoderDelegate;
+import com.digitalpetri.opcua.stack.core.serialization.UaStructure;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.BrowseResult;
+import com.digitalpetri.opcua.stack.core.types.structured.DataChangeFilter;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceNode;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.VariableNode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertTrue;
+
+public class StructureCodecSerializationTest extends BinarySerializationFixture {
+
+    @DataProvider
+    public Object[][] getStructures() {
+        RequestHeader requestHeader = new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(10000), null);
+
+        ReadValueId[] nodesToRead = {
+                new ReadValueId(Identifiers.Server_ServerStatus_CurrentTime, AttributeId.Value.uid(), null, null),
+                new ReadValueId(new NodeId(2, "foo"), AttributeId.DisplayName.uid(), "0:1", new QualifiedName(0, "Default Binary"))
+        };
+
+        ReferenceDescription[] references = {
+                new ReferenceDescription(
+                        Identifiers.Organizes, true, new ExpandedNodeId(Identifiers.Server),
+                        new QualifiedName(0, "Server"), LocalizedText.english("Server"),
+                        NodeClass.Object, new ExpandedNodeId(Identifiers.ServerType))
+        };
+
+        ReferenceNode[] referenceNodes = {
+                new ReferenceNode(Identifiers.HasTypeDefinition, false, new ExpandedNodeId(Identifiers.BaseDataVariableType))
+        };
+
+        return new Object[][]{
+                {new ReadRequest(requestHeader, 0.0, TimestampsToReturn.Both, nodesToRead)},
+                {new ReadRequest(null, 0.0, null, null)},
+                {new BrowseResult(StatusCode.GOOD, null, references)},
+                {new DataChangeFilter(DataChangeTrigger.StatusValueTimestamp, uint(1), 0.5)},
+                {new VariableNode(new NodeId(2, "bar"), NodeClass.Variable, new QualifiedName(2, "bar"),
+                        LocalizedText.english("bar"), null, uint(0), uint(0), referenceNodes, new Variant(42),
+                        Identifiers.Int32, -1, null, ubyte(1), ubyte(1), 0.0, false)}
+        };
+    }
+
+    @Test(dataProvider = "getStructures",
+            description = "Binary codecs produce the same bytes as the generic delegates.")
+    public void testBinaryCodecMatchesGenericDelegate(UaStructure structure) {
+        encoder.encodeMessage(null, structure);
+
+        ByteBuf expected = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        BinaryEncoder genericEncoder = new BinaryEncoder().setBuffer(expected);
+        EncoderDelegate<UaStructure> delegate = DelegateRegistry.getEncoder(structure.getClass());
+        genericEncoder.encodeNodeId(null, structure.getBinaryEncodingId());
+        delegate.encode(structure, genericEncoder);
+
+        assertTrue(ByteBufUtil.equals(buffer, expected));
+    }
+
+    @Test(dataProvider = "getStructures",
+            description = "Binary codecs decode the same values as the generic delegates.")
+    public void testBinaryCodecMatchesGenericDecoder(UaStructure structure) {
+        encoder.encodeMessage(null, structure);
+        ByteBuf encoded = buffer.copy();
+
+        UaStructure decoded = decoder.decodeMessage(null);
+
+        BinaryDecoder genericDecoder = new BinaryDecoder().setBuffer(encoded);
+        genericDecoder.decodeNodeId(null);
+        DecoderDelegate<? extends UaStructure> delegate = DelegateRegistry.getDecoder(structure.getClass());
+        UaStructure expected = delegate.decode(genericDecoder);
+
+        assertTrue(ByteBufUtil.equals(encode(decoded), encode(expected)));
+    }
+
+    private static ByteBuf encode(UaStructure structure) {
+        ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        new BinaryEncoder().setBuffer(buffer).encodeMessage(null, structure);
+        return buffer;
+    }
+
+}
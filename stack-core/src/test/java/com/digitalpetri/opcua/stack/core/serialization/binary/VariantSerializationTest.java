@@ -16,16 +16,33 @@
 
 package com.digitalpetri.opcua.stack.core.serialization.binary;
 
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UByte;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.ULong;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UShort;
 import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
 
 public class VariantSerializationTest extends BinarySerializationFixture {
 
@@ -94,4 +111,183 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, expected);
     }
 
+    @DataProvider(name = "BulkArrayVariantProvider")
+    public Object[][] getBulkArrayVariants() {
+        return new Object[][]{
+                {new Variant(new boolean[]{true, false, true}),
+                        new Variant(new Boolean[]{true, false, true})},
+
+                {new Variant(new byte[]{-1, 0, 1}),
+                        new Variant(new Byte[]{-1, 0, 1})},
+
+                {new Variant(new short[]{Short.MIN_VALUE, 0, Short.MAX_VALUE}),
+                        new Variant(new Short[]{Short.MIN_VALUE, 0, Short.MAX_VALUE})},
+
+                {new Variant(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE}),
+                        new Variant(new Integer[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE})},
+
+                {new Variant(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE}),
+                        new Variant(new Long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE})},
+
+                {new Variant(new float[]{Float.MIN_VALUE, 0f, Float.NaN}),
+                        new Variant(new Float[]{Float.MIN_VALUE, 0f, Float.NaN})},
+
+                {new Variant(new double[]{Double.MIN_VALUE, 0d, Double.NEGATIVE_INFINITY}),
+                        new Variant(new Double[]{Double.MIN_VALUE, 0d, Double.NEGATIVE_INFINITY})},
+
+                {new Variant(new double[][]{{0d, 1d, 2d}, {3d, 4d, 5d}}),
+                        new Variant(new Double[][]{{0d, 1d, 2d}, {3d, 4d, 5d}})},
+
+                {new Variant(new double[0]),
+                        new Variant(new Double[0])}
+        };
+    }
+
+    @Test(dataProvider = "BulkArrayVariantProvider")
+    public void testBulkArrayVariantRoundTrip(Variant primitive, Variant boxed) {
+        encoder.encodeVariant(null, primitive);
+        encoder.encodeVariant(null, boxed);
+        int encodedLength = buffer.readableBytes();
+
+        assertEquals(decoder.decodeVariant(null), boxed);
+        assertEquals(decoder.decodeVariant(null), boxed);
+
+        buffer.readerIndex(0);
+        decoder.setDecodePrimitiveArrays(true);
+
+        assertEquals(decoder.decodeVariant(null), primitive);
+        assertEquals(decoder.decodeVariant(null), primitive);
+        assertEquals(buffer.readerIndex(), encodedLength);
+    }
+
+    @Test
+    public void testUnsignedArrayVariantRoundTrip() {
+        Variant[] variants = {
+                new Variant(new UByte[]{ubyte(0), ubyte(255)}),
+                new Variant(new UShort[]{ushort(0), ushort(65535)}),
+                new Variant(new UInteger[]{uint(0), uint(4294967295L)}),
+                new Variant(new ULong[]{ulong(0), ulong(Long.MAX_VALUE)})
+        };
+
+        decoder.setDecodePrimitiveArrays(true);
+
+        for (Variant variant : variants) {
+            encoder.encodeVariant(null, variant);
+
+            assertEquals(decoder.decodeVariant(null), variant);
+        }
+    }
+
+    @Test(description = "Bulk array paths fall back to element-at-a-time when the buffer isn't contiguous.")
+    public void testBulkArrayVariantCompositeBuffer() {
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0.5;
+        }
+
+        ByteBuf encoded = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+        new BinaryEncoder().setBuffer(encoded).encodeVariant(null, new Variant(values));
+
+        CompositeByteBuf composite = Unpooled.compositeBuffer();
+        composite.addComponent(encoded.readSlice(1001));
+        composite.addComponent(encoded.readSlice(encoded.readableBytes()));
+        composite.writerIndex(composite.capacity());
+
+        Variant decoded = new BinaryDecoder()
+                .setDecodePrimitiveArrays(true)
+                .setBuffer(composite.order(ByteOrder.LITTLE_ENDIAN))
+                .decodeVariant(null);
+
+        assertEquals(decoded, new Variant(values));
+    }
+
+    @Test(description = "A Matrix is encoded the same as the nested array it represents.")
+    public void testMatrixEncodesAsNestedArray() {
+        double[][][] nested = new double[2][3][4];
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 3; j++) {
+                for (int k = 0; k < 4; k++) {
+                    nested[i][j][k] = i * 100 + j * 10 + k;
+                }
+            }
+        }
+
+        Matrix matrix = Matrix.of(nested);
+        assertEquals(matrix.get(1, 2, 3), 123.0);
+
+        encoder.encodeVariant(null, new Variant(nested));
+        byte[] nestedBytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(nestedBytes);
+
+        encoder.encodeVariant(null, new Variant(matrix));
+        byte[] matrixBytes = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), matrixBytes);
+
+        assertEquals(matrixBytes, nestedBytes);
+
+        EncodedSizeCalculator calculator = new EncodedSizeCalculator();
+        calculator.encodeVariant(null, new Variant(matrix));
+        assertEquals(calculator.getSize(), matrixBytes.length);
+
+        Variant decoded = decoder
+                .setDecodeMatrices(true)
+                .setDecodePrimitiveArrays(true)
+                .decodeVariant(null);
+
+        assertEquals(decoded.getValue(), matrix);
+        assertEquals(((Matrix) decoded.getValue()).toNestedArray(), nested);
+    }
+
+    @Test(description = "Multi-dimensional arrays decode to nested arrays unless matrices are enabled.")
+    public void testMatrixDecodesAsNestedArray() {
+        Matrix matrix = new Matrix(new String[]{"a", "b", "c", "d", "e", "f"}, 3, 2);
+
+        encoder.encodeVariant(null, new Variant(matrix));
+        Variant decoded = decoder.decodeVariant(null);
+
+        assertEquals(decoded, new Variant(new String[][]{{"a", "b"}, {"c", "d"}, {"e", "f"}}));
+    }
+
+    @DataProvider
+    public Object[][] getInvalidDimensions() {
+        return new Object[][]{
+                {4, new int[]{-2, -2}, StatusCodes.Bad_DecodingError},
+                {4, new int[]{4, 1, 0}, StatusCodes.Bad_DecodingError},
+                {4, new int[]{2, 3}, StatusCodes.Bad_DecodingError},
+                {4, new int[]{65536, 65536, 65536, 65536}, StatusCodes.Bad_DecodingError},
+                {0, new int[]{Integer.MAX_VALUE, 0}, StatusCodes.Bad_EncodingLimitsExceeded},
+        };
+    }
+
+    @Test(dataProvider = "getInvalidDimensions")
+    public void testInvalidDimensions(int length, int[] dimensions, long statusCode) {
+        writeInt32Matrix(length, dimensions);
+
+        try {
+            decoder.decodeVariant(null);
+            fail("expected dimensions " + Arrays.toString(dimensions) + " to be rejected");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), statusCode);
+        }
+    }
+
+    @Test(description = "A 0 dimension is allowed when the array is empty.")
+    public void testEmptyDimension() {
+        writeInt32Matrix(0, new int[]{0, 3});
+
+        assertEquals(decoder.decodeVariant(null), new Variant(new Integer[0][]));
+    }
+
+    private void writeInt32Matrix(int length, int[] dimensions) {
+        encoder.encodeByte(null, ubyte(6 | 0x40 | 0x80));
+        encoder.encodeInt32(null, length);
+        for (int i = 0; i < length; i++) {
+            encoder.encodeInt32(null, i);
+        }
+        encoder.encodeInt32(null, dimensions.length);
+        for (int dimension : dimensions) {
+            encoder.encodeInt32(null, dimension);
+        }
+    }
+
 }
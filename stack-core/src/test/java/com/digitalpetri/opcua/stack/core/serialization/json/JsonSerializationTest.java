@@ -0,0 +1,381 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.digitalpetri.opcua.stack.core.serialization.json;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.DiagnosticInfo;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.Matrix;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
+import com.digitalpetri.opcua.stack.core.types.structured.ReferenceDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class JsonSerializationTest {
+
+    private final ByteBuf buffer = Unpooled.buffer();
+
+    private final JsonEncoder encoder = new JsonEncoder(buffer);
+    private final JsonDecoder decoder = new JsonDecoder(buffer);
+
+    @BeforeMethod
+    public void resetBuffer() {
+        buffer.clear();
+        encoder.setBuffer(buffer);
+        decoder.setDecodeMatrices(false);
+    }
+
+    @Test
+    public void testPrimitives() {
+        String json = json(e -> {
+            e.writeBoolean(null, true);
+            e.writeInt32(null, -42);
+            e.writeUInt32(null, 0xFFFFFFFFL);
+            e.writeInt64(null, Long.MIN_VALUE);
+            e.writeUInt64(null, -1L);
+            e.writeDouble(null, 1.5);
+            e.writeDouble(null, Double.NaN);
+            e.writeFloat(null, Float.NEGATIVE_INFINITY);
+        });
+
+        assertEquals(json, "true\n-42\n4294967295\n\"-9223372036854775808\"\n\"18446744073709551615\"\n1.5\n\"NaN\"\n\"-Infinity\"");
+
+        assertEquals(decoder.readBoolean(null), true);
+        assertEquals(decoder.readInt32(null), -42);
+        assertEquals(decoder.readUInt32AsLong(null), 0xFFFFFFFFL);
+        assertEquals(decoder.readInt64(null), Long.MIN_VALUE);
+        assertEquals(decoder.decodeUInt64(null), ulong(-1L));
+        assertEquals(decoder.readDouble(null), 1.5);
+        assertTrue(Double.isNaN(decoder.readDouble(null)));
+        assertEquals(decoder.readFloat(null), Float.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    public void testStructureMembers() {
+        ReadValueId readValueId = new ReadValueId(new NodeId(2, "foo"), uint(13), null, new QualifiedName(1, "bar"));
+
+        String json = json(e -> e.encodeSerializable(null, readValueId));
+
+        assertEquals(json, "{\"NodeId\":{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":2},\"AttributeId\":13," +
+                "\"DataEncoding\":{\"Name\":\"bar\",\"Uri\":1}}");
+
+        ReadValueId decoded = decoder.decodeSerializable(null, ReadValueId.class);
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+        assertEquals(decoded.getAttributeId(), readValueId.getAttributeId());
+        assertNull(decoded.getIndexRange());
+        assertEquals(decoded.getDataEncoding(), readValueId.getDataEncoding());
+    }
+
+    @Test(description = "Unknown members are skipped and missing members decode as null.")
+    public void testUnknownAndMissingMembers() {
+        write("{\"NodeId\":{\"Id\":85},\"Extra\":[1,{\"a\":\"}\\\"\"}],\"IndexRange\":\"1\"}");
+
+        ReadValueId decoded = decoder.decodeSerializable(null, ReadValueId.class);
+        assertEquals(decoded.getNodeId(), new NodeId(0, 85));
+        assertEquals(decoded.getAttributeId(), uint(0));
+        assertNull(decoded.getDataEncoding());
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "Members that aren't in the order the structure declares its fields are found by name.")
+    public void testReorderedMembers() {
+        write("{\"DataEncoding\":{\"Name\":\"bar\",\"Uri\":1},\"IndexRange\":\"1:2\"," +
+                "\"AttributeId\":13,\"NodeId\":{\"Id\":85}}");
+
+        ReadValueId decoded = decoder.decodeSerializable(null, ReadValueId.class);
+        assertEquals(decoded.getNodeId(), new NodeId(0, 85));
+        assertEquals(decoded.getAttributeId(), uint(13));
+        assertEquals(decoded.getIndexRange(), "1:2");
+        assertEquals(decoded.getDataEncoding(), new QualifiedName(1, "bar"));
+        assertEquals(buffer.readableBytes(), 0);
+
+        write("{\"NodesToRead\":[{\"AttributeId\":13,\"NodeId\":{\"Id\":85}}],\"MaxAge\":100.0}");
+
+        ReadRequest request = decoder.decodeSerializable(null, ReadRequest.class);
+        assertEquals(request.getMaxAge(), 100.0);
+        assertEquals(request.getNodesToRead().length, 1);
+        assertEquals(request.getNodesToRead()[0].getNodeId(), new NodeId(0, 85));
+        assertEquals(request.getNodesToRead()[0].getAttributeId(), uint(13));
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @DataProvider
+    public Object[][] getStrings() {
+        return new Object[][]{
+                {"", "\"\""},
+                {"hello", "\"hello\""},
+                {"quote\" backslash\\ newline\n tab\t nul\u0000", "\"quote\\\" backslash\\\\ newline\\n tab\\t nul\\u0000\""},
+                {"é€😀", "\"é€😀\""}
+        };
+    }
+
+    @Test(dataProvider = "getStrings")
+    public void testString(String value, String expected) {
+        assertEquals(json(e -> e.encodeString(null, value)), expected);
+        assertEquals(decoder.decodeString(null), value);
+    }
+
+    @DataProvider
+    public Object[][] getDateTimes() {
+        return new Object[][]{
+                {DateTime.MIN_VALUE, "\"0001-01-01T00:00:00Z\""},
+                {new DateTime(116444736000000000L), "\"1970-01-01T00:00:00Z\""},
+                {new DateTime(131026347001234567L), "\"2016-03-16T20:45:00.1234567Z\""},
+                {new DateTime(131026347005000000L), "\"2016-03-16T20:45:00.5Z\""},
+                {new DateTime(Long.MAX_VALUE), "\"9999-12-31T23:59:59Z\""}
+        };
+    }
+
+    @Test(dataProvider = "getDateTimes")
+    public void testDateTime(DateTime value, String expected) {
+        assertEquals(json(e -> e.encodeDateTime(null, value)), expected);
+        assertEquals(decoder.decodeDateTime(null), value);
+    }
+
+    @Test(description = "Timestamps with an offset or more than 7 fractional digits are accepted.")
+    public void testDateTimeParsing() {
+        write("\"2016-03-16T21:45:00.1234567+01:00\"");
+        assertEquals(decoder.decodeDateTime(null), new DateTime(131026347001234567L));
+
+        write("\"2016-03-16T20:45:00.123456789Z\"");
+        assertEquals(decoder.decodeDateTime(null), new DateTime(131026347001234567L));
+
+        write("\"1200-01-01T00:00:00Z\"");
+        assertEquals(decoder.decodeDateTime(null), DateTime.MIN_VALUE);
+    }
+
+    @DataProvider
+    public Object[][] getVariants() {
+        return new Object[][]{
+                {new Variant(42)},
+                {new Variant("foo")},
+                {new Variant(new String[]{"a", null, "c"})},
+                {new Variant(new Double[]{1.0, 2.5})},
+                {new Variant(new Integer[][]{{1, 2, 3}, {4, 5, 6}})},
+                {new Variant(uint(1))},
+                {new Variant(ulong(Long.MAX_VALUE))},
+                {new Variant(UUID.randomUUID())},
+                {new Variant(ByteString.of(new byte[]{1, 2, 3}))},
+                {new Variant(XmlElement.of("<a/>"))},
+                {new Variant(new NodeId(1, UUID.randomUUID()))},
+                {new Variant(new NodeId(3, ByteString.of(new byte[]{4, 5})))},
+                {new Variant(new ExpandedNodeId(ushort(0), uint(42), "urn:foo", 2))},
+                {new Variant(new StatusCode(0x80000000L))},
+                {new Variant(new QualifiedName(2, "bar"))},
+                {new Variant(LocalizedText.english("hello"))},
+                {new Variant(new Variant[]{new Variant(1), new Variant("two")})}
+        };
+    }
+
+    @Test(dataProvider = "getVariants", description = "Variant is round-trip serializable.")
+    public void testVariantRoundTrip(Variant variant) {
+        encoder.encodeVariant(null, variant);
+
+        assertEquals(decoder.decodeVariant(null), variant);
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test
+    public void testVariantEncoding() {
+        assertEquals(json(e -> e.encodeVariant(null, new Variant(new int[][]{{1, 2}, {3, 4}}))),
+                "{\"Type\":6,\"Body\":[1,2,3,4],\"Dimensions\":[2,2]}");
+
+        decoder.setDecodeMatrices(true);
+        Matrix matrix = (Matrix) decoder.decodeVariant(null).getValue();
+        assertEquals(matrix.getDimensions(), new int[]{2, 2});
+        assertEquals(matrix.getElements(), new Integer[]{1, 2, 3, 4});
+
+        assertEquals(json(e -> e.encodeVariant(null, new Variant(NodeClass.Method))), "{\"Type\":6,\"Body\":4}");
+        assertEquals(decoder.decodeVariant(null), new Variant(4));
+    }
+
+    @Test(expectedExceptions = UaSerializationException.class)
+    public void testVariantDimensionsMismatch() {
+        write("{\"Type\":6,\"Body\":[1,2,3],\"Dimensions\":[2,2]}");
+
+        decoder.decodeVariant(null);
+    }
+
+    @Test(description = "Negative dimensions, and 0 dimensions of a non-empty array, are rejected.")
+    public void testVariantInvalidDimensions() {
+        for (String dimensions : new String[]{"[-2,-2]", "[4,1,0]"}) {
+            write("{\"Type\":6,\"Body\":[1,2,3,4],\"Dimensions\":" + dimensions + "}");
+
+            try {
+                decoder.decodeVariant(null);
+                fail("expected dimensions " + dimensions + " to be rejected");
+            } catch (UaSerializationException e) {
+                assertEquals(e.getStatusCode(), StatusCodes.Bad_DecodingError);
+            }
+        }
+
+        write("{\"Type\":6,\"Body\":[],\"Dimensions\":[0,3]}");
+        assertEquals(decoder.decodeVariant(null), new Variant(new Integer[0][]));
+    }
+
+    @Test
+    public void testDataValue() {
+        DataValue dataValue = new DataValue(
+                new Variant(3.14),
+                new StatusCode(0x40000000L),
+                new DateTime(131026347001234567L),
+                ushort(10),
+                new DateTime(131026347005000000L),
+                null);
+
+        assertEquals(json(e -> e.encodeDataValue(null, dataValue)),
+                "{\"Value\":{\"Type\":11,\"Body\":3.14},\"Status\":1073741824," +
+                        "\"SourceTimestamp\":\"2016-03-16T20:45:00.1234567Z\",\"SourcePicoseconds\":10," +
+                        "\"ServerTimestamp\":\"2016-03-16T20:45:00.5Z\"}");
+
+        DataValue decoded = decoder.decodeDataValue(null);
+        assertEquals(decoded.getValue(), dataValue.getValue());
+        assertEquals(decoded.getStatusCode(), dataValue.getStatusCode());
+        assertEquals(decoded.getSourceTime(), dataValue.getSourceTime());
+        assertEquals(decoded.getSourcePicoseconds(), dataValue.getSourcePicoseconds());
+        assertEquals(decoded.getServerTime(), dataValue.getServerTime());
+        assertNull(decoded.getServerPicoseconds());
+    }
+
+    @Test
+    public void testDiagnosticInfo() {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(1, 2, -1, 3, "info", StatusCode.BAD,
+                new DiagnosticInfo(-1, 4, -1, -1, null, null, null));
+
+        encoder.encodeDiagnosticInfo(null, diagnosticInfo);
+        DiagnosticInfo decoded = decoder.decodeDiagnosticInfo(null);
+
+        assertEquals(decoded.getNamespaceUri(), 1);
+        assertEquals(decoded.getSymbolicId(), 2);
+        assertEquals(decoded.getLocale(), -1);
+        assertEquals(decoded.getLocalizedText(), 3);
+        assertEquals(decoded.getAdditionalInfo(), "info");
+        assertEquals(decoded.getInnerStatusCode(), StatusCode.BAD);
+        assertEquals(decoded.getInnerDiagnosticInfo().getSymbolicId(), 4);
+        assertNull(decoded.getInnerDiagnosticInfo().getInnerDiagnosticInfo());
+    }
+
+    @Test(description = "ExtensionObject structure bodies are written as JSON and identified by their DataType id.")
+    public void testExtensionObject() {
+        ReadValueId readValueId = new ReadValueId(new NodeId(0, 2255), uint(13), null, null);
+
+        String json = json(e -> e.encodeExtensionObject(null, ExtensionObject.encode(readValueId)));
+        assertEquals(json, "{\"TypeId\":{\"Id\":626},\"Body\":{\"NodeId\":{\"Id\":2255},\"AttributeId\":13}}");
+
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+        assertEquals(decoded.getEncodingTypeId(), readValueId.getBinaryEncodingId());
+        assertEquals(decoded, ExtensionObject.encode(readValueId));
+
+        ExtensionObject opaque = new ExtensionObject(ByteString.of(new byte[]{1, 2, 3}), new NodeId(2, 42));
+        json = json(e -> e.encodeExtensionObject(null, opaque));
+        assertEquals(json, "{\"TypeId\":{\"Id\":42,\"Namespace\":2},\"Encoding\":1,\"Body\":\"AQID\"}");
+        assertEquals(decoder.decodeExtensionObject(null), opaque);
+    }
+
+    @Test(description = "Messages round-trip through encodeMessage and decodeMessage.")
+    public void testMessageRoundTrip() {
+        RequestHeader requestHeader = new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(10000), null);
+
+        ReadRequest request = new ReadRequest(requestHeader, 0.0, TimestampsToReturn.Both, new ReadValueId[]{
+                new ReadValueId(new NodeId(2, "foo"), uint(13), null, QualifiedName.NULL_VALUE)
+        });
+
+        ResponseHeader responseHeader = new ResponseHeader(
+                DateTime.now(), uint(1), StatusCode.GOOD, null, new String[0], null);
+
+        ReadResponse response = new ReadResponse(responseHeader, new DataValue[]{
+                new DataValue(new Variant(1.0), StatusCode.GOOD, DateTime.now()),
+                new DataValue(new Variant(new ReferenceDescription[]{
+                        new ReferenceDescription(new NodeId(0, 35), true, new ExpandedNodeId(new NodeId(0, 85)),
+                                new QualifiedName(0, "Objects"), LocalizedText.english("Objects"),
+                                NodeClass.Object, new ExpandedNodeId(new NodeId(0, 61)))
+                }))
+        }, null);
+
+        String requestJson = json(e -> e.encodeMessage(null, request));
+        ReadRequest decodedRequest = decoder.decodeMessage(null);
+        assertEquals(json(e -> e.encodeMessage(null, decodedRequest)), requestJson);
+
+        String responseJson = json(e -> e.encodeMessage(null, response));
+        ReadResponse decodedResponse = decoder.decodeMessage(null);
+        assertEquals(json(e -> e.encodeMessage(null, decodedResponse)), responseJson);
+    }
+
+    @Test(description = "Top-level values are written to an OutputStream as they complete, one per line.")
+    public void testOutputStream() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonEncoder streamEncoder = new JsonEncoder(outputStream);
+
+        streamEncoder.encodeDataValue(null, new DataValue(new Variant(1), StatusCode.GOOD, null, null));
+        assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), "{\"Value\":{\"Type\":6,\"Body\":1}}");
+
+        streamEncoder.encodeDataValue(null, new DataValue(new Variant(2), StatusCode.GOOD, null, null));
+        assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8),
+                "{\"Value\":{\"Type\":6,\"Body\":1}}\n{\"Value\":{\"Type\":6,\"Body\":2}}");
+
+        write(new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(decoder.decodeDataValue(null).getValue(), new Variant(1));
+        assertEquals(decoder.decodeDataValue(null).getValue(), new Variant(2));
+    }
+
+    private String json(Consumer<JsonEncoder> c) {
+        buffer.clear();
+        encoder.setBuffer(buffer);
+        c.accept(encoder);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private void write(String json) {
+        buffer.clear();
+        buffer.writeBytes(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
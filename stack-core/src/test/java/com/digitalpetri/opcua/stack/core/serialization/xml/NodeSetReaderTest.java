@@ -0,0 +1,232 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack.core.serialization.xml;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.digitalpetri.opcua.stack.core.AttributeId;
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.UaException;
+import com.digitalpetri.opcua.stack.core.types.builtin.LocalizedText;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
+import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
+import com.digitalpetri.opcua.stack.core.types.builtin.unsigned.UInteger;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import org.testng.annotations.Test;
+
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class NodeSetReaderTest {
+
+    private static final String NODE_SET =
+            "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n" +
+                    "<UANodeSet xmlns=\"http://opcfoundation.org/UA/2011/03/UANodeSet.xsd\"\n" +
+                    "           xmlns:uax=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">\n" +
+                    "  <NamespaceUris>\n" +
+                    "    <Uri>urn:test:boiler</Uri>\n" +
+                    "  </NamespaceUris>\n" +
+                    "  <Models>\n" +
+                    "    <Model ModelUri=\"urn:test:boiler\"><RequiredModel ModelUri=\"http://opcfoundation.org/UA/\"/></Model>\n" +
+                    "  </Models>\n" +
+                    "  <Aliases>\n" +
+                    "    <Alias Alias=\"Int32\">i=6</Alias>\n" +
+                    "    <Alias Alias=\"HasComponent\">i=47</Alias>\n" +
+                    "  </Aliases>\n" +
+                    "  <UAObject NodeId=\"ns=1;i=1000\" BrowseName=\"1:Boiler\" EventNotifier=\"1\">\n" +
+                    "    <DisplayName>Boiler</DisplayName>\n" +
+                    "    <DisplayName Locale=\"de\">Kessel</DisplayName>\n" +
+                    "    <Documentation>Not an attribute.</Documentation>\n" +
+                    "    <References>\n" +
+                    "      <Reference ReferenceType=\"HasComponent\">ns=1;i=1001</Reference>\n" +
+                    "      <Reference ReferenceType=\"i=35\" IsForward=\"false\">i=85</Reference>\n" +
+                    "    </References>\n" +
+                    "  </UAObject>\n" +
+                    "  <UAVariable NodeId=\"ns=1;i=1001\" BrowseName=\"1:Level:Max\" ParentNodeId=\"ns=1;i=1000\"\n" +
+                    "              DataType=\"Int32\" ValueRank=\"1\" ArrayDimensions=\"2\" AccessLevel=\"3\">\n" +
+                    "    <DisplayName>Level</DisplayName>\n" +
+                    "    <References>\n" +
+                    "      <Reference ReferenceType=\"HasComponent\" IsForward=\"false\">ns=1;i=1000</Reference>\n" +
+                    "    </References>\n" +
+                    "    <Value>\n" +
+                    "      <uax:ListOfInt32><uax:Int32>1</uax:Int32><uax:Int32>2</uax:Int32></uax:ListOfInt32>\n" +
+                    "    </Value>\n" +
+                    "  </UAVariable>\n" +
+                    "  <UAVariable NodeId=\"ns=1;s=Names\" BrowseName=\"1:Names\">\n" +
+                    "    <DisplayName>Names</DisplayName>\n" +
+                    "    <Value>\n" +
+                    "      <uax:ListOfLocalizedText>\n" +
+                    "        <uax:LocalizedText><uax:Locale></uax:Locale><uax:Text>Numeric</uax:Text></uax:LocalizedText>\n" +
+                    "        <uax:LocalizedText><uax:Locale/><uax:Text>String</uax:Text></uax:LocalizedText>\n" +
+                    "      </uax:ListOfLocalizedText>\n" +
+                    "    </Value>\n" +
+                    "  </UAVariable>\n" +
+                    "  <UAMethod NodeId=\"ns=1;i=1002\" BrowseName=\"1:Reset\" UserExecutable=\"false\"/>\n" +
+                    "  <UAReferenceType NodeId=\"ns=1;i=1003\" BrowseName=\"1:Feeds\">\n" +
+                    "    <DisplayName>Feeds</DisplayName>\n" +
+                    "    <InverseName>FedBy</InverseName>\n" +
+                    "  </UAReferenceType>\n" +
+                    "</UANodeSet>\n";
+
+    @Test
+    public void testRead() throws UaException {
+        List<String> namespaceUris = new ArrayList<>();
+        List<NodeSetNode> nodes = new ArrayList<>();
+        List<NodeSetReference> references = new ArrayList<>();
+
+        NodeSetReader.read(new ByteArrayInputStream(NODE_SET.getBytes(StandardCharsets.UTF_8)), new NodeSetHandler() {
+            @Override
+            public void onNamespaceUris(List<String> uris) {
+                namespaceUris.addAll(uris);
+            }
+
+            @Override
+            public void onReference(NodeSetReference reference) {
+                references.add(reference);
+            }
+
+            @Override
+            public void onNode(NodeSetNode node) {
+                nodes.add(node);
+            }
+        });
+
+        assertEquals(namespaceUris, Collections.singletonList("urn:test:boiler"));
+        assertEquals(nodes.size(), 5);
+        assertEquals(references.size(), 3);
+
+        NodeSetNode boiler = nodes.get(0);
+        assertEquals(boiler.getNodeClass(), NodeClass.Object);
+        assertEquals(boiler.getNodeId(), new NodeId(1, 1000));
+        assertEquals(boiler.getBrowseName(), new QualifiedName(1, "Boiler"));
+        assertEquals(boiler.getDisplayName(), new LocalizedText(null, "Boiler"));
+        assertEquals(boiler.getAttribute(AttributeId.EventNotifier).get(), ubyte(1));
+        assertEquals(boiler.getAttribute(AttributeId.Description).get(), LocalizedText.NULL_VALUE);
+        assertFalse(boiler.getAttribute(AttributeId.Value).isPresent());
+
+        NodeSetReference hasComponent = references.get(0);
+        assertEquals(hasComponent.getSourceNodeId(), new NodeId(1, 1000));
+        assertEquals(hasComponent.getReferenceTypeId(), Identifiers.HasComponent);
+        assertEquals(hasComponent.getTargetNodeId(), new NodeId(1, 1001));
+        assertTrue(hasComponent.isForward());
+        assertTrue(references.get(1).isInverse());
+
+        NodeSetNode level = nodes.get(1);
+        assertEquals(level.getBrowseName(), new QualifiedName(1, "Level:Max"));
+        assertEquals(level.getParentNodeId().get(), new NodeId(1, 1000));
+        assertEquals(level.getAttribute(AttributeId.DataType).get(), Identifiers.Int32);
+        assertEquals(level.getAttribute(AttributeId.ValueRank).get(), 1);
+        assertEquals(level.getAttribute(AttributeId.ArrayDimensions).get(), new UInteger[]{uint(2)});
+        assertEquals(level.getAttribute(AttributeId.AccessLevel).get(), ubyte(3));
+        assertEquals(level.getAttribute(AttributeId.UserAccessLevel).get(), ubyte(1));
+        assertEquals(level.getAttribute(AttributeId.Historizing).get(), false);
+        assertEquals(((Variant) level.getAttribute(AttributeId.Value).get()).getValue(), new Integer[]{1, 2});
+
+        NodeSetNode names = nodes.get(2);
+        assertEquals(names.getAttribute(AttributeId.DataType).get(), Identifiers.BaseDataType);
+        LocalizedText[] texts = (LocalizedText[]) ((Variant) names.getAttribute(AttributeId.Value).get()).getValue();
+        assertEquals(texts[0], new LocalizedText("", "Numeric"));
+        assertEquals(texts[1], new LocalizedText("", "String"));
+
+        NodeSetNode reset = nodes.get(3);
+        assertEquals(reset.getDisplayName(), LocalizedText.english("Reset"));
+        assertEquals(reset.getAttribute(AttributeId.Executable).get(), true);
+        assertEquals(reset.getAttribute(AttributeId.UserExecutable).get(), false);
+
+        NodeSetNode feeds = nodes.get(4);
+        assertEquals(feeds.getAttribute(AttributeId.InverseName).get(), new LocalizedText(null, "FedBy"));
+        assertEquals(feeds.getAttribute(AttributeId.Symmetric).get(), false);
+    }
+
+    @Test
+    public void testReadMalformed() {
+        String truncated = NODE_SET.substring(0, NODE_SET.indexOf("</UAObject>"));
+
+        try {
+            NodeSetReader.read(new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)),
+                    new NodeSetHandler() {});
+
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertNotNull(e.getCause());
+        }
+    }
+
+    @Test
+    public void testReadAll() throws Exception {
+        Path first = Files.createTempFile("nodeset", ".xml");
+        Path second = Files.createTempFile("nodeset", ".xml");
+
+        try {
+            Files.write(first, NODE_SET.getBytes(StandardCharsets.UTF_8));
+            Files.write(second, NODE_SET.replace("ns=1;", "ns=2;").getBytes(StandardCharsets.UTF_8));
+
+            Map<Path, List<NodeId>> nodeIds = new ConcurrentHashMap<>();
+
+            NodeSetReader.readAll(Arrays.asList(first, second), path -> {
+                List<NodeId> ids = new ArrayList<>();
+                nodeIds.put(path, ids);
+
+                return new NodeSetHandler() {
+                    @Override
+                    public void onNode(NodeSetNode node) {
+                        ids.add(node.getNodeId());
+                    }
+                };
+            }).get();
+
+            assertEquals(nodeIds.get(first).get(0), new NodeId(1, 1000));
+            assertEquals(nodeIds.get(second).get(0), new NodeId(2, 1000));
+            assertEquals(nodeIds.get(second).size(), 5);
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+        }
+    }
+
+    @Test
+    public void testReadAllFailure() throws Exception {
+        Path directory = Files.createTempDirectory("nodeset");
+        Path missing = directory.resolve("missing.xml");
+
+        try {
+            NodeSetReader.readAll(Collections.singletonList(missing), path -> new NodeSetHandler() {}).get();
+
+            fail("expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UaException);
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+}
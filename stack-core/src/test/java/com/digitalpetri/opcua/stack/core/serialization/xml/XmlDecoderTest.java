@@ -21,6 +21,9 @@ import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 import javax.xml.stream.XMLStreamException;
 
+import com.digitalpetri.opcua.stack.core.StatusCodes;
+import com.digitalpetri.opcua.stack.core.UaSerializationException;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.QualifiedName;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
 import org.testng.annotations.Test;
@@ -29,6 +32,7 @@ import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class XmlDecoderTest {
 
@@ -49,6 +53,60 @@ public class XmlDecoderTest {
         assertFalse(decoder.decodeBoolean(null));
     }
 
+    @Test
+    public void testReadPrimitives() throws XMLStreamException {
+        XmlDecoder decoder = new XmlDecoder();
+
+        decoder.setInput(new ByteArrayInputStream("<Value>-42</Value>".getBytes()));
+        assertEquals(decoder.readInt32("Value"), -42);
+
+        decoder.setInput(new ByteArrayInputStream("<Value>4294967295</Value>".getBytes()));
+        assertEquals(decoder.readUInt32AsLong("Value"), 4294967295L);
+
+        decoder.setInput(new ByteArrayInputStream("<Value>18446744073709551615</Value>".getBytes()));
+        assertEquals(decoder.readUInt64AsLong("Value"), -1L);
+
+        decoder.setInput(new ByteArrayInputStream("<Value>1.5</Value>".getBytes()));
+        assertEquals(decoder.readDouble("Value"), 1.5);
+    }
+
+    @Test
+    public void testDecodeDateTime() throws XMLStreamException {
+        XmlDecoder decoder = new XmlDecoder();
+
+        decoder.setInput(new StringReader("<Value>2016-04-01T12:30:00.1234567Z</Value>"));
+        DateTime utc = decoder.decodeDateTime("Value");
+
+        decoder.setInput(new StringReader("<Value> 2016-04-01T14:30:00.1234567+02:00 </Value>"));
+        assertEquals(decoder.decodeDateTime("Value"), utc);
+
+        decoder.setInput(new StringReader("<Value>2016-04-01T12:30:00.123Z</Value>"));
+        assertEquals(decoder.decodeDateTime("Value").getUtcTime(), utc.getUtcTime() - 4567);
+
+        // An xs:dateTime without a time zone is taken to be UTC.
+        decoder.setInput(new StringReader("<Value>2016-04-01T12:30:00</Value>"));
+        assertEquals(decoder.decodeDateTime("Value").getUtcTime(), utc.getUtcTime() - 1234567);
+
+        decoder.setInput(new StringReader("<Value>2016-04-01T12:30:00.1234567</Value>"));
+        assertEquals(decoder.decodeDateTime("Value"), utc);
+
+        decoder.setInput(new StringReader("<Value>April 1st</Value>"));
+        try {
+            decoder.decodeDateTime("Value");
+            fail("expected Bad_DecodingError");
+        } catch (UaSerializationException e) {
+            assertEquals(e.getStatusCode(), StatusCodes.Bad_DecodingError);
+        }
+    }
+
+    @Test(description = "Content split by entity references is decoded whole.")
+    public void testDecodeStringWithEntities() throws XMLStreamException {
+        XmlDecoder decoder = new XmlDecoder();
+
+        decoder.setInput(new StringReader("<Value>a &amp; b &lt; c</Value>"));
+        assertEquals(decoder.decodeString("Value"), "a & b < c");
+    }
+
     @Test
     public void testDecodeStatusCode() throws XMLStreamException {
         XmlDecoder decoder = new XmlDecoder();
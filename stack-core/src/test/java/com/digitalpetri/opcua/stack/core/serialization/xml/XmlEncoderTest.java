@@ -16,12 +16,20 @@
 
 package com.digitalpetri.opcua.stack.core.serialization.xml;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import javax.xml.stream.XMLStreamException;
 
+import com.digitalpetri.opcua.stack.core.serialization.DataTypeEncoding;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceCounterDataType;
 import org.testng.annotations.Test;
 
+import static com.digitalpetri.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+
 public class XmlEncoderTest {
 
     @Test
@@ -38,4 +46,45 @@ public class XmlEncoderTest {
         System.out.println(output);
     }
 
+    @Test(description = "DateTimes are written as UTC with their full 100ns resolution.")
+    public void testDateTime() throws XMLStreamException {
+        DateTime dateTime = new DateTime(DateTime.now().getUtcTime() + 1234);
+
+        StringWriter writer = new StringWriter();
+
+        XmlEncoder encoder = new XmlEncoder();
+        encoder.setOutput(writer);
+        encoder.encodeDateTime("Value", dateTime);
+        encoder.encodeDateTime("Min", DateTime.MIN_VALUE);
+        encoder.flush();
+
+        String output = writer.toString();
+        assertEquals(output.substring(output.indexOf("<Min>")), "<Min>0001-01-01T00:00:00Z</Min>");
+
+        XmlDecoder decoder = new XmlDecoder();
+        decoder.setInput(new StringReader(output.substring(0, output.indexOf("<Min>"))));
+
+        assertEquals(decoder.decodeDateTime("Value"), dateTime);
+    }
+
+    @Test(description = "Each ExtensionObject body is encoded on its own, though the encoder and writer are reused.")
+    public void testEncodeToXmlElement() {
+        XmlElement first = DataTypeEncoding.OPC_UA.encodeToXmlElement(
+                new ServiceCounterDataType(uint(1), uint(2)), ServiceCounterDataType.XmlEncodingId);
+
+        XmlElement second = DataTypeEncoding.OPC_UA.encodeToXmlElement(
+                new ServiceCounterDataType(uint(3), uint(4)), ServiceCounterDataType.XmlEncodingId);
+
+        assertEquals(first.getFragment(),
+                "<ServiceCounterDataType><TotalCount>1</TotalCount><ErrorCount>2</ErrorCount></ServiceCounterDataType>");
+        assertEquals(second.getFragment(),
+                "<ServiceCounterDataType><TotalCount>3</TotalCount><ErrorCount>4</ErrorCount></ServiceCounterDataType>");
+
+        ServiceCounterDataType decoded = (ServiceCounterDataType) DataTypeEncoding.OPC_UA.decodeFromXmlElement(
+                second, ServiceCounterDataType.XmlEncodingId);
+
+        assertEquals(decoded.getTotalCount(), uint(3));
+        assertEquals(decoded.getErrorCount(), uint(4));
+    }
+
 }
@@ -16,8 +16,15 @@
 
 package com.digitalpetri.opcua.stack.core.types.builtin;
 
+import com.digitalpetri.opcua.stack.core.Identifiers;
+import com.digitalpetri.opcua.stack.core.types.enumerated.NodeClass;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
 public class VariantTest {
 
     @Test
@@ -40,4 +47,57 @@ public class VariantTest {
         new Variant(DiagnosticInfo.NULL_VALUE);
     }
 
+    @Test
+    public void testBuiltinTypeMetadata() {
+        assertEquals(Variant.NULL_VALUE.getBuiltinTypeId(), 0);
+        assertEquals(Variant.NULL_VALUE.getRank(), 0);
+
+        Variant scalar = new Variant(3.14d);
+        assertEquals(scalar.getBuiltinTypeId(), 11);
+        assertFalse(scalar.isArray());
+        assertEquals(scalar.getDimensions().length, 0);
+
+        Variant array = new Variant(new String[][]{{"a", "b", "c"}, {"d", "e", "f"}});
+        assertEquals(array.getBuiltinTypeId(), 12);
+        assertTrue(array.isArray());
+        assertEquals(array.getRank(), 2);
+        assertEquals(array.getDimensions(), new int[]{2, 3});
+
+        Variant matrix = new Variant(new Matrix(new int[6], 3, 2));
+        assertEquals(matrix.getBuiltinTypeId(), 6);
+        assertEquals(matrix.getRank(), 2);
+        assertEquals(matrix.getDimension(0), 3);
+
+        Variant structures = new Variant(new ReadValueId[0]);
+        assertEquals(structures.getBuiltinTypeId(), 22);
+        assertTrue(structures.isStructure());
+
+        Variant enumeration = new Variant(NodeClass.Object);
+        assertEquals(enumeration.getBuiltinTypeId(), 6);
+        assertTrue(enumeration.isEnumeration());
+        assertEquals(enumeration.getDataType().get(), Identifiers.Int32);
+
+        assertEquals(new Variant(new Object()).getBuiltinTypeId(), -1);
+    }
+
+    @Test
+    public void testTypedFactories() {
+        double[] doubles = {1.0, 2.0};
+        int[] ints = {1, 2, 3};
+
+        assertEquals(Variant.ofDouble(3.14d), new Variant(3.14d));
+        assertEquals(Variant.ofInt32(42).getBuiltinTypeId(), new Variant(42).getBuiltinTypeId());
+        assertEquals(Variant.ofString(null), Variant.NULL_VALUE);
+
+        Variant doubleArray = Variant.ofDoubleArray(doubles);
+        assertEquals(doubleArray, new Variant(doubles));
+        assertEquals(doubleArray.getBuiltinTypeId(), 11);
+        assertEquals(doubleArray.getDimensions(), new int[]{2});
+
+        Variant intArray = Variant.ofInt32Array(ints);
+        assertEquals(intArray.getBuiltinTypeId(), new Variant(ints).getBuiltinTypeId());
+        assertEquals(intArray.getDataType().get(), Identifiers.Int32);
+        assertEquals(intArray.getDimension(0), 3);
+    }
+
 }
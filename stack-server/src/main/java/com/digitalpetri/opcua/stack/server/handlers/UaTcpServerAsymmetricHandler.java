@@ -381,7 +381,8 @@ public class UaTcpServerAsymmetricHandler extends ByteToMessageDecoder implement
 
     private void sendOpenSecureChannelResponse(ChannelHandlerContext ctx, long requestId, OpenSecureChannelResponse response) {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+            long messageSize = serializationQueue.getSizeCalculator().calculateMessageSize(response);
+            ByteBuf messageBuffer = BufferUtil.buffer((int) messageSize);
 
             try {
                 binaryEncoder.setBuffer(messageBuffer);
@@ -406,7 +407,7 @@ public class UaTcpServerAsymmetricHandler extends ByteToMessageDecoder implement
                 server.secureChannelIssuedOrRenewed(secureChannel, lifetime);
 
                 logger.debug("Sent OpenSecureChannelResponse.");
-            } catch (UaException e) {
+            } catch (UaException | RuntimeException e) {
                 logger.error("Error encoding OpenSecureChannelResponse: {}", e.getMessage(), e);
                 ctx.close();
             } finally {
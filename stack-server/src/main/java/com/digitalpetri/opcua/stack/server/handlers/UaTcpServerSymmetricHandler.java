@@ -26,6 +26,7 @@ import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.application.services.ServiceRequest;
 import com.digitalpetri.opcua.stack.core.application.services.ServiceResponse;
 import com.digitalpetri.opcua.stack.core.channel.ChannelSecurity;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder.MessageChunks;
 import com.digitalpetri.opcua.stack.core.channel.ExceptionHandler;
 import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
 import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
@@ -35,7 +36,9 @@ import com.digitalpetri.opcua.stack.core.channel.messages.ErrorMessage;
 import com.digitalpetri.opcua.stack.core.channel.messages.MessageType;
 import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
-import com.digitalpetri.opcua.stack.core.util.BufferUtil;
+import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ServiceFault;
 import com.digitalpetri.opcua.stack.server.tcp.UaTcpStackServer;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -91,32 +94,63 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
     @Override
     protected void encode(ChannelHandlerContext ctx, ServiceResponse message, ByteBuf out) throws Exception {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+            MessageChunks messageChunks = null;
+            List<ByteBuf> chunks = null;
 
             try {
-                binaryEncoder.setBuffer(messageBuffer);
-                binaryEncoder.encodeMessage(null, message.getResponse());
+                UaResponseMessage response = message.getResponse();
+                long messageSize = serializationQueue.getSizeCalculator().calculateMessageSize(response);
 
-                final List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
+                try {
+                    chunkEncoder.checkSymmetricLimits(
+                            secureChannel, messageSize, StatusCodes.Bad_ResponseTooLarge);
+                } catch (UaException e) {
+                    logger.warn("Response too large, sending ServiceFault: {}", e.getMessage());
+
+                    response = createServiceFault(message.getRequest(), e);
+                    messageSize = serializationQueue.getSizeCalculator().calculateMessageSize(response);
+                }
+
+                messageChunks = chunkEncoder.allocateSymmetric(secureChannel, (int) messageSize);
+
+                binaryEncoder.setBuffer(messageChunks.getBuffer());
+                binaryEncoder.encodeMessage(null, response);
+
+                chunks = chunkEncoder.encodeSymmetric(
                         secureChannel,
                         MessageType.SecureMessage,
-                        messageBuffer,
+                        messageChunks,
                         message.getRequestId()
                 );
 
+                final List<ByteBuf> sealed = chunks;
+
                 ctx.executor().execute(() -> {
-                    chunks.forEach(c -> ctx.write(c, ctx.voidPromise()));
+                    sealed.forEach(c -> ctx.write(c, ctx.voidPromise()));
                     ctx.flush();
                 });
-            } catch (UaException e) {
+            } catch (UaException | RuntimeException e) {
                 logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
                 ctx.close();
             } finally {
-                messageBuffer.release();
+                if (chunks == null && messageChunks != null) {
+                    messageChunks.release();
+                }
             }
         });
     }
 
+    private static ServiceFault createServiceFault(UaRequestMessage request, UaException exception) {
+        ResponseHeader responseHeader = new ResponseHeader(
+                DateTime.now(),
+                request.getRequestHeader().getRequestHandle(),
+                exception.getStatusCode(),
+                null, null, null
+        );
+
+        return new ServiceFault(responseHeader);
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) throws Exception {
         buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
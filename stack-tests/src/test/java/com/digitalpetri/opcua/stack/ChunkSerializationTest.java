@@ -22,6 +22,7 @@ import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
 import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
 import com.digitalpetri.opcua.stack.core.channel.ChunkDecoder;
 import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder;
+import com.digitalpetri.opcua.stack.core.channel.ChunkEncoder.MessageChunks;
 import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
 import com.digitalpetri.opcua.stack.core.channel.SecureChannel;
 import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
@@ -119,6 +120,8 @@ public class ChunkSerializationTest extends SecureChannelFixture {
                 requestId.getAndIncrement()
         );
 
+        assertEquals(chunkBuffers.size(), encoder.getAsymmetricChunkCount(clientChannel, messageSize));
+
         ByteBuf decodedBuffer = decoder.decodeAsymmetric(
                 serverChannel,
                 chunkBuffers
@@ -196,6 +199,8 @@ public class ChunkSerializationTest extends SecureChannelFixture {
                 requestId.getAndIncrement()
         );
 
+        assertEquals(chunkBuffers.size(), encoder.getSymmetricChunkCount(clientChannel, messageSize));
+
         ByteBuf decodedBuffer = decoder.decodeSymmetric(
                 serverChannel,
                 chunkBuffers
@@ -208,4 +213,49 @@ public class ChunkSerializationTest extends SecureChannelFixture {
         assertEquals(decodedBuffer, messageBuffer);
     }
 
+    @Test(dataProvider = "getSymmetricSecurityParameters")
+    public void testSymmetricMessageEncodedIntoChunks(SecurityPolicy securityPolicy,
+                                                      MessageSecurityMode messageSecurity,
+                                                      int messageSize) throws Exception {
+
+        logger.info("Symmetric chunk serialization into allocated chunks, " +
+                        "securityPolicy={}, messageSecurityMode={}, messageSize={}",
+                securityPolicy, messageSecurity, messageSize);
+
+        ChunkEncoder encoder = new ChunkEncoder(parameters);
+        ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        MessageChunks messageChunks = encoder.allocateSymmetric(clientChannel, messageSize);
+        ByteBuf messageBuffer = BufferUtil.buffer(messageSize);
+
+        // Multi-byte writes exercise the byte order of the body buffer, whether it's a chunk or a staging buffer.
+        for (int i = 0; i < messageSize / 4; i++) {
+            messageChunks.getBuffer().writeInt(i);
+            messageBuffer.writeInt(i);
+        }
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                messageChunks,
+                1L
+        );
+
+        assertEquals(chunkBuffers.size(), messageChunks.getChunkCount());
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(
+                serverChannel,
+                chunkBuffers
+        );
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        assertEquals(decodedBuffer, messageBuffer);
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package com.digitalpetri.opcua.stack;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -23,12 +24,15 @@ import java.util.concurrent.CompletableFuture;
 import com.beust.jcommander.internal.Lists;
 import com.digitalpetri.opcua.stack.client.UaTcpStackClient;
 import com.digitalpetri.opcua.stack.client.config.UaTcpStackClientConfig;
+import com.digitalpetri.opcua.stack.core.AttributeId;
 import com.digitalpetri.opcua.stack.core.Stack;
 import com.digitalpetri.opcua.stack.core.UaException;
 import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
 import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
 import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.serialization.binary.ResponseView;
 import com.digitalpetri.opcua.stack.core.types.builtin.ByteString;
+import com.digitalpetri.opcua.stack.core.types.builtin.DataValue;
 import com.digitalpetri.opcua.stack.core.types.builtin.DateTime;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExpandedNodeId;
 import com.digitalpetri.opcua.stack.core.types.builtin.ExtensionObject;
@@ -39,7 +43,10 @@ import com.digitalpetri.opcua.stack.core.types.builtin.StatusCode;
 import com.digitalpetri.opcua.stack.core.types.builtin.Variant;
 import com.digitalpetri.opcua.stack.core.types.builtin.XmlElement;
 import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import com.digitalpetri.opcua.stack.core.types.structured.EndpointDescription;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadRequest;
+import com.digitalpetri.opcua.stack.core.types.structured.ReadResponse;
 import com.digitalpetri.opcua.stack.core.types.structured.ReadValueId;
 import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
 import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
@@ -135,6 +142,23 @@ public class ClientServerTest extends SecurityFixture {
             service.setResponse(new TestStackResponse(header, request.getInput()));
         });
 
+        server.addRequestHandler(ReadRequest.class, (service) -> {
+            ReadRequest request = service.getRequest();
+
+            ResponseHeader header = new ResponseHeader(
+                    DateTime.now(),
+                    request.getRequestHeader().getRequestHandle(),
+                    StatusCode.GOOD,
+                    null, null, null
+            );
+
+            DataValue[] results = Arrays.stream(request.getNodesToRead())
+                    .map(id -> new DataValue(new Variant(id.getNodeId().getIdentifier())))
+                    .toArray(DataValue[]::new);
+
+            service.setResponse(new ReadResponse(header, results, null));
+        });
+
         server.startup();
 
         endpoints = UaTcpStackClient.getEndpoints("opc.tcp://localhost:12685/test").get();
@@ -382,6 +406,35 @@ public class ClientServerTest extends SecurityFixture {
         return new UaTcpStackClient(config);
     }
 
+    @Test
+    public void testReadResponseView() throws Exception {
+        UaTcpStackClient client = createClient(endpoints[0]);
+
+        client.connect().get();
+
+        ReadValueId[] nodesToRead = new ReadValueId[1000];
+        for (int i = 0; i < nodesToRead.length; i++) {
+            nodesToRead[i] = new ReadValueId(new NodeId(2, i), AttributeId.Value.uid(), null, null);
+        }
+
+        RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(60000), null);
+
+        ReadRequest request = new ReadRequest(header, 0.0, TimestampsToReturn.Neither, nodesToRead);
+
+        ResponseView<DataValue> view = client.<DataValue>sendRequestForView(request).get();
+
+        try {
+            assertEquals(view.getResults().size(), nodesToRead.length);
+            assertEquals(view.getResults().get(999).getValue().getValue(), uint(999));
+            assertEquals(view.getResults().get(0).getValue().getValue(), uint(0));
+        } finally {
+            view.release();
+        }
+
+        client.disconnect().get();
+    }
+
     private void connectAndTest(Variant input, UaTcpStackClient client) throws InterruptedException, java.util.concurrent.ExecutionException {
         client.connect().get();
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016 Kevin Herron
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.digitalpetri.opcua.stack;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.digitalpetri.opcua.stack.client.UaTcpStackClient;
+import com.digitalpetri.opcua.stack.client.config.UaTcpStackClientConfig;
+import com.digitalpetri.opcua.stack.client.handlers.UaRequestFuture;
+import com.digitalpetri.opcua.stack.client.handlers.UaTcpClientMessageHandler;
+import com.digitalpetri.opcua.stack.core.application.services.ServiceResponse;
+import com.digitalpetri.opcua.stack.core.channel.ChannelConfig;
+import com.digitalpetri.opcua.stack.core.channel.ChannelParameters;
+import com.digitalpetri.opcua.stack.core.channel.ClientSecureChannel;
+import com.digitalpetri.opcua.stack.core.channel.SerializationQueue;
+import com.digitalpetri.opcua.stack.core.channel.ServerSecureChannel;
+import com.digitalpetri.opcua.stack.core.security.SecurityPolicy;
+import com.digitalpetri.opcua.stack.core.serialization.DelegateRegistry;
+import com.digitalpetri.opcua.stack.core.serialization.UaRequestMessage;
+import com.digitalpetri.opcua.stack.core.serialization.UaResponseMessage;
+import com.digitalpetri.opcua.stack.core.types.builtin.NodeId;
+import com.digitalpetri.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import com.digitalpetri.opcua.stack.core.types.structured.RequestHeader;
+import com.digitalpetri.opcua.stack.core.types.structured.ResponseHeader;
+import com.digitalpetri.opcua.stack.server.handlers.UaTcpServerSymmetricHandler;
+import com.google.common.base.Strings;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Messages are encoded into chunks allocated for the size the {@link
+ * com.digitalpetri.opcua.stack.core.serialization.binary.EncodedSizeCalculator} calculated; if the encoding doesn't
+ * match that size the failure must still reach the request, or close the channel, rather than be lost.
+ */
+public class EncodingFailureTest {
+
+    private final ChannelParameters parameters = new ChannelParameters(
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT,
+            ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_SIZE,
+            ChannelConfig.DEFAULT_MAX_CHUNK_COUNT
+    );
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testClientEncodingLargerThanCalculated() throws Exception {
+        UaTcpStackClient client = new UaTcpStackClient(
+                UaTcpStackClientConfig.builder()
+                        .setEndpointUrl("opc.tcp://localhost:12685/test")
+                        .build());
+
+        ClientSecureChannel secureChannel = new ClientSecureChannel(SecurityPolicy.None, MessageSecurityMode.None);
+
+        SerializationQueue serializationQueue = new SerializationQueue(
+                executor, parameters, ChannelConfig.DEFAULT);
+
+        EmbeddedChannel channel = new EmbeddedChannel(new UaTcpClientMessageHandler(
+                client, secureChannel, serializationQueue, new CompletableFuture<>()));
+
+        UaRequestFuture request = new UaRequestFuture(new GrowingMessage());
+        channel.writeOutbound(request);
+
+        try {
+            request.getFuture().get(5, TimeUnit.SECONDS);
+            fail("expected encoding to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IndexOutOfBoundsException);
+        }
+
+        awaitClose(channel);
+        assertFalse(channel.isOpen());
+        release(channel);
+    }
+
+    @Test
+    public void testServerEncodingLargerThanCalculated() throws Exception {
+        ServerSecureChannel secureChannel = new ServerSecureChannel();
+        secureChannel.setSecurityPolicy(SecurityPolicy.None);
+        secureChannel.setMessageSecurityMode(MessageSecurityMode.None);
+
+        SerializationQueue serializationQueue = new SerializationQueue(
+                executor, parameters, ChannelConfig.DEFAULT);
+
+        EmbeddedChannel channel = new EmbeddedChannel(new UaTcpServerSymmetricHandler(
+                null, serializationQueue, secureChannel));
+
+        GrowingMessage message = new GrowingMessage();
+        channel.writeAndFlush(new ServiceResponse(message, 1L, (UaResponseMessage) message));
+
+        awaitClose(channel);
+        assertFalse(channel.isOpen());
+        release(channel);
+    }
+
+    private static void awaitClose(EmbeddedChannel channel) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (channel.isOpen() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void release(EmbeddedChannel channel) {
+        channel.finish();
+
+        Object outbound;
+        while ((outbound = channel.readOutbound()) != null) {
+            ReferenceCountUtil.release(outbound);
+        }
+    }
+
+    /**
+     * A message that encodes 1000 bytes more each time it's encoded, so it's always larger than the size calculated
+     * for it.
+     */
+    private static class GrowingMessage implements UaRequestMessage, UaResponseMessage {
+
+        private static final NodeId ENCODING_ID = new NodeId(2, "GrowingMessage");
+
+        static {
+            DelegateRegistry.registerEncoder(
+                    (message, encoder) -> encoder.encodeString(
+                            "Padding", Strings.repeat("x", 1000 * message.encodings.getAndIncrement())),
+                    GrowingMessage.class, ENCODING_ID);
+        }
+
+        private final AtomicInteger encodings = new AtomicInteger();
+
+        @Override
+        public RequestHeader getRequestHeader() {
+            return new RequestHeader();
+        }
+
+        @Override
+        public ResponseHeader getResponseHeader() {
+            return new ResponseHeader();
+        }
+
+        @Override
+        public NodeId getTypeId() {
+            return ENCODING_ID;
+        }
+
+        @Override
+        public NodeId getBinaryEncodingId() {
+            return ENCODING_ID;
+        }
+
+        @Override
+        public NodeId getXmlEncodingId() {
+            return ENCODING_ID;
+        }
+
+    }
+
+}